@@ -4,15 +4,18 @@ import com.linkedin.davinci.config.StoreBackendConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ConcurrentRef;
 import com.linkedin.venice.utils.ReferenceCounted;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import org.apache.avro.Schema;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -30,6 +33,8 @@ public class StoreBackend {
   private final AvroStoreDeserializerCache storeDeserializerCache;
   private VersionBackend daVinciCurrentVersion;
   private VersionBackend daVinciFutureVersion;
+  private Schema projectionSchema;
+  private boolean isProjectionSchemaSet;
 
   StoreBackend(DaVinciBackend backend, String storeName) {
     LOGGER.info("Opening local store {}", storeName);
@@ -39,6 +44,10 @@ public class StoreBackend {
         new StoreBackendConfig(backend.getConfigLoader().getVeniceServerConfig().getDataBasePath(), storeName);
     this.stats = new StoreBackendStats(backend.getMetricsRepository(), storeName);
     this.storeDeserializerCache = new AvroStoreDeserializerCache(backend.getSchemaRepository(), storeName, true);
+    String projectionSchemaStr = config.getProjectionSchema();
+    if (projectionSchemaStr != null) {
+      this.projectionSchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation(projectionSchemaStr);
+    }
     try {
       backend.getStoreRepository().subscribe(storeName);
     } catch (InterruptedException e) {
@@ -103,6 +112,44 @@ public class StoreBackend {
     config.store();
   }
 
+  public synchronized Schema getProjectionSchema() {
+    return projectionSchema;
+  }
+
+  /**
+   * Sets the schema the values are projected to before being persisted locally. The projection is persisted with the
+   * store config, so that the local versions restored on restart keep being ingested with it. Since the values which
+   * are already persisted can't be projected again, a change of projection deletes the local versions and re-ingests
+   * the subscribed partitions.
+   *
+   * All the clients of a store within the same backend must use the same projection.
+   */
+  public synchronized void setProjectionSchema(Schema projectionSchema) {
+    if (isProjectionSchemaSet && !Objects.equals(this.projectionSchema, projectionSchema)) {
+      throw new VeniceException(
+          "Projection schema conflicts with the one of another client, storeName=" + storeName + ", projectionSchema="
+              + this.projectionSchema);
+    }
+    isProjectionSchemaSet = true;
+    if (Objects.equals(this.projectionSchema, projectionSchema)) {
+      return;
+    }
+
+    LOGGER.info(
+        "Changing the projection schema of store {} from {} to {}",
+        storeName,
+        this.projectionSchema,
+        projectionSchema);
+    ComplementSet<Integer> savedSubscription = ComplementSet.newSet(subscription);
+    unsubscribe(ComplementSet.universalSet());
+    this.projectionSchema = projectionSchema;
+    config.setProjectionSchema(projectionSchema == null ? null : projectionSchema.toString());
+    config.store();
+    if (!savedSubscription.isEmpty()) {
+      subscribe(savedSubscription);
+    }
+  }
+
   public StoreBackendStats getStats() {
     return stats;
   }
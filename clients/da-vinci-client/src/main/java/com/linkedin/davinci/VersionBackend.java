@@ -99,7 +99,9 @@ public class VersionBackend {
         .getInt(PUSH_STATUS_STORE_HEARTBEAT_INTERVAL_IN_SECONDS, DEFAULT_PUSH_STATUS_HEARTBEAT_INTERVAL_IN_SECONDS);
     this.stopConsumptionWaitRetriesNum =
         backend.getConfigLoader().getCombinedProperties().getInt(SERVER_STOP_CONSUMPTION_WAIT_RETRIES_NUM, 60);
-    this.storeDeserializerCache = backend.getStoreOrThrow(store.getName()).getStoreDeserializerCache();
+    StoreBackend storeBackend = backend.getStoreOrThrow(store.getName());
+    this.storeDeserializerCache = storeBackend.getStoreDeserializerCache();
+    this.config.setProjectionSchema(storeBackend.getProjectionSchema());
     this.compressor = Lazy.of(
         () -> backend.getCompressorFactory().getCompressor(version.getCompressionStrategy(), version.kafkaTopicName()));
     backend.getVersionByTopicMap().put(version.kafkaTopicName(), this);
@@ -43,6 +43,7 @@ import com.linkedin.venice.common.VeniceSystemStoreType;
 import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.IngestionMode;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.adapter.kafka.admin.ApacheKafkaAdminAdapter;
@@ -53,21 +54,28 @@ import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.ComplementSet;
 import com.linkedin.venice.utils.ComputeUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -96,6 +104,24 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
 
   private static final ThreadLocal<ReusableObjects> REUSABLE_OBJECTS = ThreadLocal.withInitial(ReusableObjects::new);
 
+  /**
+   * The keys of a batch get that belong to the same partition, which are read by the same task.
+   */
+  private static class PartitionBatch<K> {
+    final int partition;
+    final List<K> keys = new ArrayList<>();
+    final List<byte[]> keyBytes = new ArrayList<>();
+
+    PartitionBatch(int partition) {
+      this.partition = partition;
+    }
+
+    void add(K key, byte[] keyBytes) {
+      this.keys.add(key);
+      this.keyBytes.add(keyBytes);
+    }
+  }
+
   private final DaVinciConfig daVinciConfig;
   private final ClientConfig clientConfig;
   private final VeniceProperties backendConfig;
@@ -113,6 +139,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   private StoreBackend storeBackend;
   private static ReferenceCounted<DaVinciBackend> daVinciBackend;
   private ObjectCacheBackend cacheBackend;
+  private ExecutorService batchGetExecutor;
   private static final Map<CharSequence, Schema> computeResultSchemaCache = new VeniceConcurrentHashMap<>();
 
   private final AbstractAvroChunkingAdapter<V> chunkingAdapter;
@@ -173,6 +200,9 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   @Override
   public Schema getLatestValueSchema() {
     throwIfNotReady();
+    if (daVinciConfig.getProjectionSchema() != null) {
+      return daVinciConfig.getProjectionSchema();
+    }
     return getBackend().getSchemaRepository().getSupersetOrLatestValueSchema(getStoreName()).getSchema();
   }
 
@@ -294,8 +324,11 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
   }
 
   CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys) {
+    return batchGetFromLocalStorage(keys, null);
+  }
+
+  CompletableFuture<Map<K, V>> batchGetFromLocalStorage(Iterable<K> keys, Map<K, V> reusableValues) {
     // expose underlying getAll functionality.
-    Map<K, V> result = new HashMap<>();
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (versionBackend == null) {
@@ -305,50 +338,117 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
         storeBackend.getStats().recordBadRequest();
         throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
       }
-      Set<K> missingKeys = new HashSet<>();
-      ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
-      int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
-      for (K key: keys) {
-        byte[] keyBytes = keySerializer.serialize(key);
-        int partition = versionBackend.getPartition(keyBytes);
+      int keyCount = keys instanceof Collection ? ((Collection<K>) keys).size() : 0;
+      Map<K, V> result = isParallelBatchGet(keyCount) ? new VeniceConcurrentHashMap<>(keyCount) : new HashMap<>();
+      return batchGetFromLocalStorage(versionRef, keys, keyCount, reusableValues, (key, value) -> {
+        // The result should only contain entries for the keys that have a value associated with them
+        if (value != null) {
+          result.put(key, value);
+        }
+      }).thenCompose(missingKeys -> {
+        if (missingKeys.isEmpty()) {
+          return CompletableFuture.completedFuture(result);
+        }
+        return veniceClient.batchGet(missingKeys).thenApply(veniceResult -> {
+          result.putAll(veniceResult);
+          return result;
+        });
+      });
+    }
+  }
 
-        if (isPartitionReadyToServe(versionBackend, partition)) {
-          V value = versionBackend.read(
-              partition,
-              keyBytes,
-              getAvroChunkingAdapter(),
-              this.storeDeserializerCache,
-              readerSchemaId,
-              reusableObjects.binaryDecoder,
-              reusableObjects.rawValue,
-              null); // TODO: Consider supporting object re-use for batch get as well.
-          // The result should only contain entries for the keys that have a value associated with them
-          if (value != null) {
-            result.put(key, value);
-          }
+  private boolean isParallelBatchGet(int keyCount) {
+    return batchGetExecutor != null && keyCount >= daVinciConfig.getLargeBatchRequestSplitThreshold();
+  }
 
-        } else if (isVeniceQueryAllowed()) {
-          missingKeys.add(key);
+  /**
+   * Reads the keys of the partitions that are ready to serve and hands each value, or null if the key has no value,
+   * over to {@param valueConsumer}. Large batches are grouped by partition and the partitions are read in parallel on
+   * the batch get pool, in which case {@param valueConsumer} is invoked concurrently by the pool threads.
+   *
+   * @return a future of the keys that belong to partitions which are not ready to serve yet and should be queried
+   *         from Venice, completed once all the other keys are read.
+   */
+  private CompletableFuture<Set<K>> batchGetFromLocalStorage(
+      ReferenceCounted<VersionBackend> versionRef,
+      Iterable<K> keys,
+      int keyCount,
+      Map<K, V> reusableValues,
+      BiConsumer<K, V> valueConsumer) {
+    VersionBackend versionBackend = versionRef.get();
+    Set<K> missingKeys = new HashSet<>();
+    int readerSchemaId = versionBackend.getSupersetOrLatestValueSchemaId();
+    boolean parallel = isParallelBatchGet(keyCount);
+    Map<Integer, PartitionBatch<K>> partitionBatches = parallel ? new HashMap<>() : null;
+    for (K key: keys) {
+      byte[] keyBytes = keySerializer.serialize(key);
+      int partition = versionBackend.getPartition(keyBytes);
 
-        } else if (!isPartitionSubscribed(versionBackend, partition)) {
-          storeBackend.getStats().recordBadRequest();
-          throw new NonLocalAccessException(versionBackend.toString(), partition);
+      if (isPartitionReadyToServe(versionBackend, partition)) {
+        if (parallel) {
+          partitionBatches.computeIfAbsent(partition, PartitionBatch::new).add(key, keyBytes);
+        } else {
+          V reusableValue = reusableValues == null ? null : reusableValues.get(key);
+          valueConsumer.accept(key, read(versionBackend, partition, keyBytes, readerSchemaId, reusableValue));
         }
-      }
 
-      if (missingKeys.isEmpty()) {
-        return CompletableFuture.completedFuture(result);
+      } else if (isVeniceQueryAllowed()) {
+        missingKeys.add(key);
+
+      } else if (!isPartitionSubscribed(versionBackend, partition)) {
+        storeBackend.getStats().recordBadRequest();
+        throw new NonLocalAccessException(versionBackend.toString(), partition);
       }
+    }
 
-      return veniceClient.batchGet(missingKeys).thenApply(veniceResult -> {
-        result.putAll(veniceResult);
-        return result;
-      });
+    if (!parallel || partitionBatches.isEmpty()) {
+      return CompletableFuture.completedFuture(missingKeys);
     }
+
+    CompletableFuture<Void>[] partitionFutures = new CompletableFuture[partitionBatches.size()];
+    int index = 0;
+    // The version must not be deleted before the pool threads are done reading it.
+    versionRef.retain();
+    try {
+      for (PartitionBatch<K> batch: partitionBatches.values()) {
+        partitionFutures[index++] = CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < batch.keys.size(); i++) {
+            K key = batch.keys.get(i);
+            V reusableValue = reusableValues == null ? null : reusableValues.get(key);
+            V value = read(versionBackend, batch.partition, batch.keyBytes.get(i), readerSchemaId, reusableValue);
+            valueConsumer.accept(key, value);
+          }
+        }, batchGetExecutor);
+      }
+    } catch (RuntimeException e) {
+      versionRef.release();
+      throw e;
+    }
+    return CompletableFuture.allOf(partitionFutures)
+        .whenComplete((ignored, throwable) -> versionRef.release())
+        .thenApply(ignored -> missingKeys);
+  }
+
+  private V read(VersionBackend versionBackend, int partition, byte[] keyBytes, int readerSchemaId, V reusableValue) {
+    ReusableObjects reusableObjects = REUSABLE_OBJECTS.get();
+    return versionBackend.read(
+        partition,
+        keyBytes,
+        getAvroChunkingAdapter(),
+        this.storeDeserializerCache,
+        readerSchemaId,
+        reusableObjects.binaryDecoder,
+        reusableObjects.rawValue,
+        reusableValue);
   }
 
   @Override
   public CompletableFuture<Map<K, V>> batchGet(Set<K> keys) {
+    return batchGet(keys, null);
+  }
+
+  @Override
+  public CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableValues) {
     throwIfNotReady();
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
@@ -361,11 +461,74 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
           }
         }, (k, executor) -> this.readFromLocalStorage(k, null));
       } else {
-        return this.batchGetFromLocalStorage(keys);
+        return this.batchGetFromLocalStorage(keys, reusableValues);
       }
     }
   }
 
+  /**
+   * Streaming interface for {@link #batchGet(Set)}: the values are handed over to the callback as soon as they are read
+   * from the local storage. When the batch is read in parallel, see {@link DaVinciConfig#getBatchGetThreadPoolSize()},
+   * {@link StreamingCallback#onRecordReceived} is invoked concurrently by the pool threads.
+   */
+  @Override
+  public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) {
+    if (handleCallbackForEmptyKeySet(keys, callback)) {
+      return;
+    }
+
+    throwIfNotReady();
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        if (isVeniceQueryAllowed()) {
+          veniceClient.streamingBatchGet(keys, callback);
+          return;
+        }
+        storeBackend.getStats().recordBadRequest();
+        callback.onCompletion(
+            Optional.of(new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName())));
+        return;
+      }
+
+      if (daVinciConfig.isCacheEnabled()) {
+        batchGet(keys).whenComplete((result, throwable) -> {
+          if (throwable != null) {
+            callback.onCompletion(Optional.of(unwrapCompletionException(throwable)));
+            return;
+          }
+          for (K key: keys) {
+            callback.onRecordReceived(key, result.get(key));
+          }
+          callback.onCompletion(Optional.empty());
+        });
+        return;
+      }
+
+      CompletableFuture<Set<K>> missingKeysFuture;
+      try {
+        missingKeysFuture = batchGetFromLocalStorage(versionRef, keys, keys.size(), null, callback::onRecordReceived);
+      } catch (VeniceException e) {
+        callback.onCompletion(Optional.of(e));
+        return;
+      }
+      missingKeysFuture.whenComplete((missingKeys, throwable) -> {
+        if (throwable != null) {
+          callback.onCompletion(Optional.of(unwrapCompletionException(throwable)));
+        } else if (missingKeys.isEmpty()) {
+          callback.onCompletion(Optional.empty());
+        } else {
+          veniceClient.streamingBatchGet(missingKeys, callback);
+        }
+      });
+    }
+  }
+
+  private static Exception unwrapCompletionException(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+    return cause instanceof Exception ? (Exception) cause : new VeniceClientException(cause);
+  }
+
   @Override
   public ComputeRequestBuilder<K> compute() throws VeniceClientException {
     return compute(Optional.empty(), Optional.empty(), 0);
@@ -403,7 +566,7 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       Schema resultSchema,
       StreamingCallback<K, ComputeGenericRecord> callback,
       long preRequestTimeInNS) throws VeniceClientException {
-    if (handleCallbackForEmptyKeySet(keys, callback)) {
+    if (handleCallbackForEmptyKeySet(keys, callback) || handleCallbackForProjection(callback)) {
       return;
     }
 
@@ -475,12 +638,29 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  /**
+   * Compute operates on the full value schema, which doesn't match the values projected to
+   * {@link DaVinciConfig#getProjectionSchema()}.
+   */
+  private boolean handleCallbackForProjection(StreamingCallback<?, ?> callback) {
+    if (daVinciConfig.getProjectionSchema() == null) {
+      return false;
+    }
+    callback.onCompletion(
+        Optional.of(
+            new VeniceClientException("Compute is not supported with a projection, storeName=" + getStoreName())));
+    return true;
+  }
+
   @Override
   public void computeWithKeyPrefixFilter(
       byte[] keyPrefix,
       ComputeRequestWrapper computeRequestWrapper,
       StreamingCallback<GenericRecord, GenericRecord> callback) {
     throwIfNotReady();
+    if (handleCallbackForProjection(callback)) {
+      return;
+    }
     try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
       VersionBackend versionBackend = versionRef.get();
       if (versionBackend == null) {
@@ -685,6 +865,13 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     logger.info("Starting client, storeName=" + getStoreName());
     VeniceConfigLoader configLoader = buildVeniceConfig();
     Optional<ObjectCacheConfig> cacheConfig = Optional.ofNullable(daVinciConfig.getCacheConfig());
+    Schema projectionSchema = daVinciConfig.getProjectionSchema();
+    if (projectionSchema != null && (cacheConfig.isPresent() || isVeniceQueryAllowed()
+        || configLoader.getVeniceServerConfig().getIngestionMode().equals(IngestionMode.ISOLATED))) {
+      throw new VeniceClientException(
+          "Projection is incompatible with object cache, ingestion isolation and non-local queries to Venice, "
+              + "storeName=" + getStoreName());
+    }
     initBackend(clientConfig, configLoader, managedClients, icProvider, cacheConfig);
 
     try {
@@ -700,23 +887,37 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       if (managedClients.isPresent()) {
         storeBackend.setManaged(daVinciConfig.isManaged());
       }
+      storeBackend.setProjectionSchema(projectionSchema);
 
       Schema keySchema = getBackend().getSchemaRepository().getKeySchema(getStoreName()).getSchema();
       this.keySerializer = FastSerializerDeserializerFactory.getFastAvroGenericSerializer(keySchema, false);
       this.keyDeserializer = FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(keySchema, keySchema);
-      this.genericRecordStoreDeserializerCache =
-          new AvroStoreDeserializerCache(daVinciBackend.get().getSchemaRepository(), getStoreName(), true);
-      this.storeDeserializerCache = clientConfig.isSpecificClient()
-          ? new AvroStoreDeserializerCache<>(
-              daVinciBackend.get().getSchemaRepository(),
-              getStoreName(),
-              clientConfig.getSpecificValueClass())
-          : (AvroStoreDeserializerCache<V>) this.genericRecordStoreDeserializerCache;
+      if (projectionSchema == null) {
+        this.genericRecordStoreDeserializerCache =
+            new AvroStoreDeserializerCache(daVinciBackend.get().getSchemaRepository(), getStoreName(), true);
+        this.storeDeserializerCache = clientConfig.isSpecificClient()
+            ? new AvroStoreDeserializerCache<>(
+                daVinciBackend.get().getSchemaRepository(),
+                getStoreName(),
+                clientConfig.getSpecificValueClass())
+            : (AvroStoreDeserializerCache<V>) this.genericRecordStoreDeserializerCache;
+      } else {
+        this.genericRecordStoreDeserializerCache = new AvroStoreDeserializerCache<>(projectionSchema, null);
+        this.storeDeserializerCache = clientConfig.isSpecificClient()
+            ? new AvroStoreDeserializerCache<>(projectionSchema, clientConfig.getSpecificValueClass())
+            : (AvroStoreDeserializerCache<V>) this.genericRecordStoreDeserializerCache;
+      }
 
       if (isVeniceQueryAllowed()) {
         veniceClient = (AvroGenericReadComputeStoreClient<K, V>) getAndStartAvroClient(clientConfig);
       }
 
+      if (daVinciConfig.getBatchGetThreadPoolSize() > 0) {
+        batchGetExecutor = Executors.newFixedThreadPool(
+            daVinciConfig.getBatchGetThreadPoolSize(),
+            new DaemonThreadFactory("DaVinci-BatchGet-" + getStoreName()));
+      }
+
       ready.set(true);
       logger.info("Client is started successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
@@ -739,6 +940,10 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
       if (cacheBackend != null) {
         cacheBackend.close();
       }
+      if (batchGetExecutor != null) {
+        batchGetExecutor.shutdown();
+        batchGetExecutor = null;
+      }
       daVinciBackend.release();
       logger.info("Client is closed successfully, storeName=" + getStoreName());
     } catch (Throwable e) {
@@ -1,6 +1,7 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.venice.client.store.AvroGenericStoreClient;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -49,6 +50,15 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    */
   void unsubscribe(Set<Integer> partitions);
 
+  /**
+   * Similar to {@link #batchGet(Set)} except that the value of each key found in {@param reusableValues} is reused to
+   * deserialize the new value of this key, to minimize GC. Passing in the map returned by the previous batch get of
+   * the same keys reuses all its values, which then belong to the new map.
+   */
+  default CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableValues) {
+    return batchGet(keys);
+  }
+
   /**
    * Get partition count of a store.
    *
@@ -1,9 +1,12 @@
 package com.linkedin.davinci.client;
 
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
+import org.apache.avro.Schema;
 
 
 public class DaVinciConfig {
+  public static final int DEFAULT_LARGE_BATCH_REQUEST_SPLIT_THRESHOLD = 100;
+
   /**
    * Indicates whether client's local state is managed by Da Vinci or by application. The flag has no effect unless
    * the feature is enabled at the factory level by providing a set of required managed stores. Da Vinci automatically
@@ -40,6 +43,26 @@ public class DaVinciConfig {
    */
   private boolean readMetricsEnabled = false;
 
+  /**
+   * Number of threads reading the keys of large batch gets in parallel, one partition per task. Zero disables the
+   * parallel batch get: the keys are then read one after the other on the caller thread.
+   */
+  private int batchGetThreadPoolSize = 0;
+
+  /**
+   * Batch gets with fewer keys than this are read on the caller thread, even if {@link #batchGetThreadPoolSize} is
+   * set, as handing them over to the pool costs more than reading them.
+   */
+  private int largeBatchRequestSplitThreshold = DEFAULT_LARGE_BATCH_REQUEST_SPLIT_THRESHOLD;
+
+  /**
+   * Schema the values are projected to before being persisted locally, so that the fields the application doesn't
+   * read take neither disk nor memory. The values are then read with this schema. A change of projection wipes out the
+   * local state of the store, which is then re-ingested. Projection isn't supported for chunked versions, with
+   * ingestion isolation, object cache, compute or {@link NonLocalAccessPolicy#QUERY_VENICE}.
+   */
+  private Schema projectionSchema;
+
   public DaVinciConfig() {
   }
 
@@ -48,13 +71,18 @@ public class DaVinciConfig {
         .setIsolated(isIsolated())
         .setStorageClass(getStorageClass())
         .setNonLocalAccessPolicy(getNonLocalAccessPolicy())
-        .setCacheConfig(getCacheConfig());
+        .setCacheConfig(getCacheConfig())
+        .setBatchGetThreadPoolSize(getBatchGetThreadPoolSize())
+        .setLargeBatchRequestSplitThreshold(getLargeBatchRequestSplitThreshold())
+        .setProjectionSchema(getProjectionSchema());
   }
 
   @Override
   public String toString() {
     return "DaVinciConfig{" + "managed=" + managed + ", isolated=" + isolated + ", storageClass=" + storageClass
-        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig + "}";
+        + ", nonLocalAccessPolicy=" + nonLocalAccessPolicy + ", cacheConfig=" + cacheConfig
+        + ", batchGetThreadPoolSize=" + batchGetThreadPoolSize + ", largeBatchRequestSplitThreshold="
+        + largeBatchRequestSplitThreshold + ", projectionSchema=" + projectionSchema + "}";
   }
 
   public boolean isManaged() {
@@ -113,4 +141,31 @@ public class DaVinciConfig {
   public void setReadMetricsEnabled(boolean readMetricsEnabled) {
     this.readMetricsEnabled = readMetricsEnabled;
   }
+
+  public int getBatchGetThreadPoolSize() {
+    return batchGetThreadPoolSize;
+  }
+
+  public DaVinciConfig setBatchGetThreadPoolSize(int batchGetThreadPoolSize) {
+    this.batchGetThreadPoolSize = batchGetThreadPoolSize;
+    return this;
+  }
+
+  public int getLargeBatchRequestSplitThreshold() {
+    return largeBatchRequestSplitThreshold;
+  }
+
+  public DaVinciConfig setLargeBatchRequestSplitThreshold(int largeBatchRequestSplitThreshold) {
+    this.largeBatchRequestSplitThreshold = largeBatchRequestSplitThreshold;
+    return this;
+  }
+
+  public Schema getProjectionSchema() {
+    return projectionSchema;
+  }
+
+  public DaVinciConfig setProjectionSchema(Schema projectionSchema) {
+    this.projectionSchema = projectionSchema;
+    return this;
+  }
 }
@@ -66,6 +66,16 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.batchGet(keys);
   }
 
+  @Override
+  public CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableValues) throws VeniceClientException {
+    return delegate.batchGet(keys, reusableValues);
+  }
+
+  @Override
+  public void streamingBatchGet(Set<K> keys, StreamingCallback<K, V> callback) throws VeniceClientException {
+    delegate.streamingBatchGet(keys, callback);
+  }
+
   @Override
   public void start() throws VeniceClientException {
     delegate.start();
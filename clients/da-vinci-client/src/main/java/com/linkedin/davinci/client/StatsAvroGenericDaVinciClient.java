@@ -86,4 +86,15 @@ public class StatsAvroGenericDaVinciClient<K, V> extends DelegatingAvroGenericDa
     });
   }
 
+  @Override
+  public CompletableFuture<Map<K, V>> batchGet(Set<K> keys, Map<K, V> reusableValues) {
+    clientStatsForBatchGet.recordRequestKeyCount(keys.size());
+    return trackRequest(clientStatsForBatchGet, () -> super.batchGet(keys, reusableValues))
+        .whenComplete((v, throwable) -> {
+          if (throwable == null && v != null) {
+            clientStatsForBatchGet.recordSuccessRequestKeyCount(v.size());
+          }
+        });
+  }
+
 }
@@ -21,6 +21,7 @@ public class StoreBackendConfig {
 
   public static final String CONFIG_DIRECTORY = "config";
   public static final String IS_MANAGED = "managed";
+  public static final String PROJECTION_SCHEMA = "projection.schema";
 
   private final File file;
   private final Properties props = new Properties();
@@ -81,4 +82,19 @@ public class StoreBackendConfig {
   public void setManaged(boolean isManaged) {
     props.setProperty(IS_MANAGED, String.valueOf(isManaged));
   }
+
+  /**
+   * @return the schema the values are projected to before being persisted locally, or null if they are stored as is
+   */
+  public String getProjectionSchema() {
+    return props.getProperty(PROJECTION_SCHEMA);
+  }
+
+  public void setProjectionSchema(String projectionSchema) {
+    if (projectionSchema == null) {
+      props.remove(PROJECTION_SCHEMA);
+    } else {
+      props.setProperty(PROJECTION_SCHEMA, projectionSchema);
+    }
+  }
 }
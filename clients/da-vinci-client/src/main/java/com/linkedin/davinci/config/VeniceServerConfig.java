@@ -55,15 +55,18 @@ import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_CHECKPOINT_DURING_
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_APPLICATION_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_ISOLATION_SERVICE_PORT;
 import static com.linkedin.venice.ConfigKeys.SERVER_INGESTION_MODE;
+import static com.linkedin.venice.ConfigKeys.SERVER_IN_MEMORY_STORAGE_ENGINE_MEMORY_BUDGET_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_CONSUMER_OFFSET_COLLECTION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_MAX_POLL_RECORDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_BACKOFF_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_POLL_RETRY_TIMES;
 import static com.linkedin.venice.ConfigKeys.SERVER_KAFKA_PRODUCER_POOL_SIZE_PER_KAFKA_CLUSTER;
+import static com.linkedin.venice.ConfigKeys.SERVER_KEY_PREFIX_SCAN_MAX_RECORD_COUNT;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEANUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_LEAKED_RESOURCE_CLEAN_UP_INTERVAL_IN_MINUTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_LOCAL_CONSUMER_CONFIG_PREFIX;
 import static com.linkedin.venice.ConfigKeys.SERVER_MAX_REQUEST_SIZE;
+import static com.linkedin.venice.ConfigKeys.SERVER_MMAP_STORAGE_ENGINE_STORE_ALLOWLIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_IDLE_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_NETTY_WORKER_THREADS;
@@ -74,6 +77,13 @@ import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_GRACEFUL_DROP_DELAY_IN_SECONDS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_SNAPSHOT_DIR;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_SNAPSHOT_MAX_CONCURRENT_CREATIONS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PARTITION_SNAPSHOT_RETENTION_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PEER_SNAPSHOT_BOOTSTRAP_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_PEER_SNAPSHOT_BOOTSTRAP_MAX_BYTES_PER_SEC;
+import static com.linkedin.venice.ConfigKeys.SERVER_PEER_SNAPSHOT_BOOTSTRAP_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_PEER_SNAPSHOT_MAX_AGE_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_PROMOTION_TO_LEADER_REPLICA_DELAY_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_REMOTE_CONSUMER_CONFIG_PREFIX;
@@ -146,6 +156,15 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final int listenerPort;
   private final String listernerHostname;
   private final String dataBasePath;
+
+  private final String partitionSnapshotDir;
+  private final long partitionSnapshotRetentionMs;
+  private final int partitionSnapshotMaxConcurrentCreations;
+  private final boolean peerSnapshotBootstrapEnabled;
+  private final long peerSnapshotBootstrapMaxBytesPerSec;
+  private final long peerSnapshotBootstrapTimeoutMs;
+  private final long peerSnapshotMaxAgeMs;
+  private final int keyPrefixScanMaxRecordCount;
   private final RocksDBServerConfig rocksDBServerConfig;
   private final boolean enableServerAllowList;
   private final boolean autoCreateDataPath; // default true
@@ -395,6 +414,9 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final long ingestionMemoryLimit;
   private final boolean ingestionMlockEnabled;
+
+  private final Set<String> mmapStorageEngineStoreAllowlist;
+  private final long inMemoryStorageEngineMemoryBudgetInBytes;
   private final List<String> forkedProcessJvmArgList;
 
   public VeniceServerConfig(VeniceProperties serverProperties) throws ConfigurationException {
@@ -409,6 +431,23 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     dataBasePath = serverProperties.getString(
         DATA_BASE_PATH,
         Paths.get(System.getProperty("java.io.tmpdir"), "venice-server-data").toAbsolutePath().toString());
+    partitionSnapshotDir = serverProperties
+        .getString(SERVER_PARTITION_SNAPSHOT_DIR, Paths.get(dataBasePath, "snapshots").toAbsolutePath().toString());
+    partitionSnapshotRetentionMs =
+        serverProperties.getLong(SERVER_PARTITION_SNAPSHOT_RETENTION_MS, TimeUnit.DAYS.toMillis(1));
+    partitionSnapshotMaxConcurrentCreations =
+        serverProperties.getInt(SERVER_PARTITION_SNAPSHOT_MAX_CONCURRENT_CREATIONS, 2);
+    peerSnapshotBootstrapEnabled = serverProperties.getBoolean(SERVER_PEER_SNAPSHOT_BOOTSTRAP_ENABLED, false);
+    peerSnapshotBootstrapMaxBytesPerSec =
+        serverProperties.getSizeInBytes(SERVER_PEER_SNAPSHOT_BOOTSTRAP_MAX_BYTES_PER_SEC, 100 * 1024 * 1024);
+    peerSnapshotBootstrapTimeoutMs =
+        serverProperties.getLong(SERVER_PEER_SNAPSHOT_BOOTSTRAP_TIMEOUT_MS, TimeUnit.MINUTES.toMillis(5));
+    peerSnapshotMaxAgeMs = serverProperties.getLong(SERVER_PEER_SNAPSHOT_MAX_AGE_MS, TimeUnit.MINUTES.toMillis(10));
+    keyPrefixScanMaxRecordCount = serverProperties.getInt(SERVER_KEY_PREFIX_SCAN_MAX_RECORD_COUNT, 1000);
+    if (keyPrefixScanMaxRecordCount <= 0) {
+      throw new VeniceException(
+          SERVER_KEY_PREFIX_SCAN_MAX_RECORD_COUNT + " should be positive, but is: " + keyPrefixScanMaxRecordCount);
+    }
     autoCreateDataPath = Boolean.parseBoolean(serverProperties.getString(AUTOCREATE_DATA_PATH, "true"));
     rocksDBServerConfig = new RocksDBServerConfig(serverProperties);
     enableServerAllowList = serverProperties.getBoolean(ENABLE_SERVER_ALLOW_LIST, false);
@@ -632,6 +671,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     ingestionMemoryLimit = extractIngestionMemoryLimit(serverProperties, ingestionMode, forkedProcessJvmArgList);
     LOGGER.info("Ingestion memory limit: {} after subtracting other usages", ingestionMemoryLimit);
     ingestionMlockEnabled = serverProperties.getBoolean(INGESTION_MLOCK_ENABLED, false);
+    mmapStorageEngineStoreAllowlist =
+        new HashSet<>(serverProperties.getList(SERVER_MMAP_STORAGE_ENGINE_STORE_ALLOWLIST, Collections.emptyList()));
+    inMemoryStorageEngineMemoryBudgetInBytes =
+        serverProperties.getSizeInBytes(SERVER_IN_MEMORY_STORAGE_ENGINE_MEMORY_BUDGET_IN_BYTES, -1);
   }
 
   long extractIngestionMemoryLimit(
@@ -722,6 +765,42 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.dataBasePath;
   }
 
+  /**
+   * Get base path of the partition snapshots, check
+   * {@link com.linkedin.venice.ConfigKeys#SERVER_PARTITION_SNAPSHOT_DIR}.
+   */
+  public String getPartitionSnapshotDir() {
+    return this.partitionSnapshotDir;
+  }
+
+  public long getPartitionSnapshotRetentionMs() {
+    return partitionSnapshotRetentionMs;
+  }
+
+  public int getPartitionSnapshotMaxConcurrentCreations() {
+    return partitionSnapshotMaxConcurrentCreations;
+  }
+
+  public boolean isPeerSnapshotBootstrapEnabled() {
+    return peerSnapshotBootstrapEnabled;
+  }
+
+  public long getPeerSnapshotBootstrapMaxBytesPerSec() {
+    return peerSnapshotBootstrapMaxBytesPerSec;
+  }
+
+  public long getPeerSnapshotBootstrapTimeoutMs() {
+    return peerSnapshotBootstrapTimeoutMs;
+  }
+
+  public long getPeerSnapshotMaxAgeMs() {
+    return peerSnapshotMaxAgeMs;
+  }
+
+  public int getKeyPrefixScanMaxRecordCount() {
+    return keyPrefixScanMaxRecordCount;
+  }
+
   public boolean isAutoCreateDataPath() {
     return autoCreateDataPath;
   }
@@ -1117,4 +1196,12 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   public boolean isIngestionMlockEnabled() {
     return ingestionMlockEnabled;
   }
+
+  public Set<String> getMmapStorageEngineStoreAllowlist() {
+    return mmapStorageEngineStoreAllowlist;
+  }
+
+  public long getInMemoryStorageEngineMemoryBudgetInBytes() {
+    return inMemoryStorageEngineMemoryBudgetInBytes;
+  }
 }
@@ -10,6 +10,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import org.apache.avro.Schema;
 
 
 /**
@@ -30,6 +31,8 @@ public class VeniceStoreVersionConfig extends VeniceServerConfig {
 
   private boolean restoreDataPartitions = true;
   private boolean restoreMetadataPartition = true;
+  // Da Vinci only, see StoreBackend#setProjectionSchema
+  private Schema projectionSchema;
 
   public VeniceStoreVersionConfig(
       String storeVersionName,
@@ -85,6 +88,18 @@ public class VeniceStoreVersionConfig extends VeniceServerConfig {
     this.restoreMetadataPartition = restoreMetadataPartition;
   }
 
+  /**
+   * @return the schema the values are projected to before being written to the storage engine, or null if the values
+   * are written as they are consumed
+   */
+  public Schema getProjectionSchema() {
+    return projectionSchema;
+  }
+
+  public void setProjectionSchema(Schema projectionSchema) {
+    this.projectionSchema = projectionSchema;
+  }
+
   /**
    * For some store, the persistence type may not be known when constructing {@link VeniceStoreVersionConfig}, such as
    * in `VeniceStateModelFactory#createNewStateModel`, when Helix wants to create a new state model for some store,
@@ -28,6 +28,7 @@ import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.pushmonitor.KillOfflinePushMessage;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreWriter;
+import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.service.AbstractVeniceService;
 import com.linkedin.venice.stats.HelixMessageChannelStats;
 import com.linkedin.venice.stats.ThreadPoolStats;
@@ -40,6 +41,7 @@ import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -101,7 +103,8 @@ public class HelixParticipationService extends AbstractVeniceService
       String clusterName,
       int port,
       String hostname,
-      CompletableFuture<SafeHelixManager> managerFuture) {
+      CompletableFuture<SafeHelixManager> managerFuture,
+      Optional<SSLFactory> sslFactory) {
     this.ingestionService = storeIngestionService;
     this.storageService = storageService;
     this.clusterName = clusterName;
@@ -129,7 +132,8 @@ public class HelixParticipationService extends AbstractVeniceService
       this.ingestionBackend = new DefaultIngestionBackend(
           storageMetadataService,
           (KafkaStoreIngestionService) storeIngestionService,
-          storageService);
+          storageService,
+          sslFactory);
     }
   }
 
@@ -1,5 +1,6 @@
 package com.linkedin.davinci.ingestion;
 
+import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
 import com.linkedin.davinci.helix.LeaderFollowerPartitionStateModel;
 import com.linkedin.davinci.kafka.consumer.KafkaStoreIngestionService;
@@ -7,8 +8,10 @@ import com.linkedin.davinci.kafka.consumer.LeaderFollowerStateType;
 import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.storage.snapshot.PeerSnapshotBootstrapper;
 import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.Map;
@@ -27,6 +30,8 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
   private final StorageMetadataService storageMetadataService;
   private final StorageService storageService;
   private final KafkaStoreIngestionService storeIngestionService;
+  /** Null if the peer snapshot bootstrap is disabled. */
+  private final PeerSnapshotBootstrapper peerSnapshotBootstrapper;
   private final Map<String, AtomicReference<AbstractStorageEngine>> topicStorageEngineReferenceMap =
       new VeniceConcurrentHashMap<>();
 
@@ -34,9 +39,31 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
       StorageMetadataService storageMetadataService,
       KafkaStoreIngestionService storeIngestionService,
       StorageService storageService) {
+    this(storageMetadataService, storeIngestionService, storageService, Optional.empty());
+  }
+
+  /**
+   * @param sslFactory the ssl factory of the server, if present the peer snapshots are downloaded over https
+   */
+  public DefaultIngestionBackend(
+      StorageMetadataService storageMetadataService,
+      KafkaStoreIngestionService storeIngestionService,
+      StorageService storageService,
+      Optional<SSLFactory> sslFactory) {
     this.storageMetadataService = storageMetadataService;
     this.storeIngestionService = storeIngestionService;
     this.storageService = storageService;
+    VeniceServerConfig serverConfig = storeIngestionService.getVeniceConfigLoader().getVeniceServerConfig();
+    this.peerSnapshotBootstrapper = serverConfig.isPeerSnapshotBootstrapEnabled()
+        ? new PeerSnapshotBootstrapper(
+            serverConfig,
+            storageService,
+            storageMetadataService,
+            storeIngestionService.getMetadataRepo(),
+            (topicName, partition) -> storeIngestionService
+                .getReadyToServePeerUrls(topicName, partition, sslFactory.isPresent()),
+            sslFactory)
+        : null;
   }
 
   @Override
@@ -47,6 +74,9 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
     String storeVersion = storeConfig.getStoreVersionName();
     LOGGER.info("Retrieving storage engine for store {} partition {}", storeVersion, partition);
     Utils.waitStoreVersionOrThrow(storeVersion, getStoreIngestionService().getMetadataRepo());
+    if (peerSnapshotBootstrapper != null) {
+      peerSnapshotBootstrapper.maybeBootstrap(storeConfig, partition);
+    }
     Supplier<StoreVersionState> svsSupplier = () -> storageMetadataService.getStoreVersionState(storeVersion);
     AbstractStorageEngine storageEngine = storageService.openStoreForNewPartition(storeConfig, partition, svsSupplier);
     topicStorageEngineReferenceMap.compute(storeVersion, (key, storageEngineAtomicReference) -> {
@@ -162,6 +192,7 @@ public class DefaultIngestionBackend implements DaVinciIngestionBackend, VeniceI
 
   @Override
   public void close() {
-    // Do nothing here, since this is only a wrapper class.
+    // Only the peer snapshot downloads are owned here, the other services are closed by their owners.
+    Utils.closeQuietlyWithErrorLogged(peerSnapshotBootstrapper);
   }
 }
@@ -9,6 +9,10 @@ import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +25,10 @@ import org.apache.logging.log4j.Logger;
 /**
  * Because get real-time topic offset, get producer timestamp, and check topic existence are expensive, so we will only
  * retrieve such information after the predefined ttlMs
+ *
+ * The latest offsets of all the partitions served by the ingestion task are fetched at once and cached per topic,
+ * since the lag of these partitions is usually measured together; this turns one broker request per served partition
+ * into one per topic and TTL.
  */
 class CachedKafkaMetadataGetter {
   private static final Logger LOGGER = LogManager.getLogger(CachedKafkaMetadataGetter.class);
@@ -29,12 +37,24 @@ class CachedKafkaMetadataGetter {
   private final long ttlNs;
   private final Map<KafkaMetadataCacheKey, ValueAndExpiryTime<Boolean>> topicExistenceCache;
   private final Map<KafkaMetadataCacheKey, ValueAndExpiryTime<Long>> offsetCache;
+  private final Map<KafkaMetadataCacheKey, ValueAndExpiryTime<Map<PubSubTopicPartition, Long>>> servedOffsetsCache;
   private final Map<KafkaMetadataCacheKey, ValueAndExpiryTime<Long>> lastProducerTimestampCache;
+  private final Supplier<Collection<Integer>> servedPartitionsSupplier;
 
   CachedKafkaMetadataGetter(long timeToLiveMs) {
+    this(timeToLiveMs, Collections::emptyList);
+  }
+
+  /**
+   * @param servedPartitionsSupplier the partitions served by the ingestion task, whose latest offsets are fetched
+   *                                 together.
+   */
+  CachedKafkaMetadataGetter(long timeToLiveMs, Supplier<Collection<Integer>> servedPartitionsSupplier) {
     this.ttlNs = MILLISECONDS.toNanos(timeToLiveMs);
+    this.servedPartitionsSupplier = servedPartitionsSupplier;
     this.topicExistenceCache = new VeniceConcurrentHashMap<>();
     this.offsetCache = new VeniceConcurrentHashMap<>();
+    this.servedOffsetsCache = new VeniceConcurrentHashMap<>();
     this.lastProducerTimestampCache = new VeniceConcurrentHashMap<>();
   }
 
@@ -46,6 +66,18 @@ class CachedKafkaMetadataGetter {
   long getOffset(TopicManager topicManager, PubSubTopic pubSubTopic, int partitionId) {
     final String sourceKafkaServer = topicManager.getKafkaBootstrapServers();
     PubSubTopicPartition pubSubTopicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partitionId);
+    Long servedOffset = fetchMetadata(
+        new KafkaMetadataCacheKey(sourceKafkaServer, new PubSubTopicPartitionImpl(pubSubTopic, -1)),
+        servedOffsetsCache,
+        () -> getServedPartitionsLatestOffsets(topicManager, pubSubTopic)).get(pubSubTopicPartition);
+    if (servedOffset != null) {
+      return servedOffset;
+    }
+    /**
+     * Fall back to fetching the offset of this partition only, which checks the topic existence and retries. This is
+     * the case for a partition which started being served after the last batched fetch, or when the batched fetch
+     * failed.
+     */
     try {
       return fetchMetadata(
           new KafkaMetadataCacheKey(sourceKafkaServer, pubSubTopicPartition),
@@ -59,6 +91,27 @@ class CachedKafkaMetadataGetter {
     }
   }
 
+  private Map<PubSubTopicPartition, Long> getServedPartitionsLatestOffsets(
+      TopicManager topicManager,
+      PubSubTopic pubSubTopic) {
+    Collection<Integer> servedPartitions = servedPartitionsSupplier.get();
+    if (servedPartitions.size() < 2) {
+      // Nothing to save by batching.
+      return Collections.emptyMap();
+    }
+    List<PubSubTopicPartition> pubSubTopicPartitions = new ArrayList<>(servedPartitions.size());
+    for (int partition: servedPartitions) {
+      pubSubTopicPartitions.add(new PubSubTopicPartitionImpl(pubSubTopic, partition));
+    }
+    try {
+      Map<PubSubTopicPartition, Long> latestOffsets = topicManager.getPartitionsLatestOffsets(pubSubTopicPartitions);
+      return latestOffsets == null ? Collections.emptyMap() : latestOffsets;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to get the latest offsets of the served partitions of topic {} in batch", pubSubTopic, e);
+      return Collections.emptyMap();
+    }
+  }
+
   long getEarliestOffset(TopicManager topicManager, PubSubTopicPartition pubSubTopicPartition) {
     final String sourceKafkaServer = topicManager.getKafkaBootstrapServers();
     try {
@@ -37,6 +37,7 @@ import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
 import com.linkedin.davinci.stats.StoreBufferServiceStats;
 import com.linkedin.davinci.storage.StorageEngineRepository;
 import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.snapshot.PeerSnapshotProvider;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.view.VeniceViewWriterFactory;
 import com.linkedin.venice.SSLConfig;
@@ -88,6 +89,7 @@ import com.linkedin.venice.utils.DiskUsage;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.KafkaSSLUtils;
 import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.PartitionUtils;
 import com.linkedin.venice.utils.SystemTime;
@@ -99,6 +101,7 @@ import com.linkedin.venice.utils.locks.ResourceAutoClosableLockManager;
 import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import io.tehuti.metrics.MetricsRepository;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -206,6 +209,12 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
   private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
 
+  /**
+   * Serves the snapshots of the local partitions to the peers bootstrapping new replicas, null if the peer snapshot
+   * bootstrap is disabled.
+   */
+  private final PeerSnapshotProvider peerSnapshotProvider;
+
   public KafkaStoreIngestionService(
       StorageEngineRepository storageEngineRepository,
       VeniceConfigLoader veniceConfigLoader,
@@ -444,6 +453,10 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
 
     VeniceViewWriterFactory viewWriterFactory = new VeniceViewWriterFactory(veniceConfigLoader);
 
+    this.peerSnapshotProvider = serverConfig.isPeerSnapshotBootstrapEnabled() && !isDaVinciClient
+        ? new PeerSnapshotProvider(serverConfig, storageEngineRepository, storageMetadataService, SystemTime.INSTANCE)
+        : null;
+
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setVeniceWriterFactory(veniceWriterFactory)
         .setStorageEngineRepository(storageEngineRepository)
@@ -603,6 +616,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     // close drainer service at the very end as it does not depend on any other service.
     Utils.closeQuietlyWithErrorLogged(storeBufferService);
     Utils.closeQuietlyWithErrorLogged(topicManagerRepository);
+    Utils.closeQuietlyWithErrorLogged(peerSnapshotProvider);
     topicLockManager.removeAllLocks();
   }
 
@@ -1148,6 +1162,69 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return storageMetadataService.getStoreVersionCompressionDictionary(topicName);
   }
 
+  @Override
+  public CompletableFuture<ByteBuffer> getPeerSnapshotManifest(String topicName, int partition) {
+    if (peerSnapshotProvider == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return peerSnapshotProvider.getManifest(topicName, partition).thenApply(manifest -> {
+      if (manifest == null) {
+        return null;
+      }
+      try {
+        return ByteBuffer.wrap(ObjectMapperFactory.getInstance().writeValueAsBytes(manifest));
+      } catch (IOException e) {
+        throw new VeniceException("Failed to serialize the manifest of snapshot " + manifest.getSnapshotId(), e);
+      }
+    });
+  }
+
+  @Override
+  public ByteBuffer getPeerSnapshotFileChunk(
+      String topicName,
+      int partition,
+      String snapshotId,
+      String fileName,
+      long offset) {
+    if (peerSnapshotProvider == null) {
+      return null;
+    }
+    try {
+      return peerSnapshotProvider.readFileChunk(topicName, partition, snapshotId, fileName, offset);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to read file " + fileName + " of snapshot " + snapshotId, e);
+    }
+  }
+
+  /**
+   * @return the urls of the other storage nodes which are ready to serve the given partition, in random order to
+   *         spread the load of the new replicas bootstrapping from them
+   * @param https whether to return the urls of the ssl listeners of the storage nodes
+   */
+  public List<String> getReadyToServePeerUrls(String topicName, int partition, boolean https) {
+    if (customizedViewRepository == null) {
+      return Collections.emptyList();
+    }
+    List<Instance> instances;
+    try {
+      instances = customizedViewRepository.getReadyToServeInstances(topicName, partition);
+    } catch (VeniceException e) {
+      LOGGER.warn("Failed to get the ready to serve instances of partition {} of {}", partition, topicName, e);
+      return Collections.emptyList();
+    }
+    String localNodeId = Instance
+        .fromHostAndPort(Utils.getHostName(), veniceConfigLoader.getVeniceServerConfig().getListenerPort())
+        .getNodeId();
+    List<String> peerUrls = new ArrayList<>();
+    for (Instance instance: instances) {
+      if (!instance.getNodeId().equals(localNodeId)) {
+        peerUrls.add(instance.getUrl(https));
+      }
+    }
+    Collections.shuffle(peerUrls);
+    return peerUrls;
+  }
+
   public StoreIngestionTask getStoreIngestionTask(String topicName) {
     return topicNameToIngestionTaskMap.get(topicName);
   }
@@ -81,7 +81,9 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.stats.StatsErrorCode;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.ComplementSet;
@@ -124,6 +126,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -298,6 +301,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final StorageEngineBackedCompressorFactory compressorFactory;
   protected final Lazy<VeniceCompressor> compressor;
   protected final boolean isChunked;
+  private final Schema projectionSchema;
+  private final RecordSerializer<GenericRecord> projectionSerializer;
   protected final PubSubTopicRepository pubSubTopicRepository;
   private final String[] msgForLagMeasurement;
   private final Runnable runnableForKillIngestionTasksForNonCurrentVersions;
@@ -340,7 +345,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.kafkaDataIntegrityValidator = new KafkaDataIntegrityValidator(this.kafkaVersionTopic);
     this.consumerTaskId = String.format(CONSUMER_TASK_ID_FORMAT, kafkaVersionTopic);
     this.topicManagerRepository = builder.getTopicManagerRepository();
-    this.cachedKafkaMetadataGetter = new CachedKafkaMetadataGetter(storeConfig.getTopicOffsetCheckIntervalMs());
+    this.cachedKafkaMetadataGetter = new CachedKafkaMetadataGetter(
+        storeConfig.getTopicOffsetCheckIntervalMs(),
+        partitionConsumptionStateMap::keySet);
 
     this.hostLevelIngestionStats = builder.getIngestionStats().getStoreStats(storeName);
     this.versionedDIVStats = builder.getVersionedDIVStats();
@@ -434,6 +441,14 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     this.compressorFactory = builder.getCompressorFactory();
     this.compressor = Lazy.of(() -> compressorFactory.getCompressor(compressionStrategy, kafkaVersionTopic));
     this.isChunked = version.isChunkingEnabled();
+    this.projectionSchema = storeConfig.getProjectionSchema();
+    if (projectionSchema != null && isChunked) {
+      // A chunk can't be projected by itself, and the assembled value is never written locally.
+      throw new VeniceException("Projection is not supported for chunked versions: " + kafkaVersionTopic);
+    }
+    this.projectionSerializer = projectionSchema == null
+        ? null
+        : FastSerializerDeserializerFactory.getFastAvroGenericSerializer(projectionSchema);
     this.msgForLagMeasurement = new String[subPartitionCount];
     for (int i = 0; i < this.msgForLagMeasurement.length; i++) {
       this.msgForLagMeasurement[i] = kafkaVersionTopic + "_" + i;
@@ -2298,6 +2313,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         newStoreVersionState.compressionDictionary = startOfPush.compressionDictionary;
         newStoreVersionState.batchConflictResolutionPolicy = startOfPush.timestampPolicy;
         newStoreVersionState.startOfPushTimestamp = startOfPushKME.producerMetadata.messageTimestamp;
+        newStoreVersionState.bulkLoadLocation = startOfPush.bulkLoadLocation;
 
         LOGGER.info(
             "Persisted {} for the first time following a SOP for topic {}.",
@@ -2352,6 +2368,20 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
      */
     partitionConsumptionState.setDeferredWrite(storagePartitionConfig.isDeferredWrite());
 
+    /**
+     * For a bulk-load push, the data of this partition are not in the topic, so ingest the SST files built by the
+     * push job before finalizing the batch write.
+     */
+    StoreVersionState storeVersionState = storageEngine.getStoreVersionState();
+    if (storeVersionState != null && storeVersionState.bulkLoadLocation != null) {
+      String bulkLoadPartitionDir =
+          RocksDBUtils.composeBulkLoadPartitionDir(storeVersionState.bulkLoadLocation.toString(), partition);
+      storageEngine.ingestBulkLoadSSTFiles(partition, bulkLoadPartitionDir);
+      if (cacheBackend.isPresent() && cacheBackend.get().getStorageEngine(kafkaVersionTopic) != null) {
+        cacheBackend.get().getStorageEngine(kafkaVersionTopic).ingestBulkLoadSSTFiles(partition, bulkLoadPartitionDir);
+      }
+    }
+
     /**
      * Indicate the batch push is done, and the internal storage engine needs to do some cleanup.
      */
@@ -2781,6 +2811,48 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
   }
 
+  /**
+   * Projects the value of the {@param put} to the {@link #projectionSchema} configured by the Da Vinci client, so that
+   * the fields it doesn't read are never persisted. The projected value keeps the schema id of the original value,
+   * since the Da Vinci readers always use the projection schema as the writer schema of the local values.
+   *
+   * @return a new {@link Put} whose value has room for the schema header, like the values in the consumed messages
+   */
+  private Put projectValue(Put put, PubSubTopic topic) {
+    SchemaEntry writerSchema = schemaRepository.getValueSchema(storeName, put.schemaId);
+    if (writerSchema == null) {
+      throw new VeniceException("Value schema " + put.schemaId + " is not available for store: " + storeName);
+    }
+    try {
+      // Values in real-time topics are not compressed.
+      boolean isCompressed = !topic.isRealTime();
+      ByteBuffer value = put.putValue.duplicate();
+      if (isCompressed) {
+        value = compressor.get().decompress(value);
+      }
+      GenericRecord projectedRecord = FastSerializerDeserializerFactory
+          .<GenericRecord>getFastAvroGenericDeserializer(writerSchema.getSchema(), projectionSchema)
+          .deserialize(value);
+      ByteBuffer projectedValue = ByteBuffer.wrap(projectionSerializer.serialize(projectedRecord));
+      if (isCompressed) {
+        projectedValue = compressor.get().compress(projectedValue, 0);
+      }
+      ByteBuffer paddedValue = ByteBuffer.allocate(ValueRecord.SCHEMA_HEADER_LENGTH + projectedValue.remaining());
+      paddedValue.position(ValueRecord.SCHEMA_HEADER_LENGTH);
+      paddedValue.put(projectedValue);
+      paddedValue.position(ValueRecord.SCHEMA_HEADER_LENGTH);
+
+      Put projectedPut = new Put();
+      projectedPut.putValue = paddedValue;
+      projectedPut.schemaId = put.schemaId;
+      projectedPut.replicationMetadataVersionId = put.replicationMetadataVersionId;
+      projectedPut.replicationMetadataPayload = put.replicationMetadataPayload;
+      return projectedPut;
+    } catch (IOException e) {
+      throw new VeniceException("Failed to project a value of: " + kafkaVersionTopic, e);
+    }
+  }
+
   private void writeToStorageEngine(int partition, byte[] keyBytes, Put put, long currentTimeMs) {
     boolean metricsEnabled = emitMetrics.get();
     boolean traceEnabled = LOGGER.isTraceEnabled();
@@ -2943,6 +3015,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
         keyLen = keyBytes.length;
         // update checksum for this PUT message if needed.
         partitionConsumptionState.maybeUpdateExpectedChecksum(keyBytes, put);
+        if (projectionSchema != null && put.schemaId > 0) {
+          put = projectValue(put, consumerRecord.getTopicPartition().getPubSubTopic());
+        }
         prependHeaderAndWriteToStorageEngine(
             // Leaders might consume from a RT topic and immediately write into StorageEngine,
             // so we need to re-calculate partition.
@@ -49,6 +49,9 @@ public class RocksDBMemoryStats extends AbstractVeniceStats {
       "rocksdb.min-log-number-to-keep",
       "rocksdb.total-sst-files-size",
       "rocksdb.live-sst-files-size",
+      "rocksdb.num-blob-files",
+      "rocksdb.total-blob-file-size",
+      "rocksdb.live-blob-file-size",
       "rocksdb.estimate-pending-compaction-bytes",
       "rocksdb.num-running-compactions",
       "rocksdb.num-running-flushes",
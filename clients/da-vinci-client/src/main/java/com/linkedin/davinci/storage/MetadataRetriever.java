@@ -4,6 +4,7 @@ import com.linkedin.davinci.listener.response.AdminResponse;
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.venice.utils.ComplementSet;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 
 public interface MetadataRetriever {
@@ -12,4 +13,15 @@ public interface MetadataRetriever {
   AdminResponse getConsumptionSnapshots(String topicName, ComplementSet<Integer> partitions);
 
   MetadataResponse getMetadata(String storeName);
+
+  /**
+   * @return a future of the JSON manifest of a snapshot of the given partition, for a peer to bootstrap a new replica
+   *         from, which completes with null if the partition can't be served
+   */
+  CompletableFuture<ByteBuffer> getPeerSnapshotManifest(String topicName, int partition);
+
+  /**
+   * @return a chunk of the given file of the snapshot starting at the given offset, or null if the snapshot expired
+   */
+  ByteBuffer getPeerSnapshotFileChunk(String topicName, int partition, String snapshotId, String fileName, long offset);
 }
@@ -2,6 +2,7 @@ package com.linkedin.davinci.storage;
 
 import static com.linkedin.venice.meta.PersistenceType.BLACK_HOLE;
 import static com.linkedin.venice.meta.PersistenceType.IN_MEMORY;
+import static com.linkedin.venice.meta.PersistenceType.READ_OPTIMIZED_MMAP;
 import static com.linkedin.venice.meta.PersistenceType.ROCKS_DB;
 
 import com.linkedin.davinci.config.VeniceConfigLoader;
@@ -13,6 +14,7 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.StorageEngineFactory;
 import com.linkedin.davinci.store.blackhole.BlackHoleStorageEngineFactory;
 import com.linkedin.davinci.store.memory.InMemoryStorageEngineFactory;
+import com.linkedin.davinci.store.mmap.MmapStorageEngineFactory;
 import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.exceptions.VeniceException;
@@ -21,6 +23,7 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
 import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.service.AbstractVeniceService;
@@ -40,6 +43,7 @@ import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.RocksDBException;
@@ -176,6 +180,9 @@ public class StorageService extends AbstractVeniceService {
             storeVersionStateSerializer,
             partitionStateSerializer));
     persistenceTypeToStorageEngineFactoryMap.put(BLACK_HOLE, new BlackHoleStorageEngineFactory());
+    persistenceTypeToStorageEngineFactoryMap.put(
+        READ_OPTIMIZED_MMAP,
+        new MmapStorageEngineFactory(serverConfig, storeVersionStateSerializer, partitionStateSerializer));
   }
 
   private void restoreAllStores(
@@ -297,10 +304,12 @@ public class StorageService extends AbstractVeniceService {
 
     long startTimeInBuildingNewEngine = System.nanoTime();
     /**
-     * For new store, it will use the storage engine configured in host level if it is not known.
+     * For new store, it will use the storage engine configured in host level if it is not known, unless it is a
+     * batch-only version of a store allowlisted for the read-optimized memory-mapped storage engine.
      */
     if (!storeConfig.isStorePersistenceTypeKnown()) {
-      storeConfig.setStorePersistenceType(storeConfig.getPersistenceType());
+      storeConfig.setStorePersistenceType(
+          isReadOptimizedMmapEligible(topicName) ? READ_OPTIMIZED_MMAP : storeConfig.getPersistenceType());
     }
 
     LOGGER.info("Creating/Opening Storage Engine {} with type: {}", topicName, storeConfig.getStorePersistenceType());
@@ -374,6 +383,7 @@ public class StorageService extends AbstractVeniceService {
       LOGGER.warn("Storage engine {} does not exist, ignoring remove request.", kafkaTopic);
       return;
     }
+    StoreVersionState storeVersionState = storageEngine.getStoreVersionState();
     storageEngine.drop();
 
     VeniceStoreVersionConfig storeConfig = configLoader.getStoreConfig(kafkaTopic);
@@ -381,6 +391,36 @@ public class StorageService extends AbstractVeniceService {
 
     StorageEngineFactory factory = getInternalStorageEngineFactory(storeConfig);
     factory.removeStorageEngine(storageEngine);
+
+    if (storeVersionState != null && storeVersionState.bulkLoadLocation != null) {
+      maybeDeleteBulkLoadFiles(kafkaTopic, storeVersionState.bulkLoadLocation.toString());
+    }
+  }
+
+  /**
+   * The SST files of a bulk-load push, check {@link com.linkedin.venice.kafka.protocol.StartOfPush#bulkLoadLocation},
+   * are needed by any new replica of the version, so they can only be deleted along with the version itself. Every
+   * replica of a deleted version tries to delete them, which is harmless since the deletion is idempotent.
+   */
+  private void maybeDeleteBulkLoadFiles(String kafkaTopic, String bulkLoadLocation) {
+    if (storeRepository == null) {
+      return;
+    }
+    String storeName;
+    int versionNum;
+    try {
+      storeName = Version.parseStoreFromVersionTopic(kafkaTopic);
+      versionNum = Version.parseVersionFromKafkaTopicName(kafkaTopic);
+    } catch (IllegalArgumentException e) {
+      return;
+    }
+    Store store = storeRepository.getStore(storeName);
+    if (store != null && (store.getVersions().isEmpty() || store.getVersion(versionNum).isPresent())) {
+      // The version is still alive, or the store has no version at all, which is suspicious, so keep the files.
+      return;
+    }
+    LOGGER.info("Deleting the bulk-load files of deleted version {} from {}", kafkaTopic, bulkLoadLocation);
+    FileUtils.deleteQuietly(new File(bulkLoadLocation));
   }
 
   /**
@@ -496,6 +536,32 @@ public class StorageService extends AbstractVeniceService {
         .getSubPartitions(partition, PartitionUtils.getAmplificationFactor(storeRepository, topicName));
   }
 
+  /**
+   * The memory-mapped storage engine is immutable once the batch push completes, so it can only hold versions which
+   * never receive any write after the end of push.
+   */
+  private boolean isReadOptimizedMmapEligible(String topicName) {
+    String storeName;
+    int versionNum;
+    try {
+      storeName = Version.parseStoreFromVersionTopic(topicName);
+      versionNum = Version.parseVersionFromKafkaTopicName(topicName);
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    if (!serverConfig.getMmapStorageEngineStoreAllowlist().contains(storeName)) {
+      return false;
+    }
+    try {
+      Optional<Version> version = storeRepository.getStoreOrThrow(storeName).getVersion(versionNum);
+      return version.isPresent() && version.get().getHybridStoreConfig() == null
+          && !version.get().isActiveActiveReplicationEnabled() && !version.get().isIncrementalPushEnabled();
+    } catch (VeniceNoStoreException e) {
+      LOGGER.warn("Store {} does not exist in storeRepository.", storeName);
+      return false;
+    }
+  }
+
   private boolean isReplicationMetadataEnabled(String topicName, PersistenceType persistenceType) {
     // Replication metadata will only be used in Server as Da Vinci will never become LEADER.
     if (serverConfig.isDaVinciClient() || !Objects.equals(persistenceType, ROCKS_DB)) {
@@ -0,0 +1,329 @@
+package com.linkedin.davinci.storage.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.client.store.transport.HttpTransportClient;
+import com.linkedin.venice.client.store.transport.HttpsTransportClient;
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.QueryAction;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.throttle.EventThrottler;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import com.linkedin.venice.utils.PartitionUtils;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Bootstraps a new replica of a partition from a snapshot of a peer which is ready to serve it, check
+ * {@link PeerSnapshotProvider}, instead of consuming the whole version topic: the RocksDB checkpoint of the peer is
+ * downloaded into a staging dir and verified, then moved in place of the partition along with the offset record of
+ * the peer, so that the ingestion only consumes the records after that offset.
+ *
+ * The downloads run on a few dedicated threads and share a throttler, check
+ * {@link VeniceServerConfig#getPeerSnapshotBootstrapMaxBytesPerSec()}. The state transition of the replica waits for
+ * the download for at most {@link VeniceServerConfig#getPeerSnapshotBootstrapTimeoutMs()}. If no peer can provide a
+ * valid snapshot in time, the download is abandoned, the partition is left untouched and the ingestion consumes the
+ * version topic from the beginning as usual.
+ *
+ * If the server has an {@link SSLFactory}, the snapshots are downloaded over https from the ssl listener of the peers.
+ */
+public class PeerSnapshotBootstrapper implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(PeerSnapshotBootstrapper.class);
+  private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.getInstance();
+  private static final String STAGING_DIR = "peer_snapshot_staging";
+  private static final long REQUEST_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(1);
+  private static final int MAX_CONCURRENT_DOWNLOADS = 4;
+
+  private final StorageService storageService;
+  private final StorageMetadataService storageMetadataService;
+  private final ReadOnlyStoreRepository storeRepository;
+  /** Returns the urls of the peers which are ready to serve the given partition of the given version topic. */
+  private final BiFunction<String, Integer, List<String>> peerUrlsProvider;
+  /** Builds the client to download a snapshot from the given peer url. */
+  private final Function<String, HttpTransportClient> transportClientFactory;
+  private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+      AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+  private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer =
+      AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+  private final EventThrottler bandwidthThrottler;
+  private final long bootstrapTimeoutMs;
+  private final ExecutorService downloadExecutor =
+      Executors.newFixedThreadPool(MAX_CONCURRENT_DOWNLOADS, new DaemonThreadFactory("PeerSnapshotDownload"));
+  private final String rocksDBPath;
+  private final String stagingBaseDir;
+
+  public PeerSnapshotBootstrapper(
+      VeniceServerConfig serverConfig,
+      StorageService storageService,
+      StorageMetadataService storageMetadataService,
+      ReadOnlyStoreRepository storeRepository,
+      BiFunction<String, Integer, List<String>> peerUrlsProvider,
+      Optional<SSLFactory> sslFactory) {
+    this(
+        serverConfig,
+        storageService,
+        storageMetadataService,
+        storeRepository,
+        peerUrlsProvider,
+        sslFactory.<Function<String, HttpTransportClient>>map(
+            factory -> peerUrl -> new HttpsTransportClient(peerUrl, 1, 1, false, factory))
+            .orElse(peerUrl -> new HttpTransportClient(peerUrl, 1, 1)));
+  }
+
+  PeerSnapshotBootstrapper(
+      VeniceServerConfig serverConfig,
+      StorageService storageService,
+      StorageMetadataService storageMetadataService,
+      ReadOnlyStoreRepository storeRepository,
+      BiFunction<String, Integer, List<String>> peerUrlsProvider,
+      Function<String, HttpTransportClient> transportClientFactory) {
+    this.storageService = storageService;
+    this.storageMetadataService = storageMetadataService;
+    this.storeRepository = storeRepository;
+    this.peerUrlsProvider = peerUrlsProvider;
+    this.transportClientFactory = transportClientFactory;
+    this.bandwidthThrottler = new EventThrottler(
+        serverConfig.getPeerSnapshotBootstrapMaxBytesPerSec(),
+        "peer_snapshot_bootstrap_bandwidth",
+        false,
+        EventThrottler.BLOCK_STRATEGY);
+    this.bootstrapTimeoutMs = serverConfig.getPeerSnapshotBootstrapTimeoutMs();
+    this.rocksDBPath = serverConfig.getDataBasePath() + File.separator + "rocksdb";
+    // The staging dir is on the same volume as the partitions, so that the verified snapshot can be moved in place.
+    this.stagingBaseDir = serverConfig.getDataBasePath() + File.separator + STAGING_DIR;
+    FileUtils.deleteQuietly(new File(stagingBaseDir));
+  }
+
+  /**
+   * Bootstraps the given partition from the snapshot of a peer if the partition doesn't exist locally yet.
+   *
+   * @return whether the partition was bootstrapped, otherwise the ingestion should start from the beginning
+   */
+  public boolean maybeBootstrap(VeniceStoreVersionConfig storeConfig, int partition) {
+    String topicName = storeConfig.getStoreVersionName();
+    String partitionDir = RocksDBUtils.composePartitionDbDir(rocksDBPath, topicName, partition);
+    AbstractStorageEngine storageEngine = storageService.getStorageEngine(topicName);
+    if ((storageEngine != null && storageEngine.containsPartition(partition)) || new File(partitionDir).exists()) {
+      // The ingestion resumes from the local data.
+      return false;
+    }
+    // The sub-partitions of the stores with amplification factor have their own databases.
+    if (PartitionUtils.getAmplificationFactor(storeRepository, topicName) > 1) {
+      return false;
+    }
+    List<String> peerUrls = peerUrlsProvider.apply(topicName, partition);
+    if (peerUrls.isEmpty()) {
+      LOGGER.info("No peer is ready to serve partition {} of {} to bootstrap from", partition, topicName);
+      return false;
+    }
+    storageEngine = storageService
+        .openStore(storeConfig, () -> storageMetadataService.getStoreVersionState(storeConfig.getStoreVersionName()));
+    if (storageEngine.getType() != PersistenceType.ROCKS_DB) {
+      return false;
+    }
+
+    long startTimeMs = System.currentTimeMillis();
+    Path stagingDir = Paths.get(stagingBaseDir, topicName, String.valueOf(partition));
+    AtomicBoolean cancelled = new AtomicBoolean(false);
+    CompletableFuture<PeerSnapshotManifest> download;
+    try {
+      download = CompletableFuture.supplyAsync(
+          () -> downloadFromPeers(topicName, partition, peerUrls, stagingDir, cancelled),
+          downloadExecutor);
+    } catch (RejectedExecutionException e) {
+      LOGGER.warn("Failed to schedule the download of a snapshot of partition {} of {}", partition, topicName, e);
+      return false;
+    }
+    try {
+      PeerSnapshotManifest manifest = download.get(bootstrapTimeoutMs, TimeUnit.MILLISECONDS);
+      if (manifest == null) {
+        LOGGER.info(
+            "No peer could provide a snapshot of partition {} of {}, consuming the version topic",
+            partition,
+            topicName);
+        return false;
+      }
+      installSnapshot(topicName, partition, manifest, stagingDir, Paths.get(partitionDir));
+      LOGGER.info(
+          "Bootstrapped partition {} of {} from a peer snapshot in {} ms",
+          partition,
+          topicName,
+          System.currentTimeMillis() - startTimeMs);
+      return true;
+    } catch (TimeoutException e) {
+      LOGGER.warn(
+          "Timed out after {} ms waiting for a snapshot of partition {} of {}, consuming the version topic",
+          bootstrapTimeoutMs,
+          partition,
+          topicName);
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (Exception e) {
+      LOGGER.warn("Failed to bootstrap partition {} of {} from a peer snapshot", partition, topicName, e);
+      return false;
+    } finally {
+      // An abandoned download stops at its next chunk, and the staging dir is deleted once the download is over.
+      cancelled.set(true);
+      download.whenComplete((manifest, throwable) -> FileUtils.deleteQuietly(stagingDir.toFile()));
+    }
+  }
+
+  /**
+   * @return the manifest of the snapshot downloaded into the staging dir, or null if no peer could provide one
+   */
+  private PeerSnapshotManifest downloadFromPeers(
+      String topicName,
+      int partition,
+      List<String> peerUrls,
+      Path stagingDir,
+      AtomicBoolean cancelled) {
+    for (String peerUrl: peerUrls) {
+      if (cancelled.get()) {
+        return null;
+      }
+      try {
+        FileUtils.deleteDirectory(stagingDir.toFile());
+        Files.createDirectories(stagingDir);
+        PeerSnapshotManifest manifest = downloadFromPeer(peerUrl, topicName, partition, stagingDir, cancelled);
+        if (manifest != null) {
+          return manifest;
+        }
+      } catch (Exception e) {
+        LOGGER.warn("Failed to download the snapshot of partition {} of {} from {}", partition, topicName, peerUrl, e);
+      }
+    }
+    return null;
+  }
+
+  private PeerSnapshotManifest downloadFromPeer(
+      String peerUrl,
+      String topicName,
+      int partition,
+      Path stagingDir,
+      AtomicBoolean cancelled) throws Exception {
+    String manifestPath = QueryAction.SNAPSHOT.toString().toLowerCase() + "/" + topicName + "/" + partition;
+    try (HttpTransportClient client = transportClientFactory.apply(peerUrl)) {
+      TransportClientResponse response = client.get(manifestPath).get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      if (response == null) {
+        LOGGER.info("Peer {} has no snapshot of partition {} of {}", peerUrl, partition, topicName);
+        return null;
+      }
+      PeerSnapshotManifest manifest = OBJECT_MAPPER.readValue(response.getBody(), PeerSnapshotManifest.class);
+      if (!new OffsetRecord(manifest.getOffsetRecord(), partitionStateSerializer).isEndOfPushReceived()) {
+        return null;
+      }
+      LOGGER.info("Downloading snapshot {} from {}", manifest, peerUrl);
+      String snapshotPath = manifestPath + "/" + manifest.getSnapshotId() + "/";
+      for (PeerSnapshotManifest.SnapshotFile file: manifest.getFiles()) {
+        downloadFile(client, snapshotPath, file, stagingDir, cancelled);
+      }
+      return manifest;
+    }
+  }
+
+  private void installSnapshot(
+      String topicName,
+      int partition,
+      PeerSnapshotManifest manifest,
+      Path stagingDir,
+      Path partitionDir) throws IOException {
+    OffsetRecord offsetRecord = new OffsetRecord(manifest.getOffsetRecord(), partitionStateSerializer);
+    /**
+     * The partition dir is moved in place before the offset is recorded: if the server stops in between, the
+     * ingestion starts over from the beginning on top of the data, which is safe, whereas the other way around it
+     * would skip the data of the snapshot.
+     */
+    StoreVersionState storeVersionState =
+        storeVersionStateSerializer.deserialize(topicName, manifest.getStoreVersionState());
+    storageMetadataService
+        .computeStoreVersionState(topicName, previous -> previous != null ? previous : storeVersionState);
+    Files.createDirectories(partitionDir.getParent());
+    Files.move(stagingDir, partitionDir, StandardCopyOption.ATOMIC_MOVE);
+    storageMetadataService.put(topicName, partition, offsetRecord);
+    LOGGER.info(
+        "Installed snapshot {}, the ingestion resumes from offset {}",
+        manifest,
+        offsetRecord.getLocalVersionTopicOffset());
+  }
+
+  private void downloadFile(
+      HttpTransportClient client,
+      String snapshotPath,
+      PeerSnapshotManifest.SnapshotFile file,
+      Path stagingDir,
+      AtomicBoolean cancelled) throws Exception {
+    Path target = stagingDir.resolve(file.getName()).normalize();
+    if (!stagingDir.equals(target.getParent())) {
+      throw new VeniceException("Invalid snapshot file name: " + file.getName());
+    }
+    CRC32 crc32 = new CRC32();
+    long offset = 0;
+    try (OutputStream outputStream = Files.newOutputStream(target)) {
+      while (offset < file.getSize()) {
+        if (cancelled.get()) {
+          throw new VeniceException("The download of snapshot file " + file.getName() + " was abandoned");
+        }
+        TransportClientResponse response = client.get(snapshotPath + file.getName() + "/" + offset)
+            .get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (response == null || response.getBody() == null || response.getBody().length == 0) {
+          throw new VeniceException("Snapshot file " + file.getName() + " is not available anymore");
+        }
+        byte[] chunk = response.getBody();
+        bandwidthThrottler.maybeThrottle(chunk.length);
+        outputStream.write(chunk);
+        crc32.update(chunk, 0, chunk.length);
+        offset += chunk.length;
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to write snapshot file " + target, e);
+    }
+    if (offset != file.getSize() || crc32.getValue() != file.getCrc32()) {
+      throw new VeniceException(
+          "Snapshot file " + file.getName() + " is corrupted: " + offset + " bytes with checksum " + crc32.getValue()
+              + ", expected " + file.getSize() + " bytes with checksum " + file.getCrc32());
+    }
+  }
+
+  @Override
+  public void close() {
+    downloadExecutor.shutdownNow();
+  }
+}
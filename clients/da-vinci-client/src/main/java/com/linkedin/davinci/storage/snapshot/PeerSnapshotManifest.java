@@ -0,0 +1,122 @@
+package com.linkedin.davinci.storage.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Describes a snapshot of a partition served by {@link PeerSnapshotProvider}: the files of the RocksDB checkpoint, and
+ * the serialized {@link com.linkedin.venice.offsets.OffsetRecord} and
+ * {@link com.linkedin.venice.kafka.protocol.state.StoreVersionState} which the new replica needs to resume the
+ * ingestion right after the data of the snapshot. It is exchanged as JSON.
+ */
+public class PeerSnapshotManifest {
+  private String topicName;
+  private int partition;
+  private String snapshotId;
+  private List<SnapshotFile> files = new ArrayList<>();
+  private byte[] offsetRecord;
+  private byte[] storeVersionState;
+
+  public String getTopicName() {
+    return topicName;
+  }
+
+  public void setTopicName(String topicName) {
+    this.topicName = topicName;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public void setPartition(int partition) {
+    this.partition = partition;
+  }
+
+  public String getSnapshotId() {
+    return snapshotId;
+  }
+
+  public void setSnapshotId(String snapshotId) {
+    this.snapshotId = snapshotId;
+  }
+
+  public List<SnapshotFile> getFiles() {
+    return files;
+  }
+
+  public void setFiles(List<SnapshotFile> files) {
+    this.files = files;
+  }
+
+  public byte[] getOffsetRecord() {
+    return offsetRecord;
+  }
+
+  public void setOffsetRecord(byte[] offsetRecord) {
+    this.offsetRecord = offsetRecord;
+  }
+
+  public byte[] getStoreVersionState() {
+    return storeVersionState;
+  }
+
+  public void setStoreVersionState(byte[] storeVersionState) {
+    this.storeVersionState = storeVersionState;
+  }
+
+  public boolean containsFile(String fileName) {
+    for (SnapshotFile file: files) {
+      if (file.getName().equals(fileName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "PeerSnapshotManifest{topicName=" + topicName + ", partition=" + partition + ", snapshotId=" + snapshotId
+        + ", files=" + files.size() + "}";
+  }
+
+  public static class SnapshotFile {
+    private String name;
+    private long size;
+    private long crc32;
+
+    public SnapshotFile() {
+    }
+
+    public SnapshotFile(String name, long size, long crc32) {
+      this.name = name;
+      this.size = size;
+      this.crc32 = crc32;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public long getSize() {
+      return size;
+    }
+
+    public void setSize(long size) {
+      this.size = size;
+    }
+
+    public long getCrc32() {
+      return crc32;
+    }
+
+    public void setCrc32(long crc32) {
+      this.crc32 = crc32;
+    }
+  }
+}
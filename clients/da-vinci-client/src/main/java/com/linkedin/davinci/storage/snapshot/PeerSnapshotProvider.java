@@ -0,0 +1,312 @@
+package com.linkedin.davinci.storage.snapshot;
+
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.Time;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Serves snapshots of the local partitions to the peers which bootstrap a new replica of them, check
+ * {@link PeerSnapshotBootstrapper}.
+ *
+ * A snapshot is a RocksDB checkpoint created in {@link VeniceServerConfig#getPartitionSnapshotDir()}, so it mostly
+ * hard-links the live SST files and doesn't change with the subsequent writes. The same snapshot is handed to all the
+ * peers asking for the partition within {@link VeniceServerConfig#getPeerSnapshotMaxAgeMs()} of its creation, and it is
+ * deleted once no peer has read it for as long, so that a download in progress is not cut short by a newer snapshot.
+ *
+ * Creating a snapshot and checksumming its files takes a while, so it runs on a few dedicated threads rather than on
+ * the read threads, and the concurrent requests for the same partition wait for the same snapshot. The expired
+ * snapshots are deleted by a periodic task.
+ *
+ * Only the partitions which received the end of push can be served: the batch ingestion writes in 'deferredWrite'
+ * mode, which can't be checkpointed.
+ */
+public class PeerSnapshotProvider implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(PeerSnapshotProvider.class);
+  static final String PEER_SNAPSHOT_DIR = "peer";
+  /** The files are served in chunks, since the responses of the storage node are fully buffered. */
+  static final int MAX_CHUNK_SIZE = 4 * BYTES_PER_MB;
+  private static final int SNAPSHOT_CREATION_THREADS = 2;
+  /** The snapshot requests above this limit fail right away, and the peers try another replica. */
+  private static final int MAX_PENDING_SNAPSHOT_CREATIONS = 16;
+  private static final long MAX_EXPIRATION_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final StorageEngineRepository storageEngineRepository;
+  private final StorageMetadataService storageMetadataService;
+  private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer =
+      AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+  private final String snapshotBaseDir;
+  private final long maxSnapshotAgeMs;
+  private final Time time;
+  private final ThreadPoolExecutor snapshotCreationExecutor;
+  private final ScheduledExecutorService expirationExecutor =
+      Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("PeerSnapshotExpiration"));
+  /** The snapshots being served, by snapshot dir. Guarded by this. */
+  private final Map<String, PeerSnapshot> snapshots = new HashMap<>();
+  /** The snapshots being created, by partition snapshot dir. Guarded by this. */
+  private final Map<String, CompletableFuture<PeerSnapshotManifest>> pendingSnapshots = new HashMap<>();
+
+  public PeerSnapshotProvider(
+      VeniceServerConfig serverConfig,
+      StorageEngineRepository storageEngineRepository,
+      StorageMetadataService storageMetadataService,
+      Time time) {
+    this.storageEngineRepository = storageEngineRepository;
+    this.storageMetadataService = storageMetadataService;
+    this.snapshotBaseDir = serverConfig.getPartitionSnapshotDir() + File.separator + PEER_SNAPSHOT_DIR;
+    this.maxSnapshotAgeMs = serverConfig.getPeerSnapshotMaxAgeMs();
+    this.time = time;
+    this.snapshotCreationExecutor = new ThreadPoolExecutor(
+        SNAPSHOT_CREATION_THREADS,
+        SNAPSHOT_CREATION_THREADS,
+        0,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(MAX_PENDING_SNAPSHOT_CREATIONS),
+        new DaemonThreadFactory("PeerSnapshotCreation"));
+    // The snapshots left by a previous run of the server are not tracked anymore.
+    FileUtils.deleteQuietly(new File(snapshotBaseDir));
+    long expirationIntervalMs = Math.max(1, Math.min(maxSnapshotAgeMs, MAX_EXPIRATION_INTERVAL_MS));
+    expirationExecutor.scheduleWithFixedDelay(
+        this::removeExpiredSnapshots,
+        expirationIntervalMs,
+        expirationIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @return a future of the manifest of a snapshot of the given partition, which completes with null if the partition
+   *         can't be served
+   */
+  public CompletableFuture<PeerSnapshotManifest> getManifest(String topicName, int partition) {
+    String partitionSnapshotDir = RocksDBUtils.composeSnapshotPartitionDir(snapshotBaseDir, topicName, partition);
+    CompletableFuture<PeerSnapshotManifest> pendingSnapshot;
+    synchronized (this) {
+      long now = time.getMilliseconds();
+      for (PeerSnapshot snapshot: snapshots.values()) {
+        PeerSnapshotManifest manifest = snapshot.manifest;
+        if (manifest.getTopicName().equals(topicName) && manifest.getPartition() == partition
+            && now - snapshot.creationTimeMs < maxSnapshotAgeMs) {
+          snapshot.lastAccessTimeMs = now;
+          return CompletableFuture.completedFuture(manifest);
+        }
+      }
+      pendingSnapshot = pendingSnapshots.get(partitionSnapshotDir);
+      if (pendingSnapshot != null) {
+        return pendingSnapshot;
+      }
+      pendingSnapshot = new CompletableFuture<>();
+      pendingSnapshots.put(partitionSnapshotDir, pendingSnapshot);
+    }
+
+    CompletableFuture<PeerSnapshotManifest> future = pendingSnapshot;
+    try {
+      snapshotCreationExecutor.execute(() -> {
+        try {
+          PeerSnapshot snapshot = createSnapshot(topicName, partition);
+          synchronized (this) {
+            if (snapshot != null) {
+              snapshots.put(composeSnapshotDir(topicName, partition, snapshot.manifest.getSnapshotId()), snapshot);
+            }
+            pendingSnapshots.remove(partitionSnapshotDir);
+          }
+          future.complete(snapshot == null ? null : snapshot.manifest);
+        } catch (Throwable e) {
+          synchronized (this) {
+            pendingSnapshots.remove(partitionSnapshotDir);
+          }
+          future.completeExceptionally(e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      synchronized (this) {
+        pendingSnapshots.remove(partitionSnapshotDir);
+      }
+      future.completeExceptionally(
+          new VeniceException(
+              "Too many snapshots are being created, rejected partition " + partition + " of " + topicName));
+    }
+    return future;
+  }
+
+  /**
+   * Creates a snapshot of the given partition, which is not visible to the peers until it is added to the snapshots.
+   *
+   * @return the new snapshot, or null if the partition can't be served
+   */
+  private PeerSnapshot createSnapshot(String topicName, int partition) throws IOException {
+    AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(topicName);
+    if (storageEngine == null || storageEngine.getType() != PersistenceType.ROCKS_DB
+        || !storageEngine.containsPartition(partition)) {
+      return null;
+    }
+    /**
+     * The offset is read before the checkpoint is created, so the data of the snapshot is at least as recent as the
+     * offset: the new replica may apply a few records twice, but it never misses any.
+     */
+    OffsetRecord offsetRecord = storageMetadataService.getLastOffset(topicName, partition);
+    StoreVersionState storeVersionState = storageMetadataService.getStoreVersionState(topicName);
+    if (!offsetRecord.isEndOfPushReceived() || storeVersionState == null) {
+      LOGGER.info("No snapshot to serve for partition {} of {} before the end of push", partition, topicName);
+      return null;
+    }
+
+    long now = time.getMilliseconds();
+    String snapshotId = String.valueOf(now);
+    String snapshotDir = composeSnapshotDir(topicName, partition, snapshotId);
+    Files.createDirectories(Paths.get(snapshotDir).getParent());
+    try {
+      storageEngine.createSnapshot(partition, snapshotDir);
+      PeerSnapshotManifest manifest = new PeerSnapshotManifest();
+      manifest.setTopicName(topicName);
+      manifest.setPartition(partition);
+      manifest.setSnapshotId(snapshotId);
+      manifest.setFiles(listFiles(snapshotDir));
+      manifest.setOffsetRecord(offsetRecord.toBytes());
+      manifest.setStoreVersionState(storeVersionStateSerializer.serialize(topicName, storeVersionState));
+      LOGGER.info("Created snapshot {} at offset {}", manifest, offsetRecord.getLocalVersionTopicOffset());
+      return new PeerSnapshot(manifest, now);
+    } catch (Exception e) {
+      FileUtils.deleteQuietly(new File(snapshotDir));
+      throw e;
+    }
+  }
+
+  /**
+   * @return up to {@link #MAX_CHUNK_SIZE} bytes of the given file of the snapshot starting at the given offset, or null
+   *         if the snapshot has expired
+   */
+  public ByteBuffer readFileChunk(String topicName, int partition, String snapshotId, String fileName, long offset)
+      throws IOException {
+    String snapshotDir = composeSnapshotDir(topicName, partition, snapshotId);
+    synchronized (this) {
+      PeerSnapshot snapshot = snapshots.get(snapshotDir);
+      // Only the files of the manifest can be read, which rules out any path outside the snapshot dir.
+      if (snapshot == null || !snapshot.manifest.containsFile(fileName)) {
+        return null;
+      }
+      snapshot.lastAccessTimeMs = time.getMilliseconds();
+    }
+    try (FileChannel channel = FileChannel.open(Paths.get(snapshotDir, fileName), StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (offset < 0 || offset > fileSize) {
+        throw new VeniceException("Invalid offset " + offset + " for file " + fileName + " of size " + fileSize);
+      }
+      ByteBuffer chunk = ByteBuffer.allocate((int) Math.min(MAX_CHUNK_SIZE, fileSize - offset));
+      while (chunk.hasRemaining() && channel.read(chunk, offset + chunk.position()) >= 0) {
+        // Keep reading until the chunk is full
+      }
+      chunk.flip();
+      return chunk;
+    }
+  }
+
+  /**
+   * Deletes the snapshots which no peer has read for {@link VeniceServerConfig#getPeerSnapshotMaxAgeMs()}.
+   */
+  // Visible for testing
+  void removeExpiredSnapshots() {
+    List<Map.Entry<String, PeerSnapshot>> expiredSnapshots = new ArrayList<>();
+    synchronized (this) {
+      long now = time.getMilliseconds();
+      Iterator<Map.Entry<String, PeerSnapshot>> iterator = snapshots.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, PeerSnapshot> entry = iterator.next();
+        if (now - entry.getValue().lastAccessTimeMs >= maxSnapshotAgeMs) {
+          expiredSnapshots.add(entry);
+          iterator.remove();
+        }
+      }
+    }
+    // The snapshots are not visible anymore, so they are deleted without holding the lock.
+    for (Map.Entry<String, PeerSnapshot> entry: expiredSnapshots) {
+      LOGGER.info("Deleting expired snapshot {}", entry.getValue().manifest);
+      FileUtils.deleteQuietly(new File(entry.getKey()));
+    }
+  }
+
+  @Override
+  public void close() {
+    expirationExecutor.shutdownNow();
+    snapshotCreationExecutor.shutdownNow();
+  }
+
+  private String composeSnapshotDir(String topicName, int partition, String snapshotId) {
+    return RocksDBUtils.composeSnapshotPartitionDir(snapshotBaseDir, topicName, partition) + File.separator
+        + snapshotId;
+  }
+
+  private static List<PeerSnapshotManifest.SnapshotFile> listFiles(String snapshotDir) throws IOException {
+    List<PeerSnapshotManifest.SnapshotFile> files = new ArrayList<>();
+    File[] snapshotFiles = new File(snapshotDir).listFiles();
+    if (snapshotFiles == null) {
+      throw new VeniceException("Snapshot dir " + snapshotDir + " doesn't exist");
+    }
+    for (File file: snapshotFiles) {
+      if (file.isFile()) {
+        files.add(new PeerSnapshotManifest.SnapshotFile(file.getName(), file.length(), computeCrc32(file)));
+      }
+    }
+    return files;
+  }
+
+  static long computeCrc32(File file) throws IOException {
+    CRC32 crc32 = new CRC32();
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+      int length;
+      while ((length = inputStream.read(buffer)) > 0) {
+        crc32.update(buffer, 0, length);
+      }
+    }
+    return crc32.getValue();
+  }
+
+  private static class PeerSnapshot {
+    private final PeerSnapshotManifest manifest;
+    private final long creationTimeMs;
+    private long lastAccessTimeMs;
+
+    PeerSnapshot(PeerSnapshotManifest manifest, long creationTimeMs) {
+      this.manifest = manifest;
+      this.creationTimeMs = creationTimeMs;
+      this.lastAccessTimeMs = creationTimeMs;
+    }
+  }
+}
@@ -404,6 +404,16 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     }
   }
 
+  public synchronized void ingestBulkLoadSSTFiles(int partitionId, String bulkLoadPartitionDir) {
+    LOGGER.info("Ingest bulk-load SST files from: {} for partition: {}", bulkLoadPartitionDir, partitionId);
+    getPartitionOrThrow(partitionId).ingestBulkLoadSSTFiles(bulkLoadPartitionDir);
+  }
+
+  public synchronized void createSnapshot(int partitionId, String snapshotDir) {
+    LOGGER.info("Create snapshot in: {} for partition: {}", snapshotDir, partitionId);
+    getPartitionOrThrow(partitionId).createSnapshot(snapshotDir);
+  }
+
   private void executeWithSafeGuard(int partitionId, Runnable runnable) {
     executeWithSafeGuard(partitionId, () -> {
       runnable.run();
@@ -497,6 +507,13 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.multiGet(keys);
+    });
+  }
+
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -504,6 +521,18 @@ public abstract class AbstractStorageEngine<Partition extends AbstractStoragePar
     });
   }
 
+  public byte[] getByKeyPrefix(
+      int partitionId,
+      byte[] partialKey,
+      byte[] startAfterKey,
+      int maxRecordCount,
+      BytesStreamingCallback bytesStreamingCallback) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.getByKeyPrefix(partialKey, startAfterKey, maxRecordCount, bytesStreamingCallback);
+    });
+  }
+
   public void delete(int partitionId, byte[] key) throws VeniceException {
     executeWithSafeGuard(partitionId, () -> {
       AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
@@ -4,6 +4,8 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -60,6 +62,19 @@ public abstract class AbstractStoragePartition {
 
   public abstract byte[] get(ByteBuffer key);
 
+  /**
+   * Get the values of a batch of keys from the partition database.
+   * @return the values in the order of the given keys, with null for the keys which do not exist.
+   */
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    // Naive default impl... only storage engines that can share work across the lookups implement it.
+    List<byte[]> values = new ArrayList<>(keys.size());
+    for (byte[] key: keys) {
+      values.add(get(key));
+    }
+    return values;
+  }
+
   /**
    * Populate provided callback with key-value pairs from the partition database where the keys have provided prefix.
    * If prefix is null, callback will be populated will all key-value pairs from the partition database.
@@ -68,6 +83,22 @@ public abstract class AbstractStoragePartition {
    */
   public abstract void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback);
 
+  /**
+   * Populate provided callback with at most {@code maxRecordCount} key-value pairs from the partition database, in key
+   * order, where the keys have provided prefix and come strictly after {@code startAfterKey} if it is not null, so that
+   * the scan of a large prefix can be split into bounded pages.
+   *
+   * @return the key of the last record passed to the callback if more records with provided prefix follow it, or null
+   *         if there is no more record with provided prefix
+   */
+  public byte[] getByKeyPrefix(
+      byte[] keyPrefix,
+      byte[] startAfterKey,
+      int maxRecordCount,
+      BytesStreamingCallback callback) {
+    throw new VeniceUnsupportedOperationException("getByKeyPrefix with a record limit");
+  }
+
   /**
    * Delete a key from the partition database
    */
@@ -117,6 +148,21 @@ public abstract class AbstractStoragePartition {
   public void endBatchWrite() {
   }
 
+  /**
+   * Ingest the SST files built by a bulk-load push for this partition, check
+   * {@link com.linkedin.venice.kafka.protocol.StartOfPush#bulkLoadLocation}.
+   */
+  public void ingestBulkLoadSSTFiles(String bulkLoadPartitionDir) {
+    throw new VeniceUnsupportedOperationException("ingestBulkLoadSSTFiles");
+  }
+
+  /**
+   * Create a consistent point-in-time snapshot of this partition in the given directory, which must not exist yet.
+   */
+  public void createSnapshot(String snapshotDir) {
+    throw new VeniceUnsupportedOperationException("createSnapshot");
+  }
+
   /**
    * Get the partition database size in bytes
    * @return partition database size
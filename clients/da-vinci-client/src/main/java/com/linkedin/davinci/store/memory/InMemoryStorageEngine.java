@@ -11,18 +11,29 @@ import java.util.Set;
 
 
 /**
- * A simple non-persistent, in-memory store.
+ * A simple non-persistent, in-memory store, whose partitions keep their records in direct memory.
  */
 public class InMemoryStorageEngine extends AbstractStorageEngine<InMemoryStoragePartition> {
+  private final OffHeapMemoryBudget memoryBudget;
+
   public InMemoryStorageEngine(VeniceStoreVersionConfig storeDef) {
     this(storeDef.getStoreVersionName());
   }
 
+  public InMemoryStorageEngine(VeniceStoreVersionConfig storeDef, OffHeapMemoryBudget memoryBudget) {
+    this(storeDef.getStoreVersionName(), memoryBudget);
+  }
+
   public InMemoryStorageEngine(String versionName) {
+    this(versionName, OffHeapMemoryBudget.unbounded());
+  }
+
+  public InMemoryStorageEngine(String versionName, OffHeapMemoryBudget memoryBudget) {
     super(
         versionName,
         AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
         AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    this.memoryBudget = memoryBudget;
     restoreStoragePartitions();
   }
 
@@ -39,7 +50,7 @@ public class InMemoryStorageEngine extends AbstractStorageEngine<InMemoryStorage
 
   @Override
   public InMemoryStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
-    return new InMemoryStoragePartition(storagePartitionConfig.getPartitionId());
+    return new InMemoryStoragePartition(storagePartitionConfig.getPartitionId(), memoryBudget);
   }
 
   @Override
@@ -12,9 +12,10 @@ import java.util.Set;
 
 public class InMemoryStorageEngineFactory extends StorageEngineFactory {
   private final Object lock = new Object();
+  private final OffHeapMemoryBudget memoryBudget;
 
   public InMemoryStorageEngineFactory(VeniceServerConfig serverConfig) {
-
+    this.memoryBudget = new OffHeapMemoryBudget(serverConfig.getInMemoryStorageEngineMemoryBudgetInBytes());
   }
 
   @Override
@@ -23,7 +24,7 @@ public class InMemoryStorageEngineFactory extends StorageEngineFactory {
     verifyPersistenceType(storeConfig);
     synchronized (lock) {
       try {
-        return new InMemoryStorageEngine(storeConfig);
+        return new InMemoryStorageEngine(storeConfig, memoryBudget);
       } catch (Exception e) {
         throw new StorageInitializationException(e);
       }
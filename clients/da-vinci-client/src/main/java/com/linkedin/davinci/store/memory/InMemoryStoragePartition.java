@@ -4,16 +4,13 @@ import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.PersistenceFailureException;
-import com.linkedin.venice.utils.ByteArray;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 
 /**
- * An in-memory hashmap implementation of a storage partition
+ * An in-memory implementation of a storage partition, backed by an {@link OffHeapHashTable}.
  *
  *
  *Assumptions:
@@ -22,31 +19,29 @@ import java.util.concurrent.ConcurrentMap;
  * 2. Concurrent reads may be stale if writes/deletes are going on. But the consistency model is also designed to be eventual.
  * Since "read your own writes semantics" is not guaranteed this eventual consistency is tolerable.
  *
- * Even though there will be one writer and 1 or more readers, we may still need a concurrentHashMap to avoid
- * ConcurrentModicfictionException thrown from the iterators
+ * The records are kept in direct memory rather than in a map of byte arrays on the Java heap, so that a large
+ * partition neither costs several heap objects per record nor lengthens the GC pauses. The allocations are bounded by
+ * the {@link OffHeapMemoryBudget} shared by the partitions of the same factory.
  */
 public class InMemoryStoragePartition extends AbstractStoragePartition {
-  private final ConcurrentMap<ByteArray, ByteArray> partitionDb;
-  private long partitionSize = 0;
+  private final OffHeapHashTable partitionDb;
 
   public InMemoryStoragePartition(Integer partitionId) {
+    this(partitionId, OffHeapMemoryBudget.unbounded());
+  }
+
+  public InMemoryStoragePartition(Integer partitionId, OffHeapMemoryBudget memoryBudget) {
     super(partitionId);
-    partitionDb = new ConcurrentHashMap<>();
+    partitionDb = new OffHeapHashTable(memoryBudget, OffHeapHashTable.DEFAULT_SLAB_SIZE);
   }
 
   public void put(byte[] key, byte[] value) {
-    ByteArray k = new ByteArray(key);
-    ByteArray v = new ByteArray(value);
-    partitionSize += key.length;
-    partitionSize += value.length;
-    partitionDb.put(k, v);
+    partitionDb.put(key, ByteBuffer.wrap(value));
   }
 
   @Override
   public void put(byte[] key, ByteBuffer valueBuffer) {
-    byte[] value = new byte[valueBuffer.remaining()];
-    System.arraycopy(valueBuffer.array(), valueBuffer.position(), value, 0, valueBuffer.remaining());
-    put(key, value);
+    partitionDb.put(key, valueBuffer);
   }
 
   @Override
@@ -55,11 +50,7 @@ public class InMemoryStoragePartition extends AbstractStoragePartition {
   }
 
   public byte[] get(byte[] key) throws PersistenceFailureException {
-    ByteArray k = new ByteArray(key);
-    if (partitionDb.containsKey(k)) {
-      return partitionDb.get(k).get();
-    }
-    return null;
+    return partitionDb.get(key);
   }
 
   @Override
@@ -69,31 +60,17 @@ public class InMemoryStoragePartition extends AbstractStoragePartition {
 
   @Override
   public byte[] get(ByteBuffer key) {
-    ByteArray keyArray = new ByteArray(key.array());
-    ByteArray byteArray = partitionDb.get(keyArray);
-    if (byteArray != null) {
-      return byteArray.get();
-    }
-    return null;
+    return get(key.array());
   }
 
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
-    for (Map.Entry<ByteArray, ByteArray> entry: partitionDb.entrySet()) {
-      if (keyPrefix == null || entry.getKey().startsWith(keyPrefix)) {
-        callback.onRecordReceived(entry.getKey().get(), entry.getValue().get());
-      }
-    }
+    partitionDb.scan(keyPrefix, callback::onRecordReceived);
     callback.onCompletion();
   }
 
   public void delete(byte[] key) {
-    ByteArray k = new ByteArray(key);
-    ByteArray v = partitionDb.remove(k);
-    partitionSize -= k.length();
-    if (v != null) {
-      partitionSize -= v.length();
-    }
+    partitionDb.delete(key);
   }
 
   @Override
@@ -104,12 +81,13 @@ public class InMemoryStoragePartition extends AbstractStoragePartition {
 
   @Override
   public void drop() {
-    partitionDb.clear();
+    partitionDb.close();
   }
 
   @Override
   public void close() {
-    // Nothing to do here, since it is in memory implementation
+    // The partition can't be reopened, so its memory is released right away instead of waiting for the GC.
+    partitionDb.close();
   }
 
   @Override
@@ -120,6 +98,13 @@ public class InMemoryStoragePartition extends AbstractStoragePartition {
 
   @Override
   public long getPartitionSizeInBytes() {
-    return partitionSize;
+    return partitionDb.getLiveBytes();
+  }
+
+  /**
+   * @return the direct memory held by this partition, including the index and the space not reclaimed yet.
+   */
+  public long getAllocatedBytes() {
+    return partitionDb.getAllocatedBytes();
   }
 }
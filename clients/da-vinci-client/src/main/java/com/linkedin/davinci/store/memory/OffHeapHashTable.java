@@ -0,0 +1,695 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An open-addressing hash table whose records and slots live in direct memory, so that the heap only holds a few
+ * objects per table regardless of the number of records.
+ *
+ * Records are encoded as: key length (int), value length (int), key bytes, value bytes, and are appended to slabs by a
+ * bump allocator. The slabs double in size from {@link #MIN_SLAB_SIZE} up to {@code slabSize} bytes, and a record
+ * larger than a slab gets a dedicated slab. The address of a record is its slab index in the upper 32 bits and its
+ * offset in the lower 32 bits.
+ *
+ * The slots use linear probing and hold the address and the hash of a record in two parallel direct buffers, which are
+ * only allocated by the first write. Since direct buffers are only freed once they are garbage collected, tables which
+ * are created and dropped around a few records, like the buffers of the change log consumer, only allocate what they
+ * hold. Deletes shift the following slots backward instead of leaving tombstones.
+ *
+ * Overwritten and deleted records become garbage in their slabs, and the live records are compacted into new slabs
+ * once half of the slab bytes are garbage, or when an allocation doesn't fit in the {@link OffHeapMemoryBudget}. The
+ * compaction releases every old slab as soon as its live records are copied, so it only needs room for one more slab
+ * in the budget.
+ *
+ * Prefix scans use an ordered index of the record addresses, which is built on demand and invalidated by writes.
+ *
+ * A single read-write lock guards the table: lookups run concurrently, while writes, resizes and compactions are
+ * exclusive. Once the table is closed, its reads and writes fail with a {@link VeniceException}.
+ */
+class OffHeapHashTable {
+  private static final Logger LOGGER = LogManager.getLogger(OffHeapHashTable.class);
+
+  static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+  private static final long EMPTY = -1L;
+  private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final int SLOT_SIZE = Long.BYTES + Integer.BYTES;
+  private static final int INITIAL_CAPACITY = 16;
+  static final int MIN_SLAB_SIZE = 4 * 1024;
+  // The largest slot buffer, of MAX_CAPACITY longs, must fit in an int number of bytes.
+  private static final int MAX_CAPACITY = 1 << 27;
+  private static final int SCAN_BATCH_SIZE = 1024;
+
+  private final OffHeapMemoryBudget budget;
+  private final int slabSize;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private List<ByteBuffer> slabs = new ArrayList<>();
+  private ByteBuffer currentSlab;
+  private int currentSlabIndex;
+  private int currentSlabPosition;
+  private long slabBytes;
+  private long garbageBytes;
+  private long minGarbageBytesToCompact;
+
+  private LongBuffer slotAddresses;
+  private IntBuffer slotHashes;
+  private int capacity;
+  private int mask;
+  private int size;
+  private volatile long liveBytes;
+
+  private volatile long[] sortedAddresses;
+  private boolean closed;
+
+  OffHeapHashTable(OffHeapMemoryBudget budget, int slabSize) {
+    this.budget = budget;
+    this.slabSize = slabSize;
+  }
+
+  private static long address(int slabIndex, int offset) {
+    return ((long) slabIndex << 32) | offset;
+  }
+
+  private static int slabIndex(long address) {
+    return (int) (address >>> 32);
+  }
+
+  private ByteBuffer slab(long address) {
+    return slabs.get(slabIndex(address));
+  }
+
+  private static int offset(long address) {
+    return (int) address;
+  }
+
+  private static int hash(byte[] key) {
+    // Spread the bits of the array hash code, since the low bits select the slot.
+    int h = Arrays.hashCode(key);
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    return h ^ (h >>> 16);
+  }
+
+  private void reserve(long bytes) {
+    if (!budget.tryReserve(bytes)) {
+      throw new VeniceException(
+          "Off-heap memory budget of " + budget.getLimitInBytes() + " bytes is exhausted, " + budget.getUsedBytes()
+              + " bytes are in use. Failed to allocate " + bytes + " more bytes.");
+    }
+  }
+
+  /**
+   * Allocates a direct buffer accounted in the memory budget, whose reservation is given back if the allocation fails.
+   */
+  private ByteBuffer allocateDirect(long bytes) {
+    if (bytes > Integer.MAX_VALUE) {
+      throw new VeniceException("Can't allocate a direct buffer of " + bytes + " bytes");
+    }
+    reserve(bytes);
+    try {
+      return ByteBuffer.allocateDirect((int) bytes);
+    } catch (OutOfMemoryError e) {
+      budget.release(bytes);
+      throw new VeniceException("Failed to allocate " + bytes + " bytes of direct memory", e);
+    }
+  }
+
+  private void allocateSlots(int newCapacity) {
+    long addressBytes = (long) newCapacity * Long.BYTES;
+    LongBuffer newAddresses = allocateDirect(addressBytes).asLongBuffer();
+    IntBuffer newHashes;
+    try {
+      newHashes = allocateDirect((long) newCapacity * Integer.BYTES).asIntBuffer();
+    } catch (VeniceException e) {
+      budget.release(addressBytes);
+      throw e;
+    }
+    for (int i = 0; i < newCapacity; i++) {
+      newAddresses.put(i, EMPTY);
+    }
+    slotAddresses = newAddresses;
+    slotHashes = newHashes;
+    capacity = newCapacity;
+    mask = newCapacity - 1;
+  }
+
+  private void ensureCapacity(int expectedSize) {
+    if (capacity == 0) {
+      allocateSlots(INITIAL_CAPACITY);
+    }
+    if (expectedSize <= capacity - (capacity >>> 2)) {
+      return;
+    }
+    if (capacity >= MAX_CAPACITY) {
+      throw new VeniceException("Off-heap hash table can't hold more than " + size + " records");
+    }
+    LongBuffer oldAddresses = slotAddresses;
+    IntBuffer oldHashes = slotHashes;
+    int oldCapacity = capacity;
+    allocateSlots(capacity << 1);
+    for (int i = 0; i < oldCapacity; i++) {
+      long address = oldAddresses.get(i);
+      if (address != EMPTY) {
+        int slot = oldHashes.get(i) & mask;
+        while (slotAddresses.get(slot) != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        slotAddresses.put(slot, address);
+        slotHashes.put(slot, oldHashes.get(i));
+      }
+    }
+    budget.release((long) oldCapacity * SLOT_SIZE);
+  }
+
+  private int addSlab(int bytes) {
+    slabs.add(allocateDirect(bytes));
+    slabBytes += bytes;
+    return slabs.size() - 1;
+  }
+
+  private void releaseSlab(int slabIndex) {
+    ByteBuffer slab = slabs.set(slabIndex, null);
+    if (slab != null) {
+      slabBytes -= slab.capacity();
+      budget.release(slab.capacity());
+    }
+  }
+
+  private long allocateRecord(int recordSize) {
+    if (recordSize > slabSize) {
+      return address(addSlab(recordSize), 0);
+    }
+    if (currentSlab == null || currentSlab.capacity() - currentSlabPosition < recordSize) {
+      long nextSlabSize = currentSlab == null ? MIN_SLAB_SIZE : 2L * currentSlab.capacity();
+      int newSlabIndex = addSlab((int) Math.min(slabSize, Math.max(recordSize, nextSlabSize)));
+      if (currentSlab != null) {
+        // The tail of the current slab is never used.
+        garbageBytes += currentSlab.capacity() - currentSlabPosition;
+      }
+      currentSlabIndex = newSlabIndex;
+      currentSlab = slabs.get(currentSlabIndex);
+      currentSlabPosition = 0;
+    }
+    long address = address(currentSlabIndex, currentSlabPosition);
+    currentSlabPosition += recordSize;
+    return address;
+  }
+
+  private long allocateRecordOrCompact(int recordSize) {
+    try {
+      return allocateRecord(recordSize);
+    } catch (VeniceException e) {
+      if (garbageBytes == 0) {
+        throw e;
+      }
+      // Even a partial compaction might free enough memory for the record, otherwise the allocation fails again.
+      compact();
+      return allocateRecord(recordSize);
+    }
+  }
+
+  private int recordSize(long address) {
+    ByteBuffer slab = slab(address);
+    int offset = offset(address);
+    return RECORD_HEADER_SIZE + slab.getInt(offset) + slab.getInt(offset + Integer.BYTES);
+  }
+
+  private boolean keyEquals(long address, byte[] key) {
+    ByteBuffer slab = slab(address);
+    int offset = offset(address);
+    if (slab.getInt(offset) != key.length) {
+      return false;
+    }
+    int keyOffset = offset + RECORD_HEADER_SIZE;
+    for (int i = 0; i < key.length; i++) {
+      if (slab.get(keyOffset + i) != key[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the slot of the key, or {@code -(insertion slot + 1)} if the key doesn't exist.
+   */
+  private int findSlot(byte[] key, int hash) {
+    int slot = hash & mask;
+    while (true) {
+      long address = slotAddresses.get(slot);
+      if (address == EMPTY) {
+        return -(slot + 1);
+      }
+      if (slotHashes.get(slot) == hash && keyEquals(address, key)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  /**
+   * Removes the given slot and shifts back the following slots of the same probe sequence, so that lookups never
+   * need tombstones.
+   */
+  private void removeSlot(int slot) {
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      long address = slotAddresses.get(next);
+      if (address == EMPTY) {
+        break;
+      }
+      int home = slotHashes.get(next) & mask;
+      // The entry can fill the hole unless its home slot lies cyclically in (hole, next].
+      boolean homeBetween = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+      if (!homeBetween) {
+        slotAddresses.put(hole, address);
+        slotHashes.put(hole, slotHashes.get(next));
+        hole = next;
+      }
+    }
+    slotAddresses.put(hole, EMPTY);
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new VeniceException("Off-heap hash table is already closed");
+    }
+  }
+
+  void put(byte[] key, ByteBuffer value) {
+    int valueLength = value.remaining();
+    int hash = hash(key);
+    lock.writeLock().lock();
+    try {
+      ensureOpen();
+      ensureCapacity(size + 1);
+      long address = allocateRecordOrCompact(RECORD_HEADER_SIZE + key.length + valueLength);
+      ByteBuffer slab = slab(address);
+      int offset = offset(address);
+      slab.putInt(offset, key.length);
+      slab.putInt(offset + Integer.BYTES, valueLength);
+      ByteBuffer destination = slab.duplicate();
+      destination.position(offset + RECORD_HEADER_SIZE);
+      destination.put(key);
+      destination.put(value.duplicate());
+
+      int slot = findSlot(key, hash);
+      if (slot >= 0) {
+        long oldAddress = slotAddresses.get(slot);
+        int oldRecordSize = recordSize(oldAddress);
+        garbageBytes += oldRecordSize;
+        liveBytes -= oldRecordSize - RECORD_HEADER_SIZE;
+        slotAddresses.put(slot, address);
+      } else {
+        slot = -slot - 1;
+        slotAddresses.put(slot, address);
+        slotHashes.put(slot, hash);
+        size++;
+      }
+      liveBytes += key.length + valueLength;
+      sortedAddresses = null;
+      maybeCompact();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void delete(byte[] key) {
+    int hash = hash(key);
+    lock.writeLock().lock();
+    try {
+      ensureOpen();
+      if (size == 0) {
+        return;
+      }
+      int slot = findSlot(key, hash);
+      if (slot < 0) {
+        return;
+      }
+      int recordSize = recordSize(slotAddresses.get(slot));
+      garbageBytes += recordSize;
+      liveBytes -= recordSize - RECORD_HEADER_SIZE;
+      size--;
+      removeSlot(slot);
+      sortedAddresses = null;
+      maybeCompact();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @return a copy of the value of the key, or null if the key doesn't exist.
+   */
+  byte[] get(byte[] key) {
+    int hash = hash(key);
+    lock.readLock().lock();
+    try {
+      ensureOpen();
+      if (size == 0) {
+        return null;
+      }
+      int slot = findSlot(key, hash);
+      return slot < 0 ? null : readValue(slotAddresses.get(slot));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private byte[] readKey(long address) {
+    ByteBuffer source = slab(address).duplicate();
+    int offset = offset(address);
+    byte[] key = new byte[source.getInt(offset)];
+    source.position(offset + RECORD_HEADER_SIZE);
+    source.get(key);
+    return key;
+  }
+
+  private byte[] readValue(long address) {
+    ByteBuffer source = slab(address).duplicate();
+    int offset = offset(address);
+    int keyLength = source.getInt(offset);
+    byte[] value = new byte[source.getInt(offset + Integer.BYTES)];
+    source.position(offset + RECORD_HEADER_SIZE + keyLength);
+    source.get(value);
+    return value;
+  }
+
+  /**
+   * Compares the key of the record at the given address with the given key in unsigned lexicographic order.
+   */
+  private int compareKey(long address, byte[] key) {
+    ByteBuffer slab = slab(address);
+    int offset = offset(address);
+    int keyLength = slab.getInt(offset);
+    int commonLength = Math.min(keyLength, key.length);
+    for (int i = 0; i < commonLength; i++) {
+      int diff = (slab.get(offset + RECORD_HEADER_SIZE + i) & 0xff) - (key[i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return keyLength - key.length;
+  }
+
+  private int compareKeys(long address1, long address2) {
+    ByteBuffer slab1 = slab(address1);
+    ByteBuffer slab2 = slab(address2);
+    int keyOffset1 = offset(address1) + RECORD_HEADER_SIZE;
+    int keyOffset2 = offset(address2) + RECORD_HEADER_SIZE;
+    int keyLength1 = slab1.getInt(offset(address1));
+    int keyLength2 = slab2.getInt(offset(address2));
+    int commonLength = Math.min(keyLength1, keyLength2);
+    for (int i = 0; i < commonLength; i++) {
+      int diff = (slab1.get(keyOffset1 + i) & 0xff) - (slab2.get(keyOffset2 + i) & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return keyLength1 - keyLength2;
+  }
+
+  private boolean keyStartsWith(long address, byte[] prefix) {
+    ByteBuffer slab = slab(address);
+    int offset = offset(address);
+    if (slab.getInt(offset) < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (slab.get(offset + RECORD_HEADER_SIZE + i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Must be called with the read lock held. Concurrent readers might build the index at the same time, which is
+   * harmless since it is only published once it is complete.
+   */
+  private long[] getSortedAddresses() {
+    long[] addresses = sortedAddresses;
+    if (addresses == null) {
+      addresses = new long[size];
+      int count = 0;
+      for (int i = 0; i < capacity; i++) {
+        long address = slotAddresses.get(i);
+        if (address != EMPTY) {
+          addresses[count++] = address;
+        }
+      }
+      LongArrays.quickSort(addresses, this::compareKeys);
+      sortedAddresses = addresses;
+    }
+    return addresses;
+  }
+
+  private int lowerBound(long[] addresses, byte[] key) {
+    int low = 0;
+    int high = addresses.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (compareKey(addresses[middle], key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Feeds the records whose key starts with the given prefix (or all the records if the prefix is null) to the
+   * consumer in key order. The records are copied in batches, and the lock is released while the consumer processes
+   * a batch, so the consumer is allowed to write to the table. Like the iterators of concurrent collections, the scan
+   * is weakly consistent with the writes running concurrently.
+   */
+  void scan(byte[] keyPrefix, BiConsumer<byte[], byte[]> consumer) {
+    byte[] resumeKey = keyPrefix == null ? new byte[0] : keyPrefix;
+    boolean resumeKeyIncluded = true;
+    List<byte[]> batch = new ArrayList<>(2 * SCAN_BATCH_SIZE);
+    boolean done = false;
+    while (!done) {
+      lock.readLock().lock();
+      try {
+        ensureOpen();
+        long[] addresses = getSortedAddresses();
+        int index = lowerBound(addresses, resumeKey);
+        if (!resumeKeyIncluded && index < addresses.length && compareKey(addresses[index], resumeKey) == 0) {
+          index++;
+        }
+        for (; index < addresses.length && batch.size() < 2 * SCAN_BATCH_SIZE; index++) {
+          if (keyPrefix != null && !keyStartsWith(addresses[index], keyPrefix)) {
+            break;
+          }
+          batch.add(readKey(addresses[index]));
+          batch.add(readValue(addresses[index]));
+        }
+        done = batch.size() < 2 * SCAN_BATCH_SIZE;
+      } finally {
+        lock.readLock().unlock();
+      }
+      for (int i = 0; i < batch.size(); i += 2) {
+        consumer.accept(batch.get(i), batch.get(i + 1));
+      }
+      if (!batch.isEmpty()) {
+        resumeKey = batch.get(batch.size() - 2);
+        resumeKeyIncluded = false;
+      }
+      batch.clear();
+    }
+  }
+
+  private void maybeCompact() {
+    if (garbageBytes > slabSize && garbageBytes > slabBytes / 2 && garbageBytes >= minGarbageBytesToCompact) {
+      if (compact()) {
+        minGarbageBytesToCompact = 0;
+      } else {
+        // Retrying on every write would copy the same records over and over, so wait for another slab of garbage.
+        minGarbageBytesToCompact = garbageBytes + slabSize;
+        LOGGER.warn(
+            "Off-heap hash table compaction stopped since the memory budget is exhausted, {} of {} slab bytes are"
+                + " garbage",
+            garbageBytes,
+            slabBytes);
+      }
+    }
+  }
+
+  /**
+   * Copies the live records into new slabs sized to fit them exactly. The records are copied in address order, so
+   * every old slab is released as soon as its last live record is copied, and the compaction never needs more than one
+   * new slab on top of the memory in use. When even that doesn't fit, the new slab only takes the live records of the
+   * next old slab. Must be called with the write lock held.
+   *
+   * If a new slab doesn't fit in the memory budget, the compaction stops there and the table stays consistent: the
+   * records copied so far live in the new slabs, and the released old slabs are left as null entries which the next
+   * complete compaction drops.
+   *
+   * @return false if the compaction stopped before copying all the live records.
+   */
+  private boolean compact() {
+    int[] liveSlots = new int[size];
+    int count = 0;
+    long liveRecordBytes = 0;
+    for (int i = 0; i < capacity; i++) {
+      long address = slotAddresses.get(i);
+      if (address != EMPTY) {
+        liveSlots[count++] = i;
+        liveRecordBytes += recordSize(address);
+      }
+    }
+    IntArrays.quickSort(liveSlots, (slot1, slot2) -> Long.compare(slotAddresses.get(slot1), slotAddresses.get(slot2)));
+
+    // The old slabs without any live record are released before allocating anything.
+    int firstNewSlabIndex = slabs.size();
+    boolean[] oldSlabsInUse = new boolean[firstNewSlabIndex];
+    for (int slot: liveSlots) {
+      oldSlabsInUse[slabIndex(slotAddresses.get(slot))] = true;
+    }
+    for (int i = 0; i < firstNewSlabIndex; i++) {
+      if (!oldSlabsInUse[i]) {
+        releaseSlab(i);
+      }
+    }
+    // The new slabs are full, so the next record starts a new one.
+    currentSlab = null;
+
+    boolean completed = true;
+    int next = 0;
+    while (next < liveSlots.length) {
+      int end = next;
+      int newSlabSize = 0;
+      while (end < liveSlots.length) {
+        int recordSize = recordSize(slotAddresses.get(liveSlots[end]));
+        if (newSlabSize > 0 && newSlabSize + recordSize > slabSize) {
+          break;
+        }
+        newSlabSize += recordSize;
+        end++;
+      }
+      int newSlabIndex;
+      try {
+        newSlabIndex = addSlab(newSlabSize);
+      } catch (VeniceException e) {
+        // Fall back to a new slab for the records of the next old slab only, the least needed to release a slab.
+        int oldSlabIndex = slabIndex(slotAddresses.get(liveSlots[next]));
+        end = next;
+        newSlabSize = 0;
+        while (end < liveSlots.length && slabIndex(slotAddresses.get(liveSlots[end])) == oldSlabIndex) {
+          newSlabSize += recordSize(slotAddresses.get(liveSlots[end]));
+          end++;
+        }
+        try {
+          newSlabIndex = addSlab(newSlabSize);
+        } catch (VeniceException retryException) {
+          completed = false;
+          break;
+        }
+      }
+      ByteBuffer newSlab = slabs.get(newSlabIndex);
+      int position = 0;
+      for (int i = next; i < end; i++) {
+        long address = slotAddresses.get(liveSlots[i]);
+        int recordSize = recordSize(address);
+        ByteBuffer source = slab(address).duplicate();
+        source.position(offset(address));
+        source.limit(offset(address) + recordSize);
+        ByteBuffer destination = newSlab.duplicate();
+        destination.position(position);
+        destination.put(source);
+        slotAddresses.put(liveSlots[i], address(newSlabIndex, position));
+        position += recordSize;
+        // The following records are not copied yet, so their addresses still point to the old slabs.
+        if (i + 1 == liveSlots.length || slabIndex(slotAddresses.get(liveSlots[i + 1])) != slabIndex(address)) {
+          releaseSlab(slabIndex(address));
+        }
+      }
+      next = end;
+    }
+
+    if (completed && firstNewSlabIndex > 0) {
+      // All the old slabs are released, so the new ones are renumbered from 0.
+      slabs = new ArrayList<>(slabs.subList(firstNewSlabIndex, slabs.size()));
+      long addressShift = (long) firstNewSlabIndex << 32;
+      for (int slot: liveSlots) {
+        slotAddresses.put(slot, slotAddresses.get(slot) - addressShift);
+      }
+    }
+    // Without a current slab, all the slab bytes which don't hold a live record are garbage.
+    garbageBytes = slabBytes - liveRecordBytes;
+    sortedAddresses = null;
+    return completed;
+  }
+
+  /**
+   * Releases all the memory of the table, which must not be used anymore.
+   */
+  void close() {
+    lock.writeLock().lock();
+    try {
+      release();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void release() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    budget.release(slabBytes + (long) capacity * SLOT_SIZE);
+    slabs = new ArrayList<>();
+    currentSlab = null;
+    slabBytes = 0;
+    garbageBytes = 0;
+    slotAddresses = null;
+    slotHashes = null;
+    capacity = 0;
+    size = 0;
+    liveBytes = 0;
+    sortedAddresses = null;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the bytes of the keys and values of the live records.
+   */
+  long getLiveBytes() {
+    return liveBytes;
+  }
+
+  /**
+   * @return the direct memory allocated by this table, including the slots and the garbage in the slabs.
+   */
+  long getAllocatedBytes() {
+    lock.readLock().lock();
+    try {
+      return slabBytes + (long) capacity * SLOT_SIZE;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package com.linkedin.davinci.store.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Bounds the direct memory allocated by the {@link OffHeapHashTable}s sharing it, which are usually all the
+ * partitions created by the same {@link InMemoryStorageEngineFactory}.
+ *
+ * Note that the JVM caps the direct memory with {@code -XX:MaxDirectMemorySize}, which defaults to the max heap size,
+ * so the budget should be configured below that cap.
+ */
+public class OffHeapMemoryBudget {
+  private final long limitInBytes;
+  private final AtomicLong usedBytes = new AtomicLong(0);
+
+  /**
+   * @param limitInBytes the max number of bytes to allocate, or a non-positive value to not bound the allocations.
+   */
+  public OffHeapMemoryBudget(long limitInBytes) {
+    this.limitInBytes = limitInBytes > 0 ? limitInBytes : Long.MAX_VALUE;
+  }
+
+  public static OffHeapMemoryBudget unbounded() {
+    return new OffHeapMemoryBudget(-1);
+  }
+
+  /**
+   * @return true if the bytes were reserved, or false if they don't fit in the budget.
+   */
+  boolean tryReserve(long bytes) {
+    while (true) {
+      long used = usedBytes.get();
+      if (used + bytes > limitInBytes) {
+        return false;
+      }
+      if (usedBytes.compareAndSet(used, used + bytes)) {
+        return true;
+      }
+    }
+  }
+
+  void release(long bytes) {
+    usedBytes.addAndGet(-bytes);
+  }
+
+  public long getUsedBytes() {
+    return usedBytes.get();
+  }
+
+  public long getLimitInBytes() {
+    return limitInBytes;
+  }
+}
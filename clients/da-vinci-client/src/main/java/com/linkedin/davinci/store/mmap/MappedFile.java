@@ -0,0 +1,172 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+
+/**
+ * A read-only memory mapping of a whole file, which can be larger than the 2GB limit of a single
+ * {@link MappedByteBuffer}. The file is mapped in segments of {@link #SEGMENT_SIZE} bytes, and the reads which span two
+ * segments fall back to a byte-wise copy.
+ *
+ * Records are encoded as: key length (int), value length (int), key bytes, value bytes. The helpers comparing the
+ * keys of records work in place and don't allocate.
+ */
+class MappedFile implements Closeable {
+  static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+  private static final int SEGMENT_SHIFT = 30;
+  private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+  private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+  private final File file;
+  private final long length;
+  private MappedByteBuffer[] segments;
+
+  MappedFile(File file) {
+    this.file = file;
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        FileChannel channel = randomAccessFile.getChannel()) {
+      this.length = channel.size();
+      int segmentCount = (int) ((length + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+      this.segments = new MappedByteBuffer[segmentCount];
+      for (int i = 0; i < segmentCount; i++) {
+        long position = (long) i << SEGMENT_SHIFT;
+        long segmentLength = Math.min(SEGMENT_SIZE, length - position);
+        segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, segmentLength);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to map file: " + file, e);
+    }
+  }
+
+  long length() {
+    return length;
+  }
+
+  byte getByte(long position) {
+    return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+  }
+
+  int getInt(long position) {
+    int offsetInSegment = (int) (position & SEGMENT_MASK);
+    if (offsetInSegment <= SEGMENT_SIZE - Integer.BYTES) {
+      return segments[(int) (position >>> SEGMENT_SHIFT)].getInt(offsetInSegment);
+    }
+    int value = 0;
+    for (int i = 0; i < Integer.BYTES; i++) {
+      value = (value << 8) | (getByte(position + i) & 0xff);
+    }
+    return value;
+  }
+
+  long getLong(long position) {
+    int offsetInSegment = (int) (position & SEGMENT_MASK);
+    if (offsetInSegment <= SEGMENT_SIZE - Long.BYTES) {
+      return segments[(int) (position >>> SEGMENT_SHIFT)].getLong(offsetInSegment);
+    }
+    long value = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      value = (value << 8) | (getByte(position + i) & 0xff);
+    }
+    return value;
+  }
+
+  void read(long position, byte[] destination) {
+    int copied = 0;
+    while (copied < destination.length) {
+      long current = position + copied;
+      int offsetInSegment = (int) (current & SEGMENT_MASK);
+      int chunkLength = (int) Math.min(destination.length - copied, SEGMENT_SIZE - offsetInSegment);
+      // Read from a duplicate, since the position of the shared segment must not be modified by concurrent readers.
+      ByteBuffer segment = segments[(int) (current >>> SEGMENT_SHIFT)].duplicate();
+      segment.position(offsetInSegment);
+      segment.get(destination, copied, chunkLength);
+      copied += chunkLength;
+    }
+  }
+
+  int getKeyLength(long recordOffset) {
+    return getInt(recordOffset);
+  }
+
+  int getValueLength(long recordOffset) {
+    return getInt(recordOffset + Integer.BYTES);
+  }
+
+  byte[] readKey(long recordOffset) {
+    byte[] key = new byte[getKeyLength(recordOffset)];
+    read(recordOffset + RECORD_HEADER_SIZE, key);
+    return key;
+  }
+
+  byte[] readValue(long recordOffset) {
+    byte[] value = new byte[getValueLength(recordOffset)];
+    read(recordOffset + RECORD_HEADER_SIZE + getKeyLength(recordOffset), value);
+    return value;
+  }
+
+  /**
+   * Compares the key of the record at the given offset with the given key in unsigned lexicographic order.
+   */
+  int compareKey(long recordOffset, byte[] key) {
+    int keyLength = getKeyLength(recordOffset);
+    long keyOffset = recordOffset + RECORD_HEADER_SIZE;
+    int commonLength = Math.min(keyLength, key.length);
+    for (int i = 0; i < commonLength; i++) {
+      int diff = (getByte(keyOffset + i) & 0xff) - (key[i] & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return keyLength - key.length;
+  }
+
+  /**
+   * Compares the keys of the records at the given offsets in unsigned lexicographic order.
+   */
+  int compareKeys(long recordOffset1, long recordOffset2) {
+    int keyLength1 = getKeyLength(recordOffset1);
+    int keyLength2 = getKeyLength(recordOffset2);
+    long keyOffset1 = recordOffset1 + RECORD_HEADER_SIZE;
+    long keyOffset2 = recordOffset2 + RECORD_HEADER_SIZE;
+    int commonLength = Math.min(keyLength1, keyLength2);
+    for (int i = 0; i < commonLength; i++) {
+      int diff = (getByte(keyOffset1 + i) & 0xff) - (getByte(keyOffset2 + i) & 0xff);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return keyLength1 - keyLength2;
+  }
+
+  boolean keyStartsWith(long recordOffset, byte[] prefix) {
+    if (getKeyLength(recordOffset) < prefix.length) {
+      return false;
+    }
+    long keyOffset = recordOffset + RECORD_HEADER_SIZE;
+    for (int i = 0; i < prefix.length; i++) {
+      if (getByte(keyOffset + i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() {
+    // The JDK has no public unmap API, so the mapping is released once the buffers are garbage collected.
+    segments = null;
+  }
+
+  @Override
+  public String toString() {
+    return file.toString();
+  }
+}
@@ -0,0 +1,106 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.Closeable;
+import java.io.File;
+
+
+/**
+ * Read side of the immutable data file of a {@link MmapStoragePartition}.
+ *
+ * Layout of the file:
+ * 1. Records, each encoded as: key length (int), value length (int, -1 for a tombstone), key bytes, value bytes.
+ *    This region is the staging file written during the batch ingestion, so it might contain superseded records.
+ * 2. Index: the offsets (long) of the live records, sorted by key in unsigned lexicographic order.
+ * 3. Footer: index offset (long), record count (long), format version (int), magic number (int).
+ *
+ * Lookups binary search the index and compare the keys in place, so a hit only allocates the returned value.
+ */
+class MmapDataFile implements Closeable {
+  static final int MAGIC_NUMBER = 0x56454E4D; // "VENM"
+  static final int FORMAT_VERSION = 1;
+  static final int FOOTER_SIZE = 2 * Long.BYTES + 2 * Integer.BYTES;
+  static final int TOMBSTONE_VALUE_LENGTH = -1;
+
+  private final MappedFile mappedFile;
+  private final long indexOffset;
+  private final long recordCount;
+
+  MmapDataFile(File file) {
+    this.mappedFile = new MappedFile(file);
+    long footerOffset = mappedFile.length() - FOOTER_SIZE;
+    if (footerOffset < 0) {
+      mappedFile.close();
+      throw new VeniceException("Data file: " + file + " is too small to be valid: " + mappedFile.length() + " bytes");
+    }
+    this.indexOffset = mappedFile.getLong(footerOffset);
+    this.recordCount = mappedFile.getLong(footerOffset + Long.BYTES);
+    int formatVersion = mappedFile.getInt(footerOffset + 2 * Long.BYTES);
+    int magicNumber = mappedFile.getInt(footerOffset + 2 * Long.BYTES + Integer.BYTES);
+    if (magicNumber != MAGIC_NUMBER || formatVersion != FORMAT_VERSION
+        || indexOffset + recordCount * Long.BYTES != footerOffset) {
+      mappedFile.close();
+      throw new VeniceException(
+          "Data file: " + file + " is corrupted or has an unknown format. Magic number: " + magicNumber
+              + ", format version: " + formatVersion);
+    }
+  }
+
+  long getRecordCount() {
+    return recordCount;
+  }
+
+  long getFileLength() {
+    return mappedFile.length();
+  }
+
+  MappedFile getMappedFile() {
+    return mappedFile;
+  }
+
+  /**
+   * @return the value of the key, or null if the key doesn't exist.
+   */
+  byte[] get(byte[] key) {
+    long index = lowerBound(key, 0);
+    if (index < recordCount) {
+      long recordOffset = getRecordOffset(index);
+      if (mappedFile.compareKey(recordOffset, key) == 0) {
+        return mappedFile.readValue(recordOffset);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the position in the index of the first record whose key is not smaller than the given key, starting the
+   *         search at {@code fromIndex}, or the record count if there is no such record.
+   */
+  long lowerBound(byte[] key, long fromIndex) {
+    long low = fromIndex;
+    long high = recordCount;
+    while (low < high) {
+      long middle = (low + high) >>> 1;
+      if (mappedFile.compareKey(getRecordOffset(middle), key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  long getRecordOffset(long index) {
+    return mappedFile.getLong(indexOffset + index * Long.BYTES);
+  }
+
+  @Override
+  public void close() {
+    mappedFile.close();
+  }
+
+  @Override
+  public String toString() {
+    return mappedFile.toString();
+  }
+}
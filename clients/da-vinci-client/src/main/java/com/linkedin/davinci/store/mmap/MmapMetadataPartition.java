@@ -0,0 +1,172 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteArray;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.io.FileUtils;
+
+
+/**
+ * The metadata partition of {@link MmapStorageEngine}, which holds the offset records and the store version state.
+ *
+ * Unlike the data partitions, it must stay mutable for the whole lifetime of the version. It only holds a few small
+ * entries, so they are kept in memory and the whole partition is rewritten to a temp file and atomically renamed on
+ * every update, which keeps the persisted copy consistent after a crash.
+ */
+public class MmapMetadataPartition extends AbstractStoragePartition {
+  static final String METADATA_FILE_NAME = "metadata";
+  private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private final File partitionDir;
+  private final File metadataFile;
+  private final Map<ByteArray, byte[]> entries = new ConcurrentHashMap<>();
+
+  public MmapMetadataPartition(StoragePartitionConfig storagePartitionConfig, String mmapPath) {
+    super(storagePartitionConfig.getPartitionId());
+    this.partitionDir = new File(
+        RocksDBUtils.composePartitionDbDir(mmapPath, storagePartitionConfig.getStoreName(), partitionId));
+    if (!partitionDir.exists() && !partitionDir.mkdirs()) {
+      throw new VeniceException("Failed to create metadata partition dir: " + partitionDir);
+    }
+    this.metadataFile = new File(partitionDir, METADATA_FILE_NAME);
+    if (metadataFile.exists()) {
+      load();
+    }
+  }
+
+  private void load() {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(metadataFile)))) {
+      int entryCount = input.readInt();
+      for (int i = 0; i < entryCount; i++) {
+        byte[] key = new byte[input.readInt()];
+        input.readFully(key);
+        byte[] value = new byte[input.readInt()];
+        input.readFully(value);
+        entries.put(new ByteArray(key), value);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to load metadata file: " + metadataFile, e);
+    }
+  }
+
+  private void persist() {
+    File tempFile = new File(partitionDir, METADATA_FILE_NAME + TEMP_FILE_SUFFIX);
+    try {
+      try (FileOutputStream fileStream = new FileOutputStream(tempFile);
+          DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream))) {
+        output.writeInt(entries.size());
+        for (Map.Entry<ByteArray, byte[]> entry: entries.entrySet()) {
+          output.writeInt(entry.getKey().length());
+          output.write(entry.getKey().get());
+          output.writeInt(entry.getValue().length);
+          output.write(entry.getValue());
+        }
+        output.flush();
+        fileStream.getChannel().force(true);
+      }
+      Files.move(tempFile.toPath(), metadataFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to persist metadata file: " + metadataFile, e);
+    }
+  }
+
+  @Override
+  public synchronized void put(byte[] key, byte[] value) {
+    entries.put(new ByteArray(key), value);
+    persist();
+  }
+
+  @Override
+  public void put(byte[] key, ByteBuffer value) {
+    byte[] valueBytes = new byte[value.remaining()];
+    value.duplicate().get(valueBytes);
+    put(key, valueBytes);
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    return entries.get(new ByteArray(key));
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(ByteBuffer keyBuffer) {
+    byte[] key = new byte[keyBuffer.remaining()];
+    keyBuffer.duplicate().get(key);
+    return get(key);
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    for (Map.Entry<ByteArray, byte[]> entry: entries.entrySet()) {
+      if (keyPrefix == null || entry.getKey().startsWith(keyPrefix)) {
+        callback.onRecordReceived(entry.getKey().get(), entry.getValue());
+      }
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    if (entries.remove(new ByteArray(key)) != null) {
+      persist();
+    }
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // Every update is persisted right away.
+    return Collections.emptyMap();
+  }
+
+  @Override
+  public synchronized void drop() {
+    entries.clear();
+    try {
+      FileUtils.deleteDirectory(partitionDir);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to remove metadata partition dir: " + partitionDir, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close, since every update is persisted right away.
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    return true;
+  }
+
+  @Override
+  public long getPartitionSizeInBytes() {
+    return metadataFile.length();
+  }
+}
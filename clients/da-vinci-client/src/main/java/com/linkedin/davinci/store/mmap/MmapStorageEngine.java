@@ -0,0 +1,120 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A read-optimized storage engine for batch-only versions, whose data partitions become immutable memory-mapped
+ * files at the end of the push, check {@link MmapStoragePartition}. It shares the directory layout of
+ * {@link com.linkedin.davinci.store.rocksdb.RocksDBStorageEngine} under its own base dir.
+ */
+public class MmapStorageEngine extends AbstractStorageEngine<AbstractStoragePartition> {
+  private static final Logger LOGGER = LogManager.getLogger(MmapStorageEngine.class);
+
+  private final String mmapPath;
+  private final String storeDbPath;
+  private final VeniceStoreVersionConfig storeConfig;
+
+  /**
+   * The cached value will be refreshed by {@link #getStoreSizeInBytes()}.
+   */
+  private long cachedDiskUsage = 0;
+
+  public MmapStorageEngine(
+      VeniceStoreVersionConfig storeConfig,
+      String mmapPath,
+      InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
+      InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer) {
+    super(storeConfig.getStoreVersionName(), storeVersionStateSerializer, partitionStateSerializer);
+    this.storeConfig = storeConfig;
+    this.mmapPath = mmapPath;
+    this.storeDbPath = RocksDBUtils.composeStoreDbDir(mmapPath, getStoreName());
+    File storeDbDir = new File(storeDbPath);
+    if (!storeDbDir.exists()) {
+      storeDbDir.mkdirs();
+      LOGGER.info("Created mmap dir for store: {}", getStoreName());
+    }
+    restoreStoragePartitions(storeConfig.isRestoreMetadataPartition(), storeConfig.isRestoreDataPartitions());
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.READ_OPTIMIZED_MMAP;
+  }
+
+  @Override
+  protected Set<Integer> getPersistedPartitionIds() {
+    File storeDbDir = new File(storeDbPath);
+    if (!storeDbDir.exists()) {
+      LOGGER.info("Store dir: {} doesn't exist", storeDbPath);
+      return Collections.emptySet();
+    }
+    if (!storeDbDir.isDirectory()) {
+      throw new VeniceException("Store dir: " + storeDbPath + " is not a directory!!!");
+    }
+    String[] partitionDirNames = storeDbDir.list();
+    Set<Integer> partitionIdSet = new HashSet<>();
+    if (partitionDirNames != null) {
+      for (String partitionDirName: partitionDirNames) {
+        partitionIdSet.add(RocksDBUtils.parsePartitionIdFromPartitionDbName(partitionDirName));
+      }
+    }
+    return partitionIdSet;
+  }
+
+  @Override
+  public AbstractStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    if (storagePartitionConfig.getPartitionId() == METADATA_PARTITION_ID) {
+      return new MmapMetadataPartition(storagePartitionConfig, mmapPath);
+    }
+    return new MmapStoragePartition(storagePartitionConfig, mmapPath);
+  }
+
+  @Override
+  public synchronized void drop() {
+    super.drop();
+
+    // Whoever is in control of the metadata partition should be responsible of dropping the storage engine folder.
+    if (storeConfig.isRestoreMetadataPartition()) {
+      File storeDbDir = new File(storeDbPath);
+      if (storeDbDir.exists()) {
+        LOGGER.info("Started removing mmap dir: {} for store: {}", storeDbPath, getStoreName());
+        try {
+          FileUtils.deleteDirectory(storeDbDir);
+          LOGGER.info("Finished removing mmap dir: {} for store: {}", storeDbPath, getStoreName());
+        } catch (IOException e) {
+          LOGGER.warn("Failed to remove dir: {}", storeDbDir, e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public long getStoreSizeInBytes() {
+    File storeDbDir = new File(storeDbPath);
+    cachedDiskUsage = storeDbDir.exists() ? FileUtils.sizeOf(storeDbDir) : 0;
+    return cachedDiskUsage;
+  }
+
+  @Override
+  public long getCachedStoreSizeInBytes() {
+    return cachedDiskUsage;
+  }
+}
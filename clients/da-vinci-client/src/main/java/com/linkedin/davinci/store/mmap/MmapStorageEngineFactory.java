@@ -0,0 +1,134 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+public class MmapStorageEngineFactory extends StorageEngineFactory {
+  private static final Logger LOGGER = LogManager.getLogger(MmapStorageEngineFactory.class);
+
+  private final String mmapPath;
+  private final InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer;
+  private final InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer;
+  private final Map<String, MmapStorageEngine> storageEngineMap = new HashMap<>();
+
+  public MmapStorageEngineFactory(
+      VeniceServerConfig serverConfig,
+      InternalAvroSpecificSerializer<StoreVersionState> storeVersionStateSerializer,
+      InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer) {
+    this.mmapPath = serverConfig.getDataBasePath() + File.separator + "mmap";
+    this.storeVersionStateSerializer = storeVersionStateSerializer;
+    this.partitionStateSerializer = partitionStateSerializer;
+  }
+
+  @Override
+  public synchronized AbstractStorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig)
+      throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return storageEngineMap.computeIfAbsent(
+          storeConfig.getStoreVersionName(),
+          ignored -> new MmapStorageEngine(
+              storeConfig,
+              mmapPath,
+              storeVersionStateSerializer,
+              partitionStateSerializer));
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  @Override
+  public synchronized Set<String> getPersistedStoreNames() {
+    File databaseDir = new File(mmapPath);
+    if (databaseDir.exists() && databaseDir.isDirectory()) {
+      String[] storeDirs = databaseDir.list();
+      LOGGER.info("Found the following mmap stores: {}", Arrays.toString(storeDirs));
+      if (storeDirs != null) {
+        return new HashSet<>(Arrays.asList(storeDirs));
+      }
+    } else {
+      LOGGER.info("Mmap dir: {} doesn't exist, so nothing to restore", databaseDir);
+    }
+    return new HashSet<>();
+  }
+
+  @Override
+  public synchronized void close() {
+    LOGGER.info("Closing MmapStorageEngineFactory");
+    storageEngineMap.values().forEach(MmapStorageEngine::close);
+    storageEngineMap.clear();
+    LOGGER.info("Closed MmapStorageEngineFactory");
+  }
+
+  @Override
+  public synchronized void removeStorageEngine(AbstractStorageEngine engine) {
+    verifyPersistenceType(engine);
+    final String storeName = engine.getStoreName();
+    MmapStorageEngine storageEngine = storageEngineMap.remove(storeName);
+    if (storageEngine != null) {
+      LOGGER.info("Started removing mmap storage engine for store: {}", storeName);
+      storageEngine.drop();
+      LOGGER.info("Finished removing mmap storage engine for store: {}", storeName);
+    } else {
+      LOGGER.info("Mmap store: {} doesn't exist", storeName);
+    }
+  }
+
+  @Override
+  public synchronized void removeStorageEngine(String storeName) {
+    if (storageEngineMap.containsKey(storeName)) {
+      throw new VeniceException(
+          "Storage engine has already been opened previously, and please use #removeStorageEngine(AbstractStorageEngine) for deletion");
+    }
+    File storeDir = new File(mmapPath, storeName);
+    if (storeDir.exists()) {
+      LOGGER.info("Started removing mmap folder for store: {}", storeName);
+      try {
+        FileUtils.deleteDirectory(storeDir);
+      } catch (IOException e) {
+        throw new VeniceException("Failed to delete mmap folder for store: " + storeName, e);
+      }
+      LOGGER.info("Finished removing mmap folder for store: {}", storeName);
+    } else {
+      LOGGER.warn("Mmap store: {} doesn't exist", storeName);
+    }
+  }
+
+  @Override
+  public synchronized void closeStorageEngine(AbstractStorageEngine engine) {
+    verifyPersistenceType(engine);
+    final String storeName = engine.getStoreName();
+    MmapStorageEngine storageEngine = storageEngineMap.remove(storeName);
+    if (storageEngine != null) {
+      LOGGER.info("Started closing mmap storage engine for store: {}", storeName);
+      storageEngine.close();
+      LOGGER.info("Finished closing mmap storage engine for store: {}", storeName);
+    } else {
+      LOGGER.info("Mmap store: {} doesn't exist", storeName);
+    }
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.READ_OPTIMIZED_MMAP;
+  }
+}
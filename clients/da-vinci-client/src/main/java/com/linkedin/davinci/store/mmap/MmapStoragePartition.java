@@ -0,0 +1,404 @@
+package com.linkedin.davinci.store.mmap;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ByteUtils;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A data partition of {@link MmapStorageEngine}, which goes through two phases:
+ *
+ * 1. During the batch ingestion, every put and delete is appended to a staging file. Its length is the database info
+ *    returned by {@link #sync()}, so that a restarted ingestion can truncate the records written after the last
+ *    checkpoint and resume from there.
+ * 2. At {@link #endBatchWrite()}, the staging file is turned into an immutable {@link MmapDataFile}: the offsets of
+ *    the records are sorted by key (this is skipped when the records were produced in key order, which is the case of
+ *    a sorted push), only the latest record of every key is kept, and the sorted index is appended to the file before
+ *    it is atomically renamed and memory-mapped.
+ *
+ * Once finalized, the partition only serves reads, straight from the page cache without any JVM heap besides the
+ * returned values. A sorted index is used instead of a hash index, so that {@link #getByKeyPrefix} is supported.
+ */
+public class MmapStoragePartition extends AbstractStoragePartition {
+  private static final Logger LOGGER = LogManager.getLogger(MmapStoragePartition.class);
+
+  static final String STAGING_FILE_NAME = "data.staging";
+  static final String DATA_FILE_NAME = "data.mmap";
+  static final String STAGING_FILE_LENGTH = "mmapStagingFileLength";
+
+  private static final int STAGING_BUFFER_SIZE = 64 * 1024;
+
+  private final String storeName;
+  private final File partitionDir;
+  private final File stagingFile;
+  private final File dataFilePath;
+
+  private FileOutputStream stagingFileStream;
+  private DataOutputStream stagingOutput;
+  private long stagingLength;
+  private volatile MmapDataFile dataFile;
+
+  public MmapStoragePartition(StoragePartitionConfig storagePartitionConfig, String mmapPath) {
+    super(storagePartitionConfig.getPartitionId());
+    this.storeName = storagePartitionConfig.getStoreName();
+    this.partitionDir = new File(RocksDBUtils.composePartitionDbDir(mmapPath, storeName, partitionId));
+    if (!partitionDir.exists() && !partitionDir.mkdirs()) {
+      throw new VeniceException("Failed to create partition dir: " + partitionDir);
+    }
+    this.stagingFile = new File(partitionDir, STAGING_FILE_NAME);
+    this.dataFilePath = new File(partitionDir, DATA_FILE_NAME);
+    if (dataFilePath.exists()) {
+      this.dataFile = new MmapDataFile(dataFilePath);
+      LOGGER.info("Opened data file: {} with {} records", dataFilePath, dataFile.getRecordCount());
+    } else {
+      openStagingFile();
+    }
+  }
+
+  private void openStagingFile() {
+    try {
+      stagingFileStream = new FileOutputStream(stagingFile, true);
+      stagingOutput = new DataOutputStream(new BufferedOutputStream(stagingFileStream, STAGING_BUFFER_SIZE));
+      stagingLength = stagingFile.length();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to open staging file: " + stagingFile, e);
+    }
+  }
+
+  private void ensureWritable() {
+    if (dataFile != null) {
+      throw new VeniceException(
+          "Partition: " + partitionId + " of store: " + storeName + " is immutable since its batch push has completed");
+    }
+  }
+
+  private void appendRecord(byte[] key, byte[] value, int valueOffset, int valueLength) {
+    ensureWritable();
+    try {
+      stagingOutput.writeInt(key.length);
+      stagingOutput.writeInt(valueLength);
+      stagingOutput.write(key);
+      if (valueLength > 0) {
+        stagingOutput.write(value, valueOffset, valueLength);
+      }
+    } catch (IOException e) {
+      throw new VeniceException("Failed to append to staging file: " + stagingFile, e);
+    }
+    stagingLength += MappedFile.RECORD_HEADER_SIZE + key.length + Math.max(valueLength, 0);
+  }
+
+  @Override
+  public synchronized void put(byte[] key, byte[] value) {
+    appendRecord(key, value, 0, value.length);
+  }
+
+  @Override
+  public synchronized void put(byte[] key, ByteBuffer value) {
+    if (value.hasArray()) {
+      appendRecord(key, value.array(), value.arrayOffset() + value.position(), value.remaining());
+    } else {
+      byte[] valueBytes = new byte[value.remaining()];
+      value.duplicate().get(valueBytes);
+      appendRecord(key, valueBytes, 0, valueBytes.length);
+    }
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public synchronized void delete(byte[] key) {
+    appendRecord(key, null, 0, MmapDataFile.TOMBSTONE_VALUE_LENGTH);
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    MmapDataFile file = dataFile;
+    return file == null ? null : file.get(key);
+  }
+
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    byte[] value = get(key);
+    return value == null ? null : ByteBuffer.wrap(value);
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(ByteBuffer keyBuffer) {
+    byte[] key = new byte[keyBuffer.remaining()];
+    keyBuffer.duplicate().get(key);
+    return get(key);
+  }
+
+  /**
+   * Looks the keys up in key order, so that each binary search starts where the previous one ended and the pages of
+   * the index are visited in ascending order.
+   */
+  @Override
+  public List<byte[]> multiGet(List<byte[]> keys) {
+    MmapDataFile file = dataFile;
+    byte[][] values = new byte[keys.size()][];
+    if (file == null || keys.isEmpty()) {
+      return Arrays.asList(values);
+    }
+    int[] order = new int[keys.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    IntArrays.mergeSort(order, (i1, i2) -> ByteUtils.compare(keys.get(i1), keys.get(i2)));
+
+    MappedFile mappedFile = file.getMappedFile();
+    long fromIndex = 0;
+    for (int i: order) {
+      byte[] key = keys.get(i);
+      fromIndex = file.lowerBound(key, fromIndex);
+      if (fromIndex == file.getRecordCount()) {
+        break;
+      }
+      long recordOffset = file.getRecordOffset(fromIndex);
+      if (mappedFile.compareKey(recordOffset, key) == 0) {
+        values[i] = mappedFile.readValue(recordOffset);
+      }
+    }
+    return Arrays.asList(values);
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    MmapDataFile file = dataFile;
+    if (file != null) {
+      MappedFile mappedFile = file.getMappedFile();
+      long recordCount = file.getRecordCount();
+      long index = keyPrefix == null ? 0 : file.lowerBound(keyPrefix, 0);
+      for (; index < recordCount; index++) {
+        long recordOffset = file.getRecordOffset(index);
+        if (keyPrefix != null && !mappedFile.keyStartsWith(recordOffset, keyPrefix)) {
+          break;
+        }
+        callback.onRecordReceived(mappedFile.readKey(recordOffset), mappedFile.readValue(recordOffset));
+      }
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public synchronized Map<String, String> sync() {
+    if (dataFile != null) {
+      return Collections.emptyMap();
+    }
+    try {
+      stagingOutput.flush();
+      stagingFileStream.getChannel().force(false);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to sync staging file: " + stagingFile, e);
+    }
+    return Collections.singletonMap(STAGING_FILE_LENGTH, Long.toString(stagingLength));
+  }
+
+  @Override
+  public synchronized boolean checkDatabaseIntegrity(Map<String, String> checkpointedInfo) {
+    if (dataFile != null) {
+      return true;
+    }
+    String checkpointedLength = checkpointedInfo.get(STAGING_FILE_LENGTH);
+    if (checkpointedLength == null) {
+      LOGGER.info(
+          "No checkpointed info for partition: {} of store: {}, will start from the beginning",
+          partitionId,
+          storeName);
+      truncateStagingFile(0);
+      return true;
+    }
+    long length = Long.parseLong(checkpointedLength);
+    flushStagingFile();
+    if (stagingLength < length) {
+      LOGGER.info(
+          "Staging file: {} is shorter than the checkpointed length: {}, ingestion will restart from the beginning",
+          stagingFile,
+          length);
+      truncateStagingFile(0);
+      return false;
+    }
+    truncateStagingFile(length);
+    return true;
+  }
+
+  @Override
+  public synchronized void beginBatchWrite(
+      Map<String, String> checkpointedInfo,
+      Optional<Supplier<byte[]>> checksumSupplier) {
+    if (!checkDatabaseIntegrity(checkpointedInfo)) {
+      // defensive check: this issue should have been dealt with while subscribing to the partition
+      throw new VeniceException(
+          "Checkpointed info and staging file: " + stagingFile + " don't match for partition: " + partitionId);
+    }
+  }
+
+  @Override
+  public synchronized void endBatchWrite() {
+    if (dataFile != null) {
+      LOGGER.info("Data file: {} is already finalized", dataFilePath);
+      return;
+    }
+    long startTime = System.currentTimeMillis();
+    closeStagingFile();
+    long stagedRecordCount;
+    long liveRecordCount = 0;
+    boolean sortedInput = true;
+    try (MappedFile stagedRecords = new MappedFile(stagingFile);
+        FileOutputStream fileStream = new FileOutputStream(stagingFile, true);
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(fileStream, STAGING_BUFFER_SIZE))) {
+      LongArrayList recordOffsets = new LongArrayList();
+      long position = 0;
+      while (position < stagedRecords.length()) {
+        if (sortedInput && !recordOffsets.isEmpty()
+            && stagedRecords.compareKeys(recordOffsets.getLong(recordOffsets.size() - 1), position) > 0) {
+          sortedInput = false;
+        }
+        recordOffsets.add(position);
+        position += MappedFile.RECORD_HEADER_SIZE + stagedRecords.getKeyLength(position)
+            + Math.max(stagedRecords.getValueLength(position), 0);
+      }
+      long[] offsets = recordOffsets.elements();
+      int count = recordOffsets.size();
+      stagedRecordCount = count;
+      if (!sortedInput) {
+        // The merge sort is stable, so the records of a key stay in ingestion order and the last one is the latest.
+        LongArrays.mergeSort(offsets, 0, count, stagedRecords::compareKeys);
+      }
+
+      long indexOffset = stagedRecords.length();
+      for (int i = 0; i < count; i++) {
+        if (i + 1 < count && stagedRecords.compareKeys(offsets[i], offsets[i + 1]) == 0) {
+          continue;
+        }
+        if (stagedRecords.getValueLength(offsets[i]) == MmapDataFile.TOMBSTONE_VALUE_LENGTH) {
+          continue;
+        }
+        output.writeLong(offsets[i]);
+        liveRecordCount++;
+      }
+      output.writeLong(indexOffset);
+      output.writeLong(liveRecordCount);
+      output.writeInt(MmapDataFile.FORMAT_VERSION);
+      output.writeInt(MmapDataFile.MAGIC_NUMBER);
+      output.flush();
+      fileStream.getChannel().force(true);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to build the index of staging file: " + stagingFile, e);
+    }
+
+    try {
+      Files.move(stagingFile.toPath(), dataFilePath.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to rename staging file: " + stagingFile + " to: " + dataFilePath, e);
+    }
+    dataFile = new MmapDataFile(dataFilePath);
+    LOGGER.info(
+        "Finalized data file: {} with {} live records out of {} staged records (sorted input: {}) in {} ms",
+        dataFilePath,
+        liveRecordCount,
+        stagedRecordCount,
+        sortedInput,
+        System.currentTimeMillis() - startTime);
+  }
+
+  @Override
+  public boolean validateBatchIngestion() {
+    return dataFile != null;
+  }
+
+  private void flushStagingFile() {
+    try {
+      stagingOutput.flush();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to flush staging file: " + stagingFile, e);
+    }
+  }
+
+  private void truncateStagingFile(long length) {
+    flushStagingFile();
+    try {
+      stagingFileStream.getChannel().truncate(length);
+    } catch (IOException e) {
+      throw new VeniceException("Failed to truncate staging file: " + stagingFile + " to length: " + length, e);
+    }
+    stagingLength = length;
+  }
+
+  private void closeStagingFile() {
+    if (stagingOutput == null) {
+      return;
+    }
+    try {
+      stagingOutput.flush();
+      stagingFileStream.getChannel().force(false);
+      stagingOutput.close();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to close staging file: " + stagingFile, e);
+    } finally {
+      stagingOutput = null;
+      stagingFileStream = null;
+    }
+  }
+
+  @Override
+  public synchronized void drop() {
+    close();
+    try {
+      FileUtils.deleteDirectory(partitionDir);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to remove partition dir: {}", partitionDir, e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    closeStagingFile();
+    if (dataFile != null) {
+      dataFile.close();
+    }
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // The same files serve both the ingestion and the reads, so the partition never needs to be reopened.
+    return true;
+  }
+
+  @Override
+  public long getPartitionSizeInBytes() {
+    MmapDataFile file = dataFile;
+    return file == null ? stagingLength : file.getFileLength();
+  }
+}
@@ -3,6 +3,9 @@ package com.linkedin.davinci.store.rocksdb;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 
@@ -206,6 +209,37 @@ public class RocksDBServerConfig {
   public static final String ROCKSDB_SEPARATE_RMD_CACHE_ENABLED = "rocksdb.separate.rmd.cache.enabled";
   public static final String ROCKSDB_BLOCK_BASE_FORMAT_VERSION = "rocksdb.block.base.format.version";
 
+  /**
+   * Stores whose values are separated from the keys: the values of at least {@link #ROCKSDB_MIN_BLOB_SIZE_IN_BYTES}
+   * are written to blob files by the flushes and compactions, and the SST files only keep a reference to them, so the
+   * compactions don't rewrite the large values over and over.
+   * https://github.com/facebook/rocksdb/wiki/BlobDB
+   *
+   * It only applies to the values, not to the replication metadata, and not to the plain table format. The values
+   * ingested as SST files by the batch push stay in the SST files until a compaction rewrites them.
+   */
+  public static final String ROCKSDB_BLOB_FILES_ENABLED_STORES = "rocksdb.blob.files.enabled.stores";
+  public static final String ROCKSDB_MIN_BLOB_SIZE_IN_BYTES = "rocksdb.min.blob.size.in.bytes";
+  public static final String ROCKSDB_BLOB_FILE_SIZE_IN_BYTES = "rocksdb.blob.file.size.in.bytes";
+  /**
+   * Please check {@link CompressionType} to find all the available options.
+   */
+  public static final String ROCKSDB_BLOB_FILE_COMPRESSION_TYPE = "rocksdb.blob.file.compression.type";
+  /**
+   * The blob garbage collection relocates the live values of the oldest blob files during the compactions, so that the
+   * blob files which only hold overwritten or deleted values can be dropped.
+   */
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_ENABLED = "rocksdb.blob.garbage.collection.enabled";
+  /**
+   * The fraction of the oldest blob files which are garbage collected.
+   */
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_AGE_CUTOFF = "rocksdb.blob.garbage.collection.age.cutoff";
+  /**
+   * The ratio of garbage in the oldest blob files above which a compaction is forced to collect it, 1.0 to disable it.
+   */
+  public static final String ROCKSDB_BLOB_GARBAGE_COLLECTION_FORCE_THRESHOLD =
+      "rocksdb.blob.garbage.collection.force.threshold";
+
   private final boolean rocksDBUseDirectReads;
 
   private final int rocksDBEnvFlushPoolSize;
@@ -265,6 +299,14 @@ public class RocksDBServerConfig {
   private final boolean separateRMDCacheEnabled;
   private int blockBaseFormatVersion;
 
+  private final Set<String> blobFilesEnabledStores;
+  private final long minBlobSizeInBytes;
+  private final long blobFileSizeInBytes;
+  private final CompressionType blobFileCompressionType;
+  private final boolean blobGarbageCollectionEnabled;
+  private final double blobGarbageCollectionAgeCutoff;
+  private final double blobGarbageCollectionForceThreshold;
+
   public RocksDBServerConfig(VeniceProperties props) {
     // Do not use Direct IO for reads by default
     this.rocksDBUseDirectReads = props.getBoolean(ROCKSDB_OPTIONS_USE_DIRECT_READS, false);
@@ -372,6 +414,24 @@ public class RocksDBServerConfig {
     this.separateRMDCacheEnabled = props.getBoolean(ROCKSDB_SEPARATE_RMD_CACHE_ENABLED, false);
 
     this.blockBaseFormatVersion = props.getInt(ROCKSDB_BLOCK_BASE_FORMAT_VERSION, 2);
+
+    this.blobFilesEnabledStores = Collections.unmodifiableSet(
+        new HashSet<>(props.getList(ROCKSDB_BLOB_FILES_ENABLED_STORES, Collections.emptyList())));
+    this.minBlobSizeInBytes = props.getSizeInBytes(ROCKSDB_MIN_BLOB_SIZE_IN_BYTES, 4 * 1024L); // 4KB
+    this.blobFileSizeInBytes = props.getSizeInBytes(ROCKSDB_BLOB_FILE_SIZE_IN_BYTES, 256 * 1024 * 1024L); // 256MB
+    // The values are usually compressed by Venice already
+    String blobFileCompressionType =
+        props.getString(ROCKSDB_BLOB_FILE_COMPRESSION_TYPE, CompressionType.NO_COMPRESSION.name());
+    try {
+      this.blobFileCompressionType = CompressionType.valueOf(blobFileCompressionType);
+    } catch (IllegalArgumentException e) {
+      throw new VeniceException(
+          "Invalid blob file compression type: " + blobFileCompressionType + ", available types: "
+              + Arrays.toString(CompressionType.values()));
+    }
+    this.blobGarbageCollectionEnabled = props.getBoolean(ROCKSDB_BLOB_GARBAGE_COLLECTION_ENABLED, true);
+    this.blobGarbageCollectionAgeCutoff = props.getDouble(ROCKSDB_BLOB_GARBAGE_COLLECTION_AGE_CUTOFF, 0.25);
+    this.blobGarbageCollectionForceThreshold = props.getDouble(ROCKSDB_BLOB_GARBAGE_COLLECTION_FORCE_THRESHOLD, 1.0);
   }
 
   public int getLevel0FileNumCompactionTriggerWriteOnlyVersion() {
@@ -552,4 +612,32 @@ public class RocksDBServerConfig {
   public void setBlockBaseFormatVersion(int version) {
     this.blockBaseFormatVersion = version;
   }
+
+  public boolean isBlobFilesEnabled(String storeName) {
+    return blobFilesEnabledStores.contains(storeName);
+  }
+
+  public long getMinBlobSizeInBytes() {
+    return minBlobSizeInBytes;
+  }
+
+  public long getBlobFileSizeInBytes() {
+    return blobFileSizeInBytes;
+  }
+
+  public CompressionType getBlobFileCompressionType() {
+    return blobFileCompressionType;
+  }
+
+  public boolean isBlobGarbageCollectionEnabled() {
+    return blobGarbageCollectionEnabled;
+  }
+
+  public double getBlobGarbageCollectionAgeCutoff() {
+    return blobGarbageCollectionAgeCutoff;
+  }
+
+  public double getBlobGarbageCollectionForceThreshold() {
+    return blobGarbageCollectionForceThreshold;
+  }
 }
@@ -8,9 +8,13 @@ import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.store.rocksdb.SstBulkLoadManifest;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -483,6 +487,65 @@ public class RocksDBSstFileWriter {
     }
   }
 
+  /**
+   * Ingest the SST files built by the push job for a bulk-load push, check
+   * {@link com.linkedin.venice.kafka.protocol.StartOfPush#bulkLoadLocation}.
+   *
+   * Every SST file is verified against the record count and the checksum in its {@link SstBulkLoadManifest} before
+   * the ingestion, and the files are copied instead of moved since they are shared by all the replicas.
+   */
+  public void ingestBulkLoadSSTFiles(
+      RocksDB rocksDB,
+      List<ColumnFamilyHandle> columnFamilyHandleList,
+      String bulkLoadPartitionDir) {
+    if (isRMD) {
+      throw new VeniceException("Bulk-load ingestion is not supported for replication metadata");
+    }
+    File manifestFile = new File(bulkLoadPartitionDir, SstBulkLoadManifest.MANIFEST_FILE_NAME);
+    SstBulkLoadManifest manifest;
+    try (InputStream inputStream = new FileInputStream(manifestFile)) {
+      manifest = SstBulkLoadManifest.readFrom(inputStream);
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Failed to read bulk-load manifest: " + manifestFile + " for store: " + storeName + ", partition: "
+              + partitionId,
+          e);
+    }
+    List<String> sstFilePaths = new ArrayList<>();
+    for (SstBulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+      String sstFilePath = bulkLoadPartitionDir + File.separator + sstFile.getFileName();
+      long startMs = System.currentTimeMillis();
+      if (!verifyChecksum(sstFilePath, sstFile.getRecordCount(), sstFile.getChecksum())) {
+        throw new VeniceChecksumException(
+            "verifyChecksum: failure. bulk-load sstFile checksum didn't match for store: " + storeName
+                + ", partition: " + partitionId + ", sstFile: " + sstFilePath + ", records: "
+                + sstFile.getRecordCount() + ", latency(ms): " + LatencyUtils.getElapsedTimeInMs(startMs));
+      }
+      sstFilePaths.add(sstFilePath);
+    }
+    final ColumnFamilyHandle columnFamilyHandle = columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX);
+    try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions()) {
+      deleteOldIngestion(rocksDB, columnFamilyHandle);
+      if (sstFilePaths.isEmpty()) {
+        LOGGER.info("No bulk-load sst file found for store: {}, partition: {}", storeName, partitionId);
+        return;
+      }
+      LOGGER.info(
+          "Start bulk-load ingestion to store: {}, partition: {} from files: {}",
+          storeName,
+          partitionId,
+          sstFilePaths);
+      ingestOptions.setMoveFiles(false);
+      rocksDB.ingestExternalFile(columnFamilyHandle, sstFilePaths, ingestOptions);
+      for (SstBulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+        recordNumInAllSSTFiles += sstFile.getRecordCount();
+      }
+      LOGGER.info("Finished bulk-load ingestion to store: {}, partition: {}", storeName, partitionId);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Received exception during RocksDB#ingestExternalFile", e);
+    }
+  }
+
   private List<String> getTemporarySSTFilePaths() {
     File tempSSTFileDir = new File(fullPathForTempSSTFileDir);
     String[] sstFiles = tempSSTFileDir.list((dir, name) -> isTempSSTFile(name) && new File(dir, name).length() > 0);
@@ -8,6 +8,7 @@ import com.linkedin.davinci.store.AbstractStoragePartition;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.LatencyUtils;
 import java.io.File;
@@ -27,6 +28,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.Cache;
+import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -276,7 +278,8 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     }
 
     /**
-     * Check whether current {@link sstFileManager} is already tracking the sst files in the db path.
+     * Check whether current {@link sstFileManager} is already tracking the sst files in the db path. The blob files of
+     * the stores with key-value separation are tracked by the {@link SstFileManager} as well.
      * Here are the reasons:
      * 1. Database close won't remove the tracking info from SSTFileManager.
      * 2. During ingestion, Venice could reopen the database (close and open).
@@ -284,7 +287,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     File storeDbDir = new File(dbPath);
     if (storeDbDir.exists()) {
       Map<String, Long> trackedSSTFiles = sstFileManager.getTrackedFiles();
-      File[] sstFiles = storeDbDir.listFiles((dir, name) -> name.endsWith(".sst"));
+      File[] sstFiles = storeDbDir.listFiles((dir, name) -> name.endsWith(".sst") || name.endsWith(".blob"));
       if (sstFiles == null) {
         return;
       }
@@ -392,10 +395,34 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     options.setMaxBytesForLevelBase(rocksDBServerConfig.getRocksDBMaxBytesForLevelBase());
     options.setMemtableHugePageSize(rocksDBServerConfig.getMemTableHugePageSize());
 
+    if (isBlobFilesEnabled(storagePartitionConfig, isRMD)) {
+      options.setEnableBlobFiles(true);
+      options.setMinBlobSize(rocksDBServerConfig.getMinBlobSizeInBytes());
+      options.setBlobFileSize(rocksDBServerConfig.getBlobFileSizeInBytes());
+      options.setBlobCompressionType(rocksDBServerConfig.getBlobFileCompressionType());
+      options.setEnableBlobGarbageCollection(rocksDBServerConfig.isBlobGarbageCollectionEnabled());
+      options.setBlobGarbageCollectionAgeCutoff(rocksDBServerConfig.getBlobGarbageCollectionAgeCutoff());
+      options.setBlobGarbageCollectionForceThreshold(rocksDBServerConfig.getBlobGarbageCollectionForceThreshold());
+    }
+
     options.setCreateMissingColumnFamilies(true); // This config allows to create new column family automatically.
     return options;
   }
 
+  /**
+   * The key-value separation only applies to the values of the allowlisted stores, check
+   * {@link RocksDBServerConfig#ROCKSDB_BLOB_FILES_ENABLED_STORES}: the replication metadata and the offset records are
+   * small, and the plain table format keeps everything in memory-mapped SST files.
+   */
+  private boolean isBlobFilesEnabled(StoragePartitionConfig storagePartitionConfig, boolean isRMD) {
+    if (isRMD || storagePartitionConfig.getPartitionId() == METADATA_PARTITION_ID
+        || rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      return false;
+    }
+    return rocksDBServerConfig
+        .isBlobFilesEnabled(Version.parseStoreFromKafkaTopicName(storagePartitionConfig.getStoreName()));
+  }
+
   protected List<ColumnFamilyHandle> getColumnFamilyHandleList() {
     return columnFamilyHandleList;
   }
@@ -446,6 +473,42 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     rocksDBSstFileWriter.ingestSSTFiles(rocksDB, columnFamilyHandleList);
   }
 
+  @Override
+  public synchronized void ingestBulkLoadSSTFiles(String bulkLoadPartitionDir) {
+    makeSureRocksDBIsStillOpen();
+    if (!deferredWrite) {
+      throw new VeniceException(
+          "Bulk-load ingestion is only supported in 'deferredWrite' mode for store: " + storeName + ", partition: "
+              + partitionId);
+    }
+    rocksDBSstFileWriter.ingestBulkLoadSSTFiles(rocksDB, columnFamilyHandleList, bulkLoadPartitionDir);
+  }
+
+  @Override
+  public synchronized void createSnapshot(String snapshotDir) {
+    makeSureRocksDBIsStillOpen();
+    if (deferredWrite) {
+      throw new VeniceException(
+          "Cannot create snapshot during batch ingestion in 'deferredWrite' mode for store: " + storeName
+              + ", partition: " + partitionId);
+    }
+    if (rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
+      throw new VeniceException(
+          "Cannot create snapshot in plain table format for store: " + storeName + ", partition: " + partitionId);
+    }
+    /**
+     * The checkpoint hard-links the live SST files and copies the rest, so it is a consistent view of all the column
+     * families, which doesn't change with the subsequent writes.
+     */
+    try (Checkpoint checkpoint = Checkpoint.create(rocksDB)) {
+      checkpoint.createCheckpoint(snapshotDir);
+    } catch (RocksDBException e) {
+      throw new VeniceException(
+          "Failed to create snapshot in: " + snapshotDir + " for store: " + storeName + ", partition: " + partitionId,
+          e);
+    }
+  }
+
   private void checkAndThrowMemoryLimitException(RocksDBException e) {
     if (e.getMessage().contains(ROCKSDB_ERROR_MESSAGE_FOR_RUNNING_OUT_OF_SPACE_QUOTA)) {
       throw new MemoryLimitExhaustedException(storeName, partitionId, factory.getSstFileManager().getTotalSize());
@@ -550,9 +613,25 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
   @Override
   public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    getByKeyPrefix(keyPrefix, null, Integer.MAX_VALUE, callback);
+  }
+
+  @Override
+  public byte[] getByKeyPrefix(
+      byte[] keyPrefix,
+      byte[] startAfterKey,
+      int maxRecordCount,
+      BytesStreamingCallback callback) {
     if (keyPrefix != null && rocksDBServerConfig.isRocksDBPlainTableFormatEnabled()) {
       throw new VeniceException("Get by key prefix is not supported with RocksDB PlainTable Format.");
     }
+    if (maxRecordCount <= 0) {
+      // Otherwise the scan would stop right away and report that there is nothing left to scan.
+      throw new VeniceException("Max record count should be positive, but received: " + maxRecordCount);
+    }
+    if (keyPrefix != null && startAfterKey != null && !hasPrefix(startAfterKey, keyPrefix)) {
+      throw new VeniceException("The key to resume the scan after doesn't have the key prefix.");
+    }
 
     readCloseRWLock.readLock().lock();
     try {
@@ -560,15 +639,29 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
 
       try (ReadOptions readOptions = getReadOptionsForIteration(keyPrefix);
           RocksIterator iterator = rocksDB.newIterator(readOptions)) {
-        if (keyPrefix == null) {
+        if (startAfterKey != null) {
+          iterator.seek(startAfterKey);
+          if (iterator.isValid() && Arrays.equals(iterator.key(), startAfterKey)) {
+            iterator.next();
+          }
+        } else if (keyPrefix == null) {
           iterator.seekToFirst();
         } else {
           iterator.seek(keyPrefix);
         }
+        byte[] lastKey = null;
+        int recordCount = 0;
         while (iterator.isValid()) {
-          callback.onRecordReceived(iterator.key(), iterator.value());
+          if (recordCount == maxRecordCount) {
+            // The next page resumes after the last record of this one.
+            return lastKey;
+          }
+          lastKey = iterator.key();
+          callback.onRecordReceived(lastKey, iterator.value());
+          recordCount++;
           iterator.next();
         }
+        return null;
       }
     } finally {
       readCloseRWLock.readLock().unlock();
@@ -583,6 +676,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return rocksDBSstFileWriter.validateBatchIngestion();
   }
 
+  private static boolean hasPrefix(byte[] key, byte[] prefix) {
+    return key.length >= prefix.length && Arrays.equals(Arrays.copyOf(key, prefix.length), prefix);
+  }
+
   private ReadOptions getReadOptionsForIteration(byte[] keyPrefix) {
     if (keyPrefix == null) {
       return new ReadOptions();
@@ -15,10 +15,12 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.StoreBackendConfig;
 import com.linkedin.davinci.config.VeniceConfigLoader;
 import com.linkedin.davinci.ingestion.DaVinciIngestionBackend;
 import com.linkedin.davinci.kafka.consumer.StoreIngestionService;
@@ -51,6 +53,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
 import org.apache.commons.io.FileUtils;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -358,6 +361,36 @@ public class StoreBackendTest {
     verify(ingestionBackend, times(store.getVersions().size())).removeStorageEngine(any());
   }
 
+  @Test
+  void testProjectionSchemaChange() throws Exception {
+    Schema projectionSchema = Schema.parse(
+        "{\"type\": \"record\", \"name\": \"Value\", \"fields\": [{\"name\": \"id\", \"type\": \"long\"}]}");
+    CompletableFuture subscribeResult = storeBackend.subscribe(ComplementSet.of(0));
+    VersionBackend unprojectedVersion = versionMap.get(version1.kafkaTopicName());
+    unprojectedVersion.completePartition(0);
+    subscribeResult.get(0, TimeUnit.SECONDS);
+
+    // Verify that the local versions were deleted and that the subscription was restored with the projection.
+    storeBackend.setProjectionSchema(projectionSchema);
+    assertEquals(storeBackend.getProjectionSchema(), projectionSchema);
+    verify(ingestionBackend, times(store.getVersions().size())).removeStorageEngine(any());
+    assertNotSame(versionMap.get(version1.kafkaTopicName()), unprojectedVersion);
+    try (ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion()) {
+      assertFalse(versionRef.get().isPartitionReadyToServe(0));
+    }
+    assertEquals(
+        new StoreBackendConfig(baseDataPath.getAbsolutePath(), store.getName()).getProjectionSchema(),
+        projectionSchema.toString());
+
+    // Verify that the projection is restored along with the store and can't be changed by another client.
+    storeBackend.close();
+    storeBackend = new StoreBackend(backend, store.getName());
+    assertEquals(storeBackend.getProjectionSchema(), projectionSchema);
+    storeBackend.setProjectionSchema(projectionSchema);
+    assertThrows(VeniceException.class, () -> storeBackend.setProjectionSchema(null));
+    assertEquals(storeBackend.getProjectionSchema(), projectionSchema);
+  }
+
   @Test
   void testRollbackAndRollForward() {
     int partition = 1;
@@ -66,8 +66,8 @@ public class StatsAvroGenericDaVinciClientTest {
     assertTrue(metrics.get(".test_store--success_request_key_ratio.SimpleRatioStat").value() < 1.0);
   }
 
-  @Test
-  public void testBatchGet() throws ExecutionException, InterruptedException {
+  @Test(dataProviderClass = DataProviderUtils.class, dataProvider = "True-and-False")
+  public void testBatchGet(boolean reuseApi) throws ExecutionException, InterruptedException {
     String storeName = "test_store";
     Set<String> keys = new HashSet<>(Arrays.asList("key1", "key2", "key3"));
     AvroGenericDaVinciClient mockClient = mock(AvroGenericDaVinciClient.class);
@@ -81,6 +81,9 @@ public class StatsAvroGenericDaVinciClientTest {
     when(mockClient.batchGet(any())).thenReturn(okFuture)
         .thenReturn(errorFuture)
         .thenThrow(new RuntimeException("mock_exception_by_function_directly"));
+    when(mockClient.batchGet(any(), any())).thenReturn(okFuture)
+        .thenReturn(errorFuture)
+        .thenThrow(new RuntimeException("mock_exception_by_function_directly"));
     when(mockClient.getStoreName()).thenReturn(storeName);
 
     MetricsRepository metricsRepository = new MetricsRepository();
@@ -89,10 +92,16 @@ public class StatsAvroGenericDaVinciClientTest {
         new ClientConfig(storeName).setMetricsRepository(metricsRepository));
 
     // No exception should happen
-    assertEquals(statsClient.batchGet(keys).get(), resultMap);
-
-    assertThrows(ExecutionException.class, () -> statsClient.batchGet(keys).get());
-    assertThrows(RuntimeException.class, () -> statsClient.batchGet(keys));
+    if (reuseApi) {
+      Map<String, String> reusableValues = new HashMap<>();
+      assertEquals(statsClient.batchGet(keys, reusableValues).get(), resultMap);
+      assertThrows(ExecutionException.class, () -> statsClient.batchGet(keys, reusableValues).get());
+      assertThrows(RuntimeException.class, () -> statsClient.batchGet(keys, reusableValues));
+    } else {
+      assertEquals(statsClient.batchGet(keys).get(), resultMap);
+      assertThrows(ExecutionException.class, () -> statsClient.batchGet(keys).get());
+      assertThrows(RuntimeException.class, () -> statsClient.batchGet(keys));
+    }
     Map<String, ? extends Metric> metrics = metricsRepository.metrics();
 
     assertTrue(metrics.get(".test_store--multiget_healthy_request.OccurrenceRate").value() > 0);
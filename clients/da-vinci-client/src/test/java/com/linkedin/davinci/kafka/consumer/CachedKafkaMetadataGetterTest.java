@@ -2,6 +2,9 @@ package com.linkedin.davinci.kafka.consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linkedin.venice.exceptions.VeniceException;
@@ -14,6 +17,10 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.stats.StatsErrorCode;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -59,6 +66,54 @@ public class CachedKafkaMetadataGetterTest {
 
   }
 
+  @Test
+  public void testGetOffsetFetchesServedPartitionsAtOnce() {
+    CachedKafkaMetadataGetter cachedKafkaMetadataGetter =
+        new CachedKafkaMetadataGetter(60000, () -> Arrays.asList(0, 2, 4));
+    TopicManager mockTopicManager = mock(TopicManager.class);
+    PubSubTopic testTopic = pubSubTopicRepository.getTopic("test_rt");
+    when(mockTopicManager.getKafkaBootstrapServers()).thenReturn("broker");
+    List<PubSubTopicPartition> servedPartitions = Arrays.asList(
+        new PubSubTopicPartitionImpl(testTopic, 0),
+        new PubSubTopicPartitionImpl(testTopic, 2),
+        new PubSubTopicPartitionImpl(testTopic, 4));
+    Map<PubSubTopicPartition, Long> latestOffsets = new HashMap<>();
+    latestOffsets.put(servedPartitions.get(0), 10L);
+    latestOffsets.put(servedPartitions.get(1), 30L);
+    latestOffsets.put(servedPartitions.get(2), 50L);
+    when(mockTopicManager.getPartitionsLatestOffsets(servedPartitions)).thenReturn(latestOffsets);
+
+    for (PubSubTopicPartition pubSubTopicPartition: servedPartitions) {
+      Assert.assertEquals(
+          cachedKafkaMetadataGetter
+              .getOffset(mockTopicManager, testTopic, pubSubTopicPartition.getPartitionNumber()),
+          (long) latestOffsets.get(pubSubTopicPartition));
+    }
+    // Only the served partitions are fetched, with a single request.
+    verify(mockTopicManager, times(1)).getPartitionsLatestOffsets(any());
+    verify(mockTopicManager, never()).getTopicLatestOffsets(any());
+    verify(mockTopicManager, never()).getPartitionLatestOffsetAndRetry(any(), anyInt());
+
+    // A partition missing from the batched result falls back to the per-partition request.
+    when(mockTopicManager.getPartitionLatestOffsetAndRetry(new PubSubTopicPartitionImpl(testTopic, 1), 10))
+        .thenReturn(20L);
+    Assert.assertEquals(cachedKafkaMetadataGetter.getOffset(mockTopicManager, testTopic, 1), 20L);
+    verify(mockTopicManager, times(1)).getPartitionsLatestOffsets(any());
+  }
+
+  @Test
+  public void testGetOffsetDoesNotBatchSingleServedPartition() {
+    CachedKafkaMetadataGetter cachedKafkaMetadataGetter =
+        new CachedKafkaMetadataGetter(60000, () -> Collections.singletonList(0));
+    TopicManager mockTopicManager = mock(TopicManager.class);
+    PubSubTopic testTopic = pubSubTopicRepository.getTopic("test_rt");
+    when(mockTopicManager.getKafkaBootstrapServers()).thenReturn("broker");
+    when(mockTopicManager.getPartitionLatestOffsetAndRetry(new PubSubTopicPartitionImpl(testTopic, 0), 10))
+        .thenReturn(10L);
+    Assert.assertEquals(cachedKafkaMetadataGetter.getOffset(mockTopicManager, testTopic, 0), 10L);
+    verify(mockTopicManager, never()).getPartitionsLatestOffsets(any());
+  }
+
   @Test
   public void testCacheWillResetStatusWhenExceptionIsThrown() {
     CachedKafkaMetadataGetter cachedKafkaMetadataGetter = new CachedKafkaMetadataGetter(1000);
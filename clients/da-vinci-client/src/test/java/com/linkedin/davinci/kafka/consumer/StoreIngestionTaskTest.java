@@ -138,6 +138,7 @@ import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.unit.kafka.InMemoryKafkaBroker;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
@@ -212,6 +213,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -2175,6 +2177,42 @@ public abstract class StoreIngestionTaskTest {
     }, isActiveActiveReplicationEnabled);
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testBulkLoadSSTFilesAreIngestedAtEndOfPush(boolean bulkLoadFilesMissing) throws Exception {
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.sorted = true;
+    storeVersionState.bulkLoadLocation = "/bulk_load_staging/" + topic;
+    setStoreVersionStateSupplier(storeVersionState);
+    String bulkLoadPartitionDir =
+        RocksDBUtils.composeBulkLoadPartitionDir(storeVersionState.bulkLoadLocation.toString(), PARTITION_FOO);
+    if (bulkLoadFilesMissing) {
+      doThrow(new VeniceException("Failed to read bulk-load manifest")).when(mockAbstractStorageEngine)
+          .ingestBulkLoadSSTFiles(PARTITION_FOO, bulkLoadPartitionDir);
+    }
+    // The data of a bulk-load push is not in the version topic.
+    localVeniceWriter.broadcastStartOfPush(true, new HashMap<>());
+    localVeniceWriter.broadcastEndOfPush(new HashMap<>());
+
+    runTest(Utils.setOf(PARTITION_FOO), () -> {
+      verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS))
+          .ingestBulkLoadSSTFiles(PARTITION_FOO, bulkLoadPartitionDir);
+      if (bulkLoadFilesMissing) {
+        // The partition can't be completed without its data.
+        verify(mockLogNotifier, timeout(TEST_TIMEOUT_MS)).error(eq(topic), eq(PARTITION_FOO), anyString(), any());
+        verify(mockLogNotifier, never()).completed(eq(topic), eq(PARTITION_FOO), anyLong(), anyString());
+      } else {
+        // The files are ingested before the batch write is finalized.
+        InOrder inOrder = Mockito.inOrder(mockAbstractStorageEngine);
+        inOrder.verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS))
+            .ingestBulkLoadSSTFiles(PARTITION_FOO, bulkLoadPartitionDir);
+        inOrder.verify(mockAbstractStorageEngine, timeout(TEST_TIMEOUT_MS))
+            .endBatchWrite(new StoragePartitionConfig(topic, PARTITION_FOO));
+        verify(mockLogNotifier, timeout(TEST_TIMEOUT_MS))
+            .completed(eq(topic), eq(PARTITION_FOO), anyLong(), eq("STANDBY"));
+      }
+    }, false);
+  }
+
   @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
   public void testVeniceMessagesProcessingWithSortedInputVerifyChecksum(boolean isActiveActiveReplicationEnabled)
       throws Exception {
@@ -0,0 +1,209 @@
+package com.linkedin.davinci.storage.snapshot;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.client.store.transport.HttpTransportClient;
+import com.linkedin.venice.client.store.transport.TransportClientResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.utils.ObjectMapperFactory;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class PeerSnapshotBootstrapperTest {
+  private static final String TOPIC = "test_store_v1";
+  private static final int PARTITION = 3;
+  private static final String SNAPSHOT_ID = "snapshot_1";
+  private static final String GOOD_PEER = "http://good_peer:1234/";
+  private static final String CORRUPTED_PEER = "http://corrupted_peer:1234/";
+  private static final String NO_EOP_PEER = "http://no_eop_peer:1234/";
+  private static final String SLOW_PEER = "http://slow_peer:1234/";
+  private static final byte[] SST_FILE = "sst file content".getBytes(StandardCharsets.UTF_8);
+  private static final InternalAvroSpecificSerializer<PartitionState> PARTITION_STATE_SERIALIZER =
+      AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+  private static final InternalAvroSpecificSerializer<StoreVersionState> STORE_VERSION_STATE_SERIALIZER =
+      AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer();
+
+  private File dataBaseDir;
+  private StorageMetadataService storageMetadataService;
+  private VeniceStoreVersionConfig storeConfig;
+  private String partitionDir;
+  private PeerSnapshotBootstrapper bootstrapper;
+
+  @BeforeMethod
+  public void setUp() {
+    dataBaseDir = Utils.getTempDataDirectory();
+    partitionDir = RocksDBUtils
+        .composePartitionDbDir(dataBaseDir.getAbsolutePath() + File.separator + "rocksdb", TOPIC, PARTITION);
+    storageMetadataService = mock(StorageMetadataService.class);
+    storeConfig = mock(VeniceStoreVersionConfig.class);
+    doReturn(TOPIC).when(storeConfig).getStoreVersionName();
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    if (bootstrapper != null) {
+      bootstrapper.close();
+    }
+    FileUtils.deleteQuietly(dataBaseDir);
+  }
+
+  private PeerSnapshotBootstrapper createBootstrapper(long timeoutMs, String... peerUrls) {
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(dataBaseDir.getAbsolutePath()).when(serverConfig).getDataBasePath();
+    doReturn(-1L).when(serverConfig).getPeerSnapshotBootstrapMaxBytesPerSec();
+    doReturn(timeoutMs).when(serverConfig).getPeerSnapshotBootstrapTimeoutMs();
+
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(PersistenceType.ROCKS_DB).when(storageEngine).getType();
+    StorageService storageService = mock(StorageService.class);
+    doReturn(storageEngine).when(storageService).openStore(eq(storeConfig), any());
+
+    Map<String, HttpTransportClient> peers = new HashMap<>();
+    peers.put(GOOD_PEER, createPeer(true, SST_FILE));
+    peers.put(CORRUPTED_PEER, createPeer(true, "corrupted content".getBytes(StandardCharsets.UTF_8)));
+    peers.put(NO_EOP_PEER, createPeer(false, SST_FILE));
+    HttpTransportClient slowPeer = mock(HttpTransportClient.class);
+    doReturn(new CompletableFuture<>()).when(slowPeer).get(anyString());
+    peers.put(SLOW_PEER, slowPeer);
+
+    List<String> peerUrlList = Arrays.asList(peerUrls);
+    Function<String, HttpTransportClient> transportClientFactory = peers::get;
+    bootstrapper = new PeerSnapshotBootstrapper(
+        serverConfig,
+        storageService,
+        storageMetadataService,
+        mock(ReadOnlyStoreRepository.class),
+        (topicName, partition) -> peerUrlList,
+        transportClientFactory);
+    return bootstrapper;
+  }
+
+  /**
+   * @return a peer whose manifest describes {@link #SST_FILE}, but which serves the given content for it
+   */
+  private HttpTransportClient createPeer(boolean endOfPushReceived, byte[] servedContent) {
+    OffsetRecord offsetRecord = new OffsetRecord(PARTITION_STATE_SERIALIZER);
+    offsetRecord.setCheckpointLocalVersionTopicOffset(100);
+    if (endOfPushReceived) {
+      offsetRecord.endOfPushReceived(50);
+    }
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.sorted = true;
+    storeVersionState.chunked = false;
+    storeVersionState.compressionStrategy = 0;
+    CRC32 crc32 = new CRC32();
+    crc32.update(SST_FILE, 0, SST_FILE.length);
+
+    PeerSnapshotManifest manifest = new PeerSnapshotManifest();
+    manifest.setTopicName(TOPIC);
+    manifest.setPartition(PARTITION);
+    manifest.setSnapshotId(SNAPSHOT_ID);
+    manifest.setFiles(
+        Collections.singletonList(
+            new PeerSnapshotManifest.SnapshotFile("000001.sst", SST_FILE.length, crc32.getValue())));
+    manifest.setOffsetRecord(offsetRecord.toBytes());
+    manifest.setStoreVersionState(STORE_VERSION_STATE_SERIALIZER.serialize(TOPIC, storeVersionState));
+
+    String manifestPath = "snapshot/" + TOPIC + "/" + PARTITION;
+    Map<String, byte[]> responses = new HashMap<>();
+    try {
+      responses.put(manifestPath, ObjectMapperFactory.getInstance().writeValueAsBytes(manifest));
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+    responses.put(manifestPath + "/" + SNAPSHOT_ID + "/000001.sst/0", servedContent);
+
+    HttpTransportClient client = mock(HttpTransportClient.class);
+    doAnswer(invocation -> {
+      byte[] body = responses.get((String) invocation.getArgument(0));
+      return CompletableFuture
+          .completedFuture(body == null ? null : new TransportClientResponse(-1, CompressionStrategy.NO_OP, body));
+    }).when(client).get(anyString());
+    return client;
+  }
+
+  @Test
+  public void testBootstrapFromGoodSnapshot() throws Exception {
+    Assert.assertTrue(createBootstrapper(10000, GOOD_PEER).maybeBootstrap(storeConfig, PARTITION));
+    Assert.assertEquals(Files.readAllBytes(Paths.get(partitionDir, "000001.sst")), SST_FILE);
+    verify(storageMetadataService).put(eq(TOPIC), eq(PARTITION), any(OffsetRecord.class));
+    verify(storageMetadataService).computeStoreVersionState(eq(TOPIC), any());
+    Assert.assertFalse(new File(dataBaseDir, "peer_snapshot_staging/" + TOPIC + "/" + PARTITION).exists());
+  }
+
+  @Test
+  public void testCorruptedSnapshotIsRejected() {
+    Assert.assertFalse(createBootstrapper(10000, CORRUPTED_PEER).maybeBootstrap(storeConfig, PARTITION));
+    Assert.assertFalse(new File(partitionDir).exists());
+    Assert.assertFalse(new File(dataBaseDir, "peer_snapshot_staging/" + TOPIC + "/" + PARTITION).exists());
+    verify(storageMetadataService, never()).put(anyString(), eq(PARTITION), any(OffsetRecord.class));
+  }
+
+  @Test
+  public void testPeerWithoutEndOfPushIsSkipped() {
+    Assert.assertFalse(createBootstrapper(10000, NO_EOP_PEER).maybeBootstrap(storeConfig, PARTITION));
+    Assert.assertFalse(new File(partitionDir).exists());
+    verify(storageMetadataService, never()).put(anyString(), eq(PARTITION), any(OffsetRecord.class));
+  }
+
+  @Test
+  public void testFallbackToNextPeer() throws Exception {
+    Assert.assertTrue(
+        createBootstrapper(10000, CORRUPTED_PEER, NO_EOP_PEER, GOOD_PEER).maybeBootstrap(storeConfig, PARTITION));
+    Assert.assertEquals(Files.readAllBytes(Paths.get(partitionDir, "000001.sst")), SST_FILE);
+    verify(storageMetadataService).put(eq(TOPIC), eq(PARTITION), any(OffsetRecord.class));
+  }
+
+  @Test(timeOut = 10000)
+  public void testTimeout() {
+    Assert.assertFalse(createBootstrapper(100, SLOW_PEER, GOOD_PEER).maybeBootstrap(storeConfig, PARTITION));
+    Assert.assertFalse(new File(partitionDir).exists());
+    verify(storageMetadataService, never()).put(anyString(), eq(PARTITION), any(OffsetRecord.class));
+  }
+
+  @Test
+  public void testNoBootstrapWithoutPeersOrWithLocalData() throws Exception {
+    Assert.assertFalse(createBootstrapper(10000).maybeBootstrap(storeConfig, PARTITION));
+    bootstrapper.close();
+    Assert.assertTrue(new File(partitionDir).mkdirs());
+    Assert.assertFalse(createBootstrapper(10000, GOOD_PEER).maybeBootstrap(storeConfig, PARTITION));
+    verify(storageMetadataService, never()).put(anyString(), eq(PARTITION), any(OffsetRecord.class));
+  }
+}
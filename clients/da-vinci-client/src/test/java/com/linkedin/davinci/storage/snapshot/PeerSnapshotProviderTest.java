@@ -0,0 +1,176 @@
+package com.linkedin.davinci.storage.snapshot;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.venice.kafka.protocol.state.PartitionState;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.TestMockTime;
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class PeerSnapshotProviderTest {
+  private static final String TOPIC = "test_store_v1";
+  private static final int PARTITION = 3;
+  private static final long MAX_SNAPSHOT_AGE_MS = TimeUnit.MINUTES.toMillis(10);
+  private static final InternalAvroSpecificSerializer<PartitionState> PARTITION_STATE_SERIALIZER =
+      AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+
+  private File snapshotBaseDir;
+  private TestMockTime time;
+  private AbstractStorageEngine storageEngine;
+  private StorageMetadataService storageMetadataService;
+  private OffsetRecord offsetRecord;
+  private PeerSnapshotProvider provider;
+
+  @BeforeMethod
+  public void setUp() {
+    snapshotBaseDir = Utils.getTempDataDirectory();
+    VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+    doReturn(snapshotBaseDir.getAbsolutePath()).when(serverConfig).getPartitionSnapshotDir();
+    doReturn(MAX_SNAPSHOT_AGE_MS).when(serverConfig).getPeerSnapshotMaxAgeMs();
+
+    storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(PersistenceType.ROCKS_DB).when(storageEngine).getType();
+    doReturn(true).when(storageEngine).containsPartition(PARTITION);
+    // The checkpoint is simulated with a couple of files in the snapshot dir.
+    doAnswer(invocation -> {
+      File snapshotDir = new File((String) invocation.getArgument(1));
+      Assert.assertTrue(snapshotDir.mkdirs());
+      Files.write(Paths.get(snapshotDir.getPath(), "000001.sst"), new byte[PeerSnapshotProvider.MAX_CHUNK_SIZE + 10]);
+      Files.write(Paths.get(snapshotDir.getPath(), "CURRENT"), "MANIFEST-000002".getBytes());
+      return null;
+    }).when(storageEngine).createSnapshot(anyInt(), anyString());
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(TOPIC);
+
+    offsetRecord = new OffsetRecord(PARTITION_STATE_SERIALIZER);
+    offsetRecord.setCheckpointLocalVersionTopicOffset(100);
+    storageMetadataService = mock(StorageMetadataService.class);
+    doReturn(offsetRecord).when(storageMetadataService).getLastOffset(TOPIC, PARTITION);
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.sorted = true;
+    storeVersionState.chunked = false;
+    storeVersionState.compressionStrategy = 0;
+    doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(TOPIC);
+
+    time = new TestMockTime();
+    provider = new PeerSnapshotProvider(serverConfig, storageEngineRepository, storageMetadataService, time);
+  }
+
+  @AfterMethod
+  public void cleanUp() {
+    provider.close();
+    FileUtils.deleteQuietly(snapshotBaseDir);
+  }
+
+  @Test
+  public void testNoSnapshotBeforeEndOfPush() throws Exception {
+    Assert.assertNull(provider.getManifest(TOPIC, PARTITION).get());
+    Assert.assertNull(provider.getManifest("unknown_store_v1", PARTITION).get());
+    verify(storageEngine, times(0)).createSnapshot(anyInt(), anyString());
+  }
+
+  @Test
+  public void testServeSnapshot() throws Exception {
+    offsetRecord.endOfPushReceived(50);
+    PeerSnapshotManifest manifest = provider.getManifest(TOPIC, PARTITION).get();
+    Assert.assertNotNull(manifest);
+    Assert.assertEquals(manifest.getFiles().size(), 2);
+    Assert.assertEquals(
+        new OffsetRecord(manifest.getOffsetRecord(), PARTITION_STATE_SERIALIZER).getLocalVersionTopicOffset(),
+        100);
+
+    // The file is served in chunks which add up to the size and checksum of the manifest.
+    PeerSnapshotManifest.SnapshotFile sstFile = manifest.getFiles()
+        .stream()
+        .filter(file -> file.getName().equals("000001.sst"))
+        .findFirst()
+        .get();
+    ByteBuffer firstChunk = provider.readFileChunk(TOPIC, PARTITION, manifest.getSnapshotId(), sstFile.getName(), 0);
+    Assert.assertEquals(firstChunk.remaining(), PeerSnapshotProvider.MAX_CHUNK_SIZE);
+    ByteBuffer lastChunk = provider.readFileChunk(
+        TOPIC,
+        PARTITION,
+        manifest.getSnapshotId(),
+        sstFile.getName(),
+        PeerSnapshotProvider.MAX_CHUNK_SIZE);
+    Assert.assertEquals(lastChunk.remaining(), 10);
+    Assert.assertEquals(firstChunk.remaining() + lastChunk.remaining(), sstFile.getSize());
+
+    // Only the files of the manifest can be read.
+    Assert.assertNull(provider.readFileChunk(TOPIC, PARTITION, manifest.getSnapshotId(), "../../CURRENT", 0));
+    Assert.assertNull(provider.readFileChunk(TOPIC, PARTITION, "unknown", sstFile.getName(), 0));
+
+    // The snapshot is reused until it gets too old.
+    time.addMilliseconds(MAX_SNAPSHOT_AGE_MS / 2);
+    Assert.assertEquals(provider.getManifest(TOPIC, PARTITION).get().getSnapshotId(), manifest.getSnapshotId());
+    time.addMilliseconds(MAX_SNAPSHOT_AGE_MS / 2);
+    PeerSnapshotManifest newManifest = provider.getManifest(TOPIC, PARTITION).get();
+    Assert.assertNotEquals(newManifest.getSnapshotId(), manifest.getSnapshotId());
+    verify(storageEngine, times(2)).createSnapshot(anyInt(), anyString());
+
+    // The old snapshot is deleted once nobody read it for as long.
+    Assert.assertNotNull(provider.readFileChunk(TOPIC, PARTITION, manifest.getSnapshotId(), "CURRENT", 0));
+    time.addMilliseconds(MAX_SNAPSHOT_AGE_MS);
+    provider.removeExpiredSnapshots();
+    Assert.assertNull(provider.readFileChunk(TOPIC, PARTITION, manifest.getSnapshotId(), "CURRENT", 0));
+    File[] snapshotDirs = Paths.get(snapshotBaseDir.getPath(), PeerSnapshotProvider.PEER_SNAPSHOT_DIR, TOPIC)
+        .resolve(String.valueOf(PARTITION))
+        .toFile()
+        .listFiles();
+    Assert.assertEquals(snapshotDirs.length, 1, Arrays.toString(snapshotDirs));
+  }
+
+  @Test
+  public void testConcurrentRequestsShareSnapshotCreation() throws Exception {
+    offsetRecord.endOfPushReceived(50);
+    CountDownLatch creationStarted = new CountDownLatch(1);
+    CountDownLatch creationReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      creationStarted.countDown();
+      Assert.assertTrue(creationReleased.await(10, TimeUnit.SECONDS));
+      Assert.assertTrue(new File((String) invocation.getArgument(1)).mkdirs());
+      return null;
+    }).when(storageEngine).createSnapshot(anyInt(), anyString());
+
+    // The snapshot is created off the calling thread, and the requests for the same partition wait for the same one.
+    CompletableFuture<PeerSnapshotManifest> first = provider.getManifest(TOPIC, PARTITION);
+    Assert.assertTrue(creationStarted.await(10, TimeUnit.SECONDS));
+    CompletableFuture<PeerSnapshotManifest> second = provider.getManifest(TOPIC, PARTITION);
+    Assert.assertFalse(first.isDone());
+    Assert.assertSame(second, first);
+
+    creationReleased.countDown();
+    PeerSnapshotManifest manifest = first.get(10, TimeUnit.SECONDS);
+    Assert.assertNotNull(manifest);
+    Assert.assertEquals(provider.getManifest(TOPIC, PARTITION).get().getSnapshotId(), manifest.getSnapshotId());
+    verify(storageEngine, times(1)).createSnapshot(anyInt(), anyString());
+  }
+}
@@ -2,7 +2,15 @@ package com.linkedin.davinci.store.memory;
 
 import static org.testng.Assert.*;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.venice.exceptions.VeniceException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -19,4 +27,174 @@ public class InMemoryStoragePartitionTest {
     storagePartition.put(KEY.getBytes(), keyBuffer);
     Assert.assertNotNull(storagePartition.get(keyBuffer));
   }
+
+  @Test
+  public void testRandomWritesMatchAHashMap() {
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM);
+    Map<String, byte[]> expected = new HashMap<>();
+    Random random = new Random(42);
+    // Enough overwrites and deletes of 1KB values to trigger several resizes and compactions.
+    for (int i = 0; i < 20000; i++) {
+      String key = "key_" + random.nextInt(3000);
+      if (random.nextInt(4) == 0) {
+        storagePartition.delete(key.getBytes());
+        expected.remove(key);
+      } else {
+        byte[] value = new byte[1024];
+        random.nextBytes(value);
+        storagePartition.put(key.getBytes(), value);
+        expected.put(key, value);
+      }
+    }
+    for (int i = 0; i < 3000; i++) {
+      String key = "key_" + i;
+      Assert.assertEquals(storagePartition.get(key.getBytes()), expected.get(key), "Mismatch for key: " + key);
+    }
+    long expectedSize = expected.entrySet().stream().mapToLong(e -> e.getKey().length() + e.getValue().length).sum();
+    Assert.assertEquals(storagePartition.getPartitionSizeInBytes(), expectedSize);
+    // The compactions keep the garbage below half of the allocated memory.
+    Assert.assertTrue(storagePartition.getAllocatedBytes() < 3 * expectedSize);
+  }
+
+  @Test
+  public void testGetByKeyPrefix() {
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM);
+    for (int i = 0; i < 5000; i++) {
+      storagePartition.put(("b_" + i).getBytes(), ("value_" + i).getBytes());
+      storagePartition.put(("a_" + i).getBytes(), ("value_" + i).getBytes());
+    }
+    storagePartition.put(new byte[] { (byte) 0xff }, "unsigned".getBytes());
+    storagePartition.delete("b_7".getBytes());
+
+    List<String> keys = new ArrayList<>();
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        keys.add(new String(key));
+        // Writes from the callback must not deadlock the scan.
+        storagePartition.put(("c_" + new String(key)).getBytes(), value);
+      }
+
+      @Override
+      public void onCompletion() {
+        keys.add("DONE");
+      }
+    };
+    storagePartition.getByKeyPrefix("b_7".getBytes(), callback);
+    Assert.assertEquals(keys.size(), 1110 + 1);
+    Assert.assertEquals(keys.get(0), "b_70");
+    Assert.assertEquals(keys.get(keys.size() - 1), "DONE");
+    for (int i = 1; i < keys.size() - 1; i++) {
+      Assert.assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+    }
+
+    List<byte[]> allKeys = new ArrayList<>();
+    storagePartition.getByKeyPrefix(null, new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        allKeys.add(key);
+      }
+
+      @Override
+      public void onCompletion() {
+      }
+    });
+    Assert.assertEquals(allKeys.size(), 10000 - 1 + 1 + 1110);
+    // Keys are sorted as unsigned bytes, so the 0xff key comes last.
+    Assert.assertEquals(allKeys.get(allKeys.size() - 1), new byte[] { (byte) 0xff });
+  }
+
+  @Test
+  public void testMemoryBudget() {
+    OffHeapMemoryBudget memoryBudget = new OffHeapMemoryBudget(4 * 1024 * 1024);
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM, memoryBudget);
+    byte[] value = new byte[10 * 1024];
+    Assert.assertThrows(VeniceException.class, () -> {
+      for (int i = 0; i < 1000; i++) {
+        storagePartition.put(("key_" + i).getBytes(), value);
+      }
+    });
+    Assert.assertTrue(memoryBudget.getUsedBytes() <= memoryBudget.getLimitInBytes());
+
+    // Deleting most of the records compacts the remaining ones and gives the memory back to the budget.
+    for (int i = 10; i < 1000; i++) {
+      storagePartition.delete(("key_" + i).getBytes());
+    }
+    Assert.assertTrue(memoryBudget.getUsedBytes() < memoryBudget.getLimitInBytes() / 2);
+
+    // Overwriting the same keys reclaims the space of the previous values.
+    for (int round = 0; round < 100; round++) {
+      for (int i = 0; i < 10; i++) {
+        storagePartition.put(("key_" + i).getBytes(), value);
+      }
+    }
+    assertTrue(Arrays.equals(storagePartition.get("key_0".getBytes()), value));
+    Assert.assertEquals(storagePartition.get("key_10".getBytes()), null);
+
+    storagePartition.drop();
+    Assert.assertEquals(memoryBudget.getUsedBytes(), 0);
+  }
+
+  @Test
+  public void testCompactionOnlyNeedsRoomForOneSlab() {
+    // Three full slabs of records, with a bit more than one free slab left in the budget.
+    OffHeapMemoryBudget memoryBudget = new OffHeapMemoryBudget(4 * 1024 * 1024 + 128 * 1024);
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM, memoryBudget);
+    byte[] value = new byte[10 * 1024];
+    for (int i = 0; i < 300; i++) {
+      storagePartition.put(("key_" + i).getBytes(), value);
+    }
+
+    // The live records still take more than the free budget when compacted, so they can't be copied all at once.
+    for (int i = 0; i < 300; i++) {
+      if (i % 20 < 11) {
+        storagePartition.delete(("key_" + i).getBytes());
+      }
+    }
+    Assert.assertTrue(memoryBudget.getUsedBytes() < 2 * 1024 * 1024);
+    Assert.assertEquals(storagePartition.getAllocatedBytes(), memoryBudget.getUsedBytes());
+    for (int i = 0; i < 300; i++) {
+      byte[] expectedValue = i % 20 < 11 ? null : value;
+      Assert.assertEquals(storagePartition.get(("key_" + i).getBytes()), expectedValue);
+    }
+  }
+
+  @Test
+  public void testAddAndDropPartitionsRepeatedly() {
+    // The change log consumer adds a partition to buffer the chunks of each record, and drops it once assembled.
+    OffHeapMemoryBudget memoryBudget = new OffHeapMemoryBudget(4 * 1024 * 1024);
+    InMemoryStorageEngine storageEngine = new InMemoryStorageEngine("test_store_v1", memoryBudget);
+    byte[] value = new byte[100];
+    for (int i = 0; i < 10000; i++) {
+      int partitionId = i % 3;
+      Assert.assertFalse(storageEngine.containsPartition(partitionId));
+      storageEngine.addStoragePartition(partitionId);
+      InMemoryStoragePartition storagePartition =
+          (InMemoryStoragePartition) storageEngine.getPartitionOrThrow(partitionId);
+      // Nothing is allocated before the first write, and a small record only takes a small slab.
+      Assert.assertEquals(storagePartition.getAllocatedBytes(), 0);
+      storageEngine.put(partitionId, KEY.getBytes(), value);
+      Assert.assertTrue(storagePartition.getAllocatedBytes() <= 2 * OffHeapHashTable.MIN_SLAB_SIZE);
+      Assert.assertEquals(storageEngine.get(partitionId, KEY.getBytes()), value);
+      storageEngine.dropPartition(partitionId);
+      Assert.assertEquals(memoryBudget.getUsedBytes(), 0);
+    }
+    storageEngine.close();
+  }
+
+  @Test
+  public void testClosedPartition() {
+    OffHeapMemoryBudget memoryBudget = new OffHeapMemoryBudget(4 * 1024 * 1024);
+    InMemoryStoragePartition storagePartition = new InMemoryStoragePartition(PARTITION_NUM, memoryBudget);
+    storagePartition.put(KEY.getBytes(), KEY.getBytes());
+    storagePartition.close();
+    Assert.assertEquals(memoryBudget.getUsedBytes(), 0);
+
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.get(KEY.getBytes()));
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.put(KEY.getBytes(), KEY.getBytes()));
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.delete(KEY.getBytes()));
+    // Closing again is a no-op.
+    storagePartition.drop();
+    Assert.assertEquals(memoryBudget.getUsedBytes(), 0);
+  }
 }
@@ -0,0 +1,199 @@
+package com.linkedin.davinci.store.mmap;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStorageEngineTest;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.ConfigKeys;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.HybridStoreConfig;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MmapStorageEngineTest {
+  private static final int PARTITION_ID = 0;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes();
+  }
+
+  private MmapStorageEngine createStorageEngine(VeniceProperties serverProps, String topicName) {
+    VeniceStoreVersionConfig storeConfig =
+        new VeniceStoreVersionConfig(topicName, serverProps, PersistenceType.READ_OPTIMIZED_MMAP);
+    String mmapPath = new VeniceServerConfig(serverProps).getDataBasePath() + File.separator + "mmap";
+    return new MmapStorageEngine(
+        storeConfig,
+        mmapPath,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+  }
+
+  @Test
+  public void testEndBatchWriteBuildsSortedImmutablePartition() {
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.READ_OPTIMIZED_MMAP);
+    String topicName = Version.composeKafkaTopic(Utils.getUniqueString("mmap_store"), 1);
+    MmapStorageEngine storageEngine = createStorageEngine(serverProps, topicName);
+    try {
+      StoragePartitionConfig partitionConfig = new StoragePartitionConfig(topicName, PARTITION_ID);
+      storageEngine.addStoragePartition(partitionConfig);
+      storageEngine.beginBatchWrite(partitionConfig, Collections.emptyMap(), Optional.empty());
+      // Unsorted input with an overwritten key and a deleted key.
+      storageEngine.put(PARTITION_ID, bytes("key_b"), bytes("value_b"));
+      storageEngine.put(PARTITION_ID, bytes("key_a"), bytes("value_a"));
+      storageEngine.put(PARTITION_ID, bytes("other"), bytes("value_other"));
+      storageEngine.put(PARTITION_ID, bytes("key_c"), bytes("value_c"));
+      storageEngine.put(PARTITION_ID, bytes("key_a"), bytes("value_a2"));
+      storageEngine.delete(PARTITION_ID, bytes("key_c"));
+      // Nothing is readable until the end of the batch push.
+      Assert.assertNull(storageEngine.get(PARTITION_ID, bytes("key_a")));
+      storageEngine.endBatchWrite(partitionConfig);
+
+      Assert.assertEquals(storageEngine.get(PARTITION_ID, bytes("key_a")), bytes("value_a2"));
+      Assert.assertEquals(storageEngine.get(PARTITION_ID, bytes("key_b")), bytes("value_b"));
+      Assert.assertNull(storageEngine.get(PARTITION_ID, bytes("key_c")));
+      Assert.assertNull(storageEngine.get(PARTITION_ID, bytes("missing")));
+
+      List<byte[]> values = storageEngine.multiGet(
+          PARTITION_ID,
+          Arrays.asList(bytes("other"), bytes("missing"), bytes("key_b"), bytes("key_a"), bytes("zzz")));
+      Assert.assertEquals(values.size(), 5);
+      Assert.assertEquals(values.get(0), bytes("value_other"));
+      Assert.assertNull(values.get(1));
+      Assert.assertEquals(values.get(2), bytes("value_b"));
+      Assert.assertEquals(values.get(3), bytes("value_a2"));
+      Assert.assertNull(values.get(4));
+
+      List<String> keys = new ArrayList<>();
+      BytesStreamingCallback callback = new BytesStreamingCallback() {
+        @Override
+        public void onRecordReceived(byte[] key, byte[] value) {
+          keys.add(new String(key));
+        }
+
+        @Override
+        public void onCompletion() {
+          keys.add("DONE");
+        }
+      };
+      storageEngine.getByKeyPrefix(PARTITION_ID, bytes("key_"), callback);
+      Assert.assertEquals(keys, Arrays.asList("key_a", "key_b", "DONE"));
+      keys.clear();
+      storageEngine.getByKeyPrefix(PARTITION_ID, null, callback);
+      Assert.assertEquals(keys, Arrays.asList("key_a", "key_b", "other", "DONE"));
+
+      Assert.assertThrows(VeniceException.class, () -> storageEngine.put(PARTITION_ID, bytes("key_d"), bytes("d")));
+    } finally {
+      storageEngine.drop();
+    }
+  }
+
+  @Test
+  public void testResumeFromCheckpointAndReopen() {
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.READ_OPTIMIZED_MMAP);
+    String topicName = Version.composeKafkaTopic(Utils.getUniqueString("mmap_store"), 1);
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(topicName, PARTITION_ID);
+
+    MmapStorageEngine storageEngine = createStorageEngine(serverProps, topicName);
+    storageEngine.addStoragePartition(partitionConfig);
+    storageEngine.beginBatchWrite(partitionConfig, Collections.emptyMap(), Optional.empty());
+    storageEngine.put(PARTITION_ID, bytes("key_1"), bytes("value_1"));
+    Map<String, String> checkpointedInfo = storageEngine.sync(PARTITION_ID);
+    OffsetRecord offsetRecord = new OffsetRecord(AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    offsetRecord.setCheckpointLocalVersionTopicOffset(100L);
+    storageEngine.putPartitionOffset(PARTITION_ID, offsetRecord);
+    // Written after the checkpoint, so it must be discarded when the ingestion resumes.
+    storageEngine.put(PARTITION_ID, bytes("key_2"), bytes("value_2"));
+    storageEngine.close();
+
+    storageEngine = createStorageEngine(serverProps, topicName);
+    try {
+      Assert.assertTrue(storageEngine.containsPartition(PARTITION_ID));
+      Assert.assertEquals(storageEngine.getPartitionOffset(PARTITION_ID).get().getLocalVersionTopicOffset(), 100L);
+      Assert.assertTrue(storageEngine.checkDatabaseIntegrity(PARTITION_ID, checkpointedInfo, partitionConfig));
+      storageEngine.beginBatchWrite(partitionConfig, checkpointedInfo, Optional.empty());
+      storageEngine.put(PARTITION_ID, bytes("key_3"), bytes("value_3"));
+      storageEngine.endBatchWrite(partitionConfig);
+      storageEngine.close();
+
+      storageEngine = createStorageEngine(serverProps, topicName);
+      Assert.assertEquals(storageEngine.get(PARTITION_ID, bytes("key_1")), bytes("value_1"));
+      Assert.assertNull(storageEngine.get(PARTITION_ID, bytes("key_2")));
+      Assert.assertEquals(storageEngine.get(PARTITION_ID, bytes("key_3")), bytes("value_3"));
+      Assert.assertTrue(storageEngine.getStoreSizeInBytes() > 0);
+    } finally {
+      storageEngine.drop();
+    }
+  }
+
+  @Test
+  public void testStorageServiceUsesMmapForAllowlistedBatchOnlyVersions() throws Exception {
+    String allowlistedStoreName = Utils.getUniqueString("mmap_store");
+    String hybridStoreName = Utils.getUniqueString("mmap_hybrid_store");
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
+    mockStore(storeRepository, allowlistedStoreName, false);
+    mockStore(storeRepository, hybridStoreName, true);
+
+    Properties properties = new Properties();
+    properties.put(
+        ConfigKeys.SERVER_MMAP_STORAGE_ENGINE_STORE_ALLOWLIST,
+        allowlistedStoreName + "," + hybridStoreName);
+    VeniceProperties serverProps = AbstractStorageEngineTest.getServerProperties(PersistenceType.IN_MEMORY, properties);
+    StorageService storageService = new StorageService(
+        AbstractStorageEngineTest.getVeniceConfigLoader(serverProps),
+        mock(AggVersionedStorageEngineStats.class),
+        null,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer(),
+        storeRepository);
+    try {
+      String batchOnlyTopic = Version.composeKafkaTopic(allowlistedStoreName, 1);
+      AbstractStorageEngine batchOnlyEngine = storageService.openStoreForNewPartition(
+          new VeniceStoreVersionConfig(batchOnlyTopic, serverProps),
+          PARTITION_ID,
+          () -> null);
+      Assert.assertEquals(batchOnlyEngine.getType(), PersistenceType.READ_OPTIMIZED_MMAP);
+
+      String hybridTopic = Version.composeKafkaTopic(hybridStoreName, 1);
+      AbstractStorageEngine hybridEngine = storageService
+          .openStoreForNewPartition(new VeniceStoreVersionConfig(hybridTopic, serverProps), PARTITION_ID, () -> null);
+      Assert.assertEquals(hybridEngine.getType(), PersistenceType.IN_MEMORY);
+
+      storageService.removeStorageEngine(batchOnlyTopic);
+      storageService.removeStorageEngine(hybridTopic);
+    } finally {
+      storageService.stop();
+    }
+  }
+
+  private static void mockStore(ReadOnlyStoreRepository storeRepository, String storeName, boolean hybrid) {
+    Version version = mock(Version.class);
+    when(version.getHybridStoreConfig()).thenReturn(hybrid ? mock(HybridStoreConfig.class) : null);
+    Store store = mock(Store.class);
+    when(store.getVersion(1)).thenReturn(Optional.of(version));
+    when(storeRepository.getStoreOrThrow(storeName)).thenReturn(store);
+  }
+}
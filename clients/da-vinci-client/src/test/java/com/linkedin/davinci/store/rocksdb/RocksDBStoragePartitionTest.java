@@ -1,5 +1,6 @@
 package com.linkedin.davinci.store.rocksdb;
 
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOB_FILES_ENABLED_STORES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_BLOCK_CACHE_IMPLEMENTATION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_FILE_NUM_COMPACTION_TRIGGER_WRITE_ONLY_VERSION;
@@ -9,6 +10,7 @@ import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEV
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_LEVEL0_STOPS_WRITES_TRIGGER_WRITE_ONLY_VERSION;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MAX_MEMTABLE_COUNT;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MEMTABLE_SIZE_IN_BYTES;
+import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_MIN_BLOB_SIZE_IN_BYTES;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_PLAIN_TABLE_FORMAT_ENABLED;
 import static com.linkedin.davinci.store.rocksdb.RocksDBServerConfig.ROCKSDB_TOTAL_MEMTABLE_USAGE_CAP_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.INGESTION_MEMORY_LIMIT;
@@ -16,34 +18,50 @@ import static com.linkedin.venice.ConfigKeys.INGESTION_USE_DA_VINCI_CLIENT;
 import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
 import static org.mockito.ArgumentMatchers.anyLong;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
+import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.AbstractStorageEngineTest;
 import com.linkedin.davinci.store.StoragePartitionConfig;
 import com.linkedin.venice.exceptions.MemoryLimitExhaustedException;
+import com.linkedin.venice.exceptions.VeniceChecksumException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.validation.checksum.CheckSum;
 import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
 import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.store.rocksdb.SstBulkLoadManifest;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.RandomStringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.mockito.Mockito;
 import org.rocksdb.ComparatorOptions;
+import org.rocksdb.EnvOptions;
 import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
 import org.rocksdb.util.BytewiseComparator;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -605,6 +623,303 @@ public class RocksDBStoragePartitionTest {
     removeDir(storeDir);
   }
 
+  @Test
+  public void testCreateSnapshot() throws RocksDBException {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(100, false, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+    File snapshotBaseDir = new File(Utils.getUniqueTempPath("snapshot"));
+    Assert.assertTrue(snapshotBaseDir.mkdirs());
+    String snapshotDir = new File(snapshotBaseDir, String.valueOf(partitionId)).getPath();
+    storagePartition.createSnapshot(snapshotDir);
+    // The writes after the snapshot shouldn't be in the snapshot.
+    storagePartition.put((KEY_PREFIX + "new").getBytes(), (VALUE_PREFIX + "new").getBytes());
+    storagePartition.delete((KEY_PREFIX + 0).getBytes());
+
+    try (Options options = new Options(); RocksDB snapshot = RocksDB.openReadOnly(options, snapshotDir)) {
+      for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+        Assert.assertEquals(snapshot.get(entry.getKey().getBytes()), entry.getValue().getBytes());
+      }
+      Assert.assertNull(snapshot.get((KEY_PREFIX + "new").getBytes()));
+    }
+    // The snapshot directory must not exist yet.
+    Assert.assertThrows(VeniceException.class, () -> storagePartition.createSnapshot(snapshotDir));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
+  /**
+   * Writes the given records into an SST file of the bulk-load dir like the push job does, and returns its info.
+   */
+  private SstBulkLoadManifest.SstFileInfo writeBulkLoadSSTFile(
+      String bulkLoadPartitionDir,
+      String fileName,
+      Map<String, String> records) throws Exception {
+    Optional<CheckSum> checksum = CheckSum.getInstance(CheckSumType.MD5);
+    try (EnvOptions envOptions = new EnvOptions();
+        Options options = new Options();
+        SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)) {
+      sstFileWriter.open(new File(bulkLoadPartitionDir, fileName).getAbsolutePath());
+      for (Map.Entry<String, String> entry: records.entrySet()) {
+        sstFileWriter.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+        checksum.get().update(entry.getKey().getBytes());
+        checksum.get().update(entry.getValue().getBytes());
+      }
+      sstFileWriter.finish();
+    }
+    return new SstBulkLoadManifest.SstFileInfo(fileName, records.size(), checksum.get().getCheckSum());
+  }
+
+  private void writeBulkLoadManifest(String bulkLoadPartitionDir, SstBulkLoadManifest.SstFileInfo... sstFiles)
+      throws Exception {
+    SstBulkLoadManifest manifest = new SstBulkLoadManifest();
+    for (SstBulkLoadManifest.SstFileInfo sstFile: sstFiles) {
+      manifest.addSstFile(sstFile.getFileName(), sstFile.getRecordCount(), sstFile.getChecksum());
+    }
+    try (OutputStream outputStream =
+        new FileOutputStream(new File(bulkLoadPartitionDir, SstBulkLoadManifest.MANIFEST_FILE_NAME))) {
+      manifest.writeTo(outputStream);
+    }
+  }
+
+  @Test
+  public void testIngestBulkLoadSSTFiles() throws Exception {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(true);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    File bulkLoadPartitionDir = new File(Utils.getUniqueTempPath("bulk_load"), String.valueOf(partitionId));
+    Assert.assertTrue(bulkLoadPartitionDir.mkdirs());
+    Map<String, String> inputRecords = generateInput(1000, true, 0);
+    Map<String, String> firstFileRecords = new TreeMap<>();
+    Map<String, String> secondFileRecords = new TreeMap<>();
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      // Both maps keep the bytewise order of the sorted input since the keys are ASCII.
+      (firstFileRecords.size() < 500 ? firstFileRecords : secondFileRecords).put(entry.getKey(), entry.getValue());
+    }
+    writeBulkLoadManifest(
+        bulkLoadPartitionDir.getPath(),
+        writeBulkLoadSSTFile(bulkLoadPartitionDir.getPath(), "bulk_load_0.sst", firstFileRecords),
+        writeBulkLoadSSTFile(bulkLoadPartitionDir.getPath(), "bulk_load_1.sst", secondFileRecords));
+
+    storagePartition.beginBatchWrite(new HashMap<>(), Optional.empty());
+    storagePartition.ingestBulkLoadSSTFiles(bulkLoadPartitionDir.getPath());
+    storagePartition.endBatchWrite();
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      Assert.assertEquals(storagePartition.get(entry.getKey().getBytes()), entry.getValue().getBytes());
+    }
+    // The files are copied, since they are shared by all the replicas of the partition.
+    Assert.assertTrue(new File(bulkLoadPartitionDir, "bulk_load_0.sst").exists());
+    Assert.assertTrue(new File(bulkLoadPartitionDir, "bulk_load_1.sst").exists());
+
+    storagePartition.drop();
+    removeDir(storeDir);
+    FileUtils.deleteQuietly(bulkLoadPartitionDir.getParentFile());
+  }
+
+  @Test
+  public void testIngestBulkLoadSSTFilesFailures() throws Exception {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    int partitionId = 0;
+    StoragePartitionConfig partitionConfig = new StoragePartitionConfig(storeName, partitionId);
+    partitionConfig.setDeferredWrite(true);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        partitionConfig,
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    storagePartition.beginBatchWrite(new HashMap<>(), Optional.empty());
+
+    // The files are gone, e.g. the version was deleted.
+    File bulkLoadPartitionDir = new File(Utils.getUniqueTempPath("bulk_load"), String.valueOf(partitionId));
+    VeniceException ex = Assert.expectThrows(
+        VeniceException.class,
+        () -> storagePartition.ingestBulkLoadSSTFiles(bulkLoadPartitionDir.getPath()));
+    Assert.assertTrue(ex.getMessage().contains("Failed to read bulk-load manifest"), ex.getMessage());
+
+    // The file doesn't match its manifest.
+    Assert.assertTrue(bulkLoadPartitionDir.mkdirs());
+    SstBulkLoadManifest.SstFileInfo sstFile =
+        writeBulkLoadSSTFile(bulkLoadPartitionDir.getPath(), "bulk_load_0.sst", generateInput(100, true, 0));
+    writeBulkLoadManifest(
+        bulkLoadPartitionDir.getPath(),
+        new SstBulkLoadManifest.SstFileInfo(sstFile.getFileName(), sstFile.getRecordCount(), new byte[16]));
+    Assert.assertThrows(
+        VeniceChecksumException.class,
+        () -> storagePartition.ingestBulkLoadSSTFiles(bulkLoadPartitionDir.getPath()));
+    Assert.assertNull(storagePartition.get((KEY_PREFIX + 0).getBytes()));
+
+    storagePartition.drop();
+    removeDir(storeDir);
+    FileUtils.deleteQuietly(bulkLoadPartitionDir.getParentFile());
+  }
+
+  @Test
+  public void testBlobFiles() {
+    String storeName = Utils.getUniqueString("test_store");
+    String topicName = Version.composeKafkaTopic(storeName, 1);
+    String storeDir = getTempDatabaseDir(topicName);
+    Properties properties = new Properties();
+    properties.put(ROCKSDB_BLOB_FILES_ENABLED_STORES, storeName);
+    properties.put(ROCKSDB_MIN_BLOB_SIZE_IN_BYTES, 100);
+    VeniceProperties veniceServerProperties =
+        AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB, properties);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(topicName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Assert.assertTrue(storagePartition.getOptions().enableBlobFiles());
+    Assert.assertEquals(storagePartition.getOptions().minBlobSize(), 100);
+
+    // Only the values above the min blob size are moved to the blob files.
+    Map<String, String> inputRecords = generateInput(100, false, 200);
+    inputRecords.put(KEY_PREFIX + "small", VALUE_PREFIX + "small");
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+    storagePartition.sync();
+    Assert.assertTrue(storagePartition.getRocksDBStatValue("rocksdb.num-blob-files") > 0);
+    Assert.assertTrue(storagePartition.getRocksDBStatValue("rocksdb.total-blob-file-size") > 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      Assert.assertEquals(storagePartition.get(entry.getKey().getBytes()), entry.getValue().getBytes());
+    }
+
+    // The metadata partition and the stores outside the allowlist keep the values inline.
+    RocksDBStoragePartition metadataPartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(topicName, AbstractStorageEngine.METADATA_PARTITION_ID),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Assert.assertFalse(metadataPartition.getOptions().enableBlobFiles());
+    String otherTopicName = Version.composeKafkaTopic(Utils.getUniqueString("test_store"), 1);
+    String otherStoreDir = getTempDatabaseDir(otherTopicName);
+    RocksDBStoragePartition otherStoragePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(otherTopicName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+    Assert.assertFalse(otherStoragePartition.getOptions().enableBlobFiles());
+
+    metadataPartition.drop();
+    otherStoragePartition.drop();
+    storagePartition.drop();
+    removeDir(otherStoreDir);
+    removeDir(storeDir);
+  }
+
+  @Test
+  public void testGetByKeyPrefixWithRecordLimit() {
+    String storeName = Utils.getUniqueString("test_store");
+    String storeDir = getTempDatabaseDir(storeName);
+    VeniceProperties veniceServerProperties = AbstractStorageEngineTest.getServerProperties(PersistenceType.ROCKS_DB);
+    RocksDBServerConfig rocksDBServerConfig = new RocksDBServerConfig(veniceServerProperties);
+    VeniceServerConfig serverConfig = new VeniceServerConfig(veniceServerProperties);
+    RocksDBStorageEngineFactory factory = new RocksDBStorageEngineFactory(serverConfig);
+    RocksDBStoragePartition storagePartition = new RocksDBStoragePartition(
+        new StoragePartitionConfig(storeName, 0),
+        factory,
+        DATA_BASE_DIR,
+        null,
+        ROCKSDB_THROTTLER,
+        rocksDBServerConfig);
+
+    Map<String, String> inputRecords = generateInput(25, true, 0);
+    for (Map.Entry<String, String> entry: inputRecords.entrySet()) {
+      storagePartition.put(entry.getKey().getBytes(), entry.getValue().getBytes());
+    }
+    storagePartition.put("other_key".getBytes(), "other_value".getBytes());
+
+    // Page through the records with the key prefix, resuming each page after the last key of the previous one.
+    Map<String, String> scannedRecords = new TreeMap<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    byte[] lastKey = null;
+    do {
+      AtomicInteger pageSize = new AtomicInteger();
+      AtomicBoolean completed = new AtomicBoolean();
+      lastKey = storagePartition.getByKeyPrefix(KEY_PREFIX.getBytes(), lastKey, 10, new BytesStreamingCallback() {
+        @Override
+        public void onRecordReceived(byte[] key, byte[] value) {
+          Assert.assertNull(scannedRecords.put(new String(key), new String(value)));
+          pageSize.incrementAndGet();
+        }
+
+        @Override
+        public void onCompletion() {
+          completed.set(true);
+        }
+      });
+      Assert.assertTrue(completed.get());
+      pageSizes.add(pageSize.get());
+    } while (lastKey != null);
+    Assert.assertEquals(pageSizes, Arrays.asList(10, 10, 5));
+    Assert.assertEquals(scannedRecords, new TreeMap<>(inputRecords));
+
+    // The key to resume after must have the key prefix.
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> storagePartition.getByKeyPrefix(KEY_PREFIX.getBytes(), "other_key".getBytes(), 10, null));
+    // An empty page would look like the end of the scan.
+    for (int maxRecordCount: new int[] { 0, -1 }) {
+      Assert.assertThrows(
+          VeniceException.class,
+          () -> storagePartition.getByKeyPrefix(KEY_PREFIX.getBytes(), null, maxRecordCount, null));
+    }
+
+    storagePartition.drop();
+    removeDir(storeDir);
+  }
+
   @Test
   public void testPlainTableCompactionTriggerSetting() {
     String storeName = Utils.getUniqueString("test_store");
@@ -0,0 +1,190 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.LatencyUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class is used to coalesce concurrent single-get requests into streaming batch-get requests:
+ * 1. Every single-get request is parked in a pending batch instead of being sent right away.
+ * 2. The pending batch is flushed either when the batching window expires or when the batch reaches the max
+ *    batch size, whichever comes first.
+ * 3. The flushed batch is sent via {@link #streamingBatchGet(BatchGetRequestContext, java.util.Set, StreamingCallback)}
+ *    of the inner layer, so the keys will be grouped by the routes picked by the configured
+ *    {@link com.linkedin.venice.fastclient.meta.ClientRoutingStrategy}, and each caller's future will be completed
+ *    individually as soon as the value for its key is received.
+ *
+ * Concurrent requests for the same key in the same window will share a single key lookup.
+ *
+ * This layer trades a bounded amount of queueing delay (at most the batching window) for fewer requests to the
+ * storage nodes, so it is disabled by default and should only be enabled for high-QPS single-get use cases.
+ */
+public class AutoBatchingAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(AutoBatchingAvroGenericStoreClient.class);
+
+  private final int autoBatchingWindowInMicroSeconds;
+  private final int autoBatchingMaxBatchSize;
+  private final FastClientStats clientStatsForSingleGet;
+  private final ScheduledExecutorService batchFlushScheduler;
+
+  private final Object batchLock = new Object();
+  /**
+   * The following fields are guarded by {@link #batchLock}.
+   * {@link #currentBatchId} is used to make sure a scheduled flush won't flush a newer batch, which could happen
+   * if the batch it was scheduled for has been flushed because of the max batch size.
+   */
+  private Map<K, List<PendingRequest<V>>> pendingBatch = new HashMap<>();
+  private long currentBatchId = 0;
+
+  public AutoBatchingAvroGenericStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
+    super(delegate);
+    if (!clientConfig.isAutoBatchingEnabled()) {
+      throw new VeniceClientException("Auto batching is not enabled");
+    }
+    this.autoBatchingWindowInMicroSeconds = clientConfig.getAutoBatchingWindowInMicroSeconds();
+    this.autoBatchingMaxBatchSize = clientConfig.getAutoBatchingMaxBatchSize();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.batchFlushScheduler = Executors.newSingleThreadScheduledExecutor(
+        new DaemonThreadFactory("FastClient-AutoBatching-" + clientConfig.getStoreName()));
+  }
+
+  private static class PendingRequest<V> {
+    private final CompletableFuture<V> future = new CompletableFuture<>();
+    private final long enqueueTimeNS = System.nanoTime();
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    PendingRequest<V> pendingRequest = new PendingRequest<>();
+    Map<K, List<PendingRequest<V>>> batchToFlush = null;
+    long batchIdToSchedule = -1;
+    synchronized (batchLock) {
+      if (pendingBatch.isEmpty()) {
+        batchIdToSchedule = currentBatchId;
+      }
+      pendingBatch.computeIfAbsent(key, k -> new ArrayList<>(1)).add(pendingRequest);
+      if (pendingBatch.size() >= autoBatchingMaxBatchSize) {
+        batchToFlush = swapPendingBatch();
+        batchIdToSchedule = -1;
+      }
+    }
+    if (batchToFlush != null) {
+      flush(batchToFlush);
+    } else if (batchIdToSchedule >= 0) {
+      final long batchId = batchIdToSchedule;
+      try {
+        batchFlushScheduler
+            .schedule(() -> flushIfStillPending(batchId), autoBatchingWindowInMicroSeconds, TimeUnit.MICROSECONDS);
+      } catch (Exception e) {
+        // The scheduler has been shut down, so flush right away to avoid leaking the request.
+        flushIfStillPending(batchId);
+      }
+    }
+    return pendingRequest.future;
+  }
+
+  /**
+   * Should be invoked while holding {@link #batchLock}.
+   */
+  private Map<K, List<PendingRequest<V>>> swapPendingBatch() {
+    Map<K, List<PendingRequest<V>>> batch = pendingBatch;
+    pendingBatch = new HashMap<>();
+    ++currentBatchId;
+    return batch;
+  }
+
+  private void flushIfStillPending(long batchId) {
+    Map<K, List<PendingRequest<V>>> batchToFlush = null;
+    synchronized (batchLock) {
+      if (batchId == currentBatchId && !pendingBatch.isEmpty()) {
+        batchToFlush = swapPendingBatch();
+      }
+    }
+    if (batchToFlush != null) {
+      flush(batchToFlush);
+    }
+  }
+
+  private void flush(Map<K, List<PendingRequest<V>>> batch) {
+    clientStatsForSingleGet.recordAutoBatchingBatchSize(batch.size());
+    batch.values().forEach(requests -> {
+      for (PendingRequest<V> request: requests) {
+        clientStatsForSingleGet.recordAutoBatchingQueueingDelay(LatencyUtils.getLatencyInMS(request.enqueueTimeNS));
+      }
+    });
+
+    try {
+      super.streamingBatchGet(
+          new BatchGetRequestContext<>(),
+          Collections.unmodifiableSet(batch.keySet()),
+          new StreamingCallback<K, V>() {
+            @Override
+            public void onRecordReceived(K key, V value) {
+              List<PendingRequest<V>> requests = batch.get(key);
+              if (requests == null) {
+                LOGGER.warn("Received an unexpected key in the auto-batched request for store: {}", getStoreName());
+                return;
+              }
+              for (PendingRequest<V> request: requests) {
+                request.future.complete(value);
+              }
+            }
+
+            @Override
+            public void onCompletion(Optional<Exception> exception) {
+              completePendingRequests(batch, exception.orElse(null));
+            }
+          });
+    } catch (Exception e) {
+      completePendingRequests(batch, e);
+    }
+  }
+
+  /**
+   * Complete all the requests, which haven't received a value yet, in the given batch: with the given exception if
+   * it is not null, otherwise with null since the key doesn't exist.
+   */
+  private void completePendingRequests(Map<K, List<PendingRequest<V>>> batch, Exception exception) {
+    batch.values().forEach(requests -> {
+      for (PendingRequest<V> request: requests) {
+        if (exception == null) {
+          request.future.complete(null);
+        } else {
+          request.future.completeExceptionally(
+              exception instanceof VeniceClientException
+                  ? exception
+                  : new VeniceClientException("Auto-batched request failed", exception));
+        }
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    batchFlushScheduler.shutdownNow();
+    Map<K, List<PendingRequest<V>>> batchToFlush;
+    synchronized (batchLock) {
+      batchToFlush = swapPendingBatch();
+    }
+    if (!batchToFlush.isEmpty()) {
+      completePendingRequests(batchToFlush, new VeniceClientException("Client is closed"));
+    }
+    super.close();
+  }
+}
@@ -0,0 +1,12 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.client.store.AvroSpecificStoreClient;
+import org.apache.avro.specific.SpecificRecord;
+
+
+public class AutoBatchingAvroSpecificStoreClient<K, V extends SpecificRecord>
+    extends AutoBatchingAvroGenericStoreClient<K, V> implements AvroSpecificStoreClient<K, V> {
+  public AutoBatchingAvroSpecificStoreClient(InternalAvroStoreClient<K, V> delegate, ClientConfig clientConfig) {
+    super(delegate, clientConfig);
+  }
+}
@@ -65,6 +65,12 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final boolean longTailRetryEnabledForBatchGet;
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
+  /**
+   * For retry volume control.
+   * Please check {@link RetryBudget} to find more details.
+   */
+  private final boolean retryBudgetEnabled;
+  private final double retryBudgetPercentage;
   private final ClusterStats clusterStats;
   private final boolean isVsonStore;
   private final StoreMetadataFetchMode storeMetadataFetchMode;
@@ -79,6 +85,22 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
    */
   private final boolean useStreamingBatchGetAsDefault;
 
+  /**
+   * For auto-batching of single-get requests.
+   * Please check {@link AutoBatchingAvroGenericStoreClient} to find more details.
+   */
+  private final boolean autoBatchingEnabled;
+  private final int autoBatchingWindowInMicroSeconds;
+  private final int autoBatchingMaxBatchSize;
+
+  /**
+   * For the client-side near cache.
+   * Please check {@link NearCacheAvroGenericStoreClient} to find more details.
+   */
+  private final boolean nearCacheEnabled;
+  private final long nearCacheMaxEntryCount;
+  private final long nearCacheTtlInMs;
+
   private ClientConfig(
       String storeName,
       Client r2Client,
@@ -108,7 +130,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       StoreMetadataFetchMode storeMetadataFetchMode,
       D2Client d2Client,
       String clusterDiscoveryD2Service,
-      boolean useStreamingBatchGetAsDefault) {
+      boolean useStreamingBatchGetAsDefault,
+      boolean autoBatchingEnabled,
+      int autoBatchingWindowInMicroSeconds,
+      int autoBatchingMaxBatchSize,
+      boolean retryBudgetEnabled,
+      double retryBudgetPercentage,
+      boolean nearCacheEnabled,
+      long nearCacheMaxEntryCount,
+      long nearCacheTtlInMs) {
     if (storeName == null || storeName.isEmpty()) {
       throw new VeniceClientException("storeName param shouldn't be empty");
     }
@@ -197,6 +227,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       }
     }
 
+    this.retryBudgetEnabled = retryBudgetEnabled;
+    this.retryBudgetPercentage = retryBudgetPercentage;
+    if (this.retryBudgetEnabled) {
+      if (this.retryBudgetPercentage <= 0 || this.retryBudgetPercentage > 100) {
+        throw new VeniceClientException(
+            "retryBudgetPercentage must be in range (0, 100], but got: " + this.retryBudgetPercentage);
+      }
+    }
+
     // TODO: Need to check whether this case applies for BatchGet
     if (this.speculativeQueryEnabled && this.longTailRetryEnabledForSingleGet) {
       throw new VeniceClientException(
@@ -224,6 +263,38 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     } else {
       LOGGER.warn("Deprecated: Batch get will use single get implementation");
     }
+
+    this.autoBatchingEnabled = autoBatchingEnabled;
+    this.autoBatchingWindowInMicroSeconds = autoBatchingWindowInMicroSeconds;
+    this.autoBatchingMaxBatchSize = autoBatchingMaxBatchSize;
+    if (this.autoBatchingEnabled) {
+      if (this.autoBatchingWindowInMicroSeconds <= 0) {
+        throw new VeniceClientException(
+            "autoBatchingWindowInMicroSeconds must be positive, but got: " + this.autoBatchingWindowInMicroSeconds);
+      }
+      if (this.autoBatchingMaxBatchSize <= 1) {
+        throw new VeniceClientException(
+            "autoBatchingMaxBatchSize must be bigger than 1, but got: " + this.autoBatchingMaxBatchSize);
+      }
+      if (this.speculativeQueryEnabled) {
+        throw new VeniceClientException("Speculative query feature can't be enabled together with auto-batching");
+      }
+    }
+
+    this.nearCacheEnabled = nearCacheEnabled;
+    this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+    this.nearCacheTtlInMs = nearCacheTtlInMs;
+    if (this.nearCacheEnabled) {
+      if (this.nearCacheMaxEntryCount <= 0) {
+        throw new VeniceClientException(
+            "nearCacheMaxEntryCount must be positive, but got: " + this.nearCacheMaxEntryCount);
+      }
+      if (this.nearCacheTtlInMs <= 0) {
+        throw new VeniceClientException(
+            "nearCacheTtlInMs must be positive to bound the staleness of the near cache, but got: "
+                + this.nearCacheTtlInMs);
+      }
+    }
   }
 
   public String getStoreName() {
@@ -314,6 +385,14 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return longTailRetryThresholdForBatchGetInMicroSeconds;
   }
 
+  public boolean isRetryBudgetEnabled() {
+    return retryBudgetEnabled;
+  }
+
+  public double getRetryBudgetPercentage() {
+    return retryBudgetPercentage;
+  }
+
   @Deprecated
   public boolean isVsonStore() {
     return isVsonStore;
@@ -343,6 +422,30 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return this.useStreamingBatchGetAsDefault;
   }
 
+  public boolean isAutoBatchingEnabled() {
+    return autoBatchingEnabled;
+  }
+
+  public int getAutoBatchingWindowInMicroSeconds() {
+    return autoBatchingWindowInMicroSeconds;
+  }
+
+  public int getAutoBatchingMaxBatchSize() {
+    return autoBatchingMaxBatchSize;
+  }
+
+  public boolean isNearCacheEnabled() {
+    return nearCacheEnabled;
+  }
+
+  public long getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
   public static class ClientConfigBuilder<K, V, T extends SpecificRecord> {
     private MetricsRepository metricsRepository;
     private String statsPrefix = "";
@@ -385,12 +488,27 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private boolean longTailRetryEnabledForBatchGet = false;
     private int longTailRetryThresholdForBatchGetInMicroSeconds = 10000; // 10ms.
 
+    private boolean retryBudgetEnabled = false;
+    private double retryBudgetPercentage = 10; // 10% of the original requests.
+
     private boolean isVsonStore = false;
     private StoreMetadataFetchMode storeMetadataFetchMode = StoreMetadataFetchMode.DA_VINCI_CLIENT_BASED_METADATA;
     private D2Client d2Client;
     private String clusterDiscoveryD2Service;
     private boolean useStreamingBatchGetAsDefault = false;
 
+    private boolean autoBatchingEnabled = false;
+    private int autoBatchingWindowInMicroSeconds = 500; // 0.5ms.
+    private int autoBatchingMaxBatchSize = 100;
+
+    private boolean nearCacheEnabled = false;
+    private long nearCacheMaxEntryCount = 100000;
+    /**
+     * Must be specified when the near cache is enabled. The fast client can't tell whether a store is hybrid, and the
+     * nearline writes of a hybrid store don't change the current version, so the TTL is what bounds the staleness.
+     */
+    private long nearCacheTtlInMs = -1;
+
     public ClientConfigBuilder<K, V, T> setStoreName(String storeName) {
       this.storeName = storeName;
       return this;
@@ -521,6 +639,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setRetryBudgetEnabled(boolean retryBudgetEnabled) {
+      this.retryBudgetEnabled = retryBudgetEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setRetryBudgetPercentage(double retryBudgetPercentage) {
+      this.retryBudgetPercentage = retryBudgetPercentage;
+      return this;
+    }
+
     @Deprecated
     public ClientConfigBuilder<K, V, T> setVsonStore(boolean vsonStore) {
       isVsonStore = vsonStore;
@@ -547,6 +675,36 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    public ClientConfigBuilder<K, V, T> setAutoBatchingEnabled(boolean autoBatchingEnabled) {
+      this.autoBatchingEnabled = autoBatchingEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setAutoBatchingWindowInMicroSeconds(int autoBatchingWindowInMicroSeconds) {
+      this.autoBatchingWindowInMicroSeconds = autoBatchingWindowInMicroSeconds;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setAutoBatchingMaxBatchSize(int autoBatchingMaxBatchSize) {
+      this.autoBatchingMaxBatchSize = autoBatchingMaxBatchSize;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheEnabled(boolean nearCacheEnabled) {
+      this.nearCacheEnabled = nearCacheEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxEntryCount(long nearCacheMaxEntryCount) {
+      this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> clone() {
       return new ClientConfigBuilder().setStoreName(storeName)
           .setR2Client(r2Client)
@@ -576,7 +734,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setStoreMetadataFetchMode(storeMetadataFetchMode)
           .setD2Client(d2Client)
           .setClusterDiscoveryD2Service(clusterDiscoveryD2Service)
-          .setUseStreamingBatchGetAsDefault(useStreamingBatchGetAsDefault);
+          .setUseStreamingBatchGetAsDefault(useStreamingBatchGetAsDefault)
+          .setAutoBatchingEnabled(autoBatchingEnabled)
+          .setAutoBatchingWindowInMicroSeconds(autoBatchingWindowInMicroSeconds)
+          .setAutoBatchingMaxBatchSize(autoBatchingMaxBatchSize)
+          .setRetryBudgetEnabled(retryBudgetEnabled)
+          .setRetryBudgetPercentage(retryBudgetPercentage)
+          .setNearCacheEnabled(nearCacheEnabled)
+          .setNearCacheMaxEntryCount(nearCacheMaxEntryCount)
+          .setNearCacheTtlInMs(nearCacheTtlInMs);
     }
 
     public ClientConfig<K, V, T> build() {
@@ -609,7 +775,15 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           storeMetadataFetchMode,
           d2Client,
           clusterDiscoveryD2Service,
-          useStreamingBatchGetAsDefault);
+          useStreamingBatchGetAsDefault,
+          autoBatchingEnabled,
+          autoBatchingWindowInMicroSeconds,
+          autoBatchingMaxBatchSize,
+          retryBudgetEnabled,
+          retryBudgetPercentage,
+          nearCacheEnabled,
+          nearCacheMaxEntryCount,
+          nearCacheTtlInMs);
     }
   }
 }
@@ -42,8 +42,18 @@ import org.apache.avro.Schema;
  * {@link RetriableAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds optional retry ability on top of DispatchingAvroGenericStoreClient
  *
  * <br><br>
+ * Layer 2.5:<br>
+ * {@link AutoBatchingAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds optional auto-batching of single-get
+ *                            requests on top of Layer 2 or Layer 1.
+ *
+ * <br><br>
+ * Layer 2.75:<br>
+ * {@link NearCacheAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds an optional version-aware
+ *                            client-side cache on top of Layer 2.5, Layer 2 or Layer 1.
+ *
+ * <br><br>
  * Layer 3:<br>
- * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2 or Layer 1. There is no option
+ * {@link StatsAvroGenericStoreClient} extends {@link DelegatingAvroStoreClient} => Adds stats on top of Layer 2.75, Layer 2.5, Layer 2 or Layer 1. There is no option
  *                            to disable it, but if needed, can be disabled.
  *
  * <br><br>
@@ -211,7 +211,7 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
             routeRequestFuture.complete(statusCode);
           } else if (response == null) {
             routeRequestFuture.complete(HttpStatus.S_404_NOT_FOUND);
-            if (!receivedSuccessfulResponse.getAndSet(true)) {
+            if (!valueFuture.isDone() && !receivedSuccessfulResponse.getAndSet(true)) {
               requestContext.requestSubmissionToResponseHandlingTime =
                   LatencyUtils.getLatencyInMS(timestampBeforeSendingRequest);
 
@@ -220,7 +220,11 @@ public class DispatchingAvroGenericStoreClient<K, V> extends InternalAvroStoreCl
           } else {
             try {
               routeRequestFuture.complete(HttpStatus.S_200_OK);
-              if (!receivedSuccessfulResponse.getAndSet(true)) {
+              /**
+               * Skip the decompression and deserialization if {@link valueFuture} has been cancelled, which means
+               * the request lost the race against the retry request in {@link RetriableAvroGenericStoreClient}.
+               */
+              if (!valueFuture.isDone() && !receivedSuccessfulResponse.getAndSet(true)) {
                 requestContext.requestSubmissionToResponseHandlingTime =
                     LatencyUtils.getLatencyInMS(timestampBeforeSendingRequest);
                 CompressionStrategy compressionStrategy = response.getCompressionStrategy();
@@ -0,0 +1,269 @@
+package com.linkedin.venice.fastclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.VeniceResponseCompletableFuture;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMapImpl;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.avro.util.Utf8;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class is used to serve the hot keys from a bounded client-side cache of the deserialized values:
+ * 1. The cache is scoped to the current version of the store, and every cached value is tagged with the version it
+ *    was read from, so a value from a previous version will never be returned even if it is still in the cache.
+ * 2. The whole cache is invalidated once {@link StoreMetadata} observes a current version change, so the memory
+ *    occupied by the previous version will be released right away.
+ * 3. The values could be stale for hybrid stores because of the nearline writes, which won't change the current
+ *    version, so every cached value expires after {@link ClientConfig#getNearCacheTtlInMs()}.
+ * 4. Batch-get requests are served partially from the cache, and only the missed keys will be sent to the inner layer.
+ *
+ * Only the existing values are cached. The deserialized values are mutable, so the cache keeps its own copy of each
+ * value and every caller receives a fresh copy, check {@link #copy(Object)}.
+ */
+public class NearCacheAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private static final Logger LOGGER = LogManager.getLogger(NearCacheAvroGenericStoreClient.class);
+
+  private final StoreMetadata metadata;
+  private final Cache<K, VersionedValue<V>> nearCache;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForBatchGet;
+
+  public NearCacheAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata metadata) {
+    super(delegate);
+    if (!clientConfig.isNearCacheEnabled()) {
+      throw new VeniceClientException("Near cache is not enabled");
+    }
+    this.metadata = metadata;
+    this.nearCache = Caffeine.newBuilder()
+        .maximumSize(clientConfig.getNearCacheMaxEntryCount())
+        .expireAfterWrite(clientConfig.getNearCacheTtlInMs(), TimeUnit.MILLISECONDS)
+        .build();
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForBatchGet = clientConfig.getStats(RequestType.MULTI_GET);
+    this.metadata.registerCurrentVersionChangeListener(this::invalidate);
+  }
+
+  private static class VersionedValue<V> {
+    private final int version;
+    private final V value;
+
+    VersionedValue(int version, V value) {
+      this.version = version;
+      this.value = value;
+    }
+  }
+
+  private void invalidate(int newVersion) {
+    LOGGER.info(
+        "Invalidating the near cache of store: {} since the current version has changed to {}",
+        getStoreName(),
+        newVersion);
+    nearCache.invalidateAll();
+    clientStatsForSingleGet.recordNearCacheInvalidation();
+  }
+
+  private V lookup(int version, K key) {
+    VersionedValue<V> versionedValue = nearCache.getIfPresent(key);
+    if (versionedValue == null || versionedValue.version != version) {
+      return null;
+    }
+    return copy(versionedValue.value);
+  }
+
+  private void cache(int version, K key, V value) {
+    if (value != null && version == metadata.getCurrentStoreVersion()) {
+      nearCache.put(key, new VersionedValue<>(version, copy(value)));
+    }
+  }
+
+  /**
+   * Deep copies the mutable values produced by the Avro deserializers: records, arrays, fixed, {@link Utf8},
+   * {@link ByteBuffer} and the maps of the map schemas, which don't carry their schema. The other values, such as
+   * {@link String} and the boxed primitives, are immutable and returned as is.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T copy(T value) {
+    if (value instanceof SpecificRecord) {
+      return (T) SpecificData.get().deepCopy(((SpecificRecord) value).getSchema(), value);
+    }
+    if (value instanceof GenericContainer) {
+      return (T) GenericData.get().deepCopy(((GenericContainer) value).getSchema(), value);
+    }
+    if (value instanceof Utf8) {
+      return (T) new Utf8(value.toString());
+    }
+    if (value instanceof ByteBuffer) {
+      ByteBuffer byteBuffer = (ByteBuffer) value;
+      ByteBuffer copy = ByteBuffer.allocate(byteBuffer.remaining());
+      copy.put(byteBuffer.duplicate());
+      copy.flip();
+      return (T) copy;
+    }
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new HashMap<>();
+      ((Map<Object, Object>) value).forEach((k, v) -> copy.put(copy(k), copy(v)));
+      return (T) copy;
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<Object>) value).forEach(element -> copy.add(copy(element)));
+      return (T) copy;
+    }
+    return value;
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
+    int currentVersion = metadata.getCurrentStoreVersion();
+    V cachedValue = lookup(currentVersion, key);
+    if (cachedValue != null) {
+      clientStatsForSingleGet.recordNearCacheLookup(1, 0);
+      requestContext.currentVersion = currentVersion;
+      requestContext.successRequestKeyCount.incrementAndGet();
+      return CompletableFuture.completedFuture(cachedValue);
+    }
+    clientStatsForSingleGet.recordNearCacheLookup(0, 1);
+
+    CompletableFuture<V> valueFuture = super.get(requestContext, key);
+    valueFuture.whenComplete((value, throwable) -> {
+      if (throwable == null) {
+        cache(currentVersion, key, value);
+      }
+    });
+    return valueFuture;
+  }
+
+  /**
+   * The logic is copied from {@link DispatchingAvroGenericStoreClient#batchGet(BatchGetRequestContext, Set)} to make
+   * sure the batch-get requests will be served by the near cache as well.
+   */
+  @Override
+  protected CompletableFuture<Map<K, V>> batchGet(BatchGetRequestContext<K, V> requestContext, Set<K> keys)
+      throws VeniceClientException {
+    CompletableFuture<Map<K, V>> responseFuture = new CompletableFuture<>();
+    streamingBatchGet(requestContext, keys).whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        responseFuture.completeExceptionally(throwable);
+      } else if (!response.isFullResponse()) {
+        if (requestContext.getPartialResponseException().isPresent()) {
+          responseFuture.completeExceptionally(
+              new VeniceClientException(
+                  "Response was not complete",
+                  requestContext.getPartialResponseException().get()));
+        } else {
+          responseFuture.completeExceptionally(new VeniceClientException("Response was not complete"));
+        }
+      } else {
+        responseFuture.complete(response);
+      }
+    });
+    return responseFuture;
+  }
+
+  @Override
+  protected CompletableFuture<VeniceResponseMap<K, V>> streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys) {
+    // keys that do not exist in the storage nodes
+    Queue<K> nonExistingKeys = new ConcurrentLinkedQueue<>();
+    VeniceConcurrentHashMap<K, V> valueMap = new VeniceConcurrentHashMap<>();
+    CompletableFuture<VeniceResponseMap<K, V>> streamingResponseFuture = new VeniceResponseCompletableFuture<>(
+        () -> new VeniceResponseMapImpl<K, V>(valueMap, nonExistingKeys, false),
+        keys.size(),
+        Optional.empty());
+    streamingBatchGet(requestContext, keys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        if (value == null) {
+          nonExistingKeys.add(key);
+        } else {
+          requestContext.successRequestKeyCount.incrementAndGet();
+          valueMap.put(key, value);
+        }
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        requestContext.complete();
+        if (exception.isPresent()) {
+          streamingResponseFuture.completeExceptionally(exception.get());
+        } else {
+          streamingResponseFuture.complete(new VeniceResponseMapImpl<>(valueMap, nonExistingKeys, true));
+        }
+      }
+    });
+    return streamingResponseFuture;
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    int currentVersion = metadata.getCurrentStoreVersion();
+    Map<K, V> cachedValues = new HashMap<>();
+    Set<K> missedKeys = new HashSet<>();
+    for (K key: keys) {
+      V cachedValue = lookup(currentVersion, key);
+      if (cachedValue == null) {
+        missedKeys.add(key);
+      } else {
+        cachedValues.put(key, cachedValue);
+      }
+    }
+    clientStatsForBatchGet.recordNearCacheLookup(cachedValues.size(), missedKeys.size());
+
+    cachedValues.forEach(callback::onRecordReceived);
+    if (missedKeys.isEmpty()) {
+      requestContext.currentVersion = currentVersion;
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+    super.streamingBatchGet(requestContext, missedKeys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        cache(currentVersion, key, value);
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    nearCache.invalidateAll();
+    super.close();
+  }
+}
@@ -18,6 +18,8 @@ public class RequestContext {
   int currentVersion = -1;
   final long requestId;
   boolean noAvailableReplica = false;
+  // True if a retry was skipped because the retry budget was exhausted
+  boolean retryBudgetExhausted = false;
 
   double decompressionTime = -1;
   double responseDeserializationTime = -1;
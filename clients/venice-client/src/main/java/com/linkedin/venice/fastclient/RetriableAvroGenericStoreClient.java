@@ -27,15 +27,22 @@ import org.apache.logging.log4j.Logger;
  * 1. The original request latency exceeds the retry threshold.
  * 2. The original request fails.
  *
+ * When {@link ClientConfig#isRetryBudgetEnabled()} is true, the retry volume is limited by a {@link RetryBudget},
+ * so that a storage node brownout won't double the load on the cluster. For single-get, once either the original
+ * or the retry request wins, the loser request will be cancelled, so its response won't be processed.
+ *
  * TODO:
- * 1. Limit the retry volume.
- * 2. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
+ * 1. Leverage some smart logic to avoid useless retry, such as retry triggered by heavy GC.
  */
 public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
   private final boolean longTailRetryEnabledForSingleGet;
   private final boolean longTailRetryEnabledForBatchGet;
   private final int longTailRetryThresholdForSingleGetInMicroSeconds;
   private final int longTailRetryThresholdForBatchGetInMicroSeconds;
+  /**
+   * Null if retry budget is not enabled.
+   */
+  private final RetryBudget retryBudget;
   private TimeoutProcessor timeoutProcessor;
   private static final Logger LOGGER = LogManager.getLogger(RetriableAvroGenericStoreClient.class);
 
@@ -50,6 +57,30 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         clientConfig.getLongTailRetryThresholdForSingleGetInMicroSeconds();
     this.longTailRetryThresholdForBatchGetInMicroSeconds =
         clientConfig.getLongTailRetryThresholdForBatchGetInMicroSeconds();
+    this.retryBudget =
+        clientConfig.isRetryBudgetEnabled() ? new RetryBudget(clientConfig.getRetryBudgetPercentage()) : null;
+  }
+
+  /**
+   * @return true if the retry is allowed by the retry budget.
+   */
+  private boolean tryAcquireRetry(RequestContext requestContext) {
+    if (retryBudget == null || retryBudget.tryAcquireRetry()) {
+      return true;
+    }
+    requestContext.retryBudgetExhausted = true;
+    return false;
+  }
+
+  private void recordOriginalRequest() {
+    if (retryBudget != null) {
+      retryBudget.recordRequest();
+    }
+  }
+
+  // Visible for testing
+  RetryBudget getRetryBudget() {
+    return retryBudget;
   }
 
   enum RetryType {
@@ -60,15 +91,26 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     private final GetRequestContext requestContext;
     private final RetryType retryType;
     private final Runnable retryTask;
+    private final Runnable retrySkippedTask;
 
-    RetryRunnable(GetRequestContext requestContext, RetryType retryType, Runnable retryTask) {
+    RetryRunnable(
+        GetRequestContext requestContext,
+        RetryType retryType,
+        Runnable retryTask,
+        Runnable retrySkippedTask) {
       this.requestContext = requestContext;
       this.retryType = retryType;
       this.retryTask = retryTask;
+      this.retrySkippedTask = retrySkippedTask;
     }
 
     @Override
     public void run() {
+      if (!tryAcquireRetry(requestContext)) {
+        LOGGER.debug("Skipped {} for store: {} since the retry budget is exhausted", retryType, getStoreName());
+        retrySkippedTask.run();
+        return;
+      }
       switch (retryType) {
         case LONG_TAIL_RETRY:
           requestContext.longTailRetryRequestTriggered = true;
@@ -84,12 +126,9 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
   }
 
   /**
-   * TODO:
-   * Limit the retry volume: Even though retry for a single request is being scheduled at max twice (once
-   * via scheduler (LONG_TAIL_RETRY) and once instant (ERROR_RETRY) if originalRequestFuture fails), there
-   * is no way to control the total allowed retry per node. It would be good to design some mechanism to make
-   * it configurable, such as retry at most the slowest 5% of traffic, otherwise, too many retry requests
-   * could cause cascading failure.
+   * Even though retry for a single request is being scheduled at max twice (once via scheduler (LONG_TAIL_RETRY)
+   * and once instant (ERROR_RETRY) if originalRequestFuture fails), only one retry request will be sent out, and
+   * it needs to be allowed by the {@link RetryBudget} if enabled.
    */
   @Override
   protected CompletableFuture<V> get(GetRequestContext requestContext, K key) throws VeniceClientException {
@@ -98,6 +137,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       // if longTailRetry is not enabled for single get, simply return the original future
       return originalRequestFuture;
     }
+    recordOriginalRequest();
 
     if (timeoutProcessor == null) {
       /**
@@ -108,10 +148,14 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
     }
     final CompletableFuture<V> retryFuture = new CompletableFuture<>();
     final CompletableFuture<V> finalFuture = new CompletableFuture<>();
+    // The future of the in-flight retry request, which will be cancelled if the original request wins.
+    final AtomicReference<CompletableFuture<V>> retryRequestFuture = new AtomicReference<>();
 
     // create a retry task
     Runnable retryTask = () -> {
-      super.get(requestContext, key).whenComplete((value, throwable) -> {
+      CompletableFuture<V> innerRetryFuture = super.get(requestContext, key);
+      retryRequestFuture.set(innerRetryFuture);
+      innerRetryFuture.whenComplete((value, throwable) -> {
         if (throwable != null) {
           retryFuture.completeExceptionally(throwable);
         } else {
@@ -122,14 +166,28 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
              */
             requestContext.retryWin = true;
             finalFuture.complete(value);
+            // Hedging: the original request lost, so its response doesn't need to be processed any more.
+            originalRequestFuture.cancel(false);
           }
         }
       });
     };
+    /**
+     * When the retry is skipped because of the retry budget, the request result will solely depend on the
+     * original request, so the retry future mirrors it and the original error is surfaced as is. The skipped
+     * retry is tracked by {@link RequestContext#retryBudgetExhausted} instead.
+     */
+    Runnable retrySkippedTask = () -> originalRequestFuture.whenComplete((value, throwable) -> {
+      if (throwable != null) {
+        retryFuture.completeExceptionally(throwable);
+      } else {
+        retryFuture.complete(value);
+      }
+    });
 
     // Schedule the created task for long-tail retry
     TimeoutProcessor.TimeoutFuture timeoutFuture = timeoutProcessor.schedule(
-        new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask),
+        new RetryRunnable(requestContext, RetryType.LONG_TAIL_RETRY, retryTask, retrySkippedTask),
         longTailRetryThresholdForSingleGetInMicroSeconds,
         TimeUnit.MICROSECONDS);
 
@@ -141,12 +199,17 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
         if (finalFuture.complete(value)) {
           // original request is faster
           requestContext.retryWin = false;
+          // Hedging: the retry request lost, so its response doesn't need to be processed any more.
+          CompletableFuture<V> innerRetryFuture = retryRequestFuture.get();
+          if (innerRetryFuture != null) {
+            innerRetryFuture.cancel(false);
+          }
         }
       } else {
         // Trigger the retry right away when receiving any error
         if (!timeoutFuture.isDone()) {
           timeoutFuture.cancel();
-          new RetryRunnable(requestContext, RetryType.ERROR_RETRY, retryTask).run();
+          new RetryRunnable(requestContext, RetryType.ERROR_RETRY, retryTask, retrySkippedTask).run();
         }
       }
     });
@@ -232,6 +295,7 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
       super.streamingBatchGet(requestContext, keys, callback);
       return;
     }
+    recordOriginalRequest();
     /** Track the final completion of the request. It will be completed normally if
      1. the original requests calls onCompletion with no exception
      2. the retry request calls onCompletion with no exception
@@ -268,6 +332,17 @@ public class RetriableAvroGenericStoreClient<K, V> extends DelegatingAvroStoreCl
 
     Runnable retryTask = () -> { // Look at the remaining keys and setup completion
       if (!pendingKeysFuture.isEmpty()) {
+        if (!tryAcquireRetry(requestContext)) {
+          /* The final result will solely depend on the original request. The skipped retry counts as a failed one,
+           so an exception of the original request completes the final request, whether it is already saved or
+           comes later. */
+          LOGGER.debug("Skipped long tail retry for store: {} since the retry budget is exhausted", getStoreName());
+          Exception retrySkipped = new VeniceClientException("Long tail retry skipped since the budget is exhausted");
+          if (!savedException.compareAndSet(null, retrySkipped)) {
+            finalRequestCompletionFuture.completeExceptionally(savedException.get());
+          }
+          return;
+        }
         requestContext.longTailRetryTriggered = true;
         requestContext.numberOfKeysSentInRetryRequest = pendingKeysFuture.size();
         LOGGER.debug("Retrying {} incomplete keys ", pendingKeysFuture.size());
@@ -0,0 +1,72 @@
+package com.linkedin.venice.fastclient;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A token-bucket based retry budget, which is used to limit the retry volume to a fraction of the recent traffic:
+ * 1. Every original request deposits {@literal retryPercentage / 100} token into the bucket.
+ * 2. Every retry request needs to withdraw one full token from the bucket, and it will be rejected if there is not
+ *    enough token left.
+ * 3. The bucket is capped at {@link #maxRetryTokens} tokens, so that a long period of healthy traffic won't
+ *    accumulate an unbounded retry burst, which is exactly what we want to avoid when the storage nodes are browning out.
+ *
+ * Tokens are tracked in milli-tokens to support fractional deposits without any locking.
+ */
+public class RetryBudget {
+  public static final int DEFAULT_MAX_RETRY_TOKENS = 100;
+
+  private static final long MILLI_TOKENS_PER_TOKEN = 1000;
+
+  private final long depositPerRequestInMilliTokens;
+  private final long maxRetryTokens;
+  private final long maxBalanceInMilliTokens;
+  private final AtomicLong balanceInMilliTokens;
+
+  public RetryBudget(double retryPercentage) {
+    this(retryPercentage, DEFAULT_MAX_RETRY_TOKENS);
+  }
+
+  public RetryBudget(double retryPercentage, int maxRetryTokens) {
+    if (retryPercentage <= 0 || retryPercentage > 100) {
+      throw new IllegalArgumentException(
+          "Retry percentage must be in range (0, 100], but got: " + retryPercentage);
+    }
+    if (maxRetryTokens <= 0) {
+      throw new IllegalArgumentException("Max retry tokens must be positive, but got: " + maxRetryTokens);
+    }
+    this.depositPerRequestInMilliTokens = Math.max(1, Math.round(retryPercentage * MILLI_TOKENS_PER_TOKEN / 100));
+    this.maxRetryTokens = maxRetryTokens;
+    this.maxBalanceInMilliTokens = maxRetryTokens * MILLI_TOKENS_PER_TOKEN;
+    // Start with a full bucket to allow retries right after the client starts.
+    this.balanceInMilliTokens = new AtomicLong(maxBalanceInMilliTokens);
+  }
+
+  /**
+   * Should be invoked for every original request.
+   */
+  public void recordRequest() {
+    balanceInMilliTokens.accumulateAndGet(
+        depositPerRequestInMilliTokens,
+        (existing, deposit) -> Math.min(existing + deposit, maxBalanceInMilliTokens));
+  }
+
+  /**
+   * Should be invoked before sending out any retry request.
+   * @return true if the retry is allowed, false if the budget is exhausted.
+   */
+  public boolean tryAcquireRetry() {
+    long balanceBefore = balanceInMilliTokens.getAndAccumulate(
+        MILLI_TOKENS_PER_TOKEN,
+        (existing, withdrawal) -> existing >= withdrawal ? existing - withdrawal : existing);
+    return balanceBefore >= MILLI_TOKENS_PER_TOKEN;
+  }
+
+  public double getAvailableRetryTokens() {
+    return (double) balanceInMilliTokens.get() / MILLI_TOKENS_PER_TOKEN;
+  }
+
+  public long getMaxRetryTokens() {
+    return maxRetryTokens;
+  }
+}
@@ -154,6 +154,10 @@ public class StatsAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient
     return innerFuture.handle((value, throwable) -> {
       double latency = LatencyUtils.getLatencyInMS(startTimeInNS);
       clientStats.recordRequestKeyCount(numberOfKeys);
+      if (requestContext.retryBudgetExhausted) {
+        // Record it for both healthy and unhealthy requests since the skipped retry might be the cause of the failure
+        clientStats.recordRetryBudgetExhausted();
+      }
 
       if (throwable != null) {
         /**
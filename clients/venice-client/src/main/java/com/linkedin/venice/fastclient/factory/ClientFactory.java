@@ -4,12 +4,17 @@ import com.linkedin.venice.client.store.AvroGenericStoreClient;
 import com.linkedin.venice.client.store.AvroSpecificStoreClient;
 import com.linkedin.venice.client.store.transport.D2TransportClient;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.fastclient.AutoBatchingAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.AutoBatchingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.ClientConfig;
 import com.linkedin.venice.fastclient.DispatchingAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DispatchingAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.DispatchingVsonStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.DualReadAvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.InternalAvroStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.StatsAvroGenericStoreClient;
@@ -79,14 +84,18 @@ public class ClientFactory {
     final DispatchingAvroGenericStoreClient<K, V> dispatchingStoreClient = clientConfig.isVsonStore()
         ? new DispatchingVsonStoreClient<>(storeMetadata, clientConfig)
         : new DispatchingAvroGenericStoreClient<>(storeMetadata, clientConfig);
-    StatsAvroGenericStoreClient<K, V> statsStoreClient;
+    InternalAvroStoreClient<K, V> innerStoreClient = dispatchingStoreClient;
     if (clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()) {
-      statsStoreClient = new StatsAvroGenericStoreClient<>(
-          new RetriableAvroGenericStoreClient<>(dispatchingStoreClient, clientConfig),
-          clientConfig);
-    } else {
-      statsStoreClient = new StatsAvroGenericStoreClient<>(dispatchingStoreClient, clientConfig);
+      innerStoreClient = new RetriableAvroGenericStoreClient<>(innerStoreClient, clientConfig);
     }
+    if (clientConfig.isAutoBatchingEnabled()) {
+      innerStoreClient = new AutoBatchingAvroGenericStoreClient<>(innerStoreClient, clientConfig);
+    }
+    if (clientConfig.isNearCacheEnabled()) {
+      innerStoreClient = new NearCacheAvroGenericStoreClient<>(innerStoreClient, clientConfig, storeMetadata);
+    }
+    StatsAvroGenericStoreClient<K, V> statsStoreClient =
+        new StatsAvroGenericStoreClient<>(innerStoreClient, clientConfig);
 
     AvroGenericStoreClient<K, V> returningClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
@@ -101,15 +110,18 @@ public class ClientFactory {
       ClientConfig clientConfig) {
     final DispatchingAvroSpecificStoreClient<K, V> dispatchingStoreClient =
         new DispatchingAvroSpecificStoreClient<>(storeMetadata, clientConfig);
-    StatsAvroSpecificStoreClient<K, V> statsStoreClient;
-
+    InternalAvroStoreClient<K, V> innerStoreClient = dispatchingStoreClient;
     if (clientConfig.isLongTailRetryEnabledForSingleGet() || clientConfig.isLongTailRetryEnabledForBatchGet()) {
-      statsStoreClient = new StatsAvroSpecificStoreClient<>(
-          new RetriableAvroSpecificStoreClient<>(dispatchingStoreClient, clientConfig),
-          clientConfig);
-    } else {
-      statsStoreClient = new StatsAvroSpecificStoreClient<>(dispatchingStoreClient, clientConfig);
+      innerStoreClient = new RetriableAvroSpecificStoreClient<>(innerStoreClient, clientConfig);
+    }
+    if (clientConfig.isAutoBatchingEnabled()) {
+      innerStoreClient = new AutoBatchingAvroSpecificStoreClient<>(innerStoreClient, clientConfig);
+    }
+    if (clientConfig.isNearCacheEnabled()) {
+      innerStoreClient = new NearCacheAvroSpecificStoreClient<>(innerStoreClient, clientConfig, storeMetadata);
     }
+    StatsAvroSpecificStoreClient<K, V> statsStoreClient =
+        new StatsAvroSpecificStoreClient<>(innerStoreClient, clientConfig);
 
     AvroSpecificStoreClient<K, V> returningClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
@@ -6,6 +6,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.fastclient.ClientConfig;
+import com.linkedin.venice.utils.LatencyUtils;
 import com.linkedin.venice.utils.Utils;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -14,10 +15,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 
 public abstract class AbstractStoreMetadata implements StoreMetadata {
+  private static final Logger LOGGER = LogManager.getLogger(AbstractStoreMetadata.class);
   private final InstanceHealthMonitor instanceHealthMonitor;
+  private final List<IntConsumer> currentVersionChangeListeners = new CopyOnWriteArrayList<>();
   protected ClientRoutingStrategy routingStrategy;
   protected final String storeName;
 
@@ -31,6 +38,9 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
       case LEAST_LOADED:
         this.routingStrategy = new LeastLoadedClientRoutingStrategy(this.instanceHealthMonitor);
         break;
+      case LATENCY_BASED:
+        this.routingStrategy = new LatencyBasedClientRoutingStrategy(this.instanceHealthMonitor);
+        break;
       default:
         throw new VeniceClientException("Unexpected routing strategy type: " + clientRoutingStrategyType.toString());
     }
@@ -49,6 +59,28 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
     return storeName;
   }
 
+  @Override
+  public void registerCurrentVersionChangeListener(IntConsumer listener) {
+    currentVersionChangeListeners.add(listener);
+  }
+
+  /**
+   * Should be invoked by the subclasses after the current version has been updated.
+   */
+  protected void onCurrentVersionChange(int previousVersion, int newVersion) {
+    if (previousVersion == newVersion) {
+      return;
+    }
+    LOGGER.info("Current version of store: {} changed from {} to {}", storeName, previousVersion, newVersion);
+    for (IntConsumer listener: currentVersionChangeListeners) {
+      try {
+        listener.accept(newVersion);
+      } catch (Exception e) {
+        LOGGER.error("Failed to notify the current version change of store: {}", storeName, e);
+      }
+    }
+  }
+
   @Override
   public int getPartitionId(int version, byte[] key) {
     return getPartitionId(version, ByteBuffer.wrap(key));
@@ -83,7 +115,20 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
       String instance,
       int version,
       int partitionId) {
-    return instanceHealthMonitor.trackHealthBasedOnRequestToInstance(instance);
+    CompletableFuture<HttpStatus> requestFuture = instanceHealthMonitor.trackHealthBasedOnRequestToInstance(instance);
+    if (routingStrategy instanceof LatencyBasedClientRoutingStrategy) {
+      // Feed the response latency back to the routing strategy
+      final LatencyBasedClientRoutingStrategy latencyBasedRoutingStrategy =
+          (LatencyBasedClientRoutingStrategy) routingStrategy;
+      final long requestStartTimeNS = System.nanoTime();
+      requestFuture.whenComplete((httpStatus, throwable) -> {
+        if (httpStatus != null) {
+          latencyBasedRoutingStrategy
+              .recordResponse(instance, LatencyUtils.getLatencyInMS(requestStartTimeNS), httpStatus);
+        }
+      });
+    }
+    return requestFuture;
   }
 
   @Override
@@ -0,0 +1,142 @@
+package com.linkedin.venice.fastclient.meta;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This strategy is trying to route the request to the instances with the lowest expected latency:
+ * 1. Each instance maintains a peak-sensitive EWMA (exponentially weighted moving average) of its response latency,
+ *    which is fed by {@link #recordResponse}. A response slower than the current average resets the average to that
+ *    latency right away, while faster responses only pull the average down gradually, so a replica slowed down by
+ *    compaction or GC is demoted quickly and promoted carefully.
+ * 2. Error responses are recorded as a response with {@link #ERROR_PENALTY_LATENCY_MS} latency.
+ * 3. The cost of an instance is its EWMA latency multiplied by (pending request count + 1), so the
+ *    in-flight load from {@link InstanceHealthMonitor} is taken into account as well.
+ * 4. Replicas are picked via power-of-two-choices: two random candidates are sampled and the cheaper one is selected,
+ *    which avoids the herd behavior of always picking the global best instance.
+ * 5. The EWMA decays towards 0 when an instance hasn't received any response for a while, so a recovered instance
+ *    will be probed again eventually.
+ * 6. Blocked instances are skipped, the same as {@link LeastLoadedClientRoutingStrategy}.
+ */
+public class LatencyBasedClientRoutingStrategy implements ClientRoutingStrategy {
+  public static final double ERROR_PENALTY_LATENCY_MS = 1000;
+  public static final long DEFAULT_DECAY_TIME_MS = 10 * Time.MS_PER_SECOND;
+
+  private final InstanceHealthMonitor instanceHealthMonitor;
+  private final Time time;
+  private final double decayTimeMs;
+  private final Map<String, InstanceLatencyStats> instanceLatencyStatsMap = new VeniceConcurrentHashMap<>();
+
+  public LatencyBasedClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor) {
+    this(instanceHealthMonitor, SystemTime.INSTANCE, DEFAULT_DECAY_TIME_MS);
+  }
+
+  public LatencyBasedClientRoutingStrategy(InstanceHealthMonitor instanceHealthMonitor, Time time, long decayTimeMs) {
+    if (decayTimeMs <= 0) {
+      throw new IllegalArgumentException("Decay time must be positive, but got: " + decayTimeMs);
+    }
+    this.instanceHealthMonitor = instanceHealthMonitor;
+    this.time = time;
+    this.decayTimeMs = decayTimeMs;
+  }
+
+  /**
+   * Per-instance latency state. The update is synchronized, but the read is not, since a slightly stale
+   * view is good enough for the routing decision.
+   */
+  private static class InstanceLatencyStats {
+    private volatile double ewmaLatencyMs = 0;
+    private volatile long lastUpdateTimeMs;
+
+    InstanceLatencyStats(long currentTimeMs) {
+      this.lastUpdateTimeMs = currentTimeMs;
+    }
+
+    synchronized void update(double latencyMs, long currentTimeMs, double decayTimeMs) {
+      if (latencyMs > ewmaLatencyMs) {
+        ewmaLatencyMs = latencyMs;
+      } else {
+        double weight = Math.exp(-Math.max(0, currentTimeMs - lastUpdateTimeMs) / decayTimeMs);
+        ewmaLatencyMs = ewmaLatencyMs * weight + latencyMs * (1 - weight);
+      }
+      lastUpdateTimeMs = currentTimeMs;
+    }
+
+    double getDecayedLatencyMs(long currentTimeMs, double decayTimeMs) {
+      return ewmaLatencyMs * Math.exp(-Math.max(0, currentTimeMs - lastUpdateTimeMs) / decayTimeMs);
+    }
+  }
+
+  /**
+   * Feedback API to be invoked when a response (or error) is received from the given instance.
+   */
+  public void recordResponse(String instance, double latencyMs, HttpStatus httpStatus) {
+    double sampleLatencyMs = latencyMs;
+    switch (httpStatus) {
+      case S_200_OK:
+      case S_404_NOT_FOUND:
+        break;
+      default:
+        sampleLatencyMs = Math.max(latencyMs, ERROR_PENALTY_LATENCY_MS);
+    }
+    long currentTimeMs = time.getMilliseconds();
+    instanceLatencyStatsMap.computeIfAbsent(instance, k -> new InstanceLatencyStats(currentTimeMs))
+        .update(sampleLatencyMs, currentTimeMs, decayTimeMs);
+  }
+
+  /**
+   * Visible for testing.
+   */
+  double getCost(String instance, long currentTimeMs) {
+    InstanceLatencyStats stats = instanceLatencyStatsMap.get(instance);
+    double latencyMs = stats == null ? 0 : stats.getDecayedLatencyMs(currentTimeMs, decayTimeMs);
+    return latencyMs * (instanceHealthMonitor.getPendingRequestCounter(instance) + 1);
+  }
+
+  @Override
+  public List<String> getReplicas(long requestId, List<String> replicas, int requiredReplicaCount) {
+    if (replicas.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> availReplicas = new ArrayList<>(replicas.size());
+    for (String replica: replicas) {
+      if (!instanceHealthMonitor.isInstanceBlocked(replica)) {
+        availReplicas.add(replica);
+      }
+    }
+    if (availReplicas.size() <= requiredReplicaCount) {
+      return availReplicas;
+    }
+
+    long currentTimeMs = time.getMilliseconds();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    List<String> selectedReplicas = new ArrayList<>(requiredReplicaCount);
+    while (selectedReplicas.size() < requiredReplicaCount) {
+      int remainingCnt = availReplicas.size();
+      int selectedPos;
+      if (remainingCnt == 1) {
+        selectedPos = 0;
+      } else {
+        int firstPos = random.nextInt(remainingCnt);
+        // Pick a different second candidate
+        int secondPos = (firstPos + 1 + random.nextInt(remainingCnt - 1)) % remainingCnt;
+        selectedPos = getCost(availReplicas.get(firstPos), currentTimeMs) <= getCost(
+            availReplicas.get(secondPos),
+            currentTimeMs) ? firstPos : secondPos;
+      }
+      selectedReplicas.add(availReplicas.get(selectedPos));
+      // Remove the selected replica by swapping in the last one to keep it O(1)
+      availReplicas.set(selectedPos, availReplicas.get(remainingCnt - 1));
+      availReplicas.remove(remainingCnt - 1);
+    }
+    return selectedReplicas;
+  }
+}
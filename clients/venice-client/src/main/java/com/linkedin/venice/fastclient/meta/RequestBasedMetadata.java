@@ -226,8 +226,9 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
           if (dictionaryFetchFuture != null) {
             dictionaryFetchFuture.get(ZSTD_DICT_FETCH_TIMEOUT, TimeUnit.SECONDS);
           }
-          currentVersion.set(fetchedVersion);
+          int previousVersion = currentVersion.getAndSet(fetchedVersion);
           clusterStats.updateCurrentVersion(getCurrentStoreVersion());
+          onCurrentVersionChange(previousVersion, fetchedVersion);
           latestSuperSetValueSchemaId.set(metadataResponse.getLatestSuperSetValueSchemaId());
         } catch (ExecutionException | TimeoutException e) {
           LOGGER.warn(
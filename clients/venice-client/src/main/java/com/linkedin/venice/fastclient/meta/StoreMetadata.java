@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
 
 
 /**
@@ -21,6 +22,11 @@ public interface StoreMetadata extends SchemaReader {
 
   int getCurrentStoreVersion();
 
+  /**
+   * Register a listener, which will be invoked with the new current version every time the current version changes.
+   */
+  void registerCurrentVersionChangeListener(IntConsumer listener);
+
   int getPartitionId(int version, ByteBuffer key);
 
   int getPartitionId(int version, byte[] key);
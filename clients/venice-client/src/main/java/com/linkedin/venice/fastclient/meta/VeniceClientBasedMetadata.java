@@ -340,8 +340,9 @@ public abstract class VeniceClientBasedMetadata extends AbstractStoreMetadata {
       if (dictionaryFetchFutures.length > 0) {
         CompletableFuture.allOf(dictionaryFetchFutures).get(ZSTD_DICT_FETCH_TIMEOUT, TimeUnit.SECONDS);
       }
-      currentVersion.set(storeProperties.currentVersion);
+      int previousVersion = currentVersion.getAndSet(storeProperties.currentVersion);
       clusterStats.updateCurrentVersion(currentVersion.get());
+      onCurrentVersionChange(previousVersion, storeProperties.currentVersion);
       latestSuperSetValueSchemaId.set(storeProperties.latestSuperSetValueSchemaId);
     } catch (InterruptedException interruptedException) {
       Thread.currentThread().interrupt();
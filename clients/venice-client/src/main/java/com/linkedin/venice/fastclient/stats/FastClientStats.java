@@ -1,12 +1,17 @@
 package com.linkedin.venice.fastclient.stats;
 
+import static com.linkedin.venice.stats.StripedSensor.StatType.OCCURRENCE_RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.RATE;
+
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.Gauge;
 import com.linkedin.venice.stats.StatsUtils;
+import com.linkedin.venice.stats.StripedSensor;
 import com.linkedin.venice.stats.TehutiUtils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.tehuti.Metric;
+import io.tehuti.metrics.Measurable;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import io.tehuti.metrics.stats.Avg;
@@ -41,6 +46,16 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
   private final Sensor longTailRetryRequestSensor;
   private final Sensor errorRetryRequestSensor;
   private final Sensor retryRequestWinSensor;
+  private final Sensor retryBudgetExhaustedSensor;
+
+  private final Sensor autoBatchingBatchSizeSensor;
+  private final Sensor autoBatchingQueueingDelaySensor;
+
+  private final StripedSensor nearCacheHitKeyCountSensor;
+  private final StripedSensor nearCacheMissKeyCountSensor;
+  private final StripedSensor nearCacheLookupKeyCountSensor;
+  private final Sensor nearCacheHitRatioSensor;
+  private final Sensor nearCacheInvalidationSensor;
 
   private final Sensor metadataStalenessSensor;
   private long cacheTimeStampInMs = 0;
@@ -64,7 +79,7 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.noAvailableReplicaRequestCountSensor =
         registerSensor("no_available_replica_request_count", new OccurrenceRate());
 
-    Rate requestRate = getRequestRate();
+    Measurable requestRate = getRequestRate();
     Rate fastClientSlowerRequestRate = new OccurrenceRate();
     this.dualReadFastClientSlowerRequestCountSensor =
         registerSensor("dual_read_fastclient_slower_request_count", fastClientSlowerRequestRate);
@@ -84,6 +99,20 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     this.longTailRetryRequestSensor = registerSensor("long_tail_retry_request", new OccurrenceRate());
     this.errorRetryRequestSensor = registerSensor("error_retry_request", new OccurrenceRate());
     this.retryRequestWinSensor = registerSensor("retry_request_win", new OccurrenceRate());
+    this.retryBudgetExhaustedSensor = registerSensor("retry_budget_exhausted", new OccurrenceRate());
+    this.autoBatchingBatchSizeSensor = registerSensor("auto_batching_batch_size", new Avg(), new Max());
+    this.autoBatchingQueueingDelaySensor =
+        registerSensorWithDetailedPercentiles("auto_batching_queueing_delay", new Avg(), new Max());
+    // The near cache sensors are recorded by every lookup, so they are lock-free.
+    this.nearCacheHitKeyCountSensor = registerStripedSensor("near_cache_hit_key_count", RATE);
+    this.nearCacheMissKeyCountSensor = registerStripedSensor("near_cache_miss_key_count", RATE);
+    this.nearCacheLookupKeyCountSensor = registerStripedSensor("near_cache_lookup_key_count", RATE);
+    this.nearCacheHitRatioSensor = registerSensor(
+        "near_cache_hit_ratio",
+        new TehutiUtils.SimpleRatioStat(
+            nearCacheHitKeyCountSensor.asMeasurable(RATE),
+            nearCacheLookupKeyCountSensor.asMeasurable(RATE)));
+    this.nearCacheInvalidationSensor = registerSensor("near_cache_invalidation", new OccurrenceRate());
 
     this.metadataStalenessSensor = registerSensor("metadata_staleness_high_watermark_ms", new Gauge(() -> {
       if (this.cacheTimeStampInMs == 0) {
@@ -168,6 +197,28 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
     retryRequestWinSensor.record();
   }
 
+  public void recordRetryBudgetExhausted() {
+    retryBudgetExhaustedSensor.record();
+  }
+
+  public void recordAutoBatchingBatchSize(int batchSize) {
+    autoBatchingBatchSizeSensor.record(batchSize);
+  }
+
+  public void recordAutoBatchingQueueingDelay(double latency) {
+    autoBatchingQueueingDelaySensor.record(latency);
+  }
+
+  public void recordNearCacheLookup(int hitKeyCount, int missKeyCount) {
+    nearCacheHitKeyCountSensor.record(hitKeyCount);
+    nearCacheMissKeyCountSensor.record(missKeyCount);
+    nearCacheLookupKeyCountSensor.record(hitKeyCount + missKeyCount);
+  }
+
+  public void recordNearCacheInvalidation() {
+    nearCacheInvalidationSensor.record();
+  }
+
   public void updateCacheTimestamp(long cacheTimeStampInMs) {
     this.cacheTimeStampInMs = cacheTimeStampInMs;
   }
@@ -209,9 +260,9 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
    * Per-route request metrics.
    */
   private static class RouteStats extends AbstractVeniceStats {
-    private final Sensor requestCountSensor;
-    private final Sensor responseWaitingTimeSensor;
-    private final Sensor healthyRequestCountSensor;
+    private final StripedSensor requestCountSensor;
+    private final StripedSensor responseWaitingTimeSensor;
+    private final StripedSensor healthyRequestCountSensor;
     private final Sensor quotaExceededRequestCountSensor;
     private final Sensor internalServerErrorRequestCountSensor;
     private final Sensor serviceUnavailableRequestCountSensor;
@@ -220,10 +271,9 @@ public class FastClientStats extends com.linkedin.venice.client.stats.ClientStat
 
     public RouteStats(MetricsRepository metricsRepository, String storeName, String instanceName) {
       super(metricsRepository, storeName + "." + StatsUtils.convertHostnameToMetricName(instanceName));
-      this.requestCountSensor = registerSensor("request_count", new OccurrenceRate());
-      this.responseWaitingTimeSensor =
-          registerSensor("response_waiting_time", TehutiUtils.getPercentileStat(getName(), "response_waiting_time"));
-      this.healthyRequestCountSensor = registerSensor("healthy_request_count", new OccurrenceRate());
+      this.requestCountSensor = registerStripedSensor("request_count", OCCURRENCE_RATE);
+      this.responseWaitingTimeSensor = registerStripedSensorWithPercentiles("response_waiting_time");
+      this.healthyRequestCountSensor = registerStripedSensor("healthy_request_count", OCCURRENCE_RATE);
       this.quotaExceededRequestCountSensor = registerSensor("quota_exceeded_request_count", new OccurrenceRate());
       this.internalServerErrorRequestCountSensor =
           registerSensor("internal_server_error_request_count", new OccurrenceRate());
@@ -0,0 +1,159 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import io.tehuti.Metric;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class AutoBatchingAvroGenericStoreClientTest {
+  private static final String STORE_NAME = "test_store";
+
+  private ClientConfig getClientConfig(MetricsRepository metricsRepository, int windowInMicroSeconds, int maxBatchSize) {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setMetricsRepository(metricsRepository)
+        .setAutoBatchingEnabled(true)
+        .setAutoBatchingWindowInMicroSeconds(windowInMicroSeconds)
+        .setAutoBatchingMaxBatchSize(maxBatchSize)
+        .build();
+  }
+
+  /**
+   * Mocking the inner client, which records the key sets of the received batch-get requests, returns the key itself
+   * as the value and treats any key starting with "missing" as a non-existing key.
+   */
+  private InternalAvroStoreClient<String, String> prepareInnerClient(
+      ClientConfig clientConfig,
+      List<Set<String>> receivedBatches,
+      boolean throwException) {
+    return new DispatchingAvroGenericStoreClient<String, String>(null, clientConfig) {
+      @Override
+      protected CompletableFuture<String> get(GetRequestContext requestContext, String key) {
+        throw new VeniceClientException("Single get shouldn't be invoked when auto batching is enabled");
+      }
+
+      @Override
+      protected void streamingBatchGet(
+          BatchGetRequestContext<String, String> requestContext,
+          Set<String> keys,
+          StreamingCallback<String, String> callback) {
+        synchronized (receivedBatches) {
+          receivedBatches.add(new HashSet<>(keys));
+        }
+        if (throwException) {
+          callback.onCompletion(Optional.of(new VeniceClientException("Batch request exception")));
+          return;
+        }
+        for (String key: keys) {
+          callback.onRecordReceived(key, key.startsWith("missing") ? null : key);
+        }
+        callback.onCompletion(Optional.empty());
+      }
+
+      @Override
+      protected CompletableFuture<VeniceResponseMap<String, String>> streamingBatchGet(
+          BatchGetRequestContext<String, String> requestContext,
+          Set<String> keys) {
+        throw new VeniceClientException("Implementation not added");
+      }
+
+      @Override
+      public void close() {
+        // No metadata to close
+      }
+    };
+  }
+
+  @Test
+  public void testGetIsFlushedWhenReachingMaxBatchSize() throws ExecutionException, InterruptedException {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    // Use a long window to make sure the batch is only flushed because of the batch size.
+    ClientConfig clientConfig = getClientConfig(metricsRepository, (int) TimeUnit.SECONDS.toMicros(100), 3);
+    List<Set<String>> receivedBatches = new ArrayList<>();
+    AutoBatchingAvroGenericStoreClient<String, String> client =
+        new AutoBatchingAvroGenericStoreClient<>(prepareInnerClient(clientConfig, receivedBatches, false), clientConfig);
+
+    CompletableFuture<String> future1 = client.get("key1");
+    CompletableFuture<String> future2 = client.get("missing_key");
+    // Duplicate key shouldn't be counted twice in the batch
+    CompletableFuture<String> future3 = client.get("key1");
+    assertEquals(receivedBatches.size(), 0);
+    CompletableFuture<String> future4 = client.get("key3");
+
+    assertEquals(receivedBatches.size(), 1);
+    assertEquals(receivedBatches.get(0).size(), 3);
+    assertEquals(future1.get(), "key1");
+    assertNull(future2.get());
+    assertEquals(future3.get(), "key1");
+    assertEquals(future4.get(), "key3");
+
+    Metric batchSizeMetric = metricsRepository.getMetric("." + STORE_NAME + "--auto_batching_batch_size.Max");
+    assertEquals(batchSizeMetric.value(), 3.0);
+    client.close();
+  }
+
+  @Test(timeOut = 10000)
+  public void testGetIsFlushedWhenWindowExpires() throws ExecutionException, InterruptedException {
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository(), (int) TimeUnit.MILLISECONDS.toMicros(10), 100);
+    List<Set<String>> receivedBatches = new ArrayList<>();
+    AutoBatchingAvroGenericStoreClient<String, String> client =
+        new AutoBatchingAvroGenericStoreClient<>(prepareInnerClient(clientConfig, receivedBatches, false), clientConfig);
+
+    CompletableFuture<String> future1 = client.get("key1");
+    CompletableFuture<String> future2 = client.get("key2");
+    assertEquals(future1.get(), "key1");
+    assertEquals(future2.get(), "key2");
+    assertEquals(receivedBatches.size(), 1);
+    assertEquals(receivedBatches.get(0), new HashSet<>(Arrays.asList("key1", "key2")));
+
+    // The next request should start a new batch.
+    assertEquals(client.get("key3").get(), "key3");
+    assertEquals(receivedBatches.size(), 2);
+    assertEquals(receivedBatches.get(1), Collections.singleton("key3"));
+    client.close();
+  }
+
+  @Test(timeOut = 10000)
+  public void testGetFailsWhenBatchFails() {
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository(), (int) TimeUnit.MILLISECONDS.toMicros(10), 100);
+    AutoBatchingAvroGenericStoreClient<String, String> client =
+        new AutoBatchingAvroGenericStoreClient<>(prepareInnerClient(clientConfig, new ArrayList<>(), true), clientConfig);
+
+    CompletableFuture<String> future = client.get("key1");
+    ExecutionException e = expectThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof VeniceClientException);
+    client.close();
+  }
+
+  @Test
+  public void testPendingRequestsFailWhenClientIsClosed() {
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository(), (int) TimeUnit.SECONDS.toMicros(100), 100);
+    AutoBatchingAvroGenericStoreClient<String, String> client =
+        new AutoBatchingAvroGenericStoreClient<>(prepareInnerClient(clientConfig, new ArrayList<>(), false), clientConfig);
+
+    CompletableFuture<String> future = client.get("key1");
+    client.close();
+    ExecutionException e = expectThrows(ExecutionException.class, future::get);
+    assertTrue(e.getCause() instanceof VeniceClientException);
+  }
+}
@@ -102,4 +102,43 @@ public class ClientConfigTest {
     clientConfigBuilder.setUseStreamingBatchGetAsDefault(true);
     clientConfigBuilder.build();
   }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "autoBatchingWindowInMicroSeconds must be positive.*")
+  public void testClientWithInvalidAutoBatchingWindow() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setAutoBatchingEnabled(true);
+    clientConfigBuilder.setAutoBatchingWindowInMicroSeconds(0);
+    clientConfigBuilder.build();
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "autoBatchingMaxBatchSize must be bigger than 1.*")
+  public void testClientWithInvalidAutoBatchingMaxBatchSize() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setAutoBatchingEnabled(true);
+    clientConfigBuilder.setAutoBatchingMaxBatchSize(1);
+    clientConfigBuilder.build();
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "nearCacheMaxEntryCount must be positive.*")
+  public void testClientWithInvalidNearCacheMaxEntryCount() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setNearCacheEnabled(true);
+    clientConfigBuilder.setNearCacheMaxEntryCount(0);
+    clientConfigBuilder.build();
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "nearCacheTtlInMs must be positive.*")
+  public void testClientWithInvalidNearCacheTtl() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setNearCacheEnabled(true);
+    clientConfigBuilder.setNearCacheTtlInMs(0);
+    clientConfigBuilder.build();
+  }
+
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "nearCacheTtlInMs must be positive.*")
+  public void testClientWithNearCacheWithoutTtl() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setNearCacheEnabled(true);
+    clientConfigBuilder.build();
+  }
 }
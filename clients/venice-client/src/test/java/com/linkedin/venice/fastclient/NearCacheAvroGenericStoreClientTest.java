@@ -0,0 +1,254 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.r2.transport.common.Client;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.client.store.streaming.VeniceResponseMap;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+
+public class NearCacheAvroGenericStoreClientTest {
+  private static final String STORE_NAME = "test_store";
+
+  private ClientConfig getClientConfig(MetricsRepository metricsRepository) {
+    return new ClientConfig.ClientConfigBuilder<>().setStoreName(STORE_NAME)
+        .setR2Client(mock(Client.class))
+        .setMetricsRepository(metricsRepository)
+        .setNearCacheEnabled(true)
+        .setNearCacheMaxEntryCount(100)
+        .setNearCacheTtlInMs(TimeUnit.MINUTES.toMillis(10))
+        .build();
+  }
+
+  private StoreMetadata getMockMetadata(int currentVersion) {
+    StoreMetadata metadata = mock(StoreMetadata.class);
+    doReturn(STORE_NAME).when(metadata).getStoreName();
+    doReturn(currentVersion).when(metadata).getCurrentStoreVersion();
+    return metadata;
+  }
+
+  /**
+   * Mocking the inner client, which records the keys of the received requests, returns the key itself as the value
+   * and treats any key starting with "missing" as a non-existing key.
+   */
+  private InternalAvroStoreClient<String, String> prepareInnerClient(
+      ClientConfig clientConfig,
+      List<String> receivedSingleGetKeys,
+      List<Set<String>> receivedBatchGetKeys) {
+    return new DispatchingAvroGenericStoreClient<String, String>(null, clientConfig) {
+      @Override
+      protected CompletableFuture<String> get(GetRequestContext requestContext, String key) {
+        receivedSingleGetKeys.add(key);
+        return CompletableFuture.completedFuture(key.startsWith("missing") ? null : key);
+      }
+
+      @Override
+      protected void streamingBatchGet(
+          BatchGetRequestContext<String, String> requestContext,
+          Set<String> keys,
+          StreamingCallback<String, String> callback) {
+        receivedBatchGetKeys.add(new HashSet<>(keys));
+        for (String key: keys) {
+          callback.onRecordReceived(key, key.startsWith("missing") ? null : key);
+        }
+        callback.onCompletion(Optional.empty());
+      }
+
+      @Override
+      protected CompletableFuture<VeniceResponseMap<String, String>> streamingBatchGet(
+          BatchGetRequestContext<String, String> requestContext,
+          Set<String> keys) {
+        throw new VeniceClientException("Implementation not added");
+      }
+
+      @Override
+      public String getStoreName() {
+        return STORE_NAME;
+      }
+
+      @Override
+      public void close() {
+        // No metadata to close
+      }
+    };
+  }
+
+  @Test
+  public void testSingleGetIsServedFromNearCache() throws ExecutionException, InterruptedException {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    ClientConfig clientConfig = getClientConfig(metricsRepository);
+    List<String> receivedSingleGetKeys = new ArrayList<>();
+    NearCacheAvroGenericStoreClient<String, String> client = new NearCacheAvroGenericStoreClient<>(
+        prepareInnerClient(clientConfig, receivedSingleGetKeys, new ArrayList<>()),
+        clientConfig,
+        getMockMetadata(1));
+
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(receivedSingleGetKeys, Collections.singletonList("key1"));
+
+    // Non-existing keys shouldn't be cached
+    assertNull(client.get("missing_key").get());
+    assertNull(client.get("missing_key").get());
+    assertEquals(receivedSingleGetKeys, Arrays.asList("key1", "missing_key", "missing_key"));
+
+    assertEquals(
+        metricsRepository.getMetric("." + STORE_NAME + "--near_cache_hit_ratio.SimpleRatioStat").value(),
+        0.25,
+        0.01);
+    client.close();
+  }
+
+  @Test
+  public void testNearCacheIsInvalidatedOnCurrentVersionChange() throws ExecutionException, InterruptedException {
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository());
+    List<String> receivedSingleGetKeys = new ArrayList<>();
+    StoreMetadata metadata = getMockMetadata(1);
+    NearCacheAvroGenericStoreClient<String, String> client = new NearCacheAvroGenericStoreClient<>(
+        prepareInnerClient(clientConfig, receivedSingleGetKeys, new ArrayList<>()),
+        clientConfig,
+        metadata);
+    ArgumentCaptor<IntConsumer> listenerCaptor = ArgumentCaptor.forClass(IntConsumer.class);
+    verify(metadata).registerCurrentVersionChangeListener(listenerCaptor.capture());
+
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(receivedSingleGetKeys.size(), 1);
+
+    // The value cached for the previous version shouldn't be returned even before the cache is invalidated
+    doReturn(2).when(metadata).getCurrentStoreVersion();
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(receivedSingleGetKeys.size(), 2);
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(receivedSingleGetKeys.size(), 2);
+
+    doReturn(3).when(metadata).getCurrentStoreVersion();
+    listenerCaptor.getValue().accept(3);
+    assertEquals(client.get("key1").get(), "key1");
+    assertEquals(receivedSingleGetKeys.size(), 3);
+    client.close();
+  }
+
+  @Test
+  public void testBatchGetIsServedPartiallyFromNearCache() throws ExecutionException, InterruptedException {
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository());
+    List<Set<String>> receivedBatchGetKeys = new ArrayList<>();
+    NearCacheAvroGenericStoreClient<String, String> client = new NearCacheAvroGenericStoreClient<>(
+        prepareInnerClient(clientConfig, new ArrayList<>(), receivedBatchGetKeys),
+        clientConfig,
+        getMockMetadata(1));
+
+    Map<String, String> result = client.batchGet(new HashSet<>(Arrays.asList("key1", "missing_key"))).get();
+    assertEquals(result.size(), 1);
+    assertEquals(result.get("key1"), "key1");
+    assertEquals(receivedBatchGetKeys.size(), 1);
+
+    // Only the missed keys should be sent to the inner client
+    result = client.batchGet(new HashSet<>(Arrays.asList("key1", "key2", "missing_key"))).get();
+    assertEquals(result.size(), 2);
+    assertEquals(result.get("key1"), "key1");
+    assertEquals(result.get("key2"), "key2");
+    assertEquals(receivedBatchGetKeys.size(), 2);
+    assertEquals(receivedBatchGetKeys.get(1), new HashSet<>(Arrays.asList("key2", "missing_key")));
+
+    // No request should be sent if all the keys are cached
+    List<String> receivedKeys = new ArrayList<>();
+    CompletableFuture<Boolean> completionFuture = new CompletableFuture<>();
+    client.streamingBatchGet(new HashSet<>(Arrays.asList("key1", "key2")), new StreamingCallback<String, String>() {
+      @Override
+      public void onRecordReceived(String key, String value) {
+        receivedKeys.add(value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        completionFuture.complete(!exception.isPresent());
+      }
+    });
+    assertTrue(completionFuture.get());
+    assertEquals(new HashSet<>(receivedKeys), new HashSet<>(Arrays.asList("key1", "key2")));
+    assertEquals(receivedBatchGetKeys.size(), 2);
+    client.close();
+  }
+
+  @Test
+  public void testCachedValuesAreNotShared() throws ExecutionException, InterruptedException {
+    Schema valueSchema = new Schema.Parser().parse(
+        "{\"type\":\"record\",\"name\":\"Value\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}");
+    GenericRecord innerValue = new GenericData.Record(valueSchema);
+    innerValue.put("name", new Utf8("original"));
+    ClientConfig clientConfig = getClientConfig(new MetricsRepository());
+    InternalAvroStoreClient<String, GenericRecord> innerClient =
+        new DispatchingAvroGenericStoreClient<String, GenericRecord>(null, clientConfig) {
+          @Override
+          protected CompletableFuture<GenericRecord> get(GetRequestContext requestContext, String key) {
+            return CompletableFuture.completedFuture(innerValue);
+          }
+
+          @Override
+          public String getStoreName() {
+            return STORE_NAME;
+          }
+
+          @Override
+          public void close() {
+            // No metadata to close
+          }
+        };
+    NearCacheAvroGenericStoreClient<String, GenericRecord> client =
+        new NearCacheAvroGenericStoreClient<>(innerClient, clientConfig, getMockMetadata(1));
+
+    // Mutating the value returned by a miss shouldn't change the cached value
+    GenericRecord missValue = client.get("key1").get();
+    missValue.put("name", new Utf8("mutated_by_miss"));
+    GenericRecord hitValue = client.get("key1").get();
+    assertEquals(hitValue.get("name").toString(), "original");
+
+    // Every hit returns its own copy
+    hitValue.put("name", new Utf8("mutated_by_hit"));
+    GenericRecord anotherHitValue = client.get("key1").get();
+    assertNotSame(anotherHitValue, hitValue);
+    assertEquals(anotherHitValue.get("name").toString(), "original");
+    client.close();
+  }
+
+  @Test
+  public void testCopy() {
+    Utf8 utf8 = new Utf8("value");
+    assertNotSame(NearCacheAvroGenericStoreClient.copy(utf8), utf8);
+    assertEquals(NearCacheAvroGenericStoreClient.copy(utf8), utf8);
+    Map<Utf8, List<Utf8>> map = Collections.singletonMap(new Utf8("key"), Collections.singletonList(utf8));
+    Map<Utf8, List<Utf8>> mapCopy = NearCacheAvroGenericStoreClient.copy(map);
+    assertEquals(mapCopy, map);
+    assertNotSame(mapCopy.get(new Utf8("key")).get(0), utf8);
+    String string = "immutable";
+    assertTrue(NearCacheAvroGenericStoreClient.copy(string) == string);
+  }
+}
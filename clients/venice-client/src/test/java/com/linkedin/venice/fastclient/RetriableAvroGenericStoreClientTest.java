@@ -474,4 +474,114 @@ public class RetriableAvroGenericStoreClientTest {
     assertFalse(metrics.get("." + STORE_NAME + "--retry_request_win.OccurrenceRate").value() > 0);
     assertFalse(getRequestContext.retryWin);
   }
+
+  /**
+   * Original request latency exceeds the retry threshold, but the retry is skipped because the retry budget
+   * is exhausted.
+   */
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testGetWithLongTailRetrySkippedByRetryBudget(boolean batchGet)
+      throws ExecutionException, InterruptedException {
+    clientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setRetryBudgetEnabled(true)
+        .setRetryBudgetPercentage(1)
+        .build();
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(
+            false,
+            LONG_TAIL_RETRY_THRESHOLD_IN_MS * 2,
+            false,
+            LONG_TAIL_RETRY_THRESHOLD_IN_MS / 2,
+            clientConfig),
+        clientConfig);
+    // Drain the retry budget
+    RetryBudget retryBudget = retriableClient.getRetryBudget();
+    while (retryBudget.tryAcquireRetry()) {
+      // Keep draining
+    }
+    statsAvroGenericStoreClient = new StatsAvroGenericStoreClient(retriableClient, clientConfig);
+    getRequestContext = new GetRequestContext();
+    batchGetRequestContext = new BatchGetRequestContext<>();
+    if (!batchGet) {
+      String value = (String) statsAvroGenericStoreClient.get(getRequestContext, "test_key").get();
+      assertEquals(value, SINGLE_GET_VALUE_RESPONSE);
+      metrics = getStats(clientConfig);
+      assertFalse(getRequestContext.longTailRetryRequestTriggered);
+      assertFalse(getRequestContext.retryWin);
+      assertTrue(getRequestContext.retryBudgetExhausted);
+      assertTrue(metrics.get("." + STORE_NAME + "--retry_budget_exhausted.OccurrenceRate").value() > 0);
+      assertFalse(metrics.get("." + STORE_NAME + "--long_tail_retry_request.OccurrenceRate").value() > 0);
+    } else {
+      Map<String, String> value =
+          (Map<String, String>) statsAvroGenericStoreClient.batchGet(batchGetRequestContext, BATCH_GET_KEYS).get();
+      assertEquals(value, BATCH_GET_VALUE_RESPONSE);
+      metrics = getStats(clientConfig, RequestType.MULTI_GET);
+      assertFalse(batchGetRequestContext.longTailRetryTriggered);
+      assertTrue(batchGetRequestContext.retryBudgetExhausted);
+      assertTrue(metrics.get("." + STORE_NAME + "--multiget_retry_budget_exhausted.OccurrenceRate").value() > 0);
+      assertFalse(metrics.get("." + STORE_NAME + "--multiget_long_tail_retry_request.OccurrenceRate").value() > 0);
+    }
+  }
+
+  /**
+   * The original batch get fails, either before or after its long tail retry is skipped because the retry budget is
+   * exhausted, so the original error is returned instead of leaving the request pending.
+   */
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class, timeOut = 10000)
+  public void testBatchGetFailsWhenLongTailRetrySkippedByRetryBudget(boolean originalFailsBeforeRetry)
+      throws InterruptedException {
+    clientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setRetryBudgetEnabled(true)
+        .setRetryBudgetPercentage(1)
+        .build();
+    long originalRequestDelayMs = originalFailsBeforeRetry ? 0 : LONG_TAIL_RETRY_THRESHOLD_IN_MS * 2;
+    retriableClient = new RetriableAvroGenericStoreClient<>(
+        prepareDispatchingClient(true, originalRequestDelayMs, false, 0, clientConfig),
+        clientConfig);
+    // Drain the retry budget
+    RetryBudget retryBudget = retriableClient.getRetryBudget();
+    while (retryBudget.tryAcquireRetry()) {
+      // Keep draining
+    }
+    batchGetRequestContext = new BatchGetRequestContext<>();
+    try {
+      retriableClient.batchGet(batchGetRequestContext, BATCH_GET_KEYS).get();
+      fail("An ExecutionException should be thrown here");
+    } catch (ExecutionException e) {
+      assertEquals(e.getCause().getCause().getMessage(), "Original request exception");
+    }
+    assertFalse(batchGetRequestContext.longTailRetryTriggered);
+    assertTrue(batchGetRequestContext.retryBudgetExhausted);
+  }
+
+  /**
+   * The original request fails, but the error retry is skipped because the retry budget is exhausted, so the
+   * original error is returned.
+   */
+  @Test
+  public void testGetWithErrorRetrySkippedByRetryBudget() throws InterruptedException {
+    clientConfig = clientConfigBuilder.clone()
+        .setMetricsRepository(new MetricsRepository())
+        .setRetryBudgetEnabled(true)
+        .setRetryBudgetPercentage(1)
+        .build();
+    retriableClient =
+        new RetriableAvroGenericStoreClient<>(prepareDispatchingClient(true, 0, false, 0, clientConfig), clientConfig);
+    // Drain the retry budget
+    RetryBudget retryBudget = retriableClient.getRetryBudget();
+    while (retryBudget.tryAcquireRetry()) {
+      // Keep draining
+    }
+    getRequestContext = new GetRequestContext();
+    try {
+      retriableClient.get(getRequestContext, "test_key").get();
+      fail("An ExecutionException should be thrown here");
+    } catch (ExecutionException e) {
+      assertEquals(e.getCause().getMessage(), "Original request exception");
+    }
+    assertFalse(getRequestContext.errorRetryRequestTriggered);
+    assertTrue(getRequestContext.retryBudgetExhausted);
+  }
 }
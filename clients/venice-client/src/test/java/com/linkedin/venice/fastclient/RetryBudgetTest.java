@@ -0,0 +1,47 @@
+package com.linkedin.venice.fastclient;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+
+public class RetryBudgetTest {
+  @Test
+  public void testRetryBudgetStartsFullAndIsBounded() {
+    RetryBudget retryBudget = new RetryBudget(10, 5);
+    assertEquals(retryBudget.getAvailableRetryTokens(), 5.0);
+    // Deposits can't exceed the max retry tokens
+    for (int i = 0; i < 1000; ++i) {
+      retryBudget.recordRequest();
+    }
+    assertEquals(retryBudget.getAvailableRetryTokens(), 5.0);
+    for (int i = 0; i < 5; ++i) {
+      assertTrue(retryBudget.tryAcquireRetry());
+    }
+    assertFalse(retryBudget.tryAcquireRetry());
+    assertEquals(retryBudget.getAvailableRetryTokens(), 0.0);
+  }
+
+  @Test
+  public void testRetryBudgetIsProportionalToRequests() {
+    RetryBudget retryBudget = new RetryBudget(10, 5);
+    while (retryBudget.tryAcquireRetry()) {
+      // Drain the budget
+    }
+    // 10% retry budget: every 10 requests allow one retry
+    for (int i = 0; i < 9; ++i) {
+      retryBudget.recordRequest();
+    }
+    assertFalse(retryBudget.tryAcquireRetry());
+    retryBudget.recordRequest();
+    assertTrue(retryBudget.tryAcquireRetry());
+    assertFalse(retryBudget.tryAcquireRetry());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidRetryPercentage() {
+    new RetryBudget(0);
+  }
+}
@@ -0,0 +1,110 @@
+package com.linkedin.venice.fastclient.meta;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class LatencyBasedClientRoutingStrategyTest {
+  private final static String instance1 = "https://instance1:1234";
+  private final static String instance2 = "https://instance2:1234";
+  private final static String instance3 = "https://instance3:1234";
+  private final static long DECAY_TIME_MS = 10000;
+
+  private InstanceHealthMonitor mockInstanceHealthyMonitor(String[] instances, boolean[] blocked, int[] counter) {
+    InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+    for (int i = 0; i < instances.length; ++i) {
+      doReturn(blocked[i]).when(instanceHealthMonitor).isInstanceBlocked(instances[i]);
+      doReturn(counter[i]).when(instanceHealthMonitor).getPendingRequestCounter(instances[i]);
+    }
+    return instanceHealthMonitor;
+  }
+
+  @Test
+  public void testGetReplicasPrefersFasterReplica() {
+    String[] instances = new String[] { instance1, instance2 };
+    List<String> replicas = Arrays.asList(instances);
+    TestMockTime time = new TestMockTime();
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, false }, new int[] { 0, 0 }),
+        time,
+        DECAY_TIME_MS);
+    strategy.recordResponse(instance1, 50, HttpStatus.S_200_OK);
+    strategy.recordResponse(instance2, 1, HttpStatus.S_200_OK);
+    // With two replicas, power-of-two-choices always compares both of them.
+    for (int i = 0; i < 100; ++i) {
+      assertEquals(strategy.getReplicas(i, replicas, 1), Arrays.asList(instance2));
+    }
+    // Both replicas should be returned when requiring two replicas.
+    assertEquals(new HashSet<>(strategy.getReplicas(0, replicas, 2)), new HashSet<>(replicas));
+  }
+
+  @Test
+  public void testGetReplicasConsidersPendingRequests() {
+    String[] instances = new String[] { instance1, instance2 };
+    List<String> replicas = Arrays.asList(instances);
+    TestMockTime time = new TestMockTime();
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, false }, new int[] { 0, 20 }),
+        time,
+        DECAY_TIME_MS);
+    strategy.recordResponse(instance1, 5, HttpStatus.S_200_OK);
+    strategy.recordResponse(instance2, 1, HttpStatus.S_200_OK);
+    // instance2 is faster, but it has too many pending requests.
+    assertEquals(strategy.getReplicas(0, replicas, 1), Arrays.asList(instance1));
+  }
+
+  @Test
+  public void testGetReplicasSkipsBlockedReplicas() {
+    String[] instances = new String[] { instance1, instance2, instance3 };
+    List<String> replicas = Arrays.asList(instances);
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, true, false }, new int[] { 0, 0, 0 }),
+        new TestMockTime(),
+        DECAY_TIME_MS);
+    for (int i = 0; i < 100; ++i) {
+      assertTrue(!strategy.getReplicas(i, replicas, 1).contains(instance2));
+    }
+    assertEquals(
+        new HashSet<>(strategy.getReplicas(0, replicas, 3)),
+        new HashSet<>(Arrays.asList(instance1, instance3)));
+  }
+
+  @Test
+  public void testErrorPenaltyAndDecay() {
+    String[] instances = new String[] { instance1, instance2 };
+    TestMockTime time = new TestMockTime();
+    LatencyBasedClientRoutingStrategy strategy = new LatencyBasedClientRoutingStrategy(
+        mockInstanceHealthyMonitor(instances, new boolean[] { false, false }, new int[] { 0, 0 }),
+        time,
+        DECAY_TIME_MS);
+    strategy.recordResponse(instance1, 1, HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    strategy.recordResponse(instance2, 10, HttpStatus.S_200_OK);
+    long now = time.getMilliseconds();
+    assertEquals(strategy.getCost(instance1, now), LatencyBasedClientRoutingStrategy.ERROR_PENALTY_LATENCY_MS);
+    assertEquals(strategy.getCost(instance2, now), 10.0);
+
+    // Faster responses only pull the average down gradually
+    time.addMilliseconds(DECAY_TIME_MS);
+    strategy.recordResponse(instance1, 1, HttpStatus.S_200_OK);
+    now = time.getMilliseconds();
+    double cost = strategy.getCost(instance1, now);
+    assertTrue(
+        cost > 1 && cost < LatencyBasedClientRoutingStrategy.ERROR_PENALTY_LATENCY_MS,
+        "Unexpected cost: " + cost);
+
+    // Idle instances decay towards 0, so they will be probed again
+    time.addMilliseconds(10 * DECAY_TIME_MS);
+    now = time.getMilliseconds();
+    assertTrue(strategy.getCost(instance1, now) < 1);
+    assertTrue(strategy.getCost(instance2, now) < 1);
+  }
+}
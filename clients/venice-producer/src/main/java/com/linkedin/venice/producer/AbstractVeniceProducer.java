@@ -1,5 +1,9 @@
 package com.linkedin.venice.producer;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_BACKPRESSURE_POLICY;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_BATCH_SIZE;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_MAX_IN_FLIGHT_BYTES;
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_PIPELINED_MODE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_THREAD_NUM;
 import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
 import static com.linkedin.venice.ConfigKeys.KAFKA_OVER_SSL;
@@ -58,6 +62,8 @@ import org.apache.logging.log4j.Logger;
 public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K, V> {
   private static final Logger LOGGER = LogManager.getLogger(AbstractVeniceProducer.class);
   private static final DurableWrite DURABLE_WRITE = new DurableWrite();
+  private static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 64 * 1024 * 1024;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
   private VeniceProperties producerConfigs;
   private boolean configured = false;
@@ -67,6 +73,9 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   private SchemaReader schemaReader;
   private ThreadPoolExecutor producerExecutor;
   private VeniceWriter<byte[], byte[], byte[]> veniceWriter;
+  private VenicePartitioner venicePartitioner;
+  private int partitionCount;
+  private PipelinedWriteDispatcher writeDispatcher;
 
   private RecordSerializer<Object> keySerializer;
   private static final Schema STRING_SCHEMA = Schema.create(Schema.Type.STRING);
@@ -107,6 +116,16 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
 
     VersionCreationResponse versionCreationResponse = requestTopic();
     this.veniceWriter = getVeniceWriter(versionCreationResponse);
+
+    if (producerConfigs.getBoolean(CLIENT_PRODUCER_PIPELINED_MODE_ENABLED, false)) {
+      this.writeDispatcher = new PipelinedWriteDispatcher(
+          producerConfigs.getInt(CLIENT_PRODUCER_THREAD_NUM, 10),
+          producerConfigs.getSizeInBytes(CLIENT_PRODUCER_MAX_IN_FLIGHT_BYTES, DEFAULT_MAX_IN_FLIGHT_BYTES),
+          ProducerBackpressurePolicy.valueOf(
+              producerConfigs.getString(CLIENT_PRODUCER_BACKPRESSURE_POLICY, ProducerBackpressurePolicy.BLOCK.name())),
+          producerConfigs.getInt(CLIENT_PRODUCER_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE),
+          producerMetrics);
+    }
   }
 
   private VeniceWriter<byte[], byte[], byte[]> getVeniceWriter(VersionCreationResponse versionCreationResponse) {
@@ -128,10 +147,10 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
       VersionCreationResponse versionCreationResponse,
       Properties veniceWriterProperties) {
     int amplificationFactor = versionCreationResponse.getAmplificationFactor();
-    Integer partitionCount = versionCreationResponse.getPartitions();
+    this.partitionCount = versionCreationResponse.getPartitions();
     Properties partitionerProperties = new Properties();
     partitionerProperties.putAll(versionCreationResponse.getPartitionerParams());
-    VenicePartitioner venicePartitioner = PartitionUtils.getVenicePartitioner(
+    this.venicePartitioner = PartitionUtils.getVenicePartitioner(
         versionCreationResponse.getPartitionerClass(),
         amplificationFactor,
         new VeniceProperties(partitionerProperties));
@@ -200,30 +219,20 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordPutRequest();
+    if (writeDispatcher != null) {
+      return pipelinedPut(logicalTime, key, value);
+    }
     return CompletableFuture.supplyAsync(() -> {
       Schema valueSchema;
+      int valueSchemaId;
       try {
         valueSchema = getSchemaFromObject(value);
+        // Might block
+        valueSchemaId = getValueSchemaId(valueSchema);
       } catch (Exception e) {
         producerMetrics.recordFailedRequest();
         throw e;
       }
-      // Might block
-      int valueSchemaId;
-      Exception schemaReadException = null;
-      try {
-        valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
-      } catch (Exception e) {
-        valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
-        schemaReadException = e;
-      }
-      if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + valueSchema
-                + ". This might be transient if the schema has been registered recently.",
-            schemaReadException);
-      }
       final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
       final Instant sendStartTime = Instant.now();
       final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
@@ -253,6 +262,46 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }, producerExecutor);
   }
 
+  /**
+   * Serializes the record on the calling thread, so that the exact size can be charged against the in-flight bytes
+   * budget before the record is queued. The value schema id is resolved by the pipeline.
+   */
+  private CompletableFuture<DurableWrite> pipelinedPut(long logicalTime, K key, V value) {
+    Schema valueSchema;
+    byte[] keyBytes;
+    byte[] valueBytes;
+    try {
+      valueSchema = getSchemaFromObject(value);
+      keyBytes = keySerializer.serialize(key);
+      valueBytes = getSerializer(valueSchema).serialize(value);
+    } catch (Exception e) {
+      producerMetrics.recordFailedRequest();
+      return getFutureCompletedExceptionally(e);
+    }
+    return writeDispatcher.submit(
+        getPartition(keyBytes),
+        keyBytes.length + valueBytes.length,
+        callback -> veniceWriter.put(keyBytes, valueBytes, getValueSchemaId(valueSchema), logicalTime, callback));
+  }
+
+  private int getValueSchemaId(Schema valueSchema) {
+    int valueSchemaId;
+    Exception schemaReadException = null;
+    try {
+      valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
+    } catch (Exception e) {
+      valueSchemaId = SchemaData.INVALID_VALUE_SCHEMA_ID;
+      schemaReadException = e;
+    }
+    if (valueSchemaId == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + valueSchema
+              + ". This might be transient if the schema has been registered recently.",
+          schemaReadException);
+    }
+    return valueSchemaId;
+  }
+
   @Override
   public CompletableFuture<DurableWrite> asyncDelete(K key) {
     return asyncDeleteInternal(APP_DEFAULT_LOGICAL_TS, key);
@@ -274,6 +323,19 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordDeleteRequest();
+    if (writeDispatcher != null) {
+      byte[] keyBytes;
+      try {
+        keyBytes = keySerializer.serialize(key);
+      } catch (Exception e) {
+        producerMetrics.recordFailedRequest();
+        return getFutureCompletedExceptionally(e);
+      }
+      return writeDispatcher.submit(
+          getPartition(keyBytes),
+          keyBytes.length,
+          callback -> veniceWriter.delete(keyBytes, logicalTime, callback));
+    }
     return CompletableFuture.supplyAsync(() -> {
       final CompletableFuture<Void> completableFuture = new CompletableFuture<>();
       final Instant sendStartTime = Instant.now();
@@ -327,27 +389,20 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }
 
     producerMetrics.recordUpdateRequest();
+    if (writeDispatcher != null) {
+      return pipelinedUpdate(logicalTime, key, updateFunction);
+    }
     return CompletableFuture.supplyAsync(() -> {
       // Caching to avoid race conditions during processing of the function
-      DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
-
-      if (updateSchemaEntry == null) {
+      DerivedSchemaEntry updateSchemaEntry;
+      try {
+        updateSchemaEntry = getLatestUpdateSchema();
+      } catch (Exception e) {
         producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Update schema not found. Check if partial update is enabled for the store. This error"
-                + " might also be transient if partial update has been enabled recently.");
+        throw e;
       }
-
       Schema updateSchema = updateSchemaEntry.getSchema();
 
-      if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
-          || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-        producerMetrics.recordFailedRequest();
-        throw new VeniceException(
-            "Could not find a registered schema id for schema: " + updateSchema
-                + ". This might be transient if the schema has been registered recently.");
-      }
-
       UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
       updateFunction.accept(updateBuilder);
       GenericRecord updateRecord = updateBuilder.build();
@@ -387,6 +442,58 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     }, producerExecutor);
   }
 
+  private CompletableFuture<DurableWrite> pipelinedUpdate(
+      long logicalTime,
+      K key,
+      Consumer<UpdateBuilder> updateFunction) {
+    DerivedSchemaEntry updateSchemaEntry;
+    byte[] keyBytes;
+    byte[] updateBytes;
+    try {
+      // Caching to avoid race conditions during processing of the function
+      updateSchemaEntry = getLatestUpdateSchema();
+      UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchemaEntry.getSchema());
+      updateFunction.accept(updateBuilder);
+      keyBytes = keySerializer.serialize(key);
+      updateBytes = getSerializer(updateSchemaEntry.getSchema()).serialize(updateBuilder.build());
+    } catch (Exception e) {
+      producerMetrics.recordFailedRequest();
+      return getFutureCompletedExceptionally(e);
+    }
+    return writeDispatcher.submit(
+        getPartition(keyBytes),
+        keyBytes.length + updateBytes.length,
+        callback -> veniceWriter.update(
+            keyBytes,
+            updateBytes,
+            updateSchemaEntry.getValueSchemaID(),
+            updateSchemaEntry.getId(),
+            callback,
+            logicalTime));
+  }
+
+  private DerivedSchemaEntry getLatestUpdateSchema() {
+    DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
+
+    if (updateSchemaEntry == null) {
+      throw new VeniceException(
+          "Update schema not found. Check if partial update is enabled for the store. This error"
+              + " might also be transient if partial update has been enabled recently.");
+    }
+
+    if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
+        || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + updateSchemaEntry.getSchema()
+              + ". This might be transient if the schema has been registered recently.");
+    }
+    return updateSchemaEntry;
+  }
+
+  private int getPartition(byte[] keyBytes) {
+    return venicePartitioner.getPartitionId(keyBytes, partitionCount);
+  }
+
   /**
    * This function should return a {@link VersionCreationResponse} to determine the PubSub topic and the characteristics
    * that the producer should follow.
@@ -406,14 +513,21 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
   }
 
   private <D> CompletableFuture<D> getFutureCompletedExceptionally(String exceptionMessage) {
+    return getFutureCompletedExceptionally(new VeniceException(exceptionMessage));
+  }
+
+  private <D> CompletableFuture<D> getFutureCompletedExceptionally(Throwable throwable) {
     CompletableFuture<D> future = new CompletableFuture<>();
-    future.completeExceptionally(new VeniceException(exceptionMessage));
+    future.completeExceptionally(throwable);
     return future;
   }
 
   @Override
   public void close() throws IOException {
     closed = true;
+    if (writeDispatcher != null) {
+      writeDispatcher.close();
+    }
     producerExecutor.shutdownNow();
     try {
       producerExecutor.awaitTermination(60, TimeUnit.SECONDS);
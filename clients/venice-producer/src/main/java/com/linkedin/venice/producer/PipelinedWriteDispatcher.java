@@ -0,0 +1,251 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Dispatches the writes of the pipelined {@link VeniceProducer} mode.
+ *
+ * Every accepted write is charged with its serialized size against a bounded in-flight bytes budget, which is only
+ * released once the PubSub system acknowledges (or fails) the write. When the budget is exhausted, new writes are
+ * handled according to the {@link ProducerBackpressurePolicy}.
+ *
+ * Writes are routed to a fixed number of lanes by partition, so that the writes of a partition are always sent in
+ * submission order by the same thread. Each lane drains up to {@code maxBatchSize} queued writes at once, groups them
+ * by partition and sends all of them back to back, without waiting for the acknowledgement of the previous ones.
+ */
+public class PipelinedWriteDispatcher implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(PipelinedWriteDispatcher.class);
+  private static final DurableWrite DURABLE_WRITE = new DurableWrite();
+  private static final long LANE_POLL_TIMEOUT_MS = 100;
+
+  /**
+   * The send operation of a single write, which must invoke the given callback once the write is acknowledged.
+   */
+  public interface WriteOperation {
+    void send(PubSubProducerCallback callback);
+  }
+
+  private static class PendingWrite {
+    final int partition;
+    final int sizeInBytes;
+    final WriteOperation operation;
+    final CompletableFuture<DurableWrite> future = new CompletableFuture<>();
+
+    PendingWrite(int partition, int sizeInBytes, WriteOperation operation) {
+      this.partition = partition;
+      this.sizeInBytes = sizeInBytes;
+      this.operation = operation;
+    }
+  }
+
+  private final long maxInFlightBytes;
+  private final ProducerBackpressurePolicy backpressurePolicy;
+  private final int maxBatchSize;
+  private final VeniceProducerMetrics producerMetrics;
+  private final List<BlockingQueue<PendingWrite>> laneQueues;
+  private final ExecutorService laneExecutor;
+
+  private final ReentrantLock budgetLock = new ReentrantLock();
+  private final Condition budgetReleased = budgetLock.newCondition();
+  private long inFlightBytes = 0;
+
+  private final AtomicInteger queuedWrites = new AtomicInteger(0);
+  private volatile boolean closed = false;
+
+  public PipelinedWriteDispatcher(
+      int laneCount,
+      long maxInFlightBytes,
+      ProducerBackpressurePolicy backpressurePolicy,
+      int maxBatchSize,
+      VeniceProducerMetrics producerMetrics) {
+    if (laneCount <= 0 || maxInFlightBytes <= 0 || maxBatchSize <= 0) {
+      throw new VeniceException(
+          "Lane count, max in-flight bytes and max batch size must be positive. Got: " + laneCount + ", "
+              + maxInFlightBytes + ", " + maxBatchSize);
+    }
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.backpressurePolicy = backpressurePolicy;
+    this.maxBatchSize = maxBatchSize;
+    this.producerMetrics = producerMetrics;
+    this.laneQueues = new ArrayList<>(laneCount);
+    this.laneExecutor = Executors.newFixedThreadPool(laneCount, new DaemonThreadFactory("ClientProducerPipeline"));
+    for (int i = 0; i < laneCount; i++) {
+      BlockingQueue<PendingWrite> laneQueue = new LinkedBlockingQueue<>();
+      laneQueues.add(laneQueue);
+      laneExecutor.submit(() -> runLane(laneQueue));
+    }
+  }
+
+  /**
+   * Queues a write of the given partition. Depending on the {@link ProducerBackpressurePolicy}, this call blocks or
+   * fails the returned future when {@code sizeInBytes} doesn't fit in the in-flight bytes budget. A write larger than
+   * the whole budget is only accepted once nothing else is in flight.
+   */
+  public CompletableFuture<DurableWrite> submit(int partition, int sizeInBytes, WriteOperation operation) {
+    PendingWrite write = new PendingWrite(partition, sizeInBytes, operation);
+    String error = closed ? "Producer is already closed. New requests are not accepted." : acquireBudget(sizeInBytes);
+    if (error != null) {
+      producerMetrics.recordFailedRequest();
+      write.future.completeExceptionally(new VeniceException(error));
+      return write.future;
+    }
+    producerMetrics.recordPipelineQueueDepth(queuedWrites.incrementAndGet());
+    laneQueues.get(Math.abs(partition % laneQueues.size())).add(write);
+    return write.future;
+  }
+
+  /**
+   * @return null if the bytes were acquired, or the reason why they could not be.
+   */
+  private String acquireBudget(int sizeInBytes) {
+    budgetLock.lock();
+    try {
+      while (inFlightBytes > 0 && inFlightBytes + sizeInBytes > maxInFlightBytes) {
+        if (closed) {
+          return "Producer is already closed. New requests are not accepted.";
+        }
+        if (backpressurePolicy == ProducerBackpressurePolicy.FAIL_FAST) {
+          producerMetrics.recordBackpressureRejectedRequest();
+          return "The in-flight bytes budget of " + maxInFlightBytes + " bytes is exhausted. " + inFlightBytes
+              + " bytes are in flight.";
+        }
+        budgetReleased.await();
+      }
+      inFlightBytes += sizeInBytes;
+      producerMetrics.recordInFlightBytes(inFlightBytes);
+      return null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return "Interrupted while waiting for the in-flight bytes budget";
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  private void releaseBudget(int sizeInBytes) {
+    budgetLock.lock();
+    try {
+      inFlightBytes -= sizeInBytes;
+      producerMetrics.recordInFlightBytes(inFlightBytes);
+      budgetReleased.signalAll();
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  private void runLane(BlockingQueue<PendingWrite> laneQueue) {
+    List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+    while (!closed || !laneQueue.isEmpty()) {
+      try {
+        PendingWrite first = laneQueue.poll(LANE_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        laneQueue.drainTo(batch, maxBatchSize - 1);
+      } catch (InterruptedException e) {
+        // Fail whatever is left in this lane below.
+        break;
+      }
+      queuedWrites.addAndGet(-batch.size());
+      producerMetrics.recordPipelineBatchSize(batch.size());
+      // The sort is stable, so the writes of each partition keep their submission order.
+      batch.sort(Comparator.comparingInt(write -> write.partition));
+      batch.forEach(this::send);
+      batch.clear();
+    }
+    laneQueue.drainTo(batch);
+    batch.forEach(this::failClosed);
+  }
+
+  private void send(PendingWrite write) {
+    final Instant sendStartTime = Instant.now();
+    final PubSubProducerCallback callback = (PubSubProduceResult produceResult, Exception exception) -> {
+      if (exception == null) {
+        releaseBudget(write.sizeInBytes);
+        producerMetrics.recordSuccessfulRequestWithLatency(Duration.between(sendStartTime, Instant.now()).toMillis());
+        write.future.complete(DURABLE_WRITE);
+      } else {
+        LOGGER.error("Failed to write the requested data to the PubSub system", exception);
+        fail(write, exception);
+      }
+    };
+    try {
+      write.operation.send(callback);
+    } catch (Exception e) {
+      fail(write, e);
+    }
+  }
+
+  private void failClosed(PendingWrite write) {
+    fail(write, new VeniceException("Producer was closed before the write could be sent"));
+  }
+
+  private void fail(PendingWrite write, Throwable throwable) {
+    if (write.future.isDone()) {
+      return;
+    }
+    releaseBudget(write.sizeInBytes);
+    producerMetrics.recordFailedRequest();
+    write.future.completeExceptionally(throwable);
+  }
+
+  /**
+   * Stops accepting writes, sends the writes which are already queued and waits for the lanes to terminate.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    budgetLock.lock();
+    try {
+      budgetReleased.signalAll();
+    } finally {
+      budgetLock.unlock();
+    }
+    laneExecutor.shutdown();
+    try {
+      if (!laneExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+        laneExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      LOGGER.warn("Caught InterruptedException while closing the producer pipelines", e);
+      laneExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    // Writes racing with the close might have been queued after their lane terminated.
+    List<PendingWrite> remainingWrites = new ArrayList<>();
+    laneQueues.forEach(laneQueue -> laneQueue.drainTo(remainingWrites));
+    remainingWrites.forEach(this::failClosed);
+  }
+
+  // Visible for testing
+  long getInFlightBytes() {
+    budgetLock.lock();
+    try {
+      return inFlightBytes;
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.linkedin.venice.producer;
+
+/**
+ * What the pipelined {@link VeniceProducer} does with a new write when its in-flight bytes budget is exhausted.
+ */
+public enum ProducerBackpressurePolicy {
+  /**
+   * Block the calling thread until enough in-flight bytes have been acknowledged by the PubSub system.
+   */
+  BLOCK,
+
+  /**
+   * Fail the returned future right away, so that the caller can shed load or retry later.
+   */
+  FAIL_FAST
+}
@@ -4,6 +4,7 @@ import com.linkedin.venice.stats.AbstractVeniceStats;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
@@ -20,6 +21,10 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
   private Sensor failedOperationSensor = null;
   private Sensor produceLatencySensor = null;
   private Sensor pendingOperationSensor = null;
+  private Sensor pipelineQueueDepthSensor = null;
+  private Sensor pipelineBatchSizeSensor = null;
+  private Sensor inFlightBytesSensor = null;
+  private Sensor backpressureRejectedOperationSensor = null;
 
   private final AtomicInteger pendingOperationCounter = new AtomicInteger(0);
 
@@ -41,6 +46,12 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
           TehutiUtils.getPercentileStat(getName() + AbstractVeniceStats.DELIMITER + produceLatencySensorName));
 
       pendingOperationSensor = registerSensor("pending_write_operation", new Min(), new Max());
+
+      pipelineQueueDepthSensor = registerSensor("pipeline_queue_depth", new Avg(), new Max());
+      pipelineBatchSizeSensor = registerSensor("pipeline_batch_size", new Avg(), new Max());
+      inFlightBytesSensor = registerSensor("in_flight_bytes", new Avg(), new Max());
+      backpressureRejectedOperationSensor =
+          registerSensor("backpressure_rejected_write_operation", new OccurrenceRate());
     } else {
       enableMetrics = false;
     }
@@ -88,4 +99,28 @@ public class VeniceProducerMetrics extends AbstractVeniceStats {
       pendingOperationSensor.record(pendingOperationCounter.decrementAndGet());
     }
   }
+
+  public void recordPipelineQueueDepth(int queueDepth) {
+    if (enableMetrics) {
+      pipelineQueueDepthSensor.record(queueDepth);
+    }
+  }
+
+  public void recordPipelineBatchSize(int batchSize) {
+    if (enableMetrics) {
+      pipelineBatchSizeSensor.record(batchSize);
+    }
+  }
+
+  public void recordInFlightBytes(long inFlightBytes) {
+    if (enableMetrics) {
+      inFlightBytesSensor.record(inFlightBytes);
+    }
+  }
+
+  public void recordBackpressureRejectedRequest() {
+    if (enableMetrics) {
+      backpressureRejectedOperationSensor.record();
+    }
+  }
 }
@@ -0,0 +1,129 @@
+package com.linkedin.venice.producer;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.utils.TestUtils;
+import io.tehuti.metrics.MetricsRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PipelinedWriteDispatcherTest {
+  private final MetricsRepository metricsRepository = new MetricsRepository();
+  private final VeniceProducerMetrics producerMetrics = new VeniceProducerMetrics(metricsRepository, "test_store");
+
+  @Test(timeOut = 30 * 1000)
+  public void testWritesOfAPartitionAreSentInOrder() throws Exception {
+    Map<Integer, List<Integer>> sentWrites = new ConcurrentHashMap<>();
+    List<CompletableFuture<DurableWrite>> futures = new ArrayList<>();
+    try (PipelinedWriteDispatcher dispatcher =
+        new PipelinedWriteDispatcher(2, 1024 * 1024, ProducerBackpressurePolicy.BLOCK, 10, producerMetrics)) {
+      for (int i = 0; i < 1000; i++) {
+        int partition = i % 5;
+        int sequence = i;
+        futures.add(dispatcher.submit(partition, 10, callback -> {
+          sentWrites.computeIfAbsent(partition, p -> new CopyOnWriteArrayList<>()).add(sequence);
+          callback.onCompletion(null, null);
+        }));
+      }
+      for (CompletableFuture<DurableWrite> future: futures) {
+        future.get();
+      }
+      Assert.assertEquals(dispatcher.getInFlightBytes(), 0);
+    }
+
+    Assert.assertEquals(sentWrites.size(), 5);
+    sentWrites.forEach((partition, sequences) -> {
+      Assert.assertEquals(sequences.size(), 200);
+      for (int i = 1; i < sequences.size(); i++) {
+        Assert.assertTrue(sequences.get(i - 1) < sequences.get(i), "Writes of partition " + partition + " reordered");
+      }
+    });
+    Assert.assertTrue(metricsRepository.getMetric(".test_store--pipeline_batch_size.Max").value() >= 1.0);
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testFailFastWhenBudgetIsExhausted() throws Exception {
+    BlockingQueue<PubSubProducerCallback> pendingCallbacks = new LinkedBlockingQueue<>();
+    try (PipelinedWriteDispatcher dispatcher =
+        new PipelinedWriteDispatcher(1, 100, ProducerBackpressurePolicy.FAIL_FAST, 10, producerMetrics)) {
+      CompletableFuture<DurableWrite> first = dispatcher.submit(0, 60, pendingCallbacks::add);
+      CompletableFuture<DurableWrite> rejected = dispatcher.submit(1, 60, pendingCallbacks::add);
+      Assert.assertTrue(rejected.isCompletedExceptionally());
+      assertVeniceException(rejected);
+      Assert.assertTrue(
+          metricsRepository.getMetric(".test_store--backpressure_rejected_write_operation.OccurrenceRate").value() > 0);
+
+      pendingCallbacks.poll(10, TimeUnit.SECONDS).onCompletion(null, null);
+      first.get();
+      Assert.assertEquals(dispatcher.getInFlightBytes(), 0);
+
+      dispatcher.submit(1, 60, callback -> callback.onCompletion(null, null)).get();
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testBlockUntilBudgetIsReleased() throws Exception {
+    BlockingQueue<PubSubProducerCallback> pendingCallbacks = new LinkedBlockingQueue<>();
+    try (PipelinedWriteDispatcher dispatcher =
+        new PipelinedWriteDispatcher(1, 100, ProducerBackpressurePolicy.BLOCK, 10, producerMetrics)) {
+      // A write larger than the whole budget is accepted when nothing else is in flight.
+      CompletableFuture<DurableWrite> first = dispatcher.submit(0, 150, pendingCallbacks::add);
+      CompletableFuture<CompletableFuture<DurableWrite>> blockedSubmission =
+          CompletableFuture.supplyAsync(() -> dispatcher.submit(0, 10, callback -> callback.onCompletion(null, null)));
+
+      PubSubProducerCallback firstCallback = pendingCallbacks.poll(10, TimeUnit.SECONDS);
+      Assert.assertFalse(blockedSubmission.isDone());
+      Assert.assertEquals(dispatcher.getInFlightBytes(), 150);
+
+      firstCallback.onCompletion(null, null);
+      first.get();
+      blockedSubmission.get().get();
+      TestUtils.waitForNonDeterministicAssertion(
+          10,
+          TimeUnit.SECONDS,
+          () -> Assert.assertEquals(dispatcher.getInFlightBytes(), 0));
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testFailedWritesReleaseTheBudget() throws Exception {
+    try (PipelinedWriteDispatcher dispatcher =
+        new PipelinedWriteDispatcher(1, 100, ProducerBackpressurePolicy.FAIL_FAST, 10, producerMetrics)) {
+      assertVeniceException(dispatcher.submit(0, 60, callback -> {
+        throw new VeniceException("Schema not found");
+      }));
+      assertVeniceException(dispatcher.submit(0, 60, callback -> callback.onCompletion(null, new VeniceException())));
+      Assert.assertEquals(dispatcher.getInFlightBytes(), 0);
+    }
+  }
+
+  @Test(timeOut = 30 * 1000)
+  public void testSubmitAfterClose() {
+    PipelinedWriteDispatcher dispatcher =
+        new PipelinedWriteDispatcher(1, 100, ProducerBackpressurePolicy.BLOCK, 10, producerMetrics);
+    dispatcher.close();
+    assertVeniceException(dispatcher.submit(0, 10, callback -> callback.onCompletion(null, null)));
+  }
+
+  private static void assertVeniceException(CompletableFuture<DurableWrite> future) {
+    try {
+      future.get();
+      Assert.fail("Expected the write to fail");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof VeniceException, "Unexpected exception: " + e.getCause());
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.venice.producer.online;
 
+import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_PIPELINED_MODE_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS;
 import static com.linkedin.venice.utils.TestWriteUtils.loadFileAsStringQuietlyWithErrorLogged;
 import static com.linkedin.venice.writer.VeniceWriter.APP_DEFAULT_LOGICAL_TS;
@@ -383,6 +384,38 @@ public class OnlineVeniceProducerTest {
     }
   }
 
+  @Test
+  public void testPipelinedMode() throws IOException, ExecutionException, InterruptedException {
+    SchemaReader kmeSchemaReader = getKmeSchemaReader();
+    AbstractAvroStoreClient storeClient = getMockStoreClient();
+
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Properties backendConfigs = new Properties();
+    backendConfigs.put(CLIENT_PRODUCER_PIPELINED_MODE_ENABLED, "true");
+    try (TestOnlineVeniceProducer producer = new TestOnlineVeniceProducer(
+        storeClient,
+        kmeSchemaReader,
+        new VeniceProperties(backendConfigs),
+        metricsRepository)) {
+      ArgumentCaptor<byte[]> keyArg = ArgumentCaptor.forClass(byte[].class);
+      ArgumentCaptor<byte[]> valueArg = ArgumentCaptor.forClass(byte[].class);
+
+      producer.asyncPut("KEY1", mockValue1).get();
+      verify(producer.mockVeniceWriter, times(1))
+          .put(keyArg.capture(), valueArg.capture(), eq(1), eq(APP_DEFAULT_LOGICAL_TS), any());
+      assertEquals(keySerializer.serialize("KEY1"), keyArg.getValue());
+      assertEquals(value1Serializer.serialize(mockValue1), valueArg.getValue());
+
+      producer.asyncDelete("KEY2").get();
+      verify(producer.mockVeniceWriter, times(1)).delete(keyArg.capture(), eq(APP_DEFAULT_LOGICAL_TS), any());
+      assertEquals(keySerializer.serialize("KEY2"), keyArg.getValue());
+
+      Assert.assertTrue(metricsRepository.getMetric(SUCCESS_OPERATION_METRIC_NAME).value() > 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(FAILED_OPERATION_METRIC_NAME).value(), 0.0);
+      Assert.assertEquals(metricsRepository.getMetric(".test_store--pipeline_batch_size.Max").value(), 1.0);
+    }
+  }
+
   @Test
   public void testDeleteWithLogicalTs() throws IOException, ExecutionException, InterruptedException {
     SchemaReader kmeSchemaReader = getKmeSchemaReader();
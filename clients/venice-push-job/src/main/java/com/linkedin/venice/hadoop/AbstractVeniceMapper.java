@@ -163,6 +163,10 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
               MRJobCounterHelper.incrTotalZstdCompressedValueSize(reporter, compressedRecordValue.length);
               break;
 
+            case LZ4:
+              MRJobCounterHelper.incrTotalLz4CompressedValueSize(reporter, compressedRecordValue.length);
+              break;
+
             default:
               // NO_OP won't reach here as its collected already for all cases.
               // ZSTD won't reach here as its deprecated, so not initialized.
@@ -231,6 +235,7 @@ public abstract class AbstractVeniceMapper<INPUT_KEY, INPUT_VALUE> extends Abstr
         switch (compressionStrategy) {
           case NO_OP:
           case GZIP:
+          case LZ4:
             this.compressor[compressionStrategy.getValue()] = compressorFactory.getCompressor(compressionStrategy);
             break;
 
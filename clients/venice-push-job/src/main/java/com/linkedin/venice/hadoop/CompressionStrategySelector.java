@@ -0,0 +1,228 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.PushJobZstdConfig.MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY;
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Picks the compression strategy of a new version by compressing a sample of the pushed values with every candidate:
+ * {@link CompressionStrategy#NO_OP}, {@link CompressionStrategy#GZIP}, {@link CompressionStrategy#LZ4} and
+ * {@link CompressionStrategy#ZSTD_WITH_DICT} for each combination of zstd level and dictionary size.
+ *
+ * The dictionaries are trained on 3 samples out of 4 and all the candidates are evaluated on the remaining ones, so
+ * that the dictionaries aren't judged on the values they were trained on. Each candidate is scored with:
+ *
+ *   storageWeight * (compressed size / uncompressed size) +
+ *   (1 - storageWeight) * (decompression time / slowest decompression time)
+ *
+ * and the candidate with the lowest score wins: a storage weight of 1 only cares about the footprint of the version,
+ * while a storage weight of 0 only cares about the CPU spent by the readers to decompress the values.
+ */
+public class CompressionStrategySelector {
+  private static final Logger LOGGER = LogManager.getLogger(CompressionStrategySelector.class);
+  /** Every n-th sample is kept out of the dictionary training to evaluate the candidates. */
+  static final int EVALUATION_SAMPLE_INTERVAL = 4;
+  /** The decompression of the evaluation samples is timed several times and the fastest round is kept. */
+  private static final int DECOMPRESSION_ROUNDS = 3;
+
+  private final double storageWeight;
+  private final List<Integer> zstdCompressionLevels;
+  private final List<Integer> zstdDictionarySizes;
+
+  public CompressionStrategySelector(
+      double storageWeight,
+      List<Integer> zstdCompressionLevels,
+      List<Integer> zstdDictionarySizes) {
+    if (storageWeight < 0 || storageWeight > 1) {
+      throw new VeniceException("The storage weight should be between 0 and 1, got: " + storageWeight);
+    }
+    this.storageWeight = storageWeight;
+    this.zstdCompressionLevels = zstdCompressionLevels;
+    this.zstdDictionarySizes = zstdDictionarySizes;
+  }
+
+  public Selection select(List<byte[]> samples) throws IOException {
+    List<byte[]> trainingSamples = new ArrayList<>();
+    List<byte[]> evaluationSamples = new ArrayList<>();
+    for (int i = 0; i < samples.size(); i++) {
+      if (i % EVALUATION_SAMPLE_INTERVAL == EVALUATION_SAMPLE_INTERVAL - 1) {
+        evaluationSamples.add(samples.get(i));
+      } else {
+        trainingSamples.add(samples.get(i));
+      }
+    }
+    if (evaluationSamples.isEmpty()) {
+      throw new VeniceException("Not enough samples to evaluate the compression strategies: " + samples.size());
+    }
+
+    List<Selection> candidates = new ArrayList<>();
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      for (CompressionStrategy strategy: new CompressionStrategy[] { CompressionStrategy.NO_OP,
+          CompressionStrategy.GZIP, CompressionStrategy.LZ4 }) {
+        candidates.add(evaluate(compressorFactory.getCompressor(strategy), -1, -1, null, evaluationSamples));
+      }
+      for (int dictionarySize: zstdDictionarySizes) {
+        byte[] dictionary = trainDictionary(trainingSamples, dictionarySize);
+        if (dictionary == null) {
+          continue;
+        }
+        for (int level: zstdCompressionLevels) {
+          try (VeniceCompressor compressor = compressorFactory.createCompressorWithDictionary(dictionary, level)) {
+            candidates.add(evaluate(compressor, level, dictionarySize, dictionary, evaluationSamples));
+          }
+        }
+      }
+    }
+
+    long slowestDecompressionNs = 1;
+    for (Selection candidate: candidates) {
+      slowestDecompressionNs = Math.max(slowestDecompressionNs, candidate.decompressionNs);
+    }
+    Selection selection = null;
+    for (Selection candidate: candidates) {
+      candidate.score = storageWeight * candidate.compressedBytes / candidate.uncompressedBytes
+          + (1 - storageWeight) * candidate.decompressionNs / slowestDecompressionNs;
+      LOGGER.info("Evaluated compression candidate: {}", candidate);
+      if (selection == null || candidate.score < selection.score) {
+        selection = candidate;
+      }
+    }
+    LOGGER.info("Selected compression candidate with storage weight {}: {}", storageWeight, selection);
+    return selection;
+  }
+
+  private static byte[] trainDictionary(List<byte[]> samples, int dictionarySize) {
+    if (samples.size() < MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY) {
+      LOGGER.warn("Skipping the zstd candidates as there are only {} training samples", samples.size());
+      return null;
+    }
+    long samplesSize = 0;
+    for (byte[] sample: samples) {
+      samplesSize += sample.length;
+    }
+    ZstdDictTrainer trainer = new ZstdDictTrainer((int) Math.min(samplesSize, Integer.MAX_VALUE), dictionarySize);
+    for (byte[] sample: samples) {
+      trainer.addSample(sample);
+    }
+    try {
+      return trainer.trainSamples();
+    } catch (Exception e) {
+      LOGGER.warn("Skipping the zstd candidates with a {} bytes dictionary as the training failed", dictionarySize, e);
+      return null;
+    }
+  }
+
+  private static Selection evaluate(
+      VeniceCompressor compressor,
+      int zstdCompressionLevel,
+      int zstdDictionarySizeLimit,
+      byte[] dictionary,
+      List<byte[]> samples) throws IOException {
+    Selection candidate = new Selection(
+        compressor.getCompressionStrategy(),
+        zstdCompressionLevel,
+        zstdDictionarySizeLimit,
+        dictionary);
+    ByteBuffer[] compressedSamples = new ByteBuffer[samples.size()];
+    for (int i = 0; i < samples.size(); i++) {
+      compressedSamples[i] = compressor.compress(ByteBuffer.wrap(samples.get(i)), 0);
+      candidate.uncompressedBytes += samples.get(i).length;
+      candidate.compressedBytes += compressedSamples[i].remaining();
+    }
+    candidate.decompressionNs = Long.MAX_VALUE;
+    for (int round = 0; round < DECOMPRESSION_ROUNDS; round++) {
+      long startNs = System.nanoTime();
+      for (ByteBuffer compressedSample: compressedSamples) {
+        compressor.decompress(compressedSample.duplicate());
+      }
+      candidate.decompressionNs = Math.min(candidate.decompressionNs, System.nanoTime() - startNs);
+    }
+    return candidate;
+  }
+
+  /**
+   * The outcome of the evaluation of one candidate.
+   */
+  public static class Selection {
+    private final CompressionStrategy compressionStrategy;
+    private final int zstdCompressionLevel;
+    private final int zstdDictionarySizeLimit;
+    private final byte[] zstdDictionary;
+    private long uncompressedBytes;
+    private long compressedBytes;
+    private long decompressionNs;
+    private double score;
+
+    Selection(
+        CompressionStrategy compressionStrategy,
+        int zstdCompressionLevel,
+        int zstdDictionarySizeLimit,
+        byte[] zstdDictionary) {
+      this.compressionStrategy = compressionStrategy;
+      this.zstdCompressionLevel = zstdCompressionLevel;
+      this.zstdDictionarySizeLimit = zstdDictionarySizeLimit;
+      this.zstdDictionary = zstdDictionary;
+    }
+
+    public CompressionStrategy getCompressionStrategy() {
+      return compressionStrategy;
+    }
+
+    /**
+     * @return the zstd compression level, or -1 if the strategy is not {@link CompressionStrategy#ZSTD_WITH_DICT}
+     */
+    public int getZstdCompressionLevel() {
+      return zstdCompressionLevel;
+    }
+
+    /**
+     * @return the size limit the dictionary was trained with, or -1 if the strategy doesn't use one
+     */
+    public int getZstdDictionarySizeLimit() {
+      return zstdDictionarySizeLimit;
+    }
+
+    /**
+     * @return the dictionary trained on the training samples, or null if the strategy doesn't use one
+     */
+    public byte[] getZstdDictionary() {
+      return zstdDictionary;
+    }
+
+    /**
+     * @return the uncompressed size of the evaluation samples divided by their compressed size
+     */
+    public double getCompressionRatio() {
+      return (double) uncompressedBytes / Math.max(compressedBytes, 1);
+    }
+
+    public double getDecompressionThroughputInMBps() {
+      return uncompressedBytes * 1e9 / Math.max(decompressionNs, 1) / BYTES_PER_MB;
+    }
+
+    double getScore() {
+      return score;
+    }
+
+    @Override
+    public String toString() {
+      return "{strategy: " + compressionStrategy + ", zstdLevel: " + zstdCompressionLevel + ", dictionarySize: "
+          + (zstdDictionary == null ? 0 : zstdDictionary.length) + ", compressionRatio: "
+          + String.format("%.2f", getCompressionRatio()) + ", decompressionThroughput: "
+          + String.format("%.1f", getDecompressionThroughputInMBps()) + " MB/s, score: "
+          + String.format("%.3f", score) + "}";
+    }
+  }
+}
@@ -6,6 +6,7 @@ import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 
 import com.github.luben.zstd.ZstdDictTrainer;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.etl.ETLValueSchemaTransformation;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.hadoop.exceptions.VeniceInconsistentSchemaException;
 import com.linkedin.venice.hadoop.exceptions.VeniceSchemaFieldNotFoundException;
@@ -14,8 +15,10 @@ import com.linkedin.venice.schema.vson.VsonSchema;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.lazy.Lazy;
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -26,12 +29,14 @@ import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.apache.commons.lang.StringUtils;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.PathFilter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.parquet.hadoop.ParquetFileWriter;
 
 
 public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
@@ -89,7 +94,7 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
   }
 
   /**
-   * 1. Check whether it's Vson input or Avro input
+   * 1. Check whether it's Vson input, Parquet input or Avro input
    * 2. Check schema consistency;
    * 3. Populate key schema, value schema;
    * 4. Load samples for dictionary compression if enabled
@@ -129,23 +134,35 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
           "Input directory: " + fileStatuses[0].getPath().getParent().getName() + " should not have sub directory: "
               + fileStatuses[0].getPath().getName());
     }
+    if (pushJobSchemaInfo.isAvro() && isParquetFile(fs, fileStatuses[0].getPath())) {
+      pushJobSchemaInfo.setParquet(true);
+    }
 
     final AtomicLong inputFileDataSize = new AtomicLong(0);
     if (pushJobSchemaInfo.isAvro()) {
-      LOGGER.info("Detected Avro input format.");
+      boolean isParquet = pushJobSchemaInfo.isParquet();
+      if (isParquet) {
+        LOGGER.info("Detected Parquet input format, will only read the key and value columns.");
+        if (pushJobSetting.etlValueSchemaTransformation != ETLValueSchemaTransformation.NONE) {
+          throw new VeniceException("ETL value schema transformation is not supported for Parquet input");
+        }
+      } else {
+        LOGGER.info("Detected Avro input format.");
+      }
       pushJobSchemaInfo.setKeyField(props.getString(KEY_FIELD_PROP, DEFAULT_KEY_FIELD_PROP));
       pushJobSchemaInfo.setValueField(props.getString(VALUE_FIELD_PROP, DEFAULT_VALUE_FIELD_PROP));
 
       if (!pushJobSetting.useMapperToBuildDict) {
-        pushJobSchemaInfo.setAvroSchema(checkAvroSchemaConsistency(fs, fileStatuses, inputFileDataSize));
+        pushJobSchemaInfo.setAvroSchema(checkAvroSchemaConsistency(fs, fileStatuses, inputFileDataSize, isParquet));
       } else {
-        pushJobSchemaInfo.setAvroSchema(getAvroFileHeader(fs, fileStatuses[0].getPath(), false));
+        pushJobSchemaInfo.setAvroSchema(getFileHeader(isParquet, fs, fileStatuses[0].getPath(), false));
       }
 
       Schema fileSchema = pushJobSchemaInfo.getAvroSchema().getFirst();
       Schema storeSchema = pushJobSchemaInfo.getAvroSchema().getSecond();
 
-      pushJobSchemaInfo.setFileSchemaString(fileSchema.toString());
+      // The mappers read Parquet input with the projection schema rather than the whole file schema
+      pushJobSchemaInfo.setFileSchemaString(isParquet ? storeSchema.toString() : fileSchema.toString());
       pushJobSchemaInfo
           .setKeySchemaString(extractAvroSubSchema(storeSchema, pushJobSchemaInfo.getKeyField()).toString());
       pushJobSchemaInfo
@@ -177,14 +194,23 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
         pushJobSchemaInfo,
         inputFileDataSize.get() * INPUT_DATA_SIZE_FACTOR,
         fileStatuses.length,
-        hasRecords(pushJobSchemaInfo.isAvro(), fs, fileStatuses),
+        hasRecords(pushJobSchemaInfo, fs, fileStatuses),
         inputModificationTime,
         !pushJobSetting.useMapperToBuildDict);
   }
 
-  private boolean hasRecords(boolean isAvroFile, FileSystem fs, FileStatus[] fileStatusList) {
+  private boolean hasRecords(PushJobSchemaInfo pushJobSchemaInfo, FileSystem fs, FileStatus[] fileStatusList) {
     for (FileStatus fileStatus: fileStatusList) {
-      AbstractVeniceRecordReader recordReader = isAvroFile
+      if (pushJobSchemaInfo.isParquet()) {
+        // The record count is in the footer, no need to read any data
+        try (VeniceParquetRecordReader recordReader = getVeniceParquetRecordReader(fs, fileStatus.getPath())) {
+          if (recordReader.getRecordCount() > 0) {
+            return true;
+          }
+        }
+        continue;
+      }
+      AbstractVeniceRecordReader recordReader = pushJobSchemaInfo.isAvro()
           ? getVeniceAvroRecordReader(fs, fileStatus.getPath())
           : getVeniceVsonRecordReader(fs, fileStatus.getPath());
       if (recordReader.iterator().hasNext()) {
@@ -194,6 +220,19 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
     return false;
   }
 
+  /**
+   * Parquet files start with the {@link ParquetFileWriter#MAGIC} bytes.
+   */
+  private static boolean isParquetFile(FileSystem fs, Path path) throws IOException {
+    byte[] magic = new byte[ParquetFileWriter.MAGIC.length];
+    try (FSDataInputStream inputStream = fs.open(path)) {
+      inputStream.readFully(magic);
+    } catch (EOFException e) {
+      return false;
+    }
+    return Arrays.equals(magic, ParquetFileWriter.MAGIC);
+  }
+
   @Override
   public void initZstdConfig(int numFiles) {
     if (pushJobZstdConfig != null) {
@@ -339,8 +378,9 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
   private Pair<Schema, Schema> checkAvroSchemaConsistency(
       FileSystem fs,
       FileStatus[] fileStatusList,
-      AtomicLong inputFileDataSize) {
-    Pair<Schema, Schema> avroSchema = getAvroFileHeader(fs, fileStatusList[0].getPath(), false);
+      AtomicLong inputFileDataSize,
+      boolean isParquet) {
+    Pair<Schema, Schema> avroSchema = getFileHeader(isParquet, fs, fileStatusList[0].getPath(), false);
     parallelExecuteHDFSOperation(fileStatusList, "checkAvroSchemaConsistency", fileStatus -> {
       if (fileStatus.isDirectory()) {
         // Map-reduce job will fail if the input directory has sub-directory and 'recursive' is not specified.
@@ -349,7 +389,7 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
                 + fileStatus.getPath().getName());
       }
       inputFileDataSize.addAndGet(fileStatus.getLen());
-      Pair<Schema, Schema> newSchema = getAvroFileHeader(fs, fileStatus.getPath(), true);
+      Pair<Schema, Schema> newSchema = getFileHeader(isParquet, fs, fileStatus.getPath(), true);
       if (!avroSchema.equals(newSchema)) {
         throw new VeniceInconsistentSchemaException(
             String.format(
@@ -362,6 +402,16 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
     return avroSchema;
   }
 
+  protected Pair<Schema, Schema> getFileHeader(
+      boolean isParquet,
+      FileSystem fs,
+      Path path,
+      boolean isZstdDictCreationRequired) {
+    return isParquet
+        ? getParquetFileHeader(fs, path, isZstdDictCreationRequired)
+        : getAvroFileHeader(fs, path, isZstdDictCreationRequired);
+  }
+
   protected Pair<Schema, Schema> getAvroFileHeader(FileSystem fs, Path path, boolean isZstdDictCreationRequired) {
     LOGGER.debug("path:{}", path.toUri().getPath());
     VeniceAvroRecordReader recordReader = getVeniceAvroRecordReader(fs, path);
@@ -384,6 +434,30 @@ public class DefaultInputDataInfoProvider implements InputDataInfoProvider {
     return new Pair<>(recordReader.getFileSchema(), recordReader.getStoreSchema());
   }
 
+  /**
+   * @return the whole file schema and the projection schema with the key and value fields, which is the schema of the
+   *         records read from the file.
+   */
+  protected Pair<Schema, Schema> getParquetFileHeader(FileSystem fs, Path path, boolean isZstdDictCreationRequired) {
+    LOGGER.debug("path:{}", path.toUri().getPath());
+    try (VeniceParquetRecordReader recordReader = getVeniceParquetRecordReader(fs, path)) {
+      if (isZstdDictCreationRequired && !pushJobSetting.isIncrementalPush) {
+        /** Only the projected columns are read to collect the training samples */
+        if (pushJobSetting.useMapperToBuildDict
+            || storeSetting.compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+          InputDataInfoProvider.loadZstdTrainingSamples(recordReader, pushJobZstdConfig);
+        }
+      }
+      return new Pair<>(recordReader.getFileSchema(), recordReader.getProjectionSchema());
+    }
+  }
+
+  private VeniceParquetRecordReader getVeniceParquetRecordReader(FileSystem fs, Path path) {
+    String keyField = props.getString(KEY_FIELD_PROP, DEFAULT_KEY_FIELD_PROP);
+    String valueField = props.getString(VALUE_FIELD_PROP, DEFAULT_VALUE_FIELD_PROP);
+    return new VeniceParquetRecordReader(null, keyField, valueField, fs, path);
+  }
+
   private VeniceAvroRecordReader getVeniceAvroRecordReader(FileSystem fs, Path path) {
     String keyField = props.getString(KEY_FIELD_PROP, DEFAULT_KEY_FIELD_PROP);
     String valueField = props.getString(VALUE_FIELD_PROP, DEFAULT_VALUE_FIELD_PROP);
@@ -119,6 +119,7 @@ public interface InputDataInfoProvider extends Closeable {
         LOGGER.debug(maxSamplesReadErrorMsg);
         return;
       }
+      pushJobZstdConfig.retainSample(data);
       fileSampleSize += data.length;
       pushJobZstdConfig.addFilledSize(data.length);
       pushJobZstdConfig.incrCollectedNumberOfSamples();
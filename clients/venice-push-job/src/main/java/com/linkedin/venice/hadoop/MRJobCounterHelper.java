@@ -12,12 +12,12 @@ public class MRJobCounterHelper {
   private static final String COUNTER_GROUP_QUOTA = "Quota";
   private static final String COUNTER_TOTAL_KEY_SIZE = "total key size";
   private static final String COUNTER_TOTAL_UNCOMPRESSED_VALUE_SIZE = "total uncompressed value size";
-  private static final String COUNTER_TOTAL_VALUE_SIZE = "total compressed value size stored"; // Compressed using
-                                                                                               // NO_OP/GZIP/ZSTD_WITH_DICT
-                                                                                               // Compressor
+  // Compressed using NO_OP/GZIP/ZSTD_WITH_DICT/LZ4 Compressor
+  private static final String COUNTER_TOTAL_VALUE_SIZE = "total compressed value size stored";
   private static final String COUNTER_TOTAL_GZIP_COMPRESSED_VALUE_SIZE = "total GZIP compressed value size";
   private static final String COUNTER_TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE =
       "total ZSTD with dictionary compressed value size";
+  private static final String COUNTER_TOTAL_LZ4_COMPRESSED_VALUE_SIZE = "total LZ4 compressed value size";
 
   private static final String COUNTER_GROUP_KAFKA = "Kafka";
   private static final String COUNTER_OUTPUT_RECORDS = "Output Records";
@@ -67,6 +67,9 @@ public class MRJobCounterHelper {
   static final GroupAndCounterNames TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME =
       new GroupAndCounterNames(COUNTER_GROUP_QUOTA, COUNTER_TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE);
 
+  static final GroupAndCounterNames TOTAL_LZ4_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME =
+      new GroupAndCounterNames(COUNTER_GROUP_QUOTA, COUNTER_TOTAL_LZ4_COMPRESSED_VALUE_SIZE);
+
   static final GroupAndCounterNames DUP_KEY_WITH_IDENTICAL_VALUE_GROUP_COUNTER_NAME =
       new GroupAndCounterNames(COUNTER_GROUP_DATA_QUALITY, DUPLICATE_KEY_WITH_IDENTICAL_VALUE);
 
@@ -158,6 +161,10 @@ public class MRJobCounterHelper {
     incrAmountWithGroupCounterName(reporter, TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME, amount);
   }
 
+  static void incrTotalLz4CompressedValueSize(Reporter reporter, long amount) {
+    incrAmountWithGroupCounterName(reporter, TOTAL_LZ4_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME, amount);
+  }
+
   static void incrDuplicateKeyWithIdenticalValue(Reporter reporter, long amount) {
     incrAmountWithGroupCounterName(reporter, DUP_KEY_WITH_IDENTICAL_VALUE_GROUP_COUNTER_NAME, amount);
   }
@@ -246,6 +253,10 @@ public class MRJobCounterHelper {
     return getCountFromCounters(counters, TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME);
   }
 
+  static long getTotalLz4CompressedValueSize(Counters counters) {
+    return getCountFromCounters(counters, TOTAL_LZ4_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME);
+  }
+
   static long getTotalPutOrDeleteRecordsCount(Counters counters) {
     return getCountFromCounters(counters, TOTAL_PUT_OR_DELETE_COUNT_GROUP_COUNTER_NAME);
   }
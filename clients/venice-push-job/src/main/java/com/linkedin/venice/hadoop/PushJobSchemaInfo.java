@@ -7,6 +7,8 @@ import org.apache.avro.Schema;
 
 public class PushJobSchemaInfo {
   private boolean isAvro = true;
+  // Parquet input is read as Avro records, so isAvro is also true for it
+  private boolean isParquet = false;
   private int valueSchemaId; // Value schema id retrieved from backend for valueSchemaString
   private int derivedSchemaId = -1;
   private String keyField;
@@ -27,6 +29,14 @@ public class PushJobSchemaInfo {
     isAvro = avro;
   }
 
+  public boolean isParquet() {
+    return isParquet;
+  }
+
+  public void setParquet(boolean parquet) {
+    isParquet = parquet;
+  }
+
   public int getValueSchemaId() {
     return valueSchemaId;
   }
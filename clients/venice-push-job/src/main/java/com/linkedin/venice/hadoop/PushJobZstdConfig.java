@@ -3,10 +3,15 @@ package com.linkedin.venice.hadoop;
 import static com.linkedin.venice.hadoop.DefaultInputDataInfoProvider.COMPRESSION_DICTIONARY_SAMPLE_SIZE;
 import static com.linkedin.venice.hadoop.DefaultInputDataInfoProvider.COMPRESSION_DICTIONARY_SIZE_LIMIT;
 import static com.linkedin.venice.hadoop.DefaultInputDataInfoProvider.DEFAULT_COMPRESSION_DICTIONARY_SAMPLE_SIZE;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_AUTO_SELECTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE;
 
 import com.github.luben.zstd.ZstdDictTrainer;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.writer.VeniceWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 
 public class PushJobZstdConfig {
@@ -23,6 +28,13 @@ public class PushJobZstdConfig {
    */
   protected static final int MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY = 20;
   private int collectedNumberOfSamples;
+  /**
+   * The trainer doesn't give its samples back, so the first ones are also kept here for
+   * {@link CompressionStrategySelector} when {@link VenicePushJob#COMPRESSION_AUTO_SELECTION_ENABLED} is enabled.
+   */
+  private final List<byte[]> retainedSamples = new ArrayList<>();
+  private int maxRetainedSampleSize;
+  private int retainedSampleSize;
 
   public PushJobZstdConfig(VeniceProperties props, int numFiles) {
     maxDictSize = props
@@ -32,6 +44,10 @@ public class PushJobZstdConfig {
     zstdDictTrainer = new ZstdDictTrainer(maxSampleSize, maxDictSize);
     filledSize = 0;
     collectedNumberOfSamples = 0;
+    maxRetainedSampleSize = props.getBoolean(COMPRESSION_AUTO_SELECTION_ENABLED, false)
+        ? props.getInt(COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE, DEFAULT_COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE)
+        : 0;
+    retainedSampleSize = 0;
   }
 
   public ZstdDictTrainer getZstdDictTrainer() {
@@ -42,6 +58,10 @@ public class PushJobZstdConfig {
     return maxBytesPerFile;
   }
 
+  public int getMaxDictSize() {
+    return maxDictSize;
+  }
+
   public int getMaxSampleSize() {
     return maxSampleSize;
   }
@@ -61,4 +81,19 @@ public class PushJobZstdConfig {
   public void incrCollectedNumberOfSamples() {
     this.collectedNumberOfSamples++;
   }
+
+  /**
+   * Keeps the sample as long as the retained samples fit in
+   * {@link VenicePushJob#COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE}.
+   */
+  public void retainSample(byte[] sample) {
+    if (retainedSampleSize + sample.length <= maxRetainedSampleSize) {
+      retainedSamples.add(sample);
+      retainedSampleSize += sample.length;
+    }
+  }
+
+  public List<byte[]> getRetainedSamples() {
+    return retainedSamples;
+  }
 }
@@ -0,0 +1,233 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.store.rocksdb.SstBulkLoadManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.writer.AbstractVeniceWriter;
+import com.linkedin.venice.writer.DeleteMetadata;
+import com.linkedin.venice.writer.PutMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+
+/**
+ * This writer is used by {@link VeniceReducer} in the SST bulk-load push mode, check
+ * {@link VenicePushJob#SST_BULK_LOAD_ENABLED}. Instead of producing the records into the version topic, it writes them
+ * into SST files with the same format as the storage nodes:
+ * 1. The key is the serialized key.
+ * 2. The value is the serialized (and compressed) value prefixed with the value schema id, the same as the header
+ *    prepended by {@code StoreIngestionTask} before writing into the storage engine.
+ *
+ * The reducer input is already sorted by the key bytes, which is what {@link SstFileWriter} requires. Once the
+ * reducer is closed gracefully, the SST files are uploaded into '<stagingDir>/<partition>' together with a
+ * {@link SstBulkLoadManifest}, which carries the record count and the checksum of every SST file, so the storage nodes
+ * could verify them before the ingestion.
+ */
+public class SstFileVeniceWriter extends AbstractVeniceWriter<byte[], byte[], byte[]> {
+  private static final Logger LOGGER = LogManager.getLogger(SstFileVeniceWriter.class);
+  static final long MAX_SST_FILE_SIZE_IN_BYTES = 256 * 1024 * 1024;
+  // The same as the schema header length of the values in the storage engine.
+  private static final int SCHEMA_HEADER_LENGTH = ByteUtils.SIZE_OF_INT;
+
+  private final int partition;
+  private final Path partitionStagingDir;
+  private final Configuration conf;
+  private final File localDir;
+  private final long maxSstFileSizeInBytes;
+  private final Options options = new Options();
+  private final EnvOptions envOptions = new EnvOptions();
+  private final SstBulkLoadManifest manifest = new SstBulkLoadManifest();
+  private final List<String> finishedSstFileNames = new ArrayList<>();
+
+  private SstFileWriter currentSstFileWriter;
+  private String currentSstFileName;
+  private CheckSum currentChecksum;
+  private long recordCountInCurrentSstFile;
+  private long bytesInCurrentSstFile;
+  private long recordCount;
+
+  public SstFileVeniceWriter(String topicName, int partition, String stagingDir, Configuration conf) {
+    this(topicName, partition, stagingDir, conf, MAX_SST_FILE_SIZE_IN_BYTES);
+  }
+
+  SstFileVeniceWriter(
+      String topicName,
+      int partition,
+      String stagingDir,
+      Configuration conf,
+      long maxSstFileSizeInBytes) {
+    super(topicName);
+    this.partition = partition;
+    this.partitionStagingDir = new Path(RocksDBUtils.composeBulkLoadPartitionDir(stagingDir, partition));
+    this.conf = conf;
+    this.maxSstFileSizeInBytes = maxSstFileSizeInBytes;
+    try {
+      this.localDir = Files.createTempDirectory("venice-sst-bulk-load-" + topicName + "-" + partition).toFile();
+    } catch (IOException e) {
+      throw new VeniceException("Failed to create local directory for SST files of partition: " + partition, e);
+    }
+  }
+
+  @Override
+  public Future<PubSubProduceResult> put(
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      PubSubProducerCallback callback) {
+    byte[] valueWithHeader = new byte[SCHEMA_HEADER_LENGTH + value.length];
+    ByteUtils.writeInt(valueWithHeader, valueSchemaId, 0);
+    System.arraycopy(value, 0, valueWithHeader, SCHEMA_HEADER_LENGTH, value.length);
+    try {
+      if (currentSstFileWriter == null) {
+        openNewSstFile();
+      }
+      currentSstFileWriter.put(key, valueWithHeader);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to write into SST file: " + currentSstFileName, e);
+    }
+    currentChecksum.update(key);
+    currentChecksum.update(valueWithHeader);
+    ++recordCountInCurrentSstFile;
+    bytesInCurrentSstFile += key.length + valueWithHeader.length;
+
+    PubSubProduceResult produceResult =
+        new SimplePubSubProduceResultImpl(topicName, partition, recordCount++, key.length + valueWithHeader.length);
+    if (callback != null) {
+      callback.onCompletion(produceResult, null);
+    }
+    if (bytesInCurrentSstFile >= maxSstFileSizeInBytes) {
+      finishCurrentSstFile();
+    }
+    return CompletableFuture.completedFuture(produceResult);
+  }
+
+  @Override
+  public Future<PubSubProduceResult> put(
+      byte[] key,
+      byte[] value,
+      int valueSchemaId,
+      PubSubProducerCallback callback,
+      PutMetadata putMetadata) {
+    if (putMetadata != null) {
+      throw new VeniceUnsupportedOperationException("put with replication metadata in SST bulk-load");
+    }
+    return put(key, value, valueSchemaId, callback);
+  }
+
+  @Override
+  public Future<PubSubProduceResult> delete(
+      byte[] key,
+      PubSubProducerCallback callback,
+      DeleteMetadata deleteMetadata) {
+    throw new VeniceUnsupportedOperationException("delete in SST bulk-load");
+  }
+
+  @Override
+  public Future<PubSubProduceResult> update(
+      byte[] key,
+      byte[] update,
+      int valueSchemaId,
+      int derivedSchemaId,
+      PubSubProducerCallback callback) {
+    throw new VeniceUnsupportedOperationException("update in SST bulk-load");
+  }
+
+  @Override
+  public void flush() {
+    // Records are written into the local SST file synchronously.
+  }
+
+  private void openNewSstFile() throws RocksDBException {
+    currentSstFileName = RocksDBUtils.composeBulkLoadSSTFileName(finishedSstFileNames.size());
+    currentSstFileWriter = new SstFileWriter(envOptions, options);
+    currentSstFileWriter.open(new File(localDir, currentSstFileName).getAbsolutePath());
+    currentChecksum = CheckSum.getInstance(CheckSumType.MD5).get();
+    recordCountInCurrentSstFile = 0;
+    bytesInCurrentSstFile = 0;
+  }
+
+  private void finishCurrentSstFile() {
+    try {
+      currentSstFileWriter.finish();
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to finish SST file: " + currentSstFileName, e);
+    } finally {
+      currentSstFileWriter.close();
+      currentSstFileWriter = null;
+    }
+    manifest.addSstFile(currentSstFileName, recordCountInCurrentSstFile, currentChecksum.getCheckSum());
+    finishedSstFileNames.add(currentSstFileName);
+  }
+
+  /**
+   * The SST files are uploaded only when the reducer finishes gracefully, and the manifest is uploaded at last, so the
+   * storage nodes will never see a partial partition.
+   */
+  @Override
+  public void close(boolean gracefulClose) throws IOException {
+    try {
+      if (!gracefulClose) {
+        LOGGER.warn("Skip uploading SST files of partition: {} since the writer is not closed gracefully", partition);
+        return;
+      }
+      if (currentSstFileWriter != null) {
+        finishCurrentSstFile();
+      }
+      FileSystem fs = partitionStagingDir.getFileSystem(conf);
+      if (fs.exists(partitionStagingDir)) {
+        fs.delete(partitionStagingDir, true);
+      }
+      fs.mkdirs(partitionStagingDir);
+      for (String sstFileName: finishedSstFileNames) {
+        fs.copyFromLocalFile(
+            new Path(new File(localDir, sstFileName).getAbsolutePath()),
+            new Path(partitionStagingDir, sstFileName));
+      }
+      try (OutputStream outputStream =
+          fs.create(new Path(partitionStagingDir, SstBulkLoadManifest.MANIFEST_FILE_NAME), true)) {
+        manifest.writeTo(outputStream);
+      }
+      LOGGER.info(
+          "Uploaded {} SST files with {} records of partition: {} to {}",
+          finishedSstFileNames.size(),
+          recordCount,
+          partition,
+          partitionStagingDir);
+    } finally {
+      if (currentSstFileWriter != null) {
+        currentSstFileWriter.close();
+      }
+      envOptions.close();
+      options.close();
+      FileUtils.deleteQuietly(localDir);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    close(true);
+  }
+}
@@ -1,14 +1,23 @@
 package com.linkedin.venice.hadoop;
 
 import static com.linkedin.venice.hadoop.PushJobZstdConfig.MINIMUM_NUMBER_OF_SAMPLES_REQUIRED_TO_BUILD_ZSTD_DICTIONARY;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_AUTO_SELECTION_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT;
+import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS;
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_METRIC_COLLECTION_ENABLED;
 import static com.linkedin.venice.hadoop.VenicePushJob.COMPRESSION_STRATEGY;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT;
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS;
 import static com.linkedin.venice.hadoop.VenicePushJob.ETL_VALUE_SCHEMA_TRANSFORMATION;
 import static com.linkedin.venice.hadoop.VenicePushJob.INCREMENTAL_PUSH;
 import static com.linkedin.venice.hadoop.VenicePushJob.INPUT_PATH_LAST_MODIFIED_TIME;
 import static com.linkedin.venice.hadoop.VenicePushJob.KEY_INPUT_FILE_DATA_SIZE;
 import static com.linkedin.venice.hadoop.VenicePushJob.KEY_ZSTD_COMPRESSION_DICTIONARY;
 import static com.linkedin.venice.hadoop.VenicePushJob.PATH_FILTER;
+import static com.linkedin.venice.hadoop.VenicePushJob.KEY_SELECTED_COMPRESSION_RATIO;
+import static com.linkedin.venice.hadoop.VenicePushJob.KEY_SELECTED_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.hadoop.VenicePushJob.KEY_SELECTED_DECOMPRESSION_THROUGHPUT;
+import static com.linkedin.venice.hadoop.VenicePushJob.KEY_SELECTED_ZSTD_COMPRESSION_LEVEL;
 import static com.linkedin.venice.hadoop.VenicePushJob.PushJobSetting;
 import static com.linkedin.venice.hadoop.VenicePushJob.StoreSetting;
 import static com.linkedin.venice.hadoop.VenicePushJob.USE_MAPPER_TO_BUILD_DICTIONARY;
@@ -23,6 +32,9 @@ import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.apache.avro.Schema;
 import org.apache.avro.mapred.AvroWrapper;
 import org.apache.avro.specific.SpecificRecord;
@@ -55,6 +67,9 @@ public class ValidateSchemaAndBuildDictMapper extends AbstractMapReduceTask
   protected PushJobSetting pushJobSetting = new PushJobSetting();
   protected StoreSetting storeSetting = new StoreSetting();
   protected boolean isZstdDictCreationRequired;
+  protected boolean isCompressionAutoSelectionEnabled;
+  private double compressionAutoSelectionStorageWeight;
+  private List<Integer> compressionAutoSelectionZstdLevels;
   protected boolean hasReportedFailure = false;
   private FileStatus[] fileStatuses = null;
   private FileSystem fileSystem = null;
@@ -134,9 +149,10 @@ public class ValidateSchemaAndBuildDictMapper extends AbstractMapReduceTask
     }
 
     if (inputDataInfo.getSchemaInfo().isAvro()) {
-      LOGGER.info("Detected Avro input format.");
-      Pair<Schema, Schema> newSchema =
-          inputDataInfoProvider.getAvroFileHeader(fileSystem, fileStatus.getPath(), isZstdDictCreationRequired);
+      boolean isParquet = inputDataInfo.getSchemaInfo().isParquet();
+      LOGGER.info("Detected {} input format.", isParquet ? "Parquet" : "Avro");
+      Pair<Schema, Schema> newSchema = inputDataInfoProvider
+          .getFileHeader(isParquet, fileSystem, fileStatus.getPath(), isZstdDictCreationRequired);
       if (!newSchema.equals(inputDataInfo.getSchemaInfo().getAvroSchema())) {
         MRJobCounterHelper.incrMapperSchemaInconsistencyFailureCount(reporter, 1);
         LOGGER.error(
@@ -207,6 +223,9 @@ public class ValidateSchemaAndBuildDictMapper extends AbstractMapReduceTask
               mapperOutputRecord.put(KEY_ZSTD_COMPRESSION_DICTIONARY, compressionDictionary);
               MRJobCounterHelper.incrMapperZstdDictTrainSuccessCount(reporter, 1);
               LOGGER.info("ZSTD compression dictionary size = {} bytes", compressionDictionary.remaining());
+              if (isCompressionAutoSelectionEnabled) {
+                selectCompressionStrategy(mapperOutputRecord);
+              }
             } catch (Exception e) {
               MRJobCounterHelper.incrMapperZstdDictTrainFailureCount(reporter, 1);
               LOGGER.error(
@@ -228,6 +247,35 @@ public class ValidateSchemaAndBuildDictMapper extends AbstractMapReduceTask
     return true;
   }
 
+  /**
+   * Evaluates the candidate compression strategies on the retained samples and adds the selected one to the output.
+   * The selected dictionary only replaces the one trained on all the samples if it was trained with a smaller size
+   * limit. A failure of the selection doesn't fail the job: the store keeps its compression strategy.
+   */
+  private void selectCompressionStrategy(ValidateSchemaAndBuildDictMapperOutput mapperOutputRecord) {
+    PushJobZstdConfig pushJobZstdConfig = inputDataInfoProvider.pushJobZstdConfig;
+    int maxDictSize = pushJobZstdConfig.getMaxDictSize();
+    CompressionStrategySelector.Selection selection;
+    try {
+      selection = new CompressionStrategySelector(
+          compressionAutoSelectionStorageWeight,
+          compressionAutoSelectionZstdLevels,
+          Arrays.asList(maxDictSize / 4, maxDictSize)).select(pushJobZstdConfig.getRetainedSamples());
+    } catch (Exception e) {
+      LOGGER.error("Selecting the compression strategy failed, the store compression strategy will be kept", e);
+      return;
+    }
+    mapperOutputRecord.put(KEY_SELECTED_COMPRESSION_STRATEGY, selection.getCompressionStrategy().getValue());
+    mapperOutputRecord.put(KEY_SELECTED_COMPRESSION_RATIO, selection.getCompressionRatio());
+    mapperOutputRecord.put(KEY_SELECTED_DECOMPRESSION_THROUGHPUT, selection.getDecompressionThroughputInMBps());
+    if (selection.getCompressionStrategy() == CompressionStrategy.ZSTD_WITH_DICT) {
+      mapperOutputRecord.put(KEY_SELECTED_ZSTD_COMPRESSION_LEVEL, selection.getZstdCompressionLevel());
+      if (selection.getZstdDictionarySizeLimit() < maxDictSize) {
+        mapperOutputRecord.put(KEY_ZSTD_COMPRESSION_DICTIONARY, ByteBuffer.wrap(selection.getZstdDictionary()));
+      }
+    }
+  }
+
   protected void checkLastModificationTimeAndLogError(Exception e, String errorString) throws IOException {
     checkLastModificationTimeAndLogError(e, errorString, null);
   }
@@ -296,6 +344,17 @@ public class ValidateSchemaAndBuildDictMapper extends AbstractMapReduceTask
     pushJobSetting.useMapperToBuildDict = props.getBoolean(USE_MAPPER_TO_BUILD_DICTIONARY);
     pushJobSetting.compressionMetricCollectionEnabled = props.getBoolean(COMPRESSION_METRIC_COLLECTION_ENABLED);
     isZstdDictCreationRequired = props.getBoolean(ZSTD_DICTIONARY_CREATION_REQUIRED);
+    isCompressionAutoSelectionEnabled = props.getBoolean(COMPRESSION_AUTO_SELECTION_ENABLED, false);
+    if (isCompressionAutoSelectionEnabled) {
+      compressionAutoSelectionStorageWeight = props
+          .getDouble(COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT, DEFAULT_COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT);
+      compressionAutoSelectionZstdLevels = new ArrayList<>();
+      for (String level: props.getString(
+          COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS,
+          DEFAULT_COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS).split(",")) {
+        compressionAutoSelectionZstdLevels.add(Integer.parseInt(level.trim()));
+      }
+    }
 
     try {
       initInputData(job, props);
@@ -0,0 +1,18 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.hadoop.mapred.Container;
+
+
+public class VeniceParquetMapper extends AbstractVeniceMapper<Void, Container<GenericRecord>> {
+  @Override
+  public AbstractVeniceRecordReader<Void, Container<GenericRecord>> getRecordReader(VeniceProperties props) {
+    return new VeniceParquetRecordReader(props);
+  }
+
+  @Override
+  protected FilterChain<Container<GenericRecord>> getFilterChain(final VeniceProperties props) {
+    throw new UnsupportedOperationException("VeniceParquetMapper hasn't implemented the filter yet");
+  }
+}
@@ -0,0 +1,269 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_EXTENDED_SCHEMA_VALIDITY_CHECK_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.EXTENDED_SCHEMA_VALIDITY_CHECK_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.KEY_FIELD_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.SCHEMA_STRING_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
+import static com.linkedin.venice.hadoop.VenicePushJob.VALUE_FIELD_PROP;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.exceptions.VeniceSchemaFieldNotFoundException;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.mapred.Container;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+
+
+/**
+ * Reads Parquet files as Avro records. Only the key and value columns are requested from the Parquet reader (see
+ * {@link #getProjectionSchema}), so the other columns of the input files are never read or decoded.
+ */
+public class VeniceParquetRecordReader extends AbstractVeniceRecordReader<Void, Container<GenericRecord>> {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceParquetRecordReader.class);
+
+  /**
+   * The metadata key of the Avro schema in the footer of the Parquet files written by parquet-avro.
+   */
+  private static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+  private int keyFieldPos;
+  private int valueFieldPos;
+
+  private ParquetReader<GenericRecord> parquetReader;
+  private long recordCount;
+
+  private Schema fileSchema;
+  private Schema projectionSchema;
+
+  /**
+   * This constructor is used when data is read from HDFS.
+   * @param topicName Topic which is to be published to
+   * @param keyFieldStr Field name of the key field
+   * @param valueFieldStr Field name of the value field
+   * @param fs File system where the source data exists
+   * @param hdfsPath Path of the Parquet file in the File system
+   */
+  public VeniceParquetRecordReader(
+      String topicName,
+      String keyFieldStr,
+      String valueFieldStr,
+      FileSystem fs,
+      Path hdfsPath) {
+    super(topicName);
+    Configuration conf = new Configuration(fs.getConf());
+    try (ParquetFileReader fileReader = ParquetFileReader.open(HadoopInputFile.fromPath(hdfsPath, conf))) {
+      fileSchema = getAvroSchema(fileReader.getFooter().getFileMetaData(), conf);
+      recordCount = fileReader.getRecordCount();
+    } catch (IOException e) {
+      throw new VeniceException(
+          "Encountered exception reading Parquet data from " + hdfsPath
+              + ". Check if the file exists and the data is in Parquet format.",
+          e);
+    }
+    setupSchema(keyFieldStr, valueFieldStr);
+
+    AvroReadSupport.setRequestedProjection(conf, projectionSchema);
+    try {
+      parquetReader = AvroParquetReader.<GenericRecord>builder(HadoopInputFile.fromPath(hdfsPath, conf))
+          .withConf(conf)
+          .withDataModel(GenericData.get())
+          .build();
+    } catch (IOException e) {
+      throw new VeniceException("Encountered exception opening Parquet reader for " + hdfsPath, e);
+    }
+  }
+
+  public VeniceParquetRecordReader(VeniceProperties props) {
+    this(
+        props.getString(TOPIC_PROP),
+        AvroSchemaParseUtils.parseSchemaFromJSON(
+            props.getString(SCHEMA_STRING_PROP),
+            props.getBoolean(EXTENDED_SCHEMA_VALIDITY_CHECK_ENABLED, DEFAULT_EXTENDED_SCHEMA_VALIDITY_CHECK_ENABLED)),
+        props.getString(KEY_FIELD_PROP),
+        props.getString(VALUE_FIELD_PROP));
+  }
+
+  /**
+   * This constructor is used in the Mapper, where the records are already read with the projection schema.
+   * @param topicName Topic which is to be published to
+   * @param fileSchema Schema of the records returned by the input format
+   * @param keyFieldStr Field name of the key field
+   * @param valueFieldStr Field name of the value field
+   */
+  public VeniceParquetRecordReader(String topicName, Schema fileSchema, String keyFieldStr, String valueFieldStr) {
+    super(topicName);
+    this.fileSchema = fileSchema;
+    setupSchema(keyFieldStr, valueFieldStr);
+  }
+
+  /**
+   * Prefers the Avro schema stored by parquet-avro writers, since it keeps the record names, defaults and logical
+   * types, and falls back to converting the Parquet schema for files written by other engines.
+   */
+  private static Schema getAvroSchema(FileMetaData fileMetaData, Configuration conf) {
+    String avroSchema = fileMetaData.getKeyValueMetaData().get(AVRO_SCHEMA_METADATA_KEY);
+    if (avroSchema != null) {
+      return AvroCompatibilityHelper.parse(avroSchema);
+    }
+    return new AvroSchemaConverter(conf).convert(fileMetaData.getSchema());
+  }
+
+  /**
+   * @return a record schema with the same name as {@param fileSchema} which only contains the key and value fields.
+   */
+  public static Schema getProjectionSchema(Schema fileSchema, String keyFieldStr, String valueFieldStr) {
+    Schema.Field keyField = getField(fileSchema, keyFieldStr);
+    Schema.Field valueField = getField(fileSchema, valueFieldStr);
+    Schema projectionSchema = Schema
+        .createRecord(fileSchema.getName(), fileSchema.getDoc(), fileSchema.getNamespace(), fileSchema.isError());
+    projectionSchema.setFields(
+        Arrays.asList(
+            AvroCompatibilityHelper.newField(keyField).build(),
+            AvroCompatibilityHelper.newField(valueField).build()));
+    return projectionSchema;
+  }
+
+  private static Schema.Field getField(Schema schema, String fieldName) {
+    Schema.Field field = schema.getField(fieldName);
+    if (field == null) {
+      throw new VeniceSchemaFieldNotFoundException(
+          fieldName,
+          "Could not find field: " + fieldName + " from " + schema.toString());
+    }
+    return field;
+  }
+
+  private void setupSchema(String keyFieldStr, String valueFieldStr) {
+    projectionSchema = getProjectionSchema(fileSchema, keyFieldStr, valueFieldStr);
+
+    Schema.Field keyField = projectionSchema.getField(keyFieldStr);
+    Schema.Field valueField = projectionSchema.getField(valueFieldStr);
+
+    keyFieldPos = keyField.pos();
+    valueFieldPos = valueField.pos();
+
+    configure(keyField.schema().toString(), valueField.schema().toString());
+  }
+
+  @Override
+  protected Object getAvroKey(Void inputKey, Container<GenericRecord> record) {
+    Object keyDatum = record.get().get(keyFieldPos);
+
+    if (keyDatum == null) {
+      throw new VeniceException("Encountered record with null key");
+    }
+
+    return keyDatum;
+  }
+
+  @Override
+  protected Object getAvroValue(Void inputKey, Container<GenericRecord> record) {
+    return record.get().get(valueFieldPos);
+  }
+
+  public Schema getFileSchema() {
+    return fileSchema;
+  }
+
+  /**
+   * @return the schema of the records read by this reader and the mappers, containing only the key and value fields.
+   */
+  public Schema getProjectionSchema() {
+    return projectionSchema;
+  }
+
+  /**
+   * @return the number of records in the file according to its footer, or 0 in the Mapper.
+   */
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public Iterator<Pair<byte[], byte[]>> iterator() {
+    if (parquetReader == null) {
+      LOGGER.warn("Data not iterable due to incorrect file information.");
+      return Collections.emptyIterator();
+    }
+
+    return new ParquetIterator(parquetReader, topicName, this);
+  }
+
+  @Override
+  public void close() {
+    Utils.closeQuietlyWithErrorLogged(parquetReader);
+  }
+
+  private static class ParquetIterator implements Iterator<Pair<byte[], byte[]>> {
+    private final ParquetReader<GenericRecord> parquetReader;
+    private final String topic;
+    private final VeniceParquetRecordReader recordReader;
+    private final Container<GenericRecord> container = new Container<>();
+    private GenericRecord nextRecord;
+
+    public ParquetIterator(
+        ParquetReader<GenericRecord> parquetReader,
+        String topic,
+        VeniceParquetRecordReader recordReader) {
+      this.parquetReader = parquetReader;
+      this.topic = topic;
+      this.recordReader = recordReader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextRecord == null) {
+        try {
+          nextRecord = parquetReader.read();
+        } catch (IOException e) {
+          throw new VeniceException("Failed to read the next Parquet record", e);
+        }
+      }
+      return nextRecord != null;
+    }
+
+    @Override
+    public Pair<byte[], byte[]> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      container.set(nextRecord);
+      nextRecord = null;
+      try {
+        byte[] keyBytes = recordReader.getKeySerializer().serialize(topic, recordReader.getAvroKey(null, container));
+        Object avroValue = recordReader.getAvroValue(null, container);
+        byte[] valueBytes = null;
+        if (avroValue != null) {
+          valueBytes = recordReader.getValueSerializer().serialize(topic, avroValue);
+        }
+        return Pair.create(keyBytes, valueBytes);
+      } catch (VeniceException e) {
+        LOGGER.error("Failed to get next record", e);
+      }
+      return null;
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static com.linkedin.venice.ConfigKeys.PARTITIONER_CLASS;
 import static com.linkedin.venice.ConfigKeys.VENICE_PARTITIONERS;
 import static com.linkedin.venice.VeniceConstants.DEFAULT_SSL_FACTORY_CLASS_NAME;
 import static com.linkedin.venice.status.BatchJobHeartbeatConfigs.HEARTBEAT_ENABLED_CONFIG;
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
 import static com.linkedin.venice.utils.ByteUtils.generateHumanReadableByteCountString;
 import static com.linkedin.venice.utils.Utils.getUniqueString;
 import static org.apache.hadoop.mapreduce.MRJobConfig.MAPREDUCE_JOB_CLASSLOADER;
@@ -29,6 +30,7 @@ import com.linkedin.venice.controllerapi.MultiSchemaResponse;
 import com.linkedin.venice.controllerapi.RepushInfoResponse;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.controllerapi.StoreResponse;
+import com.linkedin.venice.controllerapi.UpdateStoreQueryParams;
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.etl.ETLValueSchemaTransformation;
 import com.linkedin.venice.exceptions.ErrorType;
@@ -49,8 +51,10 @@ import com.linkedin.venice.hadoop.input.kafka.KafkaInputValueGroupingComparator;
 import com.linkedin.venice.hadoop.input.kafka.VeniceKafkaInputMapper;
 import com.linkedin.venice.hadoop.input.kafka.VeniceKafkaInputReducer;
 import com.linkedin.venice.hadoop.input.kafka.ttl.TTLResolutionPolicy;
+import com.linkedin.venice.hadoop.input.snapshot.VeniceSnapshotInputFormat;
 import com.linkedin.venice.hadoop.output.avro.ValidateSchemaAndBuildDictMapperOutput;
 import com.linkedin.venice.hadoop.schema.HDFSRmdSchemaSource;
+import com.linkedin.venice.hadoop.spark.SparkJobClientWrapper;
 import com.linkedin.venice.hadoop.ssl.TempFileSSLConfigurator;
 import com.linkedin.venice.hadoop.utils.HadoopUtils;
 import com.linkedin.venice.hadoop.utils.VPJSSLUtils;
@@ -59,6 +63,7 @@ import com.linkedin.venice.hadoop.validation.Validator;
 import com.linkedin.venice.message.KafkaKey;
 import com.linkedin.venice.meta.BufferReplayPolicy;
 import com.linkedin.venice.meta.HybridStoreConfig;
+import com.linkedin.venice.meta.PartitionerConfig;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
@@ -122,12 +127,16 @@ import org.apache.hadoop.mapred.lib.NullOutputFormat;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.GenericDataSupplier;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.mapred.DeprecatedParquetInputFormat;
 
 
 /**
  * This class sets up the Hadoop job used to push data to Venice.
- * The job reads the input data off HDFS. It supports 2 kinds of
- * input -- Avro / Binary Json (Vson).
+ * The job reads the input data off HDFS. It supports 3 kinds of
+ * input -- Avro / Parquet / Binary Json (Vson).
  */
 public class VenicePushJob implements AutoCloseable {
   // Avro input configs
@@ -158,6 +167,27 @@ public class VenicePushJob implements AutoCloseable {
   public static final String POLL_JOB_STATUS_INTERVAL_MS = "poll.job.status.interval.ms";
   public static final String JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS = "job.status.in.unknown.state.timeout.ms";
   public static final String SEND_CONTROL_MESSAGES_DIRECTLY = "send.control.messages.directly";
+
+  /**
+   * Configs of the bulk-load push mode for batch-only stores, in which the reducers write the data of each partition as
+   * SST files into {@link #SST_BULK_LOAD_STAGING_DIR} instead of producing them into the version topic, and the storage
+   * nodes ingest the SST files directly once the EndOfPush control message is consumed. The control messages are
+   * still carried by the version topic, so this mode will force enable {@link #SEND_CONTROL_MESSAGES_DIRECTLY}.
+   *
+   * {@link #SST_BULK_LOAD_SERVER_STAGING_DIR} is the path of the same staging directory as seen by the storage nodes,
+   * e.g. via a shared mount, which is the same as {@link #SST_BULK_LOAD_STAGING_DIR} if not specified.
+   */
+  public static final String SST_BULK_LOAD_ENABLED = "sst.bulk.load.enabled";
+  public static final String SST_BULK_LOAD_STAGING_DIR = "sst.bulk.load.staging.dir";
+  public static final String SST_BULK_LOAD_SERVER_STAGING_DIR = "sst.bulk.load.server.staging.dir";
+
+  /**
+   * The engine to run the data writer job, which is one of {@link DataWriterEngine}. The Spark engine runs the same
+   * mappers and reducers as the MapReduce engine, and all the push job properties starting with
+   * {@link #SPARK_CONFIG_PREFIX} are passed to Spark as they are, e.g. "spark.master".
+   */
+  public static final String DATA_WRITER_ENGINE = "data.writer.engine";
+  public static final String SPARK_CONFIG_PREFIX = "spark.";
   public static final String SOURCE_ETL = "source.etl";
   public static final String ETL_VALUE_SCHEMA_TRANSFORMATION = "etl.value.schema.transformation";
 
@@ -196,6 +226,42 @@ public class VenicePushJob implements AutoCloseable {
   public static final String USE_MAPPER_TO_BUILD_DICTIONARY = "use.mapper.to.build.dictionary";
   public static final boolean DEFAULT_USE_MAPPER_TO_BUILD_DICTIONARY = false;
 
+  /**
+   * Config to let the push job pick the compression strategy (and the zstd compression level and dictionary size) of
+   * the new version: the candidates are evaluated by {@link CompressionStrategySelector} on the samples collected by
+   * {@link ValidateSchemaAndBuildDictMapper} and the store config is updated if the selected strategy differs from
+   * the current one. The decision is recorded in the push job details.
+   *
+   * This is ignored for incremental pushes and repushes, which keep the compression strategy of the version they
+   * write to. Enabling this feature force enables {@link #USE_MAPPER_TO_BUILD_DICTIONARY}.
+   */
+  public static final String COMPRESSION_AUTO_SELECTION_ENABLED = "compression.auto.selection.enabled";
+  public static final boolean DEFAULT_COMPRESSION_AUTO_SELECTION_ENABLED = false;
+
+  /**
+   * How much the storage footprint matters compared to the CPU spent by the readers to decompress the values when
+   * {@link #COMPRESSION_AUTO_SELECTION_ENABLED} is enabled: 1 picks the best compression ratio and 0 picks the fastest
+   * decompression. This is a push job config, so it should be set the same way in every push job of a store, otherwise
+   * consecutive pushes might switch the store back and forth between strategies.
+   */
+  public static final String COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT = "compression.auto.selection.storage.weight";
+  public static final double DEFAULT_COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT = 0.5;
+
+  /**
+   * Comma separated list of the zstd compression levels evaluated when {@link #COMPRESSION_AUTO_SELECTION_ENABLED} is
+   * enabled. Each level is evaluated with a dictionary of
+   * {@link DefaultInputDataInfoProvider#COMPRESSION_DICTIONARY_SIZE_LIMIT} bytes and with a dictionary 4 times smaller.
+   */
+  public static final String COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS = "compression.auto.selection.zstd.levels";
+  public static final String DEFAULT_COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS = "1,3,9,22";
+
+  /**
+   * Maximum size of the samples kept to evaluate the candidates when {@link #COMPRESSION_AUTO_SELECTION_ENABLED} is
+   * enabled. These samples are held in memory on top of the ones given to the zstd dictionary trainer.
+   */
+  public static final String COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE = "compression.auto.selection.sample.size";
+  public static final int DEFAULT_COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE = 20 * BYTES_PER_MB;
+
   /**
    * Configs to pass to {@link AbstractVeniceMapper} based on the input configs and Dictionary
    * training status
@@ -223,6 +289,10 @@ public class VenicePushJob implements AutoCloseable {
   // keys inside the avro file
   public static final String KEY_ZSTD_COMPRESSION_DICTIONARY = "zstdDictionary";
   public static final String KEY_INPUT_FILE_DATA_SIZE = "inputFileDataSize";
+  public static final String KEY_SELECTED_COMPRESSION_STRATEGY = "selectedCompressionStrategy";
+  public static final String KEY_SELECTED_ZSTD_COMPRESSION_LEVEL = "selectedZstdCompressionLevel";
+  public static final String KEY_SELECTED_COMPRESSION_RATIO = "selectedCompressionRatio";
+  public static final String KEY_SELECTED_DECOMPRESSION_THROUGHPUT = "selectedDecompressionThroughputInMBps";
 
   /**
    * Configs used to enable Kafka Input.
@@ -390,6 +460,26 @@ public class VenicePushJob implements AutoCloseable {
   public static final String REPUSH_TTL_IN_SECONDS = "repush.ttl.seconds";
   public static final String REPUSH_TTL_POLICY = "repush.ttl.policy";
   public static final String RMD_SCHEMA_DIR = "rmd.schema.dir";
+  /**
+   * Config to repush from the partition snapshots of the source version created by the storage nodes, check
+   * {@link com.linkedin.venice.meta.ServerAdminAction#CREATE_PARTITION_SNAPSHOT}, instead of consuming the source
+   * version topic. The snapshots only contain the latest value or delete of each key, so only these records will be
+   * moved by the repush. The value is the snapshot directory of the storage nodes as seen by the push job, which
+   * contains one directory per version topic with one snapshot per partition.
+   */
+  public static final String REPUSH_SNAPSHOT_DIR = "repush.snapshot.dir";
+  /**
+   * The number of storage partitions and the RMD version id of the source version, which are passed to
+   * {@link com.linkedin.venice.hadoop.input.snapshot.VeniceSnapshotInputFormat}.
+   */
+  public static final String SNAPSHOT_INPUT_PARTITION_COUNT = "snapshot.input.partition.count";
+  public static final String SNAPSHOT_INPUT_RMD_VERSION_ID = "snapshot.input.rmd.version.id";
+  /**
+   * Set when the input split with index i only contains the records of reducer partition i, sorted in the order of the
+   * output key comparator, so the Spark data writer could skip the shuffle, check
+   * {@link com.linkedin.venice.hadoop.spark.SparkJobClientWrapper}.
+   */
+  public static final String INPUT_ALIGNED_WITH_REDUCERS = "input.aligned.with.reducers";
   private static final String TEMP_DIR_PREFIX = "/tmp/veniceRmdSchemas/";
   public static final int NOT_SET = -1;
   private static final Logger LOGGER = LogManager.getLogger(VenicePushJob.class);
@@ -471,6 +561,11 @@ public class VenicePushJob implements AutoCloseable {
   private Class<? extends Partitioner> mapRedPartitionerClass = VeniceMRPartitioner.class;
   private PushJobSchemaInfo pushJobSchemaInfo;
   private ValidateSchemaAndBuildDictMapperOutput validateSchemaAndBuildDictMapperOutput;
+  /**
+   * The compression strategy of the store before {@link #applySelectedCompressionStrategy} updated it, which is
+   * restored if the job fails before the new version gets created, or null if there is nothing to restore.
+   */
+  private CompressionStrategy compressionStrategyToRestore;
   private String validateSchemaAndBuildDictMapperOutputDirectory;
   private boolean isZstdDictCreationRequired = false;
   private boolean isZstdDictCreationSuccess = false;
@@ -492,6 +587,10 @@ public class VenicePushJob implements AutoCloseable {
     long pollJobStatusIntervalMs;
     long jobStatusInUnknownStateTimeoutMs;
     boolean sendControlMessagesDirectly;
+    boolean sstBulkLoadEnabled;
+    String sstBulkLoadStagingDir;
+    String sstBulkLoadServerStagingDir;
+    DataWriterEngine dataWriterEngine;
     boolean isSourceETL;
     boolean enableWriteCompute;
     ETLValueSchemaTransformation etlValueSchemaTransformation;
@@ -510,12 +609,18 @@ public class VenicePushJob implements AutoCloseable {
     boolean compressionMetricCollectionEnabled;
     /** Refer {@link #USE_MAPPER_TO_BUILD_DICTIONARY} **/
     boolean useMapperToBuildDict;
+    /** Refer {@link #COMPRESSION_AUTO_SELECTION_ENABLED} **/
+    boolean compressionAutoSelectionEnabled;
+    /** Refer {@link #ZSTD_COMPRESSION_LEVEL}, overridden by the selected level if the strategy is auto selected **/
+    int zstdCompressionLevel;
     String useMapperToBuildDictOutputPath;
     boolean repushTTLEnabled;
     // specify ttl time to drop stale records.
     long repushTTLInSeconds;
     // HDFS directory to cache RMD schemas
     String rmdSchemaDir;
+    // Refer to {@link #REPUSH_SNAPSHOT_DIR}, null if repush from the source version topic
+    String repushSnapshotDir;
     String controllerD2ServiceName;
     String parentControllerRegionD2ZkHosts;
     String childControllerRegionD2ZkHosts;
@@ -575,6 +680,13 @@ public class VenicePushJob implements AutoCloseable {
   private PushJobHeartbeatSenderFactory pushJobHeartbeatSenderFactory;
   private boolean pushJobStatusUploadDisabledHasBeenLogged = false;
 
+  /**
+   * Check {@link #DATA_WRITER_ENGINE}.
+   */
+  public enum DataWriterEngine {
+    MAPREDUCE, SPARK
+  }
+
   /**
    * Different successful checkpoints and known error scenarios of the VPJ flow.
    * 1. The enums are not sequential
@@ -689,6 +801,9 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.jobStatusInUnknownStateTimeoutMs =
         props.getLong(JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS, DEFAULT_JOB_STATUS_IN_UNKNOWN_STATE_TIMEOUT_MS);
     pushJobSettingToReturn.sendControlMessagesDirectly = props.getBoolean(SEND_CONTROL_MESSAGES_DIRECTLY, false);
+    pushJobSettingToReturn.sstBulkLoadEnabled = props.getBoolean(SST_BULK_LOAD_ENABLED, false);
+    pushJobSettingToReturn.dataWriterEngine =
+        DataWriterEngine.valueOf(props.getString(DATA_WRITER_ENGINE, DataWriterEngine.MAPREDUCE.name()).toUpperCase());
     pushJobSettingToReturn.enableWriteCompute = props.getBoolean(ENABLE_WRITE_COMPUTE, false);
     pushJobSettingToReturn.isSourceETL = props.getBoolean(SOURCE_ETL, false);
     pushJobSettingToReturn.isSourceKafka = props.getBoolean(SOURCE_KAFKA, false);
@@ -699,6 +814,7 @@ public class VenicePushJob implements AutoCloseable {
     pushJobSettingToReturn.deferVersionSwap = props.getBoolean(DEFER_VERSION_SWAP, false);
     pushJobSettingToReturn.repushTTLEnabled = props.getBoolean(REPUSH_TTL_ENABLE, false);
     pushJobSettingToReturn.repushTTLInSeconds = NOT_SET;
+    pushJobSettingToReturn.repushSnapshotDir = props.getString(REPUSH_SNAPSHOT_DIR, () -> null);
     pushJobSettingToReturn.isTargetedRegionPushEnabled = props.getBoolean(TARGETED_REGION_PUSH_ENABLED, false);
     pushJobSettingToReturn.postValidationConsumption = props.getBoolean(POST_VALIDATION_CONSUMPTION_ENABLED, true);
     if (pushJobSettingToReturn.isIncrementalPush && pushJobSettingToReturn.isTargetedRegionPushEnabled) {
@@ -715,6 +831,9 @@ public class VenicePushJob implements AutoCloseable {
     if (pushJobSettingToReturn.repushTTLEnabled && !pushJobSettingToReturn.isSourceKafka) {
       throw new VeniceException("Repush with TTL is only supported while using Kafka Input Format");
     }
+    if (pushJobSettingToReturn.repushSnapshotDir != null && !pushJobSettingToReturn.isSourceKafka) {
+      throw new VeniceException("Repush from snapshots is only supported while using Kafka Input Format");
+    }
 
     final String D2_PREFIX = "d2://";
     if (pushJobSettingToReturn.veniceControllerUrl.startsWith(D2_PREFIX)) {
@@ -755,6 +874,25 @@ public class VenicePushJob implements AutoCloseable {
       }
     }
 
+    if (pushJobSettingToReturn.sstBulkLoadEnabled) {
+      if (pushJobSettingToReturn.isIncrementalPush) {
+        throw new VeniceException("SST bulk-load is not supported for incremental push");
+      }
+      if (pushJobSettingToReturn.isSourceKafka) {
+        throw new VeniceException("SST bulk-load is not supported while using Kafka Input Format");
+      }
+      if (pushJobSettingToReturn.enableWriteCompute) {
+        throw new VeniceException("SST bulk-load is not supported with write compute");
+      }
+      pushJobSettingToReturn.sstBulkLoadStagingDir = props.getString(SST_BULK_LOAD_STAGING_DIR);
+      pushJobSettingToReturn.sstBulkLoadServerStagingDir =
+          props.getString(SST_BULK_LOAD_SERVER_STAGING_DIR, pushJobSettingToReturn.sstBulkLoadStagingDir);
+      // The data won't be in the version topic, so SOP has to carry the location of the SST files.
+      pushJobSettingToReturn.sendControlMessagesDirectly = true;
+      // The speculative attempts would upload the SST files of the same partition concurrently.
+      pushJobSettingToReturn.enableReducerSpeculativeExecution = false;
+    }
+
     pushJobSettingToReturn.storeName = props.getString(VENICE_STORE_NAME_PROP);
     pushJobSettingToReturn.rewindTimeInSecondsOverride = props.getLong(REWIND_TIME_IN_SECONDS_OVERRIDE, NOT_SET);
 
@@ -799,6 +937,16 @@ public class VenicePushJob implements AutoCloseable {
           COMPRESSION_METRIC_COLLECTION_ENABLED);
       pushJobSettingToReturn.useMapperToBuildDict = true;
     }
+    pushJobSettingToReturn.compressionAutoSelectionEnabled =
+        props.getBoolean(COMPRESSION_AUTO_SELECTION_ENABLED, DEFAULT_COMPRESSION_AUTO_SELECTION_ENABLED);
+    if (pushJobSettingToReturn.compressionAutoSelectionEnabled && !pushJobSettingToReturn.useMapperToBuildDict) {
+      LOGGER.warn(
+          "Force enabling \"{}\" to support \"{}\"",
+          USE_MAPPER_TO_BUILD_DICTIONARY,
+          COMPRESSION_AUTO_SELECTION_ENABLED);
+      pushJobSettingToReturn.useMapperToBuildDict = true;
+    }
+    pushJobSettingToReturn.zstdCompressionLevel = props.getInt(ZSTD_COMPRESSION_LEVEL, Zstd.maxCompressionLevel());
     if (pushJobSettingToReturn.useMapperToBuildDict) {
       pushJobSettingToReturn.useMapperToBuildDictOutputPath = props
           .getString(MAPPER_OUTPUT_DIRECTORY, VALIDATE_SCHEMA_AND_BUILD_DICTIONARY_MAPPER_OUTPUT_PARENT_DIR_DEFAULT);
@@ -911,6 +1059,12 @@ public class VenicePushJob implements AutoCloseable {
     this.jobClientWrapper = jobClientWrapper;
   }
 
+  // Visible for testing
+  protected void setValidateSchemaAndBuildDictMapperOutput(
+      ValidateSchemaAndBuildDictMapperOutput validateSchemaAndBuildDictMapperOutput) {
+    this.validateSchemaAndBuildDictMapperOutput = validateSchemaAndBuildDictMapperOutput;
+  }
+
   // Visible for testing
   protected void setInputDataInfoProvider(InputDataInfoProvider inputDataInfoProvider) {
     this.inputDataInfoProvider = inputDataInfoProvider;
@@ -1010,6 +1164,8 @@ public class VenicePushJob implements AutoCloseable {
 
         pushJobSetting.compressionMetricCollectionEnabled =
             evaluateCompressionMetricCollectionEnabled(pushJobSetting, inputFileHasRecords);
+        pushJobSetting.compressionAutoSelectionEnabled =
+            evaluateCompressionAutoSelectionEnabled(pushJobSetting, inputFileHasRecords);
         isZstdDictCreationRequired =
             shouldBuildZstdCompressionDictionary(pushJobSetting, storeSetting, inputFileHasRecords);
         if (pushJobSetting.useMapperToBuildDict) {
@@ -1026,6 +1182,7 @@ public class VenicePushJob implements AutoCloseable {
               props,
               jobId,
               inputDirectory);
+          applySelectedCompressionStrategy(controllerClient, pushJobSetting, storeSetting);
           sendPushJobDetailsToController();
         }
       } else {
@@ -1087,6 +1244,8 @@ public class VenicePushJob implements AutoCloseable {
             pushId,
             props,
             optionalCompressionDictionary);
+        // The new version has picked up the selected compression strategy, so the store config is kept from now on.
+        compressionStrategyToRestore = null;
         updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.NEW_VERSION_CREATED);
         // Update and send push job details with new info to the controller
         pushJobDetails.pushId = pushId;
@@ -1138,6 +1297,7 @@ public class VenicePushJob implements AutoCloseable {
                 storeSetting.isChunkingEnabled,
                 kafkaTopicInfo.compressionStrategy,
                 optionalCompressionDictionary,
+                getSstBulkLoadLocation(kafkaTopicInfo),
                 Collections.emptyMap());
           } else {
             /**
@@ -1202,6 +1362,7 @@ public class VenicePushJob implements AutoCloseable {
       LOGGER.error("Failed to run job.", e);
       // Make sure all the logic before killing the failed push jobs is captured in the following block
       try {
+        restoreCompressionStrategy(controllerClient, pushJobSetting);
         if (e instanceof TopicAuthorizationVeniceException) {
           updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.WRITE_ACL_FAILED);
         }
@@ -1355,7 +1516,7 @@ public class VenicePushJob implements AutoCloseable {
 
   void runJobAndUpdateStatus() throws IOException {
     updatePushJobDetailsWithCheckpoint(PushJobCheckpoints.START_MAP_REDUCE_JOB);
-    runningJob = runJobWithConfig(jobConf);
+    runningJob = runJobWithConfig(jobConf, getDataWriterJobClientWrapper());
     validateCountersAfterPush();
     Optional<ErrorMessage> errorMessage = updatePushJobDetailsWithMRDetails();
     if (errorMessage.isPresent()) {
@@ -1529,7 +1690,7 @@ public class VenicePushJob implements AutoCloseable {
       return false;
     }
 
-    if (pushJobSetting.compressionMetricCollectionEnabled
+    if (pushJobSetting.compressionMetricCollectionEnabled || pushJobSetting.compressionAutoSelectionEnabled
         || storeSetting.compressionStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
       if (pushJobSetting.isIncrementalPush) {
         LOGGER.info("No compression dictionary will be generated as the push type is incremental push");
@@ -1584,6 +1745,129 @@ public class VenicePushJob implements AutoCloseable {
     return true;
   }
 
+  /**
+   * This functions evaluates the config {@link PushJobSetting#compressionAutoSelectionEnabled}: the compression
+   * strategy can only be selected for full pushes with input records, as incremental pushes and repushes have to use
+   * the compression strategy of the version they write to.
+   */
+  protected static boolean evaluateCompressionAutoSelectionEnabled(
+      PushJobSetting pushJobSetting,
+      boolean inputFileHasRecords) {
+    if (!pushJobSetting.compressionAutoSelectionEnabled) {
+      return false;
+    }
+
+    if (!inputFileHasRecords) {
+      LOGGER.info("The compression strategy will not be selected automatically as there are no records");
+      return false;
+    }
+
+    if (pushJobSetting.isSourceKafka) {
+      LOGGER.info("The compression strategy will not be selected automatically as the push type is repush");
+      return false;
+    }
+
+    if (pushJobSetting.isIncrementalPush) {
+      LOGGER.info("The compression strategy will not be selected automatically as the push type is incremental push");
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Applies the compression strategy selected by {@link ValidateSchemaAndBuildDictMapper} when
+   * {@link PushJobSetting#compressionAutoSelectionEnabled} is enabled: the store config is updated before the new
+   * version gets created, so that the version picks up the selected strategy, and the selected zstd level is used to
+   * compress the values. Nothing changes if the mapper couldn't evaluate the candidates. If the job fails before the
+   * new version gets created, the previous strategy is restored by {@link #restoreCompressionStrategy}.
+   */
+  protected void applySelectedCompressionStrategy(
+      ControllerClient controllerClient,
+      PushJobSetting pushJobSetting,
+      StoreSetting storeSetting) {
+    if (!pushJobSetting.compressionAutoSelectionEnabled || validateSchemaAndBuildDictMapperOutput == null
+        || validateSchemaAndBuildDictMapperOutput.getSelectedCompressionStrategy() == null) {
+      return;
+    }
+    CompressionStrategy selectedStrategy =
+        CompressionStrategy.valueOf(validateSchemaAndBuildDictMapperOutput.getSelectedCompressionStrategy());
+    if (selectedStrategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      pushJobSetting.zstdCompressionLevel = validateSchemaAndBuildDictMapperOutput.getSelectedZstdCompressionLevel();
+    }
+    pushJobDetails.selectedCompressionStrategy = selectedStrategy.getValue();
+    pushJobDetails.selectedZstdCompressionLevel =
+        validateSchemaAndBuildDictMapperOutput.getSelectedZstdCompressionLevel();
+    pushJobDetails.selectedZstdDictionarySize = selectedStrategy == CompressionStrategy.ZSTD_WITH_DICT
+        ? validateSchemaAndBuildDictMapperOutput.getZstdDictionary().remaining()
+        : null;
+    pushJobDetails.selectedCompressionRatio = validateSchemaAndBuildDictMapperOutput.getSelectedCompressionRatio();
+    pushJobDetails.selectedDecompressionThroughputInMBps =
+        validateSchemaAndBuildDictMapperOutput.getSelectedDecompressionThroughputInMBps();
+    pushJobDetails.compressionAutoSelectionStorageWeight =
+        props.getDouble(COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT, DEFAULT_COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT);
+    LOGGER.info(
+        "Selected compression strategy {} (zstd level: {}) for store {} with a compression ratio of {} and a "
+            + "decompression throughput of {} MB/s",
+        selectedStrategy,
+        pushJobDetails.selectedZstdCompressionLevel,
+        pushJobSetting.storeName,
+        pushJobDetails.selectedCompressionRatio,
+        pushJobDetails.selectedDecompressionThroughputInMBps);
+
+    if (selectedStrategy != storeSetting.compressionStrategy) {
+      LOGGER.info(
+          "Updating the compression strategy of store {} from {} to {}",
+          pushJobSetting.storeName,
+          storeSetting.compressionStrategy,
+          selectedStrategy);
+      ControllerResponse response = controllerClient.updateStore(
+          pushJobSetting.storeName,
+          new UpdateStoreQueryParams().setCompressionStrategy(selectedStrategy));
+      if (response.isError()) {
+        throw new VeniceException(
+            "Failed to update the compression strategy of store " + pushJobSetting.storeName + " to "
+                + selectedStrategy + ": " + response.getError());
+      }
+      compressionStrategyToRestore = storeSetting.compressionStrategy;
+      storeSetting.compressionStrategy = selectedStrategy;
+    }
+  }
+
+  /**
+   * Restores the compression strategy the store had before {@link #applySelectedCompressionStrategy} updated it, when
+   * the job fails before the new version gets created. Errors are only logged since the job is failing anyway.
+   */
+  protected void restoreCompressionStrategy(ControllerClient controllerClient, PushJobSetting pushJobSetting) {
+    if (compressionStrategyToRestore == null) {
+      return;
+    }
+    LOGGER.info(
+        "Restoring the compression strategy of store {} to {}",
+        pushJobSetting.storeName,
+        compressionStrategyToRestore);
+    try {
+      ControllerResponse response = controllerClient.updateStore(
+          pushJobSetting.storeName,
+          new UpdateStoreQueryParams().setCompressionStrategy(compressionStrategyToRestore));
+      if (response.isError()) {
+        LOGGER.error(
+            "Failed to restore the compression strategy of store {} to {}: {}",
+            pushJobSetting.storeName,
+            compressionStrategyToRestore,
+            response.getError());
+        return;
+      }
+      compressionStrategyToRestore = null;
+    } catch (Exception e) {
+      LOGGER.error(
+          "Failed to restore the compression strategy of store {} to {}",
+          pushJobSetting.storeName,
+          compressionStrategyToRestore,
+          e);
+    }
+  }
+
   /**
    * Validate whether the Job ran successfully to validate schema and build dictionary:
    * - No error counters are increased
@@ -1718,6 +2002,10 @@ public class VenicePushJob implements AutoCloseable {
     if (jobClientWrapper == null) {
       jobClientWrapper = new DefaultJobClientWrapper();
     }
+    return runJobWithConfig(jobConf, jobClientWrapper);
+  }
+
+  private RunningJob runJobWithConfig(JobConf jobConf, JobClientWrapper jobClientWrapper) throws IOException {
     try {
       return jobClientWrapper.runJobWithConfig(jobConf);
     } catch (Exception e) {
@@ -1728,6 +2016,26 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * Only the data writer job could run on Spark, and the other jobs, e.g. the one to validate the schema and build the
+   * compression dictionary, always run on MapReduce.
+   */
+  private JobClientWrapper getDataWriterJobClientWrapper() {
+    if (pushJobSetting.dataWriterEngine != DataWriterEngine.SPARK) {
+      if (jobClientWrapper == null) {
+        jobClientWrapper = new DefaultJobClientWrapper();
+      }
+      return jobClientWrapper;
+    }
+    Map<String, String> sparkConfigs = new HashMap<>();
+    for (String key: props.keySet()) {
+      if (key.startsWith(SPARK_CONFIG_PREFIX)) {
+        sparkConfigs.put(key, props.getString(key));
+      }
+    }
+    return new SparkJobClientWrapper(sparkConfigs);
+  }
+
   protected InputDataInfoProvider getInputDataInfoProvider() {
     if (inputDataInfoProvider == null) {
       inputDataInfoProvider = new DefaultInputDataInfoProvider(storeSetting, pushJobSetting, props);
@@ -2014,7 +2322,7 @@ public class VenicePushJob implements AutoCloseable {
       pushJobDetails.totalKeyBytes = MRJobCounterHelper.getTotalKeySize(runningJob.getCounters());
       // size of uncompressed value
       pushJobDetails.totalRawValueBytes = MRJobCounterHelper.getTotalUncompressedValueSize(runningJob.getCounters());
-      // size of the final stored data in SN (can be compressed using NO_OP/GZIP/ZSTD_WITH_DICT)
+      // size of the final stored data in SN (can be compressed using NO_OP/GZIP/ZSTD_WITH_DICT/LZ4)
       pushJobDetails.totalCompressedValueBytes = MRJobCounterHelper.getTotalValueSize(runningJob.getCounters());
       // size of the Gzip compressed data
       pushJobDetails.totalGzipCompressedValueBytes =
@@ -2035,6 +2343,10 @@ public class VenicePushJob implements AutoCloseable {
           pushJobSetting.compressionMetricCollectionEnabled ? "Enabled" : "Disabled");
       if (pushJobSetting.compressionMetricCollectionEnabled) {
         LOGGER.info("\tData size if compressed using Gzip: {} Bytes ", pushJobDetails.totalGzipCompressedValueBytes);
+        // PushJobDetails has no field for LZ4, so its size is only logged.
+        LOGGER.info(
+            "\tData size if compressed using LZ4: {} Bytes ",
+            MRJobCounterHelper.getTotalLz4CompressedValueSize(runningJob.getCounters()));
         if (isZstdDictCreationSuccess) {
           LOGGER.info(
               "\tData size if compressed using Zstd with Dictionary: {} Bytes",
@@ -2439,6 +2751,10 @@ public class VenicePushJob implements AutoCloseable {
       setting.sendControlMessagesDirectly = false;
     }
 
+    if (setting.sstBulkLoadEnabled) {
+      validateStoreForSstBulkLoad(storeResponse.getStore());
+    }
+
     storeSetting.keySchema = getKeySchemaFromController(controllerClient, setting.controllerRetries, setting.storeName);
 
     if (setting.isSourceKafka) {
@@ -2461,10 +2777,29 @@ public class VenicePushJob implements AutoCloseable {
       if (sourceVersion.get().isChunkingEnabled() && !storeResponse.getStore().isChunkingEnabled()) {
         throw new VeniceException("Source version has chunking enabled while chunking is disabled in store config.");
       }
+      if (setting.repushSnapshotDir != null && sourceVersion.get().isRmdChunkingEnabled()) {
+        throw new VeniceException("Repush from snapshots is not supported for source version with RMD chunking");
+      }
     }
     return storeSetting;
   }
 
+  /**
+   * The SST files are built with the same format as the batch data ingested from the version topic by the storage
+   * nodes, so only the stores whose versions won't receive any other writes or per-record metadata are supported.
+   */
+  private void validateStoreForSstBulkLoad(StoreInfo storeInfo) {
+    if (storeInfo.getHybridStoreConfig() != null) {
+      throw new VeniceException("SST bulk-load is only supported for batch-only stores");
+    }
+    if (storeInfo.isChunkingEnabled()) {
+      throw new VeniceException("SST bulk-load is not supported for stores with chunking enabled");
+    }
+    if (storeInfo.isActiveActiveReplicationEnabled() || storeInfo.isWriteComputationEnabled()) {
+      throw new VeniceException("SST bulk-load is not supported for active-active or write compute stores");
+    }
+  }
+
   private Map<String, Integer> getCurrentStoreVersions(StoreResponse storeResponse) {
     Map<String, Integer> coloToCurrentVersionMap = storeResponse.getStore().getColoToCurrentVersions();
     if (coloToCurrentVersionMap == null || coloToCurrentVersionMap.isEmpty()) {
@@ -2939,6 +3274,10 @@ public class VenicePushJob implements AutoCloseable {
       conf.setInt(DERIVED_SCHEMA_ID_PROP, pushJobSchemaInfo.getDerivedSchemaId());
     }
     conf.setBoolean(ENABLE_WRITE_COMPUTE, pushJobSetting.enableWriteCompute);
+    conf.setBoolean(SST_BULK_LOAD_ENABLED, pushJobSetting.sstBulkLoadEnabled);
+    if (pushJobSetting.sstBulkLoadEnabled) {
+      conf.set(SST_BULK_LOAD_STAGING_DIR, pushJobSetting.sstBulkLoadStagingDir);
+    }
 
     if (!props.containsKey(KAFKA_PRODUCER_REQUEST_TIMEOUT_MS)) {
       // If the push job plug-in doesn't specify the request timeout config, default will be infinite
@@ -2965,9 +3304,7 @@ public class VenicePushJob implements AutoCloseable {
         topicInfo.compressionStrategy != null
             ? topicInfo.compressionStrategy.toString()
             : CompressionStrategy.NO_OP.toString());
-    conf.set(
-        ZSTD_COMPRESSION_LEVEL,
-        props.getString(ZSTD_COMPRESSION_LEVEL, String.valueOf(Zstd.maxCompressionLevel())));
+    conf.setInt(ZSTD_COMPRESSION_LEVEL, pushJobSetting.zstdCompressionLevel);
     conf.setBoolean(ZSTD_DICTIONARY_CREATION_SUCCESS, isZstdDictCreationSuccess);
 
     /** Allow overriding properties if their names start with {@link HADOOP_PREFIX}.
@@ -3018,10 +3355,21 @@ public class VenicePushJob implements AutoCloseable {
       Schema keySchemaFromController = storeSetting.keySchema;
       String keySchemaString = AvroCompatibilityHelper.toParsingForm(keySchemaFromController);
       jobConf.set(KAFKA_SOURCE_KEY_SCHEMA_STRING_PROP, keySchemaString);
-      jobConf.setInputFormat(KafkaInputFormat.class);
       jobConf.setMapperClass(VeniceKafkaInputMapper.class);
-      if (pushJobSetting.kafkaInputCombinerEnabled) {
-        jobConf.setCombinerClass(KafkaInputFormatCombiner.class);
+      if (pushJobSetting.repushSnapshotDir != null) {
+        Version sourceVersion = storeSetting.sourceKafkaInputVersionInfo;
+        jobConf.setInputFormat(VeniceSnapshotInputFormat.class);
+        jobConf.set(
+            REPUSH_SNAPSHOT_DIR,
+            new Path(pushJobSetting.repushSnapshotDir, pushJobSetting.kafkaInputTopic).toString());
+        jobConf.setInt(SNAPSHOT_INPUT_PARTITION_COUNT, getStoragePartitionCount(sourceVersion));
+        jobConf.setInt(SNAPSHOT_INPUT_RMD_VERSION_ID, sourceVersion.getRmdVersionId());
+        // The keys are unique in the snapshots, so the combiner won't help.
+      } else {
+        jobConf.setInputFormat(KafkaInputFormat.class);
+        if (pushJobSetting.kafkaInputCombinerEnabled) {
+          jobConf.setCombinerClass(KafkaInputFormatCombiner.class);
+        }
       }
     } else {
       // TODO:The job is using path-filter to check the consistency of avro file schema ,
@@ -3038,7 +3386,17 @@ public class VenicePushJob implements AutoCloseable {
       jobConf.set(KEY_FIELD_PROP, pushJobSchemaInfo.getKeyField());
       jobConf.set(VALUE_FIELD_PROP, pushJobSchemaInfo.getValueField());
 
-      if (pushJobSchemaInfo.isAvro()) {
+      if (pushJobSchemaInfo.isParquet()) {
+        // The file schema string is the projection schema, so only the key and value columns are read.
+        jobConf.set(SCHEMA_STRING_PROP, pushJobSchemaInfo.getFileSchemaString());
+        AvroReadSupport
+            .setRequestedProjection(jobConf, AvroCompatibilityHelper.parse(pushJobSchemaInfo.getFileSchemaString()));
+        AvroReadSupport.setAvroDataSupplier(jobConf, GenericDataSupplier.class);
+        ParquetInputFormat.setReadSupportClass(jobConf, AvroReadSupport.class);
+        jobConf.setInputFormat(DeprecatedParquetInputFormat.class);
+        jobConf.setMapperClass(VeniceParquetMapper.class);
+        jobConf.setBoolean(VSON_PUSH, false);
+      } else if (pushJobSchemaInfo.isAvro()) {
         jobConf.set(SCHEMA_STRING_PROP, pushJobSchemaInfo.getFileSchemaString());
         jobConf.set(AvroJob.INPUT_SCHEMA, pushJobSchemaInfo.getFileSchemaString());
         jobConf.setClass("avro.serialization.data.model", GenericData.class, GenericData.class);
@@ -3055,6 +3413,16 @@ public class VenicePushJob implements AutoCloseable {
     }
   }
 
+  /**
+   * @return the location of the SST files as seen by the storage nodes, which is carried by the SOP control message.
+   */
+  private Optional<String> getSstBulkLoadLocation(TopicInfo topicInfo) {
+    if (!pushJobSetting.sstBulkLoadEnabled) {
+      return Optional.empty();
+    }
+    return Optional.of(new Path(pushJobSetting.sstBulkLoadServerStagingDir, topicInfo.topic).toUri().getPath());
+  }
+
   private void setupReducerConf(JobConf jobConf, PushJobSetting pushJobSetting, TopicInfo topicInfo) {
     if (pushJobSetting.isSourceKafka) {
       jobConf.setOutputKeyComparatorClass(KafkaInputKeyComparator.class);
@@ -3073,6 +3441,30 @@ public class VenicePushJob implements AutoCloseable {
     } else {
       jobConf.setReducerClass(VeniceReducer.class);
     }
+    if (pushJobSetting.repushSnapshotDir != null) {
+      jobConf.setBoolean(
+          INPUT_ALIGNED_WITH_REDUCERS,
+          isSnapshotInputAlignedWithReducers(storeSetting.sourceKafkaInputVersionInfo, topicInfo));
+    }
+  }
+
+  private static int getStoragePartitionCount(Version version) {
+    PartitionerConfig partitionerConfig = version.getPartitionerConfig();
+    return version.getPartitionCount() * (partitionerConfig == null ? 1 : partitionerConfig.getAmplificationFactor());
+  }
+
+  /**
+   * The snapshot of each storage partition is read by one mapper in the order of the keys, so the mappers are aligned
+   * with the reducers if the new version is partitioned the same way as the source version. This doesn't apply to
+   * chunked source versions, since the keys with the chunked key suffix could be sorted differently from the raw keys.
+   */
+  private static boolean isSnapshotInputAlignedWithReducers(Version sourceVersion, TopicInfo topicInfo) {
+    PartitionerConfig sourcePartitionerConfig = sourceVersion.getPartitionerConfig();
+    return !sourceVersion.isChunkingEnabled() && sourcePartitionerConfig != null
+        && sourceVersion.getPartitionCount() == topicInfo.partitionCount
+        && sourcePartitionerConfig.getAmplificationFactor() == topicInfo.amplificationFactor
+        && sourcePartitionerConfig.getPartitionerClass().equals(topicInfo.partitionerClass)
+        && sourcePartitionerConfig.getPartitionerParams().equals(topicInfo.partitionerParams);
   }
 
   /**
@@ -3151,6 +3543,21 @@ public class VenicePushJob implements AutoCloseable {
     conf.setBoolean(USE_MAPPER_TO_BUILD_DICTIONARY, pushJobSetting.useMapperToBuildDict);
     conf.set(MAPPER_OUTPUT_DIRECTORY, pushJobSetting.useMapperToBuildDictOutputPath);
     conf.set(COMPRESSION_STRATEGY, storeSetting.compressionStrategy.toString());
+    conf.setBoolean(COMPRESSION_AUTO_SELECTION_ENABLED, pushJobSetting.compressionAutoSelectionEnabled);
+    if (pushJobSetting.compressionAutoSelectionEnabled) {
+      conf.set(
+          COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT,
+          String.valueOf(
+              props.getDouble(
+                  COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT,
+                  DEFAULT_COMPRESSION_AUTO_SELECTION_STORAGE_WEIGHT)));
+      conf.set(
+          COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS,
+          props.getString(COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS, DEFAULT_COMPRESSION_AUTO_SELECTION_ZSTD_LEVELS));
+      conf.setInt(
+          COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE,
+          props.getInt(COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE, DEFAULT_COMPRESSION_AUTO_SELECTION_SAMPLE_SIZE));
+    }
     validateSchemaAndBuildDictMapperOutputDirectory = getValidateSchemaAndBuildDictionaryOutputDir(
         pushJobSetting.useMapperToBuildDictOutputPath,
         pushJobSetting.storeName,
@@ -3256,6 +3663,9 @@ public class VenicePushJob implements AutoCloseable {
     if (pushJobSetting.isSourceKafka) {
       propKeyValuePairs.add("Kafka Input broker urls: " + pushJobSetting.kafkaInputBrokerUrl);
       propKeyValuePairs.add("Kafka Input topic name: " + pushJobSetting.kafkaInputTopic);
+      if (pushJobSetting.repushSnapshotDir != null) {
+        propKeyValuePairs.add("Repush snapshot dir: " + pushJobSetting.repushSnapshotDir);
+      }
     }
     return String.join(Utils.NEW_LINE_CHAR, propKeyValuePairs);
   }
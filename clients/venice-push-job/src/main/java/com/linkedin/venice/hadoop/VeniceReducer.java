@@ -4,6 +4,8 @@ import static com.linkedin.venice.hadoop.VenicePushJob.ALLOW_DUPLICATE_KEY;
 import static com.linkedin.venice.hadoop.VenicePushJob.DEFAULT_IS_DUPLICATED_KEY_ALLOWED;
 import static com.linkedin.venice.hadoop.VenicePushJob.DERIVED_SCHEMA_ID_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.ENABLE_WRITE_COMPUTE;
+import static com.linkedin.venice.hadoop.VenicePushJob.SST_BULK_LOAD_ENABLED;
+import static com.linkedin.venice.hadoop.VenicePushJob.SST_BULK_LOAD_STAGING_DIR;
 import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
 import static com.linkedin.venice.hadoop.VenicePushJob.TELEMETRY_MESSAGE_INTERVAL;
 import static com.linkedin.venice.hadoop.VenicePushJob.TOPIC_PROP;
@@ -52,6 +54,7 @@ import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.io.Encoder;
+import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.mapred.Counters;
 import org.apache.hadoop.mapred.JobClient;
@@ -169,6 +172,7 @@ public class VeniceReducer extends AbstractMapReduceTask
 
   private VeniceProperties props;
   private JobID mapReduceJobId;
+  private JobConf jobConf;
   private long telemetryMessageInterval;
   private final Set<Integer> partitionSet = ConcurrentHashMap.newKeySet();
   private DuplicateKeyPrinter duplicateKeyPrinter;
@@ -371,7 +375,12 @@ public class VeniceReducer extends AbstractMapReduceTask
     return false;
   }
 
-  private VeniceWriter<byte[], byte[], byte[]> createBasicVeniceWriter() {
+  private AbstractVeniceWriter<byte[], byte[], byte[]> createBasicVeniceWriter() {
+    if (props.getBoolean(SST_BULK_LOAD_ENABLED, false)) {
+      String topic = props.getString(TOPIC_PROP);
+      String stagingDir = new Path(props.getString(SST_BULK_LOAD_STAGING_DIR), topic).toString();
+      return new SstFileVeniceWriter(topic, getTaskId(), stagingDir, jobConf);
+    }
     Properties writerProps = props.toProperties();
     writerProps.put(GuidUtils.GUID_GENERATOR_IMPLEMENTATION, GuidUtils.DETERMINISTIC_GUID_GENERATOR_IMPLEMENTATION);
     // Closing segments based on elapsed time should always be disabled in MR to prevent storage nodes consuming out of
@@ -438,6 +447,10 @@ public class VeniceReducer extends AbstractMapReduceTask
     try {
       LOGGER.info("Kafka message progress before flushing and closing producer:");
       logMessageProgress();
+      if (veniceWriter == null && props != null && props.getBoolean(SST_BULK_LOAD_ENABLED, false)) {
+        // Empty partitions still need a manifest, so the storage nodes could tell that there is nothing to ingest.
+        veniceWriter = createBasicVeniceWriter();
+      }
       if (veniceWriter != null) {
         boolean shouldEndAllSegments = false;
         try {
@@ -475,6 +488,7 @@ public class VeniceReducer extends AbstractMapReduceTask
     this.props = props;
     this.isDuplicateKeyAllowed = props.getBoolean(ALLOW_DUPLICATE_KEY, false);
     this.mapReduceJobId = JobID.forName(job.get(MAP_REDUCE_JOB_ID_PROP));
+    this.jobConf = job;
     this.valueSchemaId = props.getInt(VALUE_SCHEMA_ID_PROP);
     this.derivedValueSchemaId = (props.containsKey(DERIVED_SCHEMA_ID_PROP)) ? props.getInt(DERIVED_SCHEMA_ID_PROP) : -1;
     this.enableWriteCompute = (props.containsKey(ENABLE_WRITE_COMPUTE)) && props.getBoolean(ENABLE_WRITE_COMPUTE);
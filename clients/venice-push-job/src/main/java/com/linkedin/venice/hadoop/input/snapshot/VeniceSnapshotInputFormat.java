@@ -0,0 +1,60 @@
+package com.linkedin.venice.hadoop.input.snapshot;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.REPUSH_SNAPSHOT_DIR;
+import static com.linkedin.venice.hadoop.VenicePushJob.SNAPSHOT_INPUT_PARTITION_COUNT;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
+import java.io.IOException;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapred.InputFormat;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+
+
+/**
+ * This {@link InputFormat} implementation is used to repush from the partition snapshots of the source version created
+ * by the storage nodes, check {@link com.linkedin.venice.hadoop.VenicePushJob#REPUSH_SNAPSHOT_DIR}, and it produces
+ * the same records as {@link com.linkedin.venice.hadoop.input.kafka.KafkaInputFormat}, so the rest of the repush job is
+ * the same.
+ *
+ * There is one split per storage partition, and the split with index i is the snapshot of partition i, so the input is
+ * aligned with the reducers when the new version is partitioned the same way as the source version.
+ */
+public class VeniceSnapshotInputFormat implements InputFormat<KafkaInputMapperKey, KafkaInputMapperValue> {
+  /**
+   * {@param numSplits} is not being used in this function.
+   */
+  @Override
+  public InputSplit[] getSplits(JobConf job, int numSplits) throws IOException {
+    Path snapshotTopicDir = new Path(job.get(REPUSH_SNAPSHOT_DIR));
+    int partitionCount = job.getInt(SNAPSHOT_INPUT_PARTITION_COUNT, 0);
+    if (partitionCount <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid " + SNAPSHOT_INPUT_PARTITION_COUNT + " value [" + partitionCount + "]");
+    }
+    FileSystem fs = snapshotTopicDir.getFileSystem(job);
+    InputSplit[] splits = new InputSplit[partitionCount];
+    for (int partition = 0; partition < partitionCount; partition++) {
+      Path snapshotDir = new Path(snapshotTopicDir, Integer.toString(partition));
+      if (!fs.exists(snapshotDir)) {
+        throw new VeniceException("Snapshot of partition: " + partition + " doesn't exist in: " + snapshotTopicDir);
+      }
+      long length = fs.getContentSummary(snapshotDir).getLength();
+      splits[partition] = new VeniceSnapshotInputSplit(snapshotDir.toString(), partition, length);
+    }
+    return splits;
+  }
+
+  @Override
+  public RecordReader<KafkaInputMapperKey, KafkaInputMapperValue> getRecordReader(
+      InputSplit split,
+      JobConf job,
+      Reporter reporter) throws IOException {
+    return new VeniceSnapshotRecordReader(split, job, reporter);
+  }
+}
@@ -0,0 +1,71 @@
+package com.linkedin.venice.hadoop.input.snapshot;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import org.apache.hadoop.mapred.InputSplit;
+
+
+/**
+ * {@link InputSplit} that represents the snapshot of a single storage partition of the source version.
+ */
+public class VeniceSnapshotInputSplit implements InputSplit {
+  private String snapshotDir;
+  private int partition;
+  private long length;
+
+  /**
+   * Nullary Constructor for creating the instance inside the Mapper instance.
+   */
+  public VeniceSnapshotInputSplit() {
+  }
+
+  /**
+   * @param snapshotDir the directory of the snapshot
+   * @param partition   the storage partition of the snapshot
+   * @param length      the total size of the snapshot files
+   */
+  public VeniceSnapshotInputSplit(String snapshotDir, int partition, long length) {
+    this.snapshotDir = snapshotDir;
+    this.partition = partition;
+    this.length = length;
+  }
+
+  @Override
+  public long getLength() {
+    return length;
+  }
+
+  @Override
+  public String[] getLocations() {
+    // Leave empty since data locality not really an issue.
+    return new String[0];
+  }
+
+  public String getSnapshotDir() {
+    return snapshotDir;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  @Override
+  public void write(DataOutput out) throws IOException {
+    out.writeUTF(snapshotDir);
+    out.writeInt(partition);
+    out.writeLong(length);
+  }
+
+  @Override
+  public void readFields(DataInput in) throws IOException {
+    snapshotDir = in.readUTF();
+    partition = in.readInt();
+    length = in.readLong();
+  }
+
+  @Override
+  public String toString() {
+    return "{snapshotDir: " + snapshotDir + ", partition: " + partition + ", length: " + length + "}";
+  }
+}
@@ -0,0 +1,303 @@
+package com.linkedin.venice.hadoop.input.snapshot;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.MRJobCounterHelper;
+import com.linkedin.venice.hadoop.VenicePushJob;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
+import com.linkedin.venice.hadoop.input.kafka.avro.MapperValueType;
+import com.linkedin.venice.hadoop.input.kafka.chunk.ChunkKeyValueTransformer;
+import com.linkedin.venice.hadoop.input.kafka.chunk.ChunkKeyValueTransformerImpl;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.avro.Schema;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocalFileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+
+/**
+ * This class is used to read the snapshot of a storage partition, which is a RocksDB checkpoint, and it will return
+ * the same records as {@link com.linkedin.venice.hadoop.input.kafka.KafkaInputRecordReader}:
+ * 1. The keys with a value will be returned as 'PUT' with the RMD of the key if any.
+ * 2. The keys with only RMD will be returned as 'DELETE' with the RMD, since the RMD is kept for the deleted keys.
+ * 3. The chunked values will be assembled from the chunks of the manifest, and the chunks themselves will be skipped.
+ *
+ * The snapshot only contains one record per key, and the records are returned in the order of the keys. Since there
+ * is no offset in the snapshot, the position of the record in the snapshot will be used instead.
+ */
+public class VeniceSnapshotRecordReader implements RecordReader<KafkaInputMapperKey, KafkaInputMapperValue> {
+  private static final Logger LOGGER = LogManager.getLogger(VeniceSnapshotRecordReader.class);
+  private static final long LOG_RECORD_INTERVAL = 100000; // 100K
+  private static final ByteBuffer EMPTY_BYTE_BUFFER = ByteBuffer.wrap(new byte[0]);
+  /**
+   * The column family of the RMD in the storage nodes, check
+   * {@code com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition}.
+   */
+  private static final byte[] REPLICATION_METADATA_COLUMN_FAMILY = "timestamp_metadata".getBytes();
+  private static final int CHUNK_SCHEMA_ID = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+  private static final int CHUNKED_VALUE_MANIFEST_SCHEMA_ID =
+      AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion();
+
+  static {
+    RocksDB.loadLibrary();
+  }
+
+  private final VeniceSnapshotInputSplit inputSplit;
+  private final Reporter reporter;
+  private final int rmdVersionId;
+  private final ChunkKeyValueTransformer chunkKeyValueTransformer;
+  private final ChunkedValueManifestSerializer manifestSerializer = new ChunkedValueManifestSerializer(true);
+  /**
+   * The local copy of the snapshot, which will be deleted on close, or null if the snapshot is read in place.
+   */
+  private final File localCopyDir;
+  private final DBOptions dbOptions;
+  private final List<ColumnFamilyHandle> columnFamilyHandles = new ArrayList<>();
+  private final RocksDB rocksDB;
+  private final ColumnFamilyHandle valueColumnFamily;
+  private final RocksIterator valueIterator;
+  private final RocksIterator rmdIterator;
+  private final long estimatedKeyCount;
+  private long recordCount = 0;
+
+  public VeniceSnapshotRecordReader(InputSplit split, JobConf job, Reporter reporter) throws IOException {
+    if (!(split instanceof VeniceSnapshotInputSplit)) {
+      throw new VeniceException("InputSplit for RecordReader is not valid split type.");
+    }
+    this.inputSplit = (VeniceSnapshotInputSplit) split;
+    this.reporter = reporter;
+    this.rmdVersionId = job.getInt(VenicePushJob.SNAPSHOT_INPUT_RMD_VERSION_ID, -1);
+    if (job.getBoolean(VenicePushJob.KAFKA_INPUT_SOURCE_TOPIC_CHUNKING_ENABLED, false)) {
+      String keySchemaString = job.get(VenicePushJob.KAFKA_SOURCE_KEY_SCHEMA_STRING_PROP);
+      if (keySchemaString == null) {
+        throw new VeniceException(
+            "Expect a value for the config property: " + VenicePushJob.KAFKA_SOURCE_KEY_SCHEMA_STRING_PROP);
+      }
+      this.chunkKeyValueTransformer = new ChunkKeyValueTransformerImpl(Schema.parse(keySchemaString));
+    } else {
+      this.chunkKeyValueTransformer = null;
+    }
+
+    Path snapshotPath = new Path(inputSplit.getSnapshotDir());
+    FileSystem fs = snapshotPath.getFileSystem(job);
+    String localSnapshotDir;
+    if (fs instanceof LocalFileSystem) {
+      this.localCopyDir = null;
+      localSnapshotDir = snapshotPath.toUri().getPath();
+    } else {
+      // RocksDB could only open a local database.
+      this.localCopyDir = Files.createTempDirectory("venice-snapshot-" + inputSplit.getPartition()).toFile();
+      localSnapshotDir = new File(localCopyDir, snapshotPath.getName()).getAbsolutePath();
+      fs.copyToLocalFile(false, snapshotPath, new Path(localSnapshotDir), true);
+    }
+
+    this.dbOptions = new DBOptions();
+    try (Options options = new Options()) {
+      List<ColumnFamilyDescriptor> columnFamilyDescriptors = new ArrayList<>();
+      for (byte[] columnFamilyName: RocksDB.listColumnFamilies(options, localSnapshotDir)) {
+        columnFamilyDescriptors.add(new ColumnFamilyDescriptor(columnFamilyName));
+      }
+      this.rocksDB = RocksDB.openReadOnly(dbOptions, localSnapshotDir, columnFamilyDescriptors, columnFamilyHandles);
+      ColumnFamilyHandle defaultColumnFamily = null;
+      ColumnFamilyHandle rmdColumnFamily = null;
+      for (int i = 0; i < columnFamilyDescriptors.size(); i++) {
+        byte[] columnFamilyName = columnFamilyDescriptors.get(i).getName();
+        if (Arrays.equals(columnFamilyName, RocksDB.DEFAULT_COLUMN_FAMILY)) {
+          defaultColumnFamily = columnFamilyHandles.get(i);
+        } else if (Arrays.equals(columnFamilyName, REPLICATION_METADATA_COLUMN_FAMILY)) {
+          rmdColumnFamily = columnFamilyHandles.get(i);
+        }
+      }
+      this.valueColumnFamily = defaultColumnFamily;
+      this.estimatedKeyCount = rocksDB.getLongProperty(valueColumnFamily, "rocksdb.estimate-num-keys");
+    } catch (RocksDBException e) {
+      close();
+      throw new IOException("Failed to open snapshot: " + inputSplit, e);
+    }
+    this.valueIterator = rocksDB.newIterator(valueColumnFamily);
+    this.valueIterator.seekToFirst();
+    if (rmdColumnFamily != null) {
+      this.rmdIterator = rocksDB.newIterator(rmdColumnFamily);
+      this.rmdIterator.seekToFirst();
+    } else {
+      this.rmdIterator = null;
+    }
+    LOGGER.info("VeniceSnapshotRecordReader started for snapshot: {}", inputSplit);
+  }
+
+  @Override
+  public boolean next(KafkaInputMapperKey key, KafkaInputMapperValue value) throws IOException {
+    while (valueIterator.isValid() || (rmdIterator != null && rmdIterator.isValid())) {
+      byte[] storageKey;
+      byte[] storedValue = null;
+      byte[] storedRmd = null;
+      int compareResult;
+      if (!valueIterator.isValid()) {
+        compareResult = 1;
+      } else if (rmdIterator == null || !rmdIterator.isValid()) {
+        compareResult = -1;
+      } else {
+        byte[] valueKey = valueIterator.key();
+        byte[] rmdKey = rmdIterator.key();
+        compareResult = WritableComparator.compareBytes(valueKey, 0, valueKey.length, rmdKey, 0, rmdKey.length);
+      }
+      if (compareResult <= 0) {
+        storageKey = valueIterator.key();
+        storedValue = valueIterator.value();
+        valueIterator.next();
+      } else {
+        storageKey = rmdIterator.key();
+      }
+      if (compareResult >= 0) {
+        storedRmd = rmdIterator.value();
+        rmdIterator.next();
+      }
+
+      ChunkKeyValueTransformer.KeyType keyType = ChunkKeyValueTransformer.KeyType.WITH_FULL_VALUE;
+      if (storedValue != null) {
+        int schemaId = ByteUtils.readInt(storedValue, 0);
+        if (schemaId == CHUNK_SCHEMA_ID) {
+          // The chunks will be read along with the manifest.
+          continue;
+        }
+        value.valueType = MapperValueType.PUT;
+        if (schemaId == CHUNKED_VALUE_MANIFEST_SCHEMA_ID) {
+          keyType = ChunkKeyValueTransformer.KeyType.WITH_CHUNK_MANIFEST;
+          ChunkedValueManifest manifest = manifestSerializer.deserialize(
+              Arrays.copyOfRange(storedValue, ByteUtils.SIZE_OF_INT, storedValue.length),
+              CHUNKED_VALUE_MANIFEST_SCHEMA_ID);
+          value.schemaId = manifest.schemaId;
+          value.value = ByteBuffer.wrap(assembleChunks(manifest));
+        } else {
+          value.schemaId = schemaId;
+          value.value =
+              ByteBuffer.wrap(storedValue, ByteUtils.SIZE_OF_INT, storedValue.length - ByteUtils.SIZE_OF_INT);
+        }
+      } else {
+        // Only the RMD is kept for the deleted keys, which starts with the value schema id.
+        value.valueType = MapperValueType.DELETE;
+        value.schemaId = ByteUtils.readInt(storedRmd, 0);
+        value.value = EMPTY_BYTE_BUFFER;
+      }
+      if (storedRmd != null) {
+        value.replicationMetadataVersionId = rmdVersionId;
+        value.replicationMetadataPayload =
+            ByteBuffer.wrap(storedRmd, ByteUtils.SIZE_OF_INT, storedRmd.length - ByteUtils.SIZE_OF_INT);
+      } else {
+        value.replicationMetadataVersionId = -1;
+        value.replicationMetadataPayload = EMPTY_BYTE_BUFFER;
+      }
+      value.chunkedKeySuffix = null;
+      if (chunkKeyValueTransformer != null) {
+        key.key = chunkKeyValueTransformer.splitChunkedKey(storageKey, keyType).getRawKeyBytes();
+      } else {
+        key.key = ByteBuffer.wrap(storageKey);
+      }
+      key.offset = recordCount;
+      value.offset = recordCount;
+      recordCount++;
+
+      if (reporter != null && !reporter.equals(Reporter.NULL)) {
+        MRJobCounterHelper.incrTotalPutOrDeleteRecordCount(reporter, 1);
+      }
+      if (recordCount % LOG_RECORD_INTERVAL == 0) {
+        LOGGER.info("VeniceSnapshotRecordReader for snapshot: {} has processed {} records", inputSplit, recordCount);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private byte[] assembleChunks(ChunkedValueManifest manifest) throws IOException {
+    byte[] assembledValue = new byte[manifest.size];
+    int position = 0;
+    for (ByteBuffer chunkKey: manifest.keysWithChunkIdSuffix) {
+      byte[] chunk;
+      try {
+        chunk = rocksDB.get(valueColumnFamily, ByteUtils.extractByteArray(chunkKey));
+      } catch (RocksDBException e) {
+        throw new IOException("Failed to read chunk from snapshot: " + inputSplit, e);
+      }
+      if (chunk == null) {
+        throw new VeniceException("Chunk is missing in snapshot: " + inputSplit);
+      }
+      int chunkLength = chunk.length - ByteUtils.SIZE_OF_INT;
+      if (position + chunkLength > assembledValue.length) {
+        throw new VeniceException(
+            "Expect " + manifest.size + " byte(s) but got more from the chunks in snapshot: " + inputSplit);
+      }
+      System.arraycopy(chunk, ByteUtils.SIZE_OF_INT, assembledValue, position, chunkLength);
+      position += chunkLength;
+    }
+    if (position != assembledValue.length) {
+      throw new VeniceException(
+          "Expect " + manifest.size + " byte(s) but got " + position + " byte(s) from the chunks in snapshot: "
+              + inputSplit);
+    }
+    return assembledValue;
+  }
+
+  @Override
+  public KafkaInputMapperKey createKey() {
+    return new KafkaInputMapperKey();
+  }
+
+  @Override
+  public KafkaInputMapperValue createValue() {
+    return new KafkaInputMapperValue();
+  }
+
+  @Override
+  public long getPos() {
+    return recordCount;
+  }
+
+  @Override
+  public float getProgress() {
+    // The key count is estimated, and it includes the chunks.
+    return estimatedKeyCount > 0 ? Math.min(1.0f, (float) recordCount / estimatedKeyCount) : 0.0f;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (valueIterator != null) {
+      valueIterator.close();
+    }
+    if (rmdIterator != null) {
+      rmdIterator.close();
+    }
+    columnFamilyHandles.forEach(ColumnFamilyHandle::close);
+    if (rocksDB != null) {
+      rocksDB.close();
+    }
+    dbOptions.close();
+    if (localCopyDir != null) {
+      FileUtils.deleteDirectory(localCopyDir);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package com.linkedin.venice.hadoop.spark;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.spark.util.AccumulatorV2;
+
+
+/**
+ * Aggregates the task counters of a Spark data writer job into the job {@link Counters}, so the same counter checks in
+ * {@link com.linkedin.venice.hadoop.VenicePushJob} via {@link com.linkedin.venice.hadoop.MRJobCounterHelper} work for
+ * both engines. The counts are kept as nested maps since {@link Counters} is not {@link java.io.Serializable}.
+ *
+ * Spark only guarantees that the accumulator updates of a task are applied once in actions, while the mappers run in a
+ * transformation, whose updates are applied again if the map stage is re-computed, e.g. after a lost shuffle output.
+ * So the counters are tracked per task, i.e. per task type and partition, and a task reported more than once only
+ * counts with its latest attempt, the same as the task counters of a MapReduce job.
+ */
+public class CountersAccumulator extends AccumulatorV2<CountersAccumulator.TaskCounters, Counters> {
+  private static final long serialVersionUID = 1L;
+
+  private final HashMap<String, TaskCounts> countsByTask = new HashMap<>();
+
+  /**
+   * The counters of a task attempt, which is the input of the accumulator.
+   */
+  public static class TaskCounters {
+    private final TaskType taskType;
+    private final int partition;
+    private final int attemptNumber;
+    private final Counters counters;
+
+    public TaskCounters(TaskType taskType, int partition, int attemptNumber, Counters counters) {
+      this.taskType = taskType;
+      this.partition = partition;
+      this.attemptNumber = attemptNumber;
+      this.counters = counters;
+    }
+  }
+
+  private static class TaskCounts implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final int attemptNumber;
+    private final HashMap<String, HashMap<String, Long>> counts = new HashMap<>();
+
+    TaskCounts(int attemptNumber) {
+      this.attemptNumber = attemptNumber;
+    }
+  }
+
+  @Override
+  public boolean isZero() {
+    return countsByTask.isEmpty();
+  }
+
+  @Override
+  public CountersAccumulator copy() {
+    CountersAccumulator copy = new CountersAccumulator();
+    copy.mergeTaskCounts(countsByTask);
+    return copy;
+  }
+
+  @Override
+  public void reset() {
+    countsByTask.clear();
+  }
+
+  @Override
+  public void add(TaskCounters taskCounters) {
+    TaskCounts taskCounts = new TaskCounts(taskCounters.attemptNumber);
+    for (Counters.Group group: taskCounters.counters) {
+      for (Counters.Counter counter: group) {
+        taskCounts.counts.computeIfAbsent(group.getName(), g -> new HashMap<>())
+            .merge(counter.getName(), counter.getValue(), Long::sum);
+      }
+    }
+    mergeTaskCounts(taskCounters.taskType + "_" + taskCounters.partition, taskCounts);
+  }
+
+  @Override
+  public void merge(AccumulatorV2<TaskCounters, Counters> other) {
+    mergeTaskCounts(((CountersAccumulator) other).countsByTask);
+  }
+
+  @Override
+  public Counters value() {
+    Counters counters = new Counters();
+    countsByTask.values()
+        .forEach(
+            taskCounts -> taskCounts.counts.forEach(
+                (group, groupCounts) -> groupCounts
+                    .forEach((name, count) -> counters.incrCounter(group, name, count))));
+    return counters;
+  }
+
+  private void mergeTaskCounts(Map<String, TaskCounts> otherCountsByTask) {
+    otherCountsByTask.forEach(this::mergeTaskCounts);
+  }
+
+  private void mergeTaskCounts(String task, TaskCounts taskCounts) {
+    // Keep the latest attempt of a task, whose counts replace the ones of any earlier attempt.
+    countsByTask.merge(
+        task,
+        taskCounts,
+        (existing, other) -> other.attemptNumber >= existing.attemptNumber ? other : existing);
+  }
+}
@@ -0,0 +1,37 @@
+package com.linkedin.venice.hadoop.spark;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import org.apache.hadoop.mapred.JobConf;
+
+
+/**
+ * {@link JobConf} is a {@link org.apache.hadoop.io.Writable} but not a {@link Serializable}, so this wrapper is used to
+ * ship the {@link JobConf} of the push job to the Spark executors as part of the task closures.
+ */
+public class SerializableJobConf implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private transient JobConf jobConf;
+
+  public SerializableJobConf(JobConf jobConf) {
+    this.jobConf = jobConf;
+  }
+
+  public JobConf get() {
+    return jobConf;
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    jobConf.write(out);
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    jobConf = new JobConf(false);
+    jobConf.readFields(in);
+  }
+}
@@ -0,0 +1,105 @@
+package com.linkedin.venice.hadoop.spark;
+
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.Serializable;
+import java.util.Comparator;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.spark.Partitioner;
+
+
+/**
+ * The key of the shuffle between the mappers and the reducers of the Spark data writer.
+ *
+ * The reducer partition is computed by the mapper with the {@link org.apache.hadoop.mapred.Partitioner} of the job,
+ * e.g. {@link com.linkedin.venice.hadoop.VeniceMRPartitioner}, since it needs both the key and the value to route the
+ * records which make sure every reducer is instantiated. The key is kept in the serialized form of
+ * {@link BytesWritable}, so the raw comparators of the job can be used for sorting and grouping, the same as the
+ * MapReduce shuffle.
+ */
+public class ShuffleKey implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int partition;
+  private final byte[] serializedKey;
+
+  public ShuffleKey(int partition, BytesWritable key) {
+    this.partition = partition;
+    this.serializedKey = new byte[ByteUtils.SIZE_OF_INT + key.getLength()];
+    // The same format as BytesWritable#write
+    ByteUtils.writeInt(serializedKey, key.getLength(), 0);
+    System.arraycopy(key.getBytes(), 0, serializedKey, ByteUtils.SIZE_OF_INT, key.getLength());
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public byte[] getSerializedKey() {
+    return serializedKey;
+  }
+
+  public BytesWritable getKey() {
+    BytesWritable key = new BytesWritable();
+    key.set(serializedKey, ByteUtils.SIZE_OF_INT, serializedKey.length - ByteUtils.SIZE_OF_INT);
+    return key;
+  }
+
+  /**
+   * Routes the records to the reducer partition computed by the mapper.
+   */
+  public static class PartitionIdPartitioner extends Partitioner {
+    private static final long serialVersionUID = 1L;
+
+    private final int numPartitions;
+
+    public PartitionIdPartitioner(int numPartitions) {
+      this.numPartitions = numPartitions;
+    }
+
+    @Override
+    public int numPartitions() {
+      return numPartitions;
+    }
+
+    @Override
+    public int getPartition(Object key) {
+      return ((ShuffleKey) key).getPartition();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof PartitionIdPartitioner && ((PartitionIdPartitioner) o).numPartitions == numPartitions;
+    }
+
+    @Override
+    public int hashCode() {
+      return numPartitions;
+    }
+  }
+
+  /**
+   * Sorts the records within a reducer partition with the output key comparator of the job, check
+   * {@link org.apache.hadoop.mapred.JobConf#getOutputKeyComparator()}.
+   */
+  public static class RawKeyComparator implements Comparator<ShuffleKey>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final SerializableJobConf jobConf;
+    private transient RawComparator<?> comparator;
+
+    public RawKeyComparator(SerializableJobConf jobConf) {
+      this.jobConf = jobConf;
+    }
+
+    @Override
+    public int compare(ShuffleKey k1, ShuffleKey k2) {
+      if (comparator == null) {
+        comparator = jobConf.get().getOutputKeyComparator();
+      }
+      byte[] b1 = k1.getSerializedKey();
+      byte[] b2 = k2.getSerializedKey();
+      return comparator.compare(b1, 0, b1.length, b2, 0, b2.length);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.linkedin.venice.hadoop.spark;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.INPUT_ALIGNED_WITH_REDUCERS;
+import static com.linkedin.venice.hadoop.VenicePushJob.STORAGE_QUOTA_PROP;
+import static com.linkedin.venice.hadoop.VeniceReducer.MAP_REDUCE_JOB_ID_PROP;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.JobClientWrapper;
+import com.linkedin.venice.meta.Store;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.lib.NullOutputFormat;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaSparkContext;
+import scala.Option;
+
+
+/**
+ * Runs the data writer job of {@link com.linkedin.venice.hadoop.VenicePushJob} on Spark instead of MapReduce, check
+ * {@link com.linkedin.venice.hadoop.VenicePushJob#DATA_WRITER_ENGINE}.
+ *
+ * The job is executed with the same {@link JobConf} and the same classes as the MapReduce job, so the input formats,
+ * the validation and the compression in the mappers, the partitioning via
+ * {@link com.linkedin.venice.partitioner.VenicePartitioner} and the production in
+ * {@link com.linkedin.venice.hadoop.VeniceReducer} are all shared between the two engines:
+ * 1. The input splits are read via {@link JavaSparkContext#hadoopRDD} with the input format of the job.
+ * 2. The mapper of the job runs over each input partition, check {@link SparkMapperFunction}.
+ * 3. The map output is shuffled to the reducer partitions and sorted within each partition in memory (spilling only
+ *    under memory pressure) with the output key comparator of the job, check {@link ShuffleKey}.
+ * 4. The reducer of the job runs over each sorted partition, check {@link SparkReducerFunction}.
+ *
+ * If the input is aligned with the reducers, check
+ * {@link com.linkedin.venice.hadoop.VenicePushJob#INPUT_ALIGNED_WITH_REDUCERS}, the shuffle is skipped and the reducer
+ * runs right after the mapper over the same partition, e.g. for the repush from the partition snapshots.
+ *
+ * The task counters are aggregated into the {@link RunningJob} returned, so the push job validates the result the
+ * same way as a MapReduce job. The combiner of the job is not applied, which is allowed since a combiner is an
+ * optional optimization, and only jobs with reducers and {@link NullOutputFormat} are supported.
+ */
+public class SparkJobClientWrapper implements JobClientWrapper {
+  private static final Logger LOGGER = LogManager.getLogger(SparkJobClientWrapper.class);
+  static final int JOB_NUMBER = 1;
+
+  private final Map<String, String> sparkConfigs;
+
+  /**
+   * @param sparkConfigs configs applied on top of the Spark defaults, e.g. the ones passed by spark-submit.
+   */
+  public SparkJobClientWrapper(Map<String, String> sparkConfigs) {
+    this.sparkConfigs = sparkConfigs;
+  }
+
+  @Override
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public RunningJob runJobWithConfig(JobConf jobConf) throws IOException {
+    validateJobConf(jobConf);
+    // Hadoop task attempt ids can't have '_' in the job tracker id
+    String jobTrackerId = "spark" + System.currentTimeMillis();
+    JobID jobID = new JobID(jobTrackerId, JOB_NUMBER);
+    JobConf sparkJobConf = new JobConf(jobConf);
+    sparkJobConf.set(MAP_REDUCE_JOB_ID_PROP, jobID.toString());
+    /**
+     * The reducers check the storage quota against the map counters read via the MapReduce job client, which doesn't
+     * exist here, so the quota is only checked by the push job with the counters once the job completes.
+     */
+    sparkJobConf.set(STORAGE_QUOTA_PROP, Long.toString(Store.UNLIMITED_STORAGE_QUOTA));
+
+    SparkConf sparkConf = new SparkConf().setAppName(jobConf.getJobName());
+    sparkConfigs.forEach(sparkConf::set);
+    LOGGER.info("Running job: {} with ID: {} on Spark", jobConf.getJobName(), jobID);
+    try (JavaSparkContext sparkContext = new JavaSparkContext(sparkConf)) {
+      SerializableJobConf serializableJobConf = new SerializableJobConf(sparkJobConf);
+      CountersAccumulator countersAccumulator = new CountersAccumulator();
+      sparkContext.sc().register(countersAccumulator, jobConf.getJobName() + " counters");
+
+      JavaPairRDD<Object, Object> input = sparkContext.hadoopRDD(
+          sparkJobConf,
+          (Class) sparkJobConf.getInputFormat().getClass(),
+          Object.class,
+          Object.class,
+          Math.max(1, sparkJobConf.getNumMapTasks()));
+      JavaPairRDD<ShuffleKey, byte[]> mapOutput = input
+          .mapPartitionsToPair(new SparkMapperFunction(serializableJobConf, jobTrackerId, countersAccumulator));
+      if (isInputAlignedWithReducers(sparkJobConf, input.getNumPartitions())) {
+        LOGGER.info("Input of job: {} is aligned with the reducers, so the shuffle will be skipped", jobID);
+        mapOutput.foreachPartition(
+            new SparkReducerFunction(serializableJobConf, jobTrackerId, countersAccumulator, true));
+      } else {
+        mapOutput
+            .repartitionAndSortWithinPartitions(
+                new ShuffleKey.PartitionIdPartitioner(sparkJobConf.getNumReduceTasks()),
+                new ShuffleKey.RawKeyComparator(serializableJobConf))
+            .foreachPartition(
+                new SparkReducerFunction(serializableJobConf, jobTrackerId, countersAccumulator, false));
+      }
+
+      Option<String> uiWebUrl = sparkContext.sc().uiWebUrl();
+      LOGGER.info("Job: {} with ID: {} completed on Spark", jobConf.getJobName(), jobID);
+      return new SparkRunningJob(
+          sparkJobConf,
+          jobID,
+          uiWebUrl.isDefined() ? uiWebUrl.get() : null,
+          countersAccumulator.value());
+    } catch (Exception e) {
+      throw new IOException("Spark job: " + jobConf.getJobName() + " with ID: " + jobID + " failed", e);
+    }
+  }
+
+  private static boolean isInputAlignedWithReducers(JobConf jobConf, int inputPartitionCount) {
+    if (!jobConf.getBoolean(INPUT_ALIGNED_WITH_REDUCERS, false)) {
+      return false;
+    }
+    if (inputPartitionCount != jobConf.getNumReduceTasks()) {
+      LOGGER.warn(
+          "Input of job: {} has {} splits, which doesn't match {} reducers, so the shuffle can't be skipped",
+          jobConf.getJobName(),
+          inputPartitionCount,
+          jobConf.getNumReduceTasks());
+      return false;
+    }
+    return true;
+  }
+
+  private static void validateJobConf(JobConf jobConf) {
+    if (jobConf.getNumReduceTasks() <= 0) {
+      throw new VeniceException("Map-only jobs are not supported by the Spark data writer: " + jobConf.getJobName());
+    }
+    if (!(jobConf.getOutputFormat() instanceof NullOutputFormat)) {
+      throw new VeniceException(
+          "Output format: " + jobConf.getOutputFormat().getClass().getName()
+              + " is not supported by the Spark data writer, only " + NullOutputFormat.class.getName()
+              + " is supported");
+    }
+    if (jobConf.getCombinerClass() != null) {
+      LOGGER.info("Combiner: {} will not be applied by the Spark data writer", jobConf.getCombinerClass().getName());
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.linkedin.venice.hadoop.spark;
+
+import static com.linkedin.venice.hadoop.AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.spark.TaskContext;
+import org.apache.spark.api.java.function.PairFlatMapFunction;
+import scala.Tuple2;
+
+
+/**
+ * Runs the {@link Mapper} of the job, e.g. {@link com.linkedin.venice.hadoop.VeniceAvroMapper}, over a Spark partition
+ * of the input splits. The output is produced lazily record by record, so the whole output of a mapper is never held
+ * in memory, and every output record is tagged with the reducer partition computed by the {@link Partitioner} of the
+ * job, check {@link ShuffleKey}.
+ *
+ * The Spark partition id is used as the map task id, so the mapper with task id 0 will spray all the reducer
+ * partitions, the same as in MapReduce.
+ */
+public class SparkMapperFunction
+    implements PairFlatMapFunction<Iterator<Tuple2<Object, Object>>, ShuffleKey, byte[]> {
+  private static final long serialVersionUID = 1L;
+
+  private final SerializableJobConf jobConf;
+  private final String jobTrackerId;
+  private final CountersAccumulator countersAccumulator;
+
+  public SparkMapperFunction(
+      SerializableJobConf jobConf,
+      String jobTrackerId,
+      CountersAccumulator countersAccumulator) {
+    this.jobConf = jobConf;
+    this.jobTrackerId = jobTrackerId;
+    this.countersAccumulator = countersAccumulator;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Iterator<Tuple2<ShuffleKey, byte[]>> call(Iterator<Tuple2<Object, Object>> input) {
+    TaskContext taskContext = TaskContext.get();
+    JobConf taskConf = new JobConf(jobConf.get());
+    taskConf.set(
+        MAPRED_TASK_ID_PROP_NAME,
+        new TaskAttemptID(
+            jobTrackerId,
+            SparkJobClientWrapper.JOB_NUMBER,
+            TaskType.MAP,
+            taskContext.partitionId(),
+            taskContext.attemptNumber()).toString());
+    Mapper<Object, Object, BytesWritable, BytesWritable> mapper =
+        ReflectionUtils.newInstance(taskConf.getMapperClass(), taskConf);
+    Partitioner<BytesWritable, BytesWritable> partitioner =
+        ReflectionUtils.newInstance(taskConf.getPartitionerClass(), taskConf);
+    return new MapperOutputIterator(
+        input,
+        mapper,
+        partitioner,
+        taskConf.getNumReduceTasks(),
+        taskContext.partitionId(),
+        taskContext.attemptNumber());
+  }
+
+  private class MapperOutputIterator implements Iterator<Tuple2<ShuffleKey, byte[]>> {
+    private final Iterator<Tuple2<Object, Object>> input;
+    private final Mapper<Object, Object, BytesWritable, BytesWritable> mapper;
+    private final SparkTaskReporter reporter = new SparkTaskReporter();
+    private final Deque<Tuple2<ShuffleKey, byte[]>> buffer = new ArrayDeque<>();
+    private final OutputCollector<BytesWritable, BytesWritable> collector;
+    private final int partition;
+    private final int attemptNumber;
+    private boolean closed = false;
+
+    MapperOutputIterator(
+        Iterator<Tuple2<Object, Object>> input,
+        Mapper<Object, Object, BytesWritable, BytesWritable> mapper,
+        Partitioner<BytesWritable, BytesWritable> partitioner,
+        int numReduceTasks,
+        int partition,
+        int attemptNumber) {
+      this.input = input;
+      this.mapper = mapper;
+      this.partition = partition;
+      this.attemptNumber = attemptNumber;
+      // The mappers reuse the output key and value, so they have to be copied here.
+      this.collector = (key, value) -> buffer.add(
+          new Tuple2<>(
+              new ShuffleKey(partitioner.getPartition(key, value, numReduceTasks), key),
+              Arrays.copyOf(value.getBytes(), value.getLength())));
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        while (buffer.isEmpty() && !closed) {
+          if (input.hasNext()) {
+            // The record readers reuse the input key and value as well, so each of them is mapped right away.
+            Tuple2<Object, Object> record = input.next();
+            mapper.map(record._1(), record._2(), collector, reporter);
+          } else {
+            closed = true;
+            mapper.close();
+            reporter.setProgress(1.0f);
+            // The map stage could be re-computed, so the counters are tagged with the task to be counted once.
+            countersAccumulator.add(
+                new CountersAccumulator.TaskCounters(TaskType.MAP, partition, attemptNumber, reporter.getCounters()));
+          }
+        }
+      } catch (IOException e) {
+        throw new VeniceException("Failed to run mapper: " + mapper.getClass().getSimpleName(), e);
+      }
+      return !buffer.isEmpty();
+    }
+
+    @Override
+    public Tuple2<ShuffleKey, byte[]> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return buffer.poll();
+    }
+  }
+}
@@ -0,0 +1,195 @@
+package com.linkedin.venice.hadoop.spark;
+
+import static com.linkedin.venice.hadoop.AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.VeniceMRPartitioner;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.RawComparator;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.spark.TaskContext;
+import org.apache.spark.api.java.function.VoidFunction;
+import scala.Tuple2;
+
+
+/**
+ * Runs the {@link Reducer} of the job, e.g. {@link com.linkedin.venice.hadoop.VeniceReducer}, over a reducer partition
+ * which has been sorted by {@link ShuffleKey.RawKeyComparator}. The consecutive records are grouped with the output
+ * value grouping comparator of the job, the same as MapReduce, and the values of each group are streamed into the
+ * reducer without being buffered.
+ *
+ * The reducer is always configured and closed, even if the partition is empty, so every Venice partition will be
+ * closed the same way as a MapReduce reducer.
+ *
+ * If the input is aligned with the reducers, the reducer runs over the output of the mapper of the same partition
+ * without the shuffle. In that case, the records sprayed by the mapper to all the partitions are replaced by a single
+ * one for the current partition, so the reducer is invoked the same way as after a shuffle.
+ */
+public class SparkReducerFunction implements VoidFunction<Iterator<Tuple2<ShuffleKey, byte[]>>> {
+  private static final long serialVersionUID = 1L;
+
+  private final SerializableJobConf jobConf;
+  private final String jobTrackerId;
+  private final CountersAccumulator countersAccumulator;
+  private final boolean inputAlignedWithReducers;
+
+  public SparkReducerFunction(
+      SerializableJobConf jobConf,
+      String jobTrackerId,
+      CountersAccumulator countersAccumulator,
+      boolean inputAlignedWithReducers) {
+    this.jobConf = jobConf;
+    this.jobTrackerId = jobTrackerId;
+    this.countersAccumulator = countersAccumulator;
+    this.inputAlignedWithReducers = inputAlignedWithReducers;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void call(Iterator<Tuple2<ShuffleKey, byte[]>> input) throws IOException {
+    TaskContext taskContext = TaskContext.get();
+    JobConf taskConf = new JobConf(jobConf.get());
+    taskConf.set(
+        MAPRED_TASK_ID_PROP_NAME,
+        new TaskAttemptID(
+            jobTrackerId,
+            SparkJobClientWrapper.JOB_NUMBER,
+            TaskType.REDUCE,
+            taskContext.partitionId(),
+            taskContext.attemptNumber()).toString());
+    RawComparator<?> groupingComparator = taskConf.getOutputValueGroupingComparator();
+    Reducer<BytesWritable, BytesWritable, Object, Object> reducer =
+        ReflectionUtils.newInstance(taskConf.getReducerClass(), taskConf);
+    // Only NullOutputFormat is supported, check SparkJobClientWrapper
+    OutputCollector<Object, Object> collector = (key, value) -> {};
+    SparkTaskReporter reporter = new SparkTaskReporter();
+    try {
+      GroupedInput groupedInput = new GroupedInput(
+          inputAlignedWithReducers ? new AlignedInput(input, taskContext.partitionId()) : input,
+          groupingComparator);
+      while (groupedInput.hasNextGroup()) {
+        ShuffleKey groupKey = groupedInput.getCurrentKey();
+        Iterator<BytesWritable> values = groupedInput.nextGroup();
+        reducer.reduce(groupKey.getKey(), values, collector, reporter);
+        // Skip the values which are not consumed by the reducer.
+        while (values.hasNext()) {
+          values.next();
+        }
+      }
+      reporter.setProgress(1.0f);
+    } finally {
+      reducer.close();
+    }
+    countersAccumulator.add(
+        new CountersAccumulator.TaskCounters(
+            TaskType.REDUCE,
+            taskContext.partitionId(),
+            taskContext.attemptNumber(),
+            reporter.getCounters()));
+  }
+
+  /**
+   * Drops the records sprayed by the mapper, which have an empty key, and starts with one for the given partition.
+   */
+  private static class AlignedInput implements Iterator<Tuple2<ShuffleKey, byte[]>> {
+    private final Iterator<Tuple2<ShuffleKey, byte[]>> input;
+    private final int partition;
+    private Tuple2<ShuffleKey, byte[]> next;
+
+    AlignedInput(Iterator<Tuple2<ShuffleKey, byte[]>> input, int partition) {
+      this.input = input;
+      this.partition = partition;
+      byte[] sprayedValue = new byte[ByteUtils.SIZE_OF_INT];
+      ByteUtils.writeInt(sprayedValue, partition, 0);
+      this.next = new Tuple2<>(new ShuffleKey(partition, new BytesWritable()), sprayedValue);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && input.hasNext()) {
+        Tuple2<ShuffleKey, byte[]> record = input.next();
+        // The serialized key starts with the key length
+        if (record._1().getSerializedKey().length == ByteUtils.SIZE_OF_INT + VeniceMRPartitioner.EMPTY_KEY_LENGTH) {
+          continue;
+        }
+        if (record._1().getPartition() != partition) {
+          throw new VeniceException(
+              "Input is not aligned with the reducers, got a record of partition: " + record._1().getPartition()
+                  + " in partition: " + partition);
+        }
+        next = record;
+      }
+      return next != null;
+    }
+
+    @Override
+    public Tuple2<ShuffleKey, byte[]> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Tuple2<ShuffleKey, byte[]> record = next;
+      next = null;
+      return record;
+    }
+  }
+
+  private static class GroupedInput {
+    private final Iterator<Tuple2<ShuffleKey, byte[]>> input;
+    private final RawComparator<?> groupingComparator;
+    private Tuple2<ShuffleKey, byte[]> current;
+
+    GroupedInput(Iterator<Tuple2<ShuffleKey, byte[]>> input, RawComparator<?> groupingComparator) {
+      this.input = input;
+      this.groupingComparator = groupingComparator;
+      advance();
+    }
+
+    boolean hasNextGroup() {
+      return current != null;
+    }
+
+    ShuffleKey getCurrentKey() {
+      return current._1();
+    }
+
+    /**
+     * @return an iterator over the values of the current group, which is valid until the next call of this function.
+     */
+    Iterator<BytesWritable> nextGroup() {
+      byte[] groupKey = current._1().getSerializedKey();
+      return new Iterator<BytesWritable>() {
+        @Override
+        public boolean hasNext() {
+          if (current == null) {
+            return false;
+          }
+          byte[] key = current._1().getSerializedKey();
+          return groupingComparator.compare(groupKey, 0, groupKey.length, key, 0, key.length) == 0;
+        }
+
+        @Override
+        public BytesWritable next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          BytesWritable value = new BytesWritable(current._2());
+          advance();
+          return value;
+        }
+      };
+    }
+
+    private void advance() {
+      current = input.hasNext() ? input.next() : null;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+package com.linkedin.venice.hadoop.spark;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.JobID;
+import org.apache.hadoop.mapred.JobStatus;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TaskCompletionEvent;
+
+
+/**
+ * The {@link RunningJob} returned by {@link SparkJobClientWrapper}, which represents a data writer job that has
+ * finished successfully on Spark, the same as the one returned by {@link org.apache.hadoop.mapred.JobClient#runJob}.
+ * It mainly exposes the aggregated counters of the job to {@link com.linkedin.venice.hadoop.VenicePushJob}.
+ */
+public class SparkRunningJob implements RunningJob {
+  private final JobConf jobConf;
+  private final JobID jobID;
+  private final String trackingURL;
+  private final Counters counters;
+
+  public SparkRunningJob(JobConf jobConf, JobID jobID, String trackingURL, Counters counters) {
+    this.jobConf = jobConf;
+    this.jobID = jobID;
+    this.trackingURL = trackingURL;
+    this.counters = counters;
+  }
+
+  @Override
+  public Configuration getConfiguration() {
+    return jobConf;
+  }
+
+  @Override
+  public JobID getID() {
+    return jobID;
+  }
+
+  @Override
+  @Deprecated
+  public String getJobID() {
+    return jobID.toString();
+  }
+
+  @Override
+  public String getJobName() {
+    return jobConf.getJobName();
+  }
+
+  @Override
+  public String getJobFile() {
+    return null;
+  }
+
+  @Override
+  public String getTrackingURL() {
+    return trackingURL;
+  }
+
+  @Override
+  public float mapProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float reduceProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float cleanupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public float setupProgress() {
+    return 1.0f;
+  }
+
+  @Override
+  public boolean isComplete() {
+    return true;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return true;
+  }
+
+  @Override
+  public void waitForCompletion() {
+    // The Spark job has finished already
+  }
+
+  @Override
+  public int getJobState() {
+    return JobStatus.SUCCEEDED;
+  }
+
+  @Override
+  public JobStatus getJobStatus() {
+    return null;
+  }
+
+  @Override
+  public void killJob() {
+    // The Spark job has finished already
+  }
+
+  @Override
+  public void setJobPriority(String priority) {
+    // The Spark job has finished already
+  }
+
+  @Override
+  public TaskCompletionEvent[] getTaskCompletionEvents(int startFrom) {
+    return new TaskCompletionEvent[0];
+  }
+
+  @Override
+  public void killTask(TaskAttemptID taskId, boolean shouldFail) {
+    // The Spark job has finished already
+  }
+
+  @Override
+  @Deprecated
+  public void killTask(String taskId, boolean shouldFail) {
+    // The Spark job has finished already
+  }
+
+  @Override
+  public Counters getCounters() {
+    return counters;
+  }
+
+  @Override
+  public String[] getTaskDiagnostics(TaskAttemptID taskId) {
+    return new String[0];
+  }
+
+  @Override
+  public String getFailureInfo() {
+    return "";
+  }
+
+  @Override
+  public String getHistoryUrl() {
+    return trackingURL;
+  }
+
+  @Override
+  public boolean isRetired() {
+    return false;
+  }
+}
@@ -0,0 +1,67 @@
+package com.linkedin.venice.hadoop.spark;
+
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.Reporter;
+
+
+/**
+ * The {@link Reporter} passed to the mappers and reducers running on Spark. The counters are tracked locally in each
+ * task, the same as the task counters in MapReduce, and they will be merged into the {@link CountersAccumulator} of
+ * the job once the task finishes.
+ *
+ * The progress is 1.0 only after all the input of the task has been processed, which is checked by
+ * {@link com.linkedin.venice.hadoop.VeniceReducer} before ending the segments gracefully.
+ */
+public class SparkTaskReporter implements Reporter {
+  private final Counters counters = new Counters();
+  private volatile float progress = 0.0f;
+
+  @Override
+  public void setStatus(String status) {
+    // There is no task status in Spark
+  }
+
+  @Override
+  public synchronized Counters.Counter getCounter(Enum<?> name) {
+    return counters.findCounter(name);
+  }
+
+  @Override
+  public synchronized Counters.Counter getCounter(String group, String name) {
+    return counters.findCounter(group, name);
+  }
+
+  @Override
+  public synchronized void incrCounter(Enum<?> key, long amount) {
+    counters.incrCounter(key, amount);
+  }
+
+  @Override
+  public synchronized void incrCounter(String group, String counter, long amount) {
+    counters.incrCounter(group, counter, amount);
+  }
+
+  @Override
+  public InputSplit getInputSplit() throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("Input split is not available in the Spark data writer");
+  }
+
+  @Override
+  public float getProgress() {
+    return progress;
+  }
+
+  @Override
+  public void progress() {
+    // Spark doesn't kill the tasks without progress reports
+  }
+
+  void setProgress(float progress) {
+    this.progress = progress;
+  }
+
+  synchronized Counters getCounters() {
+    return counters;
+  }
+}
@@ -0,0 +1,83 @@
+package com.linkedin.venice.hadoop;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestCompressionStrategySelector {
+  private static final String[] WORDS = { "venice", "kafka", "storage", "compression", "dictionary", "push", "job" };
+  private static final List<Integer> ZSTD_LEVELS = Arrays.asList(1, 3);
+  private static final List<Integer> DICTIONARY_SIZES = Arrays.asList(1024, 4 * 1024);
+
+  private static List<byte[]> getRepetitiveSamples() {
+    Random random = new Random(42);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 400; i++) {
+      StringBuilder sb = new StringBuilder("{\"id\": ").append(i).append(", \"tags\": [");
+      for (int j = 0; j < 10; j++) {
+        sb.append("\"").append(WORDS[random.nextInt(WORDS.length)]).append("\", ");
+      }
+      samples.add(sb.append("]}").toString().getBytes());
+    }
+    return samples;
+  }
+
+  @Test
+  public void testStorageWeightFavorsTheCompressionRatio() throws IOException {
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(1, ZSTD_LEVELS, DICTIONARY_SIZES).select(getRepetitiveSamples());
+    Assert.assertEquals(selection.getCompressionStrategy(), CompressionStrategy.ZSTD_WITH_DICT);
+    Assert.assertTrue(ZSTD_LEVELS.contains(selection.getZstdCompressionLevel()));
+    Assert.assertTrue(DICTIONARY_SIZES.contains(selection.getZstdDictionarySizeLimit()));
+    Assert.assertNotNull(selection.getZstdDictionary());
+    Assert.assertTrue(selection.getCompressionRatio() > 1);
+  }
+
+  @Test
+  public void testCpuWeightFavorsTheDecompressionSpeed() throws IOException {
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(0, ZSTD_LEVELS, DICTIONARY_SIZES).select(getRepetitiveSamples());
+    Assert.assertEquals(selection.getCompressionStrategy(), CompressionStrategy.NO_OP);
+    Assert.assertEquals(selection.getZstdCompressionLevel(), -1);
+    Assert.assertNull(selection.getZstdDictionary());
+  }
+
+  @Test
+  public void testIncompressibleSamples() throws IOException {
+    Random random = new Random(42);
+    List<byte[]> samples = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      byte[] sample = new byte[512];
+      random.nextBytes(sample);
+      samples.add(sample);
+    }
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(1, ZSTD_LEVELS, DICTIONARY_SIZES).select(samples);
+    Assert.assertEquals(selection.getCompressionStrategy(), CompressionStrategy.NO_OP);
+    Assert.assertEquals(selection.getCompressionRatio(), 1.0, 0.0);
+  }
+
+  @Test
+  public void testTooFewSamples() throws IOException {
+    // Not enough samples to train a dictionary: only the strategies without dictionary are evaluated
+    List<byte[]> samples = getRepetitiveSamples().subList(0, 8);
+    CompressionStrategySelector.Selection selection =
+        new CompressionStrategySelector(1, ZSTD_LEVELS, DICTIONARY_SIZES).select(samples);
+    Assert.assertNotEquals(selection.getCompressionStrategy(), CompressionStrategy.ZSTD_WITH_DICT);
+
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new CompressionStrategySelector(1, ZSTD_LEVELS, DICTIONARY_SIZES).select(samples.subList(0, 2)));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> new CompressionStrategySelector(1.5, ZSTD_LEVELS, Collections.emptyList()));
+  }
+}
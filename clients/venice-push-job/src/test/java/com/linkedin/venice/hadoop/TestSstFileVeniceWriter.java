@@ -0,0 +1,137 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.utils.TestWriteUtils.getTempDataDirectory;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.kafka.validation.checksum.CheckSum;
+import com.linkedin.venice.kafka.validation.checksum.CheckSumType;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import com.linkedin.venice.store.rocksdb.SstBulkLoadManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.hadoop.conf.Configuration;
+import org.mockito.ArgumentCaptor;
+import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileReader;
+import org.rocksdb.SstFileReaderIterator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSstFileVeniceWriter {
+  private static final String TOPIC = "test_store_v1";
+  private static final int PARTITION = 3;
+  private static final int VALUE_SCHEMA_ID = 2;
+
+  @Test
+  public void testSstFilesAndManifestAreUploaded() throws IOException, RocksDBException {
+    File stagingDir = getTempDataDirectory();
+    PubSubProducerCallback callback = mock(PubSubProducerCallback.class);
+    int recordCount = 10;
+    // A small file size limit, so the records will be split into multiple SST files.
+    try (SstFileVeniceWriter writer =
+        new SstFileVeniceWriter(TOPIC, PARTITION, stagingDir.getAbsolutePath(), new Configuration(), 50)) {
+      for (int i = 0; i < recordCount; ++i) {
+        writer.put(getKey(i), getValue(i), VALUE_SCHEMA_ID, callback, null);
+      }
+    }
+    ArgumentCaptor<PubSubProduceResult> resultCaptor = ArgumentCaptor.forClass(PubSubProduceResult.class);
+    verify(callback, times(recordCount)).onCompletion(resultCaptor.capture(), isNull());
+    for (PubSubProduceResult result: resultCaptor.getAllValues()) {
+      Assert.assertEquals(result.getPartition(), PARTITION);
+    }
+
+    File partitionDir =
+        new File(RocksDBUtils.composeBulkLoadPartitionDir(stagingDir.getAbsolutePath(), PARTITION));
+    SstBulkLoadManifest manifest;
+    try (InputStream inputStream =
+        new FileInputStream(new File(partitionDir, SstBulkLoadManifest.MANIFEST_FILE_NAME))) {
+      manifest = SstBulkLoadManifest.readFrom(inputStream);
+    }
+    Assert.assertTrue(manifest.getSstFiles().size() > 1);
+
+    List<byte[]> keys = new ArrayList<>();
+    try (Options options = new Options(); ReadOptions readOptions = new ReadOptions()) {
+      for (SstBulkLoadManifest.SstFileInfo sstFile: manifest.getSstFiles()) {
+        CheckSum checksum = CheckSum.getInstance(CheckSumType.MD5).get();
+        long recordCountInFile = 0;
+        try (SstFileReader reader = new SstFileReader(options)) {
+          reader.open(new File(partitionDir, sstFile.getFileName()).getAbsolutePath());
+          try (SstFileReaderIterator iterator = reader.newIterator(readOptions)) {
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+              byte[] key = iterator.key();
+              byte[] value = iterator.value();
+              int index = keys.size();
+              Assert.assertEquals(key, getKey(index));
+              // The value should be prefixed with the value schema id, the same as the storage engine.
+              Assert.assertEquals(ByteUtils.readInt(value, 0), VALUE_SCHEMA_ID);
+              Assert.assertEquals(
+                  new String(value, ByteUtils.SIZE_OF_INT, value.length - ByteUtils.SIZE_OF_INT),
+                  new String(getValue(index)));
+              checksum.update(key);
+              checksum.update(value);
+              keys.add(key);
+              ++recordCountInFile;
+            }
+          }
+        }
+        Assert.assertEquals(recordCountInFile, sstFile.getRecordCount());
+        Assert.assertEquals(checksum.getCheckSum(), sstFile.getChecksum());
+      }
+    }
+    Assert.assertEquals(keys.size(), recordCount);
+  }
+
+  @Test
+  public void testNothingIsUploadedWithoutGracefulClose() throws IOException {
+    File stagingDir = getTempDataDirectory();
+    SstFileVeniceWriter writer =
+        new SstFileVeniceWriter(TOPIC, PARTITION, stagingDir.getAbsolutePath(), new Configuration());
+    writer.put(getKey(0), getValue(0), VALUE_SCHEMA_ID, mock(PubSubProducerCallback.class));
+    writer.close(false);
+    Assert.assertFalse(
+        new File(RocksDBUtils.composeBulkLoadPartitionDir(stagingDir.getAbsolutePath(), PARTITION)).exists());
+  }
+
+  @Test
+  public void testEmptyPartitionHasManifest() throws IOException {
+    File stagingDir = getTempDataDirectory();
+    new SstFileVeniceWriter(TOPIC, PARTITION, stagingDir.getAbsolutePath(), new Configuration()).close();
+    File manifestFile = new File(
+        RocksDBUtils.composeBulkLoadPartitionDir(stagingDir.getAbsolutePath(), PARTITION),
+        SstBulkLoadManifest.MANIFEST_FILE_NAME);
+    try (InputStream inputStream = new FileInputStream(manifestFile)) {
+      Assert.assertTrue(SstBulkLoadManifest.readFrom(inputStream).getSstFiles().isEmpty());
+    }
+  }
+
+  @Test(expectedExceptions = VeniceUnsupportedOperationException.class)
+  public void testDeleteIsNotSupported() throws IOException {
+    try (SstFileVeniceWriter writer =
+        new SstFileVeniceWriter(TOPIC, PARTITION, getTempDataDirectory().getAbsolutePath(), new Configuration())) {
+      writer.delete(getKey(0), mock(PubSubProducerCallback.class), null);
+    }
+  }
+
+  private static byte[] getKey(int i) {
+    // Zero-padded, so the lexicographical order of the keys is the same as the numerical order.
+    return String.format("key_%04d", i).getBytes();
+  }
+
+  private static byte[] getValue(int i) {
+    return ("value_" + i).getBytes();
+  }
+}
@@ -313,6 +313,11 @@ public class TestVeniceAvroMapper extends AbstractTestVeniceMapper<VeniceAvroMap
           eq(MRJobCounterHelper.TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
           eq(MRJobCounterHelper.TOTAL_ZSTD_WITH_DICT_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
           eq(zstdCompressedValueSize));
+
+      verify(mockReporter, times(1)).incrCounter(
+          eq(MRJobCounterHelper.TOTAL_LZ4_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getGroupName()),
+          eq(MRJobCounterHelper.TOTAL_LZ4_COMPRESSED_VALUE_SIZE_GROUP_COUNTER_NAME.getCounterName()),
+          anyLong());
     }
   }
 
@@ -0,0 +1,107 @@
+package com.linkedin.venice.hadoop;
+
+import static com.linkedin.venice.utils.TestWriteUtils.getTempDataDirectory;
+
+import com.linkedin.venice.etl.ETLValueSchemaTransformation;
+import com.linkedin.venice.hadoop.exceptions.VeniceSchemaFieldNotFoundException;
+import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
+import com.linkedin.venice.utils.Pair;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Properties;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceParquetRecordReader {
+  private static final Schema FILE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\": \"record\", \"name\": \"User\", \"namespace\": \"example.parquet\", \"fields\": ["
+          + " {\"name\": \"key\", \"type\": \"string\"},"
+          + " {\"name\": \"unused\", \"type\": \"string\"},"
+          + " {\"name\": \"value\", \"type\": \"string\"}]}");
+  private static final int RECORD_COUNT = 10;
+
+  @Test
+  public void testReadProjectedColumns() throws IOException {
+    File inputDir = getTempDataDirectory();
+    Path path = writeParquetFile(inputDir, RECORD_COUNT);
+    FileSystem fs = FileSystem.getLocal(new Configuration());
+    VeniceAvroKafkaSerializer serializer = new VeniceAvroKafkaSerializer("\"string\"");
+
+    try (VeniceParquetRecordReader recordReader = new VeniceParquetRecordReader(null, "key", "value", fs, path)) {
+      Assert.assertEquals(recordReader.getFileSchema(), FILE_SCHEMA);
+      Assert.assertEquals(recordReader.getRecordCount(), RECORD_COUNT);
+      Schema projectionSchema = recordReader.getProjectionSchema();
+      Assert.assertEquals(projectionSchema.getFullName(), FILE_SCHEMA.getFullName());
+      Assert.assertEquals(projectionSchema.getFields().size(), 2);
+      Assert.assertNull(projectionSchema.getField("unused"));
+
+      Iterator<Pair<byte[], byte[]>> iterator = recordReader.iterator();
+      for (int i = 0; i < RECORD_COUNT; ++i) {
+        Assert.assertTrue(iterator.hasNext());
+        Pair<byte[], byte[]> record = iterator.next();
+        Assert.assertEquals(record.getFirst(), serializer.serialize(null, "key_" + i));
+        Assert.assertEquals(record.getSecond(), serializer.serialize(null, "value_" + i));
+      }
+      Assert.assertFalse(iterator.hasNext());
+    }
+  }
+
+  @Test(expectedExceptions = VeniceSchemaFieldNotFoundException.class)
+  public void testMissingValueField() throws IOException {
+    File inputDir = getTempDataDirectory();
+    Path path = writeParquetFile(inputDir, 1);
+    new VeniceParquetRecordReader(null, "key", "missing", FileSystem.getLocal(new Configuration()), path);
+  }
+
+  @Test
+  public void testDetectParquetInput() throws Exception {
+    File inputDir = getTempDataDirectory();
+    writeParquetFile(inputDir, RECORD_COUNT);
+    VenicePushJob.PushJobSetting pushJobSetting = new VenicePushJob.PushJobSetting();
+    pushJobSetting.etlValueSchemaTransformation = ETLValueSchemaTransformation.NONE;
+    try (InputDataInfoProvider inputDataInfoProvider = new DefaultInputDataInfoProvider(
+        new VenicePushJob.StoreSetting(),
+        pushJobSetting,
+        new VeniceProperties(new Properties()))) {
+      InputDataInfoProvider.InputDataInfo inputDataInfo =
+          inputDataInfoProvider.validateInputAndGetInfo(inputDir.getAbsolutePath());
+      PushJobSchemaInfo schemaInfo = inputDataInfo.getSchemaInfo();
+      Assert.assertTrue(schemaInfo.isAvro());
+      Assert.assertTrue(schemaInfo.isParquet());
+      Assert.assertTrue(inputDataInfo.hasRecords());
+      Assert.assertEquals(schemaInfo.getKeySchemaString(), "\"string\"");
+      Assert.assertEquals(schemaInfo.getValueSchemaString(), "\"string\"");
+      // The mappers only read the key and value columns.
+      Schema mapperSchema = new Schema.Parser().parse(schemaInfo.getFileSchemaString());
+      Assert.assertEquals(mapperSchema.getFields().size(), 2);
+    }
+  }
+
+  private static Path writeParquetFile(File parentDir, int recordCount) throws IOException {
+    Path path = new Path(new File(parentDir, "input.parquet").getAbsolutePath());
+    try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(path)
+        .withSchema(FILE_SCHEMA)
+        .withDataModel(GenericData.get())
+        .build()) {
+      for (int i = 0; i < recordCount; ++i) {
+        GenericRecord record = new GenericData.Record(FILE_SCHEMA);
+        record.put("key", "key_" + i);
+        record.put("unused", "unused_" + i);
+        record.put("value", "value_" + i);
+        writer.write(record);
+      }
+    }
+    return path;
+  }
+}
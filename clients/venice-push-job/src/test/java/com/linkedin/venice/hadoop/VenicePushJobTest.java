@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
@@ -49,6 +50,7 @@ import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.exceptions.UndefinedPropertyException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.hadoop.exceptions.VeniceValidationException;
+import com.linkedin.venice.hadoop.output.avro.ValidateSchemaAndBuildDictMapperOutput;
 import com.linkedin.venice.meta.HybridStoreConfigImpl;
 import com.linkedin.venice.meta.StoreInfo;
 import com.linkedin.venice.meta.Version;
@@ -545,6 +547,31 @@ public class VenicePushJobTest {
 
   }
 
+  @Test
+  public void testEvaluateCompressionAutoSelectionEnabled() {
+    VenicePushJob.PushJobSetting pushJobSetting = new VenicePushJob.PushJobSetting();
+    VenicePushJob.StoreSetting storeSetting = new VenicePushJob.StoreSetting();
+    storeSetting.compressionStrategy = CompressionStrategy.NO_OP;
+
+    pushJobSetting.compressionAutoSelectionEnabled = false;
+    assertFalse(VenicePushJob.evaluateCompressionAutoSelectionEnabled(pushJobSetting, true));
+
+    pushJobSetting.compressionAutoSelectionEnabled = true;
+    assertFalse(VenicePushJob.evaluateCompressionAutoSelectionEnabled(pushJobSetting, false));
+
+    pushJobSetting.isSourceKafka = true;
+    assertFalse(VenicePushJob.evaluateCompressionAutoSelectionEnabled(pushJobSetting, true));
+    pushJobSetting.isSourceKafka = false;
+
+    pushJobSetting.isIncrementalPush = true;
+    assertFalse(VenicePushJob.evaluateCompressionAutoSelectionEnabled(pushJobSetting, true));
+    pushJobSetting.isIncrementalPush = false;
+
+    assertTrue(VenicePushJob.evaluateCompressionAutoSelectionEnabled(pushJobSetting, true));
+    // The candidates are evaluated on the samples collected for the dictionary
+    assertTrue(VenicePushJob.shouldBuildZstdCompressionDictionary(pushJobSetting, storeSetting, true));
+  }
+
   @Test
   public void testTargetedRegionPushConfigValidation() throws Exception {
     Properties props = getVpjRequiredProperties();
@@ -758,6 +785,34 @@ public class VenicePushJobTest {
     return versionCreationResponse;
   }
 
+  @Test
+  public void testSelectedCompressionStrategyIsRestoredOnFailure() {
+    ControllerClient client = getClient();
+    doReturn(new ControllerResponse()).when(client).updateStore(anyString(), any());
+    VenicePushJob pushJob = getSpyVenicePushJob(getVpjRequiredProperties(), client);
+    VenicePushJob.PushJobSetting pushJobSetting = pushJob.getPushJobSetting();
+    pushJobSetting.compressionAutoSelectionEnabled = true;
+    ValidateSchemaAndBuildDictMapperOutput mapperOutput = new ValidateSchemaAndBuildDictMapperOutput();
+    mapperOutput.setSelectedCompressionStrategy(CompressionStrategy.GZIP.getValue());
+    pushJob.setValidateSchemaAndBuildDictMapperOutput(mapperOutput);
+    VenicePushJob.StoreSetting storeSetting = new VenicePushJob.StoreSetting();
+    storeSetting.compressionStrategy = CompressionStrategy.NO_OP;
+
+    pushJob.applySelectedCompressionStrategy(client, pushJobSetting, storeSetting);
+    assertEquals(storeSetting.compressionStrategy, CompressionStrategy.GZIP);
+    verify(client).updateStore(
+        eq(TEST_STORE),
+        argThat(params -> params.getCompressionStrategy().equals(Optional.of(CompressionStrategy.GZIP))));
+
+    // The job failed before creating the new version, so the previous strategy is restored, only once.
+    pushJob.restoreCompressionStrategy(client, pushJobSetting);
+    pushJob.restoreCompressionStrategy(client, pushJobSetting);
+    verify(client).updateStore(
+        eq(TEST_STORE),
+        argThat(params -> params.getCompressionStrategy().equals(Optional.of(CompressionStrategy.NO_OP))));
+    verify(client, times(2)).updateStore(anyString(), any());
+  }
+
   private void skipVPJValidation(VenicePushJob pushJob) throws Exception {
     doReturn(getMockInputDataInfoProvider()).when(pushJob).getInputDataInfoProvider();
     doNothing().when(pushJob).validateKeySchema(any(), any(), any(), any());
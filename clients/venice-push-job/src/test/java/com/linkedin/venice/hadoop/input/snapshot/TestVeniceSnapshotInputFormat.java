@@ -0,0 +1,159 @@
+package com.linkedin.venice.hadoop.input.snapshot;
+
+import static com.linkedin.venice.hadoop.VenicePushJob.REPUSH_SNAPSHOT_DIR;
+import static com.linkedin.venice.hadoop.VenicePushJob.SNAPSHOT_INPUT_PARTITION_COUNT;
+import static com.linkedin.venice.hadoop.VenicePushJob.SNAPSHOT_INPUT_RMD_VERSION_ID;
+import static com.linkedin.venice.utils.TestWriteUtils.getTempDataDirectory;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperKey;
+import com.linkedin.venice.hadoop.input.kafka.avro.KafkaInputMapperValue;
+import com.linkedin.venice.hadoop.input.kafka.avro.MapperValueType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.hadoop.mapred.InputSplit;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.RecordReader;
+import org.apache.hadoop.mapred.Reporter;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.DBOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceSnapshotInputFormat {
+  private static final int RMD_VERSION_ID = 3;
+
+  @Test
+  public void testReadSnapshot() throws IOException, RocksDBException {
+    File snapshotTopicDir = getTempDataDirectory();
+    try (DBOptions options = new DBOptions().setCreateIfMissing(true).setCreateMissingColumnFamilies(true)) {
+      List<ColumnFamilyDescriptor> descriptors = Arrays.asList(
+          new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY),
+          new ColumnFamilyDescriptor("timestamp_metadata".getBytes()));
+      List<ColumnFamilyHandle> handles = new ArrayList<>();
+      try (RocksDB db = RocksDB.open(options, new File(snapshotTopicDir, "0").getPath(), descriptors, handles)) {
+        ColumnFamilyHandle valueColumnFamily = handles.get(0);
+        ColumnFamilyHandle rmdColumnFamily = handles.get(1);
+        // Value with RMD
+        db.put(valueColumnFamily, "key_a".getBytes(), withSchemaId(1, "value_a"));
+        db.put(rmdColumnFamily, "key_a".getBytes(), withSchemaId(1, "rmd_a"));
+        // Deleted key with RMD only
+        db.put(rmdColumnFamily, "key_b".getBytes(), withSchemaId(2, "rmd_b"));
+        // Value without RMD
+        db.put(valueColumnFamily, "key_c".getBytes(), withSchemaId(1, "value_c"));
+        // Chunked value
+        int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+        db.put(valueColumnFamily, "key_d_chunk_0".getBytes(), withSchemaId(chunkSchemaId, "value"));
+        db.put(valueColumnFamily, "key_d_chunk_1".getBytes(), withSchemaId(chunkSchemaId, "_d"));
+        ChunkedValueManifest manifest = new ChunkedValueManifest();
+        manifest.schemaId = 2;
+        manifest.size = "value_d".length();
+        manifest.keysWithChunkIdSuffix =
+            Arrays.asList(ByteBuffer.wrap("key_d_chunk_0".getBytes()), ByteBuffer.wrap("key_d_chunk_1".getBytes()));
+        byte[] manifestBytes = new ChunkedValueManifestSerializer(true).serialize("", manifest);
+        byte[] storedManifest = new byte[ByteUtils.SIZE_OF_INT + manifestBytes.length];
+        int manifestSchemaId = AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion();
+        ByteUtils.writeInt(storedManifest, manifestSchemaId, 0);
+        System.arraycopy(manifestBytes, 0, storedManifest, ByteUtils.SIZE_OF_INT, manifestBytes.length);
+        db.put(valueColumnFamily, "key_d".getBytes(), storedManifest);
+        handles.forEach(ColumnFamilyHandle::close);
+      }
+    }
+
+    JobConf jobConf = getJobConf(snapshotTopicDir, 1);
+    VeniceSnapshotInputFormat inputFormat = new VeniceSnapshotInputFormat();
+    InputSplit[] splits = inputFormat.getSplits(jobConf, 1);
+    Assert.assertEquals(splits.length, 1);
+    Assert.assertEquals(((VeniceSnapshotInputSplit) splits[0]).getPartition(), 0);
+
+    List<String> keys = new ArrayList<>();
+    RecordReader<KafkaInputMapperKey, KafkaInputMapperValue> reader =
+        inputFormat.getRecordReader(splits[0], jobConf, Reporter.NULL);
+    try {
+      KafkaInputMapperKey key = reader.createKey();
+      KafkaInputMapperValue value = reader.createValue();
+      while (reader.next(key, value)) {
+        String keyString = toString(key.key);
+        keys.add(keyString);
+        Assert.assertEquals(key.offset, value.offset);
+        switch (keyString) {
+          case "key_a":
+            verifyValue(value, MapperValueType.PUT, 1, "value_a", "rmd_a");
+            break;
+          case "key_b":
+            verifyValue(value, MapperValueType.DELETE, 2, "", "rmd_b");
+            break;
+          case "key_c":
+            verifyValue(value, MapperValueType.PUT, 1, "value_c", null);
+            break;
+          case "key_d":
+            verifyValue(value, MapperValueType.PUT, 2, "value_d", null);
+            break;
+          default:
+            Assert.fail("Unexpected key: " + keyString);
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    // The chunks shouldn't be returned.
+    Assert.assertEquals(keys, Arrays.asList("key_a", "key_b", "key_c", "key_d"));
+  }
+
+  @Test(expectedExceptions = VeniceException.class, expectedExceptionsMessageRegExp = ".*partition: 1 doesn't exist.*")
+  public void testMissingPartitionSnapshot() throws IOException {
+    File snapshotTopicDir = getTempDataDirectory();
+    Assert.assertTrue(new File(snapshotTopicDir, "0").mkdir());
+    new VeniceSnapshotInputFormat().getSplits(getJobConf(snapshotTopicDir, 2), 1);
+  }
+
+  private static JobConf getJobConf(File snapshotTopicDir, int partitionCount) {
+    JobConf jobConf = new JobConf();
+    jobConf.set(REPUSH_SNAPSHOT_DIR, snapshotTopicDir.getAbsolutePath());
+    jobConf.setInt(SNAPSHOT_INPUT_PARTITION_COUNT, partitionCount);
+    jobConf.setInt(SNAPSHOT_INPUT_RMD_VERSION_ID, RMD_VERSION_ID);
+    return jobConf;
+  }
+
+  private static byte[] withSchemaId(int schemaId, String value) {
+    byte[] bytes = new byte[ByteUtils.SIZE_OF_INT + value.length()];
+    ByteUtils.writeInt(bytes, schemaId, 0);
+    System.arraycopy(value.getBytes(), 0, bytes, ByteUtils.SIZE_OF_INT, value.length());
+    return bytes;
+  }
+
+  private static String toString(ByteBuffer byteBuffer) {
+    return new String(ByteUtils.extractByteArray(byteBuffer));
+  }
+
+  private static void verifyValue(
+      KafkaInputMapperValue value,
+      MapperValueType valueType,
+      int schemaId,
+      String expectedValue,
+      String expectedRmd) {
+    Assert.assertEquals(value.valueType, valueType);
+    Assert.assertEquals(value.schemaId, schemaId);
+    Assert.assertEquals(toString(value.value), expectedValue);
+    Assert.assertNull(value.chunkedKeySuffix);
+    if (expectedRmd == null) {
+      Assert.assertEquals(value.replicationMetadataVersionId, -1);
+      Assert.assertEquals(value.replicationMetadataPayload.remaining(), 0);
+    } else {
+      Assert.assertEquals(value.replicationMetadataVersionId, RMD_VERSION_ID);
+      Assert.assertEquals(toString(value.replicationMetadataPayload), expectedRmd);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.linkedin.venice.hadoop.spark;
+
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapreduce.TaskType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestCountersAccumulator {
+  private static final String COUNTER_GROUP = "test";
+  private static final String RECORDS = "records";
+
+  private static CountersAccumulator.TaskCounters getTaskCounters(
+      TaskType taskType,
+      int partition,
+      int attemptNumber,
+      long records) {
+    Counters counters = new Counters();
+    counters.incrCounter(COUNTER_GROUP, RECORDS, records);
+    return new CountersAccumulator.TaskCounters(taskType, partition, attemptNumber, counters);
+  }
+
+  private static long getRecords(CountersAccumulator accumulator) {
+    return accumulator.value().getGroup(COUNTER_GROUP).getCounter(RECORDS);
+  }
+
+  @Test
+  public void testCountersOfDifferentTasksAreSummed() {
+    CountersAccumulator accumulator = new CountersAccumulator();
+    Assert.assertTrue(accumulator.isZero());
+    accumulator.add(getTaskCounters(TaskType.MAP, 0, 0, 10));
+    accumulator.add(getTaskCounters(TaskType.MAP, 1, 0, 20));
+    accumulator.add(getTaskCounters(TaskType.REDUCE, 0, 0, 5));
+    Assert.assertFalse(accumulator.isZero());
+    Assert.assertEquals(getRecords(accumulator), 35);
+  }
+
+  @Test
+  public void testRecomputedTaskIsCountedOnce() {
+    CountersAccumulator accumulator = new CountersAccumulator();
+    accumulator.add(getTaskCounters(TaskType.MAP, 0, 0, 10));
+
+    // The same map task reported again by a re-computed stage, merged from another executor.
+    CountersAccumulator recomputed = accumulator.copy();
+    recomputed.reset();
+    recomputed.add(getTaskCounters(TaskType.MAP, 0, 1, 10));
+    accumulator.merge(recomputed);
+    Assert.assertEquals(getRecords(accumulator), 10);
+
+    // An earlier attempt merged late doesn't replace the latest one.
+    CountersAccumulator stale = new CountersAccumulator();
+    stale.add(getTaskCounters(TaskType.MAP, 0, 0, 7));
+    accumulator.merge(stale);
+    Assert.assertEquals(getRecords(accumulator), 10);
+  }
+}
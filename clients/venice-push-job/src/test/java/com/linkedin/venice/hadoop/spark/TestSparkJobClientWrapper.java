@@ -0,0 +1,214 @@
+package com.linkedin.venice.hadoop.spark;
+
+import static com.linkedin.venice.hadoop.AbstractMapReduceTask.MAPRED_TASK_ID_PROP_NAME;
+import static com.linkedin.venice.utils.TestWriteUtils.getTempDataDirectory;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.LongWritable;
+import org.apache.hadoop.io.Text;
+import org.apache.hadoop.io.WritableComparator;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.FileInputFormat;
+import org.apache.hadoop.mapred.JobConf;
+import org.apache.hadoop.mapred.MapReduceBase;
+import org.apache.hadoop.mapred.Mapper;
+import org.apache.hadoop.mapred.OutputCollector;
+import org.apache.hadoop.mapred.Partitioner;
+import org.apache.hadoop.mapred.Reducer;
+import org.apache.hadoop.mapred.Reporter;
+import org.apache.hadoop.mapred.RunningJob;
+import org.apache.hadoop.mapred.TaskAttemptID;
+import org.apache.hadoop.mapred.TextInputFormat;
+import org.apache.hadoop.mapred.lib.NullOutputFormat;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+/**
+ * Runs MapReduce jobs with {@link SparkJobClientWrapper} in Spark local mode.
+ */
+public class TestSparkJobClientWrapper {
+  private static final String COUNTER_GROUP = "test";
+  private static final String MAPPED_RECORDS = "mapped records";
+  private static final String REDUCED_GROUPS = "reduced groups";
+  private static final String CLOSED_REDUCERS = "closed reducers";
+  private static final int REDUCER_COUNT = 3;
+
+  // The tasks run in the same JVM in local mode
+  private static final Map<Integer, List<String>> KEYS_BY_PARTITION = new ConcurrentHashMap<>();
+  private static final Map<String, Integer> VALUE_COUNT_BY_KEY = new ConcurrentHashMap<>();
+
+  @BeforeMethod
+  public void setUp() {
+    KEYS_BY_PARTITION.clear();
+    VALUE_COUNT_BY_KEY.clear();
+  }
+
+  @Test
+  public void testMapShuffleAndReduce() throws IOException {
+    int keyCount = 100;
+    int duplicateCount = 3;
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < keyCount; ++i) {
+      for (int j = 0; j < duplicateCount; ++j) {
+        lines.add(String.format("key_%03d", i));
+      }
+    }
+    // Make sure the input isn't sorted.
+    Collections.shuffle(lines);
+    JobConf jobConf = getJobConf(writeInput(lines), TestMapper.class);
+
+    RunningJob runningJob = getSparkJobClientWrapper().runJobWithConfig(jobConf);
+    Assert.assertTrue(runningJob.isSuccessful());
+    Counters counters = runningJob.getCounters();
+    Assert.assertEquals(counters.getGroup(COUNTER_GROUP).getCounter(MAPPED_RECORDS), keyCount * duplicateCount);
+    Assert.assertEquals(counters.getGroup(COUNTER_GROUP).getCounter(REDUCED_GROUPS), keyCount);
+    // Every reducer should be closed after all its input is processed.
+    Assert.assertEquals(counters.getGroup(COUNTER_GROUP).getCounter(CLOSED_REDUCERS), REDUCER_COUNT);
+
+    Assert.assertEquals(VALUE_COUNT_BY_KEY.size(), keyCount);
+    VALUE_COUNT_BY_KEY.values().forEach(count -> Assert.assertEquals((int) count, duplicateCount));
+    for (List<String> keys: KEYS_BY_PARTITION.values()) {
+      List<String> sortedKeys = new ArrayList<>(keys);
+      Collections.sort(sortedKeys);
+      Assert.assertEquals(keys, sortedKeys);
+    }
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testMapperFailure() throws IOException {
+    JobConf jobConf = getJobConf(writeInput(Collections.singletonList("key")), FailingMapper.class);
+    getSparkJobClientWrapper().runJobWithConfig(jobConf);
+  }
+
+  @Test(expectedExceptions = VeniceException.class)
+  public void testMapOnlyJobIsNotSupported() throws IOException {
+    JobConf jobConf = getJobConf(writeInput(Collections.singletonList("key")), TestMapper.class);
+    jobConf.setNumReduceTasks(0);
+    getSparkJobClientWrapper().runJobWithConfig(jobConf);
+  }
+
+  private static SparkJobClientWrapper getSparkJobClientWrapper() {
+    Map<String, String> sparkConfigs = new HashMap<>();
+    sparkConfigs.put("spark.master", "local[2]");
+    sparkConfigs.put("spark.driver.host", "localhost");
+    sparkConfigs.put("spark.ui.enabled", "false");
+    return new SparkJobClientWrapper(sparkConfigs);
+  }
+
+  private static String writeInput(List<String> lines) throws IOException {
+    File inputDir = getTempDataDirectory();
+    try (PrintWriter writer = new PrintWriter(new File(inputDir, "input.txt"))) {
+      lines.forEach(writer::println);
+    }
+    return inputDir.getAbsolutePath();
+  }
+
+  private static JobConf getJobConf(String inputDir, Class<? extends Mapper> mapperClass) {
+    JobConf jobConf = new JobConf();
+    jobConf.setJobName("test_spark_job");
+    FileInputFormat.setInputPaths(jobConf, new Path(inputDir));
+    jobConf.setInputFormat(TextInputFormat.class);
+    jobConf.setMapperClass(mapperClass);
+    jobConf.setMapOutputKeyClass(BytesWritable.class);
+    jobConf.setMapOutputValueClass(BytesWritable.class);
+    jobConf.setPartitionerClass(TestPartitioner.class);
+    jobConf.setNumReduceTasks(REDUCER_COUNT);
+    jobConf.setReducerClass(TestReducer.class);
+    jobConf.setOutputFormat(NullOutputFormat.class);
+    return jobConf;
+  }
+
+  public static class TestMapper extends MapReduceBase
+      implements Mapper<LongWritable, Text, BytesWritable, BytesWritable> {
+    // Reused, the same as the Venice mappers
+    private final BytesWritable keyBW = new BytesWritable();
+    private final BytesWritable valueBW = new BytesWritable(new byte[] { 1 });
+
+    @Override
+    public void map(
+        LongWritable offset,
+        Text line,
+        OutputCollector<BytesWritable, BytesWritable> output,
+        Reporter reporter) throws IOException {
+      keyBW.set(line.getBytes(), 0, line.getLength());
+      output.collect(keyBW, valueBW);
+      reporter.incrCounter(COUNTER_GROUP, MAPPED_RECORDS, 1);
+    }
+  }
+
+  public static class FailingMapper extends TestMapper {
+    @Override
+    public void map(
+        LongWritable offset,
+        Text line,
+        OutputCollector<BytesWritable, BytesWritable> output,
+        Reporter reporter) throws IOException {
+      throw new IOException("Expected failure");
+    }
+  }
+
+  public static class TestPartitioner implements Partitioner<BytesWritable, BytesWritable> {
+    @Override
+    public int getPartition(BytesWritable key, BytesWritable value, int numPartitions) {
+      return (WritableComparator.hashBytes(key.getBytes(), key.getLength()) & Integer.MAX_VALUE) % numPartitions;
+    }
+
+    @Override
+    public void configure(JobConf job) {
+    }
+  }
+
+  public static class TestReducer extends MapReduceBase
+      implements Reducer<BytesWritable, BytesWritable, Object, Object> {
+    private final TestPartitioner partitioner = new TestPartitioner();
+    private int partition;
+    private Reporter reporter;
+
+    @Override
+    public void configure(JobConf job) {
+      partition = TaskAttemptID.forName(job.get(MAPRED_TASK_ID_PROP_NAME)).getTaskID().getId();
+      KEYS_BY_PARTITION.put(partition, Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    @Override
+    public void reduce(
+        BytesWritable key,
+        Iterator<BytesWritable> values,
+        OutputCollector<Object, Object> output,
+        Reporter reporter) {
+      this.reporter = reporter;
+      Assert.assertEquals(partitioner.getPartition(key, null, REDUCER_COUNT), partition);
+      String keyString = new String(key.getBytes(), 0, key.getLength());
+      KEYS_BY_PARTITION.get(partition).add(keyString);
+      int valueCount = 0;
+      while (values.hasNext()) {
+        values.next();
+        ++valueCount;
+      }
+      VALUE_COUNT_BY_KEY.merge(keyString, valueCount, Integer::sum);
+      reporter.incrCounter(COUNTER_GROUP, REDUCED_GROUPS, 1);
+    }
+
+    @Override
+    public void close() {
+      if (reporter != null) {
+        Assert.assertEquals(reporter.getProgress(), 1.0f);
+        reporter.incrCounter(COUNTER_GROUP, CLOSED_REDUCERS, 1);
+      }
+    }
+  }
+}
@@ -1,31 +1,32 @@
 package com.linkedin.venice.client.stats;
 
+import static com.linkedin.venice.stats.StripedSensor.StatType.AVG;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MAX;
+import static com.linkedin.venice.stats.StripedSensor.StatType.OCCURRENCE_RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.RATE;
+
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AbstractVeniceHttpStats;
+import com.linkedin.venice.stats.StripedSensor;
 import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.Measurable;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
-import io.tehuti.metrics.stats.Avg;
-import io.tehuti.metrics.stats.Max;
-import io.tehuti.metrics.stats.OccurrenceRate;
-import io.tehuti.metrics.stats.Rate;
 
 
 /**
  * This class offers very basic metrics for client, and right now, it is directly used by DaVinci.
  */
 public class BasicClientStats extends AbstractVeniceHttpStats {
-  private final Sensor requestSensor;
-  private final Sensor healthySensor;
-  private final Sensor unhealthySensor;
-  private final Sensor healthyRequestLatencySensor;
-  private final Sensor requestKeyCountSensor;
-  private final Sensor successRequestKeyCountSensor;
+  private final StripedSensor requestSensor;
+  private final StripedSensor healthySensor;
+  private final StripedSensor unhealthySensor;
+  private final StripedSensor healthyRequestLatencySensor;
+  private final StripedSensor requestKeyCountSensor;
+  private final StripedSensor successRequestKeyCountSensor;
   private final Sensor successRequestRatioSensor;
   private final Sensor successRequestKeyRatioSensor;
-  private final Rate requestRate = new OccurrenceRate();
-  private final Rate successRequestKeyCountRate = new Rate();
 
   public static BasicClientStats getClientStats(
       MetricsRepository metricsRepository,
@@ -39,21 +40,20 @@ public class BasicClientStats extends AbstractVeniceHttpStats {
 
   protected BasicClientStats(MetricsRepository metricsRepository, String storeName, RequestType requestType) {
     super(metricsRepository, storeName, requestType);
-    requestSensor = registerSensor("request", requestRate);
-    Rate healthyRequestRate = new OccurrenceRate();
-    healthySensor = registerSensor("healthy_request", healthyRequestRate);
-    unhealthySensor = registerSensor("unhealthy_request", new OccurrenceRate());
-    healthyRequestLatencySensor = registerSensorWithDetailedPercentiles("healthy_request_latency", new Avg());
-    successRequestRatioSensor =
-        registerSensor("success_request_ratio", new TehutiUtils.SimpleRatioStat(healthyRequestRate, requestRate));
-    Rate requestKeyCountRate = new Rate();
-    requestKeyCountSensor = registerSensor("request_key_count", requestKeyCountRate, new Avg(), new Max());
-    successRequestKeyCountSensor =
-        registerSensor("success_request_key_count", successRequestKeyCountRate, new Avg(), new Max());
+    // The sensors recorded by every request are lock-free to avoid the contention among the application threads.
+    requestSensor = registerStripedSensor("request", OCCURRENCE_RATE);
+    healthySensor = registerStripedSensor("healthy_request", OCCURRENCE_RATE);
+    unhealthySensor = registerStripedSensor("unhealthy_request", OCCURRENCE_RATE);
+    healthyRequestLatencySensor = registerStripedSensorWithDetailedPercentiles("healthy_request_latency", AVG);
+    successRequestRatioSensor = registerSensor(
+        "success_request_ratio",
+        new TehutiUtils.SimpleRatioStat(getHealthyRequestRate(), getRequestRate()));
+    requestKeyCountSensor = registerStripedSensor("request_key_count", RATE, AVG, MAX);
+    successRequestKeyCountSensor = registerStripedSensor("success_request_key_count", RATE, AVG, MAX);
 
     successRequestKeyRatioSensor = registerSensor(
         "success_request_key_ratio",
-        new TehutiUtils.SimpleRatioStat(successRequestKeyCountRate, requestKeyCountRate));
+        new TehutiUtils.SimpleRatioStat(getSuccessRequestKeyCountRate(), requestKeyCountSensor.asMeasurable(RATE)));
   }
 
   private void recordRequest() {
@@ -82,11 +82,15 @@ public class BasicClientStats extends AbstractVeniceHttpStats {
     successRequestKeyCountSensor.record(successKeyCount);
   }
 
-  protected final Rate getRequestRate() {
-    return requestRate;
+  protected final Measurable getRequestRate() {
+    return requestSensor.asMeasurable(OCCURRENCE_RATE);
+  }
+
+  private Measurable getHealthyRequestRate() {
+    return healthySensor.asMeasurable(OCCURRENCE_RATE);
   }
 
-  protected final Rate getSuccessRequestKeyCountRate() {
-    return successRequestKeyCountRate;
+  protected final Measurable getSuccessRequestKeyCountRate() {
+    return successRequestKeyCountSensor.asMeasurable(RATE);
   }
 }
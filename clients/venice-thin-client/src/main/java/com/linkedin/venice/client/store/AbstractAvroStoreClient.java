@@ -5,6 +5,7 @@ import static com.linkedin.venice.HttpConstants.VENICE_KEY_COUNT;
 import static com.linkedin.venice.VeniceConstants.COMPUTE_REQUEST_VERSION_V2;
 import static com.linkedin.venice.streaming.StreamingConstants.KEY_ID_FOR_STREAMING_FOOTER;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelperCommon;
 import com.linkedin.avroutil1.compatibility.AvroVersion;
 import com.linkedin.venice.HttpConstants;
@@ -30,6 +31,9 @@ import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseRecordV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.read.protocol.response.streaming.StreamingFooterRecordV1;
 import com.linkedin.venice.schema.SchemaData;
@@ -77,6 +81,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private static final Logger LOGGER = LogManager.getLogger(AbstractAvroStoreClient.class);
   public static final String TYPE_STORAGE = "storage";
   public static final String TYPE_COMPUTE = "compute";
+  public static final String TYPE_SCAN = "scan";
   public static final String B64_FORMAT = "?f=b64";
 
   private static final Map<String, String> GET_HEADER_MAP = new HashMap<>();
@@ -86,6 +91,15 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private static final Map<String, String> COMPUTE_HEADER_MAP_V3 = new HashMap<>();
   static final Map<String, String> COMPUTE_HEADER_MAP_FOR_STREAMING_V2;
   static final Map<String, String> COMPUTE_HEADER_MAP_FOR_STREAMING_V3;
+  private static final Map<String, String> KEY_PREFIX_SCAN_HEADER_MAP = new HashMap<>();
+  /**
+   * Number of records requested per page of a key prefix scan, the storage nodes may return fewer of them.
+   */
+  static final int KEY_PREFIX_SCAN_PAGE_SIZE = 1000;
+  private static final RecordSerializer<KeyPrefixScanRequestV1> KEY_PREFIX_SCAN_REQUEST_SERIALIZER =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanRequestV1.getClassSchema());
+  private static final RecordDeserializer<KeyPrefixScanResponseV1> KEY_PREFIX_SCAN_RESPONSE_DESERIALIZER =
+      FastSerializerDeserializerFactory.getAvroSpecificDeserializer(KeyPrefixScanResponseV1.class);
 
   static {
     /**
@@ -126,6 +140,10 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     COMPUTE_HEADER_MAP_FOR_STREAMING_V3 = new HashMap<>(COMPUTE_HEADER_MAP_V3);
     COMPUTE_HEADER_MAP_FOR_STREAMING_V3.put(HttpConstants.VENICE_STREAMING, "1");
 
+    KEY_PREFIX_SCAN_HEADER_MAP.put(
+        HttpConstants.VENICE_API_VERSION,
+        Integer.toString(ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_REQUEST_V1.getProtocolVersion()));
+
     AvroVersion version = AvroCompatibilityHelperCommon.getRuntimeAvroVersion();
     LOGGER.info("Detected: {} on the classpath.", version);
   }
@@ -149,6 +167,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
   private final CompressorFactory compressorFactory;
   private final String storageRequestPath;
   private final String computeRequestPath;
+  private final String scanRequestPath;
 
   private volatile boolean isServiceDiscovered;
 
@@ -204,6 +223,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     this.compressorFactory = new CompressorFactory();
     this.storageRequestPath = TYPE_STORAGE + "/" + clientConfig.getStoreName();
     this.computeRequestPath = TYPE_COMPUTE + "/" + clientConfig.getStoreName();
+    this.scanRequestPath = TYPE_SCAN + "/" + clientConfig.getStoreName();
   }
 
   @Override
@@ -702,6 +722,67 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         keyList.size());
   }
 
+  /**
+   * Scans the records whose keys start with the given prefix one page at a time, each page being requested once the
+   * records of the previous one have been handed over to the callback, until the continuation token returned by the
+   * storage nodes runs out. The records are ordered by key within each partition only.
+   */
+  @Override
+  public void computeWithKeyPrefixFilter(
+      byte[] keyPrefix,
+      ComputeRequestWrapper computeRequestWrapper,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    try {
+      KeyPrefixScanRequestV1 scanRequest = new KeyPrefixScanRequestV1();
+      scanRequest.keyPrefix = ByteBuffer.wrap(keyPrefix == null ? new byte[0] : keyPrefix);
+      scanRequest.maxRecordCount = KEY_PREFIX_SCAN_PAGE_SIZE;
+      scanRequest.computeRequestVersion = computeRequestWrapper.getComputeRequestVersion();
+      scanRequest.computeRequest = ByteBuffer.wrap(computeRequestWrapper.serialize());
+
+      Schema resultSchema = AvroCompatibilityHelper.parse(computeRequestWrapper.getResultSchemaStr());
+      RecordDeserializer<GenericRecord> keyDeserializer = getClientConfig().isUseFastAvro()
+          ? FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(getKeySchema(), getKeySchema())
+          : SerializerDeserializerFactory.getAvroGenericDeserializer(getKeySchema());
+      RecordDeserializer<GenericRecord> resultDeserializer = getComputeResultRecordDeserializer(resultSchema);
+      requestKeyPrefixScanPage(scanRequest, keyDeserializer, resultDeserializer, callback);
+    } catch (Exception e) {
+      callback.onCompletion(Optional.of(e));
+    }
+  }
+
+  private void requestKeyPrefixScanPage(
+      KeyPrefixScanRequestV1 scanRequest,
+      RecordDeserializer<GenericRecord> keyDeserializer,
+      RecordDeserializer<GenericRecord> resultDeserializer,
+      StreamingCallback<GenericRecord, GenericRecord> callback) {
+    byte[] serializedScanRequest = KEY_PREFIX_SCAN_REQUEST_SERIALIZER.serialize(scanRequest);
+    transportClient.post(scanRequestPath, KEY_PREFIX_SCAN_HEADER_MAP, serializedScanRequest)
+        .whenCompleteAsync((clientResponse, throwable) -> {
+          try {
+            if (throwable != null) {
+              throw throwable instanceof Exception ? (Exception) throwable : new VeniceClientException(throwable);
+            }
+            if (clientResponse == null) {
+              throw new VeniceClientException("Key prefix scan is not available for store: " + getStoreName());
+            }
+            KeyPrefixScanResponseV1 page = KEY_PREFIX_SCAN_RESPONSE_DESERIALIZER.deserialize(clientResponse.getBody());
+            for (KeyPrefixScanResponseRecordV1 record: page.records) {
+              callback.onRecordReceived(
+                  keyDeserializer.deserialize(record.key),
+                  resultDeserializer.deserialize(record.value));
+            }
+            if (page.continuationToken == null) {
+              callback.onCompletion(Optional.empty());
+              return;
+            }
+            scanRequest.continuationToken = page.continuationToken;
+            requestKeyPrefixScanPage(scanRequest, keyDeserializer, resultDeserializer, callback);
+          } catch (Exception e) {
+            callback.onCompletion(Optional.of(e));
+          }
+        }, deserializationExecutor);
+  }
+
   private byte[] serializeComputeRequest(ComputeRequestWrapper computeRequestWrapper, Collection<K> keys) {
     RecordSerializer keySerializer = getKeySerializerForRequest();
     List<ByteBuffer> serializedKeyList = new ArrayList<>(keys.size());
@@ -10,14 +10,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.client.store.transport.TransportClient;
 import com.linkedin.venice.client.store.transport.TransportClientResponse;
 import com.linkedin.venice.client.store.transport.TransportClientStreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.controllerapi.SchemaResponse;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
 import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseRecordV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseV1;
 import com.linkedin.venice.schema.SchemaReader;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.RecordDeserializer;
@@ -33,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -437,4 +444,199 @@ public class AbstractAvroStoreClientTest {
 
     storeClient.close();
   }
+
+  private static final Schema KEY_PREFIX_SCAN_KEY_SCHEMA = Schema.parse(
+      "{\"type\":\"record\",\"name\":\"Key\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"},"
+          + "{\"name\":\"seq\",\"type\":\"int\"}]}");
+  private static final Schema KEY_PREFIX_SCAN_RESULT_SCHEMA = Schema.parse(
+      "{\"type\":\"record\",\"name\":\"test_store_VeniceComputeResult\",\"fields\":["
+          + "{\"name\":\"int_field\",\"type\":\"int\",\"default\":0}]}");
+
+  /**
+   * Replies to the key prefix scan requests with the given pages, one per request, and keeps the requests around.
+   */
+  private static class KeyPrefixScanTransportClient extends TransportClient {
+    private final List<CompletableFuture<TransportClientResponse>> pages;
+    private final List<String> requestPaths = new ArrayList<>();
+    private final List<KeyPrefixScanRequestV1> requests = new ArrayList<>();
+
+    public KeyPrefixScanTransportClient(List<CompletableFuture<TransportClientResponse>> pages) {
+      this.pages = pages;
+    }
+
+    @Override
+    public CompletableFuture<TransportClientResponse> get(String requestPath, Map<String, String> headers) {
+      return null;
+    }
+
+    @Override
+    public synchronized CompletableFuture<TransportClientResponse> post(
+        String requestPath,
+        Map<String, String> headers,
+        byte[] requestBody) {
+      requestPaths.add(requestPath);
+      requests.add(
+          SerializerDeserializerFactory.getAvroSpecificDeserializer(KeyPrefixScanRequestV1.class)
+              .deserialize(requestBody));
+      return pages.get(requests.size() - 1);
+    }
+
+    @Override
+    public void streamPost(
+        String requestPath,
+        Map<String, String> headers,
+        byte[] requestBody,
+        TransportClientStreamingCallback callback,
+        int keyCount) {
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+  }
+
+  private static GenericRecord getKeyPrefixScanKey(String id, int seq) {
+    GenericRecord key = new GenericData.Record(KEY_PREFIX_SCAN_KEY_SCHEMA);
+    key.put("id", id);
+    key.put("seq", seq);
+    return key;
+  }
+
+  private static CompletableFuture<TransportClientResponse> getKeyPrefixScanPage(
+      int firstSeq,
+      int recordCount,
+      ByteBuffer continuationToken) {
+    RecordSerializer<GenericRecord> keySerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(KEY_PREFIX_SCAN_KEY_SCHEMA);
+    RecordSerializer<GenericRecord> resultSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(KEY_PREFIX_SCAN_RESULT_SCHEMA);
+    KeyPrefixScanResponseV1 page = new KeyPrefixScanResponseV1();
+    page.records = new ArrayList<>();
+    for (int seq = firstSeq; seq < firstSeq + recordCount; seq++) {
+      GenericRecord result = new GenericData.Record(KEY_PREFIX_SCAN_RESULT_SCHEMA);
+      result.put("int_field", seq * 10);
+      KeyPrefixScanResponseRecordV1 record = new KeyPrefixScanResponseRecordV1();
+      record.key = ByteBuffer.wrap(keySerializer.serialize(getKeyPrefixScanKey("user", seq)));
+      record.value = ByteBuffer.wrap(resultSerializer.serialize(result));
+      page.records.add(record);
+    }
+    page.continuationToken = continuationToken;
+    byte[] body = SerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanResponseV1.getClassSchema())
+        .serialize(page);
+    return CompletableFuture.completedFuture(new TransportClientResponse(-1, CompressionStrategy.NO_OP, body));
+  }
+
+  private static ComputeRequestWrapper getKeyPrefixScanComputeRequest() {
+    ComputeRequestWrapper computeRequestWrapper =
+        new ComputeRequestWrapper(ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    computeRequestWrapper.setValueSchema(VALUE_SCHEMA);
+    computeRequestWrapper.setResultSchemaStr(KEY_PREFIX_SCAN_RESULT_SCHEMA.toString());
+    computeRequestWrapper.setOperations(new ArrayList<>());
+    return computeRequestWrapper;
+  }
+
+  private static SimpleStoreClient<GenericRecord, GenericRecord> getKeyPrefixScanStoreClient(
+      TransportClient transportClient) {
+    return new SimpleStoreClient<GenericRecord, GenericRecord>(
+        transportClient,
+        "test_store",
+        true,
+        AbstractAvroStoreClient.getDefaultDeserializationExecutor()) {
+      @Override
+      protected SchemaReader getSchemaReader() {
+        SchemaReader mockSchemaReader = mock(SchemaReader.class);
+        doReturn(KEY_PREFIX_SCAN_KEY_SCHEMA).when(mockSchemaReader).getKeySchema();
+        return mockSchemaReader;
+      }
+    };
+  }
+
+  /**
+   * Runs the scan, collects the result field of the received records by key sequence number in the order they were
+   * received, and returns the error the scan completed with, if any.
+   */
+  private static Optional<Exception> computeWithKeyPrefixFilter(
+      SimpleStoreClient<GenericRecord, GenericRecord> storeClient,
+      byte[] keyPrefix,
+      Map<Integer, Integer> results) throws Exception {
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    storeClient.computeWithKeyPrefixFilter(
+        keyPrefix,
+        getKeyPrefixScanComputeRequest(),
+        new StreamingCallback<GenericRecord, GenericRecord>() {
+          @Override
+          public void onRecordReceived(GenericRecord key, GenericRecord value) {
+            results.put((Integer) key.get("seq"), (Integer) value.get("int_field"));
+          }
+
+          @Override
+          public void onCompletion(Optional<Exception> exception) {
+            completion.complete(exception);
+          }
+        });
+    return completion.get(10, TimeUnit.SECONDS);
+  }
+
+  @Test(timeOut = 10000)
+  public void testComputeWithKeyPrefixFilter() throws Exception {
+    byte[] keyPrefix = "user".getBytes();
+    // The scan starts in the first partition of version 1, which takes two pages, and resumes from the first
+    // partition of the next one, whose records all fit in a single page.
+    ByteBuffer firstToken = new KeyPrefixScanContinuationToken(1, 0, "last_key_of_page_1".getBytes()).toBytes();
+    ByteBuffer secondToken = new KeyPrefixScanContinuationToken(1, 1, null).toBytes();
+    KeyPrefixScanTransportClient transportClient = new KeyPrefixScanTransportClient(
+        Arrays.asList(
+            getKeyPrefixScanPage(0, 2, firstToken),
+            getKeyPrefixScanPage(2, 1, secondToken),
+            getKeyPrefixScanPage(3, 1, null)));
+    SimpleStoreClient<GenericRecord, GenericRecord> storeClient = getKeyPrefixScanStoreClient(transportClient);
+
+    Map<Integer, Integer> results = new LinkedHashMap<>();
+    Optional<Exception> exception = computeWithKeyPrefixFilter(storeClient, keyPrefix, results);
+    Assert.assertFalse(exception.isPresent(), "Unexpected error: " + exception);
+    // The pages are requested one after another, so the records are received in the order of the pages.
+    Assert.assertEquals(new ArrayList<>(results.keySet()), Arrays.asList(0, 1, 2, 3));
+    for (int seq = 0; seq < 4; seq++) {
+      Assert.assertEquals(results.get(seq), Integer.valueOf(seq * 10));
+    }
+
+    Assert.assertEquals(transportClient.requests.size(), 3);
+    for (int i = 0; i < transportClient.requests.size(); i++) {
+      KeyPrefixScanRequestV1 request = transportClient.requests.get(i);
+      Assert.assertEquals(transportClient.requestPaths.get(i), TYPE_SCAN + "/test_store");
+      Assert.assertEquals(request.keyPrefix, ByteBuffer.wrap(keyPrefix));
+      Assert.assertEquals(request.maxRecordCount, KEY_PREFIX_SCAN_PAGE_SIZE);
+      Assert.assertEquals(
+          request.computeRequestVersion,
+          ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    }
+    // Each page is requested with the token returned along with the previous one.
+    Assert.assertNull(transportClient.requests.get(0).continuationToken);
+    Assert.assertEquals(transportClient.requests.get(1).continuationToken, firstToken);
+    Assert.assertEquals(transportClient.requests.get(2).continuationToken, secondToken);
+    KeyPrefixScanContinuationToken resumedToken =
+        KeyPrefixScanContinuationToken.fromBytes(transportClient.requests.get(2).continuationToken);
+    Assert.assertEquals(resumedToken.getVersionNumber(), 1);
+    Assert.assertEquals(resumedToken.getPartition(), 1);
+    Assert.assertNull(resumedToken.getLastKey());
+  }
+
+  @Test(timeOut = 10000)
+  public void testComputeWithKeyPrefixFilterFailsOnPageError() throws Exception {
+    CompletableFuture<TransportClientResponse> failedPage = new CompletableFuture<>();
+    failedPage.completeExceptionally(new VeniceClientException("mock_exception"));
+    KeyPrefixScanTransportClient transportClient = new KeyPrefixScanTransportClient(
+        Arrays.asList(
+            getKeyPrefixScanPage(0, 2, new KeyPrefixScanContinuationToken(1, 0, "key".getBytes()).toBytes()),
+            failedPage));
+    SimpleStoreClient<GenericRecord, GenericRecord> storeClient = getKeyPrefixScanStoreClient(transportClient);
+
+    Map<Integer, Integer> results = new LinkedHashMap<>();
+    Optional<Exception> exception = computeWithKeyPrefixFilter(storeClient, "user".getBytes(), results);
+    // The records of the first page were handed over before the scan failed on the second one.
+    Assert.assertEquals(new ArrayList<>(results.keySet()), Arrays.asList(0, 1));
+    Assert.assertTrue(exception.isPresent());
+    Assert.assertTrue(exception.get().getMessage().contains("mock_exception"), exception.get().getMessage());
+    Assert.assertEquals(transportClient.requests.size(), 2);
+  }
 }
@@ -25,12 +25,12 @@ public class VeniceConstants {
   public static final int COMPUTE_REQUEST_VERSION_V2 = 2;
 
   /**
-   * V3 contains all V2 operator + new Count operator
+   * V3 contains all V2 operator + new Count operator, and supports executeWithFilter
    */
   public static final int COMPUTE_REQUEST_VERSION_V3 = 3;
 
   /**
-   * V4 contains all V3 operators + executeWithFilter
+   * V4 contains the same operators as V3
    */
   public static final int COMPUTE_REQUEST_VERSION_V4 = 4;
 
@@ -10,7 +10,7 @@ import com.linkedin.venice.utils.VeniceEnumValue;
  */
 public enum CompressionStrategy implements VeniceEnumValue {
   NO_OP(0, false), GZIP(1, true), @Deprecated
-  ZSTD(2, true), ZSTD_WITH_DICT(3, true);
+  ZSTD(2, true), ZSTD_WITH_DICT(3, true), LZ4(4, true);
 
   private final int value;
   private final boolean compressionEnabled;
@@ -15,6 +15,7 @@ public class CompressorFactory implements Closeable, AutoCloseable {
   private static final Logger LOGGER = LogManager.getLogger(CompressorFactory.class);
   private final VeniceCompressor NO_OP_COMPRESSOR = new NoopCompressor();
   private final VeniceCompressor GZIP_COMPRESSOR = new GzipCompressor();
+  private final VeniceCompressor LZ4_COMPRESSOR = new Lz4Compressor();
   private final Map<String, VeniceCompressor> versionSpecificCompressorMap = new VeniceConcurrentHashMap<>();
 
   public VeniceCompressor getCompressor(CompressionStrategy compressionStrategy) {
@@ -23,6 +24,8 @@ public class CompressorFactory implements Closeable, AutoCloseable {
         return NO_OP_COMPRESSOR;
       case GZIP:
         return GZIP_COMPRESSOR;
+      case LZ4:
+        return LZ4_COMPRESSOR;
       case ZSTD_WITH_DICT:
         throw new IllegalArgumentException(
             "For " + CompressionStrategy.ZSTD_WITH_DICT + ", please call createVersionSpecificCompressorIfNotExist.");
@@ -90,6 +93,7 @@ public class CompressorFactory implements Closeable, AutoCloseable {
   public void close() {
     IOUtils.closeQuietly(NO_OP_COMPRESSOR, LOGGER::error);
     IOUtils.closeQuietly(GZIP_COMPRESSOR, LOGGER::error);
+    IOUtils.closeQuietly(LZ4_COMPRESSOR, LOGGER::error);
 
     for (String topic: versionSpecificCompressorMap.keySet()) {
       removeVersionSpecificCompressor(topic);
@@ -0,0 +1,137 @@
+package com.linkedin.venice.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.apache.commons.io.IOUtils;
+
+
+/**
+ * Compresses each value as a single LZ4 block, which decompresses several times faster than GZIP at the cost of a
+ * lower compression ratio. The block is prefixed with the decompressed size (a 4-byte int), which the block format
+ * doesn't carry by itself.
+ *
+ * The LZ4 compressor and decompressor are stateless, so a single instance is shared by all the threads.
+ */
+public class Lz4Compressor extends VeniceCompressor {
+  private static final int HEADER_SIZE = Integer.BYTES;
+
+  private final LZ4Compressor compressor;
+  private final LZ4SafeDecompressor decompressor;
+
+  public Lz4Compressor() {
+    super(CompressionStrategy.LZ4);
+    LZ4Factory factory = LZ4Factory.fastestInstance();
+    this.compressor = factory.fastCompressor();
+    this.decompressor = factory.safeDecompressor();
+  }
+
+  @Override
+  public byte[] compress(byte[] data) {
+    int maxCompressedSize = compressor.maxCompressedLength(data.length);
+    byte[] output = new byte[HEADER_SIZE + maxCompressedSize];
+    ByteBuffer.wrap(output).putInt(0, data.length);
+    int compressedSize = compressor.compress(data, 0, data.length, output, HEADER_SIZE, maxCompressedSize);
+    return Arrays.copyOf(output, HEADER_SIZE + compressedSize);
+  }
+
+  @Override
+  public ByteBuffer compress(ByteBuffer data, int startPositionOfOutput) throws IOException {
+    int maxCompressedSize = compressor.maxCompressedLength(data.remaining());
+    int sizeOfOutput = startPositionOfOutput + HEADER_SIZE + maxCompressedSize;
+    ByteBuffer output = data.isDirect() ? ByteBuffer.allocateDirect(sizeOfOutput) : ByteBuffer.allocate(sizeOfOutput);
+    output.putInt(startPositionOfOutput, data.remaining());
+    int compressedSize = compressor.compress(
+        data,
+        data.position(),
+        data.remaining(),
+        output,
+        startPositionOfOutput + HEADER_SIZE,
+        maxCompressedSize);
+    output.position(startPositionOfOutput);
+    output.limit(startPositionOfOutput + HEADER_SIZE + compressedSize);
+    return output;
+  }
+
+  @Override
+  public ByteBuffer decompress(ByteBuffer data) throws IOException {
+    if (!data.hasRemaining()) {
+      return data;
+    }
+    if (data.hasArray()) {
+      return decompress(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    }
+    validateCompressedSize(data.remaining());
+    int expectedSize = validateExpectedDecompressedSize(data.getInt(data.position()));
+    ByteBuffer output = ByteBuffer.allocate(expectedSize);
+    int actualSize = decompressor.decompress(
+        data,
+        data.position() + HEADER_SIZE,
+        data.remaining() - HEADER_SIZE,
+        output,
+        0,
+        expectedSize);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    return output;
+  }
+
+  @Override
+  public ByteBuffer decompress(byte[] data, int offset, int length) throws IOException {
+    validateCompressedSize(length);
+    int expectedSize = validateExpectedDecompressedSize(ByteBuffer.wrap(data, offset, length).getInt());
+    byte[] output = new byte[expectedSize];
+    int actualSize =
+        decompressor.decompress(data, offset + HEADER_SIZE, length - HEADER_SIZE, output, 0, expectedSize);
+    validateActualDecompressedSize(actualSize, expectedSize);
+    return ByteBuffer.wrap(output);
+  }
+
+  @Override
+  public InputStream decompress(InputStream inputStream) throws IOException {
+    // The block format can't be decoded incrementally, so the whole value is buffered.
+    byte[] compressed = IOUtils.toByteArray(inputStream);
+    if (compressed.length == 0) {
+      return new ByteArrayInputStream(compressed);
+    }
+    ByteBuffer decompressed = decompress(compressed, 0, compressed.length);
+    return new ByteArrayInputStream(decompressed.array(), decompressed.position(), decompressed.remaining());
+  }
+
+  private void validateCompressedSize(int compressedSize) {
+    if (compressedSize < HEADER_SIZE) {
+      throw new IllegalStateException("The LZ4 payload (" + compressedSize + " bytes) is too short to be valid.");
+    }
+  }
+
+  private int validateExpectedDecompressedSize(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalStateException("The decompressed payload size (" + expectedSize + ") cannot be negative.");
+    }
+    return expectedSize;
+  }
+
+  private void validateActualDecompressedSize(int actual, int expected) {
+    if (actual != expected) {
+      throw new IllegalStateException(
+          "The decompressed payload size (" + actual + ") is not as expected (" + expected + ").");
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    return o != null && o instanceof Lz4Compressor;
+  }
+}
@@ -0,0 +1,83 @@
+package com.linkedin.venice.read;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Position of a key prefix scan, which goes through the partitions of a store version one after the other: the scan
+ * resumes in the given partition of the given version, right after the given key, or from the beginning of the
+ * partition if there is no key.
+ *
+ * The token is opaque to the clients, which pass back the bytes returned along with the previous page of the scan.
+ */
+public class KeyPrefixScanContinuationToken {
+  private static final int NO_KEY = -1;
+
+  private final int versionNumber;
+  private final int partition;
+  private final byte[] lastKey;
+
+  public KeyPrefixScanContinuationToken(int versionNumber, int partition, byte[] lastKey) {
+    this.versionNumber = versionNumber;
+    this.partition = partition;
+    this.lastKey = lastKey;
+  }
+
+  public int getVersionNumber() {
+    return versionNumber;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  /**
+   * @return the key after which the scan resumes, or null if the scan resumes from the beginning of the partition
+   */
+  public byte[] getLastKey() {
+    return lastKey;
+  }
+
+  public ByteBuffer toBytes() {
+    int keyLength = lastKey == null ? 0 : lastKey.length;
+    ByteBuffer buffer = ByteBuffer.allocate(3 * Integer.BYTES + keyLength);
+    buffer.putInt(versionNumber);
+    buffer.putInt(partition);
+    if (lastKey == null) {
+      buffer.putInt(NO_KEY);
+    } else {
+      buffer.putInt(lastKey.length);
+      buffer.put(lastKey);
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  public static KeyPrefixScanContinuationToken fromBytes(ByteBuffer bytes) {
+    ByteBuffer buffer = bytes.duplicate();
+    try {
+      int versionNumber = buffer.getInt();
+      int partition = buffer.getInt();
+      int keyLength = buffer.getInt();
+      byte[] lastKey = null;
+      if (keyLength != NO_KEY) {
+        lastKey = new byte[keyLength];
+        buffer.get(lastKey);
+      }
+      if (buffer.hasRemaining() || versionNumber <= 0 || partition < 0) {
+        throw new VeniceException("Invalid continuation token for key prefix scan");
+      }
+      return new KeyPrefixScanContinuationToken(versionNumber, partition, lastKey);
+    } catch (BufferUnderflowException | NegativeArraySizeException e) {
+      throw new VeniceException("Invalid continuation token for key prefix scan", e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "KeyPrefixScanContinuationToken{versionNumber=" + versionNumber + ", partition=" + partition + ", lastKey="
+        + (lastKey == null ? "none" : lastKey.length + " bytes") + "}";
+  }
+}
@@ -2,7 +2,7 @@ package com.linkedin.venice.read;
 
 public enum RequestType {
   SINGLE_GET(""), MULTI_GET("multiget_"), MULTI_GET_STREAMING("multiget_streaming_"), COMPUTE("compute_"),
-  COMPUTE_STREAMING("compute_streaming_");
+  COMPUTE_STREAMING("compute_streaming_"), KEY_PREFIX_SCAN("key_prefix_scan_");
 
   private String metricPrefix;
 
@@ -7,7 +7,9 @@ import com.linkedin.venice.compute.protocol.request.ComputeRequestV4;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import java.util.Optional;
 import org.apache.avro.Schema;
@@ -86,6 +88,20 @@ public enum ReadAvroProtocolDefinition {
    */
   COMPUTE_ROUTER_REQUEST_V1(
       1, Optional.of(ComputeRouterRequestKeyV1.class), Optional.of(ComputeRouterRequestKeyV1.SCHEMA$)
+  ),
+
+  /**
+   * Key prefix scan request v1, sent as is from client to router and from router to storage node.
+   */
+  KEY_PREFIX_SCAN_REQUEST_V1(
+      1, Optional.of(KeyPrefixScanRequestV1.class), Optional.of(KeyPrefixScanRequestV1.SCHEMA$)
+  ),
+
+  /**
+   * Response for key prefix scan v1, which holds one page of the records and the token to resume the scan.
+   */
+  KEY_PREFIX_SCAN_RESPONSE_V1(
+      1, Optional.of(KeyPrefixScanResponseV1.class), Optional.of(KeyPrefixScanResponseV1.SCHEMA$)
   );
 
   /**
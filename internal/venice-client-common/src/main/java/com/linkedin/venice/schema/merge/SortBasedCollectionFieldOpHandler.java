@@ -568,6 +568,9 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     boolean updated = false;
     int newPutOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
     final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    // Elements whose timestamp is set by this operation. All the other elements keep their sorted position.
+    final Set<Object> touchedActiveElements = new HashSet<>();
+    final Set<Object> touchedDeletedElements = new HashSet<>();
     // Step 1: Add elements (SET_UNION).
     for (Object toAddElement: toAddElementSet) {
       final Long deletedTimestamp = deletedElementToTsMap.get(toAddElement);
@@ -576,6 +579,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
           // Element will be added back.
           deletedElementToTsMap.remove(toAddElement);
           activeElementToTsMap.put(toAddElement, modifyTimestamp);
+          touchedActiveElements.add(toAddElement);
           updated = true;
         } // Else: Element remains "deleted".
         continue;
@@ -589,10 +593,12 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
       }
       if (activeTimestamp == null) {
         activeElementToTsMap.put(toAddElement, modifyTimestamp);
+        touchedActiveElements.add(toAddElement);
         updated = true;
       } else if (activeTimestamp != modifyTimestamp) {
         // activeElementToTsMap.remove(toAddElement);
         activeElementToTsMap.put(toAddElement, modifyTimestamp);
+        touchedActiveElements.add(toAddElement);
         updated = true;
 
       }
@@ -604,6 +610,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
       if (deletedTimestamp != null) {
         if (deletedTimestamp < modifyTimestamp) {
           deletedElementToTsMap.put(toRemoveElement, modifyTimestamp);
+          touchedDeletedElements.add(toRemoveElement);
           updated = true;
         }
         continue;
@@ -614,6 +621,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
           // Delete the existing element.
           activeElementToTsMap.remove(toRemoveElement);
           deletedElementToTsMap.put(toRemoveElement, modifyTimestamp);
+          touchedDeletedElements.add(toRemoveElement);
           if (activeTimestamp == topLevelTimestamp) {
             newPutOnlyPartLength--;
           }
@@ -624,6 +632,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
 
       // Element neither existed nor deleted because both it has no deleted timestamp and no active timestamp.
       deletedElementToTsMap.put(toRemoveElement, modifyTimestamp);
+      touchedDeletedElements.add(toRemoveElement);
       updated = true;
     }
 
@@ -632,11 +641,13 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     activeElementToTsMap.forEach((activeElement, activeTimestamp) -> {
       activeElementAndTsList.add(new ElementAndTimestamp(activeElement, activeTimestamp));
     });
-    final Comparator<Object> listElementComparator = getListElementComparator(currValueRecord, fieldName);
-    sortElementAndTimestampList(
+    final Comparator<ElementAndTimestamp> elementAndTsComparator =
+        getElementAndTimestampComparator(getListElementComparator(currValueRecord, fieldName));
+    mergeTouchedElements(
         // Only sort the collection-merge part of the list and leave the put-only part as is.
         activeElementAndTsList.subList(newPutOnlyPartLength, activeElementAndTsList.size()),
-        listElementComparator);
+        touchedActiveElements,
+        elementAndTsComparator);
     setNewListActiveElementAndTs(
         activeElementAndTsList,
         newPutOnlyPartLength,
@@ -650,7 +661,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
       deletedElementAndTsList.add(new ElementAndTimestamp(element, timestamp));
     });
 
-    sortElementAndTimestampList(deletedElementAndTsList, listElementComparator);
+    mergeTouchedElements(deletedElementAndTsList, touchedDeletedElements, elementAndTsComparator);
     setDeletedDeletedElementAndTsList(deletedElementAndTsList, collectionFieldRmd);
 
     return updated ? UpdateResultStatus.PARTIALLY_UPDATED : UpdateResultStatus.NOT_UPDATED_AT_ALL;
@@ -693,26 +704,70 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
   private void sortElementAndTimestampList(
       List<ElementAndTimestamp> elementAndTsList,
       Comparator<Object> elementComparator) {
-    elementAndTsList.sort((o1, o2) -> {
+    elementAndTsList.sort(getElementAndTimestampComparator(elementComparator));
+  }
+
+  private Comparator<ElementAndTimestamp> getElementAndTimestampComparator(Comparator<Object> elementComparator) {
+    return (o1, o2) -> {
       final int timestampCompareResult = Long.compare(o1.getTimestamp(), o2.getTimestamp());
       if (timestampCompareResult == 0) {
         return elementComparator.compare(o1.getElement(), o2.getElement());
       }
       return timestampCompareResult;
-    });
+    };
   }
 
-  private void sortElementAndTimestampListInMap(
+  private Comparator<ElementAndTimestamp> getElementAndTimestampInMapComparator(Function<Object, String> keyExtractor) {
+    return getElementAndTimestampComparator((o1, o2) -> keyExtractor.apply(o1).compareTo(keyExtractor.apply(o2)));
+  }
+
+  /**
+   * Sorts a list of elements by timestamp and then by element, knowing that the elements which are not in
+   * {@param touchedElements} are already in this order: they keep the timestamp and the relative position they were
+   * persisted with. Only the touched elements are sorted and then merged with the untouched ones, so an operation on
+   * k elements of a collection of n elements costs O(n + k log k) comparisons instead of O(n log n).
+   *
+   * The order of the untouched elements is verified along the way and the whole list is sorted if it doesn't hold,
+   * so that the result is always the same as {@link #sortElementAndTimestampList}.
+   */
+  static void mergeTouchedElements(
       List<ElementAndTimestamp> elementAndTsList,
-      Function<Object, String> keyExtractor) {
-    Comparator<Object> mapKeyComparator = Comparator.comparing(x -> (String) x);
-    elementAndTsList.sort((o1, o2) -> {
-      final int timestampCompareResult = Long.compare(o1.getTimestamp(), o2.getTimestamp());
-      if (timestampCompareResult == 0) {
-        return mapKeyComparator.compare(keyExtractor.apply(o1.getElement()), keyExtractor.apply(o2.getElement()));
+      Set<Object> touchedElements,
+      Comparator<ElementAndTimestamp> elementAndTsComparator) {
+    if (elementAndTsList.isEmpty()) {
+      return;
+    }
+    final List<ElementAndTimestamp> untouchedList = new ArrayList<>(elementAndTsList.size());
+    final List<ElementAndTimestamp> touchedList = new ArrayList<>(touchedElements.size());
+    ElementAndTimestamp previousUntouched = null;
+    for (ElementAndTimestamp elementAndTs: elementAndTsList) {
+      if (touchedElements.contains(elementAndTs.getElement())) {
+        touchedList.add(elementAndTs);
+        continue;
       }
-      return timestampCompareResult;
-    });
+      if (previousUntouched != null && elementAndTsComparator.compare(previousUntouched, elementAndTs) > 0) {
+        // The persisted order does not hold, which should not happen.
+        elementAndTsList.sort(elementAndTsComparator);
+        return;
+      }
+      untouchedList.add(elementAndTs);
+      previousUntouched = elementAndTs;
+    }
+    if (touchedList.isEmpty()) {
+      return;
+    }
+    touchedList.sort(elementAndTsComparator);
+
+    int untouchedIdx = 0;
+    int touchedIdx = 0;
+    for (int i = 0; i < elementAndTsList.size(); i++) {
+      if (touchedIdx == touchedList.size() || (untouchedIdx < untouchedList.size()
+          && elementAndTsComparator.compare(untouchedList.get(untouchedIdx), touchedList.get(touchedIdx)) <= 0)) {
+        elementAndTsList.set(i, untouchedList.get(untouchedIdx++));
+      } else {
+        elementAndTsList.set(i, touchedList.get(touchedIdx++));
+      }
+    }
   }
 
   private void removeIntersectionElements(Set<Object> set1, Set<Object> set2) {
@@ -883,6 +938,9 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     boolean updated = false;
     int newPutOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
     final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    // Entries and keys whose timestamp is set by this operation. All the others keep their sorted position.
+    final Set<Object> touchedActiveEntries = new HashSet<>();
+    final Set<Object> touchedDeletedKeys = new HashSet<>();
 
     // Step 1: Add elements (MAP_UNION).
     for (Map.Entry<String, Object> newEntry: newEntries.entrySet()) {
@@ -893,7 +951,9 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
         if (deletedTimestamp < modifyTimestamp) {
           // k-v entry will be added back.
           deletedKeyToTsMap.remove(newKey);
-          activeEntriesToTsMap.put(new KeyValPair(newKey, newEntry.getValue()), modifyTimestamp);
+          KeyValPair newKeyValue = new KeyValPair(newKey, newEntry.getValue());
+          activeEntriesToTsMap.put(newKeyValue, modifyTimestamp);
+          touchedActiveEntries.add(newKeyValue);
           updated = true;
         } // Else: Key remains "deleted".
 
@@ -904,6 +964,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
         if (activeTimestamp == null) {
           // The key does not exist before.
           activeEntriesToTsMap.put(newKeyValue, modifyTimestamp);
+          touchedActiveEntries.add(newKeyValue);
           updated = true;
         } else {
           // The key exist.
@@ -913,6 +974,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
           if (activeTimestamp < modifyTimestamp) {
             activeEntriesToTsMap.remove(newKeyValue);
             activeEntriesToTsMap.put(newKeyValue, modifyTimestamp);
+            touchedActiveEntries.add(newKeyValue);
             updated = true;
 
           } else if (activeTimestamp == modifyTimestamp) {
@@ -923,6 +985,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
             if (shouldUpdateMapFieldItemValueWithSameTs(currentValue, newValue, fieldSchema)) {
               activeEntriesToTsMap.remove(newKeyValue);
               activeEntriesToTsMap.put(newKeyValue, modifyTimestamp);
+              touchedActiveEntries.add(newKeyValue);
               updated = true;
             }
           }
@@ -938,6 +1001,7 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
         if (deletedTimestamp < modifyTimestamp) {
           // Update the deleted timestamp of this key.
           deletedKeyToTsMap.put(toRemoveKey, modifyTimestamp);
+          touchedDeletedKeys.add(toRemoveKey);
           updated = true;
         }
       } else {
@@ -953,11 +1017,13 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
               newPutOnlyPartLength--;
             }
             deletedKeyToTsMap.put(toRemoveKey, modifyTimestamp);
+            touchedDeletedKeys.add(toRemoveKey);
             updated = true;
           } // Else: existing k-v entry does not get deleted.
         } else {
           // Key never existed and it should be marked as deleted now.
           deletedKeyToTsMap.put(toRemoveKey, modifyTimestamp);
+          touchedDeletedKeys.add(toRemoveKey);
           updated = true;
         }
       }
@@ -972,9 +1038,10 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     activeEntriesToTsMap.forEach((activeEntry, activeTs) -> {
       newActiveEntriesAndTsList.add(new ElementAndTimestamp(activeEntry, activeTs));
     });
-    sortElementAndTimestampListInMap(
+    mergeTouchedElements(
         newActiveEntriesAndTsList.subList(newPutOnlyPartLength, newActiveEntriesAndTsList.size()),
-        x -> ((KeyValPair) x).getKey());
+        touchedActiveEntries,
+        getElementAndTimestampInMapComparator(x -> ((KeyValPair) x).getKey()));
     setNewMapActiveElementAndTs(
         newActiveEntriesAndTsList,
         newPutOnlyPartLength,
@@ -988,7 +1055,10 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
     deletedKeyToTsMap.forEach((k, v) -> newDeletedKeyAndTsList.add(new ElementAndTimestamp(k, v)));
 
     // The element here is String (as deleted key). So, we can use a String comparator.
-    sortElementAndTimestampListInMap(newDeletedKeyAndTsList, x -> (String) x);
+    mergeTouchedElements(
+        newDeletedKeyAndTsList,
+        touchedDeletedKeys,
+        getElementAndTimestampInMapComparator(x -> (String) x));
     setDeletedDeletedKeyAndTsList(newDeletedKeyAndTsList, collectionFieldRmd);
     return UpdateResultStatus.PARTIALLY_UPDATED;
   }
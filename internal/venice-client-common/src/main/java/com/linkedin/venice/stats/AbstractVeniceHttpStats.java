@@ -49,4 +49,25 @@ public abstract class AbstractVeniceHttpStats extends AbstractVeniceStats {
     newStats[stats.length] = TehutiUtils.getPercentileStatForNetworkLatency(getName(), getFullMetricName(sensorName));
     return registerSensor(sensorName, newStats);
   }
+
+  /**
+   * Same as {@link #registerSensorWithDetailedPercentiles}, but registers a {@link StripedSensor}.
+   */
+  protected StripedSensor registerStripedSensorWithDetailedPercentiles(
+      String sensorName,
+      StripedSensor.StatType... statTypes) {
+    return registerStripedSensor(sensorName, null, TehutiUtils.HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY, statTypes);
+  }
+
+  /**
+   * By default, this function will prepend the request type to the sensor name.
+   */
+  @Override
+  protected StripedSensor registerStripedSensor(
+      String sensorName,
+      StripedSensor[] parents,
+      double[] percentiles,
+      StripedSensor.StatType... statTypes) {
+    return super.registerStripedSensor(getFullMetricName(sensorName), parents, percentiles, statTypes);
+  }
 }
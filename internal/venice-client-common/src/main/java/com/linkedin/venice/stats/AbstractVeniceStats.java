@@ -12,6 +12,8 @@ import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Percentiles;
 import io.tehuti.metrics.stats.Rate;
 import io.tehuti.metrics.stats.Total;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -22,6 +24,11 @@ public class AbstractVeniceStats {
   private final MetricsRepository metricsRepository;
   private final String name;
   private final Map<String, Sensor> sensors;
+  /**
+   * {@link StripedSensor}s are not managed by {@link MetricsRepository}, so each stats object owns the ones it
+   * registered, the same as {@link #sensors}.
+   */
+  private final Map<String, StripedSensor> stripedSensors;
   private final boolean isTotalStats;
 
   public AbstractVeniceStats(MetricsRepository metricsRepository, String name) {
@@ -30,6 +37,7 @@ public class AbstractVeniceStats {
     // name and attribute name, so they cause issues if we let them slip in...
     this.name = name.replace(':', '_').replace(".", "_");
     this.sensors = new VeniceConcurrentHashMap<>();
+    this.stripedSensors = new VeniceConcurrentHashMap<>();
     this.isTotalStats = name.equals(STORE_NAME_FOR_TOTAL_STAT);
   }
 
@@ -50,12 +58,16 @@ public class AbstractVeniceStats {
     return registerSensor(getSensorFullName(getName(), sensorName), null, null, stats);
   }
 
+  @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
   protected void registerSensorAttributeGauge(String sensorName, String attributeName, Gauge stat) {
     String sensorFullName = getSensorFullName(getName(), sensorName);
     Sensor sensor = sensors.computeIfAbsent(sensorFullName, key -> metricsRepository.sensor(sensorFullName));
     String metricName = sensorFullName + "." + attributeName;
-    if (metricsRepository.getMetric(metricName) == null) {
-      sensor.add(metricName, stat);
+    // Lock on the sensor to check and add the metric atomically, check the comment in the other registerSensor.
+    synchronized (sensor) {
+      if (metricsRepository.getMetric(metricName) == null) {
+        sensor.add(metricName, stat);
+      }
     }
   }
 
@@ -63,6 +75,67 @@ public class AbstractVeniceStats {
     return registerSensor(getSensorFullName(getName(), sensorName), null, parents, stats);
   }
 
+  /**
+   * Register a {@link StripedSensor}, which should be used instead of {@link #registerSensor} for the sensors recorded
+   * by every request, since the recording is lock-free. The given stats are exposed with the same metric names as the
+   * corresponding Tehuti stats.
+   *
+   * N.B.: Different from Tehuti sensors, a striped sensor is not shared with the other stats objects registering the
+   * same sensor against the same repository, and the metrics stay bound to the sensor which registered them first.
+   */
+  protected StripedSensor registerStripedSensor(String sensorName, StripedSensor.StatType... statTypes) {
+    return registerStripedSensor(sensorName, null, new double[0], statTypes);
+  }
+
+  /**
+   * Same as {@link #registerStripedSensor(String, StripedSensor.StatType...)}, and emits P50, P95 and P99 as well.
+   */
+  protected StripedSensor registerStripedSensorWithPercentiles(
+      String sensorName,
+      StripedSensor.StatType... statTypes) {
+    return registerStripedSensor(sensorName, null, TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES, statTypes);
+  }
+
+  /**
+   * Same as {@link #registerStripedSensor(String, StripedSensor.StatType...)}, and emits the fine-grained percentiles
+   * as well, check {@link TehutiUtils#getFineGrainedPercentileStat(String, String)}.
+   */
+  protected StripedSensor registerStripedSensorWithFineGrainedPercentiles(
+      String sensorName,
+      StripedSensor.StatType... statTypes) {
+    return registerStripedSensor(sensorName, null, TehutiUtils.FINE_GRAINED_HISTOGRAM_PERCENTILES, statTypes);
+  }
+
+  protected StripedSensor registerStripedSensor(
+      String sensorName,
+      StripedSensor[] parents,
+      double[] percentiles,
+      StripedSensor.StatType... statTypes) {
+    String sensorFullName = getSensorFullName(sensorName);
+    return stripedSensors.computeIfAbsent(sensorFullName, key -> {
+      StripedSensor stripedSensor = new StripedSensor(
+          sensorFullName,
+          statTypes.length == 0
+              ? EnumSet.noneOf(StripedSensor.StatType.class)
+              : EnumSet.copyOf(Arrays.asList(statTypes)),
+          percentiles,
+          parents);
+      for (StripedSensor.StatType statType: stripedSensor.getStatTypes()) {
+        registerSensorAttributeGauge(
+            sensorName,
+            statType.getMetricSuffix(),
+            new Gauge(stripedSensor.asMeasurable(statType)));
+      }
+      for (double percentile: stripedSensor.getPercentiles()) {
+        registerSensorAttributeGauge(
+            sensorName,
+            TehutiUtils.getPercentileMetricSuffix(percentile),
+            new Gauge((config, now) -> stripedSensor.measurePercentile(percentile, now)));
+      }
+      return stripedSensor;
+    });
+  }
+
   @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
   protected Sensor registerSensor(
       String sensorFullName,
@@ -117,6 +190,7 @@ public class AbstractVeniceStats {
       metricsRepository.removeSensor(sensor.name());
     }
     sensors.clear();
+    stripedSensors.clear();
   }
 
   protected Sensor registerSensorWithAggregate(String sensorName, Supplier<MeasurableStat[]> stats) {
@@ -0,0 +1,334 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.Measurable;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A lock-free alternative to {@link io.tehuti.metrics.Sensor} for the per-request hot paths.
+ *
+ * {@link io.tehuti.metrics.Sensor#record(double)} is synchronized, so all the request threads recording into the same
+ * sensor (e.g. the total request latency) are serialized on a single monitor. This class keeps the recording
+ * lock-free instead:
+ * 1. Counts, sums, maxima and minima are accumulated with {@link LongAdder}, {@link DoubleAdder} and
+ *    {@link DoubleAccumulator}, which stripe the updates across cells to avoid contention.
+ * 2. The latency histogram is striped as well: each window holds up to {@link #HISTOGRAM_STRIPE_COUNT}
+ *    {@link AtomicIntegerArray}s, and a thread always records into the stripe picked by its id, so the threads
+ *    recording similar latencies don't bounce the same cache lines. The stripes are allocated on first use, so an
+ *    idle or lightly used sensor only pays for one histogram, which has the same memory footprint as the default
+ *    histogram in {@link TehutiUtils}. It uses the same bin scheme as {@link io.tehuti.metrics.stats.Percentiles}
+ *    with {@link io.tehuti.metrics.stats.Percentiles.BucketSizing#LINEAR}.
+ * 3. All the partial results are merged when the metric is read, which happens ~1/minute.
+ *
+ * The records are kept in two windows of {@link #DEFAULT_WINDOW_MS}, which matches the default two samples of 30
+ * seconds in {@link io.tehuti.metrics.MetricConfig}. Different from Tehuti, the windows are aligned to the absolute
+ * time, so the ratio between two striped sensors won't be skewed by un-aligned windows (check
+ * {@link TehutiUtils.RatioStat} for more details).
+ *
+ * The stats are exposed via {@link Gauge}s with the same names as the corresponding Tehuti stats, check
+ * {@link AbstractVeniceStats#registerStripedSensor}.
+ */
+public class StripedSensor {
+  public static final long DEFAULT_WINDOW_MS = 30 * Time.MS_PER_SECOND;
+
+  private static final int WINDOW_COUNT = 2;
+
+  /**
+   * A power of two, so the stripe could be picked by masking the thread id. It is capped since every stripe of every
+   * window costs a full histogram.
+   */
+  static final int HISTOGRAM_STRIPE_COUNT =
+      Integer.highestOneBit(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8)) * 2 - 1);
+
+  public enum StatType {
+    COUNT("Count"), OCCURRENCE_RATE("OccurrenceRate"), RATE("Rate"), TOTAL("Total"), AVG("Avg"), MIN("Min"),
+    MAX("Max");
+
+    private final String metricSuffix;
+
+    StatType(String metricSuffix) {
+      this.metricSuffix = metricSuffix;
+    }
+
+    public String getMetricSuffix() {
+      return metricSuffix;
+    }
+  }
+
+  private final String name;
+  private final Time time;
+  private final long windowMs;
+  private final Set<StatType> statTypes;
+  private final double[] percentiles;
+  private final LinearBinScheme binScheme;
+  private final StripedSensor[] parents;
+  private final AtomicReferenceArray<Window> windows = new AtomicReferenceArray<>(WINDOW_COUNT);
+  // Un-windowed sum of all the recorded values, which is the same as Tehuti's Total.
+  private final DoubleAdder total = new DoubleAdder();
+
+  public StripedSensor(String name, Set<StatType> statTypes, double[] percentiles, StripedSensor... parents) {
+    this(
+        name,
+        SystemTime.INSTANCE,
+        DEFAULT_WINDOW_MS,
+        statTypes,
+        percentiles,
+        TehutiUtils.DEFAULT_HISTOGRAM_SIZE_IN_BYTES / Integer.BYTES,
+        TehutiUtils.DEFAULT_HISTOGRAM_MAX_VALUE,
+        parents);
+  }
+
+  public StripedSensor(
+      String name,
+      Time time,
+      long windowMs,
+      Set<StatType> statTypes,
+      double[] percentiles,
+      int histogramBinCount,
+      double histogramMaxValue,
+      StripedSensor... parents) {
+    if (windowMs <= 0) {
+      throw new IllegalArgumentException("Window size must be positive, but got: " + windowMs);
+    }
+    this.name = name;
+    this.time = time;
+    this.windowMs = windowMs;
+    this.statTypes = statTypes.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(statTypes);
+    this.percentiles = percentiles.clone();
+    this.binScheme = percentiles.length == 0 ? null : new LinearBinScheme(histogramBinCount, histogramMaxValue);
+    this.parents = parents == null ? new StripedSensor[0] : parents;
+  }
+
+  /**
+   * Same as the linear bin scheme of Tehuti's histogram, where the width of the bins grows linearly, so the small
+   * values get a finer resolution.
+   */
+  private static class LinearBinScheme {
+    private final int bins;
+    private final double max;
+    private final double scale;
+
+    LinearBinScheme(int bins, double max) {
+      if (bins < 2) {
+        throw new IllegalArgumentException("Histogram must have at least 2 bins, but got: " + bins);
+      }
+      this.bins = bins;
+      this.max = max;
+      this.scale = max / (bins * (bins - 1) / 2.0);
+    }
+
+    int toBin(double value) {
+      if (value <= 0 || Double.isNaN(value)) {
+        return 0;
+      }
+      if (value > max) {
+        return bins - 1;
+      }
+      return Math.min((int) (-0.5 + Math.sqrt(2.0 * (value / scale) + 0.25)), bins - 1);
+    }
+
+    double fromBin(int bin) {
+      return (bin * (bin + 1.0)) / 2.0 * scale;
+    }
+  }
+
+  private static class Window {
+    private final long startMs;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+    private final DoubleAccumulator max = new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+    private final DoubleAccumulator min = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+    private final AtomicReferenceArray<AtomicIntegerArray> histogramStripes;
+
+    Window(long startMs, LinearBinScheme binScheme) {
+      this.startMs = startMs;
+      this.histogramStripes = binScheme == null ? null : new AtomicReferenceArray<>(HISTOGRAM_STRIPE_COUNT);
+    }
+
+    AtomicIntegerArray getHistogramStripe(int bins) {
+      int index = (int) (Thread.currentThread().getId() & (HISTOGRAM_STRIPE_COUNT - 1));
+      AtomicIntegerArray stripe = histogramStripes.get(index);
+      if (stripe == null) {
+        // Whoever loses the race will use the winner's stripe.
+        histogramStripes.compareAndSet(index, null, new AtomicIntegerArray(bins));
+        stripe = histogramStripes.get(index);
+      }
+      return stripe;
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Set<StatType> getStatTypes() {
+    return statTypes;
+  }
+
+  public double[] getPercentiles() {
+    return percentiles.clone();
+  }
+
+  public void record() {
+    record(1.0d);
+  }
+
+  public void record(double value) {
+    record(value, time.getMilliseconds());
+  }
+
+  public void record(double value, long currentTimeMs) {
+    Window window = getCurrentWindow(currentTimeMs);
+    window.count.increment();
+    window.sum.add(value);
+    if (statTypes.contains(StatType.MAX)) {
+      window.max.accumulate(value);
+    }
+    if (statTypes.contains(StatType.MIN)) {
+      window.min.accumulate(value);
+    }
+    if (window.histogramStripes != null) {
+      window.getHistogramStripe(binScheme.bins).incrementAndGet(binScheme.toBin(value));
+    }
+    if (statTypes.contains(StatType.TOTAL)) {
+      total.add(value);
+    }
+    for (StripedSensor parent: parents) {
+      parent.record(value, currentTimeMs);
+    }
+  }
+
+  private long getWindowStartMs(long currentTimeMs) {
+    return currentTimeMs - currentTimeMs % windowMs;
+  }
+
+  private int getWindowIndex(long windowStartMs) {
+    return (int) ((windowStartMs / windowMs) % WINDOW_COUNT);
+  }
+
+  private Window getCurrentWindow(long currentTimeMs) {
+    long windowStartMs = getWindowStartMs(currentTimeMs);
+    int index = getWindowIndex(windowStartMs);
+    while (true) {
+      Window window = windows.get(index);
+      if (window != null && window.startMs >= windowStartMs) {
+        // A window newer than the current time could only be observed with a clock going backwards.
+        return window;
+      }
+      // The slot is holding an expired window, so recycle it. Whoever loses the race will use the winner's window.
+      windows.compareAndSet(index, window, new Window(windowStartMs, binScheme));
+    }
+  }
+
+  /**
+   * @return the windows which are still valid at the given time, which are the current one and the previous one.
+   */
+  private Window[] getValidWindows(long currentTimeMs) {
+    long oldestValidWindowStartMs = getWindowStartMs(currentTimeMs) - windowMs * (WINDOW_COUNT - 1);
+    Window[] validWindows = new Window[WINDOW_COUNT];
+    for (int i = 0; i < WINDOW_COUNT; ++i) {
+      Window window = windows.get(i);
+      if (window != null && window.startMs >= oldestValidWindowStartMs) {
+        validWindows[i] = window;
+      }
+    }
+    return validWindows;
+  }
+
+  public double measure(StatType statType, long currentTimeMs) {
+    if (statType == StatType.TOTAL) {
+      return total.sum();
+    }
+    long count = 0;
+    double sum = 0;
+    double max = Double.NEGATIVE_INFINITY;
+    double min = Double.POSITIVE_INFINITY;
+    for (Window window: getValidWindows(currentTimeMs)) {
+      if (window == null) {
+        continue;
+      }
+      count += window.count.sum();
+      sum += window.sum.sum();
+      max = Math.max(max, window.max.get());
+      min = Math.min(min, window.min.get());
+    }
+    // The rates are measured since the beginning of the previous window, the same as Tehuti's Rate with 2 samples.
+    double elapsedSeconds =
+        (double) (currentTimeMs - getWindowStartMs(currentTimeMs) + windowMs * (WINDOW_COUNT - 1)) / Time.MS_PER_SECOND;
+    switch (statType) {
+      case COUNT:
+        return count;
+      case OCCURRENCE_RATE:
+        return count / elapsedSeconds;
+      case RATE:
+        return sum / elapsedSeconds;
+      case AVG:
+        return count == 0 ? Double.NaN : sum / count;
+      // The same as Tehuti's Max(0), which is what the hot-path sensors are using, so the idle sensors report 0.
+      case MAX:
+        return count == 0 ? 0 : max;
+      case MIN:
+        return count == 0 ? 0 : min;
+      default:
+        throw new IllegalArgumentException("Unknown stat type: " + statType);
+    }
+  }
+
+  /**
+   * @return a {@link Measurable} of the given stat, which could be used to build the ratio stats, e.g.
+   *         {@link TehutiUtils.SimpleRatioStat}.
+   */
+  public Measurable asMeasurable(StatType statType) {
+    return (config, now) -> measure(statType, now);
+  }
+
+  /**
+   * The same as {@link io.tehuti.metrics.stats.Percentiles}, the result is the lower bound of the first bin where the
+   * accumulated count exceeds the given percentile.
+   */
+  public double measurePercentile(double percentile, long currentTimeMs) {
+    if (binScheme == null) {
+      throw new IllegalStateException("Percentiles are not enabled for sensor: " + name);
+    }
+    // Merge the histograms first, so the concurrent records won't make the count and the bins inconsistent.
+    long[] mergedHistogram = new long[binScheme.bins];
+    long count = 0;
+    for (Window window: getValidWindows(currentTimeMs)) {
+      if (window == null) {
+        continue;
+      }
+      for (int i = 0; i < HISTOGRAM_STRIPE_COUNT; ++i) {
+        AtomicIntegerArray stripe = window.histogramStripes.get(i);
+        if (stripe == null) {
+          continue;
+        }
+        for (int bin = 0; bin < binScheme.bins; ++bin) {
+          int binCount = stripe.get(bin);
+          mergedHistogram[bin] += binCount;
+          count += binCount;
+        }
+      }
+    }
+    if (count == 0) {
+      return Double.NaN;
+    }
+    double quantile = percentile / 100;
+    long accumulatedCount = 0;
+    for (int bin = 0; bin < binScheme.bins; ++bin) {
+      accumulatedCount += mergedHistogram[bin];
+      if ((double) accumulatedCount / count > quantile) {
+        return binScheme.fromBin(bin);
+      }
+    }
+    return Double.POSITIVE_INFINITY;
+  }
+}
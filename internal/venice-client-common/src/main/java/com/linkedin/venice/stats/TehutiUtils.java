@@ -1,6 +1,7 @@
 package com.linkedin.venice.stats;
 
 import io.tehuti.metrics.JmxReporter;
+import io.tehuti.metrics.Measurable;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.stats.Avg;
@@ -15,15 +16,15 @@ import java.util.Arrays;
  * Utils for venice metrics
  */
 public class TehutiUtils {
-  private static final int DEFAULT_HISTOGRAM_SIZE_IN_BYTES = 40000;
-  private static final double DEFAULT_HISTOGRAM_MAX_VALUE = 10000;
-  private static final double[] DEFAULT_HISTOGRAM_PERCENTILES = new double[] { 50, 95, 99 };
+  static final int DEFAULT_HISTOGRAM_SIZE_IN_BYTES = 40000;
+  static final double DEFAULT_HISTOGRAM_MAX_VALUE = 10000;
+  static final double[] DEFAULT_HISTOGRAM_PERCENTILES = new double[] { 50, 95, 99 };
 
   // a fine grained percentiles. Please use it with cautions as it will emit more 20
   // metrics. It's likely to degrade critical path performance
-  private static final double[] FINE_GRAINED_HISTOGRAM_PERCENTILES =
+  static final double[] FINE_GRAINED_HISTOGRAM_PERCENTILES =
       new double[] { 0.01, 0.1, 1, 2, 3, 4, 5, 10, 20, 30, 40, 50, 60, 70, 80, 90, 95, 99, 99.9 };
-  private static final double[] HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY = new double[] { 50, 77, 90, 95, 99, 99.9 };
+  static final double[] HISTOGRAM_PERCENTILES_FOR_NETWORK_LATENCY = new double[] { 50, 77, 90, 95, 99, 99.9 };
   private static final String ROUND_NUMBER_SUFFIX = ".0";
 
   /**
@@ -105,6 +106,13 @@ public class TehutiUtils {
   }
 
   private static Percentile getPercentile(String name, double percentile) {
+    return new Percentile(name + "." + getPercentileMetricSuffix(percentile), percentile);
+  }
+
+  /**
+   * @return the attribute name of the given percentile, e.g. "50thPercentile" or "99_9thPercentile".
+   */
+  static String getPercentileMetricSuffix(double percentile) {
     String stringPercentile = Double.toString(percentile);
     // Clip decimals for round numbers.
     if (stringPercentile.endsWith(ROUND_NUMBER_SUFFIX)) {
@@ -115,7 +123,7 @@ public class TehutiUtils {
     if (stringPercentile.contains(".")) {
       stringPercentile = stringPercentile.replace(".", "_");
     }
-    return new Percentile(name + "." + stringPercentile + "thPercentile", percentile);
+    return stringPercentile + "thPercentile";
   }
 
   /**
@@ -153,10 +161,11 @@ public class TehutiUtils {
    * By using {@link Rate}, the ratio metric will be more reasonable since it doesn't depend on the actual window size/starting time,
    * but the average event frequency. It is still not perfect, since both nominator and denominator metrics could still
    * use different window size/starting time.
-   * The ultimate solution should be to use the consistent windowing (based on absolute time) across all the metrics.
+   * The ultimate solution should be to use the consistent windowing (based on absolute time) across all the metrics,
+   * which is what {@link StripedSensor} does, so both sides could also be the rates measured by {@link StripedSensor}.
    */
   public static class RatioStat extends LambdaStat {
-    public RatioStat(Rate one, Rate two) {
+    public RatioStat(Measurable one, Measurable two) {
       super((config, now) -> {
         double numerator = one.measure(config, now);
         double denominator = two.measure(config, now);
@@ -176,7 +185,7 @@ public class TehutiUtils {
    * numerator stat over the denominator stat.
    */
   public static class SimpleRatioStat extends LambdaStat {
-    public SimpleRatioStat(Rate numeratorStat, Rate denominatorStat) {
+    public SimpleRatioStat(Measurable numeratorStat, Measurable denominatorStat) {
       super((config, now) -> {
         double numerator = numeratorStat.measure(config, now);
         double denominator = denominatorStat.measure(config, now);
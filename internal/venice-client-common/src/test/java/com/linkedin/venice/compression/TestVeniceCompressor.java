@@ -4,6 +4,7 @@ import com.github.luben.zstd.Zstd;
 import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Time;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -13,6 +14,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 import org.testng.Assert;
@@ -40,7 +43,13 @@ public class TestVeniceCompressor {
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, 0 },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
         { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
-        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
+        { CompressionStrategy.ZSTD_WITH_DICT, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, 0 },
+        { CompressionStrategy.LZ4, SourceDataType.DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.NON_DIRECT_BYTE_BUFFER, ByteUtils.SIZE_OF_INT },
+        { CompressionStrategy.LZ4, SourceDataType.BYTE_ARRAY, ByteUtils.SIZE_OF_INT } };
   }
 
   private VeniceCompressor getCompressor(CompressionStrategy strategy) {
@@ -143,14 +152,25 @@ public class TestVeniceCompressor {
             .createVersionSpecificCompressorIfNotExist(CompressionStrategy.ZSTD_WITH_DICT, "foo_v1", null));
   }
 
+  @Test
+  public void testLz4InputStreamDecompression() throws IOException {
+    try (VeniceCompressor compressor = new CompressorFactory().getCompressor(CompressionStrategy.LZ4)) {
+      byte[] data = StringUtils.repeat("value", 20).getBytes();
+      byte[] compressed = compressor.compress(data);
+      Assert.assertTrue(compressed.length < data.length);
+      Assert.assertEquals(IOUtils.toByteArray(compressor.decompress(new ByteArrayInputStream(compressed))), data);
+      Assert.assertThrows(IllegalStateException.class, () -> compressor.decompress(new byte[2], 0, 2));
+    }
+  }
+
   @Test
   public void testCompressorEqual() {
     VeniceCompressor[] compressors1 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor() };
     VeniceCompressor[] compressors2 = new VeniceCompressor[] { new NoopCompressor(), new GzipCompressor(),
         new ZstdWithDictCompressor("abc".getBytes(), Zstd.maxCompressionLevel()),
-        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()) };
+        new ZstdWithDictCompressor("def".getBytes(), Zstd.maxCompressionLevel()), new Lz4Compressor() };
     for (int i = 0; i < compressors1.length; ++i) {
       for (int j = 0; j < compressors1.length; ++j) {
         if (i == j) {
@@ -0,0 +1,54 @@
+package com.linkedin.venice.read;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import java.nio.ByteBuffer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class KeyPrefixScanContinuationTokenTest {
+  @Test
+  public void testRoundTrip() {
+    byte[] lastKey = "key_42".getBytes();
+    KeyPrefixScanContinuationToken token =
+        KeyPrefixScanContinuationToken.fromBytes(new KeyPrefixScanContinuationToken(3, 7, lastKey).toBytes());
+    Assert.assertEquals(token.getVersionNumber(), 3);
+    Assert.assertEquals(token.getPartition(), 7);
+    Assert.assertEquals(token.getLastKey(), lastKey);
+
+    // A token without key resumes from the beginning of the partition.
+    token = KeyPrefixScanContinuationToken.fromBytes(new KeyPrefixScanContinuationToken(3, 8, null).toBytes());
+    Assert.assertEquals(token.getPartition(), 8);
+    Assert.assertNull(token.getLastKey());
+
+    // An empty key is not the same as no key.
+    token = KeyPrefixScanContinuationToken.fromBytes(new KeyPrefixScanContinuationToken(3, 0, new byte[0]).toBytes());
+    Assert.assertEquals(token.getLastKey(), new byte[0]);
+  }
+
+  @Test
+  public void testDecodingDoesNotConsumeTheBuffer() {
+    ByteBuffer bytes = new KeyPrefixScanContinuationToken(1, 2, "key".getBytes()).toBytes();
+    int remaining = bytes.remaining();
+    KeyPrefixScanContinuationToken.fromBytes(bytes);
+    Assert.assertEquals(bytes.remaining(), remaining);
+    Assert.assertEquals(KeyPrefixScanContinuationToken.fromBytes(bytes).getPartition(), 2);
+  }
+
+  @Test
+  public void testInvalidToken() {
+    ByteBuffer valid = new KeyPrefixScanContinuationToken(1, 2, "key".getBytes()).toBytes();
+    ByteBuffer truncated = ByteBuffer.wrap(valid.array(), 0, valid.remaining() - 1);
+    ByteBuffer trailingBytes = ByteBuffer.allocate(valid.remaining() + 1).put(valid.duplicate());
+    trailingBytes.flip().limit(trailingBytes.capacity());
+    ByteBuffer negativeKeyLength = ByteBuffer.allocate(3 * Integer.BYTES).putInt(1).putInt(2).putInt(-5);
+    negativeKeyLength.flip();
+    ByteBuffer invalidVersion = new KeyPrefixScanContinuationToken(0, 2, null).toBytes();
+    ByteBuffer invalidPartition = new KeyPrefixScanContinuationToken(1, -1, null).toBytes();
+
+    for (ByteBuffer bytes: new ByteBuffer[] { ByteBuffer.allocate(0), truncated, trailingBytes, negativeKeyLength,
+        invalidVersion, invalidPartition }) {
+      Assert.assertThrows(VeniceException.class, () -> KeyPrefixScanContinuationToken.fromBytes(bytes));
+    }
+  }
+}
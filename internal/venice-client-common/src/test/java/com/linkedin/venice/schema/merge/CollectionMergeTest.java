@@ -17,10 +17,13 @@ import com.linkedin.venice.utils.IndexedHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -291,6 +294,145 @@ public class CollectionMergeTest {
     Assert.assertEquals(updatedMap, Arrays.asList("key1", "key2", "key3", "key4"));
   }
 
+  @Test
+  public void testMergeTouchedElements() {
+    Comparator<ElementAndTimestamp> comparator = (o1, o2) -> {
+      int timestampCompareResult = Long.compare(o1.getTimestamp(), o2.getTimestamp());
+      return timestampCompareResult == 0
+          ? ((String) o1.getElement()).compareTo((String) o2.getElement())
+          : timestampCompareResult;
+    };
+    // "key2" and "key4" got new timestamps, the other elements are still sorted.
+    List<ElementAndTimestamp> elementAndTsList = new ArrayList<>(
+        Arrays.asList(
+            new ElementAndTimestamp("key1", 1L),
+            new ElementAndTimestamp("key2", 5L),
+            new ElementAndTimestamp("key3", 2L),
+            new ElementAndTimestamp("key4", 0L),
+            new ElementAndTimestamp("key5", 3L)));
+    SortBasedCollectionFieldOpHandler
+        .mergeTouchedElements(elementAndTsList, new HashSet<>(Arrays.asList("key2", "key4")), comparator);
+    Assert.assertEquals(getElements(elementAndTsList), Arrays.asList("key4", "key1", "key3", "key5", "key2"));
+
+    // The untouched elements are not sorted, so the whole list is sorted.
+    elementAndTsList = new ArrayList<>(
+        Arrays.asList(
+            new ElementAndTimestamp("key3", 2L),
+            new ElementAndTimestamp("key1", 1L),
+            new ElementAndTimestamp("key2", 0L)));
+    SortBasedCollectionFieldOpHandler
+        .mergeTouchedElements(elementAndTsList, Collections.singleton("key2"), comparator);
+    Assert.assertEquals(getElements(elementAndTsList), Arrays.asList("key2", "key1", "key3"));
+  }
+
+  @Test
+  public void testCollectionMergeListStaysSorted() {
+    GenericRecord currValueRecord = new GenericData.Record(VALUE_SCHEMA);
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.STRING));
+    collectionTimestampBuilder.setTopLevelTimestamps(1L);
+    collectionTimestampBuilder.setTopLevelColoID(1);
+    collectionTimestampBuilder.setPutOnlyPartLength(0);
+    collectionTimestampBuilder.setActiveElementsTimestamps(Collections.emptyList());
+    collectionTimestampBuilder.setDeletedElementTimestamps(Collections.emptyList());
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.STRING), Collections.emptyList());
+    collectionTimestampBuilder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(LIST_FIELD_NAME).schema());
+    CollectionRmdTimestamp<Object> collectionMetadata =
+        new CollectionRmdTimestamp<>(collectionTimestampBuilder.build());
+    currValueRecord.put(LIST_FIELD_NAME, new ArrayList<>());
+    SortBasedCollectionFieldOpHandler handlerToTest =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+    // Out-of-order operations on random elements, which places the touched elements everywhere in the list.
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      List<Object> toAddItems = new ArrayList<>();
+      List<Object> toRemoveItems = new ArrayList<>();
+      for (int j = 0; j < 5; j++) {
+        (random.nextInt(4) == 0 ? toRemoveItems : toAddItems).add("key" + random.nextInt(100));
+      }
+      handlerToTest.handleModifyList(
+          2L + random.nextInt(50),
+          collectionMetadata,
+          currValueRecord,
+          LIST_FIELD_NAME,
+          toAddItems,
+          toRemoveItems);
+
+      List<Object> activeElements = (List<Object>) currValueRecord.get(LIST_FIELD_NAME);
+      assertSortedByTimestampAndElement(activeElements, collectionMetadata.getActiveElementTimestamps());
+      assertSortedByTimestampAndElement(
+          collectionMetadata.getDeletedElements(),
+          collectionMetadata.getDeletedElementTimestamps());
+    }
+  }
+
+  @Test
+  public void testCollectionMergeMapStaysSorted() {
+    GenericRecord currValueRecord = new GenericData.Record(VALUE_SCHEMA);
+    CollectionTimestampBuilder collectionTimestampBuilder =
+        new CollectionTimestampBuilder(Schema.create(Schema.Type.LONG));
+    collectionTimestampBuilder.setTopLevelTimestamps(1L);
+    collectionTimestampBuilder.setTopLevelColoID(1);
+    collectionTimestampBuilder.setPutOnlyPartLength(0);
+    collectionTimestampBuilder.setActiveElementsTimestamps(Collections.emptyList());
+    collectionTimestampBuilder.setDeletedElementTimestamps(Collections.emptyList());
+    collectionTimestampBuilder.setDeletedElements(Schema.create(Schema.Type.STRING), Collections.emptyList());
+    collectionTimestampBuilder
+        .setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(NULLABLE_MAP_FIELD_NAME).schema());
+    CollectionRmdTimestamp<String> collectionMetadata =
+        new CollectionRmdTimestamp<>(collectionTimestampBuilder.build());
+    currValueRecord.put(NULLABLE_MAP_FIELD_NAME, new IndexedHashMap<>());
+    SortBasedCollectionFieldOpHandler handlerToTest =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      Map<String, Object> newEntries = new HashMap<>();
+      List<String> toRemoveKeys = new ArrayList<>();
+      for (int j = 0; j < 5; j++) {
+        String key = "key" + random.nextInt(100);
+        if (random.nextInt(4) == 0) {
+          toRemoveKeys.add(key);
+        } else {
+          newEntries.put(key, random.nextInt());
+        }
+      }
+      handlerToTest.handleModifyMap(
+          2L + random.nextInt(50),
+          collectionMetadata,
+          currValueRecord,
+          NULLABLE_MAP_FIELD_NAME,
+          newEntries,
+          toRemoveKeys);
+
+      Map<String, Object> activeEntries = (Map<String, Object>) currValueRecord.get(NULLABLE_MAP_FIELD_NAME);
+      assertSortedByTimestampAndElement(
+          new ArrayList<>(activeEntries.keySet()),
+          collectionMetadata.getActiveElementTimestamps());
+      assertSortedByTimestampAndElement(
+          collectionMetadata.getDeletedElements(),
+          collectionMetadata.getDeletedElementTimestamps());
+    }
+  }
+
+  private static void assertSortedByTimestampAndElement(List<?> elements, List<Long> timestamps) {
+    Assert.assertEquals(elements.size(), timestamps.size());
+    for (int i = 1; i < elements.size(); i++) {
+      int timestampCompareResult = Long.compare(timestamps.get(i - 1), timestamps.get(i));
+      Assert.assertTrue(
+          timestampCompareResult < 0 || (timestampCompareResult == 0
+              && elements.get(i - 1).toString().compareTo(elements.get(i).toString()) < 0),
+          "Elements are not sorted at index " + i + ": " + elements + " " + timestamps);
+    }
+  }
+
+  private static List<Object> getElements(List<ElementAndTimestamp> elementAndTsList) {
+    List<Object> elements = new ArrayList<>(elementAndTsList.size());
+    elementAndTsList.forEach(elementAndTs -> elements.add(elementAndTs.getElement()));
+    return elements;
+  }
+
   private GenericRecord initiateFieldLevelRmdRecord() {
     GenericRecord rmdRecord = new GenericData.Record(RMD_SCHEMA);
     Schema fieldLevelTimestampSchema =
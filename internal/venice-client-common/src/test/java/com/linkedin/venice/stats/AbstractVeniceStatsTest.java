@@ -83,4 +83,39 @@ public class AbstractVeniceStatsTest {
     Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.bar").value(), 1.0);
     Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.bar2").value(), 2.0);
   }
+
+  @Test
+  public void testRegisterStripedSensor() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    AbstractVeniceStats stats = new AbstractVeniceStats(metricsRepository, "myMetric");
+    StripedSensor sensor = stats.registerStripedSensorWithPercentiles(
+        "foo",
+        StripedSensor.StatType.COUNT,
+        StripedSensor.StatType.AVG);
+    // Count, Avg, 50thPercentile, 95thPercentile and 99thPercentile
+    Assert.assertEquals(metricsRepository.metrics().size(), 5);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.Count").value(), 0.0);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.50thPercentile").value(), Double.NaN);
+
+    // The same stats object should return the sensor it owns, while the metrics already registered in the repository
+    // by another stats object should stay bound to the first sensor.
+    Assert.assertSame(stats.registerStripedSensor("foo", StripedSensor.StatType.COUNT), sensor);
+    AbstractVeniceStats anotherStats = new AbstractVeniceStats(metricsRepository, "myMetric");
+    StripedSensor anotherSensor = anotherStats.registerStripedSensor("foo", StripedSensor.StatType.COUNT);
+    Assert.assertNotSame(anotherSensor, sensor);
+    Assert.assertEquals(metricsRepository.metrics().size(), 5);
+    anotherSensor.record(30.0);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.Count").value(), 0.0);
+
+    sensor.record(10.0);
+    sensor.record(20.0);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.Count").value(), 2.0);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.Avg").value(), 15.0);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.50thPercentile").value(), 10.0, 0.1);
+
+    stats.unregisterAllSensors();
+    Assert.assertEquals(metricsRepository.metrics().size(), 0);
+    Assert.assertNotSame(stats.registerStripedSensor("foo", StripedSensor.StatType.COUNT), sensor);
+    Assert.assertEquals(metricsRepository.getMetric(".myMetric--foo.Count").value(), 0.0);
+  }
 }
@@ -0,0 +1,164 @@
+package com.linkedin.venice.stats;
+
+import static com.linkedin.venice.stats.StripedSensor.StatType.AVG;
+import static com.linkedin.venice.stats.StripedSensor.StatType.COUNT;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MAX;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MIN;
+import static com.linkedin.venice.stats.StripedSensor.StatType.OCCURRENCE_RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.TOTAL;
+
+import com.linkedin.venice.utils.TestMockTime;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedSensorTest {
+  private static final long WINDOW_MS = 1000;
+
+  private StripedSensor getStripedSensor(TestMockTime time) {
+    return new StripedSensor(
+        "test",
+        time,
+        WINDOW_MS,
+        EnumSet.allOf(StripedSensor.StatType.class),
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        TehutiUtils.DEFAULT_HISTOGRAM_SIZE_IN_BYTES / Integer.BYTES,
+        TehutiUtils.DEFAULT_HISTOGRAM_MAX_VALUE);
+  }
+
+  @Test
+  public void testStatsAndWindows() {
+    TestMockTime time = new TestMockTime(0);
+    StripedSensor sensor = getStripedSensor(time);
+    for (int i = 1; i <= 4; ++i) {
+      sensor.record(i);
+    }
+
+    time.setTime(500);
+    long now = time.getMilliseconds();
+    Assert.assertEquals(sensor.measure(COUNT, now), 4.0);
+    Assert.assertEquals(sensor.measure(AVG, now), 2.5);
+    Assert.assertEquals(sensor.measure(MAX, now), 4.0);
+    Assert.assertEquals(sensor.measure(MIN, now), 1.0);
+    Assert.assertEquals(sensor.measure(TOTAL, now), 10.0);
+    // The rates are measured since the beginning of the previous window, which is 1.5 seconds ago.
+    Assert.assertEquals(sensor.measure(OCCURRENCE_RATE, now), 4 / 1.5, 0.0001);
+    Assert.assertEquals(sensor.measure(RATE, now), 10 / 1.5, 0.0001);
+
+    // The records in the previous window should still be counted.
+    time.setTime(1500);
+    sensor.record(10);
+    now = time.getMilliseconds();
+    Assert.assertEquals(sensor.measure(COUNT, now), 5.0);
+    Assert.assertEquals(sensor.measure(MAX, now), 10.0);
+
+    // The first window has expired, but Total is un-windowed.
+    time.setTime(2500);
+    now = time.getMilliseconds();
+    Assert.assertEquals(sensor.measure(COUNT, now), 1.0);
+    Assert.assertEquals(sensor.measure(MIN, now), 10.0);
+    Assert.assertEquals(sensor.measure(TOTAL, now), 20.0);
+
+    time.setTime(4000);
+    now = time.getMilliseconds();
+    Assert.assertEquals(sensor.measure(COUNT, now), 0.0);
+    Assert.assertEquals(sensor.measure(OCCURRENCE_RATE, now), 0.0);
+    Assert.assertEquals(sensor.measure(AVG, now), Double.NaN);
+    Assert.assertEquals(sensor.measure(MAX, now), 0.0);
+    Assert.assertEquals(sensor.measurePercentile(50, now), Double.NaN);
+  }
+
+  @Test
+  public void testPercentilesMatchTehuti() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    Sensor tehutiSensor = new AbstractVeniceStats(metricsRepository, "test")
+        .registerSensor("tehuti", TehutiUtils.getFineGrainedPercentileStat(".test", "tehuti"));
+    StripedSensor stripedSensor = new StripedSensor(
+        "striped",
+        EnumSet.noneOf(StripedSensor.StatType.class),
+        TehutiUtils.FINE_GRAINED_HISTOGRAM_PERCENTILES);
+
+    Random random = new Random(1);
+    // Not a round number, so no percentile falls on the boundary of two records.
+    for (int i = 0; i < 9999; ++i) {
+      // Cover the values beyond the histogram max value as well.
+      double value = random.nextDouble() * TehutiUtils.DEFAULT_HISTOGRAM_MAX_VALUE * 1.2;
+      tehutiSensor.record(value);
+      stripedSensor.record(value);
+    }
+    long now = System.currentTimeMillis();
+    for (double percentile: TehutiUtils.FINE_GRAINED_HISTOGRAM_PERCENTILES) {
+      String metricName = ".test--tehuti." + TehutiUtils.getPercentileMetricSuffix(percentile);
+      Assert.assertEquals(
+          stripedSensor.measurePercentile(percentile, now),
+          metricsRepository.getMetric(metricName).value(),
+          0.0001,
+          "Percentile: " + percentile);
+    }
+  }
+
+  @Test
+  public void testConcurrentRecording() throws InterruptedException {
+    StripedSensor parent = getStripedSensor(new TestMockTime(0));
+    StripedSensor sensor = new StripedSensor(
+        "test",
+        new TestMockTime(0),
+        WINDOW_MS,
+        EnumSet.of(COUNT, TOTAL, MAX),
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        TehutiUtils.DEFAULT_HISTOGRAM_SIZE_IN_BYTES / Integer.BYTES,
+        TehutiUtils.DEFAULT_HISTOGRAM_MAX_VALUE,
+        parent);
+    int threadCount = 8;
+    int recordCountPerThread = 100000;
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+    for (int i = 0; i < threadCount; ++i) {
+      executorService.submit(() -> {
+        for (int j = 1; j <= recordCountPerThread; ++j) {
+          sensor.record(j % 100);
+        }
+      });
+    }
+    executorService.shutdown();
+    Assert.assertTrue(executorService.awaitTermination(60, TimeUnit.SECONDS));
+
+    for (StripedSensor s: new StripedSensor[] { sensor, parent }) {
+      Assert.assertEquals(s.measure(COUNT, 0), (double) threadCount * recordCountPerThread);
+      Assert.assertEquals(s.measure(TOTAL, 0), (double) threadCount * recordCountPerThread / 100 * 4950);
+      Assert.assertEquals(s.measure(MAX, 0), 99.0);
+      Assert.assertEquals(s.measurePercentile(50, 0), 49.0, 1.0);
+    }
+  }
+
+  @Test(timeOut = 60000)
+  public void testHistogramStripesAreMergedOnRead() throws InterruptedException {
+    StripedSensor sensor = getStripedSensor(new TestMockTime(0));
+    // Every thread records a different value, so the percentiles are only right when all the stripes are merged.
+    int threadCount = 8;
+    int recordCountPerThread = 1000;
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+    for (int i = 1; i <= threadCount; ++i) {
+      double value = i * 10;
+      executorService.submit(() -> {
+        for (int j = 0; j < recordCountPerThread; ++j) {
+          sensor.record(value);
+        }
+      });
+    }
+    executorService.shutdown();
+    Assert.assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+
+    Assert.assertEquals(sensor.measure(COUNT, 0), (double) threadCount * recordCountPerThread);
+    Assert.assertEquals(sensor.measurePercentile(50, 0), 50.0, 1.0);
+    Assert.assertEquals(sensor.measurePercentile(95, 0), 80.0, 1.0);
+    Assert.assertEquals(sensor.measurePercentile(10, 0), 10.0, 1.0);
+  }
+}
@@ -297,6 +297,19 @@ public class ConfigKeys {
   public static final String CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.metadata.system.schema.store.auto.creation.enabled";
 
+  /**
+   * Whether controller writes the store, store config and schema znodes in the compact Avro binary format instead of
+   * JSON. All the components are able to read both formats, so this should only be enabled once every reader of the
+   * cluster has been upgraded to a release which understands the binary format.
+   */
+  public static final String CONTROLLER_ZK_BINARY_FORMAT_ENABLED = "controller.zk.binary.format.enabled";
+
+  /**
+   * The compression strategy applied to the znodes written in the binary format, only NO_OP and GZIP are supported.
+   */
+  public static final String CONTROLLER_ZK_BINARY_FORMAT_COMPRESSION_STRATEGY =
+      "controller.zk.binary.format.compression.strategy";
+
   /**
    * Whether controller should enforce SSL.
    */
@@ -456,6 +469,59 @@ public class ConfigKeys {
   public static final String SERVER_DATABASE_SYNC_BYTES_INTERNAL_FOR_DEFERRED_WRITE_MODE =
       "server.database.sync.bytes.interval.for.deferred.write.mode";
 
+  /**
+   * The directory where the partition snapshots requested via
+   * {@link com.linkedin.venice.meta.ServerAdminAction#CREATE_PARTITION_SNAPSHOT} are created, which should be on a
+   * file system readable by the repush jobs and on the same file system as {@link #DATA_BASE_PATH}, so the SST files
+   * can be hard-linked instead of copied.
+   */
+  public static final String SERVER_PARTITION_SNAPSHOT_DIR = "server.partition.snapshot.dir";
+
+  /**
+   * How long a partition snapshot created via
+   * {@link com.linkedin.venice.meta.ServerAdminAction#CREATE_PARTITION_SNAPSHOT} is kept before it is deleted. The
+   * snapshot hard-links the SST files, so it holds on to the data compacted away since its creation until it is
+   * deleted.
+   */
+  public static final String SERVER_PARTITION_SNAPSHOT_RETENTION_MS = "server.partition.snapshot.retention.ms";
+
+  /**
+   * Maximum number of partition snapshots being created at the same time by a storage node, the requests above the
+   * limit are rejected.
+   */
+  public static final String SERVER_PARTITION_SNAPSHOT_MAX_CONCURRENT_CREATIONS =
+      "server.partition.snapshot.max.concurrent.creations";
+
+  /**
+   * Whether a new replica should bootstrap from a RocksDB snapshot of the partition fetched from a peer which is ready
+   * to serve it, and then only consume the version topic from the offset recorded in the snapshot. The replica falls
+   * back to consuming the whole version topic if no peer can provide a snapshot.
+   */
+  public static final String SERVER_PEER_SNAPSHOT_BOOTSTRAP_ENABLED = "server.peer.snapshot.bootstrap.enabled";
+
+  /**
+   * Maximum rate at which a storage node downloads the snapshots of its peers, shared by all the partitions.
+   */
+  public static final String SERVER_PEER_SNAPSHOT_BOOTSTRAP_MAX_BYTES_PER_SEC =
+      "server.peer.snapshot.bootstrap.max.bytes.per.sec";
+
+  /**
+   * How long a new replica waits for the snapshot of a peer before it falls back to consuming the whole version topic.
+   * The replica waits in its state transition, so this should stay below the state transition timeout, if any.
+   */
+  public static final String SERVER_PEER_SNAPSHOT_BOOTSTRAP_TIMEOUT_MS = "server.peer.snapshot.bootstrap.timeout.ms";
+
+  /**
+   * How long a storage node keeps serving the same snapshot of a partition to its peers before creating a new one.
+   */
+  public static final String SERVER_PEER_SNAPSHOT_MAX_AGE_MS = "server.peer.snapshot.max.age.ms";
+
+  /**
+   * Maximum number of records returned in one page of a key prefix scan, a request asking for more records gets a
+   * smaller page and resumes the scan with the continuation token of that page.
+   */
+  public static final String SERVER_KEY_PREFIX_SCAN_MAX_RECORD_COUNT = "server.key.prefix.scan.max.record.count";
+
   /**
    * When load balance happens, a replica could be moved to another storage node.
    * When dropping the existing replica through Helix state transition: 'ONLINE' -> 'OFFLINE' and 'OFFLINE' -> 'DROPPED',
@@ -1673,6 +1739,13 @@ public class ConfigKeys {
   public static final String DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE =
       "davinci.push.status.scan.max.offline.instance";
 
+  /**
+   * Whether the controller aggregates Da Vinci push status incrementally by consuming the real-time topics of the push
+   * status stores, instead of reading all the partition statuses from the push status stores in every scan. The scan
+   * still runs to catch the dead instances, but it only evaluates the in-memory statuses of the consumed topics.
+   */
+  public static final String DAVINCI_PUSH_STATUS_CHANGE_STREAM_ENABLED = "davinci.push.status.change.stream.enabled";
+
   public static final String CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED =
       "controller.zk.shared.davinci.push.status.system.schema.store.auto.creation.enabled";
 
@@ -1916,6 +1989,20 @@ public class ConfigKeys {
    */
   public static final String SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY = "server.ssl.handshake.queue.capacity";
 
+  /**
+   * A comma-separated list of store names whose batch-only versions are stored with the read-optimized memory-mapped
+   * storage engine instead of the storage engine configured for the host. Hybrid and active-active versions of these
+   * stores keep using the host level storage engine, since the memory-mapped one is immutable after the batch push.
+   */
+  public static final String SERVER_MMAP_STORAGE_ENGINE_STORE_ALLOWLIST = "server.mmap.storage.engine.store.allowlist";
+
+  /**
+   * The max direct memory, in bytes, which the partitions of the IN_MEMORY storage engine can allocate in total. Writes
+   * which don't fit in this budget fail. A non-positive value, which is the default, doesn't bound the allocations.
+   */
+  public static final String SERVER_IN_MEMORY_STORAGE_ENGINE_MEMORY_BUDGET_IN_BYTES =
+      "server.in.memory.storage.engine.memory.budget.in.bytes";
+
   /**
    * Number of threads for online Venice producer controlling the number of concurrent write operations.
    */
@@ -1927,6 +2014,30 @@ public class ConfigKeys {
   public static final String CLIENT_PRODUCER_SCHEMA_REFRESH_INTERVAL_SECONDS =
       "client.producer.schema.refresh.interval.seconds";
 
+  /**
+   * Whether the online Venice producer should dispatch writes through per-partition pipelines which send batches of
+   * records without waiting for the acknowledgement of each record, instead of one record at a time per thread.
+   * {@link #CLIENT_PRODUCER_THREAD_NUM} controls the number of pipelines in this mode.
+   */
+  public static final String CLIENT_PRODUCER_PIPELINED_MODE_ENABLED = "client.producer.pipelined.mode.enabled";
+
+  /**
+   * The maximum number of serialized key and value bytes which the pipelined producer holds for records that have been
+   * accepted but not yet acknowledged by the PubSub system.
+   */
+  public static final String CLIENT_PRODUCER_MAX_IN_FLIGHT_BYTES = "client.producer.max.in.flight.bytes";
+
+  /**
+   * What the pipelined producer does when {@link #CLIENT_PRODUCER_MAX_IN_FLIGHT_BYTES} is exhausted. Either "BLOCK",
+   * which blocks the caller until enough bytes are acknowledged, or "FAIL_FAST", which fails the write right away.
+   */
+  public static final String CLIENT_PRODUCER_BACKPRESSURE_POLICY = "client.producer.backpressure.policy";
+
+  /**
+   * The maximum number of records which a pipeline of the producer sends in one batch.
+   */
+  public static final String CLIENT_PRODUCER_MAX_BATCH_SIZE = "client.producer.max.batch.size";
+
   /*
    * The memory up-limit for the ingestion path while using RocksDB Plaintable format.
    * Currently, this option is only meaningful for DaVinci use cases.
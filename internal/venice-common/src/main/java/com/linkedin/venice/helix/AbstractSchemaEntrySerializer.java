@@ -2,12 +2,14 @@ package com.linkedin.venice.helix;
 
 import static com.linkedin.venice.helix.HelixSchemaAccessor.MULTIPART_SCHEMA_VERSION_DELIMITER;
 
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
-import com.linkedin.venice.meta.VeniceSerializer;
 import com.linkedin.venice.schema.GeneratedSchemaEntry;
+import java.io.IOException;
 
 
-public abstract class AbstractSchemaEntrySerializer<T extends GeneratedSchemaEntry> implements VeniceSerializer<T> {
+public abstract class AbstractSchemaEntrySerializer<T extends GeneratedSchemaEntry>
+    implements BinaryFormatZkSerializer<T> {
   protected abstract T getInstance(int schemaVersion, int protocolVersion, byte[] schemaBytes);
 
   @Override
@@ -15,6 +17,12 @@ public abstract class AbstractSchemaEntrySerializer<T extends GeneratedSchemaEnt
     return object.getSchemaBytes();
   }
 
+  @Override
+  public byte[] serializeInBinaryFormat(T object, String path, CompressionStrategy compressionStrategy)
+      throws IOException {
+    return ZkBinaryFormat.encode(object.getSchemaBytes(), 0, compressionStrategy);
+  }
+
   @Override
   public T deserialize(byte[] bytes, String path) {
     if (path.isEmpty()) {
@@ -27,6 +35,14 @@ public abstract class AbstractSchemaEntrySerializer<T extends GeneratedSchemaEnt
     }
     String lastPathElement = path.substring(indexOfLastPathElement + 1);
     String[] ids = lastPathElement.split(MULTIPART_SCHEMA_VERSION_DELIMITER);
-    return getInstance(Integer.parseInt(ids[0]), Integer.parseInt(ids[1]), bytes);
+    byte[] schemaBytes = bytes;
+    if (ZkBinaryFormat.isBinaryFormat(bytes)) {
+      try {
+        schemaBytes = ZkBinaryFormat.decodePayload(bytes);
+      } catch (IOException e) {
+        throw new VeniceException("Failed to decompress the schema in the znode: " + path, e);
+      }
+    }
+    return getInstance(Integer.parseInt(ids[0]), Integer.parseInt(ids[1]), schemaBytes);
   }
 }
@@ -0,0 +1,15 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.VeniceSerializer;
+import java.io.IOException;
+
+
+/**
+ * Serializer of the znodes which could be written in the compact {@link ZkBinaryFormat}. {@link #serialize} keeps
+ * writing the legacy format, and {@link HelixAdapterSerializer} only calls {@link #serializeInBinaryFormat} once the
+ * binary format is enabled for the process. {@link #deserialize} must accept both formats.
+ */
+public interface BinaryFormatZkSerializer<T> extends VeniceSerializer<T> {
+  byte[] serializeInBinaryFormat(T object, String path, CompressionStrategy compressionStrategy) throws IOException;
+}
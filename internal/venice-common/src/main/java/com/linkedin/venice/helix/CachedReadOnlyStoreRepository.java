@@ -11,6 +11,7 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 
+/**
+ * Caches the stores of a cluster as immutable snapshots: every change of a store publishes a new {@link ReadOnlyStore}
+ * into {@link #storeMap}, and the readers share the published snapshot without cloning or wrapping it again. A reader
+ * always sees a consistent version of a store, since a snapshot is never modified after it is published.
+ */
 public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   private static final Logger LOGGER = LogManager.getLogger(CachedReadOnlyStoreRepository.class);
 
@@ -38,6 +44,9 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   protected final ZkBaseDataAccessor<Store> zkDataAccessor;
 
   protected final ClusterLockManager clusterLockManager;
+  /**
+   * Store name to the immutable snapshot of the store, see {@link #putStore(Store)}.
+   */
   protected final Map<String, Store> storeMap = new VeniceConcurrentHashMap<>();
   private final AtomicLong totalStoreReadQuota = new AtomicLong();
   private final Set<StoreDataChangedListener> listeners = new CopyOnWriteArraySet<>();
@@ -54,7 +63,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
         Paths.get(HelixUtils.getHelixClusterZkPath(clusterName), STORE_REPOSITORY_PATH).toString();
     compositeSerializer.registerSerializer(clusterStoreRepositoryPath, new VeniceJsonSerializer<>(Integer.TYPE));
     compositeSerializer
-        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreJSONSerializer());
+        .registerSerializer(getStoreZkPath(PathResourceRegistry.WILDCARD_MATCH_ANY), new StoreBinarySerializer());
     zkClient.setZkSerializer(compositeSerializer);
     this.clusterLockManager = clusterLockManager;
   }
@@ -63,7 +72,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public Store getStore(String storeName) {
     Store store = storeMap.get(storeName);
     if (store != null) {
-      return new ReadOnlyStore(store);
+      return store;
     }
     return refreshOneStore(storeName);
   }
@@ -71,7 +80,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
   public Store getStoreOrThrow(String storeName) throws VeniceNoStoreException {
     Store store = storeMap.get(storeName);
     if (store != null) {
-      return new ReadOnlyStore(store);
+      return store;
     }
     throw new VeniceNoStoreException(storeName, clusterName);
   }
@@ -83,7 +92,7 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
 
   @Override
   public List<Store> getAllStores() {
-    return storeMap.values().stream().map(s -> new ReadOnlyStore(s)).collect(Collectors.toList());
+    return new ArrayList<>(storeMap.values());
   }
 
   @Override
@@ -130,10 +139,11 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
       Store newStore = getStoreFromZk(storeName);
       if (newStore != null) {
         putStore(newStore);
+        return new ReadOnlyStore(newStore);
       } else {
         removeStore(storeName);
+        return null;
       }
-      return newStore;
     }
   }
 
@@ -156,18 +166,25 @@ public class CachedReadOnlyStoreRepository implements ReadOnlyStoreRepository {
     listeners.remove(listener);
   }
 
+  /**
+   * Publishes a new snapshot of the store. The repository takes the ownership of {@param newStore}, which must not be
+   * modified by the caller afterwards, so it can be shared by all the readers until the next change of the store.
+   *
+   * @return the previous snapshot of the store, or null if the store didn't exist.
+   */
   protected Store putStore(Store newStore) {
     try (AutoCloseableLock ignore = clusterLockManager.createStoreWriteLock(newStore.getName())) {
       // Workaround to make old metadata compatible with new fields
       newStore.fixMissingFields();
 
-      Store oldStore = storeMap.put(newStore.getName(), newStore);
+      Store newSnapshot = new ReadOnlyStore(newStore);
+      Store oldStore = storeMap.put(newStore.getName(), newSnapshot);
       if (oldStore == null) {
-        totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU());
-        notifyStoreCreated(newStore);
-      } else if (!oldStore.equals(newStore)) {
-        totalStoreReadQuota.addAndGet(newStore.getReadQuotaInCU() - oldStore.getReadQuotaInCU());
-        notifyStoreChanged(newStore);
+        totalStoreReadQuota.addAndGet(newSnapshot.getReadQuotaInCU());
+        notifyStoreCreated(newSnapshot);
+      } else if (!oldStore.equals(newSnapshot)) {
+        totalStoreReadQuota.addAndGet(newSnapshot.getReadQuotaInCU() - oldStore.getReadQuotaInCU());
+        notifyStoreChanged(newSnapshot);
       }
       return oldStore;
     }
@@ -1,5 +1,6 @@
 package com.linkedin.venice.helix;
 
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.VeniceSerializer;
 import com.linkedin.venice.utils.PathResourceRegistry;
@@ -18,10 +19,29 @@ import org.apache.helix.zookeeper.zkclient.exception.ZkMarshallingError;
 public class HelixAdapterSerializer implements PathBasedZkSerializer {
   private PathResourceRegistry<VeniceSerializer> pathResourceRegistry;
 
+  /**
+   * Whether the znodes handled by {@link BinaryFormatZkSerializer} are written in {@link ZkBinaryFormat}. Reads always
+   * accept both formats, so the writers could be switched after all the readers have been upgraded.
+   */
+  private volatile boolean binaryFormatEnabled = false;
+  private volatile CompressionStrategy binaryFormatCompressionStrategy = CompressionStrategy.NO_OP;
+
   public HelixAdapterSerializer() {
     pathResourceRegistry = new TrieBasedPathResourceRegistry<>();
   }
 
+  public void enableBinaryFormat(CompressionStrategy compressionStrategy) {
+    if (compressionStrategy != CompressionStrategy.NO_OP && compressionStrategy != CompressionStrategy.GZIP) {
+      throw new VeniceException("Compression strategy: " + compressionStrategy + " is not supported for znodes");
+    }
+    this.binaryFormatCompressionStrategy = compressionStrategy;
+    this.binaryFormatEnabled = true;
+  }
+
+  public boolean isBinaryFormatEnabled() {
+    return binaryFormatEnabled;
+  }
+
   public void registerSerializer(String path, VeniceSerializer serializer) {
     pathResourceRegistry.register(path, serializer);
   }
@@ -37,6 +57,10 @@ public class HelixAdapterSerializer implements PathBasedZkSerializer {
       if (serializer == null) {
         throw new VeniceException("Failed to get serializer for path: " + path);
       }
+      if (binaryFormatEnabled && serializer instanceof BinaryFormatZkSerializer) {
+        return ((BinaryFormatZkSerializer) serializer)
+            .serializeInBinaryFormat(data, path, binaryFormatCompressionStrategy);
+      }
       return serializer.serialize(data, path);
     } catch (IOException e) {
       throw new ZkMarshallingError("Met error when serialize object for path: " + path, e);
@@ -8,9 +8,9 @@ import com.linkedin.venice.system.store.MetaStoreWriter;
 import com.linkedin.venice.utils.HelixUtils;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.apache.helix.zookeeper.impl.client.ZkClient;
 
 
@@ -19,6 +19,9 @@ import org.apache.helix.zookeeper.impl.client.ZkClient;
  * <p>
  * This repository does NOT listen the change of store from ZK. Because in Venice, this is the only once place to modify
  * stores.
+ * <p>
+ * The writers modify a private copy of a store, returned by {@link #getStore(String)}, and the repository publishes a
+ * copy of it as the new snapshot on each change, so {@link #getAllStores()} can return the snapshots without cloning.
  */
 public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository implements ReadWriteStoreRepository {
   private final Optional<MetaStoreWriter> metaStoreWriter;
@@ -42,7 +45,8 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
         throw new VeniceStoreAlreadyExistsException(store.getName(), clusterName);
       }
       HelixUtils.update(zkDataAccessor, getStoreZkPath(store.getName()), store);
-      putStore(store);
+      // The caller keeps the reference of the store, so the snapshot needs its own copy.
+      putStore(store.cloneStore());
     }
   }
 
@@ -53,7 +57,8 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
         throw new VeniceNoStoreException(store.getName(), clusterName);
       }
       HelixUtils.update(zkDataAccessor, getStoreZkPath(store.getName()), store);
-      putStore(store);
+      // The caller keeps the reference of the store, so the snapshot needs its own copy.
+      putStore(store.cloneStore());
       if (store.isStoreMetaSystemStoreEnabled() && metaStoreWriter.isPresent()) {
         /**
          * Write the update to the meta system store RT topic.
@@ -74,6 +79,9 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
     }
   }
 
+  /**
+   * @return a mutable copy of the store, which can be modified and passed to {@link #updateStore(Store)}.
+   */
   @Override
   public Store getStore(String storeName) {
     Store store = storeMap.get(storeName);
@@ -91,9 +99,12 @@ public class HelixReadWriteStoreRepository extends CachedReadOnlyStoreRepository
     return store;
   }
 
+  /**
+   * @return the read-only snapshots of all the stores. Use {@link Store#cloneStore()} to get a mutable copy of a store.
+   */
   @Override
   public List<Store> getAllStores() {
-    return storeMap.values().stream().map(s -> s.cloneStore()).collect(Collectors.toList());
+    return new ArrayList<>(storeMap.values());
   }
 
   @Override
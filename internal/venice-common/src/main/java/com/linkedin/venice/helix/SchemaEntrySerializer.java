@@ -1,7 +1,7 @@
 package com.linkedin.venice.helix;
 
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
-import com.linkedin.venice.meta.VeniceSerializer;
 import com.linkedin.venice.schema.SchemaEntry;
 import java.io.IOException;
 
@@ -9,7 +9,7 @@ import java.io.IOException;
 /**
  * This class to use to serialize/deserialize Zookeeper node
  */
-public class SchemaEntrySerializer implements VeniceSerializer<SchemaEntry> {
+public class SchemaEntrySerializer implements BinaryFormatZkSerializer<SchemaEntry> {
   /**
    * This function only serialize schema content, and the caller will be charge of
    * storing schema id as part of file path.
@@ -24,6 +24,15 @@ public class SchemaEntrySerializer implements VeniceSerializer<SchemaEntry> {
     return object.getSchemaBytes();
   }
 
+  /**
+   * The schema content is already compact, so the binary format only makes a difference when it's compressed.
+   */
+  @Override
+  public byte[] serializeInBinaryFormat(SchemaEntry object, String path, CompressionStrategy compressionStrategy)
+      throws IOException {
+    return ZkBinaryFormat.encode(object.getSchemaBytes(), 0, compressionStrategy);
+  }
+
   /**
    * This function will extract schema from file path, and schema content from ZNode data.
    *
@@ -40,6 +49,7 @@ public class SchemaEntrySerializer implements VeniceSerializer<SchemaEntry> {
     // Get schema id from path
     String[] paths = path.split("/");
     String schemaId = paths[paths.length - 1];
-    return new SchemaEntry(Integer.parseInt(schemaId), bytes);
+    byte[] schemaBytes = ZkBinaryFormat.isBinaryFormat(bytes) ? ZkBinaryFormat.decodePayload(bytes) : bytes;
+    return new SchemaEntry(Integer.parseInt(schemaId), schemaBytes);
   }
 }
@@ -0,0 +1,48 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.ZKStore;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import java.io.IOException;
+
+
+/**
+ * Serializes {@link ZKStore} as the Avro binary of its {@link com.linkedin.venice.systemstore.schemas.StoreProperties},
+ * wrapped in {@link StoreMetaValue} so that the protocol could evolve along with the metadata system store, and
+ * falls back to {@link StoreJSONSerializer} for the znodes written in JSON.
+ */
+public class StoreBinarySerializer extends StoreJSONSerializer implements BinaryFormatZkSerializer<Store> {
+  private static final InternalAvroSpecificSerializer<StoreMetaValue> STORE_META_VALUE_SERIALIZER =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getSerializer();
+
+  @Override
+  public byte[] serializeInBinaryFormat(Store object, String path, CompressionStrategy compressionStrategy)
+      throws IOException {
+    if (!(object instanceof ZKStore)) {
+      throw new VeniceException("This serializer only supports ZKStore type for binary serialization");
+    }
+    StoreMetaValue storeMetaValue = new StoreMetaValue();
+    storeMetaValue.storeProperties = ((ZKStore) object).dataModel();
+    return ZkBinaryFormat.encode(
+        STORE_META_VALUE_SERIALIZER.serialize(null, storeMetaValue),
+        AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion(),
+        compressionStrategy);
+  }
+
+  @Override
+  public Store deserialize(byte[] bytes, String path) throws IOException {
+    if (!ZkBinaryFormat.isBinaryFormat(bytes)) {
+      return super.deserialize(bytes, path);
+    }
+    StoreMetaValue storeMetaValue = STORE_META_VALUE_SERIALIZER
+        .deserialize(ZkBinaryFormat.decodePayload(bytes), ZkBinaryFormat.getProtocolVersion(bytes));
+    if (storeMetaValue.storeProperties == null) {
+      throw new VeniceException("Store properties are missing in the znode: " + path);
+    }
+    return new ZKStore(storeMetaValue.storeProperties);
+  }
+}
@@ -0,0 +1,45 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
+import java.io.IOException;
+
+
+/**
+ * Serializes {@link StoreConfig} as the Avro binary of its
+ * {@link com.linkedin.venice.systemstore.schemas.StoreClusterConfig}, and falls back to
+ * {@link StoreConfigJsonSerializer} for the znodes written in JSON.
+ */
+public class StoreConfigBinarySerializer extends StoreConfigJsonSerializer
+    implements BinaryFormatZkSerializer<StoreConfig> {
+  private static final InternalAvroSpecificSerializer<StoreMetaValue> STORE_META_VALUE_SERIALIZER =
+      AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getSerializer();
+
+  @Override
+  public byte[] serializeInBinaryFormat(StoreConfig object, String path, CompressionStrategy compressionStrategy)
+      throws IOException {
+    StoreMetaValue storeMetaValue = new StoreMetaValue();
+    storeMetaValue.storeClusterConfig = object.dataModel();
+    return ZkBinaryFormat.encode(
+        STORE_META_VALUE_SERIALIZER.serialize(null, storeMetaValue),
+        AvroProtocolDefinition.METADATA_SYSTEM_SCHEMA_STORE.getCurrentProtocolVersion(),
+        compressionStrategy);
+  }
+
+  @Override
+  public StoreConfig deserialize(byte[] bytes, String path) throws IOException {
+    if (!ZkBinaryFormat.isBinaryFormat(bytes)) {
+      return super.deserialize(bytes, path);
+    }
+    StoreMetaValue storeMetaValue = STORE_META_VALUE_SERIALIZER
+        .deserialize(ZkBinaryFormat.decodePayload(bytes), ZkBinaryFormat.getProtocolVersion(bytes));
+    if (storeMetaValue.storeClusterConfig == null) {
+      throw new VeniceException("Store cluster config is missing in the znode: " + path);
+    }
+    return new StoreConfig(storeMetaValue.storeClusterConfig);
+  }
+}
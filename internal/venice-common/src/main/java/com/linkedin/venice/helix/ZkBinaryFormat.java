@@ -0,0 +1,68 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.GzipCompressor;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.IOException;
+
+
+/**
+ * The compact binary format of the znodes written by {@link BinaryFormatZkSerializer}:
+ *
+ * <pre>
+ *   | magic byte (0x00) | compression strategy | protocol version | (optionally compressed) payload |
+ * </pre>
+ *
+ * JSON documents and Avro schema strings never start with 0x00, so the readers are able to tell the binary format
+ * apart from the legacy formats by the first byte, which lets the writers be switched without migrating the
+ * existing znodes.
+ */
+public final class ZkBinaryFormat {
+  public static final byte MAGIC_BYTE = 0;
+  public static final int HEADER_LENGTH = 3;
+
+  private static final VeniceCompressor NO_OP_COMPRESSOR = new NoopCompressor();
+  private static final VeniceCompressor GZIP_COMPRESSOR = new GzipCompressor();
+
+  private ZkBinaryFormat() {
+  }
+
+  public static boolean isBinaryFormat(byte[] bytes) {
+    return bytes != null && bytes.length >= HEADER_LENGTH && bytes[0] == MAGIC_BYTE;
+  }
+
+  public static byte[] encode(byte[] payload, int protocolVersion, CompressionStrategy compressionStrategy)
+      throws IOException {
+    byte[] compressedPayload = getCompressor(compressionStrategy).compress(payload);
+    byte[] bytes = new byte[HEADER_LENGTH + compressedPayload.length];
+    bytes[0] = MAGIC_BYTE;
+    bytes[1] = (byte) compressionStrategy.getValue();
+    bytes[2] = (byte) protocolVersion;
+    System.arraycopy(compressedPayload, 0, bytes, HEADER_LENGTH, compressedPayload.length);
+    return bytes;
+  }
+
+  public static int getProtocolVersion(byte[] bytes) {
+    return bytes[2];
+  }
+
+  public static byte[] decodePayload(byte[] bytes) throws IOException {
+    CompressionStrategy compressionStrategy = CompressionStrategy.valueOf(bytes[1]);
+    return ByteUtils.extractByteArray(
+        getCompressor(compressionStrategy).decompress(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH));
+  }
+
+  private static VeniceCompressor getCompressor(CompressionStrategy compressionStrategy) {
+    switch (compressionStrategy) {
+      case NO_OP:
+        return NO_OP_COMPRESSOR;
+      case GZIP:
+        return GZIP_COMPRESSOR;
+      default:
+        throw new VeniceException("Compression strategy: " + compressionStrategy + " is not supported for znodes");
+    }
+  }
+}
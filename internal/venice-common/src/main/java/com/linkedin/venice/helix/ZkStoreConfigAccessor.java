@@ -35,8 +35,9 @@ public class ZkStoreConfigAccessor {
       HelixAdapterSerializer adapterSerializer,
       Optional<MetaStoreWriter> metaStoreWriter) {
     this.zkClient = zkClient;
-    adapterSerializer
-        .registerSerializer(ROOT_PATH + "/" + PathResourceRegistry.WILDCARD_MATCH_ANY, new StoreConfigJsonSerializer());
+    adapterSerializer.registerSerializer(
+        ROOT_PATH + "/" + PathResourceRegistry.WILDCARD_MATCH_ANY,
+        new StoreConfigBinarySerializer());
     adapterSerializer.registerSerializer(ROOT_PATH, new VeniceJsonSerializer<>(Integer.TYPE));
     this.zkClient.setZkSerializer(adapterSerializer);
     dataAccessor = new ZkBaseDataAccessor<>(this.zkClient);
@@ -26,7 +26,9 @@ import it.unimi.dsi.fastutil.ints.Int2LongMap;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -476,6 +478,19 @@ public class TopicManager implements Closeable {
     return pubSubTopicConfiguration;
   }
 
+  /**
+   * Batched version of {@link #getCachedTopicConfig(PubSubTopic)}: the configs which are not cached are fetched with a
+   * single request to the broker.
+   * @return the configs of the given topics, the topics which don't exist are absent from the result.
+   */
+  public Map<PubSubTopic, PubSubTopicConfiguration> getCachedTopicConfigs(Set<PubSubTopic> topicNames) {
+    return topicConfigCache.getAll(topicNames, missingTopics -> {
+      Set<PubSubTopic> missingTopicSet = new HashSet<>();
+      missingTopics.forEach(missingTopicSet::add);
+      return kafkaReadOnlyAdmin.get().getSomeTopicConfigs(missingTopicSet);
+    });
+  }
+
   public Map<PubSubTopic, PubSubTopicConfiguration> getSomeTopicConfigs(Set<PubSubTopic> topicNames) {
     final Map<PubSubTopic, PubSubTopicConfiguration> topicConfigs =
         kafkaReadOnlyAdmin.get().getSomeTopicConfigs(topicNames);
@@ -711,6 +726,15 @@ public class TopicManager implements Closeable {
     return partitionOffsetFetcher.getTopicLatestOffsets(topic);
   }
 
+  /**
+   * Get the latest offsets of topic partitions from any number of topics with a single request to the broker.
+   * @see PartitionOffsetFetcher#getPartitionsLatestOffsets(Collection)
+   */
+  public Map<PubSubTopicPartition, Long> getPartitionsLatestOffsets(
+      Collection<PubSubTopicPartition> pubSubTopicPartitions) {
+    return partitionOffsetFetcher.getPartitionsLatestOffsets(pubSubTopicPartitions);
+  }
+
   public long getPartitionLatestOffsetAndRetry(PubSubTopicPartition pubSubTopicPartition, int retries) {
     return partitionOffsetFetcher.getPartitionLatestOffsetAndRetry(pubSubTopicPartition, retries);
   }
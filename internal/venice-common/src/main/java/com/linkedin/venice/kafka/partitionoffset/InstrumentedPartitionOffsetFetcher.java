@@ -6,7 +6,9 @@ import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.Time;
 import com.linkedin.venice.utils.Utils;
 import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.apache.commons.lang.Validate;
 
@@ -38,6 +40,19 @@ public class InstrumentedPartitionOffsetFetcher implements PartitionOffsetFetche
     return res;
   }
 
+  @Override
+  public Map<PubSubTopicPartition, Long> getPartitionsLatestOffsets(
+      Collection<PubSubTopicPartition> pubSubTopicPartitions) {
+    final long startTimeMs = time.getMilliseconds();
+    Map<PubSubTopicPartition, Long> res = partitionOffsetFetcher.getPartitionsLatestOffsets(pubSubTopicPartitions);
+    stats.recordLatency(
+        PartitionOffsetFetcherStats.OCCURRENCE_LATENCY_SENSOR_TYPE.GET_PARTITIONS_LATEST_OFFSETS,
+        Utils.calculateDurationMs(time, startTimeMs));
+    // Each partition answered by the batched call would have cost its own call, while the missing ones still will.
+    stats.recordBrokerCallsSaved(res.size() - 1);
+    return res;
+  }
+
   @Override
   public long getPartitionLatestOffsetAndRetry(PubSubTopicPartition topicPartition, int retries) {
     final long startTimeMs = time.getMilliseconds();
@@ -6,13 +6,22 @@ import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import it.unimi.dsi.fastutil.ints.Int2LongMap;
 import java.io.Closeable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 @Threadsafe
 public interface PartitionOffsetFetcher extends Closeable {
   Int2LongMap getTopicLatestOffsets(PubSubTopic topic);
 
+  /**
+   * Get the latest offsets of the given topic partitions, which could belong to different topics, in one request to
+   * the broker instead of one request per partition.
+   * @return the latest offset of each topic partition, the partitions which don't exist are absent from the result.
+   */
+  Map<PubSubTopicPartition, Long> getPartitionsLatestOffsets(Collection<PubSubTopicPartition> pubSubTopicPartitions);
+
   long getPartitionLatestOffsetAndRetry(PubSubTopicPartition pubSubTopicPartition, int retries);
 
   long getPartitionEarliestOffsetAndRetry(PubSubTopicPartition pubSubTopicPartition, int retries);
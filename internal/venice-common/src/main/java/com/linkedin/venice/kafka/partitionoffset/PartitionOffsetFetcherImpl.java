@@ -23,6 +23,7 @@ import it.unimi.dsi.fastutil.ints.Int2LongMaps;
 import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -89,6 +90,23 @@ public class PartitionOffsetFetcherImpl implements PartitionOffsetFetcher {
     }
   }
 
+  @Override
+  public Map<PubSubTopicPartition, Long> getPartitionsLatestOffsets(
+      Collection<PubSubTopicPartition> pubSubTopicPartitions) {
+    if (pubSubTopicPartitions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    try (AutoCloseableLock ignore = AutoCloseableLock.of(adminConsumerLock)) {
+      Map<PubSubTopicPartition, Long> offsetsByTopicPartitions =
+          pubSubConsumer.get().endOffsets(pubSubTopicPartitions, DEFAULT_KAFKA_OFFSET_API_TIMEOUT);
+      return offsetsByTopicPartitions == null ? Collections.emptyMap() : offsetsByTopicPartitions;
+    } catch (org.apache.kafka.common.errors.TimeoutException e) {
+      throw new VeniceOperationAgainstKafkaTimedOut(
+          "Timeout exception when getting latest offsets of " + pubSubTopicPartitions.size() + " topic partitions",
+          e);
+    }
+  }
+
   private long getLatestOffset(PubSubTopicPartition pubSubTopicPartition) throws TopicDoesNotExistException {
     if (pubSubTopicPartition.getPartitionNumber() < 0) {
       throw new IllegalArgumentException(
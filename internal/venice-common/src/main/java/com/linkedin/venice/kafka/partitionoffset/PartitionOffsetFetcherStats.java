@@ -8,6 +8,8 @@ import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Max;
 import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
+import io.tehuti.metrics.stats.Rate;
+import io.tehuti.metrics.stats.Total;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +19,16 @@ public class PartitionOffsetFetcherStats extends AbstractVeniceStats {
   public enum OCCURRENCE_LATENCY_SENSOR_TYPE {
     GET_TOPIC_LATEST_OFFSETS, GET_PARTITION_LATEST_OFFSET_WITH_RETRY, GET_PARTITIONS_OFFSETS_BY_TIME,
     GET_PARTITION_OFFSET_BY_TIME, GET_LATEST_PRODUCER_TIMESTAMP_ON_DATA_RECORD_WITH_RETRY, PARTITIONS_FOR,
-    GET_PARTITION_OFFSET_BY_TIME_IF_OUT_OF_RANGE, GET_PARTITION_EARLIEST_OFFSET_WITH_RETRY
+    GET_PARTITION_OFFSET_BY_TIME_IF_OUT_OF_RANGE, GET_PARTITION_EARLIEST_OFFSET_WITH_RETRY,
+    GET_PARTITIONS_LATEST_OFFSETS
   }
 
   private final Map<OCCURRENCE_LATENCY_SENSOR_TYPE, Sensor> sensorsByTypes;
+  /**
+   * The number of per-partition broker requests avoided by fetching the latest offsets of multiple partitions at once,
+   * check {@link PartitionOffsetFetcher#getPartitionsLatestOffsets}.
+   */
+  private final Sensor brokerCallsSavedSensor;
 
   public PartitionOffsetFetcherStats(MetricsRepository metricsRepository, String name) {
     super(metricsRepository, name);
@@ -40,9 +48,16 @@ public class PartitionOffsetFetcherStats extends AbstractVeniceStats {
     }
 
     this.sensorsByTypes = Collections.unmodifiableMap(tmpRateSensorsByTypes);
+    this.brokerCallsSavedSensor = registerSensorIfAbsent("broker_calls_saved", new Rate(), new Total());
   }
 
   public void recordLatency(OCCURRENCE_LATENCY_SENSOR_TYPE sensor_type, long requestLatencyMs) {
     sensorsByTypes.get(sensor_type).record(requestLatencyMs);
   }
+
+  public void recordBrokerCallsSaved(int brokerCallsSaved) {
+    if (brokerCallsSaved > 0) {
+      brokerCallsSavedSensor.record(brokerCallsSaved);
+    }
+  }
 }
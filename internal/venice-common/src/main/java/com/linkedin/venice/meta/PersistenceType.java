@@ -33,7 +33,13 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Persistent storage engine for batch-only versions, which turns every partition into an immutable memory-mapped
+   * file with a sorted index at the end of the push.
+   */
+  READ_OPTIMIZED_MMAP(5);
 
   public final int value;
 
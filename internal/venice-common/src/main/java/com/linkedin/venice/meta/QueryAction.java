@@ -19,5 +19,14 @@ public enum QueryAction {
   ADMIN,
 
   // METADATA is a GET request to /metadata/storename on the storage node to fetch metadata for that node
-  METADATA
+  METADATA,
+
+  // SNAPSHOT is a GET request to /snapshot/resourcename/partition on the storage node to fetch the manifest of a
+  // snapshot of that partition, or to /snapshot/resourcename/partition/snapshotid/filename/offset to fetch a chunk of
+  // one of its files, for a new replica to bootstrap from
+  SNAPSHOT,
+
+  // SCAN is a POST request to /scan/storename on the router or /scan/resourcename/partition on the storage node to
+  // fetch a page of the records of the store whose keys have a given prefix
+  SCAN
 }
@@ -1,7 +1,7 @@
 package com.linkedin.venice.meta;
 
 public enum ServerAdminAction {
-  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1);
+  DUMP_INGESTION_STATE(0), DUMP_SERVER_CONFIGS(1), CREATE_PARTITION_SNAPSHOT(2), DELETE_PARTITION_SNAPSHOT(3);
 
   private final int value;
 
@@ -44,6 +44,21 @@ public class AvroStoreDeserializerCache<T> implements StoreDeserializerCache<T>
             .getFastAvroSpecificDeserializer(writerSchema, specificRecordClass));
   }
 
+  /**
+   * For the values which are projected to {@param projectionSchema} before being persisted, which makes it their
+   * writer schema regardless of the schema id stored along with them.
+   *
+   * @param specificRecordClass the class to deserialize the values to, or null to deserialize them to generic records
+   */
+  public AvroStoreDeserializerCache(Schema projectionSchema, Class specificRecordClass) {
+    this(
+        id -> projectionSchema,
+        specificRecordClass == null
+            ? FastSerializerDeserializerFactory::getFastAvroGenericDeserializer
+            : (writerSchema, readerSchema) -> FastSerializerDeserializerFactory
+                .getFastAvroSpecificDeserializer(writerSchema, specificRecordClass));
+  }
+
   public RecordDeserializer<T> getDeserializer(int writerSchemaId, int readerSchemaId) {
     return this.cache.get(writerSchemaId, readerSchemaId);
   }
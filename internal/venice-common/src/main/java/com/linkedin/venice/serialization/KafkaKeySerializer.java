@@ -2,8 +2,6 @@ package com.linkedin.venice.serialization;
 
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.message.KafkaKey;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Map;
 
@@ -22,13 +20,6 @@ public class KafkaKeySerializer implements VeniceKafkaSerializer<KafkaKey> {
   private static final int KEY_HEADER_SIZE = 1;
   private static final int KEY_PAYLOAD_OFFSET = KEY_HEADER_OFFSET + KEY_HEADER_SIZE;
 
-  private static class ReusableObjects {
-    final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-  }
-
-  private static final ThreadLocal<ReusableObjects> threadLocalReusableObjects =
-      ThreadLocal.withInitial(ReusableObjects::new);
-
   public KafkaKeySerializer() {
     /* This constructor is not used, but is required for compilation */
   }
@@ -53,17 +44,12 @@ public class KafkaKeySerializer implements VeniceKafkaSerializer<KafkaKey> {
    * @return Converted byte[]
    * */
   public byte[] serialize(String topic, KafkaKey kafkaKey) {
-    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
-    ByteArrayOutputStream byteArrayOutputStream = reusableObjects.byteArrayOutputStream;
-    byteArrayOutputStream.reset();
-
-    try {
-      byteArrayOutputStream.write(kafkaKey.getKeyHeaderByte());
-      byteArrayOutputStream.write(kafkaKey.getKey());
-    } catch (IOException e) {
-      throw new VeniceException("Failed to serialize message: " + kafkaKey, e);
-    }
-    return byteArrayOutputStream.toByteArray();
+    // The size is known upfront, so the key is copied once into an array of the exact size.
+    byte[] key = kafkaKey.getKey();
+    byte[] bytes = new byte[KEY_HEADER_SIZE + key.length];
+    bytes[KEY_HEADER_OFFSET] = kafkaKey.getKeyHeaderByte();
+    System.arraycopy(key, 0, bytes, KEY_PAYLOAD_OFFSET, key.length);
+    return bytes;
   }
 
   @Override
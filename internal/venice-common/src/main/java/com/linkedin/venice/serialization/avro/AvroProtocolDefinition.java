@@ -43,7 +43,7 @@ public enum AvroProtocolDefinition {
   /**
    * Used for the Kafka topics, including the main data topics as well as the admin topic.
    */
-  KAFKA_MESSAGE_ENVELOPE(23, 11, KafkaMessageEnvelope.class),
+  KAFKA_MESSAGE_ENVELOPE(23, 12, KafkaMessageEnvelope.class),
 
   /**
    * Used to persist the state of a partition in Storage Nodes, including offset,
@@ -55,12 +55,12 @@ public enum AvroProtocolDefinition {
    * Used to persist state related to a store-version, including Start of Buffer Replay
    * offsets and whether the input is sorted.
    */
-  STORE_VERSION_STATE(25, 7, StoreVersionState.class),
+  STORE_VERSION_STATE(25, 8, StoreVersionState.class),
 
   /**
    * Used to encode push job details records to be written to the PushJobDetails system store.
    */
-  PUSH_JOB_DETAILS(26, 4, PushJobDetails.class),
+  PUSH_JOB_DETAILS(26, 5, PushJobDetails.class),
 
   /**
    * Used to encode metadata changes about the system as a whole. Records of this type
@@ -0,0 +1,228 @@
+package com.linkedin.venice.serialization.avro;
+
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.LeaderMetadata;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.avro.util.Utf8;
+
+
+/**
+ * Hand-written Avro binary encoder for the data records (PUT, UPDATE and DELETE) of {@link KafkaMessageEnvelope}.
+ *
+ * The generic path of {@link InternalAvroSpecificSerializer} goes through a {@link org.apache.avro.io.BinaryEncoder}
+ * which buffers the record, flushes it into a {@link java.io.ByteArrayOutputStream} and then copies it once more
+ * into the array handed to the Kafka producer. Since the Kafka serializer contract requires a byte array anyway,
+ * this encoder first computes the exact size of the encoded envelope and then writes the header, the envelope fields
+ * and the already serialized value bytes straight into that single array. The value {@link ByteBuffer}s are read in
+ * place, without touching their position and without any intermediate copy.
+ *
+ * The produced bytes are identical to the ones of the generic path, but they are tied to the writer schema of
+ * {@link #PROTOCOL_VERSION}, so {@link KafkaValueSerializer} only uses this encoder while that version is the current
+ * protocol version. Control messages are rare and have a deeply nested schema, so they keep using the generic path.
+ */
+public final class KafkaMessageEnvelopeEncoder {
+  /**
+   * The protocol version whose writer schema is hard-coded in this class.
+   */
+  public static final int PROTOCOL_VERSION = 12;
+
+  private static final int HEADER_SIZE = 2;
+  private static final int GUID_SIZE = 16;
+
+  /**
+   * Branch indices of the payload union and of the leader metadata footer union in {@link #PROTOCOL_VERSION}.
+   */
+  private static final int PUT_UNION_INDEX = 0;
+  private static final int UPDATE_UNION_INDEX = 1;
+  private static final int DELETE_UNION_INDEX = 2;
+  private static final int NULL_UNION_INDEX = 0;
+  private static final int LEADER_METADATA_UNION_INDEX = 1;
+
+  private final byte magicByte;
+
+  public KafkaMessageEnvelopeEncoder() {
+    this.magicByte = AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE.magicByte.get();
+  }
+
+  /**
+   * @return true if the given envelope is a data record which can be encoded by {@link #encode(KafkaMessageEnvelope)}.
+   */
+  public static boolean canEncode(KafkaMessageEnvelope envelope) {
+    Object payload = envelope.payloadUnion;
+    return envelope.producerMetadata != null
+        && (payload instanceof Put || payload instanceof Update || payload instanceof Delete);
+  }
+
+  /**
+   * Encodes the envelope with the magic byte and protocol version header into a byte array of exactly the right size.
+   */
+  public byte[] encode(KafkaMessageEnvelope envelope) {
+    Object payload = envelope.payloadUnion;
+    LeaderMetadata leaderMetadata = envelope.leaderMetadataFooter;
+    byte[] hostName = leaderMetadata == null ? null : toUtf8Bytes(leaderMetadata.hostName);
+
+    int size = HEADER_SIZE + sizeOfInt(envelope.messageType) + sizeOfProducerMetadata(envelope.producerMetadata)
+        + sizeOfPayload(payload) + sizeOfLeaderMetadata(leaderMetadata, hostName);
+
+    byte[] bytes = new byte[size];
+    int position = 0;
+    bytes[position++] = magicByte;
+    bytes[position++] = (byte) PROTOCOL_VERSION;
+    position = writeInt(envelope.messageType, bytes, position);
+    position = writeProducerMetadata(envelope.producerMetadata, bytes, position);
+    position = writePayload(payload, bytes, position);
+    position = writeLeaderMetadata(leaderMetadata, hostName, bytes, position);
+    if (position != size) {
+      throw new IllegalStateException("Encoded " + position + " bytes while " + size + " bytes were expected");
+    }
+    return bytes;
+  }
+
+  private static int sizeOfProducerMetadata(ProducerMetadata producerMetadata) {
+    return GUID_SIZE + sizeOfInt(producerMetadata.segmentNumber) + sizeOfInt(producerMetadata.messageSequenceNumber)
+        + sizeOfLong(producerMetadata.messageTimestamp) + sizeOfLong(producerMetadata.logicalTimestamp);
+  }
+
+  private static int writeProducerMetadata(ProducerMetadata producerMetadata, byte[] bytes, int position) {
+    System.arraycopy(producerMetadata.producerGUID.bytes(), 0, bytes, position, GUID_SIZE);
+    position += GUID_SIZE;
+    position = writeInt(producerMetadata.segmentNumber, bytes, position);
+    position = writeInt(producerMetadata.messageSequenceNumber, bytes, position);
+    position = writeLong(producerMetadata.messageTimestamp, bytes, position);
+    return writeLong(producerMetadata.logicalTimestamp, bytes, position);
+  }
+
+  private static int sizeOfPayload(Object payload) {
+    if (payload instanceof Put) {
+      Put put = (Put) payload;
+      return sizeOfInt(PUT_UNION_INDEX) + sizeOfBytes(put.putValue) + sizeOfInt(put.schemaId)
+          + sizeOfInt(put.replicationMetadataVersionId) + sizeOfBytes(put.replicationMetadataPayload);
+    } else if (payload instanceof Update) {
+      Update update = (Update) payload;
+      return sizeOfInt(UPDATE_UNION_INDEX) + sizeOfInt(update.schemaId) + sizeOfInt(update.updateSchemaId)
+          + sizeOfBytes(update.updateValue);
+    } else if (payload instanceof Delete) {
+      Delete delete = (Delete) payload;
+      return sizeOfInt(DELETE_UNION_INDEX) + sizeOfInt(delete.schemaId) + sizeOfInt(delete.replicationMetadataVersionId)
+          + sizeOfBytes(delete.replicationMetadataPayload);
+    }
+    throw new IllegalArgumentException("Unsupported payload type: " + payload.getClass().getName());
+  }
+
+  private static int writePayload(Object payload, byte[] bytes, int position) {
+    if (payload instanceof Put) {
+      Put put = (Put) payload;
+      position = writeInt(PUT_UNION_INDEX, bytes, position);
+      position = writeBytes(put.putValue, bytes, position);
+      position = writeInt(put.schemaId, bytes, position);
+      position = writeInt(put.replicationMetadataVersionId, bytes, position);
+      return writeBytes(put.replicationMetadataPayload, bytes, position);
+    } else if (payload instanceof Update) {
+      Update update = (Update) payload;
+      position = writeInt(UPDATE_UNION_INDEX, bytes, position);
+      position = writeInt(update.schemaId, bytes, position);
+      position = writeInt(update.updateSchemaId, bytes, position);
+      return writeBytes(update.updateValue, bytes, position);
+    } else {
+      Delete delete = (Delete) payload;
+      position = writeInt(DELETE_UNION_INDEX, bytes, position);
+      position = writeInt(delete.schemaId, bytes, position);
+      position = writeInt(delete.replicationMetadataVersionId, bytes, position);
+      return writeBytes(delete.replicationMetadataPayload, bytes, position);
+    }
+  }
+
+  private static int sizeOfLeaderMetadata(LeaderMetadata leaderMetadata, byte[] hostName) {
+    if (leaderMetadata == null) {
+      return sizeOfInt(NULL_UNION_INDEX);
+    }
+    return sizeOfInt(LEADER_METADATA_UNION_INDEX) + sizeOfInt(hostName.length) + hostName.length
+        + sizeOfLong(leaderMetadata.upstreamOffset) + sizeOfInt(leaderMetadata.upstreamKafkaClusterId);
+  }
+
+  private static int writeLeaderMetadata(LeaderMetadata leaderMetadata, byte[] hostName, byte[] bytes, int position) {
+    if (leaderMetadata == null) {
+      return writeInt(NULL_UNION_INDEX, bytes, position);
+    }
+    position = writeInt(LEADER_METADATA_UNION_INDEX, bytes, position);
+    position = writeInt(hostName.length, bytes, position);
+    System.arraycopy(hostName, 0, bytes, position, hostName.length);
+    position += hostName.length;
+    position = writeLong(leaderMetadata.upstreamOffset, bytes, position);
+    return writeInt(leaderMetadata.upstreamKafkaClusterId, bytes, position);
+  }
+
+  private static byte[] toUtf8Bytes(CharSequence charSequence) {
+    if (charSequence instanceof Utf8) {
+      Utf8 utf8 = (Utf8) charSequence;
+      if (utf8.getBytes().length == utf8.getByteLength()) {
+        return utf8.getBytes();
+      }
+    }
+    return charSequence.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Avro encodes the bytes between the position and the limit of the buffer, prefixed by their length.
+   */
+  private static int sizeOfBytes(ByteBuffer byteBuffer) {
+    int length = byteBuffer.remaining();
+    return sizeOfInt(length) + length;
+  }
+
+  private static int writeBytes(ByteBuffer byteBuffer, byte[] bytes, int position) {
+    int length = byteBuffer.remaining();
+    position = writeInt(length, bytes, position);
+    if (byteBuffer.hasArray()) {
+      System.arraycopy(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), bytes, position, length);
+    } else {
+      byteBuffer.duplicate().get(bytes, position, length);
+    }
+    return position + length;
+  }
+
+  static int sizeOfInt(int value) {
+    int zigZag = (value << 1) ^ (value >> 31);
+    int size = 1;
+    while ((zigZag & ~0x7F) != 0) {
+      zigZag >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  static int sizeOfLong(long value) {
+    long zigZag = (value << 1) ^ (value >> 63);
+    int size = 1;
+    while ((zigZag & ~0x7FL) != 0) {
+      zigZag >>>= 7;
+      size++;
+    }
+    return size;
+  }
+
+  private static int writeInt(int value, byte[] bytes, int position) {
+    int zigZag = (value << 1) ^ (value >> 31);
+    while ((zigZag & ~0x7F) != 0) {
+      bytes[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+      zigZag >>>= 7;
+    }
+    bytes[position++] = (byte) zigZag;
+    return position;
+  }
+
+  private static int writeLong(long value, byte[] bytes, int position) {
+    long zigZag = (value << 1) ^ (value >> 63);
+    while ((zigZag & ~0x7FL) != 0) {
+      bytes[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+      zigZag >>>= 7;
+    }
+    bytes[position++] = (byte) zigZag;
+    return position;
+  }
+}
@@ -13,8 +13,16 @@ import org.apache.avro.Schema;
  * This class needs to be defined explicitly, rather than just instantiating a
  * {@link InternalAvroSpecificSerializer} because it is used as a config passed to
  * the Kafka producer.
+ *
+ * Data records are encoded by {@link KafkaMessageEnvelopeEncoder} as long as its hard-coded writer schema is the
+ * current protocol version, which saves the intermediate buffers and copies of the generic Avro encoding path.
  */
 public class KafkaValueSerializer extends InternalAvroSpecificSerializer<KafkaMessageEnvelope> {
+  private static final boolean ENVELOPE_ENCODER_ENABLED = AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE
+      .getCurrentProtocolVersion() == KafkaMessageEnvelopeEncoder.PROTOCOL_VERSION;
+
+  private final KafkaMessageEnvelopeEncoder envelopeEncoder = new KafkaMessageEnvelopeEncoder();
+
   public KafkaValueSerializer() {
     super(AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE);
   }
@@ -22,4 +30,12 @@ public class KafkaValueSerializer extends InternalAvroSpecificSerializer<KafkaMe
   public KafkaValueSerializer(BiConsumer<Integer, Schema> newSchemaEncountered) {
     super(AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE, null, newSchemaEncountered);
   }
+
+  @Override
+  public byte[] serialize(String topic, KafkaMessageEnvelope object) {
+    if (ENVELOPE_ENCODER_ENABLED && KafkaMessageEnvelopeEncoder.canEncode(object)) {
+      return envelopeEncoder.encode(object);
+    }
+    return super.serialize(topic, object);
+  }
 }
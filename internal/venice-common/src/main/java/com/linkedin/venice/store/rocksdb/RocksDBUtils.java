@@ -18,6 +18,8 @@ public class RocksDBUtils {
   private static final String TEMP_RMD_SST_FILE_DIR = ".sst_rmd_files";
   private static final String TEMP_SST_FILE_PREFIX = "sst_file_";
   private static final String TEMP_RMD_SST_FILE_PREFIX = "sst_rmd_file_";
+  private static final String BULK_LOAD_SST_FILE_PREFIX = "bulk_load_sst_file_";
+  private static final String BULK_LOAD_SST_FILE_SUFFIX = ".sst";
 
   public static String getPartitionDbName(String storeName, int partitionId) {
     return String.format(PARTITION_DB_NAME, storeName, partitionId);
@@ -63,6 +65,30 @@ public class RocksDBUtils {
     return TEMP_RMD_SST_FILE_PREFIX + fileNo;
   }
 
+  /**
+   * @return the directory of the SST files of the given partition in a bulk-load push, check
+   *         {@link com.linkedin.venice.kafka.protocol.StartOfPush#bulkLoadLocation}.
+   */
+  public static String composeBulkLoadPartitionDir(String bulkLoadLocation, int partitionId) {
+    return bulkLoadLocation + File.separator + partitionId;
+  }
+
+  /**
+   * @return the directory of the snapshots of the given version topic, check
+   *         {@link com.linkedin.venice.meta.ServerAdminAction#CREATE_PARTITION_SNAPSHOT}.
+   */
+  public static String composeSnapshotTopicDir(String snapshotBaseDir, String topicName) {
+    return snapshotBaseDir + File.separator + topicName;
+  }
+
+  public static String composeSnapshotPartitionDir(String snapshotBaseDir, String topicName, int partitionId) {
+    return composeSnapshotTopicDir(snapshotBaseDir, topicName) + File.separator + partitionId;
+  }
+
+  public static String composeBulkLoadSSTFileName(int fileNo) {
+    return BULK_LOAD_SST_FILE_PREFIX + fileNo + BULK_LOAD_SST_FILE_SUFFIX;
+  }
+
   public static boolean isTempSSTFile(String fileName) {
     return fileName.startsWith(TEMP_SST_FILE_PREFIX);
   }
@@ -0,0 +1,96 @@
+package com.linkedin.venice.store.rocksdb;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.ByteUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+
+/**
+ * The manifest of the SST files of a single partition in a bulk-load push, check
+ * {@link com.linkedin.venice.kafka.protocol.StartOfPush#bulkLoadLocation}.
+ *
+ * The manifest is written by the push job after all the SST files of the partition are uploaded, so its presence
+ * indicates the partition is complete. For every SST file, it records the number of entries and the MD5 checksum of
+ * all the keys and values in the file, which is the same checksum verified by the storage nodes against the SST files
+ * built from the version topic.
+ */
+public class SstBulkLoadManifest {
+  public static final String MANIFEST_FILE_NAME = "MANIFEST";
+
+  private static final String FILE_COUNT = "file.count";
+  private static final String FILE_NAME_FORMAT = "file.%d.name";
+  private static final String FILE_RECORD_COUNT_FORMAT = "file.%d.record.count";
+  private static final String FILE_CHECKSUM_FORMAT = "file.%d.checksum";
+
+  public static class SstFileInfo {
+    private final String fileName;
+    private final long recordCount;
+    private final byte[] checksum;
+
+    public SstFileInfo(String fileName, long recordCount, byte[] checksum) {
+      this.fileName = fileName;
+      this.recordCount = recordCount;
+      this.checksum = checksum;
+    }
+
+    public String getFileName() {
+      return fileName;
+    }
+
+    public long getRecordCount() {
+      return recordCount;
+    }
+
+    public byte[] getChecksum() {
+      return checksum;
+    }
+  }
+
+  private final List<SstFileInfo> sstFiles = new ArrayList<>();
+
+  public void addSstFile(String fileName, long recordCount, byte[] checksum) {
+    sstFiles.add(new SstFileInfo(fileName, recordCount, checksum));
+  }
+
+  public List<SstFileInfo> getSstFiles() {
+    return Collections.unmodifiableList(sstFiles);
+  }
+
+  public void writeTo(OutputStream outputStream) throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(FILE_COUNT, Integer.toString(sstFiles.size()));
+    for (int i = 0; i < sstFiles.size(); ++i) {
+      SstFileInfo sstFile = sstFiles.get(i);
+      properties.setProperty(String.format(FILE_NAME_FORMAT, i), sstFile.getFileName());
+      properties.setProperty(String.format(FILE_RECORD_COUNT_FORMAT, i), Long.toString(sstFile.getRecordCount()));
+      properties.setProperty(String.format(FILE_CHECKSUM_FORMAT, i), ByteUtils.toHexString(sstFile.getChecksum()));
+    }
+    properties.store(outputStream, null);
+  }
+
+  public static SstBulkLoadManifest readFrom(InputStream inputStream) throws IOException {
+    Properties properties = new Properties();
+    properties.load(inputStream);
+    if (!properties.containsKey(FILE_COUNT)) {
+      throw new VeniceException("Invalid bulk-load manifest without property: " + FILE_COUNT);
+    }
+    SstBulkLoadManifest manifest = new SstBulkLoadManifest();
+    int fileCount = Integer.parseInt(properties.getProperty(FILE_COUNT));
+    for (int i = 0; i < fileCount; ++i) {
+      String fileName = properties.getProperty(String.format(FILE_NAME_FORMAT, i));
+      String recordCount = properties.getProperty(String.format(FILE_RECORD_COUNT_FORMAT, i));
+      String checksum = properties.getProperty(String.format(FILE_CHECKSUM_FORMAT, i));
+      if (fileName == null || recordCount == null || checksum == null) {
+        throw new VeniceException("Invalid bulk-load manifest, missing the properties of file: " + i);
+      }
+      manifest.addSstFile(fileName, Long.parseLong(recordCount), ByteUtils.fromHexString(checksum));
+    }
+    return manifest;
+  }
+}
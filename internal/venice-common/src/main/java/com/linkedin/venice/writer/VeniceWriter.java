@@ -888,12 +888,42 @@ public class VeniceWriter<K, V, U> extends AbstractVeniceWriter<K, V, U> {
       CompressionStrategy compressionStrategy,
       Optional<ByteBuffer> optionalCompressionDictionary,
       Map<String, String> debugInfo) {
+    broadcastStartOfPush(
+        sorted,
+        chunked,
+        compressionStrategy,
+        optionalCompressionDictionary,
+        Optional.empty(),
+        debugInfo);
+  }
+
+  /**
+   * @param sorted whether the messages between 'StartOfPush' control messages and 'EndOfPush' control
+   *               message in current topic partition is lexicographically sorted by key bytes
+   * @param chunked whether the push has chunking support enabled, in which case all keys are to be
+   *                appended with {@link ChunkedKeySuffix} and the {@link Put} may contain either
+   *                chunks or {@link ChunkedValueManifest} records, in addition to regular (small)
+   *                values.
+   * @param compressionStrategy the store-version's {@link CompressionStrategy}
+   * @param optionalCompressionDictionary The raw bytes of dictionary used to compress/decompress records.
+   * @param optionalBulkLoadLocation The location of the SST files of all the partitions if the data are not
+   *                                 produced into the topic, check {@link StartOfPush#bulkLoadLocation}.
+   * @param debugInfo arbitrary key/value pairs of information that will be propagated alongside the control message.
+   */
+  public void broadcastStartOfPush(
+      boolean sorted,
+      boolean chunked,
+      CompressionStrategy compressionStrategy,
+      Optional<ByteBuffer> optionalCompressionDictionary,
+      Optional<String> optionalBulkLoadLocation,
+      Map<String, String> debugInfo) {
     ControlMessage controlMessage = getEmptyControlMessage(ControlMessageType.START_OF_PUSH);
     StartOfPush startOfPush = new StartOfPush();
     startOfPush.sorted = sorted;
     startOfPush.chunked = chunked;
     startOfPush.compressionStrategy = compressionStrategy.getValue();
     startOfPush.compressionDictionary = optionalCompressionDictionary.orElse(null);
+    startOfPush.bulkLoadLocation = optionalBulkLoadLocation.orElse(null);
     controlMessage.controlMessageUnion = startOfPush;
     broadcastControlMessage(controlMessage, debugInfo);
     // Flush start of push message to avoid data message arrives before it.
@@ -0,0 +1,109 @@
+package com.linkedin.venice.helix;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.StoreConfig;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.rmd.RmdSchemaEntry;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class TestBinaryFormatZkSerializer {
+  private static final String STORE_PATH = "/test-cluster/Stores/test_store";
+  private static final String SCHEMA_STRING = "{\"type\":\"record\",\"name\":\"User\",\"namespace\":\"example.avro\","
+      + "\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}";
+
+  @DataProvider(name = "compressionStrategies")
+  public static Object[][] compressionStrategies() {
+    return new Object[][] { { CompressionStrategy.NO_OP }, { CompressionStrategy.GZIP } };
+  }
+
+  @Test(dataProvider = "compressionStrategies")
+  public void testStoreRoundTrip(CompressionStrategy compressionStrategy) throws IOException {
+    Store store = createStore();
+    StoreBinarySerializer serializer = new StoreBinarySerializer();
+    byte[] binary = serializer.serializeInBinaryFormat(store, STORE_PATH, compressionStrategy);
+    Assert.assertTrue(ZkBinaryFormat.isBinaryFormat(binary));
+    Assert.assertTrue(binary.length < serializer.serialize(store, STORE_PATH).length);
+    Assert.assertEquals(serializer.deserialize(binary, STORE_PATH), store);
+  }
+
+  @Test
+  public void testReadLegacyStore() throws IOException {
+    Store store = createStore();
+    byte[] json = new StoreJSONSerializer().serialize(store, STORE_PATH);
+    Assert.assertFalse(ZkBinaryFormat.isBinaryFormat(json));
+    Assert.assertEquals(new StoreBinarySerializer().deserialize(json, STORE_PATH), store);
+  }
+
+  @Test(dataProvider = "compressionStrategies")
+  public void testStoreConfig(CompressionStrategy compressionStrategy) throws IOException {
+    StoreConfig storeConfig = new StoreConfig("test_store");
+    storeConfig.setCluster("test-cluster");
+    storeConfig.setMigrationSrcCluster("src-cluster");
+    StoreConfigBinarySerializer serializer = new StoreConfigBinarySerializer();
+    byte[] binary = serializer.serializeInBinaryFormat(storeConfig, "", compressionStrategy);
+    verifyStoreConfig(serializer.deserialize(binary, ""), storeConfig);
+    byte[] json = new StoreConfigJsonSerializer().serialize(storeConfig, "");
+    verifyStoreConfig(serializer.deserialize(json, ""), storeConfig);
+  }
+
+  @Test
+  public void testSchemaEntries() throws IOException {
+    SchemaEntrySerializer serializer = new SchemaEntrySerializer();
+    SchemaEntry schemaEntry = new SchemaEntry(1, SCHEMA_STRING);
+    String path = "/test_store/value_schema/1";
+    byte[] binary = serializer.serializeInBinaryFormat(schemaEntry, path, CompressionStrategy.GZIP);
+    Assert.assertEquals(serializer.deserialize(binary, path), schemaEntry);
+    Assert.assertEquals(serializer.deserialize(SCHEMA_STRING.getBytes(), path), schemaEntry);
+
+    ReplicationMetadataSchemaEntrySerializer rmdSerializer = new ReplicationMetadataSchemaEntrySerializer();
+    RmdSchemaEntry rmdSchemaEntry = new RmdSchemaEntry(2, 3, SCHEMA_STRING);
+    String rmdPath = "/test_store/timestamp-metadata-schema/2-3";
+    binary = rmdSerializer.serializeInBinaryFormat(rmdSchemaEntry, rmdPath, CompressionStrategy.GZIP);
+    Assert.assertEquals(rmdSerializer.deserialize(binary, rmdPath), rmdSchemaEntry);
+  }
+
+  @Test
+  public void testAdapterSwitch() {
+    Store store = createStore();
+    HelixAdapterSerializer adapter = new HelixAdapterSerializer();
+    adapter.registerSerializer(STORE_PATH, new StoreBinarySerializer());
+    Assert.assertFalse(ZkBinaryFormat.isBinaryFormat(adapter.serialize(store, STORE_PATH)));
+
+    adapter.enableBinaryFormat(CompressionStrategy.GZIP);
+    Assert.assertTrue(adapter.isBinaryFormatEnabled());
+    byte[] binary = adapter.serialize(store, STORE_PATH);
+    Assert.assertTrue(ZkBinaryFormat.isBinaryFormat(binary));
+    Assert.assertEquals(adapter.deserialize(binary, STORE_PATH), store);
+  }
+
+  private static Store createStore() {
+    Store store = TestUtils.createTestStore("test_store", "owner", 1L);
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            1000,
+            1000,
+            HybridStoreConfigImpl.DEFAULT_HYBRID_TIME_LAG_THRESHOLD,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    for (int i = 1; i <= 3; i++) {
+      store.addVersion(new VersionImpl(store.getName(), i, "pushJobId" + i, 4));
+    }
+    return store;
+  }
+
+  private static void verifyStoreConfig(StoreConfig actual, StoreConfig expected) {
+    Assert.assertEquals(actual.getStoreName(), expected.getStoreName());
+    Assert.assertEquals(actual.getCluster(), expected.getCluster());
+    Assert.assertEquals(actual.getMigrationSrcCluster(), expected.getMigrationSrcCluster());
+  }
+}
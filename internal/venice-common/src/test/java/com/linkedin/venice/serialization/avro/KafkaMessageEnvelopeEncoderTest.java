@@ -0,0 +1,112 @@
+package com.linkedin.venice.serialization.avro;
+
+import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.ControlMessage;
+import com.linkedin.venice.kafka.protocol.Delete;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.LeaderMetadata;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.util.Utf8;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class KafkaMessageEnvelopeEncoderTest {
+  private final InternalAvroSpecificSerializer<KafkaMessageEnvelope> genericSerializer =
+      AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE.getSerializer();
+  private final KafkaMessageEnvelopeEncoder encoder = new KafkaMessageEnvelopeEncoder();
+
+  @DataProvider(name = "leaderMetadata")
+  public static Object[][] leaderMetadata() {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test
+  public void testEncoderMatchesCurrentProtocolVersion() {
+    Assert.assertEquals(
+        AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE.getCurrentProtocolVersion(),
+        KafkaMessageEnvelopeEncoder.PROTOCOL_VERSION);
+  }
+
+  @Test(dataProvider = "leaderMetadata")
+  public void testPut(boolean withLeaderMetadata) {
+    Put put = new Put();
+    // A slice of a bigger array, to make sure only the remaining bytes are encoded.
+    put.putValue = ByteBuffer.wrap(new byte[300], 7, 250).slice();
+    put.schemaId = 1234567;
+    put.replicationMetadataVersionId = -1;
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+    verifyEncoding(createEnvelope(MessageType.PUT, put, withLeaderMetadata));
+    Assert.assertEquals(put.putValue.position(), 0);
+  }
+
+  @Test(dataProvider = "leaderMetadata")
+  public void testUpdate(boolean withLeaderMetadata) {
+    Update update = new Update();
+    update.schemaId = 3;
+    update.updateSchemaId = -2;
+    update.updateValue = ByteBuffer.allocateDirect(64);
+    update.updateValue.position(10);
+    verifyEncoding(createEnvelope(MessageType.UPDATE, update, withLeaderMetadata));
+    Assert.assertEquals(update.updateValue.position(), 10);
+  }
+
+  @Test(dataProvider = "leaderMetadata")
+  public void testDelete(boolean withLeaderMetadata) {
+    Delete delete = new Delete();
+    delete.schemaId = Integer.MIN_VALUE;
+    delete.replicationMetadataVersionId = Integer.MAX_VALUE;
+    delete.replicationMetadataPayload = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    verifyEncoding(createEnvelope(MessageType.DELETE, delete, withLeaderMetadata));
+  }
+
+  @Test
+  public void testControlMessagesUseTheGenericPath() {
+    KafkaMessageEnvelope envelope = createEnvelope(MessageType.CONTROL_MESSAGE, new ControlMessage(), false);
+    Assert.assertFalse(KafkaMessageEnvelopeEncoder.canEncode(envelope));
+  }
+
+  @Test
+  public void testVarIntSizes() {
+    Assert.assertEquals(KafkaMessageEnvelopeEncoder.sizeOfInt(0), 1);
+    Assert.assertEquals(KafkaMessageEnvelopeEncoder.sizeOfInt(-64), 1);
+    Assert.assertEquals(KafkaMessageEnvelopeEncoder.sizeOfInt(64), 2);
+    Assert.assertEquals(KafkaMessageEnvelopeEncoder.sizeOfInt(Integer.MIN_VALUE), 5);
+    Assert.assertEquals(KafkaMessageEnvelopeEncoder.sizeOfLong(Long.MAX_VALUE), 10);
+  }
+
+  private void verifyEncoding(KafkaMessageEnvelope envelope) {
+    Assert.assertTrue(KafkaMessageEnvelopeEncoder.canEncode(envelope));
+    byte[] expected = genericSerializer.serialize(null, envelope);
+    Assert.assertEquals(encoder.encode(envelope), expected);
+    Assert.assertEquals(new KafkaValueSerializer().serialize(null, envelope), expected);
+    Assert.assertEquals(genericSerializer.deserialize(null, encoder.encode(envelope)), envelope);
+  }
+
+  private static KafkaMessageEnvelope createEnvelope(MessageType messageType, Object payload, boolean withLeader) {
+    KafkaMessageEnvelope envelope = new KafkaMessageEnvelope();
+    envelope.messageType = messageType.getValue();
+    ProducerMetadata producerMetadata = new ProducerMetadata();
+    producerMetadata.producerGUID = GuidUtils.getGUID(new VeniceProperties());
+    producerMetadata.segmentNumber = 5;
+    producerMetadata.messageSequenceNumber = 100000;
+    producerMetadata.messageTimestamp = System.currentTimeMillis();
+    producerMetadata.logicalTimestamp = -1;
+    envelope.producerMetadata = producerMetadata;
+    envelope.payloadUnion = payload;
+    if (withLeader) {
+      LeaderMetadata leaderMetadata = new LeaderMetadata();
+      leaderMetadata.hostName = new Utf8("leader-host_1234");
+      leaderMetadata.upstreamOffset = Long.MIN_VALUE;
+      leaderMetadata.upstreamKafkaClusterId = 2;
+      envelope.leaderMetadataFooter = leaderMetadata;
+    }
+    return envelope;
+  }
+}
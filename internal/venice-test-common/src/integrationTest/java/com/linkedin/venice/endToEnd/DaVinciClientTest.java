@@ -43,6 +43,7 @@ import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.ingestion.main.MainIngestionRequestClient;
 import com.linkedin.davinci.ingestion.utils.IsolatedIngestionUtils;
 import com.linkedin.venice.D2.D2ClientUtils;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.ControllerClient;
 import com.linkedin.venice.controllerapi.ControllerResponse;
@@ -73,6 +74,7 @@ import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.TestWriteUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterFactory;
 import com.linkedin.venice.writer.VeniceWriterOptions;
@@ -83,10 +85,12 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -341,6 +345,79 @@ public class DaVinciClientTest {
     }
   }
 
+  @Test(timeOut = TEST_TIMEOUT)
+  public void testParallelBatchGet() throws Exception {
+    final Schema schema = Schema.parse(TEST_RECORD_VALUE_SCHEMA);
+    final GenericRecord value = new GenericData.Record(schema);
+    value.put("number", 10);
+    String storeName = cluster.createStore(KEY_COUNT, value);
+    cluster.createMetaSystemStore(storeName);
+
+    VeniceProperties backendConfig = new PropertyBuilder().put(CLIENT_USE_SYSTEM_STORE_REPOSITORY, true)
+        .put(DATA_BASE_PATH, Utils.getTempDataDirectory().getAbsolutePath())
+        .put(PERSISTENCE_TYPE, ROCKS_DB)
+        .build();
+    // Every batch get is split by partition and read on the pool
+    DaVinciConfig clientConfig = new DaVinciConfig().setBatchGetThreadPoolSize(4).setLargeBatchRequestSplitThreshold(1);
+
+    try (CachingDaVinciClientFactory factory = new CachingDaVinciClientFactory(
+        d2Client,
+        VeniceRouterWrapper.CLUSTER_DISCOVERY_D2_SERVICE_NAME,
+        new MetricsRepository(),
+        backendConfig)) {
+      DaVinciClient<Integer, Object> client = factory.getAndStartGenericAvroClient(storeName, clientConfig);
+      client.subscribeAll().get();
+
+      Set<Integer> keys = new HashSet<>();
+      for (int k = 0; k < KEY_COUNT + 1; ++k) {
+        keys.add(k);
+      }
+      Map<Integer, Object> result = client.batchGet(keys).get();
+      assertEquals(result.size(), KEY_COUNT);
+      for (int k = 0; k < KEY_COUNT; ++k) {
+        assertEquals(((GenericRecord) result.get(k)).get(0), 10);
+      }
+
+      // The values are deserialized into the reusable objects of their keys
+      Map<Integer, Object> reusableValues = new HashMap<>();
+      for (int k = 0; k < KEY_COUNT; ++k) {
+        GenericRecord reusableObject = new GenericData.Record(client.getLatestValueSchema());
+        reusableObject.put("number", -1);
+        reusableValues.put(k, reusableObject);
+      }
+      result = client.batchGet(keys, reusableValues).get();
+      assertEquals(result.size(), KEY_COUNT);
+      for (int k = 0; k < KEY_COUNT; ++k) {
+        assertEquals(((GenericRecord) reusableValues.get(k)).get(0), 10);
+      }
+
+      Map<Integer, Object> streamedValues = new VeniceConcurrentHashMap<>();
+      CompletableFuture<Void> completion = new CompletableFuture<>();
+      client.streamingBatchGet(keys, new StreamingCallback<Integer, Object>() {
+        @Override
+        public void onRecordReceived(Integer key, Object value) {
+          if (value != null) {
+            streamedValues.put(key, value);
+          }
+        }
+
+        @Override
+        public void onCompletion(Optional<Exception> exception) {
+          if (exception.isPresent()) {
+            completion.completeExceptionally(exception.get());
+          } else {
+            completion.complete(null);
+          }
+        }
+      });
+      completion.get();
+      assertEquals(streamedValues.size(), KEY_COUNT);
+      for (int k = 0; k < KEY_COUNT; ++k) {
+        assertEquals(((GenericRecord) streamedValues.get(k)).get(0), 10);
+      }
+    }
+  }
+
   @Test(groups = { "flaky" }, timeOut = TEST_TIMEOUT * 2)
   public void testUnstableIngestionIsolation() throws Exception {
     final String storeName = Utils.getUniqueString("store");
@@ -0,0 +1,83 @@
+package com.linkedin.venice.helix;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+
+import com.linkedin.venice.integration.utils.ServiceFactory;
+import com.linkedin.venice.integration.utils.ZkServerWrapper;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.locks.ClusterLockManager;
+import java.util.List;
+import java.util.Optional;
+import org.apache.helix.zookeeper.impl.client.ZkClient;
+import org.apache.zookeeper.CreateMode;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestHelixReadWriteStoreRepository {
+  private final String cluster = "test-metadata-cluster";
+  private final String clusterPath = "/test-metadata-cluster";
+  private final HelixAdapterSerializer adapter = new HelixAdapterSerializer();
+  private ZkServerWrapper zkServerWrapper;
+  private ZkClient zkClient;
+  private HelixReadWriteStoreRepository repository;
+
+  @BeforeClass
+  public void setUp() {
+    zkServerWrapper = ServiceFactory.getZkServer();
+    zkClient = ZkClientFactory.newZkClient(zkServerWrapper.getAddress());
+    zkClient.setZkSerializer(adapter);
+    zkClient.create(clusterPath, null, CreateMode.PERSISTENT);
+    zkClient.create(clusterPath + "/Stores", null, CreateMode.PERSISTENT);
+    repository = new HelixReadWriteStoreRepository(
+        zkClient,
+        adapter,
+        cluster,
+        Optional.empty(),
+        new ClusterLockManager(cluster));
+    repository.refresh();
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    repository.clear();
+    zkClient.deleteRecursively(clusterPath);
+    zkClient.close();
+    zkServerWrapper.close();
+  }
+
+  @Test
+  public void testStoreSnapshots() {
+    String storeName = Utils.getUniqueString("test_store");
+    Store store = TestUtils.createTestStore(storeName, "owner", System.currentTimeMillis());
+    store.setReadQuotaInCU(100);
+    repository.addStore(store);
+    // Modifying the added store afterwards shouldn't change the published snapshot.
+    store.setReadQuotaInCU(200);
+    Store snapshot = getSnapshot(storeName);
+    assertEquals(snapshot.getReadQuotaInCU(), 100);
+    // The snapshot is shared by the readers until the store is changed, and it's read-only.
+    assertSame(getSnapshot(storeName), snapshot);
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.setReadQuotaInCU(300));
+
+    Store mutableStore = repository.getStore(storeName);
+    mutableStore.setReadQuotaInCU(300);
+    repository.updateStore(mutableStore);
+    Store newSnapshot = getSnapshot(storeName);
+    assertNotSame(newSnapshot, snapshot);
+    assertEquals(newSnapshot.getReadQuotaInCU(), 300);
+    assertEquals(snapshot.getReadQuotaInCU(), 100);
+    assertEquals(repository.getStore(storeName).getReadQuotaInCU(), 300);
+  }
+
+  private Store getSnapshot(String storeName) {
+    List<Store> stores = repository.getAllStores();
+    return stores.stream().filter(s -> s.getName().equals(storeName)).findFirst().get();
+  }
+}
@@ -0,0 +1,211 @@
+package com.linkedin.venice.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.venice.fastclient.meta.ClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.ClientRoutingStrategyType;
+import com.linkedin.venice.fastclient.meta.HelixScatterGatherRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.InstanceHealthMonitor;
+import com.linkedin.venice.fastclient.meta.LatencyBasedClientRoutingStrategy;
+import com.linkedin.venice.fastclient.meta.LeastLoadedClientRoutingStrategy;
+import com.linkedin.venice.utils.TestMockTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * This benchmark compares the fast-client routing strategies against a set of heterogeneous replicas, where one
+ * replica is much slower than the others (e.g. because of compaction or GC):
+ * 1. {@link #routeRequests} measures the per-request routing overhead of each strategy.
+ * 2. {@link #main} additionally runs a discrete-event simulation in virtual time and prints the resulting
+ *    p50/p99/p99.9 latency of each strategy, which is what the latency-based strategy is trying to improve.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ClientRoutingStrategyBenchmark {
+  private static final int REPLICA_COUNT = 6;
+  private static final int SLOW_REPLICA_LATENCY_FACTOR = 10;
+  private static final double FAST_REPLICA_MEAN_LATENCY_US = 1000;
+  private static final double REQUEST_INTERVAL_US = 250;
+  private static final int REPLICA_CONCURRENCY = 8;
+  private static final int BLOCK_THRESHOLD = 50;
+  private static final int SIMULATED_REQUEST_COUNT = 200_000;
+
+  @Param({ "LEAST_LOADED", "HELIX_ASSISTED", "LATENCY_BASED" })
+  protected String strategyType;
+
+  private RoutingSimulation simulation;
+
+  public static void main(String[] args) throws Exception {
+    for (String type: new String[] { "LEAST_LOADED", "HELIX_ASSISTED", "LATENCY_BASED" }) {
+      RoutingSimulation sim = new RoutingSimulation(ClientRoutingStrategyType.valueOf(type), 1);
+      double[] latencies = sim.run(SIMULATED_REQUEST_COUNT);
+      Arrays.sort(latencies);
+      System.out.printf(
+          "%-15s p50: %8.1f us, p99: %8.1f us, p99.9: %8.1f us%n",
+          type,
+          percentile(latencies, 0.5),
+          percentile(latencies, 0.99),
+          percentile(latencies, 0.999));
+    }
+
+    Options options = new OptionsBuilder().include(ClientRoutingStrategyBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  private static double percentile(double[] sortedLatencies, double percentile) {
+    int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))];
+  }
+
+  @Setup
+  public void setUp() {
+    simulation = new RoutingSimulation(ClientRoutingStrategyType.valueOf(strategyType), 1);
+  }
+
+  @Benchmark
+  public void routeRequests(Blackhole bh) {
+    bh.consume(simulation.sendRequest());
+  }
+
+  /**
+   * A discrete-event simulation of a single client sending requests to {@link #REPLICA_COUNT} replicas at a fixed
+   * rate. The latency of a replica is exponentially distributed and grows with the number of its in-flight
+   * requests beyond {@link #REPLICA_CONCURRENCY}, and the first replica is {@link #SLOW_REPLICA_LATENCY_FACTOR}
+   * times slower than the others.
+   */
+  private static class RoutingSimulation {
+    private final List<String> replicas = new ArrayList<>(REPLICA_COUNT);
+    private final Map<String, Double> meanLatencyUsMap = new HashMap<>();
+    private final Map<String, Integer> pendingRequestCounterMap = new HashMap<>();
+    private final PriorityQueue<Response> inflightResponses = new PriorityQueue<>();
+    private final TestMockTime time = new TestMockTime(0);
+    private final Random random;
+    private final ClientRoutingStrategy strategy;
+
+    private long requestId = 0;
+    private double currentTimeUs = 0;
+
+    RoutingSimulation(ClientRoutingStrategyType strategyType, long seed) {
+      this.random = new Random(seed);
+      Map<String, Integer> helixGroupInfo = new HashMap<>();
+      for (int i = 0; i < REPLICA_COUNT; ++i) {
+        String replica = "https://replica" + i + ":1234";
+        replicas.add(replica);
+        meanLatencyUsMap.put(replica, FAST_REPLICA_MEAN_LATENCY_US * (i == 0 ? SLOW_REPLICA_LATENCY_FACTOR : 1));
+        pendingRequestCounterMap.put(replica, 0);
+        helixGroupInfo.put(replica, i);
+      }
+
+      InstanceHealthMonitor instanceHealthMonitor = mock(InstanceHealthMonitor.class);
+      doAnswer(invocation -> pendingRequestCounterMap.get((String) invocation.getArgument(0)))
+          .when(instanceHealthMonitor)
+          .getPendingRequestCounter(anyString());
+      doAnswer(invocation -> pendingRequestCounterMap.get((String) invocation.getArgument(0)) >= BLOCK_THRESHOLD)
+          .when(instanceHealthMonitor)
+          .isInstanceBlocked(anyString());
+
+      switch (strategyType) {
+        case HELIX_ASSISTED:
+          HelixScatterGatherRoutingStrategy helixStrategy =
+              new HelixScatterGatherRoutingStrategy(instanceHealthMonitor);
+          helixStrategy.updateHelixGroupInfo(helixGroupInfo);
+          this.strategy = helixStrategy;
+          break;
+        case LATENCY_BASED:
+          this.strategy = new LatencyBasedClientRoutingStrategy(
+              instanceHealthMonitor,
+              time,
+              LatencyBasedClientRoutingStrategy.DEFAULT_DECAY_TIME_MS);
+          break;
+        case LEAST_LOADED:
+        default:
+          this.strategy = new LeastLoadedClientRoutingStrategy(instanceHealthMonitor);
+      }
+    }
+
+    private static class Response implements Comparable<Response> {
+      private final String replica;
+      private final double completionTimeUs;
+      private final double latencyUs;
+
+      Response(String replica, double completionTimeUs, double latencyUs) {
+        this.replica = replica;
+        this.completionTimeUs = completionTimeUs;
+        this.latencyUs = latencyUs;
+      }
+
+      @Override
+      public int compareTo(Response o) {
+        return Double.compare(completionTimeUs, o.completionTimeUs);
+      }
+    }
+
+    double[] run(int requestCount) {
+      double[] latencies = new double[requestCount];
+      for (int i = 0; i < requestCount; ++i) {
+        latencies[i] = sendRequest();
+      }
+      return latencies;
+    }
+
+    /**
+     * Advance the virtual clock by one request interval, deliver all the responses completed by then, and route
+     * a new request.
+     * @return the latency of the new request in microseconds.
+     */
+    double sendRequest() {
+      currentTimeUs += REQUEST_INTERVAL_US;
+      while (!inflightResponses.isEmpty() && inflightResponses.peek().completionTimeUs <= currentTimeUs) {
+        Response response = inflightResponses.poll();
+        time.setTime((long) (response.completionTimeUs / 1000));
+        pendingRequestCounterMap.merge(response.replica, -1, Integer::sum);
+        if (strategy instanceof LatencyBasedClientRoutingStrategy) {
+          ((LatencyBasedClientRoutingStrategy) strategy)
+              .recordResponse(response.replica, response.latencyUs / 1000, HttpStatus.S_200_OK);
+        }
+      }
+      time.setTime((long) (currentTimeUs / 1000));
+
+      List<String> selectedReplicas = strategy.getReplicas(requestId++, replicas, 1);
+      if (selectedReplicas.isEmpty()) {
+        // All the replicas are blocked, which will be surfaced as an error with the leaked-request timeout.
+        return LatencyBasedClientRoutingStrategy.ERROR_PENALTY_LATENCY_MS * 1000;
+      }
+      String replica = selectedReplicas.get(0);
+      int pendingRequestCount = pendingRequestCounterMap.merge(replica, 1, Integer::sum);
+      double queueingFactor = 1 + Math.max(0, pendingRequestCount - REPLICA_CONCURRENCY) / (double) REPLICA_CONCURRENCY;
+      double latencyUs = -Math.log(1 - random.nextDouble()) * meanLatencyUsMap.get(replica) * queueingFactor;
+      inflightResponses.add(new Response(replica, currentTimeUs + latencyUs, latencyUs));
+      return latencyUs;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.venice.schema.merge.CollectionTimestampBuilder;
+import com.linkedin.venice.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import com.linkedin.venice.utils.IndexedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures a small partial update (one element added and one removed) on a list or a map field in the
+ * collection-merge state, with the elements of the collection spread over distinct timestamps so that the update
+ * lands in the middle of the collection.
+ *
+ * The collection and its RMD are rebuilt before each invocation since the update modifies them in place. The
+ * rebuild is not part of the measurement.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CollectionMergeBenchmark {
+  private static final String LIST_FIELD_NAME = "listField";
+  private static final String MAP_FIELD_NAME = "mapField";
+  private static final Schema VALUE_SCHEMA = AvroCompatibilityHelper.parse(
+      "{\"type\": \"record\", \"name\": \"Value\", \"fields\": ["
+          + "{\"name\": \"listField\", \"type\": {\"type\": \"array\", \"items\": \"string\"}, \"default\": []},"
+          + "{\"name\": \"mapField\", \"type\": {\"type\": \"map\", \"values\": \"int\"}, \"default\": {}}]}");
+  private static final Schema RMD_TIMESTAMP_SCHEMA = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA)
+      .getField(RmdConstants.TIMESTAMP_FIELD_NAME)
+      .schema()
+      .getTypes()
+      .get(1);
+
+  @Param({ "100", "1000", "10000", "100000" })
+  private int collectionSize;
+
+  private final SortBasedCollectionFieldOpHandler handler =
+      new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE);
+
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<Object> listRmd;
+  private CollectionRmdTimestamp<String> mapRmd;
+
+  @Setup(Level.Invocation)
+  public void setUp() {
+    // Element i is active with timestamp 2 * i + 2 and element -i - 1 is deleted with timestamp 2 * i + 3.
+    List<Object> listElements = new ArrayList<>(collectionSize);
+    IndexedHashMap<String, Object> mapEntries = new IndexedHashMap<>(collectionSize);
+    List<Long> activeTimestamps = new ArrayList<>(collectionSize);
+    List<Object> deletedElements = new ArrayList<>(collectionSize);
+    List<Long> deletedTimestamps = new ArrayList<>(collectionSize);
+    for (int i = 0; i < collectionSize; i++) {
+      listElements.add(element(i));
+      mapEntries.put(element(i), i);
+      activeTimestamps.add(2L * i + 2);
+      deletedElements.add(element(-i - 1));
+      deletedTimestamps.add(2L * i + 3);
+    }
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put(LIST_FIELD_NAME, listElements);
+    valueRecord.put(MAP_FIELD_NAME, mapEntries);
+    listRmd = new CollectionRmdTimestamp<>(
+        buildCollectionRmd(LIST_FIELD_NAME, activeTimestamps, deletedElements, deletedTimestamps));
+    mapRmd = new CollectionRmdTimestamp<>(
+        buildCollectionRmd(MAP_FIELD_NAME, activeTimestamps, deletedElements, deletedTimestamps));
+  }
+
+  private static String element(int i) {
+    return String.format("element_%08d", i);
+  }
+
+  private static GenericRecord buildCollectionRmd(
+      String fieldName,
+      List<Long> activeTimestamps,
+      List<Object> deletedElements,
+      List<Long> deletedTimestamps) {
+    CollectionTimestampBuilder builder = new CollectionTimestampBuilder(Schema.create(Schema.Type.STRING));
+    builder.setCollectionTimestampSchema(RMD_TIMESTAMP_SCHEMA.getField(fieldName).schema());
+    builder.setTopLevelTimestamps(1L);
+    builder.setTopLevelColoID(0);
+    builder.setPutOnlyPartLength(0);
+    builder.setActiveElementsTimestamps(new ArrayList<>(activeTimestamps));
+    builder.setDeletedElements(Schema.create(Schema.Type.STRING), new ArrayList<>(deletedElements));
+    builder.setDeletedElementTimestamps(new ArrayList<>(deletedTimestamps));
+    return builder.build();
+  }
+
+  private long middleTimestamp() {
+    return collectionSize + 1L;
+  }
+
+  @Benchmark
+  public void measureModifyList(Blackhole bh) {
+    List<Object> toAddElements = Collections.singletonList(element(collectionSize));
+    List<Object> toRemoveElements = Collections.singletonList(element(0));
+    bh.consume(
+        handler.handleModifyList(
+            middleTimestamp(),
+            listRmd,
+            valueRecord,
+            LIST_FIELD_NAME,
+            toAddElements,
+            toRemoveElements));
+  }
+
+  @Benchmark
+  public void measureModifyMap(Blackhole bh) {
+    Map<String, Object> newEntries = new HashMap<>();
+    newEntries.put(element(collectionSize), collectionSize);
+    List<String> toRemoveKeys = Collections.singletonList(element(0));
+    bh.consume(
+        handler.handleModifyMap(middleTimestamp(), mapRmd, valueRecord, MAP_FIELD_NAME, newEntries, toRemoveKeys));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
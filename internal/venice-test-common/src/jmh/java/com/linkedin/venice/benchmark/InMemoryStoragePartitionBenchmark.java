@@ -0,0 +1,117 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.davinci.store.memory.InMemoryStoragePartition;
+import com.linkedin.venice.utils.ByteArray;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the off-heap {@link InMemoryStoragePartition} with the map of byte arrays on the Java heap it replaced.
+ * The lookup latency is reported by JMH, while the memory per record (heap and direct) is printed once the partition
+ * is loaded.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G", "-XX:MaxDirectMemorySize=4G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InMemoryStoragePartitionBenchmark {
+  @Param({ "HEAP_MAP", "OFF_HEAP" })
+  private String implementation;
+
+  @Param({ "1000000" })
+  private int recordCount;
+
+  @Param({ "100", "1000" })
+  private int valueSize;
+
+  private Map<ByteArray, ByteArray> heapMap;
+  private InMemoryStoragePartition partition;
+  private byte[][] keys;
+
+  @Setup
+  public void setUp() {
+    keys = new byte[recordCount][];
+    for (int i = 0; i < recordCount; i++) {
+      keys[i] = String.format("key_%016d", i).getBytes();
+    }
+    byte[] value = new byte[valueSize];
+    ThreadLocalRandom.current().nextBytes(value);
+
+    long heapBefore = usedHeap();
+    switch (implementation) {
+      case "HEAP_MAP":
+        heapMap = new ConcurrentHashMap<>();
+        for (byte[] key: keys) {
+          heapMap.put(new ByteArray(key.clone()), new ByteArray(value.clone()));
+        }
+        break;
+      case "OFF_HEAP":
+        partition = new InMemoryStoragePartition(0);
+        for (byte[] key: keys) {
+          partition.put(key, value);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown implementation: " + implementation);
+    }
+    long heapPerRecord = (usedHeap() - heapBefore) / recordCount;
+    long directPerRecord = partition == null ? 0 : partition.getAllocatedBytes() / recordCount;
+    System.out.println(
+        "\n" + implementation + " with " + recordCount + " records of " + valueSize + " bytes: " + heapPerRecord
+            + " heap bytes and " + directPerRecord + " direct bytes per record");
+  }
+
+  @TearDown
+  public void cleanUp() {
+    if (partition != null) {
+      partition.close();
+    }
+  }
+
+  private static long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Benchmark
+  public void measureLookup(Blackhole bh) {
+    byte[] key = keys[ThreadLocalRandom.current().nextInt(recordCount)];
+    if (partition == null) {
+      bh.consume(heapMap.get(new ByteArray(key)).get());
+    } else {
+      bh.consume(partition.get(key));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(InMemoryStoragePartitionBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -0,0 +1,120 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.guid.GuidUtils;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.LeaderMetadata;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.serialization.KafkaKeySerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.serialization.avro.KafkaValueSerializer;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.util.Utf8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the generic Avro encoding of {@link KafkaMessageEnvelope} with the hand-written envelope encoder used by
+ * {@link KafkaValueSerializer} for data records. The throughput is reported in records per second, and the bytes
+ * allocated per record are reported by the {@link GCProfiler} as "gc.alloc.rate.norm".
+ */
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KafkaMessageEnvelopeEncodingBenchmark {
+  @Param({ "GENERIC", "ENVELOPE_ENCODER" })
+  private String encoding;
+
+  @Param({ "100", "10000" })
+  private int valueSize;
+
+  @Param({ "false", "true" })
+  private boolean withLeaderMetadata;
+
+  private InternalAvroSpecificSerializer<KafkaMessageEnvelope> valueSerializer;
+  private final KafkaKeySerializer keySerializer = new KafkaKeySerializer();
+  private KafkaKey kafkaKey;
+  private KafkaMessageEnvelope envelope;
+
+  @Setup
+  public void setUp() {
+    switch (encoding) {
+      case "GENERIC":
+        valueSerializer = AvroProtocolDefinition.KAFKA_MESSAGE_ENVELOPE.getSerializer();
+        break;
+      case "ENVELOPE_ENCODER":
+        valueSerializer = new KafkaValueSerializer();
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown encoding: " + encoding);
+    }
+
+    byte[] key = new byte[16];
+    byte[] value = new byte[valueSize];
+    ThreadLocalRandom.current().nextBytes(key);
+    ThreadLocalRandom.current().nextBytes(value);
+    kafkaKey = new KafkaKey(MessageType.PUT, key);
+
+    ProducerMetadata producerMetadata = new ProducerMetadata();
+    producerMetadata.producerGUID = GuidUtils.getGUID(new VeniceProperties());
+    producerMetadata.segmentNumber = 1;
+    producerMetadata.messageSequenceNumber = 1000;
+    producerMetadata.messageTimestamp = System.currentTimeMillis();
+    producerMetadata.logicalTimestamp = -1;
+
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(value);
+    put.schemaId = 1;
+    put.replicationMetadataVersionId = -1;
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+
+    envelope = new KafkaMessageEnvelope();
+    envelope.messageType = MessageType.PUT.getValue();
+    envelope.producerMetadata = producerMetadata;
+    envelope.payloadUnion = put;
+    if (withLeaderMetadata) {
+      LeaderMetadata leaderMetadata = new LeaderMetadata();
+      leaderMetadata.hostName = new Utf8("venice-server-1.example.com_1234");
+      leaderMetadata.upstreamOffset = 123456789L;
+      leaderMetadata.upstreamKafkaClusterId = 0;
+      envelope.leaderMetadataFooter = leaderMetadata;
+    }
+  }
+
+  @Benchmark
+  public void measureRecordEncoding(Blackhole bh) {
+    bh.consume(keySerializer.serialize(null, kafkaKey));
+    bh.consume(valueSerializer.serialize(null, envelope));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(KafkaMessageEnvelopeEncodingBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
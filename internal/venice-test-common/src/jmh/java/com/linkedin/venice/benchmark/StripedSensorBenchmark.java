@@ -0,0 +1,102 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.stats.StripedSensor;
+import com.linkedin.venice.stats.TehutiUtils;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.Sensor;
+import io.tehuti.metrics.stats.Avg;
+import io.tehuti.metrics.stats.Max;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * This benchmark compares the recording throughput of a Tehuti {@link Sensor} and a {@link StripedSensor} with the
+ * same stats as a typical request latency sensor (percentiles, Avg and Max), with a single thread and with many
+ * request threads recording into the same sensor concurrently.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StripedSensorBenchmark {
+  private static final int CONTENDED_THREAD_COUNT = 16;
+
+  private Sensor tehutiSensor;
+  private StripedSensor stripedSensor;
+
+  public static void main(String[] args) throws Exception {
+    Options options = new OptionsBuilder().include(StripedSensorBenchmark.class.getSimpleName()).build();
+    new Runner(options).run();
+  }
+
+  private static class BenchmarkStats extends AbstractVeniceStats {
+    private final Sensor tehutiSensor;
+    private final StripedSensor stripedSensor;
+
+    BenchmarkStats(MetricsRepository metricsRepository) {
+      super(metricsRepository, "benchmark_store");
+      this.tehutiSensor = registerSensor(
+          "tehuti_latency",
+          TehutiUtils.getPercentileStat(getName(), "tehuti_latency"),
+          new Avg(),
+          new Max(0));
+      this.stripedSensor = registerStripedSensorWithPercentiles(
+          "striped_latency",
+          StripedSensor.StatType.AVG,
+          StripedSensor.StatType.MAX);
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    BenchmarkStats stats = new BenchmarkStats(new MetricsRepository());
+    tehutiSensor = stats.tehutiSensor;
+    stripedSensor = stats.stripedSensor;
+  }
+
+  private static double nextLatency() {
+    return ThreadLocalRandom.current().nextDouble(100);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void tehutiSensorSingleThread() {
+    tehutiSensor.record(nextLatency());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void stripedSensorSingleThread() {
+    stripedSensor.record(nextLatency());
+  }
+
+  @Benchmark
+  @Threads(CONTENDED_THREAD_COUNT)
+  public void tehutiSensorContended() {
+    tehutiSensor.record(nextLatency());
+  }
+
+  @Benchmark
+  @Threads(CONTENDED_THREAD_COUNT)
+  public void stripedSensorContended() {
+    stripedSensor.record(nextLatency());
+  }
+}
@@ -0,0 +1,102 @@
+package com.linkedin.venice.benchmark;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.helix.StoreBinarySerializer;
+import com.linkedin.venice.meta.BufferReplayPolicy;
+import com.linkedin.venice.meta.DataReplicationPolicy;
+import com.linkedin.venice.meta.HybridStoreConfigImpl;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.meta.VersionImpl;
+import com.linkedin.venice.utils.TestUtils;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Compares the legacy JSON format of the store znodes with the compact binary format, with and without compression.
+ * The znode size of each combination is printed during the setup.
+ */
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ZkStoreSerializationBenchmark {
+  private static final String PATH = "/benchmark-cluster/Stores/benchmark_store";
+
+  @Param({ "JSON", "BINARY", "BINARY_GZIP" })
+  private String format;
+
+  @Param({ "2", "30" })
+  private int versionCount;
+
+  private final StoreBinarySerializer serializer = new StoreBinarySerializer();
+  private Store store;
+  private byte[] serializedStore;
+
+  @Setup
+  public void setUp() throws IOException {
+    store = TestUtils.createTestStore("benchmark_store", "owner", System.currentTimeMillis());
+    store.setHybridStoreConfig(
+        new HybridStoreConfigImpl(
+            3600,
+            1000,
+            60,
+            DataReplicationPolicy.NON_AGGREGATE,
+            BufferReplayPolicy.REWIND_FROM_EOP));
+    for (int i = 1; i <= versionCount; i++) {
+      store.addVersion(new VersionImpl(store.getName(), i, "push_job_" + i, 16));
+    }
+    serializedStore = serialize();
+    System.out.println(
+        "Znode size of store with " + versionCount + " versions in format " + format + ": " + serializedStore.length
+            + " bytes");
+  }
+
+  private byte[] serialize() throws IOException {
+    switch (format) {
+      case "JSON":
+        return serializer.serialize(store, PATH);
+      case "BINARY":
+        return serializer.serializeInBinaryFormat(store, PATH, CompressionStrategy.NO_OP);
+      case "BINARY_GZIP":
+        return serializer.serializeInBinaryFormat(store, PATH, CompressionStrategy.GZIP);
+      default:
+        throw new IllegalArgumentException("Unknown format: " + format);
+    }
+  }
+
+  @Benchmark
+  public void measureSerialization(Blackhole bh) throws IOException {
+    bh.consume(serialize());
+  }
+
+  @Benchmark
+  public void measureDeserialization(Blackhole bh) throws IOException {
+    bh.consume(serializer.deserialize(serializedStore, PATH));
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(ZkStoreSerializationBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
@@ -1,16 +1,29 @@
 package com.linkedin.venice.benchmark;
 
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_KB;
+import static com.linkedin.venice.utils.ByteUtils.BYTES_PER_MB;
+
 import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictTrainer;
 import com.github.luben.zstd.ZstdInputStream;
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.CompressorFactory;
 import com.linkedin.venice.compression.VeniceCompressor;
 import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.io.IOUtils;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -30,6 +43,13 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 
+/**
+ * Compares the decompression latency of the {@link CompressionStrategy}s. The compression ratio of each strategy is
+ * printed once the payloads are compressed.
+ *
+ * The AVRO payloads are serialized records with repetitive string and numeric fields, and the ZSTD_WITH_DICT
+ * dictionary is trained on them like the push job does. The RANDOM payloads are incompressible.
+ */
 @Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
 @Warmup(iterations = 2)
 @Measurement(iterations = 5)
@@ -38,23 +58,104 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class ZstdDecompressionBenchmark {
   private static final int NUMBER_OF_PAYLOADS = 10_000;
+  private static final String VALUE_SCHEMA = "{\"type\": \"record\", \"name\": \"Member\", \"fields\": ["
+      + "{\"name\": \"id\", \"type\": \"long\"}, {\"name\": \"name\", \"type\": \"string\"},"
+      + "{\"name\": \"country\", \"type\": \"string\"}, {\"name\": \"lastUpdated\", \"type\": \"long\"},"
+      + "{\"name\": \"skills\", \"type\": {\"type\": \"array\", \"items\": \"string\"}},"
+      + "{\"name\": \"scores\", \"type\": {\"type\": \"array\", \"items\": \"float\"}}]}";
+  private static final String[] WORDS = { "java", "kafka", "distributed", "systems", "storage", "machine", "learning",
+      "search", "ranking", "infrastructure", "venice", "database", "engineering", "management", "recommendations" };
+  private static final String[] COUNTRIES = { "us", "in", "br", "gb", "fr", "de", "ca", "cn" };
+
   @Param({ "500", "65536" })
   private static int PAYLOAD_SIZE;
+
+  @Param({ "ZSTD_WITH_DICT", "GZIP", "LZ4" })
+  private String compressionStrategy;
+
+  @Param({ "RANDOM", "AVRO" })
+  private String payloadType;
+
   private VeniceCompressor compressor;
   private ByteBuffer[] compressedPayloads;
   private byte[] dictionary;
   private Random rd = new Random();
+  private Schema valueSchema;
+  private RecordSerializer<GenericRecord> valueSerializer;
 
   @Setup
   public void setUp() throws Exception {
-    this.dictionary = ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
-    this.compressor = new CompressorFactory().createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel());
+    this.valueSchema = AvroCompatibilityHelper.parse(VALUE_SCHEMA);
+    this.valueSerializer = SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema);
+    List<byte[]> payloads = new ArrayList<>(NUMBER_OF_PAYLOADS);
+    for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
+      payloads.add(payloadType.equals("AVRO") ? generateAvroPayload(i) : generateRandomPayload());
+    }
+
+    CompressionStrategy strategy = CompressionStrategy.valueOf(compressionStrategy);
+    if (strategy == CompressionStrategy.ZSTD_WITH_DICT) {
+      this.dictionary = payloadType.equals("AVRO")
+          ? trainDictionary(payloads)
+          : ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData();
+      this.compressor = new CompressorFactory().createCompressorWithDictionary(dictionary, Zstd.maxCompressionLevel());
+    } else {
+      this.compressor = new CompressorFactory().getCompressor(strategy);
+    }
+
     this.compressedPayloads = new ByteBuffer[NUMBER_OF_PAYLOADS];
+    long uncompressedBytes = 0;
+    long compressedBytes = 0;
     for (int i = 0; i < NUMBER_OF_PAYLOADS; i++) {
-      byte[] data = new byte[PAYLOAD_SIZE];
-      this.rd.nextBytes(data);
-      this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(data), 0);
+      this.compressedPayloads[i] = compressor.compress(ByteBuffer.wrap(payloads.get(i)), 0);
+      uncompressedBytes += payloads.get(i).length;
+      compressedBytes += compressedPayloads[i].remaining();
+    }
+    System.out.printf(
+        "%n%s on %s payloads: %d bytes compressed to %d bytes, ratio %.2f%n",
+        compressionStrategy,
+        payloadType,
+        uncompressedBytes,
+        compressedBytes,
+        (double) uncompressedBytes / compressedBytes);
+  }
+
+  private byte[] generateRandomPayload() {
+    byte[] data = new byte[PAYLOAD_SIZE];
+    this.rd.nextBytes(data);
+    return data;
+  }
+
+  private byte[] generateAvroPayload(long id) {
+    GenericRecord record = new GenericData.Record(valueSchema);
+    record.put("id", id);
+    record.put("name", WORDS[rd.nextInt(WORDS.length)] + "_" + id);
+    record.put("country", COUNTRIES[rd.nextInt(COUNTRIES.length)]);
+    record.put("lastUpdated", System.currentTimeMillis() - rd.nextInt(1_000_000));
+    List<String> skills = new ArrayList<>();
+    List<Float> scores = new ArrayList<>();
+    record.put("skills", skills);
+    record.put("scores", scores);
+    // Each skill adds a word and a score, so grow the arrays until the serialized record reaches the payload size.
+    byte[] serialized = valueSerializer.serialize(record);
+    while (serialized.length < PAYLOAD_SIZE) {
+      int missingEntries = Math.max(1, (PAYLOAD_SIZE - serialized.length) / 16);
+      for (int i = 0; i < missingEntries; i++) {
+        skills.add(WORDS[rd.nextInt(WORDS.length)] + " " + WORDS[rd.nextInt(WORDS.length)]);
+        scores.add(rd.nextInt(100) / 10f);
+      }
+      serialized = valueSerializer.serialize(record);
+    }
+    return serialized;
+  }
+
+  private static byte[] trainDictionary(List<byte[]> payloads) {
+    ZstdDictTrainer trainer = new ZstdDictTrainer(200 * BYTES_PER_MB, 100 * BYTES_PER_KB);
+    for (byte[] payload: payloads) {
+      if (!trainer.addSample(payload)) {
+        break;
+      }
     }
+    return trainer.trainSamples();
   }
 
   @Benchmark
@@ -69,6 +170,9 @@ public class ZstdDecompressionBenchmark {
     }
   }
 
+  /**
+   * Only ZSTD_WITH_DICT has a dictionary to reload, the other strategies measure their stream decompression.
+   */
   @Benchmark
   @OperationsPerInvocation(NUMBER_OF_PAYLOADS)
   public void measureDecompressionWithDictionaryReload(org.openjdk.jmh.infra.Blackhole bh) throws IOException {
@@ -79,7 +183,9 @@ public class ZstdDecompressionBenchmark {
       try (
           InputStream bais =
               new ByteArrayInputStream(compressed.array(), compressed.position(), compressed.remaining());
-          InputStream zis = new ZstdInputStream(bais).setDict(this.dictionary)) {
+          InputStream zis = this.dictionary == null
+              ? compressor.decompress(bais)
+              : new ZstdInputStream(bais).setDict(this.dictionary)) {
         decompressed = ByteBuffer.wrap(IOUtils.toByteArray(zis));
         bh.consume(decompressed);
       }
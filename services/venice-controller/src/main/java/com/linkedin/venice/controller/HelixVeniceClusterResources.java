@@ -1,5 +1,9 @@
 package com.linkedin.venice.controller;
 
+import static com.linkedin.venice.ConfigKeys.KAFKA_AUTO_OFFSET_RESET_CONFIG;
+import static com.linkedin.venice.ConfigKeys.KAFKA_CLIENT_ID_CONFIG;
+import static com.linkedin.venice.ConfigKeys.KAFKA_ENABLE_AUTO_COMMIT_CONFIG;
+
 import com.linkedin.venice.VeniceResource;
 import com.linkedin.venice.acl.AclCreationDeletionListener;
 import com.linkedin.venice.acl.DynamicAccessController;
@@ -21,25 +25,33 @@ import com.linkedin.venice.helix.VeniceOfflinePushMonitorAccessor;
 import com.linkedin.venice.helix.ZkRoutersClusterManager;
 import com.linkedin.venice.helix.ZkStoreConfigAccessor;
 import com.linkedin.venice.ingestion.control.RealTimeTopicSwitcher;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
 import com.linkedin.venice.meta.ReadWriteSchemaRepository;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
 import com.linkedin.venice.pushmonitor.AggPushHealthStats;
 import com.linkedin.venice.pushmonitor.AggPushStatusCleanUpStats;
 import com.linkedin.venice.pushmonitor.LeakedPushStatusCleanUpService;
 import com.linkedin.venice.pushmonitor.PushMonitorDelegator;
+import com.linkedin.venice.serialization.avro.OptimizedKafkaValueSerializer;
 import com.linkedin.venice.stats.HelixMessageChannelStats;
 import com.linkedin.venice.system.store.MetaStoreWriter;
+import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
+import com.linkedin.venice.utils.pools.LandFillObjectPool;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.helix.HelixManagerFactory;
 import org.apache.helix.InstanceType;
@@ -166,7 +178,8 @@ public class HelixVeniceClusterResources implements VeniceResource {
         getActiveActiveRealTimeSourceKafkaURLs(config),
         helixAdminClient,
         config,
-        admin.getPushStatusStoreReader().orElse(null));
+        admin.getPushStatusStoreReader().orElse(null),
+        getPushStatusStoreConsumerFactory(clusterName, config, admin));
 
     this.leakedPushStatusCleanUpService = new LeakedPushStatusCleanUpService(
         clusterName,
@@ -208,6 +221,33 @@ public class HelixVeniceClusterResources implements VeniceResource {
         new StoragePersonaRepository(clusterName, this.storeMetadataRepository, adapterSerializer, zkClient);
   }
 
+  /**
+   * The consumer is used to aggregate Da Vinci push status from the change stream of the push status stores in the
+   * local region, see {@link com.linkedin.venice.pushmonitor.DaVinciPushStatusAggregator}.
+   */
+  private static Optional<Supplier<PubSubConsumerAdapter>> getPushStatusStoreConsumerFactory(
+      String clusterName,
+      VeniceControllerConfig config,
+      VeniceHelixAdmin admin) {
+    if (!config.isDaVinciPushStatusChangeStreamEnabled()) {
+      return Optional.empty();
+    }
+    return Optional.of(() -> {
+      Properties consumerProperties =
+          admin.getPubSubSSLProperties(admin.getKafkaBootstrapServers(admin.isSslToKafka())).toProperties();
+      String consumerName = clusterName + "-push-status-store-consumer";
+      consumerProperties.setProperty(KAFKA_CLIENT_ID_CONFIG, consumerName);
+      consumerProperties.setProperty(KAFKA_AUTO_OFFSET_RESET_CONFIG, "latest");
+      consumerProperties.setProperty(KAFKA_ENABLE_AUTO_COMMIT_CONFIG, "false");
+      PubSubMessageDeserializer pubSubMessageDeserializer = new PubSubMessageDeserializer(
+          new OptimizedKafkaValueSerializer(),
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new),
+          new LandFillObjectPool<>(KafkaMessageEnvelope::new));
+      return admin.getVeniceConsumerFactory()
+          .create(new VeniceProperties(consumerProperties), false, pubSubMessageDeserializer, consumerName);
+    });
+  }
+
   private List<String> getActiveActiveRealTimeSourceKafkaURLs(VeniceControllerConfig config) {
     List<String> kafkaURLs = new ArrayList<>(config.getActiveActiveRealTimeSourceFabrics().size());
     for (String fabric: config.getActiveActiveRealTimeSourceFabrics()) {
@@ -240,8 +280,10 @@ public class HelixVeniceClusterResources implements VeniceResource {
          */
         if (store.getReplicationFactor() <= 0) {
           int previousReplicationFactor = store.getReplicationFactor();
-          store.setReplicationFactor(config.getReplicationFactor());
-          metadataRepository.updateStore(store);
+          // The stores returned by getAllStores are read-only snapshots
+          Store updatedStore = store.cloneStore();
+          updatedStore.setReplicationFactor(config.getReplicationFactor());
+          metadataRepository.updateStore(updatedStore);
           LOGGER.info(
               "Updated replication factor from {} to {} for store: {}, in cluster: {}",
               previousReplicationFactor,
@@ -47,7 +47,10 @@ import static com.linkedin.venice.ConfigKeys.CONTROLLER_STORE_GRAVEYARD_CLEANUP_
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_SYSTEM_STORE_ACL_SYNCHRONIZATION_DELAY_MS;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_BINARY_FORMAT_COMPRESSION_STRATEGY;
+import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_BINARY_FORMAT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED;
+import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_CHANGE_STREAM_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_ENABLED;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE;
@@ -89,6 +92,7 @@ import static com.linkedin.venice.ConfigKeys.VENICE_STORAGE_CLUSTER_LEADER_HAAS;
 
 import com.linkedin.venice.authorization.DefaultIdentityParser;
 import com.linkedin.venice.client.store.ClientConfig;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.pubsub.adapter.kafka.admin.ApacheKafkaAdminAdapter;
@@ -190,6 +194,8 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
   private final boolean disableParentTopicTruncationUponCompletion;
   private final Set<String> parentFabrics;
   private final boolean zkSharedMetaSystemSchemaStoreAutoCreationEnabled;
+  private final boolean zkBinaryFormatEnabled;
+  private final CompressionStrategy zkBinaryFormatCompressionStrategy;
   /**
    * To decide whether to initialize push status store related components.
    */
@@ -204,6 +210,8 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
 
   private final int daVinciPushStatusScanMaxOfflineInstance;
 
+  private final boolean daVinciPushStatusChangeStreamEnabled;
+
   private final boolean zkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled;
 
   /**
@@ -430,6 +438,9 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
      */
     this.zkSharedMetaSystemSchemaStoreAutoCreationEnabled =
         props.getBoolean(CONTROLLER_ZK_SHARED_META_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED, false);
+    this.zkBinaryFormatEnabled = props.getBoolean(CONTROLLER_ZK_BINARY_FORMAT_ENABLED, false);
+    this.zkBinaryFormatCompressionStrategy = CompressionStrategy
+        .valueOf(props.getString(CONTROLLER_ZK_BINARY_FORMAT_COMPRESSION_STRATEGY, CompressionStrategy.NO_OP.name()));
     this.pushStatusStoreHeartbeatExpirationTimeInSeconds =
         props.getLong(PUSH_STATUS_STORE_HEARTBEAT_EXPIRATION_TIME_IN_SECONDS, TimeUnit.MINUTES.toSeconds(10));
     this.isDaVinciPushStatusStoreEnabled = props.getBoolean(PUSH_STATUS_STORE_ENABLED, false);
@@ -440,6 +451,8 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     this.daVinciPushStatusScanNoReportRetryMaxAttempt =
         props.getInt(DAVINCI_PUSH_STATUS_SCAN_NO_REPORT_RETRY_MAX_ATTEMPTS, 6);
     this.daVinciPushStatusScanMaxOfflineInstance = props.getInt(DAVINCI_PUSH_STATUS_SCAN_MAX_OFFLINE_INSTANCE, 10);
+    this.daVinciPushStatusChangeStreamEnabled =
+        props.getBoolean(DAVINCI_PUSH_STATUS_CHANGE_STREAM_ENABLED, false) && daVinciPushStatusScanEnabled;
 
     this.zkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled =
         props.getBoolean(CONTROLLER_ZK_SHARED_DAVINCI_PUSH_STATUS_SYSTEM_SCHEMA_STORE_AUTO_CREATION_ENABLED, false);
@@ -556,6 +569,10 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return daVinciPushStatusScanMaxOfflineInstance;
   }
 
+  public boolean isDaVinciPushStatusChangeStreamEnabled() {
+    return daVinciPushStatusChangeStreamEnabled;
+  }
+
   public int getTopicCleanupDelayFactor() {
     return topicCleanupDelayFactor;
   }
@@ -750,6 +767,14 @@ public class VeniceControllerConfig extends VeniceControllerClusterConfig {
     return zkSharedMetaSystemSchemaStoreAutoCreationEnabled;
   }
 
+  public boolean isZkBinaryFormatEnabled() {
+    return zkBinaryFormatEnabled;
+  }
+
+  public CompressionStrategy getZkBinaryFormatCompressionStrategy() {
+    return zkBinaryFormatCompressionStrategy;
+  }
+
   public long getPushStatusStoreHeartbeatExpirationTimeInSeconds() {
     return pushStatusStoreHeartbeatExpirationTimeInSeconds;
   }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.controller;
 
 import com.linkedin.venice.SSLConfig;
+import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.controllerapi.ControllerRoute;
 import com.linkedin.venice.exceptions.VeniceNoClusterException;
 import com.linkedin.venice.utils.VeniceProperties;
@@ -233,6 +234,14 @@ public class VeniceControllerMultiClusterConfig {
     return getCommonConfig().isZkSharedMetaSystemSchemaStoreAutoCreationEnabled();
   }
 
+  public boolean isZkBinaryFormatEnabled() {
+    return getCommonConfig().isZkBinaryFormatEnabled();
+  }
+
+  public CompressionStrategy getZkBinaryFormatCompressionStrategy() {
+    return getCommonConfig().getZkBinaryFormatCompressionStrategy();
+  }
+
   public boolean isZkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled() {
     return getCommonConfig().isZkSharedDaVinciPushStatusSystemSchemaStoreAutoCreationEnabled();
   }
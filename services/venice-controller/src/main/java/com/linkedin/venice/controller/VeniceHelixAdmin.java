@@ -487,6 +487,13 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
     this.zkClient = ZkClientFactory.newZkClient(multiClusterConfigs.getZkAddress());
     this.zkClient.subscribeStateChanges(new ZkClientStatusStats(metricsRepository, "controller-zk-client"));
     this.adapterSerializer = new HelixAdapterSerializer();
+    if (multiClusterConfigs.isZkBinaryFormatEnabled()) {
+      // All the readers accept both formats, so only the writes are switched here.
+      this.adapterSerializer.enableBinaryFormat(multiClusterConfigs.getZkBinaryFormatCompressionStrategy());
+      LOGGER.info(
+          "Writing store metadata to ZK in the binary format with compression strategy: {}",
+          multiClusterConfigs.getZkBinaryFormatCompressionStrategy());
+    }
 
     this.veniceConsumerFactory = pubSubClientsFactory.getConsumerAdapterFactory();
     this.topicManagerRepository = TopicManagerRepository.builder()
@@ -3436,7 +3443,7 @@ public class VeniceHelixAdmin implements Admin, StoreCleaner {
       LOGGER.info("Detected the following old topics to truncate: {}", oldTopicsToTruncate);
       int numberOfNewTopicsMarkedForDelete = 0;
       Map<PubSubTopic, PubSubTopicConfiguration> pubSubTopicConfigs =
-          getTopicManager().getSomeTopicConfigs(oldTopicsToTruncate);
+          getTopicManager().getCachedTopicConfigs(oldTopicsToTruncate);
       Map<String, PubSubTopicConfiguration> topicConfigs = new HashMap<>();
       for (Map.Entry<PubSubTopic, PubSubTopicConfiguration> entry: pubSubTopicConfigs.entrySet()) {
         topicConfigs.put(entry.getKey().getName(), entry.getValue());
@@ -0,0 +1,538 @@
+package com.linkedin.venice.pushmonitor;
+
+import com.linkedin.venice.common.PushStatusStoreUtils;
+import com.linkedin.venice.common.VeniceSystemStoreType;
+import com.linkedin.venice.common.VeniceSystemStoreUtils;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pushstatus.PushStatusKey;
+import com.linkedin.venice.pushstatus.PushStatusValue;
+import com.linkedin.venice.pushstatus.PushStatusValueWriteOpRecord;
+import com.linkedin.venice.pushstatus.instancesMapOps;
+import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class aggregates Da Vinci push status incrementally from the change stream of the push status system stores,
+ * instead of reading the statuses of all the partitions from the push status store in every scan.
+ *
+ * Da Vinci hosts write their replica statuses and heartbeats into the single-partition real-time topic of the push
+ * status store of each user store. While a store has monitored pushes, this class consumes that topic, seeds the state
+ * of each monitored version with one read of its partition statuses, and then applies every update to the in-memory
+ * replica statuses of the partition. The number of completed partitions and errored replicas is kept up to date per
+ * version topic, so a terminal status is reported to the listener as soon as the last replica completes or any replica
+ * fails, without waiting for the next scan.
+ *
+ * The push status store lags its real-time topic, so the seed could miss the latest updates. The consumer therefore
+ * starts {@link #REPLAY_WINDOW_MS} before the end of the topic, and the updates are replayed onto the seed. Replaying
+ * updates which are already part of the seed is harmless, since every update sets the statuses of its replicas, but the
+ * statuses could go back in time until the replay reaches the end offset of the subscription. Until then, the topics of
+ * the store are not reported as tracked and no terminal status is reported.
+ *
+ * The consumer is only accessed by the polling thread, subscription changes are queued and applied between polls. It is
+ * created when the first topic is subscribed and closed by {@link #close()}, so the aggregator can be restarted.
+ */
+public class DaVinciPushStatusAggregator implements Closeable {
+  private static final Logger LOGGER = LogManager.getLogger(DaVinciPushStatusAggregator.class);
+  private static final long POLL_TIMEOUT_MS = 1000;
+  /**
+   * How far back the updates are replayed onto the seed, which should be well above the ingestion lag of the push
+   * status stores.
+   */
+  static final long REPLAY_WINDOW_MS = TimeUnit.MINUTES.toMillis(10);
+
+  private static final RecordDeserializer<PushStatusKey> KEY_DESERIALIZER =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(PushStatusKey.class);
+  private static final RecordDeserializer<PushStatusValue> VALUE_DESERIALIZER =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(PushStatusValue.class);
+  private static final RecordDeserializer<PushStatusValueWriteOpRecord> UPDATE_DESERIALIZER =
+      SerializerDeserializerFactory.getAvroSpecificDeserializer(PushStatusValueWriteOpRecord.class);
+
+  private final Supplier<PubSubConsumerAdapter> consumerSupplier;
+  private final PubSubTopicRepository pubSubTopicRepository = new PubSubTopicRepository();
+  private final PushStatusStoreReader pushStatusStoreReader;
+  private final BiConsumer<String, ExecutionStatusWithDetails> terminalStatusListener;
+  private final long heartbeatExpirationTimeInMs;
+  private final int maxOfflineInstance;
+
+  private final Map<String, TopicState> topicStates = new VeniceConcurrentHashMap<>();
+  // Store name -> instance name -> timestamp of the last heartbeat.
+  private final Map<String, Map<String, Long>> storeToInstanceHeartbeats = new VeniceConcurrentHashMap<>();
+  private final Queue<Runnable> pendingSubscriptionChanges = new ConcurrentLinkedQueue<>();
+  // Only accessed by the polling thread.
+  private final Map<String, Integer> storeToSubscribedTopicCount = new HashMap<>();
+  // Store name -> offset of the next message to consume. Only accessed by the polling thread.
+  private final Map<String, Long> storeToNextOffset = new HashMap<>();
+  // Store name -> offset of the last message to replay before the statuses are up to date. Only accessed by the polling
+  // thread.
+  private final Map<String, Long> storeToReplayEndOffset = new HashMap<>();
+
+  private final AtomicBoolean isRunning = new AtomicBoolean(false);
+  private ExecutorService pollingExecutor;
+  // Only accessed by the polling thread, or after it is stopped.
+  private PubSubConsumerAdapter consumer;
+
+  public DaVinciPushStatusAggregator(
+      Supplier<PubSubConsumerAdapter> consumerSupplier,
+      PushStatusStoreReader pushStatusStoreReader,
+      BiConsumer<String, ExecutionStatusWithDetails> terminalStatusListener,
+      long heartbeatExpirationTimeInSeconds,
+      int maxOfflineInstance) {
+    this.consumerSupplier = consumerSupplier;
+    this.pushStatusStoreReader = pushStatusStoreReader;
+    this.terminalStatusListener = terminalStatusListener;
+    this.heartbeatExpirationTimeInMs = TimeUnit.SECONDS.toMillis(heartbeatExpirationTimeInSeconds);
+    this.maxOfflineInstance = maxOfflineInstance;
+  }
+
+  public void start() {
+    if (isRunning.compareAndSet(false, true)) {
+      pollingExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("DaVinciPushStatusAggregator"));
+      pollingExecutor.submit(this::run);
+      LOGGER.info("Started Da Vinci push status aggregator");
+    }
+  }
+
+  /**
+   * Starts aggregating the Da Vinci push status of the given version topic. The status is only available once the
+   * polling thread has subscribed to the push status store and seeded the state, see {@link #isTracking}.
+   */
+  public void subscribeTopic(String topicName, int partitionCount) {
+    if (topicStates.containsKey(topicName)) {
+      return;
+    }
+    TopicState topicState = new TopicState(topicName, partitionCount);
+    topicStates.put(topicName, topicState);
+    pendingSubscriptionChanges.add(() -> subscribePushStatusStore(topicState));
+  }
+
+  public void unsubscribeTopic(String topicName) {
+    TopicState topicState = topicStates.remove(topicName);
+    if (topicState != null) {
+      pendingSubscriptionChanges.add(() -> unsubscribePushStatusStore(topicState));
+    }
+  }
+
+  /**
+   * @return whether the Da Vinci push status of the topic is aggregated from the change stream and up to date.
+   */
+  public boolean isTracking(String topicName) {
+    TopicState topicState = topicStates.get(topicName);
+    return topicState != null && topicState.isUpToDate();
+  }
+
+  /**
+   * Computes the Da Vinci push status of the topic from the in-memory replica statuses, without reading the push status
+   * store except for the heartbeats of the instances which haven't sent one since the subscription.
+   */
+  public ExecutionStatusWithDetails getDaVinciPushStatusAndDetails(String topicName) {
+    TopicState topicState = topicStates.get(topicName);
+    if (topicState == null) {
+      return null;
+    }
+    synchronized (topicState) {
+      return PushMonitorUtils.getDaVinciPushStatusAndDetails(
+          topicName,
+          topicState.partitionCount,
+          Optional.empty(),
+          maxOfflineInstance,
+          topicState::getReplicaStatuses,
+          instanceName -> isInstanceAlive(topicState.storeName, instanceName));
+    }
+  }
+
+  private void run() {
+    while (isRunning.get()) {
+      try {
+        processPendingSubscriptionChanges();
+        if (consumer == null || !consumer.hasAnySubscription()) {
+          Thread.sleep(POLL_TIMEOUT_MS);
+          continue;
+        }
+        consumer.poll(POLL_TIMEOUT_MS).forEach((topicPartition, messages) -> {
+          String storeName = VeniceSystemStoreType.DAVINCI_PUSH_STATUS_STORE
+              .extractRegularStoreName(Version.parseStoreFromRealTimeTopic(topicPartition.getTopicName()));
+          messages.forEach(message -> processMessage(storeName, message));
+        });
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      } catch (Exception e) {
+        LOGGER.error("Caught exception while aggregating Da Vinci push status", e);
+      }
+    }
+    LOGGER.info("Da Vinci push status aggregator polling thread stopped");
+  }
+
+  // Visible for testing.
+  void processPendingSubscriptionChanges() {
+    Runnable subscriptionChange;
+    while ((subscriptionChange = pendingSubscriptionChanges.poll()) != null) {
+      subscriptionChange.run();
+    }
+  }
+
+  private void subscribePushStatusStore(TopicState topicState) {
+    if (topicStates.get(topicState.topicName) != topicState) {
+      // Unsubscribed before the subscription is processed.
+      return;
+    }
+    String storeName = topicState.storeName;
+    int subscribedTopicCount = storeToSubscribedTopicCount.getOrDefault(storeName, 0);
+    try {
+      if (consumer == null) {
+        consumer = consumerSupplier.get();
+      }
+      PubSubTopicPartition topicPartition = getPushStatusStoreTopicPartition(storeName);
+      long endOffset = consumer.endOffset(topicPartition);
+      Long replayStartOffset = consumer.offsetForTime(topicPartition, System.currentTimeMillis() - REPLAY_WINDOW_MS);
+      // No offset means that all the messages are older than the replay window, and a negative one that the offset is
+      // unknown, in which case the whole topic is replayed.
+      long startOffset = replayStartOffset == null ? endOffset : Math.max(replayStartOffset, 0);
+      if (subscribedTopicCount == 0) {
+        consumer.subscribe(topicPartition, startOffset - 1);
+        storeToNextOffset.put(storeName, startOffset);
+      } else if (startOffset < storeToNextOffset.get(storeName)) {
+        // The other versions of the store are up to date with the consumed offset, so they can be replayed as well.
+        consumer.unSubscribe(topicPartition);
+        consumer.subscribe(topicPartition, startOffset - 1);
+        storeToNextOffset.put(storeName, startOffset);
+      }
+      storeToSubscribedTopicCount.put(storeName, subscribedTopicCount + 1);
+      topicState.subscribed = true;
+      if (storeToNextOffset.get(storeName) < endOffset) {
+        storeToReplayEndOffset.put(storeName, endOffset - 1);
+        setReplaying(storeName, true);
+      }
+      topicState.seed(pushStatusStoreReader);
+      LOGGER.info("Aggregating Da Vinci push status of topic: {} from the change stream", topicState.topicName);
+    } catch (Exception e) {
+      // The topic stays untracked, and its status will be read from the push status store instead.
+      LOGGER.error("Failed to subscribe to the push status store of topic: {}", topicState.topicName, e);
+    }
+    checkTerminalStatus(topicState);
+  }
+
+  private void unsubscribePushStatusStore(TopicState topicState) {
+    String storeName = topicState.storeName;
+    Integer subscribedTopicCount = storeToSubscribedTopicCount.get(storeName);
+    if (subscribedTopicCount == null || !topicState.subscribed) {
+      return;
+    }
+    if (subscribedTopicCount > 1) {
+      storeToSubscribedTopicCount.put(storeName, subscribedTopicCount - 1);
+      return;
+    }
+    storeToSubscribedTopicCount.remove(storeName);
+    storeToNextOffset.remove(storeName);
+    storeToReplayEndOffset.remove(storeName);
+    storeToInstanceHeartbeats.remove(storeName);
+    consumer.unSubscribe(getPushStatusStoreTopicPartition(storeName));
+  }
+
+  private PubSubTopicPartition getPushStatusStoreTopicPartition(String storeName) {
+    String realTimeTopic =
+        Version.composeRealTimeTopic(VeniceSystemStoreUtils.getDaVinciPushStatusStoreName(storeName));
+    return new PubSubTopicPartitionImpl(pubSubTopicRepository.getTopic(realTimeTopic), 0);
+  }
+
+  private void setReplaying(String storeName, boolean replaying) {
+    for (TopicState topicState: topicStates.values()) {
+      if (topicState.storeName.equals(storeName) && topicState.subscribed) {
+        topicState.replaying = replaying;
+      }
+    }
+  }
+
+  // Visible for testing.
+  void processMessage(String storeName, PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message) {
+    TopicState updatedTopicState = applyMessage(storeName, message);
+    storeToNextOffset.replace(storeName, message.getOffset() + 1);
+    Long replayEndOffset = storeToReplayEndOffset.get(storeName);
+    if (replayEndOffset == null) {
+      if (updatedTopicState != null) {
+        checkTerminalStatus(updatedTopicState);
+      }
+      return;
+    }
+    if (message.getOffset() < replayEndOffset) {
+      return;
+    }
+    // The replay is over, so the statuses of all the versions of the store are up to date.
+    storeToReplayEndOffset.remove(storeName);
+    setReplaying(storeName, false);
+    for (TopicState topicState: topicStates.values()) {
+      if (topicState.storeName.equals(storeName)) {
+        checkTerminalStatus(topicState);
+      }
+    }
+  }
+
+  /**
+   * @return the state of the version updated by the message, if any.
+   */
+  private TopicState applyMessage(String storeName, PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> message) {
+    KafkaKey kafkaKey = message.getKey();
+    if (kafkaKey.isControlMessage()) {
+      return null;
+    }
+    PushStatusKey pushStatusKey = KEY_DESERIALIZER.deserialize(kafkaKey.getKey());
+    KafkaMessageEnvelope envelope = message.getValue();
+    MessageType messageType = MessageType.valueOf(envelope);
+    if (pushStatusKey.messageType == PushStatusStoreUtils.PushStatusKeyType.HEARTBEAT.ordinal()) {
+      if (messageType == MessageType.PUT) {
+        PushStatusValue heartbeat = VALUE_DESERIALIZER.deserialize(((Put) envelope.payloadUnion).putValue);
+        // Replayed heartbeats are older than the ones already received.
+        storeToInstanceHeartbeats.computeIfAbsent(storeName, s -> new VeniceConcurrentHashMap<>())
+            .merge(pushStatusKey.keyStrings.get(0).toString(), heartbeat.reportTimestamp, Math::max);
+      }
+      return null;
+    }
+    if (pushStatusKey.messageType != PushStatusStoreUtils.PushStatusKeyType.FULL_PUSH.ordinal()) {
+      return null;
+    }
+    int version = (int) pushStatusKey.keyStrings.get(0);
+    int partitionId = (int) pushStatusKey.keyStrings.get(1);
+    TopicState topicState = topicStates.get(Version.composeKafkaTopic(storeName, version));
+    if (topicState == null || !topicState.isSeeded() || partitionId >= topicState.partitionCount) {
+      return null;
+    }
+    synchronized (topicState) {
+      switch (messageType) {
+        case PUT:
+          PushStatusValue value = VALUE_DESERIALIZER.deserialize(((Put) envelope.payloadUnion).putValue);
+          topicState.replaceReplicaStatuses(partitionId, value.instances);
+          break;
+        case UPDATE:
+          Update update = (Update) envelope.payloadUnion;
+          PushStatusValueWriteOpRecord writeOpRecord = UPDATE_DESERIALIZER.deserialize(update.updateValue);
+          if (writeOpRecord.instances instanceof instancesMapOps) {
+            instancesMapOps mapOps = (instancesMapOps) writeOpRecord.instances;
+            topicState.updateReplicaStatuses(partitionId, mapOps.mapUnion, mapOps.mapDiff);
+          } else if (writeOpRecord.instances instanceof Map) {
+            topicState.replaceReplicaStatuses(partitionId, (Map<CharSequence, Integer>) writeOpRecord.instances);
+          }
+          break;
+        case DELETE:
+          topicState.replaceReplicaStatuses(partitionId, Collections.emptyMap());
+          break;
+        default:
+          return null;
+      }
+    }
+    return topicState;
+  }
+
+  /**
+   * Only runs the full evaluation once the counters show that the push could be terminal.
+   */
+  private void checkTerminalStatus(TopicState topicState) {
+    if (!topicState.isUpToDate() || !topicState.mayBeTerminal()) {
+      return;
+    }
+    ExecutionStatusWithDetails status = getDaVinciPushStatusAndDetails(topicState.topicName);
+    if (status != null && status.getStatus().isTerminal() && !status.isNoDaVinciStatusReport()
+        && topicState.markTerminalStatusReported()) {
+      LOGGER.info(
+          "Da Vinci push status of topic: {} is {} with details: {}",
+          topicState.topicName,
+          status.getStatus(),
+          status.getDetails());
+      terminalStatusListener.accept(topicState.topicName, status);
+    }
+  }
+
+  private boolean isInstanceAlive(String storeName, String instanceName) {
+    Map<String, Long> instanceHeartbeats =
+        storeToInstanceHeartbeats.computeIfAbsent(storeName, s -> new VeniceConcurrentHashMap<>());
+    Long lastHeartbeat = instanceHeartbeats.get(instanceName);
+    if (lastHeartbeat == null) {
+      // The instance hasn't sent any heartbeat since the subscription.
+      lastHeartbeat = pushStatusStoreReader.getHeartbeat(storeName, instanceName);
+      instanceHeartbeats.putIfAbsent(instanceName, lastHeartbeat);
+    }
+    return System.currentTimeMillis() - lastHeartbeat <= heartbeatExpirationTimeInMs;
+  }
+
+  @Override
+  public void close() {
+    if (isRunning.compareAndSet(true, false)) {
+      pollingExecutor.shutdown();
+      try {
+        if (!pollingExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+          pollingExecutor.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      topicStates.clear();
+      storeToInstanceHeartbeats.clear();
+      storeToSubscribedTopicCount.clear();
+      storeToNextOffset.clear();
+      storeToReplayEndOffset.clear();
+      pendingSubscriptionChanges.clear();
+      if (consumer != null) {
+        consumer.close();
+        consumer = null;
+      }
+    }
+  }
+
+  /**
+   * In-memory replica statuses of a version topic. The counters are maintained on every change so that most updates
+   * don't need to walk through all the partitions.
+   */
+  static class TopicState {
+    private final String topicName;
+    private final String storeName;
+    private final int version;
+    private final int partitionCount;
+    private final Map<CharSequence, Integer>[] partitionReplicaStatuses;
+    private int completedPartitionCount;
+    private int erroredReplicaCount;
+    private volatile boolean seeded = false;
+    // Whether the updates which could be missing from the seed are being replayed.
+    private volatile boolean replaying = false;
+    // Only accessed by the polling thread.
+    private boolean subscribed = false;
+    private boolean terminalStatusReported = false;
+
+    TopicState(String topicName, int partitionCount) {
+      this.topicName = topicName;
+      this.storeName = Version.parseStoreFromKafkaTopicName(topicName);
+      this.version = Version.parseVersionFromKafkaTopicName(topicName);
+      this.partitionCount = partitionCount;
+      this.partitionReplicaStatuses = new Map[partitionCount];
+      for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+        partitionReplicaStatuses[partitionId] = new HashMap<>();
+      }
+      // Partitions without any replica status are considered completed, see PushMonitorUtils.
+      this.completedPartitionCount = partitionCount;
+    }
+
+    synchronized void seed(PushStatusStoreReader reader) {
+      for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+        replaceReplicaStatuses(
+            partitionId,
+            reader.getPartitionStatus(storeName, version, partitionId, Optional.empty()));
+      }
+      seeded = true;
+    }
+
+    boolean isSeeded() {
+      return seeded;
+    }
+
+    boolean isUpToDate() {
+      return seeded && !replaying;
+    }
+
+    synchronized Map<CharSequence, Integer> getReplicaStatuses(int partitionId) {
+      return partitionReplicaStatuses[partitionId];
+    }
+
+    synchronized void replaceReplicaStatuses(int partitionId, Map<CharSequence, Integer> replicaStatuses) {
+      Map<CharSequence, Integer> newReplicaStatuses = new HashMap<>();
+      if (replicaStatuses != null) {
+        replicaStatuses.forEach((instance, status) -> newReplicaStatuses.put(instance.toString(), status));
+      }
+      applyChange(partitionId, newReplicaStatuses);
+    }
+
+    synchronized void updateReplicaStatuses(
+        int partitionId,
+        Map<CharSequence, Integer> mapUnion,
+        List<CharSequence> mapDiff) {
+      Map<CharSequence, Integer> newReplicaStatuses = new HashMap<>(partitionReplicaStatuses[partitionId]);
+      mapDiff.forEach(instance -> newReplicaStatuses.remove(instance.toString()));
+      mapUnion.forEach((instance, status) -> newReplicaStatuses.put(instance.toString(), status));
+      applyChange(partitionId, newReplicaStatuses);
+    }
+
+    private void applyChange(int partitionId, Map<CharSequence, Integer> newReplicaStatuses) {
+      Map<CharSequence, Integer> oldReplicaStatuses = partitionReplicaStatuses[partitionId];
+      completedPartitionCount += (isCompleted(newReplicaStatuses) ? 1 : 0) - (isCompleted(oldReplicaStatuses) ? 1 : 0);
+      erroredReplicaCount += countErrors(newReplicaStatuses) - countErrors(oldReplicaStatuses);
+      partitionReplicaStatuses[partitionId] = newReplicaStatuses;
+    }
+
+    private static boolean isCompleted(Map<CharSequence, Integer> replicaStatuses) {
+      for (Integer status: replicaStatuses.values()) {
+        if (ExecutionStatus.fromInt(status) != ExecutionStatus.COMPLETED) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int countErrors(Map<CharSequence, Integer> replicaStatuses) {
+      int errors = 0;
+      for (Integer status: replicaStatuses.values()) {
+        if (ExecutionStatus.fromInt(status) == ExecutionStatus.ERROR) {
+          errors++;
+        }
+      }
+      return errors;
+    }
+
+    /**
+     * The dead instances are only excluded by the full evaluation, so a push could also become terminal when an
+     * instance dies, which is caught by the periodic scan.
+     */
+    synchronized boolean mayBeTerminal() {
+      return !terminalStatusReported && (completedPartitionCount == partitionCount || erroredReplicaCount > 0);
+    }
+
+    synchronized boolean markTerminalStatusReported() {
+      if (terminalStatusReported) {
+        return false;
+      }
+      terminalStatusReported = true;
+      return true;
+    }
+
+    // Visible for testing.
+    synchronized int getCompletedPartitionCount() {
+      return completedPartitionCount;
+    }
+
+    // Visible for testing.
+    synchronized int getErroredReplicaCount() {
+      return erroredReplicaCount;
+    }
+  }
+
+  // Visible for testing.
+  TopicState getTopicState(String topicName) {
+    return topicStates.get(topicName);
+  }
+}
@@ -8,11 +8,13 @@ import com.linkedin.venice.meta.PartitionAssignment;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.RoutingDataRepository;
 import com.linkedin.venice.meta.StoreCleaner;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.utils.Pair;
 import com.linkedin.venice.utils.locks.ClusterLockManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -38,7 +40,8 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
       List<String> childDataCenterKafkaUrls,
       HelixAdminClient helixAdminClient,
       VeniceControllerConfig controllerConfig,
-      PushStatusStoreReader pushStatusStoreReader) {
+      PushStatusStoreReader pushStatusStoreReader,
+      Optional<Supplier<PubSubConsumerAdapter>> pushStatusStoreConsumerFactory) {
     super(
         clusterName,
         offlinePushAccessor,
@@ -52,7 +55,8 @@ public class PartitionStatusBasedPushMonitor extends AbstractPushMonitor {
         childDataCenterKafkaUrls,
         helixAdminClient,
         controllerConfig,
-        pushStatusStoreReader);
+        pushStatusStoreReader,
+        pushStatusStoreConsumerFactory);
   }
 
   @Override
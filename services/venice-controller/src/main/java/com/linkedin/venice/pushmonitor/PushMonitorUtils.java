@@ -9,6 +9,8 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +39,29 @@ public class PushMonitorUtils {
       throw new VeniceException("PushStatusStoreReader is null");
     }
     LOGGER.info("Getting Da Vinci push status for topic: {}", topicName);
+    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
+    int version = Version.parseVersionFromVersionTopicName(topicName);
+    return getDaVinciPushStatusAndDetails(
+        topicName,
+        partitionCount,
+        incrementalPushVersion,
+        maxOfflineInstance,
+        partitionId -> reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion),
+        instanceName -> reader.isInstanceAlive(storeName, instanceName));
+  }
+
+  /**
+   * Computes the Da Vinci push status from the replica statuses of each partition returned by
+   * {@param partitionStatusGetter}, only taking the instances considered alive by {@param instanceLivenessChecker}
+   * into account.
+   */
+  static ExecutionStatusWithDetails getDaVinciPushStatusAndDetails(
+      String topicName,
+      int partitionCount,
+      Optional<String> incrementalPushVersion,
+      int maxOfflineInstance,
+      IntFunction<Map<CharSequence, Integer>> partitionStatusGetter,
+      Predicate<String> instanceLivenessChecker) {
     boolean allMiddleStatusReceived = true;
     ExecutionStatus completeStatus = incrementalPushVersion.isPresent()
         ? ExecutionStatus.END_OF_INCREMENTAL_PUSH_RECEIVED
@@ -46,20 +71,17 @@ public class PushMonitorUtils {
         : ExecutionStatus.END_OF_PUSH_RECEIVED;
     Optional<String> erroredReplica = Optional.empty();
     int erroredPartitionId = 0;
-    String storeName = Version.parseStoreFromKafkaTopicName(topicName);
-    int version = Version.parseVersionFromVersionTopicName(topicName);
     int completedPartitions = 0;
     int totalReplicaCount = 0;
     int liveReplicaCount = 0;
     Set<Integer> incompletePartition = new HashSet<>();
     for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-      Map<CharSequence, Integer> instances =
-          reader.getPartitionStatus(storeName, version, partitionId, incrementalPushVersion);
+      Map<CharSequence, Integer> instances = partitionStatusGetter.apply(partitionId);
       boolean allInstancesCompleted = true;
       totalReplicaCount += instances.size();
       for (Map.Entry<CharSequence, Integer> entry: instances.entrySet()) {
         ExecutionStatus status = ExecutionStatus.fromInt(entry.getValue());
-        boolean isInstanceAlive = reader.isInstanceAlive(storeName, entry.getKey().toString());
+        boolean isInstanceAlive = instanceLivenessChecker.test(entry.getKey().toString());
         if (!isInstanceAlive) {
           continue;
         }
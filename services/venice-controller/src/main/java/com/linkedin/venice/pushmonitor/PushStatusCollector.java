@@ -5,6 +5,7 @@ import static java.lang.Thread.*;
 import com.linkedin.venice.meta.ReadWriteStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
 import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.util.ArrayList;
@@ -20,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -52,6 +54,13 @@ public class PushStatusCollector {
 
   private final Map<String, Integer> topicToNoDaVinciStatusRetryCountMap = new HashMap<>();
 
+  private final Optional<DaVinciPushStatusAggregator> daVinciPushStatusAggregator;
+
+  /**
+   * @param pushStatusStoreConsumerFactory if present, the Da Vinci push status is aggregated from the change stream of
+   *                                       the push status stores by {@link DaVinciPushStatusAggregator}, and the
+   *                                       periodic scan only reads the push status store for the untracked topics.
+   */
   public PushStatusCollector(
       ReadWriteStoreRepository storeRepository,
       PushStatusStoreReader pushStatusStoreReader,
@@ -61,7 +70,9 @@ public class PushStatusCollector {
       int daVinciPushStatusScanIntervalInSeconds,
       int daVinciPushStatusScanThreadNumber,
       int daVinciPushStatusNoReportRetryMaxAttempts,
-      int daVinciPushStatusScanMaxOfflineInstance) {
+      int daVinciPushStatusScanMaxOfflineInstance,
+      Optional<Supplier<PubSubConsumerAdapter>> pushStatusStoreConsumerFactory,
+      long pushStatusStoreHeartbeatExpirationTimeInSeconds) {
     this.storeRepository = storeRepository;
     this.pushStatusStoreReader = pushStatusStoreReader;
     this.pushCompletedHandler = pushCompletedHandler;
@@ -71,6 +82,15 @@ public class PushStatusCollector {
     this.daVinciPushStatusScanThreadNumber = daVinciPushStatusScanThreadNumber;
     this.daVinciPushStatusNoReportRetryMaxAttempts = daVinciPushStatusNoReportRetryMaxAttempts;
     this.daVinciPushStatusScanMaxOfflineInstance = daVinciPushStatusScanMaxOfflineInstance;
+    this.daVinciPushStatusAggregator = daVinciPushStatusScanEnabled
+        ? pushStatusStoreConsumerFactory.map(
+            consumerFactory -> new DaVinciPushStatusAggregator(
+                consumerFactory,
+                pushStatusStoreReader,
+                this::handleDaVinciTerminalStatus,
+                pushStatusStoreHeartbeatExpirationTimeInSeconds,
+                daVinciPushStatusScanMaxOfflineInstance))
+        : Optional.empty();
   }
 
   public void start() {
@@ -93,6 +113,7 @@ public class PushStatusCollector {
       LOGGER.info(
           "Offline push check scheduler started with {} seconds check interval",
           daVinciPushStatusScanPeriodInSeconds);
+      daVinciPushStatusAggregator.ifPresent(DaVinciPushStatusAggregator::start);
     }
   }
 
@@ -108,12 +129,14 @@ public class PushStatusCollector {
         && Version.parseVersionFromKafkaTopicName(topicName) > 1) {
       LOGGER.info("Will monitor Da Vinci push status for topic {}", topicName);
       topicToPushStatusMap.put(topicName, new TopicPushStatus(topicName, partitionCount));
+      daVinciPushStatusAggregator.ifPresent(aggregator -> aggregator.subscribeTopic(topicName, partitionCount));
     }
   }
 
   public void unsubscribeTopic(String topicName) {
     topicToPushStatusMap.remove(topicName);
     topicToNoDaVinciStatusRetryCountMap.remove(topicName);
+    daVinciPushStatusAggregator.ifPresent(aggregator -> aggregator.unsubscribeTopic(topicName));
   }
 
   private void scanDaVinciPushStatus() {
@@ -129,12 +152,18 @@ public class PushStatusCollector {
         resultList.add(CompletableFuture.completedFuture(pushStatus));
       } else {
         resultList.add(CompletableFuture.supplyAsync(() -> {
-          ExecutionStatusWithDetails statusWithDetails = PushMonitorUtils.getDaVinciPushStatusAndDetails(
-              pushStatusStoreReader,
-              topicName,
-              pushStatus.getPartitionCount(),
-              Optional.empty(),
-              daVinciPushStatusScanMaxOfflineInstance);
+          ExecutionStatusWithDetails statusWithDetails;
+          if (isTrackedByAggregator(topicName)) {
+            // Only evaluates the in-memory statuses to pick up the instances which went offline in the meantime.
+            statusWithDetails = daVinciPushStatusAggregator.get().getDaVinciPushStatusAndDetails(topicName);
+          } else {
+            statusWithDetails = PushMonitorUtils.getDaVinciPushStatusAndDetails(
+                pushStatusStoreReader,
+                topicName,
+                pushStatus.getPartitionCount(),
+                Optional.empty(),
+                daVinciPushStatusScanMaxOfflineInstance);
+          }
           pushStatus.setDaVinciStatus(statusWithDetails);
           return pushStatus;
         }, pushStatusStoreScanExecutor));
@@ -173,9 +202,24 @@ public class PushStatusCollector {
           daVinciStatus.getStatus(),
           daVinciStatus.getDetails(),
           pushStatus.topicName);
+      checkTerminalStatus(pushStatus);
+    }
+  }
+
+  /**
+   * Reports the aggregated push status to the handlers if both the server and Da Vinci push status are terminal.
+   * This can be called concurrently by the periodic scan, the server status update and the
+   * {@link DaVinciPushStatusAggregator}, and the handlers are called at most once per topic.
+   */
+  private void checkTerminalStatus(TopicPushStatus pushStatus) {
+    synchronized (pushStatus) {
+      if (!pushStatus.isMonitoring()) {
+        return;
+      }
       ExecutionStatusWithDetails serverStatus = pushStatus.getServerStatus();
-      if (serverStatus == null) {
-        continue;
+      ExecutionStatusWithDetails daVinciStatus = pushStatus.getDaVinciStatus();
+      if (serverStatus == null || daVinciStatus == null) {
+        return;
       }
       LOGGER.info(
           "Topic {} server push status: {}, Da Vinci push status: {}",
@@ -210,6 +254,19 @@ public class PushStatusCollector {
     }
   }
 
+  private void handleDaVinciTerminalStatus(String topicName, ExecutionStatusWithDetails daVinciStatus) {
+    TopicPushStatus pushStatus = topicToPushStatusMap.get(topicName);
+    if (pushStatus == null) {
+      return;
+    }
+    pushStatus.setDaVinciStatus(daVinciStatus);
+    checkTerminalStatus(pushStatus);
+  }
+
+  private boolean isTrackedByAggregator(String topicName) {
+    return daVinciPushStatusAggregator.isPresent() && daVinciPushStatusAggregator.get().isTracking(topicName);
+  }
+
   public void handleServerPushStatusUpdate(String topicName, ExecutionStatus executionStatus, String detailsString) {
     // Update the server topic status in the data structure and wait for async DVC status scan thread to pick up.
     TopicPushStatus topicPushStatus = topicToPushStatusMap.computeIfPresent(topicName, (topic, pushStatus) -> {
@@ -224,6 +281,9 @@ public class PushStatusCollector {
       } else if (executionStatus.equals(ExecutionStatus.ERROR)) {
         pushErrorHandler.accept(topicName, detailsString);
       }
+    } else if (isTrackedByAggregator(topicName)) {
+      // The Da Vinci push status is kept up to date by the aggregator, so there is no need to wait for the next scan.
+      checkTerminalStatus(topicPushStatus);
     }
   }
 
@@ -246,6 +306,7 @@ public class PushStatusCollector {
       } catch (InterruptedException e) {
         currentThread().interrupt();
       }
+      daVinciPushStatusAggregator.ifPresent(DaVinciPushStatusAggregator::close);
       topicToPushStatusMap.clear();
       topicToNoDaVinciStatusRetryCountMap.clear();
     }
@@ -259,10 +320,10 @@ public class PushStatusCollector {
   static class TopicPushStatus {
     private final String topicName;
     private final int partitionCount;
-    private ExecutionStatusWithDetails serverStatus;
-    private ExecutionStatusWithDetails daVinciStatus;
+    private volatile ExecutionStatusWithDetails serverStatus;
+    private volatile ExecutionStatusWithDetails daVinciStatus;
 
-    private boolean isMonitoring;
+    private volatile boolean isMonitoring;
 
     public TopicPushStatus(String topicName, int partitionCount) {
       this.partitionCount = partitionCount;
@@ -0,0 +1,300 @@
+package com.linkedin.venice.pushmonitor;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linkedin.venice.common.PushStatusStoreUtils;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.Update;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.ImmutablePubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pushstatus.NoOp;
+import com.linkedin.venice.pushstatus.PushStatusKey;
+import com.linkedin.venice.pushstatus.PushStatusValue;
+import com.linkedin.venice.pushstatus.PushStatusValueWriteOpRecord;
+import com.linkedin.venice.pushstatus.instancesMapOps;
+import com.linkedin.venice.pushstatushelper.PushStatusStoreReader;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class DaVinciPushStatusAggregatorTest {
+  private static final String STORE_NAME = "test_store";
+  private static final String TOPIC_NAME = "test_store_v2";
+  private static final int PARTITION_COUNT = 2;
+
+  private final RecordSerializer<PushStatusKey> keySerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(PushStatusKey.SCHEMA$);
+  private final RecordSerializer<PushStatusValue> valueSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(PushStatusValue.SCHEMA$);
+  private final RecordSerializer<PushStatusValueWriteOpRecord> updateSerializer =
+      SerializerDeserializerFactory.getAvroGenericSerializer(PushStatusValueWriteOpRecord.SCHEMA$);
+
+  private PubSubConsumerAdapter consumer;
+  private PushStatusStoreReader reader;
+  private AtomicReference<ExecutionStatusWithDetails> reportedStatus;
+  private DaVinciPushStatusAggregator aggregator;
+
+  @BeforeMethod
+  public void setUp() {
+    consumer = mock(PubSubConsumerAdapter.class);
+    when(consumer.endOffset(any())).thenReturn(10L);
+    reader = mock(PushStatusStoreReader.class);
+    when(reader.getPartitionStatus(eq(STORE_NAME), eq(2), anyInt(), eq(Optional.empty())))
+        .thenReturn(Collections.emptyMap());
+    when(reader.getHeartbeat(anyString(), anyString())).thenReturn(System.currentTimeMillis());
+    reportedStatus = new AtomicReference<>();
+    BiConsumer<String, ExecutionStatusWithDetails> listener = (topic, status) -> {
+      Assert.assertEquals(topic, TOPIC_NAME);
+      Assert.assertTrue(reportedStatus.compareAndSet(null, status), "Terminal status should only be reported once");
+    };
+    aggregator = new DaVinciPushStatusAggregator(() -> consumer, reader, listener, 60, 0);
+  }
+
+  @Test
+  public void testSubscriptionIsRefCountedPerStore() {
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.subscribeTopic("test_store_v3", PARTITION_COUNT);
+    Assert.assertFalse(aggregator.isTracking(TOPIC_NAME));
+
+    aggregator.processPendingSubscriptionChanges();
+    Assert.assertTrue(aggregator.isTracking(TOPIC_NAME));
+    Assert.assertTrue(aggregator.isTracking("test_store_v3"));
+    verify(consumer, times(1)).subscribe(any(PubSubTopicPartition.class), eq(9L));
+    verify(reader, times(PARTITION_COUNT)).getPartitionStatus(eq(STORE_NAME), eq(2), anyInt(), eq(Optional.empty()));
+
+    aggregator.unsubscribeTopic(TOPIC_NAME);
+    aggregator.processPendingSubscriptionChanges();
+    Assert.assertFalse(aggregator.isTracking(TOPIC_NAME));
+    verify(consumer, never()).unSubscribe(any());
+
+    aggregator.unsubscribeTopic("test_store_v3");
+    aggregator.processPendingSubscriptionChanges();
+    verify(consumer, times(1)).unSubscribe(any());
+  }
+
+  @Test
+  public void testCompletedPushIsReportedOnLastUpdate() {
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+
+    aggregator.processMessage(STORE_NAME, createPut(0, Collections.singletonMap("instance1", 2)));
+    aggregator.processMessage(STORE_NAME, createPut(1, Collections.singletonMap("instance1", 2)));
+    Assert.assertEquals(aggregator.getDaVinciPushStatusAndDetails(TOPIC_NAME).getStatus(), ExecutionStatus.STARTED);
+
+    aggregator.processMessage(STORE_NAME, createUpdate(0, "instance1", ExecutionStatus.COMPLETED));
+    Assert.assertNull(reportedStatus.get());
+
+    aggregator.processMessage(STORE_NAME, createUpdate(1, "instance1", ExecutionStatus.COMPLETED));
+    Assert.assertNotNull(reportedStatus.get());
+    Assert.assertEquals(reportedStatus.get().getStatus(), ExecutionStatus.COMPLETED);
+
+    // Later updates shouldn't be reported again.
+    aggregator.processMessage(STORE_NAME, createUpdate(1, "instance2", ExecutionStatus.COMPLETED));
+  }
+
+  @Test
+  public void testErrorIsReportedImmediately() {
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+
+    aggregator.processMessage(STORE_NAME, createUpdate(0, "instance1", ExecutionStatus.STARTED));
+    aggregator.processMessage(STORE_NAME, createUpdate(1, "instance1", ExecutionStatus.ERROR));
+    Assert.assertNotNull(reportedStatus.get());
+    Assert.assertEquals(reportedStatus.get().getStatus(), ExecutionStatus.ERROR);
+  }
+
+  @Test
+  public void testHeartbeatsFromTheStreamAreUsed() {
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+    aggregator.processMessage(STORE_NAME, createUpdate(0, "instance1", ExecutionStatus.STARTED));
+
+    PushStatusValue heartbeat = new PushStatusValue();
+    heartbeat.instances = Collections.emptyMap();
+    heartbeat.reportTimestamp = System.currentTimeMillis();
+    aggregator.processMessage(
+        STORE_NAME,
+        createMessage(
+            PushStatusStoreUtils.getHeartbeatKey("instance1"),
+            MessageType.PUT,
+            createPutPayload(heartbeat)));
+    Assert.assertEquals(aggregator.getDaVinciPushStatusAndDetails(TOPIC_NAME).getStatus(), ExecutionStatus.STARTED);
+    verify(reader, never()).getHeartbeat(anyString(), anyString());
+  }
+
+  @Test
+  public void testMessagesOfUntrackedVersionsAreIgnored() {
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+    aggregator.processMessage(
+        STORE_NAME,
+        createMessage(
+            PushStatusStoreUtils.getFullPushKey(1, 0),
+            MessageType.PUT,
+            createPutPayload(createValue(Collections.singletonMap("instance1", 12)))));
+    Assert.assertNull(reportedStatus.get());
+    Assert.assertEquals(aggregator.getTopicState(TOPIC_NAME).getReplicaStatuses(0), Collections.emptyMap());
+  }
+
+  @Test
+  public void testUpdatesMissingFromTheSeedAreReplayed() {
+    // The push status store hasn't ingested the last updates of the topic yet, which are replayed onto the seed.
+    when(consumer.offsetForTime(any(), anyLong())).thenReturn(5L);
+    when(reader.getPartitionStatus(eq(STORE_NAME), eq(2), eq(0), eq(Optional.empty())))
+        .thenReturn(Collections.singletonMap("instance1", ExecutionStatus.STARTED.getValue()));
+    when(reader.getPartitionStatus(eq(STORE_NAME), eq(2), eq(1), eq(Optional.empty())))
+        .thenReturn(Collections.singletonMap("instance1", ExecutionStatus.COMPLETED.getValue()));
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+    verify(consumer).subscribe(any(PubSubTopicPartition.class), eq(4L));
+    Assert.assertFalse(aggregator.isTracking(TOPIC_NAME));
+
+    // Updates which are already part of the seed are replayed as well, so the statuses could go back in time.
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 1, "instance1", ExecutionStatus.STARTED, 5));
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 1, "instance1", ExecutionStatus.COMPLETED, 6));
+    // The final update of the push was written before the subscription, but is missing from the seed.
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 0, "instance1", ExecutionStatus.COMPLETED, 7));
+    Assert.assertNull(reportedStatus.get());
+    Assert.assertFalse(aggregator.isTracking(TOPIC_NAME));
+
+    aggregator.processMessage(STORE_NAME, createHeartbeat("instance1", 9));
+    Assert.assertTrue(aggregator.isTracking(TOPIC_NAME));
+    Assert.assertNotNull(reportedStatus.get());
+    Assert.assertEquals(reportedStatus.get().getStatus(), ExecutionStatus.COMPLETED);
+  }
+
+  @Test
+  public void testNewVersionOfSubscribedStoreIsReplayed() {
+    String newTopicName = "test_store_v3";
+    aggregator.subscribeTopic(TOPIC_NAME, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 0, "instance1", ExecutionStatus.STARTED, 10));
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 0, "instance2", ExecutionStatus.STARTED, 11));
+    Assert.assertTrue(aggregator.isTracking(TOPIC_NAME));
+
+    // The first update of the new version was consumed before its subscription, and is missing from its seed.
+    when(consumer.endOffset(any())).thenReturn(14L);
+    when(consumer.offsetForTime(any(), anyLong())).thenReturn(9L);
+    when(reader.getPartitionStatus(eq(STORE_NAME), eq(3), anyInt(), eq(Optional.empty())))
+        .thenReturn(Collections.emptyMap());
+    aggregator.subscribeTopic(newTopicName, PARTITION_COUNT);
+    aggregator.processPendingSubscriptionChanges();
+    verify(consumer).unSubscribe(any(PubSubTopicPartition.class));
+    verify(consumer).subscribe(any(PubSubTopicPartition.class), eq(8L));
+    Assert.assertFalse(aggregator.isTracking(TOPIC_NAME));
+    Assert.assertFalse(aggregator.isTracking(newTopicName));
+
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 0, "instance1", ExecutionStatus.STARTED, 10));
+    aggregator.processMessage(STORE_NAME, createUpdate(2, 0, "instance2", ExecutionStatus.STARTED, 11));
+    aggregator.processMessage(STORE_NAME, createUpdate(3, 1, "instance1", ExecutionStatus.STARTED, 12));
+    aggregator.processMessage(STORE_NAME, createUpdate(3, 1, "instance2", ExecutionStatus.STARTED, 13));
+    Assert.assertTrue(aggregator.isTracking(TOPIC_NAME));
+    Assert.assertTrue(aggregator.isTracking(newTopicName));
+    Assert.assertEquals(aggregator.getTopicState(TOPIC_NAME).getReplicaStatuses(0).size(), 2);
+    Map<CharSequence, Integer> expectedStatuses = new HashMap<>();
+    expectedStatuses.put("instance1", ExecutionStatus.STARTED.getValue());
+    expectedStatuses.put("instance2", ExecutionStatus.STARTED.getValue());
+    Assert.assertEquals(aggregator.getTopicState(newTopicName).getReplicaStatuses(1), expectedStatuses);
+    Assert.assertNull(reportedStatus.get());
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createPut(
+      int partitionId,
+      Map<CharSequence, Integer> instances) {
+    return createMessage(
+        PushStatusStoreUtils.getFullPushKey(2, partitionId),
+        MessageType.PUT,
+        createPutPayload(createValue(instances)));
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createUpdate(
+      int partitionId,
+      String instance,
+      ExecutionStatus status) {
+    return createUpdate(2, partitionId, instance, status, 0);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createUpdate(
+      int version,
+      int partitionId,
+      String instance,
+      ExecutionStatus status,
+      long offset) {
+    instancesMapOps mapOps = new instancesMapOps();
+    mapOps.mapUnion = Collections.singletonMap(instance, status.getValue());
+    mapOps.mapDiff = Collections.emptyList();
+    PushStatusValueWriteOpRecord writeOpRecord = new PushStatusValueWriteOpRecord();
+    writeOpRecord.instances = mapOps;
+    writeOpRecord.reportTimestamp = new NoOp();
+    Update update = new Update();
+    update.updateValue = ByteBuffer.wrap(updateSerializer.serialize(writeOpRecord));
+    return createMessage(PushStatusStoreUtils.getFullPushKey(version, partitionId), MessageType.UPDATE, update, offset);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createHeartbeat(String instance, long offset) {
+    PushStatusValue heartbeat = new PushStatusValue();
+    heartbeat.instances = Collections.emptyMap();
+    heartbeat.reportTimestamp = System.currentTimeMillis();
+    return createMessage(
+        PushStatusStoreUtils.getHeartbeatKey(instance),
+        MessageType.PUT,
+        createPutPayload(heartbeat),
+        offset);
+  }
+
+  private static PushStatusValue createValue(Map<CharSequence, Integer> instances) {
+    PushStatusValue value = new PushStatusValue();
+    value.instances = new HashMap<>(instances);
+    value.reportTimestamp = System.currentTimeMillis();
+    return value;
+  }
+
+  private Put createPutPayload(PushStatusValue value) {
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(valueSerializer.serialize(value));
+    return put;
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createMessage(
+      PushStatusKey key,
+      MessageType messageType,
+      Object payload) {
+    return createMessage(key, messageType, payload, 0);
+  }
+
+  private PubSubMessage<KafkaKey, KafkaMessageEnvelope, Long> createMessage(
+      PushStatusKey key,
+      MessageType messageType,
+      Object payload,
+      long offset) {
+    KafkaMessageEnvelope envelope = new KafkaMessageEnvelope();
+    envelope.messageType = messageType.getValue();
+    envelope.payloadUnion = payload;
+    KafkaKey kafkaKey = new KafkaKey(messageType, keySerializer.serialize(key));
+    return new ImmutablePubSubMessage<>(kafkaKey, envelope, mock(PubSubTopicPartition.class), offset, 0, 0);
+  }
+}
@@ -58,7 +58,9 @@ public class PushStatusCollectorTest {
         1,
         4,
         1,
-        20);
+        20,
+        Optional.empty(),
+        0);
     pushStatusCollector.start();
 
     pushStatusCollector.subscribeTopic(regularStoreTopicV1, 10);
@@ -190,7 +192,9 @@ public class PushStatusCollectorTest {
         1,
         4,
         1,
-        20);
+        20,
+        Optional.empty(),
+        0);
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -272,7 +276,9 @@ public class PushStatusCollectorTest {
         1,
         4,
         0,
-        20);
+        20,
+        Optional.empty(),
+        0);
     pushStatusCollector.start();
 
     pushCompletedCount.set(0);
@@ -90,6 +90,10 @@ public class RouterKey implements Comparable<RouterKey> {
     this.partitionId = partitionId;
   }
 
+  public boolean hasPartitionId() {
+    return UNKNOWN_PARTITION_ID != partitionId;
+  }
+
   public int getPartitionId() {
     if (UNKNOWN_PARTITION_ID == partitionId) {
       throw new VeniceException("Partition id hasn't been setup yet");
@@ -196,6 +196,8 @@ public class VeniceDelegateMode extends ScatterGatherMode {
         scatterMode = scatterGatherModeForMultiKeyRequest;
         break;
       case SINGLE_GET:
+      case KEY_PREFIX_SCAN:
+        // A page of a key prefix scan is served by a single partition, like a single-get.
         scatterMode = LEAST_LOADED_MODE_FOR_SINGLE_GET;
         break;
       default:
@@ -133,7 +133,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     RequestType requestType = path.getRequestType();
     path.recordOriginalRequestStartTimestamp();
 
-    if (requestType.equals(RequestType.COMPUTE) || requestType.equals(RequestType.COMPUTE_STREAMING)) {
+    if (requestType.equals(RequestType.COMPUTE) || requestType.equals(RequestType.COMPUTE_STREAMING)
+        || requestType.equals(RequestType.KEY_PREFIX_SCAN)) {
       if (!storeRepository.isReadComputationEnabled(storeName)) {
         throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
             Optional.of(storeName),
@@ -306,6 +307,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
             contentDecompressResult = responseDecompressor.decompressMultiGetContent(contentCompression, content);
             break;
           case COMPUTE:
+          case KEY_PREFIX_SCAN:
             // Compute requests are decompressed on the SN
             contentDecompressResult = new ContentDecompressResult(content, CompressionStrategy.NO_OP, 0);
             break;
@@ -56,6 +56,10 @@ public class VenicePartitionFinder implements PartitionFinder<RouterKey> {
 
   @Override
   public int findPartitionNumber(RouterKey partitionKey, int numPartitions, String storeName, int versionNumber) {
+    // The keys which are not hashed to their partition, such as the prefix of a key prefix scan, come with it.
+    if (partitionKey.hasPartitionId()) {
+      return partitionKey.getPartitionId();
+    }
     return findPartitioner(storeName, versionNumber).getPartitionId(partitionKey.getKeyBuffer(), numPartitions);
   }
 
@@ -21,6 +21,7 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VeniceComputePath;
+import com.linkedin.venice.router.api.path.VeniceKeyPrefixScanPath;
 import com.linkedin.venice.router.api.path.VeniceMultiGetPath;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.api.path.VeniceSingleGetPath;
@@ -59,6 +60,7 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
 
   public static final String TYPE_STORAGE = "storage";
   public static final String TYPE_COMPUTE = "compute";
+  public static final String TYPE_SCAN = RouterResourceType.TYPE_SCAN.toString();
 
   // Admin tasks
   public static final String TASK_READ_QUOTA_THROTTLE = "readQuotaThrottle";
@@ -120,7 +122,8 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
 
     VenicePathParserHelper pathHelper = parseRequest(request);
     RouterResourceType resourceType = pathHelper.getResourceType();
-    if (resourceType != RouterResourceType.TYPE_STORAGE && resourceType != RouterResourceType.TYPE_COMPUTE) {
+    if (resourceType != RouterResourceType.TYPE_STORAGE && resourceType != RouterResourceType.TYPE_COMPUTE
+        && resourceType != RouterResourceType.TYPE_SCAN) {
       throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
           Optional.empty(),
           Optional.empty(),
@@ -180,13 +183,17 @@ public class VenicePathParser<HTTP_REQUEST extends BasicHttpRequest>
               routerConfig.isSmartLongTailRetryEnabled(),
               routerConfig.getSmartLongTailRetryAbortThresholdMs(),
               routerConfig.getLongTailRetryMaxRouteForMultiKeyReq());
+        } else if (resourceType == RouterResourceType.TYPE_SCAN) {
+          // key prefix scan request, which may stick to the version it started on
+          path = VeniceKeyPrefixScanPath.parseKeyPrefixScanPath(storeName, version, fullHttpRequest, partitionFinder);
+          version = path.getVersionNumber();
         } else {
           throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
               Optional.of(storeName),
               Optional.empty(),
               BAD_REQUEST,
               "The passed in request must be either a GET or " + "be a POST with a resource type of " + TYPE_STORAGE
-                  + " or " + TYPE_COMPUTE + ", but instead it was: " + request.toString());
+                  + ", " + TYPE_COMPUTE + " or " + TYPE_SCAN + ", but instead it was: " + request.toString());
         }
       } else {
         throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
@@ -200,6 +200,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
     } else {
       switch (requestType) {
         case SINGLE_GET:
+        case KEY_PREFIX_SCAN:
           finalResponse = gatheredResponses.get(0);
           break;
         case MULTI_GET:
@@ -309,6 +310,7 @@ public class VeniceResponseAggregator implements ResponseAggregatorFactory<Basic
         return requestLatencyMs < multiGetTardyThresholdInMs;
       case COMPUTE_STREAMING:
       case COMPUTE:
+      case KEY_PREFIX_SCAN:
         return requestLatencyMs < computeTardyThresholdInMs;
       default:
         throw new VeniceException("Unknown request type: " + requestType);
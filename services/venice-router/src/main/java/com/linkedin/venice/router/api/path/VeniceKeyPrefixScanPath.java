@@ -0,0 +1,191 @@
+package com.linkedin.venice.router.api.path;
+
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_SCAN;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.GONE;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VenicePartitionFinder;
+import com.linkedin.venice.router.api.VenicePathParser;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+
+
+/**
+ * A key prefix scan goes through the partitions of a store version one after the other, one page at a time. Each page
+ * is served by a single storage node: the partition and the version come from the continuation token of the previous
+ * page, so that the whole scan reads the same version, or the first partition of the current version otherwise. The
+ * request body is forwarded as is to the storage node.
+ */
+public class VeniceKeyPrefixScanPath extends VenicePath {
+  private static final String REQUEST_VERSION =
+      Integer.toString(ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_REQUEST_V1.getProtocolVersion());
+  private static final RecordDeserializer<KeyPrefixScanRequestV1> KEY_PREFIX_SCAN_REQUEST_DESERIALIZER =
+      FastSerializerDeserializerFactory.getAvroSpecificDeserializer(KeyPrefixScanRequestV1.class);
+
+  private final RouterKey routerKey;
+  private final int partition;
+  private final byte[] requestContent;
+
+  private VeniceKeyPrefixScanPath(
+      String storeName,
+      int versionNumber,
+      String resourceName,
+      RouterKey routerKey,
+      byte[] requestContent) {
+    super(storeName, versionNumber, resourceName, false, -1);
+    this.routerKey = routerKey;
+    this.partition = routerKey.getPartitionId();
+    this.requestContent = requestContent;
+    setPartitionKeys(Collections.singleton(routerKey));
+  }
+
+  public static VeniceKeyPrefixScanPath parseKeyPrefixScanPath(
+      String storeName,
+      int currentVersionNumber,
+      BasicFullHttpRequest request,
+      VenicePartitionFinder partitionFinder) throws RouterException {
+    String apiVersion = request.headers().get(HttpConstants.VENICE_API_VERSION);
+    if (!REQUEST_VERSION.equals(apiVersion)) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(storeName),
+          Optional.of(RequestType.KEY_PREFIX_SCAN),
+          BAD_REQUEST,
+          "Expected API version: " + REQUEST_VERSION + ", but received: " + apiVersion);
+    }
+
+    byte[] requestContent = new byte[request.content().readableBytes()];
+    request.content().readBytes(requestContent);
+    int versionNumber = currentVersionNumber;
+    int partition = 0;
+    KeyPrefixScanRequestV1 scanRequest;
+    try {
+      scanRequest = KEY_PREFIX_SCAN_REQUEST_DESERIALIZER.deserialize(requestContent);
+      if (scanRequest.continuationToken != null) {
+        KeyPrefixScanContinuationToken token = KeyPrefixScanContinuationToken.fromBytes(scanRequest.continuationToken);
+        versionNumber = token.getVersionNumber();
+        partition = token.getPartition();
+      }
+    } catch (VeniceException e) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(storeName),
+          Optional.of(RequestType.KEY_PREFIX_SCAN),
+          BAD_REQUEST,
+          "Invalid key prefix scan request: " + e.getMessage());
+    }
+    if (scanRequest.maxRecordCount <= 0) {
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+          Optional.of(storeName),
+          Optional.of(RequestType.KEY_PREFIX_SCAN),
+          BAD_REQUEST,
+          "Max record count should be positive, but received: " + scanRequest.maxRecordCount);
+    }
+
+    String resourceName = Version.composeKafkaTopic(storeName, versionNumber);
+    try {
+      int partitionCount = partitionFinder.getNumPartitions(resourceName);
+      if (partition >= partitionCount) {
+        throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTracking(
+            Optional.of(storeName),
+            Optional.of(RequestType.KEY_PREFIX_SCAN),
+            BAD_REQUEST,
+            "Partition " + partition + " doesn't exist in " + resourceName + " with " + partitionCount + " partitions");
+      }
+    } catch (VeniceNoHelixResourceException e) {
+      // The version was retired in the middle of the scan, which has to start over from the current version.
+      throw RouterExceptionAndTrackingUtils.newRouterExceptionAndTrackingResourceNotFound(
+          Optional.of(storeName),
+          Optional.of(RequestType.KEY_PREFIX_SCAN),
+          GONE,
+          "The version of the key prefix scan is not available anymore: " + e.getMessage());
+    }
+
+    // The key prefix doesn't determine the partition, which is set explicitly instead.
+    RouterKey routerKey = new RouterKey(scanRequest.keyPrefix);
+    routerKey.setPartitionId(partition);
+    return new VeniceKeyPrefixScanPath(storeName, versionNumber, resourceName, routerKey, requestContent);
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.KEY_PREFIX_SCAN;
+  }
+
+  /**
+   * A page of a key prefix scan is served by a single storage node, so the substituted request is same as the
+   * original request.
+   */
+  @Override
+  public VenicePath substitutePartitionKey(RouterKey s) {
+    if (!routerKey.equals(s)) {
+      throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+          Optional.of(getStoreName()),
+          Optional.of(getRequestType()),
+          INTERNAL_SERVER_ERROR,
+          "RouterKey: " + routerKey + " is expected, but received: " + s);
+    }
+    return this;
+  }
+
+  @Override
+  public VenicePath substitutePartitionKey(@Nonnull Collection<RouterKey> s) {
+    throw RouterExceptionAndTrackingUtils.newVeniceExceptionAndTracking(
+        Optional.of(getStoreName()),
+        Optional.of(getRequestType()),
+        INTERNAL_SERVER_ERROR,
+        "substitutePartitionKey(@Nonnull Collection<RouterKey> s) is not expected to be invoked for key prefix scan");
+  }
+
+  @Override
+  public HttpUriRequest composeRouterRequestInternal(String storageNodeUri) {
+    HttpPost routerRequest = new HttpPost(storageNodeUri + getLocation());
+    routerRequest.setEntity(new ByteArrayEntity(requestContent));
+    return routerRequest;
+  }
+
+  @Nonnull
+  @Override
+  public String getLocation() {
+    String sep = VenicePathParser.SEP;
+    return TYPE_SCAN + sep + getResourceName() + sep + partition;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  @Override
+  public HttpMethod getHttpMethod() {
+    return HttpMethod.POST;
+  }
+
+  @Override
+  public byte[] getBody() {
+    return requestContent;
+  }
+
+  @Override
+  public String getVeniceApiVersionHeader() {
+    return REQUEST_VERSION;
+  }
+}
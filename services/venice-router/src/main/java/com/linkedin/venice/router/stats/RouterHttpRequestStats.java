@@ -1,11 +1,18 @@
 package com.linkedin.venice.router.stats;
 
 import static com.linkedin.venice.stats.AbstractVeniceAggStats.*;
+import static com.linkedin.venice.stats.StripedSensor.StatType.AVG;
+import static com.linkedin.venice.stats.StripedSensor.StatType.COUNT;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MAX;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MIN;
+import static com.linkedin.venice.stats.StripedSensor.StatType.OCCURRENCE_RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.TOTAL;
 
 import com.linkedin.alpini.router.monitoring.ScatterGatherStats;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.stats.AbstractVeniceHttpStats;
 import com.linkedin.venice.stats.LambdaStat;
+import com.linkedin.venice.stats.StripedSensor;
 import com.linkedin.venice.stats.TehutiUtils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
@@ -13,50 +20,48 @@ import io.tehuti.metrics.stats.Avg;
 import io.tehuti.metrics.stats.Count;
 import io.tehuti.metrics.stats.Gauge;
 import io.tehuti.metrics.stats.Max;
-import io.tehuti.metrics.stats.Min;
 import io.tehuti.metrics.stats.OccurrenceRate;
-import io.tehuti.metrics.stats.Rate;
 import io.tehuti.metrics.stats.Total;
 import java.util.concurrent.atomic.AtomicInteger;
 
 
 public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
-  private final Sensor requestSensor;
-  private final Sensor healthySensor;
-  private final Sensor unhealthySensor;
-  private final Sensor tardySensor;
+  private final StripedSensor requestSensor;
+  private final StripedSensor healthySensor;
+  private final StripedSensor unhealthySensor;
+  private final StripedSensor tardySensor;
   private final Sensor healthyRequestRateSensor;
   private final Sensor tardyRequestRatioSensor;
   private final Sensor throttleSensor;
-  private final Sensor latencySensor;
-  private final Sensor healthyRequestLatencySensor;
-  private final Sensor unhealthyRequestLatencySensor;
-  private final Sensor tardyRequestLatencySensor;
+  private final StripedSensor latencySensor;
+  private final StripedSensor healthyRequestLatencySensor;
+  private final StripedSensor unhealthyRequestLatencySensor;
+  private final StripedSensor tardyRequestLatencySensor;
   private final Sensor throttledRequestLatencySensor;
-  private final Sensor requestSizeSensor;
-  private final Sensor compressedResponseSizeSensor;
-  private final Sensor responseSizeSensor;
+  private final StripedSensor requestSizeSensor;
+  private final StripedSensor compressedResponseSizeSensor;
+  private final StripedSensor responseSizeSensor;
   private final Sensor badRequestSensor;
   private final Sensor badRequestKeyCountSensor;
   private final Sensor requestThrottledByRouterCapacitySensor;
-  private final Sensor decompressionTimeSensor;
-  private final Sensor routerResponseWaitingTimeSensor;
-  private final Sensor fanoutRequestCountSensor;
+  private final StripedSensor decompressionTimeSensor;
+  private final StripedSensor routerResponseWaitingTimeSensor;
+  private final StripedSensor fanoutRequestCountSensor;
   private final Sensor quotaSensor;
   private final Sensor findUnhealthyHostRequestSensor;
-  private final Sensor keyNumSensor;
+  private final StripedSensor keyNumSensor;
   // Reflect the real request usage, e.g count each key as an unit of request usage.
-  private final Sensor requestUsageSensor;
-  private final Sensor requestParsingLatencySensor;
-  private final Sensor requestRoutingLatencySensor;
+  private final StripedSensor requestUsageSensor;
+  private final StripedSensor requestParsingLatencySensor;
+  private final StripedSensor requestRoutingLatencySensor;
   private final Sensor unAvailableRequestSensor;
   private final Sensor delayConstraintAbortedRetryRequest;
   private final Sensor slowRouteAbortedRetryRequest;
   private final Sensor retryRouteLimitAbortedRetryRequest;
   private final Sensor noAvailableReplicaAbortedRetryRequest;
   private final Sensor readQuotaUsageSensor;
-  private final Sensor inFlightRequestSensor;
-  private Sensor keySizeSensor;
+  private final StripedSensor inFlightRequestSensor;
+  private StripedSensor keySizeSensor;
 
   private final AtomicInteger currentInFlightRequest;
   private final Sensor unavailableReplicaStreamingRequestSensor;
@@ -77,49 +82,42 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
       boolean isKeyValueProfilingEnabled) {
     super(metricsRepository, storeName, requestType);
 
-    Rate requestRate = new OccurrenceRate();
-    Rate healthyRequestRate = new OccurrenceRate();
-    Rate tardyRequestRate = new OccurrenceRate();
-    requestSensor = registerSensor("request", new Count(), requestRate);
-    healthySensor = registerSensor("healthy_request", new Count(), healthyRequestRate);
-    unhealthySensor = registerSensor("unhealthy_request", new Count());
+    /**
+     * The sensors recorded by every request are {@link StripedSensor}s to avoid the lock contention among the request
+     * threads, and they are exposing the same metrics as the Tehuti sensors.
+     */
+    requestSensor = registerStripedSensor("request", COUNT, OCCURRENCE_RATE);
+    healthySensor = registerStripedSensor("healthy_request", COUNT, OCCURRENCE_RATE);
+    unhealthySensor = registerStripedSensor("unhealthy_request", COUNT);
     unavailableReplicaStreamingRequestSensor = registerSensor("unavailable_replica_streaming_request", new Count());
-    tardySensor = registerSensor("tardy_request", new Count(), tardyRequestRate);
+    tardySensor = registerStripedSensor("tardy_request", COUNT, OCCURRENCE_RATE);
     this.isKeyValueProfilingEnabled = isKeyValueProfilingEnabled;
-    healthyRequestRateSensor =
-        registerSensor("healthy_request_ratio", new TehutiUtils.SimpleRatioStat(healthyRequestRate, requestRate));
-    tardyRequestRatioSensor =
-        registerSensor("tardy_request_ratio", new TehutiUtils.SimpleRatioStat(tardyRequestRate, requestRate));
+    healthyRequestRateSensor = registerSensor(
+        "healthy_request_ratio",
+        new TehutiUtils.SimpleRatioStat(
+            healthySensor.asMeasurable(OCCURRENCE_RATE),
+            requestSensor.asMeasurable(OCCURRENCE_RATE)));
+    tardyRequestRatioSensor = registerSensor(
+        "tardy_request_ratio",
+        new TehutiUtils.SimpleRatioStat(
+            tardySensor.asMeasurable(OCCURRENCE_RATE),
+            requestSensor.asMeasurable(OCCURRENCE_RATE)));
     throttleSensor = registerSensor("throttled_request", new Count());
     badRequestSensor = registerSensor("bad_request", new Count());
     badRequestKeyCountSensor = registerSensor("bad_request_key_count", new OccurrenceRate(), new Avg(), new Max());
     requestThrottledByRouterCapacitySensor = registerSensor("request_throttled_by_router_capacity", new Count());
-    fanoutRequestCountSensor = registerSensor("fanout_request_count", new Avg(), new Max(0));
-    latencySensor = registerSensorWithDetailedPercentiles("latency", new Avg(), new Max(0));
-    healthyRequestLatencySensor =
-        registerSensorWithDetailedPercentiles("healthy_request_latency", new Avg(), new Max(0));
-    unhealthyRequestLatencySensor =
-        registerSensorWithDetailedPercentiles("unhealthy_request_latency", new Avg(), new Max(0));
-    tardyRequestLatencySensor = registerSensorWithDetailedPercentiles("tardy_request_latency", new Avg(), new Max(0));
+    fanoutRequestCountSensor = registerStripedSensor("fanout_request_count", AVG, MAX);
+    latencySensor = registerStripedSensorWithDetailedPercentiles("latency", AVG, MAX);
+    healthyRequestLatencySensor = registerStripedSensorWithDetailedPercentiles("healthy_request_latency", AVG, MAX);
+    unhealthyRequestLatencySensor = registerStripedSensorWithDetailedPercentiles("unhealthy_request_latency", AVG, MAX);
+    tardyRequestLatencySensor = registerStripedSensorWithDetailedPercentiles("tardy_request_latency", AVG, MAX);
     throttledRequestLatencySensor =
         registerSensorWithDetailedPercentiles("throttled_request_latency", new Avg(), new Max(0));
-    routerResponseWaitingTimeSensor = registerSensor(
-        "response_waiting_time",
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("response_waiting_time")));
-    requestSizeSensor = registerSensor(
-        "request_size",
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("request_size")),
-        new Avg());
-    compressedResponseSizeSensor = registerSensor(
-        "compressed_response_size",
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("compressed_response_size")),
-        new Avg(),
-        new Max());
-
-    decompressionTimeSensor = registerSensor(
-        "decompression_time",
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("decompression_time")),
-        new Avg());
+    routerResponseWaitingTimeSensor = registerStripedSensorWithPercentiles("response_waiting_time");
+    requestSizeSensor = registerStripedSensorWithPercentiles("request_size", AVG);
+    compressedResponseSizeSensor = registerStripedSensorWithPercentiles("compressed_response_size", AVG, MAX);
+
+    decompressionTimeSensor = registerStripedSensorWithPercentiles("decompression_time", AVG);
     quotaSensor = registerSensor("read_quota_per_router", new Gauge());
     findUnhealthyHostRequestSensor = registerSensor("find_unhealthy_host_request", new OccurrenceRate());
 
@@ -133,14 +131,14 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
         "retry_faster_than_original_count",
         new LambdaStat(() -> scatterGatherStats.getTotalRetriesWinner()));
 
-    keyNumSensor = registerSensor("key_num", new Avg(), new Max(0));
+    keyNumSensor = registerStripedSensor("key_num", AVG, MAX);
     /**
      * request_usage.Total is incoming KPS while request_usage.OccurrenceRate is QPS
      */
-    requestUsageSensor = registerSensor("request_usage", new Total(), new OccurrenceRate());
+    requestUsageSensor = registerStripedSensor("request_usage", TOTAL, OCCURRENCE_RATE);
 
-    requestParsingLatencySensor = registerSensor("request_parse_latency", new Avg());
-    requestRoutingLatencySensor = registerSensor("request_route_latency", new Avg());
+    requestParsingLatencySensor = registerStripedSensor("request_parse_latency", AVG);
+    requestRoutingLatencySensor = registerStripedSensor("request_route_latency", AVG);
 
     unAvailableRequestSensor = registerSensor("unavailable_request", new Count());
 
@@ -151,27 +149,15 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
 
     readQuotaUsageSensor = registerSensor("read_quota_usage_kps", new Total());
 
-    inFlightRequestSensor = registerSensor("in_flight_request_count", new Min(), new Max(0), new Avg());
+    inFlightRequestSensor = registerStripedSensor("in_flight_request_count", MIN, MAX, AVG);
 
     String responseSizeSensorName = "response_size";
     if (isKeyValueProfilingEnabled && storeName.equals(STORE_NAME_FOR_TOTAL_STAT)) {
       String keySizeSensorName = "key_size_in_byte";
-      keySizeSensor = registerSensor(
-          keySizeSensorName,
-          new Avg(),
-          new Max(),
-          TehutiUtils.getFineGrainedPercentileStat(getName(), getFullMetricName(keySizeSensorName)));
-      responseSizeSensor = registerSensor(
-          responseSizeSensorName,
-          new Avg(),
-          new Max(),
-          TehutiUtils.getFineGrainedPercentileStat(getName(), getFullMetricName(responseSizeSensorName)));
+      keySizeSensor = registerStripedSensorWithFineGrainedPercentiles(keySizeSensorName, AVG, MAX);
+      responseSizeSensor = registerStripedSensorWithFineGrainedPercentiles(responseSizeSensorName, AVG, MAX);
     } else {
-      responseSizeSensor = registerSensor(
-          responseSizeSensorName,
-          new Avg(),
-          new Max(),
-          TehutiUtils.getPercentileStat(getName(), getFullMetricName(responseSizeSensorName)));
+      responseSizeSensor = registerStripedSensorWithPercentiles(responseSizeSensorName, AVG, MAX);
     }
     currentInFlightRequest = new AtomicInteger();
 
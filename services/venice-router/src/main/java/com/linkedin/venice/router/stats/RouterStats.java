@@ -2,6 +2,7 @@ package com.linkedin.venice.router.stats;
 
 import static com.linkedin.venice.read.RequestType.COMPUTE;
 import static com.linkedin.venice.read.RequestType.COMPUTE_STREAMING;
+import static com.linkedin.venice.read.RequestType.KEY_PREFIX_SCAN;
 import static com.linkedin.venice.read.RequestType.MULTI_GET;
 import static com.linkedin.venice.read.RequestType.MULTI_GET_STREAMING;
 import static com.linkedin.venice.read.RequestType.SINGLE_GET;
@@ -17,6 +18,7 @@ public class RouterStats<STAT_TYPE> {
   private final STAT_TYPE statsForCompute;
   private final STAT_TYPE statsForMultiGetStreaming;
   private final STAT_TYPE statsForComputeStreaming;
+  private final STAT_TYPE statsForKeyPrefixScan;
 
   public RouterStats(Function<RequestType, STAT_TYPE> supplier) {
     this.statsForSingleGet = supplier.apply(SINGLE_GET);
@@ -24,6 +26,7 @@ public class RouterStats<STAT_TYPE> {
     this.statsForCompute = supplier.apply(COMPUTE);
     this.statsForMultiGetStreaming = supplier.apply(MULTI_GET_STREAMING);
     this.statsForComputeStreaming = supplier.apply(COMPUTE_STREAMING);
+    this.statsForKeyPrefixScan = supplier.apply(KEY_PREFIX_SCAN);
   }
 
   public STAT_TYPE getStatsByType(RequestType requestType) {
@@ -38,6 +41,8 @@ public class RouterStats<STAT_TYPE> {
         return statsForMultiGetStreaming;
       case COMPUTE_STREAMING:
         return statsForComputeStreaming;
+      case KEY_PREFIX_SCAN:
+        return statsForKeyPrefixScan;
       default:
         throw new VeniceException("Unknown request type: " + requestType);
     }
@@ -0,0 +1,189 @@
+package com.linkedin.venice.router.api.path;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.alpini.netty4.misc.BasicFullHttpRequest;
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.exceptions.VeniceNoHelixResourceException;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
+import com.linkedin.venice.router.api.VenicePartitionFinder;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestVeniceKeyPrefixScanPath {
+  private static final RecordSerializer<KeyPrefixScanRequestV1> SERIALIZER =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanRequestV1.getClassSchema());
+  private static final int PARTITION_COUNT = 3;
+  private static final int CURRENT_VERSION = 3;
+
+  @BeforeClass
+  public void setUp() {
+    RouterExceptionAndTrackingUtils.setRouterStats(
+        new RouterStats<>(
+            requestType -> new AggRouterHttpRequestStats(
+                new MetricsRepository(),
+                requestType,
+                mock(ReadOnlyStoreRepository.class),
+                true)));
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    RouterExceptionAndTrackingUtils.setRouterStats(null);
+  }
+
+  private static KeyPrefixScanRequestV1 getScanRequest(ByteBuffer continuationToken, int maxRecordCount) {
+    KeyPrefixScanRequestV1 scanRequest = new KeyPrefixScanRequestV1();
+    scanRequest.keyPrefix = ByteBuffer.wrap("key_".getBytes());
+    scanRequest.continuationToken = continuationToken;
+    scanRequest.maxRecordCount = maxRecordCount;
+    scanRequest.computeRequestVersion = 3;
+    scanRequest.computeRequest = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+    return scanRequest;
+  }
+
+  private static BasicFullHttpRequest getHttpRequest(String storeName, byte[] content, int apiVersion) {
+    BasicFullHttpRequest request = new BasicFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        "/scan/" + storeName,
+        Unpooled.wrappedBuffer(content),
+        0,
+        0);
+    request.headers().add(HttpConstants.VENICE_API_VERSION, apiVersion);
+    return request;
+  }
+
+  private static VenicePartitionFinder getPartitionFinder(String storeName) {
+    VenicePartitionFinder partitionFinder = mock(VenicePartitionFinder.class);
+    doReturn(PARTITION_COUNT).when(partitionFinder).getNumPartitions(storeName + "_v" + CURRENT_VERSION);
+    doReturn(PARTITION_COUNT).when(partitionFinder).getNumPartitions(storeName + "_v" + (CURRENT_VERSION - 1));
+    // An older version is retired.
+    doThrow(new VeniceNoHelixResourceException(storeName + "_v" + (CURRENT_VERSION - 2))).when(partitionFinder)
+        .getNumPartitions(storeName + "_v" + (CURRENT_VERSION - 2));
+    return partitionFinder;
+  }
+
+  private static VeniceKeyPrefixScanPath parse(String storeName, KeyPrefixScanRequestV1 scanRequest)
+      throws RouterException {
+    return parse(storeName, SERIALIZER.serialize(scanRequest), 1);
+  }
+
+  private static VeniceKeyPrefixScanPath parse(String storeName, byte[] content, int apiVersion)
+      throws RouterException {
+    return VeniceKeyPrefixScanPath.parseKeyPrefixScanPath(
+        storeName,
+        CURRENT_VERSION,
+        getHttpRequest(storeName, content, apiVersion),
+        getPartitionFinder(storeName));
+  }
+
+  private static void assertRejected(
+      String storeName,
+      byte[] content,
+      int apiVersion,
+      HttpResponseStatus expectedStatus,
+      String expectedMessage) {
+    RouterException e = Assert.expectThrows(RouterException.class, () -> parse(storeName, content, apiVersion));
+    Assert.assertEquals(e.code(), expectedStatus.code());
+    Assert.assertTrue(e.getMessage().contains(expectedMessage), e.getMessage());
+  }
+
+  @Test
+  public void testFirstPageStartsFromFirstPartitionOfCurrentVersion() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    byte[] content = SERIALIZER.serialize(getScanRequest(null, 100));
+    VeniceKeyPrefixScanPath path = parse(storeName, content, 1);
+
+    Assert.assertEquals(path.getRequestType(), RequestType.KEY_PREFIX_SCAN);
+    Assert.assertEquals(path.getResourceName(), storeName + "_v" + CURRENT_VERSION);
+    Assert.assertEquals(path.getPartition(), 0);
+    Assert.assertEquals(path.getLocation(), "scan/" + storeName + "_v" + CURRENT_VERSION + "/0");
+    Assert.assertEquals(path.getHttpMethod(), HttpMethod.POST);
+    // The body is forwarded to the storage node as is.
+    Assert.assertEquals(path.getBody(), content);
+    Assert.assertEquals(
+        path.getVeniceApiVersionHeader(),
+        Integer.toString(ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_REQUEST_V1.getProtocolVersion()));
+
+    RouterKey routerKey = path.getPartitionKeys().iterator().next();
+    Assert.assertEquals(routerKey.getPartitionId(), 0);
+    Assert.assertSame(path.substitutePartitionKey(routerKey), path);
+  }
+
+  @Test
+  public void testNextPageResumesFromContinuationToken() throws RouterException {
+    String storeName = Utils.getUniqueString("test_store");
+    // The scan started before the current version was swapped in, so it keeps reading the previous one.
+    ByteBuffer token = new KeyPrefixScanContinuationToken(CURRENT_VERSION - 1, 2, "key_42".getBytes()).toBytes();
+    VeniceKeyPrefixScanPath path = parse(storeName, getScanRequest(token, 100));
+
+    Assert.assertEquals(path.getResourceName(), storeName + "_v" + (CURRENT_VERSION - 1));
+    Assert.assertEquals(path.getPartition(), 2);
+    Assert.assertEquals(path.getLocation(), "scan/" + storeName + "_v" + (CURRENT_VERSION - 1) + "/2");
+  }
+
+  @Test
+  public void testInvalidRequests() {
+    String storeName = Utils.getUniqueString("test_store");
+    byte[] validContent = SERIALIZER.serialize(getScanRequest(null, 100));
+    assertRejected(storeName, validContent, 2, HttpResponseStatus.BAD_REQUEST, "Expected API version");
+
+    // A page without records would end the scan of the partition right away.
+    for (int maxRecordCount: new int[] { 0, -1 }) {
+      assertRejected(
+          storeName,
+          SERIALIZER.serialize(getScanRequest(null, maxRecordCount)),
+          1,
+          HttpResponseStatus.BAD_REQUEST,
+          "Max record count should be positive");
+    }
+
+    assertRejected(
+        storeName,
+        SERIALIZER.serialize(getScanRequest(ByteBuffer.wrap(new byte[] { 1, 2 }), 100)),
+        1,
+        HttpResponseStatus.BAD_REQUEST,
+        "Invalid key prefix scan request");
+
+    ByteBuffer tokenOfMissingPartition =
+        new KeyPrefixScanContinuationToken(CURRENT_VERSION, PARTITION_COUNT, null).toBytes();
+    assertRejected(
+        storeName,
+        SERIALIZER.serialize(getScanRequest(tokenOfMissingPartition, 100)),
+        1,
+        HttpResponseStatus.BAD_REQUEST,
+        "doesn't exist");
+
+    ByteBuffer tokenOfRetiredVersion = new KeyPrefixScanContinuationToken(CURRENT_VERSION - 2, 1, null).toBytes();
+    assertRejected(
+        storeName,
+        SERIALIZER.serialize(getScanRequest(tokenOfRetiredVersion, 100)),
+        1,
+        HttpResponseStatus.GONE,
+        "not available anymore");
+  }
+}
@@ -0,0 +1,85 @@
+package com.linkedin.venice.cleaner;
+
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.service.AbstractVeniceService;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * This class periodically deletes the partition snapshots created via
+ * {@link com.linkedin.venice.meta.ServerAdminAction#CREATE_PARTITION_SNAPSHOT} which are older than the retention.
+ * A snapshot is a RocksDB checkpoint hard-linking the SST files, so it holds on to the data compacted away since its
+ * creation until it is deleted, and a repush job which hasn't deleted the snapshots it read would otherwise leak them.
+ *
+ * The age of a snapshot is the last modification time of its dir, which is set when the checkpoint is created. Only
+ * the dirs of version topics are looked at, so the snapshots served to the peers, which expire on their own, are left
+ * alone.
+ */
+public class PartitionSnapshotCleanupService extends AbstractVeniceService {
+  private static final Logger LOGGER = LogManager.getLogger(PartitionSnapshotCleanupService.class);
+  private static final long MAX_SCHEDULE_INTERVAL_MS = TimeUnit.MINUTES.toMillis(10);
+
+  private final String snapshotBaseDir;
+  private final long retentionMs;
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("PartitionSnapshotCleanupService"));
+
+  public PartitionSnapshotCleanupService(String snapshotBaseDir, long retentionMs) {
+    this.snapshotBaseDir = snapshotBaseDir;
+    this.retentionMs = retentionMs;
+  }
+
+  @Override
+  public boolean startInner() throws Exception {
+    long scheduleIntervalMs = Math.max(1, Math.min(retentionMs, MAX_SCHEDULE_INTERVAL_MS));
+    executor.scheduleWithFixedDelay(this::deleteExpiredSnapshots, 0, scheduleIntervalMs, TimeUnit.MILLISECONDS);
+    return true;
+  }
+
+  @Override
+  public void stopInner() throws Exception {
+    executor.shutdownNow();
+    executor.awaitTermination(30, TimeUnit.SECONDS);
+  }
+
+  // Visible for testing
+  void deleteExpiredSnapshots() {
+    try {
+      File[] topicDirs = new File(snapshotBaseDir).listFiles(file -> file.isDirectory());
+      if (topicDirs == null) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      for (File topicDir: topicDirs) {
+        if (!Version.isVersionTopic(topicDir.getName())) {
+          continue;
+        }
+        File[] partitionDirs = topicDir.listFiles(file -> file.isDirectory());
+        if (partitionDirs == null) {
+          continue;
+        }
+        int remainingSnapshots = partitionDirs.length;
+        for (File partitionDir: partitionDirs) {
+          if (now - partitionDir.lastModified() >= retentionMs) {
+            LOGGER.info("Deleting expired partition snapshot in: {}", partitionDir);
+            FileUtils.deleteQuietly(partitionDir);
+            remainingSnapshots--;
+          }
+        }
+        if (remainingSnapshots == 0) {
+          // Only deleted if it's still empty, in case a snapshot is being created in it.
+          topicDir.delete();
+        }
+      }
+    } catch (Exception e) {
+      LOGGER.error("Failed to delete the expired partition snapshots in: {}", snapshotBaseDir, e);
+    }
+  }
+}
@@ -39,6 +39,7 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
   private final AggServerHttpRequestStats computeStats;
+  private final AggServerHttpRequestStats keyPrefixScanStats;
   private final Optional<SSLFactory> sslFactory;
   private final Executor sslHandshakeExecutor;
   private final Optional<ServerAclHandler> aclHandler;
@@ -84,6 +85,12 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         isKeyValueProfilingEnabled,
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled);
+    this.keyPrefixScanStats = new AggServerHttpRequestStats(
+        metricsRepository,
+        RequestType.KEY_PREFIX_SCAN,
+        isKeyValueProfilingEnabled,
+        storeMetadataRepository,
+        isUnregisterMetricForDeletedStoreEnabled);
 
     if (serverConfig.isComputeFastAvroEnabled()) {
       LOGGER.info("Fast avro for compute is enabled");
@@ -154,7 +161,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
       ch.pipeline().addLast(sslInitializer);
     }
     ChannelPipelineConsumer httpPipelineInitializer = (pipeline, whetherNeedServerCodec) -> {
-      StatsHandler statsHandler = new StatsHandler(singleGetStats, multiGetStats, computeStats);
+      StatsHandler statsHandler =
+          new StatsHandler(singleGetStats, multiGetStats, computeStats, keyPrefixScanStats);
       pipeline.addLast(statsHandler);
       if (whetherNeedServerCodec) {
         pipeline.addLast(new HttpServerCodec());
@@ -204,6 +204,9 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
       case COMPUTE:
         // Eventually, we'll want to add some extra cost beyond the look up cost for compute operations.
         return request.getKeyCount();
+      case KEY_PREFIX_SCAN:
+        // The page can hold as many records as the key count, which is charged upfront.
+        return request.getKeyCount();
       default:
         LOGGER.error(
             "Unknown request type: {}, request for resource: {}",
@@ -6,8 +6,10 @@ import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.DictionaryFetchRequest;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.HealthCheckRequest;
+import com.linkedin.venice.listener.request.KeyPrefixScanRouterRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.PeerSnapshotRequest;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
 import com.linkedin.venice.meta.QueryAction;
@@ -98,6 +100,16 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
             throw new VeniceException("Only support POST method for " + QueryAction.COMPUTE);
           }
           break;
+        case SCAN: // POST /scan/resource/partition
+          if (req.method().equals(HttpMethod.POST)) {
+            KeyPrefixScanRouterRequest scanRouterReq = KeyPrefixScanRouterRequest.parseKeyPrefixScanRequest(req);
+            setupRequestTimeout(scanRouterReq);
+            statsHandler.setRequestInfo(scanRouterReq);
+            ctx.fireChannelRead(scanRouterReq);
+          } else {
+            throw new VeniceException("Only support POST method for " + QueryAction.SCAN);
+          }
+          break;
         case HEALTH:
           statsHandler.setHealthCheck(true);
           HealthCheckRequest healthCheckRequest = new HealthCheckRequest();
@@ -118,6 +130,11 @@ public class RouterRequestHttpHandler extends SimpleChannelInboundHandler<FullHt
           statsHandler.setStoreName(metadataFetchRequest.getStoreName());
           ctx.fireChannelRead(metadataFetchRequest);
           break;
+        case SNAPSHOT:
+          PeerSnapshotRequest peerSnapshotRequest = PeerSnapshotRequest.parseGetHttpRequest(req);
+          statsHandler.setStoreName(peerSnapshotRequest.getStoreName());
+          ctx.fireChannelRead(peerSnapshotRequest);
+          break;
         default:
           throw new VeniceException("Unrecognized query action");
       }
@@ -44,6 +44,7 @@ public class StatsHandler extends ChannelDuplexHandler {
   private final AggServerHttpRequestStats singleGetStats;
   private final AggServerHttpRequestStats multiGetStats;
   private final AggServerHttpRequestStats computeStats;
+  private final AggServerHttpRequestStats keyPrefixScanStats;
   private AggServerHttpRequestStats currentStats;
 
   // a flag that indicates if this is a new HttpRequest. Netty is TCP-based, so a HttpRequest is chunked into packages.
@@ -108,6 +109,9 @@ public class StatsHandler extends ChannelDuplexHandler {
       case COMPUTE:
         currentStats = computeStats;
         break;
+      case KEY_PREFIX_SCAN:
+        currentStats = keyPrefixScanStats;
+        break;
       default:
         currentStats = singleGetStats;
     }
@@ -190,10 +194,12 @@ public class StatsHandler extends ChannelDuplexHandler {
   public StatsHandler(
       AggServerHttpRequestStats singleGetStats,
       AggServerHttpRequestStats multiGetStats,
-      AggServerHttpRequestStats computeStats) {
+      AggServerHttpRequestStats computeStats,
+      AggServerHttpRequestStats keyPrefixScanStats) {
     this.singleGetStats = singleGetStats;
     this.multiGetStats = multiGetStats;
     this.computeStats = computeStats;
+    this.keyPrefixScanStats = keyPrefixScanStats;
     // default to use single-get
     this.currentStats = singleGetStats;
   }
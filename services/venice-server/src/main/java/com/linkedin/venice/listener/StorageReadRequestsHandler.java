@@ -1,6 +1,7 @@
 package com.linkedin.venice.listener;
 
 import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.listener.response.AdminResponse;
@@ -26,18 +27,22 @@ import com.linkedin.venice.compute.protocol.request.enums.ComputeOperationType;
 import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.exceptions.VeniceHttpException;
 import com.linkedin.venice.exceptions.VeniceNoStoreException;
 import com.linkedin.venice.listener.request.AdminRequest;
 import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
 import com.linkedin.venice.listener.request.DictionaryFetchRequest;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.HealthCheckRequest;
+import com.linkedin.venice.listener.request.KeyPrefixScanRouterRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.listener.request.PeerSnapshotRequest;
 import com.linkedin.venice.listener.request.RouterRequest;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.ComputeResponseWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.KeyPrefixScanResponseWrapper;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.meta.PartitionerConfig;
@@ -47,8 +52,10 @@ import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseRecordV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
@@ -56,6 +63,7 @@ import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.streaming.StreamingConstants;
 import com.linkedin.venice.streaming.StreamingUtils;
 import com.linkedin.venice.utils.ByteUtils;
@@ -72,7 +80,11 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntLists;
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -80,8 +92,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -90,6 +105,7 @@ import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 import org.apache.avro.util.Utf8;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -127,6 +143,9 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
   private final int parallelBatchGetChunkSize;
   private final boolean keyValueProfilingEnabled;
   private final VeniceServerConfig serverConfig;
+  private final Semaphore snapshotCreationPermits;
+  /** The dirs of the partition snapshots being created. */
+  private final Set<String> snapshotsInProgress = VeniceConcurrentHashMap.newKeySet();
   private final Map<String, PerStoreVersionState> perStoreVersionStateMap = new VeniceConcurrentHashMap<>();
   private final Map<String, StoreDeserializerCache<GenericRecord>> storeDeserializerCacheMap =
       new VeniceConcurrentHashMap<>();
@@ -190,6 +209,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     this.keyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     this.serverConfig = serverConfig;
     this.compressorFactory = compressorFactory;
+    this.snapshotCreationPermits = new Semaphore(serverConfig.getPartitionSnapshotMaxConcurrentCreations());
     this.resourceReadUsageTracker = resourceReadUsageTracker;
   }
 
@@ -282,6 +302,9 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
             case COMPUTE:
               response = handleComputeRequest((ComputeRouterRequestWrapper) message);
               break;
+            case KEY_PREFIX_SCAN:
+              response = handleKeyPrefixScanRequest((KeyPrefixScanRouterRequest) message);
+              break;
             default:
               throw new VeniceException("Unknown request type: " + request.getRequestType());
           }
@@ -297,6 +320,9 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
               new HttpShortcutResponse("No storage exists for: " + e.getStoreName(), HttpResponseStatus.BAD_REQUEST));
         } catch (VeniceRequestEarlyTerminationException e) {
           context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), e.getHttpResponseStatus()));
+        } catch (VeniceHttpException e) {
+          context.writeAndFlush(
+              new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.valueOf(e.getHttpStatusCode())));
         } catch (Exception e) {
           LOGGER.error("Exception thrown for {}", request.getResourceName(), e);
           context.writeAndFlush(new HttpShortcutResponse(e.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
@@ -324,6 +350,21 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     } else if (message instanceof MetadataFetchRequest) {
       MetadataResponse response = handleMetadataFetchRequest((MetadataFetchRequest) message);
       context.writeAndFlush(response);
+    } else if (message instanceof PeerSnapshotRequest) {
+      PeerSnapshotRequest request = (PeerSnapshotRequest) message;
+      handlePeerSnapshotRequest(request).whenComplete((body, throwable) -> {
+        if (throwable == null) {
+          context.writeAndFlush(new BinaryResponse(body));
+          return;
+        }
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        LOGGER.error(
+            "Failed to serve the snapshot of partition {} of {}",
+            request.getPartition(),
+            request.getResourceName(),
+            cause);
+        context.writeAndFlush(new HttpShortcutResponse(cause.getMessage(), HttpResponseStatus.INTERNAL_SERVER_ERROR));
+      });
     } else {
       context.writeAndFlush(
           new HttpShortcutResponse(
@@ -338,6 +379,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       case MULTI_GET:
         return executor;
       case COMPUTE:
+      case KEY_PREFIX_SCAN:
         return computeExecutor;
       default:
         throw new VeniceException("Request type " + requestType + " is not supported.");
@@ -571,20 +613,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
         ? this.schemaRepo.getValueSchema(storeName, request.getValueSchemaId()).getSchema()
         : superSetOrLatestValueSchema.getSchema();
     ComputeRequestWrapper computeRequestWrapper = request.getComputeRequest();
-
-    // try to get the result schema from the cache
-    Utf8 computeResultSchemaStr = (Utf8) computeRequestWrapper.getResultSchemaStr();
-    Schema computeResultSchema = computeResultSchemaCache.get(computeResultSchemaStr);
-    if (computeResultSchema == null) {
-      computeResultSchema = new Schema.Parser().parse(computeResultSchemaStr.toString());
-      // sanity check on the result schema
-      ComputeUtils.checkResultSchema(
-          computeResultSchema,
-          valueSchema,
-          computeRequestWrapper.getComputeRequestVersion(),
-          computeRequestWrapper.getOperations());
-      computeResultSchemaCache.putIfAbsent(computeResultSchemaStr, computeResultSchema);
-    }
+    Schema computeResultSchema = getComputeResultSchema(computeRequestWrapper, valueSchema);
 
     ComputeResponseWrapper responseWrapper = new ComputeResponseWrapper(request.getKeyCount());
     CompressionStrategy compressionStrategy = storageEngine.getCompressionStrategy();
@@ -637,6 +666,134 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return responseWrapper;
   }
 
+  /**
+   * Scans one page of the records of the partition whose keys have the requested prefix, and computes the result of
+   * each of them like {@link #handleComputeRequest}. The scan goes through the partitions one after the other, so the
+   * continuation token of the last page of a partition points to the beginning of the next partition.
+   */
+  private ReadResponse handleKeyPrefixScanRequest(KeyPrefixScanRouterRequest request) {
+    if (request.getMaxRecordCount() <= 0) {
+      // Otherwise the page would be empty and the scan would move on to the next partition.
+      throw new VeniceHttpException(
+          HttpResponseStatus.BAD_REQUEST.code(),
+          "Max record count should be positive, but received: " + request.getMaxRecordCount());
+    }
+    String topic = request.getResourceName();
+    String storeName = request.getStoreName();
+    int partition = request.getPartition();
+    PerStoreVersionState perStoreVersionState = getPerStoreVersionState(topic);
+    AbstractStorageEngine storageEngine = perStoreVersionState.storageEngine;
+    if (storageEngine.isChunked()) {
+      throw new VeniceException("Key prefix scan is not supported when chunking is enabled.");
+    }
+    if (perStoreVersionState.partitionerConfig.getAmplificationFactor() > 1) {
+      throw new VeniceException("Key prefix scan is not supported when amplification factor is enabled.");
+    }
+
+    SchemaEntry superSetOrLatestValueSchema = this.schemaRepo.getSupersetOrLatestValueSchema(storeName);
+    ComputeRequestWrapper computeRequestWrapper = request.getComputeRequest();
+    Schema computeResultSchema =
+        getComputeResultSchema(computeRequestWrapper, superSetOrLatestValueSchema.getSchema());
+
+    int maxRecordCount = Math.min(request.getMaxRecordCount(), serverConfig.getKeyPrefixScanMaxRecordCount());
+    KeyPrefixScanResponseWrapper responseWrapper = new KeyPrefixScanResponseWrapper(maxRecordCount);
+    StorageExecReusableObjects reusableObjects = threadLocalReusableObjects.get();
+
+    // Reuse the same value record and result record instances for all values
+    GenericRecord reuseValueRecord = reusableObjects.reuseValueRecordMap
+        .computeIfAbsent(superSetOrLatestValueSchema.getSchema(), GenericData.Record::new);
+    GenericRecord reuseResultRecord =
+        reusableObjects.reuseResultRecordMap.computeIfAbsent(computeResultSchema, GenericData.Record::new);
+    RecordSerializer<GenericRecord> resultSerializer = genericSerializerGetter.apply(computeResultSchema);
+
+    Map<String, Object> globalContext = new HashMap<>();
+    int readerSchemaId = superSetOrLatestValueSchema.getId();
+    VeniceCompressor compressor = compressorFactory.getCompressor(storageEngine.getCompressionStrategy(), topic);
+    BytesStreamingCallback callback = new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        int writerSchemaId = ValueRecord.parseSchemaId(value);
+        if (writerSchemaId <= 0) {
+          throw new VeniceException("Found a record with invalid schema ID: " + writerSchemaId);
+        }
+        GenericRecord valueRecord = GenericRecordChunkingAdapter.INSTANCE.constructValue(
+            value,
+            value.length,
+            reuseValueRecord,
+            reusableObjects.binaryDecoder,
+            responseWrapper,
+            writerSchemaId,
+            readerSchemaId,
+            perStoreVersionState.storeDeserializerCache,
+            compressor);
+        clearFieldsInReusedRecord(reuseResultRecord, computeResultSchema);
+        KeyPrefixScanResponseRecordV1 record = new KeyPrefixScanResponseRecordV1();
+        record.key = ByteBuffer.wrap(key);
+        record.value = computeAndSerializeResult(
+            computeRequestWrapper.getComputeRequestVersion(),
+            computeRequestWrapper.getOperations(),
+            computeResultSchema,
+            resultSerializer,
+            valueRecord,
+            reuseResultRecord,
+            responseWrapper,
+            globalContext);
+        responseWrapper.addRecord(record);
+      }
+
+      @Override
+      public void onCompletion() {
+        // Nothing to do here
+      }
+    };
+
+    long databaseLookupStartTimeInNS = System.nanoTime();
+    byte[] lastKey = storageEngine
+        .getByKeyPrefix(partition, request.getKeyPrefix(), request.getStartAfterKey(), maxRecordCount, callback);
+    // The records are computed while the partition is iterated, which is not part of the lookup.
+    responseWrapper.addDatabaseLookupLatency(
+        LatencyUtils.getLatencyInMS(databaseLookupStartTimeInNS) - responseWrapper.getReadComputeLatency()
+            - responseWrapper.getReadComputeDeserializationLatency()
+            - responseWrapper.getReadComputeSerializationLatency());
+
+    int versionNumber = Version.parseVersionFromKafkaTopicName(topic);
+    KeyPrefixScanContinuationToken nextToken = null;
+    if (lastKey != null) {
+      nextToken = new KeyPrefixScanContinuationToken(versionNumber, partition, lastKey);
+    } else if (partition + 1 < getPartitionCount(storeName, versionNumber)) {
+      nextToken = new KeyPrefixScanContinuationToken(versionNumber, partition + 1, null);
+    }
+    if (nextToken != null) {
+      responseWrapper.setContinuationToken(nextToken.toBytes());
+    }
+    return responseWrapper;
+  }
+
+  private int getPartitionCount(String storeName, int versionNumber) {
+    Optional<Version> version = metadataRepository.getStoreOrThrow(storeName).getVersion(versionNumber);
+    if (!version.isPresent()) {
+      throw new VeniceException("Version " + versionNumber + " of store " + storeName + " not found.");
+    }
+    return version.get().getPartitionCount();
+  }
+
+  private Schema getComputeResultSchema(ComputeRequestWrapper computeRequestWrapper, Schema valueSchema) {
+    // try to get the result schema from the cache
+    Utf8 computeResultSchemaStr = (Utf8) computeRequestWrapper.getResultSchemaStr();
+    Schema computeResultSchema = computeResultSchemaCache.get(computeResultSchemaStr);
+    if (computeResultSchema == null) {
+      computeResultSchema = new Schema.Parser().parse(computeResultSchemaStr.toString());
+      // sanity check on the result schema
+      ComputeUtils.checkResultSchema(
+          computeResultSchema,
+          valueSchema,
+          computeRequestWrapper.getComputeRequestVersion(),
+          computeRequestWrapper.getOperations());
+      computeResultSchemaCache.putIfAbsent(computeResultSchemaStr, computeResultSchema);
+    }
+    return computeResultSchema;
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     String topic = request.getResourceName();
     ByteBuffer dictionary = metadataRetriever.getStoreVersionCompressionDictionary(topic);
@@ -644,6 +801,25 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
     return new BinaryResponse(dictionary);
   }
 
+  /**
+   * The snapshot is created on the threads of the provider, so that it doesn't hold up a read thread meanwhile, while
+   * reading its files hits the disk, so it is kept out of the event loop.
+   */
+  private CompletableFuture<ByteBuffer> handlePeerSnapshotRequest(PeerSnapshotRequest request) {
+    String topic = request.getResourceName();
+    if (request.isManifestRequest()) {
+      return metadataRetriever.getPeerSnapshotManifest(topic, request.getPartition());
+    }
+    return CompletableFuture.supplyAsync(
+        () -> metadataRetriever.getPeerSnapshotFileChunk(
+            topic,
+            request.getPartition(),
+            request.getSnapshotId(),
+            request.getFileName(),
+            request.getFileOffset()),
+        executor);
+  }
+
   private MetadataResponse handleMetadataFetchRequest(MetadataFetchRequest request) {
     String storeName = request.getStoreName();
     return metadataRetriever.getMetadata(storeName);
@@ -700,6 +876,30 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       return null;
     }
 
+    // create a response record
+    ComputeResponseRecordV1 responseRecord = new ComputeResponseRecordV1();
+    responseRecord.keyIndex = keyIndex;
+    responseRecord.value = computeAndSerializeResult(
+        computeRequestVersion,
+        operations,
+        computeResultSchema,
+        resultSerializer,
+        reuseValueRecord,
+        reuseResultRecord,
+        response,
+        globalContext);
+    return responseRecord;
+  }
+
+  private ByteBuffer computeAndSerializeResult(
+      int computeRequestVersion,
+      List<ComputeOperation> operations,
+      Schema computeResultSchema,
+      RecordSerializer<GenericRecord> resultSerializer,
+      GenericRecord valueRecord,
+      GenericRecord reuseResultRecord,
+      ReadResponse response,
+      Map<String, Object> globalContext) {
     long computeStartTimeInNS = System.nanoTime();
     Map<String, String> computationErrorMap = new HashMap<>();
 
@@ -708,7 +908,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       ReadComputeOperator operator = ComputeOperationType.valueOf(operation).getOperator();
       String fieldName = operator.getOperatorFieldName(operation);
       String errorMessage =
-          ComputeOperationUtils.validateNullableFieldAndGetErrorMsg(operator, reuseValueRecord, fieldName).orElse(null);
+          ComputeOperationUtils.validateNullableFieldAndGetErrorMsg(operator, valueRecord, fieldName).orElse(null);
       if (errorMessage != null) {
         operator.putDefaultResult(reuseResultRecord, operator.getResultFieldName(operation));
         computationErrorMap.put(operator.getResultFieldName(operation), errorMessage);
@@ -718,7 +918,7 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
       operator.compute(
           computeRequestVersion,
           operation,
-          reuseValueRecord,
+          valueRecord,
           reuseResultRecord,
           computationErrorMap,
           globalContext);
@@ -731,22 +931,17 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           reuseResultRecord.put(field.pos(), computationErrorMap);
         } else {
           // project from value record
-          reuseResultRecord.put(field.pos(), reuseValueRecord.get(field.name()));
+          reuseResultRecord.put(field.pos(), valueRecord.get(field.name()));
         }
       }
     }
     response.addReadComputeLatency(LatencyUtils.getLatencyInMS(computeStartTimeInNS));
 
-    // create a response record
-    ComputeResponseRecordV1 responseRecord = new ComputeResponseRecordV1();
-    responseRecord.keyIndex = keyIndex;
-
     // serialize the compute result
     long serializeStartTimeInNS = System.nanoTime();
-    responseRecord.value = ByteBuffer.wrap(resultSerializer.serialize(reuseResultRecord));
+    ByteBuffer result = ByteBuffer.wrap(resultSerializer.serialize(reuseResultRecord));
     response.addReadComputeSerializationLatency(LatencyUtils.getLatencyInMS(serializeStartTimeInNS));
-
-    return responseRecord;
+    return result;
   }
 
   private AdminResponse handleServerAdminRequest(AdminRequest adminRequest) {
@@ -766,12 +961,111 @@ public class StorageReadRequestsHandler extends ChannelInboundHandlerAdapter {
           configResponse.addServerConfigs(this.serverConfig.getClusterProperties().toProperties());
         }
         return configResponse;
+      case CREATE_PARTITION_SNAPSHOT:
+        return createPartitionSnapshot(adminRequest.getStoreVersion(), adminRequest.getPartition());
+      case DELETE_PARTITION_SNAPSHOT:
+        return deletePartitionSnapshot(adminRequest.getStoreVersion(), adminRequest.getPartition());
       default:
         throw new VeniceException("Not a valid admin action: " + adminRequest.getServerAdminAction().toString());
     }
   }
 
-  private void incrementOperatorCount(ComputeResponseWrapper response, ComputeOperation operation) {
+  /**
+   * Create a snapshot of the given partition, which could be read by a repush job instead of the version topic, check
+   * {@link VeniceServerConfig#getPartitionSnapshotDir()}. The partition is the storage partition, which is the
+   * sub-partition for stores with amplification factor.
+   *
+   * An existing snapshot of the partition is replaced, and the snapshots are deleted by
+   * {@link com.linkedin.venice.cleaner.PartitionSnapshotCleanupService} once they are older than
+   * {@link VeniceServerConfig#getPartitionSnapshotRetentionMs()}, since they hold on to the SST files compacted away.
+   */
+  private AdminResponse createPartitionSnapshot(String topicName, Integer partitionId) {
+    AdminResponse response = new AdminResponse();
+    if (partitionId == null) {
+      response.setError(true);
+      response.setMessage("Partition is required to create snapshot for: " + topicName);
+      return response;
+    }
+    if (this.serverConfig == null) {
+      response.setError(true);
+      response.setMessage("Server config doesn't exist");
+      return response;
+    }
+    AbstractStorageEngine storageEngine = storageEngineRepository.getLocalStorageEngine(topicName);
+    if (storageEngine == null) {
+      response.setError(true);
+      response.setMessage("No storage exists for: " + topicName);
+      return response;
+    }
+    String snapshotDir =
+        RocksDBUtils.composeSnapshotPartitionDir(serverConfig.getPartitionSnapshotDir(), topicName, partitionId);
+    if (!snapshotCreationPermits.tryAcquire()) {
+      response.setError(true);
+      response.setMessage(
+          "Too many snapshots are being created, at most " + serverConfig.getPartitionSnapshotMaxConcurrentCreations()
+              + " at a time, please retry later");
+      return response;
+    }
+    try {
+      if (!snapshotsInProgress.add(snapshotDir)) {
+        response.setError(true);
+        response.setMessage("Snapshot is already being created in: " + snapshotDir);
+        return response;
+      }
+      try {
+        if (Files.exists(Paths.get(snapshotDir))) {
+          LOGGER.info("Replacing the existing snapshot in: {}", snapshotDir);
+          FileUtils.deleteDirectory(new File(snapshotDir));
+        }
+        Files.createDirectories(Paths.get(snapshotDir).getParent());
+        storageEngine.createSnapshot(partitionId, snapshotDir);
+        response.setMessage("Created snapshot in: " + snapshotDir);
+      } catch (Exception e) {
+        LOGGER.error("Failed to create snapshot for: {}, partition: {}", topicName, partitionId, e);
+        FileUtils.deleteQuietly(new File(snapshotDir));
+        response.setError(true);
+        response.setMessage("Failed to create snapshot for: " + topicName + ", partition: " + partitionId + ", " + e);
+      } finally {
+        snapshotsInProgress.remove(snapshotDir);
+      }
+    } finally {
+      snapshotCreationPermits.release();
+    }
+    return response;
+  }
+
+  /**
+   * Delete the snapshot of the given partition, or the snapshots of all the partitions if no partition is given, once
+   * the repush reading them is done.
+   */
+  private AdminResponse deletePartitionSnapshot(String topicName, Integer partitionId) {
+    AdminResponse response = new AdminResponse();
+    if (this.serverConfig == null) {
+      response.setError(true);
+      response.setMessage("Server config doesn't exist");
+      return response;
+    }
+    String snapshotDir = partitionId == null
+        ? RocksDBUtils.composeSnapshotTopicDir(serverConfig.getPartitionSnapshotDir(), topicName)
+        : RocksDBUtils.composeSnapshotPartitionDir(serverConfig.getPartitionSnapshotDir(), topicName, partitionId);
+    if (snapshotsInProgress.stream()
+        .anyMatch(dir -> dir.equals(snapshotDir) || dir.startsWith(snapshotDir + File.separator))) {
+      response.setError(true);
+      response.setMessage("Snapshot is being created in: " + snapshotDir);
+      return response;
+    }
+    try {
+      FileUtils.deleteDirectory(new File(snapshotDir));
+      response.setMessage("Deleted snapshot in: " + snapshotDir);
+    } catch (IOException e) {
+      LOGGER.error("Failed to delete snapshot in: {}", snapshotDir, e);
+      response.setError(true);
+      response.setMessage("Failed to delete snapshot in: " + snapshotDir + ", " + e);
+    }
+    return response;
+  }
+
+  private void incrementOperatorCount(ReadResponse response, ComputeOperation operation) {
     switch (ComputeOperationType.valueOf(operation)) {
       case DOT_PRODUCT:
         response.incrementDotProductCount();
@@ -0,0 +1,162 @@
+package com.linkedin.venice.listener.request;
+
+import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.utils.ByteUtils;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpRequest;
+import org.apache.avro.io.OptimizedBinaryDecoderFactory;
+
+
+/**
+ * {@code KeyPrefixScanRouterRequest} encapsulates a POST request to /scan/resourcename/partition from routers, which
+ * fetches one page of the records of the partition whose keys start with a given prefix, and computes the result of
+ * each of them with the compute request embedded in the body.
+ */
+public class KeyPrefixScanRouterRequest extends RouterRequest {
+  private static final RecordDeserializer<KeyPrefixScanRequestV1> DESERIALIZER =
+      FastSerializerDeserializerFactory.getAvroSpecificDeserializer(KeyPrefixScanRequestV1.class);
+
+  private final int partition;
+  private final byte[] keyPrefix;
+  private final byte[] startAfterKey;
+  private final int maxRecordCount;
+  private final ComputeRequestWrapper computeRequestWrapper;
+
+  private KeyPrefixScanRouterRequest(
+      String resourceName,
+      int partition,
+      byte[] keyPrefix,
+      byte[] startAfterKey,
+      int maxRecordCount,
+      ComputeRequestWrapper computeRequestWrapper,
+      HttpRequest request) {
+    super(resourceName, request);
+    this.partition = partition;
+    this.keyPrefix = keyPrefix;
+    this.startAfterKey = startAfterKey;
+    this.maxRecordCount = maxRecordCount;
+    this.computeRequestWrapper = computeRequestWrapper;
+  }
+
+  public static KeyPrefixScanRouterRequest parseKeyPrefixScanRequest(FullHttpRequest httpRequest) {
+    String uri = httpRequest.uri();
+    String[] requestParts = RequestHelper.getRequestParts(uri);
+    if (requestParts.length != 4) {
+      // [0]""/[1]"scan"/[2]{$resourceName}/[3]{$partition}
+      throw new VeniceException("Invalid request: " + uri);
+    }
+    String resourceName = requestParts[2];
+    int partition;
+    try {
+      partition = Integer.parseInt(requestParts[3]);
+    } catch (NumberFormatException e) {
+      throw new VeniceException("Invalid partition in request: " + uri, e);
+    }
+
+    // Validate API version
+    String apiVersionStr = httpRequest.headers().get(HttpConstants.VENICE_API_VERSION);
+    if (apiVersionStr == null) {
+      throw new VeniceException("Header: " + HttpConstants.VENICE_API_VERSION + " is missing");
+    }
+    int expectedApiVersion = ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_REQUEST_V1.getProtocolVersion();
+    if (Integer.parseInt(apiVersionStr) != expectedApiVersion) {
+      throw new VeniceException("Expected API version: " + expectedApiVersion + ", but received: " + apiVersionStr);
+    }
+
+    byte[] requestContent = new byte[httpRequest.content().readableBytes()];
+    httpRequest.content().readBytes(requestContent);
+    KeyPrefixScanRequestV1 scanRequest = DESERIALIZER.deserialize(requestContent);
+    if (scanRequest.maxRecordCount <= 0) {
+      throw new VeniceException("Max record count should be positive, but received: " + scanRequest.maxRecordCount);
+    }
+
+    byte[] startAfterKey = null;
+    if (scanRequest.continuationToken != null) {
+      KeyPrefixScanContinuationToken token = KeyPrefixScanContinuationToken.fromBytes(scanRequest.continuationToken);
+      if (token.getPartition() != partition) {
+        throw new VeniceException(
+            "The continuation token is for partition " + token.getPartition() + ", but the request is for partition "
+                + partition);
+      }
+      startAfterKey = token.getLastKey();
+    }
+
+    int computeRequestVersion = scanRequest.computeRequestVersion;
+    if (computeRequestVersion <= 0 || computeRequestVersion > LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST) {
+      throw new VeniceException(
+          "Compute API version " + computeRequestVersion + " is invalid. Latest version is "
+              + LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    }
+    ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(computeRequestVersion);
+    byte[] computeRequest = ByteUtils.extractByteArray(scanRequest.computeRequest);
+    computeRequestWrapper.deserialize(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(computeRequest, 0, computeRequest.length));
+
+    // An empty key prefix scans the whole partition
+    byte[] keyPrefix = scanRequest.keyPrefix.hasRemaining() ? ByteUtils.extractByteArray(scanRequest.keyPrefix) : null;
+    return new KeyPrefixScanRouterRequest(
+        resourceName,
+        partition,
+        keyPrefix,
+        startAfterKey,
+        scanRequest.maxRecordCount,
+        computeRequestWrapper,
+        httpRequest);
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  /**
+   * @return the prefix of the keys to scan, or null if all the keys of the partition are scanned
+   */
+  public byte[] getKeyPrefix() {
+    return keyPrefix;
+  }
+
+  /**
+   * @return the key after which the scan resumes, or null if the scan starts from the beginning of the partition
+   */
+  public byte[] getStartAfterKey() {
+    return startAfterKey;
+  }
+
+  public int getMaxRecordCount() {
+    return maxRecordCount;
+  }
+
+  public ComputeRequestWrapper getComputeRequest() {
+    return computeRequestWrapper;
+  }
+
+  /**
+   * The number of records of a page is only known once it is read, so the request is accounted for as many keys as
+   * the page can hold.
+   */
+  @Override
+  public int getKeyCount() {
+    return maxRecordCount;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.KEY_PREFIX_SCAN;
+  }
+
+  public String toString() {
+    return "KeyPrefixScanRouterRequest(resourceName: " + getResourceName() + ", partition: " + partition
+        + ", max record count: " + maxRecordCount + ")";
+  }
+}
@@ -0,0 +1,89 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Version;
+import io.netty.handler.codec.http.HttpRequest;
+
+
+/**
+ * {@code PeerSnapshotRequest} encapsulates a GET request from another storage node which bootstraps a new replica of a
+ * partition from a snapshot of the local one. It is either a GET request to /snapshot/resourcename/partition to fetch
+ * the manifest of the snapshot, or a GET request to /snapshot/resourcename/partition/snapshotid/filename/offset to
+ * fetch a chunk of one of the files listed in the manifest.
+ */
+public class PeerSnapshotRequest {
+  private final String storeName;
+  private final String resourceName;
+  private final int partition;
+  private final String snapshotId;
+  private final String fileName;
+  private final long fileOffset;
+
+  private PeerSnapshotRequest(
+      String resourceName,
+      int partition,
+      String snapshotId,
+      String fileName,
+      long fileOffset) {
+    this.storeName = Version.parseStoreFromKafkaTopicName(resourceName);
+    this.resourceName = resourceName;
+    this.partition = partition;
+    this.snapshotId = snapshotId;
+    this.fileName = fileName;
+    this.fileOffset = fileOffset;
+  }
+
+  public static PeerSnapshotRequest parseGetHttpRequest(HttpRequest request) {
+    String uri = request.uri();
+    String[] requestParts = RequestHelper.getRequestParts(uri);
+
+    try {
+      if (requestParts.length == 4) {
+        // [0]""/[1]"action"/[2]"resource"/[3]"partition"
+        return new PeerSnapshotRequest(requestParts[2], Integer.parseInt(requestParts[3]), null, null, -1);
+      } else if (requestParts.length == 7) {
+        // [0]""/[1]"action"/[2]"resource"/[3]"partition"/[4]"snapshot id"/[5]"file name"/[6]"offset"
+        return new PeerSnapshotRequest(
+            requestParts[2],
+            Integer.parseInt(requestParts[3]),
+            requestParts[4],
+            requestParts[5],
+            Long.parseLong(requestParts[6]));
+      }
+    } catch (NumberFormatException e) {
+      throw new VeniceException("Not a valid request for a SNAPSHOT action: " + uri, e);
+    }
+    throw new VeniceException("Not a valid request for a SNAPSHOT action: " + uri);
+  }
+
+  public String getStoreName() {
+    return storeName;
+  }
+
+  public String getResourceName() {
+    return resourceName;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  /**
+   * @return whether this request fetches the manifest of the snapshot rather than a chunk of one of its files
+   */
+  public boolean isManifestRequest() {
+    return fileName == null;
+  }
+
+  public String getSnapshotId() {
+    return snapshotId;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public long getFileOffset() {
+    return fileOffset;
+  }
+}
@@ -0,0 +1,60 @@
+package com.linkedin.venice.listener.response;
+
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseRecordV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+
+/**
+ * One page of a key prefix scan, which holds the computed result of each record along with the token to resume the
+ * scan, if any.
+ */
+public class KeyPrefixScanResponseWrapper extends ReadResponse {
+  private static final RecordSerializer<KeyPrefixScanResponseV1> SERIALIZER =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanResponseV1.getClassSchema());
+
+  private final KeyPrefixScanResponseV1 response = new KeyPrefixScanResponseV1();
+
+  public KeyPrefixScanResponseWrapper(int maxRecordCount) {
+    response.records = new ArrayList<>(maxRecordCount);
+    // The following metrics will get incremented for each record processed in computeResult()
+    setReadComputeDeserializationLatency(0.0);
+    setDatabaseLookupLatency(0.0);
+    setReadComputeSerializationLatency(0.0);
+    setReadComputeLatency(0.0);
+
+    // Compute results are never compressed
+    setCompressionStrategy(CompressionStrategy.NO_OP);
+  }
+
+  public void addRecord(KeyPrefixScanResponseRecordV1 record) {
+    response.records.add(record);
+  }
+
+  public void setContinuationToken(ByteBuffer continuationToken) {
+    response.continuationToken = continuationToken;
+  }
+
+  @Override
+  public int getRecordCount() {
+    return response.records.size();
+  }
+
+  @Override
+  public ByteBuf getResponseBody() {
+    return Unpooled.wrappedBuffer(SERIALIZER.serialize(response));
+  }
+
+  @Override
+  public int getResponseSchemaIdHeader() {
+    return ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_RESPONSE_V1.getProtocolVersion();
+  }
+}
@@ -24,6 +24,7 @@ import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.BackupVersionOptimizationService;
 import com.linkedin.venice.cleaner.LeakedResourceCleaner;
+import com.linkedin.venice.cleaner.PartitionSnapshotCleanupService;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.ClientFactory;
@@ -408,6 +409,11 @@ public class VeniceServer {
         new StoreValueSchemasCacheService(metadataRepo, schemaRepo);
     services.add(storeValueSchemasCacheService);
 
+    services.add(
+        new PartitionSnapshotCleanupService(
+            serverConfig.getPartitionSnapshotDir(),
+            serverConfig.getPartitionSnapshotRetentionMs()));
+
     // create and add ListenerServer for handling GET requests
     ListenerService listenerService = createListenerService(
         storageService.getStorageEngineRepository(),
@@ -440,7 +446,8 @@ public class VeniceServer {
         clusterConfig.getClusterName(),
         veniceConfigLoader.getVeniceServerConfig().getListenerPort(),
         veniceConfigLoader.getVeniceServerConfig().getListenerHostname(),
-        managerFuture);
+        managerFuture,
+        sslFactory);
     services.add(helixParticipationService);
 
     // Add kafka consumer service last so when shutdown the server, it will be stopped first to avoid the case
@@ -1,5 +1,11 @@
 package com.linkedin.venice.stats;
 
+import static com.linkedin.venice.stats.StripedSensor.StatType.AVG;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MAX;
+import static com.linkedin.venice.stats.StripedSensor.StatType.MIN;
+import static com.linkedin.venice.stats.StripedSensor.StatType.OCCURRENCE_RATE;
+import static com.linkedin.venice.stats.StripedSensor.StatType.RATE;
+
 import com.linkedin.venice.read.RequestType;
 import io.tehuti.metrics.MeasurableStat;
 import io.tehuti.metrics.MetricsRepository;
@@ -19,19 +25,21 @@ import java.util.function.Supplier;
  * handling requests from Routers.
  */
 public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
-  private final Sensor successRequestSensor;
-  private final Sensor errorRequestSensor;
-  private final Sensor successRequestLatencySensor;
-  private final Sensor errorRequestLatencySensor;
-  private final Sensor databaseLookupLatencySensor;
-  private final Sensor databaseLookupLatencyForSmallValueSensor;
-  private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private static final double[] NO_PERCENTILES = new double[0];
+
+  private final StripedSensor successRequestSensor;
+  private final StripedSensor errorRequestSensor;
+  private final StripedSensor successRequestLatencySensor;
+  private final StripedSensor errorRequestLatencySensor;
+  private final StripedSensor databaseLookupLatencySensor;
+  private final StripedSensor databaseLookupLatencyForSmallValueSensor;
+  private final StripedSensor databaseLookupLatencyForLargeValueSensor;
   private final Sensor multiChunkLargeValueCountSensor;
-  private final Sensor requestKeyCountSensor;
-  private final Sensor successRequestKeyCountSensor;
-  private final Sensor requestSizeInBytesSensor;
-  private final Sensor storageExecutionHandlerSubmissionWaitTime;
-  private final Sensor storageExecutionQueueLenSensor;
+  private final StripedSensor requestKeyCountSensor;
+  private final StripedSensor successRequestKeyCountSensor;
+  private final StripedSensor requestSizeInBytesSensor;
+  private final StripedSensor storageExecutionHandlerSubmissionWaitTime;
+  private final StripedSensor storageExecutionQueueLenSensor;
 
   private final Sensor requestFirstPartLatencySensor;
   private final Sensor requestSecondPartLatencySensor;
@@ -66,58 +74,73 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     super(metricsRepository, storeName, requestType);
 
     /**
-     * Check java doc of function: {@link TehutiUtils.RatioStat} to understand why choosing {@link Rate} instead of
+     * The sensors recorded by every request are {@link StripedSensor}s to avoid the lock contention among the request
+     * threads, and they are exposing the same metrics as the Tehuti sensors.
+     *
+     * Check java doc of function: {@link TehutiUtils.RatioStat} to understand why choosing the rate instead of
      * {@link io.tehuti.metrics.stats.SampledStat}.
      */
-    Rate successRequest = new OccurrenceRate();
-    Rate errorRequest = new OccurrenceRate();
-    successRequestSensor =
-        registerPerStoreAndTotal("success_request", totalStats, () -> totalStats.successRequestSensor, successRequest);
-    errorRequestSensor =
-        registerPerStoreAndTotal("error_request", totalStats, () -> totalStats.errorRequestSensor, errorRequest);
-    successRequestRatioSensor =
-        registerSensor("success_request_ratio", new TehutiUtils.RatioStat(successRequest, errorRequest));
-
-    errorRequestLatencySensor = registerPerStoreAndTotal(
+    successRequestSensor = registerStripedPerStoreAndTotal(
+        "success_request",
+        totalStats,
+        () -> totalStats.successRequestSensor,
+        NO_PERCENTILES,
+        OCCURRENCE_RATE);
+    errorRequestSensor = registerStripedPerStoreAndTotal(
+        "error_request",
+        totalStats,
+        () -> totalStats.errorRequestSensor,
+        NO_PERCENTILES,
+        OCCURRENCE_RATE);
+    successRequestRatioSensor = registerSensor(
+        "success_request_ratio",
+        new TehutiUtils.RatioStat(
+            successRequestSensor.asMeasurable(OCCURRENCE_RATE),
+            errorRequestSensor.asMeasurable(OCCURRENCE_RATE)));
+
+    errorRequestLatencySensor = registerStripedPerStoreAndTotal(
         "error_request_latency",
         totalStats,
         () -> totalStats.errorRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("error_request_latency")));
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        AVG,
+        MAX);
 
-    successRequestLatencySensor = registerPerStoreAndTotal(
+    successRequestLatencySensor = registerStripedPerStoreAndTotal(
         "success_request_latency",
         totalStats,
         () -> totalStats.successRequestLatencySensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency")));
-    databaseLookupLatencySensor = registerPerStoreAndTotal(
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        AVG,
+        MAX);
+    databaseLookupLatencySensor = registerStripedPerStoreAndTotal(
         "storage_engine_query_latency",
         totalStats,
         () -> totalStats.databaseLookupLatencySensor,
-        TehutiUtils.getPercentileStat(getName(), getFullMetricName("storage_engine_query_latency")),
-        new Avg(),
-        new Max());
-    databaseLookupLatencyForSmallValueSensor = registerPerStoreAndTotal(
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        AVG,
+        MAX);
+    databaseLookupLatencyForSmallValueSensor = registerStripedPerStoreAndTotal(
         "storage_engine_query_latency_for_small_value",
         totalStats,
         () -> totalStats.databaseLookupLatencyForSmallValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_small_value")));
-    databaseLookupLatencyForLargeValueSensor = registerPerStoreAndTotal(
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        AVG,
+        MAX);
+    databaseLookupLatencyForLargeValueSensor = registerStripedPerStoreAndTotal(
         "storage_engine_query_latency_for_large_value",
         totalStats,
         () -> totalStats.databaseLookupLatencyForLargeValueSensor,
-        TehutiUtils.getPercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_large_value")));
+        TehutiUtils.DEFAULT_HISTOGRAM_PERCENTILES,
+        AVG,
+        MAX);
 
-    storageExecutionHandlerSubmissionWaitTime = registerSensor(
+    storageExecutionHandlerSubmissionWaitTime = registerStripedSensorWithPercentiles(
         "storage_execution_handler_submission_wait_time",
-        TehutiUtils.getPercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_execution_handler_submission_wait_time")));
+        AVG,
+        MAX);
 
-    storageExecutionQueueLenSensor = registerSensor("storage_execution_queue_len", new Max(), new Avg());
+    storageExecutionQueueLenSensor = registerStripedSensor("storage_execution_queue_len", MAX, AVG);
 
     List<MeasurableStat> largeValueLookupStats = new ArrayList();
 
@@ -159,34 +182,37 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.multiChunkLargeValueCountSensor,
         largeValueLookupStats.toArray(new MeasurableStat[0]));
 
-    Rate requestKeyCount = new OccurrenceRate();
-    Rate successRequestKeyCount = new OccurrenceRate();
-    requestKeyCountSensor = registerPerStoreAndTotal(
+    requestKeyCountSensor = registerStripedPerStoreAndTotal(
         "request_key_count",
         totalStats,
         () -> totalStats.requestKeyCountSensor,
-        new Rate(),
-        requestKeyCount,
-        new Avg(),
-        new Max());
-    successRequestKeyCountSensor = registerPerStoreAndTotal(
+        NO_PERCENTILES,
+        RATE,
+        OCCURRENCE_RATE,
+        AVG,
+        MAX);
+    successRequestKeyCountSensor = registerStripedPerStoreAndTotal(
         "success_request_key_count",
         totalStats,
         () -> totalStats.successRequestKeyCountSensor,
-        new Rate(),
-        successRequestKeyCount,
-        new Avg(),
-        new Max());
-    requestSizeInBytesSensor = registerPerStoreAndTotal(
+        NO_PERCENTILES,
+        RATE,
+        OCCURRENCE_RATE,
+        AVG,
+        MAX);
+    requestSizeInBytesSensor = registerStripedPerStoreAndTotal(
         "request_size_in_bytes",
         totalStats,
         () -> totalStats.requestSizeInBytesSensor,
-        new Avg(),
-        new Min(),
-        new Max());
+        NO_PERCENTILES,
+        AVG,
+        MIN,
+        MAX);
     successRequestKeyRatioSensor = registerSensor(
         "success_request_key_ratio",
-        new TehutiUtils.SimpleRatioStat(successRequestKeyCount, requestKeyCount));
+        new TehutiUtils.SimpleRatioStat(
+            successRequestKeyCountSensor.asMeasurable(OCCURRENCE_RATE),
+            requestKeyCountSensor.asMeasurable(OCCURRENCE_RATE)));
 
     requestFirstPartLatencySensor = registerPerStoreAndTotal(
         "request_first_part_latency",
@@ -307,6 +333,16 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     return registerSensor(sensorName, parent, stats);
   }
 
+  private StripedSensor registerStripedPerStoreAndTotal(
+      String sensorName,
+      ServerHttpRequestStats totalStats,
+      Supplier<StripedSensor> totalSensor,
+      double[] percentiles,
+      StripedSensor.StatType... statTypes) {
+    StripedSensor[] parent = totalStats == null ? null : new StripedSensor[] { totalSensor.get() };
+    return registerStripedSensor(sensorName, parent, percentiles, statTypes);
+  }
+
   public void recordSuccessRequest() {
     successRequestSensor.record();
   }
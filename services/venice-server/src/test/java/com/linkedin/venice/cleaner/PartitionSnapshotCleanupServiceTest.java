@@ -0,0 +1,52 @@
+package com.linkedin.venice.cleaner;
+
+import com.linkedin.venice.utils.Utils;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class PartitionSnapshotCleanupServiceTest {
+  private static File createSnapshot(File baseDir, String topic, int partition, long ageMs) throws Exception {
+    File snapshotDir = new File(new File(baseDir, topic), Integer.toString(partition));
+    Assert.assertTrue(snapshotDir.mkdirs());
+    Assert.assertTrue(new File(snapshotDir, "000001.sst").createNewFile());
+    Assert.assertTrue(snapshotDir.setLastModified(System.currentTimeMillis() - ageMs));
+    return snapshotDir;
+  }
+
+  @Test
+  public void testExpiredSnapshotsAreDeleted() throws Exception {
+    File baseDir = Utils.getTempDataDirectory();
+    long retentionMs = TimeUnit.HOURS.toMillis(1);
+    try {
+      File expired = createSnapshot(baseDir, "test_store_v1", 0, 2 * retentionMs);
+      File fresh = createSnapshot(baseDir, "test_store_v1", 1, 0);
+      File expiredOfOtherTopic = createSnapshot(baseDir, "test_store_v2", 0, 2 * retentionMs);
+      // Not a version topic, e.g. the snapshots served to the peers, which are left alone.
+      File other = createSnapshot(baseDir, "peer", 0, 2 * retentionMs);
+
+      PartitionSnapshotCleanupService cleanupService =
+          new PartitionSnapshotCleanupService(baseDir.getAbsolutePath(), retentionMs);
+      cleanupService.deleteExpiredSnapshots();
+
+      Assert.assertFalse(expired.exists());
+      Assert.assertTrue(fresh.exists());
+      Assert.assertFalse(expiredOfOtherTopic.exists());
+      // The topic dir is deleted along with its last snapshot.
+      Assert.assertFalse(new File(baseDir, "test_store_v2").exists());
+      Assert.assertTrue(other.exists());
+    } finally {
+      FileUtils.deleteQuietly(baseDir);
+    }
+  }
+
+  @Test
+  public void testMissingSnapshotDirIsIgnored() {
+    File baseDir = new File(Utils.getTempDataDirectory(), "missing");
+    new PartitionSnapshotCleanupService(baseDir.getAbsolutePath(), 1).deleteExpiredSnapshots();
+    Assert.assertFalse(baseDir.exists());
+  }
+}
@@ -4,12 +4,14 @@ import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
@@ -22,13 +24,18 @@ import com.linkedin.davinci.store.AbstractStorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.listener.request.AdminRequest;
 import com.linkedin.venice.listener.request.GetRouterRequest;
 import com.linkedin.venice.listener.request.HealthCheckRequest;
+import com.linkedin.venice.listener.request.KeyPrefixScanRouterRequest;
 import com.linkedin.venice.listener.request.MetadataFetchRequest;
 import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.KeyPrefixScanResponseWrapper;
 import com.linkedin.venice.listener.response.MultiGetResponseWrapper;
 import com.linkedin.venice.listener.response.StorageResponseObject;
 import com.linkedin.venice.meta.PartitionerConfig;
@@ -41,8 +48,14 @@ import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.metadata.response.VersionProperties;
 import com.linkedin.venice.offsets.OffsetRecord;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
 import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseRecordV1;
+import com.linkedin.venice.read.protocol.response.KeyPrefixScanResponseV1;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serialization.VeniceKafkaSerializer;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
@@ -50,9 +63,12 @@ import com.linkedin.venice.serialization.avro.VeniceAvroKafkaSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.unit.kafka.SimplePartitioner;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.utils.DataProviderUtils;
 import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
 import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
@@ -62,9 +78,11 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -74,6 +92,10 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.Configuration;
@@ -82,6 +104,12 @@ import org.testng.annotations.Test;
 
 
 public class StorageReadRequestsHandlerTest {
+  private static final Schema KEY_PREFIX_SCAN_VALUE_SCHEMA = new Schema.Parser().parse(
+      "{\"type\":\"record\",\"name\":\"Value\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"},"
+          + "{\"name\":\"age\",\"type\":\"int\"}]}");
+  private static final Schema KEY_PREFIX_SCAN_RESULT_SCHEMA = new Schema.Parser()
+      .parse("{\"type\":\"record\",\"name\":\"Result\",\"fields\":[{\"name\":\"name\",\"type\":\"string\"}]}");
+
   @Test
   public static void storageExecutionHandlerPassesRequestsAndGeneratesResponses() throws Exception {
     String topic = "temp-test-topic_v1";
@@ -645,4 +673,245 @@ public class StorageReadRequestsHandlerTest {
       TestUtils.shutdownExecutor(threadPoolExecutor);
     }
   }
+
+  private static Object sendRequest(StorageReadRequestsHandler handler, Object request) throws Exception {
+    List<Object> outputArray = new ArrayList<>();
+    ChannelHandlerContext mockCtx = mock(ChannelHandlerContext.class);
+    doReturn(new UnpooledByteBufAllocator(true)).when(mockCtx).alloc();
+    when(mockCtx.writeAndFlush(any())).then(i -> {
+      outputArray.add(i.getArguments()[0]);
+      return null;
+    });
+    handler.channelRead(mockCtx, request);
+    waitUntilStorageExecutionHandlerRespond(outputArray);
+    Assert.assertEquals(outputArray.size(), 1);
+    return outputArray.get(0);
+  }
+
+  private static AdminResponse sendAdminRequest(StorageReadRequestsHandler handler, String uri) throws Exception {
+    HttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    Object response = sendRequest(handler, AdminRequest.parseAdminHttpRequest(httpRequest));
+    Assert.assertTrue(response instanceof AdminResponse);
+    return (AdminResponse) response;
+  }
+
+  @Test
+  public static void testPartitionSnapshotIsReplacedAndDeleted() throws Exception {
+    String topic = "test_store_v1";
+    int partition = 3;
+    File snapshotBaseDir = Utils.getTempDataDirectory();
+    String snapshotDir = RocksDBUtils.composeSnapshotPartitionDir(snapshotBaseDir.getAbsolutePath(), topic, partition);
+    String adminPath = "/" + QueryAction.ADMIN.toString().toLowerCase() + "/" + topic + "/";
+
+    // Each snapshot writes a new file, so a replaced snapshot only contains the latest one.
+    AtomicInteger snapshotCount = new AtomicInteger();
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doAnswer(invocation -> {
+      File dir = new File((String) invocation.getArgument(1));
+      Assert.assertTrue(dir.mkdirs());
+      Assert.assertTrue(new File(dir, "snapshot_" + snapshotCount.incrementAndGet()).createNewFile());
+      return null;
+    }).when(storageEngine).createSnapshot(anyInt(), anyString());
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(topic);
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+    try {
+      VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+      doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+      doReturn(snapshotBaseDir.getAbsolutePath()).when(serverConfig).getPartitionSnapshotDir();
+      doReturn(1).when(serverConfig).getPartitionSnapshotMaxConcurrentCreations();
+
+      StorageReadRequestsHandler testHandler = new StorageReadRequestsHandler(
+          threadPoolExecutor,
+          threadPoolExecutor,
+          storageEngineRepository,
+          mock(ReadOnlyStoreRepository.class),
+          mock(ReadOnlySchemaRepository.class),
+          mock(MetadataRetriever.class),
+          null,
+          false,
+          false,
+          10,
+          serverConfig,
+          mock(StorageEngineBackedCompressorFactory.class),
+          Optional.empty());
+
+      String createUri = adminPath + ServerAdminAction.CREATE_PARTITION_SNAPSHOT + "/" + partition;
+      AdminResponse response = sendAdminRequest(testHandler, createUri);
+      Assert.assertFalse(response.isError(), response.getMessage());
+      Assert.assertTrue(new File(snapshotDir, "snapshot_1").exists());
+
+      // A repeated request replaces the snapshot instead of failing.
+      response = sendAdminRequest(testHandler, createUri);
+      Assert.assertFalse(response.isError(), response.getMessage());
+      Assert.assertFalse(new File(snapshotDir, "snapshot_1").exists());
+      Assert.assertTrue(new File(snapshotDir, "snapshot_2").exists());
+
+      String deleteUri = adminPath + ServerAdminAction.DELETE_PARTITION_SNAPSHOT;
+      response = sendAdminRequest(testHandler, deleteUri + "/" + partition);
+      Assert.assertFalse(response.isError(), response.getMessage());
+      Assert.assertFalse(new File(snapshotDir).exists());
+
+      // Deleting the snapshots of the whole topic removes the topic dir.
+      sendAdminRequest(testHandler, createUri);
+      response = sendAdminRequest(testHandler, deleteUri);
+      Assert.assertFalse(response.isError(), response.getMessage());
+      Assert.assertFalse(new File(snapshotBaseDir, topic).exists());
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+      FileUtils.deleteQuietly(snapshotBaseDir);
+    }
+  }
+
+  private static KeyPrefixScanResponseV1 sendKeyPrefixScanRequest(
+      StorageReadRequestsHandler handler,
+      String topic,
+      int partition,
+      ByteBuffer continuationToken) throws Exception {
+    ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(3);
+    computeRequestWrapper.setResultSchemaStr(KEY_PREFIX_SCAN_RESULT_SCHEMA.toString());
+    computeRequestWrapper.setOperations(new ArrayList<>());
+    KeyPrefixScanRequestV1 scanRequest = new KeyPrefixScanRequestV1();
+    scanRequest.keyPrefix = ByteBuffer.wrap("key_".getBytes());
+    scanRequest.continuationToken = continuationToken;
+    scanRequest.maxRecordCount = 100;
+    scanRequest.computeRequestVersion = computeRequestWrapper.getComputeRequestVersion();
+    scanRequest.computeRequest = ByteBuffer.wrap(computeRequestWrapper.serialize());
+
+    String uri = "/" + QueryAction.SCAN.toString().toLowerCase() + "/" + topic + "/" + partition;
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        uri,
+        Unpooled.wrappedBuffer(
+            SerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanRequestV1.SCHEMA$)
+                .serialize(scanRequest)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.KEY_PREFIX_SCAN_REQUEST_V1.getProtocolVersion());
+    Object response = sendRequest(handler, KeyPrefixScanRouterRequest.parseKeyPrefixScanRequest(httpRequest));
+    Assert.assertTrue(response instanceof KeyPrefixScanResponseWrapper, response.toString());
+    return SerializerDeserializerFactory.getAvroSpecificDeserializer(KeyPrefixScanResponseV1.class)
+        .deserialize(((KeyPrefixScanResponseWrapper) response).getResponseBody().array());
+  }
+
+  @Test
+  public static void testKeyPrefixScanRequest() throws Exception {
+    String storeName = "test_store";
+    String topic = Version.composeKafkaTopic(storeName, 1);
+    int partitionCount = 3;
+    int recordCount = 3;
+    byte[][] keys = new byte[recordCount][];
+    byte[][] values = new byte[recordCount][];
+    RecordSerializer<GenericRecord> valueSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(KEY_PREFIX_SCAN_VALUE_SCHEMA);
+    for (int i = 0; i < recordCount; i++) {
+      GenericRecord value = new GenericData.Record(KEY_PREFIX_SCAN_VALUE_SCHEMA);
+      value.put("name", "name_" + i);
+      value.put("age", i);
+      keys[i] = ("key_" + i).getBytes();
+      values[i] = ValueRecord.create(1, valueSerializer.serialize(value)).serialize();
+    }
+
+    // Partition 0 holds all the records, the other partitions are empty.
+    AbstractStorageEngine storageEngine = mock(AbstractStorageEngine.class);
+    doReturn(CompressionStrategy.NO_OP).when(storageEngine).getCompressionStrategy();
+    doAnswer(invocation -> {
+      int partition = invocation.getArgument(0);
+      byte[] startAfterKey = invocation.getArgument(2);
+      int maxRecordCount = invocation.getArgument(3);
+      BytesStreamingCallback callback = invocation.getArgument(4);
+      int first = startAfterKey == null ? 0 : Integer.parseInt(new String(startAfterKey).substring(4)) + 1;
+      int end = partition == 0 ? Math.min(first + maxRecordCount, recordCount) : first;
+      for (int i = first; i < end; i++) {
+        callback.onRecordReceived(keys[i], values[i]);
+      }
+      callback.onCompletion();
+      return partition == 0 && end < recordCount ? keys[end - 1] : null;
+    }).when(storageEngine).getByKeyPrefix(anyInt(), any(), any(), anyInt(), any());
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(topic);
+
+    ReadOnlyStoreRepository metadataRepo = mock(ReadOnlyStoreRepository.class);
+    Store store = mock(Store.class);
+    Version version = mock(Version.class);
+    doReturn(partitionCount).when(version).getPartitionCount();
+    doReturn(Optional.of(version)).when(store).getVersion(1);
+    doReturn(store).when(metadataRepo).getStoreOrThrow(storeName);
+    ReadOnlySchemaRepository schemaRepo = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(1, KEY_PREFIX_SCAN_VALUE_SCHEMA);
+    doReturn(valueSchemaEntry).when(schemaRepo).getSupersetOrLatestValueSchema(storeName);
+    doReturn(valueSchemaEntry).when(schemaRepo).getValueSchema(storeName, 1);
+    StorageEngineBackedCompressorFactory compressorFactory = mock(StorageEngineBackedCompressorFactory.class);
+    doReturn(new NoopCompressor()).when(compressorFactory).getCompressor(CompressionStrategy.NO_OP, topic);
+
+    ThreadPoolExecutor threadPoolExecutor =
+        new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(2));
+    try {
+      VeniceServerConfig serverConfig = mock(VeniceServerConfig.class);
+      doReturn(mock(RocksDBServerConfig.class)).when(serverConfig).getRocksDBServerConfig();
+      // The pages are smaller than requested.
+      doReturn(2).when(serverConfig).getKeyPrefixScanMaxRecordCount();
+
+      StorageReadRequestsHandler testHandler = new StorageReadRequestsHandler(
+          threadPoolExecutor,
+          threadPoolExecutor,
+          storageEngineRepository,
+          metadataRepo,
+          schemaRepo,
+          mock(MetadataRetriever.class),
+          null,
+          false,
+          false,
+          10,
+          serverConfig,
+          compressorFactory,
+          Optional.empty());
+
+      RecordDeserializer<GenericRecord> resultDeserializer =
+          SerializerDeserializerFactory.getAvroGenericDeserializer(KEY_PREFIX_SCAN_RESULT_SCHEMA);
+      List<String> scannedNames = new ArrayList<>();
+      List<KeyPrefixScanContinuationToken> tokens = new ArrayList<>();
+      KeyPrefixScanResponseV1 page = sendKeyPrefixScanRequest(testHandler, topic, 0, null);
+      while (true) {
+        for (KeyPrefixScanResponseRecordV1 record: page.records) {
+          GenericRecord result = resultDeserializer.deserialize(record.value);
+          Assert.assertEquals(new String(ByteUtils.extractByteArray(record.key)), "key_" + scannedNames.size());
+          Assert.assertNull(result.getSchema().getField("age"));
+          scannedNames.add(result.get("name").toString());
+        }
+        if (page.continuationToken == null) {
+          break;
+        }
+        KeyPrefixScanContinuationToken token = KeyPrefixScanContinuationToken.fromBytes(page.continuationToken);
+        tokens.add(token);
+        page = sendKeyPrefixScanRequest(testHandler, topic, token.getPartition(), page.continuationToken);
+      }
+      Assert.assertEquals(scannedNames, Arrays.asList("name_0", "name_1", "name_2"));
+      // The scan resumes within partition 0 after the first page, then moves on to the next partitions.
+      Assert.assertEquals(tokens.size(), 3, tokens.toString());
+      Assert.assertEquals(tokens.get(0).getPartition(), 0);
+      Assert.assertEquals(tokens.get(0).getLastKey(), keys[1]);
+      Assert.assertEquals(tokens.get(1).getPartition(), 1);
+      Assert.assertNull(tokens.get(1).getLastKey());
+      Assert.assertEquals(tokens.get(2).getPartition(), 2);
+      Assert.assertNull(tokens.get(2).getLastKey());
+      tokens.forEach(token -> Assert.assertEquals(token.getVersionNumber(), 1));
+
+      // A page without records is rejected instead of moving on to the next partition.
+      KeyPrefixScanRouterRequest emptyPageRequest = mock(KeyPrefixScanRouterRequest.class);
+      doReturn(RequestType.KEY_PREFIX_SCAN).when(emptyPageRequest).getRequestType();
+      doReturn(topic).when(emptyPageRequest).getResourceName();
+      doReturn(storeName).when(emptyPageRequest).getStoreName();
+      doReturn(0).when(emptyPageRequest).getMaxRecordCount();
+      Object response = sendRequest(testHandler, emptyPageRequest);
+      Assert.assertTrue(response instanceof HttpShortcutResponse);
+      Assert.assertEquals(((HttpShortcutResponse) response).getStatus(), HttpResponseStatus.BAD_REQUEST);
+    } finally {
+      TestUtils.shutdownExecutor(threadPoolExecutor);
+    }
+  }
 }
@@ -0,0 +1,125 @@
+package com.linkedin.venice.listener.request;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.read.KeyPrefixScanContinuationToken;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.read.protocol.request.KeyPrefixScanRequestV1;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class KeyPrefixScanRouterRequestTest {
+  private static final RecordSerializer<KeyPrefixScanRequestV1> SERIALIZER =
+      FastSerializerDeserializerFactory.getAvroGenericSerializer(KeyPrefixScanRequestV1.getClassSchema());
+  private static final String RESOURCE_NAME = "test_store_v1";
+  private static final int PARTITION = 2;
+  private static final String RESULT_SCHEMA_STR =
+      "{\"type\":\"record\",\"name\":\"Result\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}";
+
+  private static KeyPrefixScanRequestV1 getScanRequest(byte[] keyPrefix, ByteBuffer continuationToken) {
+    ComputeRequestWrapper computeRequestWrapper = new ComputeRequestWrapper(3);
+    computeRequestWrapper.setResultSchemaStr(RESULT_SCHEMA_STR);
+    computeRequestWrapper.setOperations(new ArrayList<>());
+
+    KeyPrefixScanRequestV1 scanRequest = new KeyPrefixScanRequestV1();
+    scanRequest.keyPrefix = ByteBuffer.wrap(keyPrefix);
+    scanRequest.continuationToken = continuationToken;
+    scanRequest.maxRecordCount = 100;
+    scanRequest.computeRequestVersion = computeRequestWrapper.getComputeRequestVersion();
+    scanRequest.computeRequest = ByteBuffer.wrap(computeRequestWrapper.serialize());
+    return scanRequest;
+  }
+
+  private static FullHttpRequest getHttpRequest(String uri, KeyPrefixScanRequestV1 scanRequest, String apiVersion) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        uri,
+        Unpooled.wrappedBuffer(SERIALIZER.serialize(scanRequest)));
+    if (apiVersion != null) {
+      httpRequest.headers().add(HttpConstants.VENICE_API_VERSION, apiVersion);
+    }
+    return httpRequest;
+  }
+
+  private static KeyPrefixScanRouterRequest parse(KeyPrefixScanRequestV1 scanRequest) {
+    return KeyPrefixScanRouterRequest
+        .parseKeyPrefixScanRequest(getHttpRequest("/scan/" + RESOURCE_NAME + "/" + PARTITION, scanRequest, "1"));
+  }
+
+  @Test
+  public void testParseFirstPage() {
+    KeyPrefixScanRouterRequest request = parse(getScanRequest("key_".getBytes(), null));
+    Assert.assertEquals(request.getResourceName(), RESOURCE_NAME);
+    Assert.assertEquals(request.getStoreName(), "test_store");
+    Assert.assertEquals(request.getPartition(), PARTITION);
+    Assert.assertEquals(request.getKeyPrefix(), "key_".getBytes());
+    Assert.assertNull(request.getStartAfterKey());
+    Assert.assertEquals(request.getMaxRecordCount(), 100);
+    // The request is accounted for as many keys as its page can hold.
+    Assert.assertEquals(request.getKeyCount(), 100);
+    Assert.assertEquals(request.getRequestType(), RequestType.KEY_PREFIX_SCAN);
+    Assert.assertEquals(request.getComputeRequest().getComputeRequestVersion(), 3);
+    Assert.assertEquals(request.getComputeRequest().getResultSchemaStr().toString(), RESULT_SCHEMA_STR);
+
+    // An empty key prefix scans the whole partition.
+    Assert.assertNull(parse(getScanRequest(new byte[0], null)).getKeyPrefix());
+  }
+
+  @Test
+  public void testParseNextPage() {
+    ByteBuffer token = new KeyPrefixScanContinuationToken(1, PARTITION, "key_42".getBytes()).toBytes();
+    KeyPrefixScanRouterRequest request = parse(getScanRequest("key_".getBytes(), token));
+    Assert.assertEquals(request.getStartAfterKey(), "key_42".getBytes());
+
+    // The first page of the next partition has no key to resume after.
+    token = new KeyPrefixScanContinuationToken(1, PARTITION, null).toBytes();
+    Assert.assertNull(parse(getScanRequest("key_".getBytes(), token)).getStartAfterKey());
+  }
+
+  @Test
+  public void testInvalidRequests() {
+    String uri = "/scan/" + RESOURCE_NAME + "/" + PARTITION;
+    KeyPrefixScanRequestV1 validRequest = getScanRequest("key_".getBytes(), null);
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> KeyPrefixScanRouterRequest
+            .parseKeyPrefixScanRequest(getHttpRequest("/scan/" + RESOURCE_NAME, validRequest, "1")));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> KeyPrefixScanRouterRequest
+            .parseKeyPrefixScanRequest(getHttpRequest("/scan/" + RESOURCE_NAME + "/abc", validRequest, "1")));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> KeyPrefixScanRouterRequest.parseKeyPrefixScanRequest(getHttpRequest(uri, validRequest, null)));
+    Assert.assertThrows(
+        VeniceException.class,
+        () -> KeyPrefixScanRouterRequest.parseKeyPrefixScanRequest(getHttpRequest(uri, validRequest, "2")));
+
+    // A page without records would end the scan of the partition right away.
+    for (int maxRecordCount: new int[] { 0, -1 }) {
+      KeyPrefixScanRequestV1 scanRequest = getScanRequest("key_".getBytes(), null);
+      scanRequest.maxRecordCount = maxRecordCount;
+      VeniceException e = Assert.expectThrows(VeniceException.class, () -> parse(scanRequest));
+      Assert.assertTrue(e.getMessage().contains("Max record count should be positive"), e.getMessage());
+    }
+
+    ByteBuffer tokenOfOtherPartition = new KeyPrefixScanContinuationToken(1, PARTITION + 1, null).toBytes();
+    Assert.assertThrows(VeniceException.class, () -> parse(getScanRequest("key_".getBytes(), tokenOfOtherPartition)));
+
+    KeyPrefixScanRequestV1 unknownComputeVersion = getScanRequest("key_".getBytes(), null);
+    unknownComputeVersion.computeRequestVersion = ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST + 1;
+    Assert.assertThrows(VeniceException.class, () -> parse(unknownComputeVersion));
+  }
+}